@@ -0,0 +1,57 @@
+/**
+ * Mars Simulation Project
+ * BenchmarkRunner.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.bench;
+
+import org.mars_sim.msp.core.Simulation;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks. Takes the usual JMH options, e.g. a regular expression
+ * to select the benchmarks. Unless told otherwise with -rf and -rff, the results
+ * are written as JSON to a file named after the version and build of the
+ * simulation, so that the runs of two releases can be compared.
+ * <br>
+ * Build with : mvn -P bench package
+ * <br>
+ * Run with : java -jar mars-sim-bench/target/benchmarks.jar [options]
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Runs the benchmarks.
+	 * 
+	 * @param args the JMH options.
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(cmdOptions);
+
+		if (!cmdOptions.getResultFormat().hasValue())
+			options.resultFormat(ResultFormatType.JSON);
+		if (!cmdOptions.getResult().hasValue()) {
+			ResultFormatType format = cmdOptions.getResultFormat().orElse(ResultFormatType.JSON);
+			options.result(getResultFileName(format));
+		}
+
+		new Runner(options.build()).run();
+	}
+
+	/**
+	 * Gets the name of the result file for this version and build.
+	 * 
+	 * @param format the format of the results.
+	 * @return the file name.
+	 */
+	private static String getResultFileName(ResultFormatType format) {
+		String name = "mars-sim-bench-" + Simulation.VERSION + "-" + Simulation.BUILD;
+		return name.replaceAll("[^A-Za-z0-9._-]", "_") + "." + format.toString().toLowerCase();
+	}
+}
@@ -0,0 +1,73 @@
+/**
+ * Mars Simulation Project
+ * BuildingPathBenchmark.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.Building;
+import org.mars_sim.msp.core.structure.building.connection.BuildingConnectorManager;
+import org.mars_sim.msp.core.structure.building.connection.InsideBuildingPath;
+import org.mars_sim.msp.core.structure.building.function.FunctionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the shortest path between two buildings of the largest settlement,
+ * going through all the pairs of connected buildings in turn.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildingPathBenchmark extends SimulationBenchmark {
+
+	private BuildingConnectorManager connectorManager;
+	private List<Building[]> pairs;
+	private int next;
+
+	@Override
+	protected void setUp() {
+		Settlement settlement = null;
+		for (Settlement s : getSettlements()) {
+			if (settlement == null
+					|| s.getBuildingManager().getNumBuilding() > settlement.getBuildingManager().getNumBuilding())
+				settlement = s;
+		}
+
+		connectorManager = settlement.getBuildingConnectorManager();
+		List<Building> buildings = settlement.getBuildingManager().getBuildings(FunctionType.LIFE_SUPPORT);
+		pairs = new ArrayList<>();
+		for (Building b1 : buildings) {
+			for (Building b2 : buildings) {
+				if (b1 != b2 && connectorManager.hasValidPath(b1, b2))
+					pairs.add(new Building[] { b1, b2 });
+			}
+		}
+		if (pairs.isEmpty())
+			throw new IllegalStateException(settlement + " has no connected buildings");
+	}
+
+	@Benchmark
+	public InsideBuildingPath determineShortestPath() {
+		Building[] pair = pairs.get(next);
+		next = (next + 1) % pairs.size();
+		return connectorManager.determineShortestPath(pair[0], pair[0].getXLocation(), pair[0].getYLocation(),
+				pair[1], pair[1].getXLocation(), pair[1].getYLocation());
+	}
+}
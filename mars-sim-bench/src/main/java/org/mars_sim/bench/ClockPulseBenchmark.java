@@ -0,0 +1,57 @@
+/**
+ * Mars Simulation Project
+ * ClockPulseBenchmark.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.UnitTickEngine;
+import org.mars_sim.msp.core.time.MasterClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full time pulse of the simulation : the clocks, Mars, the missions
+ * and all the units. The settlements are updated in parallel or one after the
+ * other. Since the simulation moves on with each pulse, a run only compares with
+ * another run of the same length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class ClockPulseBenchmark extends SimulationBenchmark {
+
+	/** Updates the settlements in parallel. */
+	@Param({ "true", "false" })
+	public boolean parallel;
+
+	@Override
+	protected void configure() {
+		UnitTickEngine.setParallel(parallel);
+	}
+
+	@Override
+	protected void setUp() {
+		// Nothing more
+	}
+
+	@Benchmark
+	public MasterClock clockPulse() {
+		masterClock.advanceFixedStep();
+		return masterClock;
+	}
+}
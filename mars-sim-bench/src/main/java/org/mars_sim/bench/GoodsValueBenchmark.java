@@ -0,0 +1,62 @@
+/**
+ * Mars Simulation Project
+ * GoodsValueBenchmark.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.resource.ResourceUtil;
+import org.mars_sim.msp.core.structure.goods.Good;
+import org.mars_sim.msp.core.structure.goods.GoodsManager;
+import org.mars_sim.msp.core.structure.goods.GoodsUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the update of the goods values of a settlement : the incremental
+ * update after the stored oxygen and water have changed, and the full update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GoodsValueBenchmark extends SimulationBenchmark {
+
+	private GoodsManager goodsManager;
+	private Good oxygen;
+	private Good water;
+
+	@Override
+	protected void setUp() {
+		goodsManager = getSettlements().get(0).getGoodsManager();
+		oxygen = GoodsUtil.getResourceGood(ResourceUtil.oxygenID);
+		water = GoodsUtil.getResourceGood(ResourceUtil.waterID);
+		goodsManager.updateAllGoodsValues();
+	}
+
+	@Benchmark
+	public GoodsManager updateGoodsValues() {
+		goodsManager.markDirty(oxygen);
+		goodsManager.markDirty(water);
+		goodsManager.updateGoodsValues();
+		return goodsManager;
+	}
+
+	@Benchmark
+	public GoodsManager updateAllGoodsValues() {
+		goodsManager.updateAllGoodsValues();
+		return goodsManager;
+	}
+}
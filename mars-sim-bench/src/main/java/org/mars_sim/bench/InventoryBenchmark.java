@@ -0,0 +1,67 @@
+/**
+ * Mars Simulation Project
+ * InventoryBenchmark.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.Inventory;
+import org.mars_sim.msp.core.resource.ItemResourceUtil;
+import org.mars_sim.msp.core.resource.ResourceUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures storing and retrieving resources in the inventory of a settlement.
+ * Each invocation puts back what it takes, so the inventory stays the same.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark extends SimulationBenchmark {
+
+	private static final double AMOUNT = 0.1D;
+
+	private Inventory inv;
+	private int itemID;
+
+	@Override
+	protected void setUp() {
+		inv = getSettlements().get(0).getInventory();
+		itemID = ItemResourceUtil.workGlovesAR.getID();
+		// Make sure there is something to retrieve
+		inv.storeAmountResource(ResourceUtil.oxygenID, 100D, true);
+		inv.storeAmountResource(ResourceUtil.waterID, 100D, true);
+		inv.storeItemResources(itemID, 10);
+	}
+
+	@Benchmark
+	public void amountResource(Blackhole bh) {
+		inv.retrieveAmountResource(ResourceUtil.oxygenID, AMOUNT);
+		inv.storeAmountResource(ResourceUtil.oxygenID, AMOUNT, true);
+		inv.retrieveAmountResource(ResourceUtil.waterID, AMOUNT);
+		inv.storeAmountResource(ResourceUtil.waterID, AMOUNT, true);
+		bh.consume(inv.getAmountResourceStored(ResourceUtil.oxygenID, false));
+	}
+
+	@Benchmark
+	public void itemResource(Blackhole bh) {
+		inv.retrieveItemResources(itemID, 1);
+		inv.storeItemResources(itemID, 1);
+		bh.consume(inv.getItemResourceNum(itemID));
+	}
+}
@@ -0,0 +1,67 @@
+/**
+ * Mars Simulation Project
+ * SaveLoadBenchmark.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.bench;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures saving the simulation to a file, until the file is completely
+ * written, and reading it back. Loading replaces the managers of the simulation,
+ * so each benchmark runs in its own fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SaveLoadBenchmark extends SimulationBenchmark {
+
+	private File saveFile;
+	private File loadFile;
+
+	@Override
+	protected void setUp() throws Exception {
+		saveFile = File.createTempFile("bench-save", ".sim");
+		loadFile = File.createTempFile("bench-load", ".sim");
+		sim.serialize(Simulation.SAVE_AS, loadFile, null, null);
+		sim.awaitSave();
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteFiles() {
+		saveFile.delete();
+		loadFile.delete();
+	}
+
+	@Benchmark
+	public File save() throws Exception {
+		sim.serialize(Simulation.SAVE_AS, saveFile, null, null);
+		sim.awaitSave();
+		return saveFile;
+	}
+
+	@Benchmark
+	public Simulation load() throws Exception {
+		sim.deserialize(loadFile);
+		return sim;
+	}
+}
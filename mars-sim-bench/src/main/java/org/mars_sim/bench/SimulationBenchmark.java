@@ -0,0 +1,106 @@
+/**
+ * Mars Simulation Project
+ * SimulationBenchmark.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.bench;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.UnitTickEngine;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.time.MasterClock;
+import org.mars_sim.msp.core.tool.RandomUtil;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The base of the benchmarks. Boots a new simulation from the default
+ * SimulationConfig scenario with a fixed master seed and a fixed pulse size, so
+ * that two runs of a benchmark measure the same simulation, then runs it for a
+ * while so that the people have tasks and the settlements have goods values.
+ */
+public abstract class SimulationBenchmark {
+
+	/** The master seed of the random streams. */
+	@Param({ "1" })
+	public long seed;
+
+	/** The number of pulses run before measuring. */
+	@Param({ "200" })
+	public int warmupPulses;
+
+	protected Simulation sim;
+	protected MasterClock masterClock;
+
+	@Setup(Level.Trial)
+	public void startSimulation() throws Exception {
+		RandomUtil.setMasterSeed(seed);
+		SimulationConfig.loadConfig();
+		configure();
+
+		Simulation.createNewSimulation(-1, false);
+		sim = Simulation.instance();
+		masterClock = sim.getMasterClock();
+		masterClock.setFixedStep(MasterClock.DEFAULT_FIXED_STEP, 0);
+
+		for (int i = 0; i < warmupPulses; i++) {
+			masterClock.advanceFixedStep();
+		}
+
+		setUp();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopSimulation() {
+		RandomUtil.clearStream();
+		UnitTickEngine.setParallel(true);
+	}
+
+	/**
+	 * Sets up the engine before the simulation is created, e.g. the parallel
+	 * update of the settlements.
+	 */
+	protected void configure() {
+		// Nothing by default
+	}
+
+	/**
+	 * Sets up the benchmark once the simulation runs.
+	 */
+	protected abstract void setUp() throws Exception;
+
+	/**
+	 * Gets the settlements ordered by identifier.
+	 * 
+	 * @return settlements
+	 */
+	protected List<Settlement> getSettlements() {
+		List<Settlement> result = new ArrayList<>(sim.getUnitManager().getSettlements());
+		result.sort(Comparator.comparingInt(Settlement::getIdentifier));
+		if (result.isEmpty())
+			throw new IllegalStateException("The scenario has no settlement");
+		return result;
+	}
+
+	/**
+	 * Gets the people ordered by identifier.
+	 * 
+	 * @return people
+	 */
+	protected List<Person> getPeople() {
+		List<Person> result = new ArrayList<>(sim.getUnitManager().getPeople());
+		result.sort(Comparator.comparingInt(Person::getIdentifier));
+		if (result.isEmpty())
+			throw new IllegalStateException("The scenario has no person");
+		return result;
+	}
+}
@@ -0,0 +1,62 @@
+/**
+ * Mars Simulation Project
+ * TaskProbabilityBenchmark.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.person.ai.task.meta.MetaTask;
+import org.mars_sim.msp.core.person.ai.task.meta.MetaTaskUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the probabilities of the tasks of a person, as computed by
+ * TaskManager.calculateProbability. That method is private and caches its
+ * result for the current millisol, so the benchmark runs the same loop over the
+ * meta tasks, for each person in turn.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskProbabilityBenchmark extends SimulationBenchmark {
+
+	private List<Person> people;
+	private List<MetaTask> metaTasks;
+	private int next;
+
+	@Override
+	protected void setUp() {
+		people = getPeople();
+		metaTasks = MetaTaskUtil.getAllMetaTasks();
+	}
+
+	@Benchmark
+	public double calculateProbability() {
+		Person person = people.get(next);
+		next = (next + 1) % people.size();
+
+		double total = 0D;
+		for (MetaTask mt : metaTasks) {
+			double probability = mt.getProbability(person);
+			if (probability > 0D)
+				total += probability;
+		}
+		return total;
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * Mars Simulation Project
+ * TerrainElevationBenchmark.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.mars.TerrainElevation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the elevation lookup at locations spread over the whole surface.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TerrainElevationBenchmark extends SimulationBenchmark {
+
+	/** The number of locations, a power of two. */
+	private static final int LOCATIONS = 4096;
+
+	private TerrainElevation terrainElevation;
+	private Coordinates[] locations;
+	private int next;
+
+	@Override
+	protected void setUp() {
+		terrainElevation = sim.getMars().getSurfaceFeatures().getTerrainElevation();
+
+		// Not taken from the simulation streams, so that the locations are the
+		// same whatever the benchmark does
+		Random random = new Random(seed);
+		locations = new Coordinates[LOCATIONS];
+		for (int i = 0; i < LOCATIONS; i++) {
+			locations[i] = new Coordinates(random.nextDouble() * Math.PI, random.nextDouble() * 2D * Math.PI);
+		}
+	}
+
+	@Benchmark
+	public double getElevation() {
+		Coordinates location = locations[next];
+		next = (next + 1) & (LOCATIONS - 1);
+		return terrainElevation.getElevation(location);
+	}
+}
@@ -0,0 +1,257 @@
+/**
+ * Mars Simulation Project
+ * ConfigLoader.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jdom.Document;
+import org.jdom.JDOMException;
+
+/**
+ * The ConfigLoader loads the configuration XML files as DOM documents. The
+ * files are parsed and validated in parallel, then the documents are kept in a
+ * binary cache file named after a hash of the XML files and their DTDs. As long
+ * as none of the files changes, the next start reads the documents from the
+ * cache and skips the parsing and the validation.
+ */
+final class ConfigLoader {
+
+	/** default logger. */
+	private static Logger logger = Logger.getLogger(ConfigLoader.class.getName());
+
+	/** The version of the cache format, part of the hash. */
+	private static final String CACHE_VERSION = "1";
+	private static final String CACHE_PREFIX = "config-";
+	private static final String CACHE_EXTENSION = ".bin";
+	private static final String DTD_DIR = "dtd/";
+	private static final String DTD = ".dtd";
+
+	/** The directory of the cache or null if not cached. */
+	private static volatile File cacheDirectory = new File(System.getProperty("user.home"),
+			Simulation.MARS_SIM_DIR + File.separator + "cache");
+
+	private ConfigLoader() {
+	}
+
+	/**
+	 * Sets the directory of the cache.
+	 *
+	 * @param directory the directory or null to parse the files on each start.
+	 */
+	static void setCacheDirectory(File directory) {
+		cacheDirectory = directory;
+	}
+
+	/**
+	 * Gets the directory of the cache.
+	 *
+	 * @return the directory or null if not cached.
+	 */
+	static File getCacheDirectory() {
+		return cacheDirectory;
+	}
+
+	/**
+	 * Loads configuration files.
+	 *
+	 * @param names the names of the files, without the directory and the extension.
+	 * @return the documents by name.
+	 * @throws IOException   if a file cannot be read.
+	 * @throws JDOMException if a file cannot be parsed.
+	 */
+	static Map<String, Document> load(String... names) throws IOException, JDOMException {
+		Map<String, byte[]> sources = new LinkedHashMap<>();
+		for (String name : names) {
+			sources.put(name, read(SimulationConfig.CONF + name + SimulationConfig.XML, true));
+		}
+
+		File directory = cacheDirectory;
+		File cacheFile = null;
+		if (directory != null) {
+			cacheFile = new File(directory, CACHE_PREFIX + hash(sources) + CACHE_EXTENSION);
+			Map<String, Document> cached = readCache(cacheFile);
+			if (cached != null && cached.keySet().containsAll(sources.keySet())) {
+				logger.config("Loaded " + cached.size() + " configuration documents from " + cacheFile);
+				return cached;
+			}
+		}
+
+		Map<String, Document> result = parse(sources);
+		if (cacheFile != null)
+			writeCache(cacheFile, result);
+		return result;
+	}
+
+	/**
+	 * Parses the files in parallel.
+	 *
+	 * @param sources the content of each file.
+	 * @return the documents by name.
+	 */
+	private static Map<String, Document> parse(Map<String, byte[]> sources) throws IOException, JDOMException {
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		Map<String, ForkJoinTask<Document>> tasks = new LinkedHashMap<>();
+		for (Map.Entry<String, byte[]> e : sources.entrySet()) {
+			byte[] data = e.getValue();
+			tasks.put(e.getKey(), pool.submit(() -> SimulationConfig.parseXML(new ByteArrayInputStream(data), true)));
+		}
+
+		Map<String, Document> result = new HashMap<>();
+		for (Map.Entry<String, ForkJoinTask<Document>> e : tasks.entrySet()) {
+			try {
+				result.put(e.getKey(), e.getValue().get());
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while parsing " + e.getKey(), ex);
+			} catch (ExecutionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof IOException)
+					throw (IOException) cause;
+				if (cause instanceof JDOMException)
+					throw (JDOMException) cause;
+				throw new IllegalStateException("Could not parse " + e.getKey(), cause);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the hash of the files and of their DTDs.
+	 *
+	 * @param sources the content of each file.
+	 * @return the hash in hexadecimal.
+	 */
+	private static String hash(Map<String, byte[]> sources) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+
+		digest.update(CACHE_VERSION.getBytes(StandardCharsets.UTF_8));
+		for (Map.Entry<String, byte[]> e : sources.entrySet()) {
+			digest.update(e.getKey().getBytes(StandardCharsets.UTF_8));
+			digest.update(e.getValue());
+			byte[] dtd = read(SimulationConfig.CONF + DTD_DIR + e.getKey() + DTD, false);
+			if (dtd != null)
+				digest.update(dtd);
+		}
+
+		StringBuilder result = new StringBuilder();
+		for (byte b : digest.digest()) {
+			result.append(String.format("%02x", b));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Reads a resource.
+	 *
+	 * @param path     the path of the resource.
+	 * @param required true if the resource has to be there.
+	 * @return the content or null if not there.
+	 * @throws IOException if required and not there.
+	 */
+	private static byte[] read(String path, boolean required) throws IOException {
+		InputStream stream = SimulationConfig.class.getResourceAsStream(path);
+		if (stream == null) {
+			if (required)
+				throw new IOException(path + " failed to load");
+			return null;
+		}
+
+		try (InputStream in = stream) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[16 * 1024];
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				out.write(buffer, 0, n);
+			}
+			return out.toByteArray();
+		}
+	}
+
+	/**
+	 * Reads the documents from a cache file.
+	 *
+	 * @param file the cache file.
+	 * @return the documents or null if no valid cache.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map<String, Document> readCache(File file) {
+		if (!file.isFile())
+			return null;
+
+		try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			return (Map<String, Document>) in.readObject();
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			logger.log(Level.WARNING, "Discarding the configuration cache " + file, e);
+			file.delete();
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the documents to a cache file and removes the other cache files.
+	 *
+	 * @param file      the cache file.
+	 * @param documents the documents.
+	 */
+	private static void writeCache(File file, Map<String, Document> documents) {
+		File directory = file.getParentFile();
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			logger.warning("Could not create " + directory);
+			return;
+		}
+
+		File temp = new File(directory, file.getName() + ".tmp");
+		try {
+			try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeObject(new HashMap<>(documents));
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			logger.log(Level.WARNING, "Could not write the configuration cache " + file, e);
+			temp.delete();
+			return;
+		}
+
+		// The cache files of older configurations
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File f : files) {
+				String name = f.getName();
+				if (name.startsWith(CACHE_PREFIX) && name.endsWith(CACHE_EXTENSION) && !f.equals(file))
+					f.delete();
+			}
+		}
+	}
+}
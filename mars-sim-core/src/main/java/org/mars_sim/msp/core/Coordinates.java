@@ -794,7 +794,7 @@ public class Coordinates implements Serializable {
 	 * @return longitude
 	 */
 	public static double getRandomLongitude() {
-		double theta = Math.random() * (2D * Math.PI);
+		double theta = RandomUtil.getRandomDouble(2D * Math.PI);
 		return theta;
 	}
 }
\ No newline at end of file
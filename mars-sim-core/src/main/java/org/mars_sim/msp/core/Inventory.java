@@ -58,18 +58,17 @@ public class Inventory implements Serializable {
 
 	/** Collection of units in inventory. */
 	private Collection<Unit> containedUnits = null;
+	/** Incremented whenever a unit is stored or retrieved. */
+	private transient volatile int containedUnitsRevision;
 	/** Map of item resources. */
 	private Map<Integer, Integer> containedItemResources = null;
 	
 	// Cache capacity variables.
-	private transient Map<Integer, Double> capacityCache = null;
-	private transient Map<Integer, Boolean> capacityCacheDirty = null;
-	private transient Map<Integer, Double> containersCapacityCache = null;
-	private transient Map<Integer, Boolean> containersCapacityCacheDirty = null;
-	private transient Map<Integer, Double> storedCache = null;
-	private transient Map<Integer, Boolean> storedCacheDirty = null;
-	private transient Map<Integer, Double> containersStoredCache = null;
-	private transient Map<Integer, Boolean> containersStoredCacheDirty = null;
+	// The per-resource caches are indexed by amount resource id.
+	private transient ResourceCache capacityCache = null;
+	private transient ResourceCache containersCapacityCache = null;
+	private transient ResourceCache storedCache = null;
+	private transient ResourceCache containersStoredCache = null;
 	private transient Set<Integer> allStoredARCache = null;
 
 	private transient boolean allStoredAmountResourcesCacheDirty = true;
@@ -838,9 +837,10 @@ public class Inventory implements Serializable {
 				}
 
 				if (remainingAmount > SMALL_AMOUNT_COMPARISON) {
+					double remaining = remainingAmount;
 					LogConsolidated.log(Level.SEVERE, 5000, sourceName,
-							ResourceUtil.findAmountResourceName(resource)
-							+ " could not be totally retrieved. Remaining: " + remainingAmount);
+							() -> ResourceUtil.findAmountResourceName(resource)
+							+ " could not be totally retrieved. Remaining: " + remaining);
 //					throw new IllegalStateException(ResourceUtil.findAmountResourceName(resource)
 //							+ " could not be totally retrieved. Remaining: " + remainingAmount);
 				}
@@ -1132,6 +1132,17 @@ public class Inventory implements Serializable {
 		return containedUnits;
 	}
 
+	/**
+	 * Gets the revision of the stored units. It changes whenever a unit is stored
+	 * or retrieved, so that callers may keep what they derived from the stored
+	 * units until then.
+	 * 
+	 * @return the revision.
+	 */
+	public int getContainedUnitsRevision() {
+		return containedUnitsRevision;
+	}
+
 	/**
 	 * Checks if a unit is in storage.
 	 * 
@@ -1357,6 +1368,7 @@ public class Inventory implements Serializable {
 			}
 
 			containedUnits.add(unit);
+			containedUnitsRevision++;
 			unit.setContainerUnit(owner);
 
 			// Try to empty amount resources into parent if container.
@@ -1386,7 +1398,7 @@ public class Inventory implements Serializable {
 			}
 		} else {
 			 LogConsolidated.log(Level.SEVERE, 5_000, sourceName + "::storeUnit",
-					 "Unit: " + unit + " could not be stored.");
+					 () -> "Unit: " + unit + " could not be stored.");
 			throw new IllegalStateException("Unit: " + unit + " could not be stored in " + owner.getName()); // needed for maven test
 		}
 	}
@@ -1412,6 +1424,7 @@ public class Inventory implements Serializable {
 			if (containedUnits.contains(unit)) {
 
 				containedUnits.remove(unit);
+				containedUnitsRevision++;
 
 				// Update owner
 				if (owner != null) {
@@ -1437,7 +1450,7 @@ public class Inventory implements Serializable {
 
 		else {
 			 LogConsolidated.log(Level.SEVERE, 5_000, sourceName +
-					 "::retrieveUnit", "'" + unit + "' could not be retrieved.");
+					 "::retrieveUnit", () -> "'" + unit + "' could not be retrieved.");
 			throw new IllegalStateException("'" + unit + "' could not be retrieved by " + owner.getName()); // needed for maven test
 		}
 	}
@@ -1516,19 +1529,9 @@ public class Inventory implements Serializable {
 	 * Initializes the amount resource capacity cache.
 	 */
 	public synchronized void initializeARCapacityCache() {
-
-		Collection<Integer> resources = ResourceUtil.getIDs();
-		capacityCache = new HashMap<Integer, Double>();
-		capacityCacheDirty = new HashMap<Integer, Boolean>();
-		containersCapacityCache = new HashMap<Integer, Double>();
-		containersCapacityCacheDirty = new HashMap<Integer, Boolean>();
-
-		for (int resource : resources) {
-			capacityCache.put(resource, 0D);
-			capacityCacheDirty.put(resource, true);
-			containersCapacityCache.put(resource, 0D);
-			containersCapacityCacheDirty.put(resource, true);
-		}
+		int size = ResourceUtil.getIDTableSize();
+		capacityCache = new ResourceCache(size);
+		containersCapacityCache = new ResourceCache(size);
 	}
 
 	/**
@@ -1553,12 +1556,8 @@ public class Inventory implements Serializable {
 		if (capacityCache == null) {
 			initializeAmountResourceCapacityCache();
 		}
-		// Check if amountResourceCapacityCacheDirty contains the resource
-		if (capacityCacheDirty.containsKey(resource))
-			return capacityCacheDirty.get(resource);
-		else
-			return true;
 
+		return capacityCache.isDirty(resource);
 	}
 
 	/**
@@ -1582,7 +1581,7 @@ public class Inventory implements Serializable {
 			initializeAmountResourceCapacityCache();
 		}
 
-		capacityCacheDirty.put(resource, true);
+		capacityCache.setDirty(resource);
 	}
 
 	/**
@@ -1609,12 +1608,10 @@ public class Inventory implements Serializable {
 			initializeAmountResourceCapacityCache();
 		}
 
-		for (int amountResource : ResourceUtil.getIDs()) {
-			setARCapacityCacheDirty(amountResource);
+		capacityCache.setAllDirty();
 
-			if (containersDirty) {
-				containersCapacityCacheDirty.put(amountResource, true);
-			}
+		if (containersDirty) {
+			containersCapacityCache.setAllDirty();
 		}
 
 		// Set owner unit's amount resource capacity cache as dirty (if any).
@@ -1656,18 +1653,11 @@ public class Inventory implements Serializable {
 		}
 
 		// Update amount resource capacity cache if it is dirty.
-		if (isARCapacityCacheDirty(resource) && !allowDirty) {
+		if (!allowDirty && capacityCache.isDirty(resource)) {
 			updateAmountResourceCapacityCache(resource);
 		}
 
-		// Check if amountResourceCapacityCache contains the resource
-		if (capacityCache.containsKey(resource))
-			return capacityCache.get(resource);
-		else {
-			capacityCache.put(resource, 0D);
-			return 0;
-		}
-		// return amountResourceCapacityCache.get(resource);
+		return capacityCache.get(resource);
 	}
 
 	/**
@@ -1699,26 +1689,17 @@ public class Inventory implements Serializable {
 
 		// Determine capacity for all contained units.
 		double containedCapacity = 0D;
-		// Check for null
-		if (containersCapacityCacheDirty.containsKey(resource)) {
-			if (containersCapacityCacheDirty.get(resource)) {
-				if (containedUnits != null) {
-					for (Unit unit : containedUnits) {
-						if (unit instanceof Container) {
-							containedCapacity += unit.getInventory().getARCapacity(resource, false);
-						}
+		if (containersCapacityCache.isDirty(resource)) {
+			if (containedUnits != null) {
+				for (Unit unit : containedUnits) {
+					if (unit instanceof Container) {
+						containedCapacity += unit.getInventory().getARCapacity(resource, false);
 					}
 				}
-				containersCapacityCache.put(resource, containedCapacity);
-				containersCapacityCacheDirty.put(resource, false);
-			}
-			// Check for null
-			else if (containersCapacityCache.containsKey(resource)) {
-				containedCapacity = containersCapacityCache.get(resource);
 			}
+			containersCapacityCache.set(resource, containedCapacity);
 		}
-		// Check for null
-		else if (containersCapacityCache.containsKey(resource)) {
+		else {
 			containedCapacity = containersCapacityCache.get(resource);
 		}
 
@@ -1728,25 +1709,17 @@ public class Inventory implements Serializable {
 			initializeAmountResourceStoredCache();
 		}
 
-		// Add checking for amountResourceContainersStoredCacheDirty and add if else
-		// clause
-		if (containersStoredCacheDirty.containsKey(resource)) {
-			if (containersStoredCacheDirty.get(resource)) {
-				if (containedUnits != null) {
-					for (Unit unit : containedUnits) {
-						if (unit instanceof Container) {
-							containedStored += unit.getInventory().getAmountResourceStored(resource, false);
-						}
+		if (containersStoredCache.isDirty(resource)) {
+			if (containedUnits != null) {
+				for (Unit unit : containedUnits) {
+					if (unit instanceof Container) {
+						containedStored += unit.getInventory().getAmountResourceStored(resource, false);
 					}
 				}
-				containersStoredCache.put(resource, containedStored);
-				containersStoredCacheDirty.put(resource, false);
-			} else {
-				containedStored = containersStoredCache.get(resource);
 			}
+			containersStoredCache.set(resource, containedStored);
 		} else {
-			// amountResourceContainersStoredCacheDirty.put(resource, false);
-			// containedStored = amountResourceContainersStoredCache.get(resource);
+			containedStored = containersStoredCache.get(resource);
 		}
 
 		// Limit container capacity to this inventory's remaining general capacity.
@@ -1759,8 +1732,7 @@ public class Inventory implements Serializable {
 
 		capacity += containedCapacity;
 
-		capacityCache.put(resource, capacity);
-		capacityCacheDirty.put(resource, false);
+		capacityCache.set(resource, capacity);
 	}
 
 	/**
@@ -1774,18 +1746,9 @@ public class Inventory implements Serializable {
 	 * Initializes the amount resource stored cache.
 	 */
 	private synchronized void initializeARStoredCache() {
-		Collection<Integer> resources = ResourceUtil.getIDs();
-		storedCache = new HashMap<Integer, Double>();
-		storedCacheDirty = new HashMap<Integer, Boolean>();
-		containersStoredCache = new HashMap<Integer, Double>();
-		containersStoredCacheDirty = new HashMap<Integer, Boolean>();
-
-		for (int resource : resources) {
-			storedCache.put(resource, 0D);
-			storedCacheDirty.put(resource, true);
-			containersStoredCache.put(resource, 0D);
-			containersStoredCacheDirty.put(resource, true);
-		}
+		int size = ResourceUtil.getIDTableSize();
+		storedCache = new ResourceCache(size);
+		containersStoredCache = new ResourceCache(size);
 	}
 
 	/**
@@ -1806,15 +1769,11 @@ public class Inventory implements Serializable {
 	 */
 	private boolean isARStoredCacheDirty(int resource) {
 		// Initialize amount resource stored cache if necessary.
-		if (storedCacheDirty == null) {
+		if (storedCache == null) {
 			initializeAmountResourceStoredCache();
 		}
 
-		// Check if amountResourceStoredCacheDirty contains the resource
-		if (storedCacheDirty.containsKey(resource))
-			return storedCacheDirty.get(resource);
-		else
-			return true;
+		return storedCache.isDirty(resource);
 	}
 
 	/**
@@ -1838,7 +1797,7 @@ public class Inventory implements Serializable {
 			initializeAmountResourceStoredCache();
 		}
 
-		storedCacheDirty.put(resource, true);
+		storedCache.setDirty(resource);
 	}
 
 	/**
@@ -1864,12 +1823,10 @@ public class Inventory implements Serializable {
 			initializeAmountResourceStoredCache();
 		}
 
-		for (int id : ResourceUtil.getIDs()) {
-			setARStoredCacheDirty(id);
+		storedCache.setAllDirty();
 
-			if (containersDirty) {
-				containersStoredCacheDirty.put(id, true);
-			}
+		if (containersDirty) {
+			containersStoredCache.setAllDirty();
 		}
 
 		// Set owner unit's amount resource stored cache as dirty (if any).
@@ -1907,20 +1864,11 @@ public class Inventory implements Serializable {
 		}
 
 		// Update amount resource stored cache if it is dirty.
-		if (!allowDirty && isARStoredCacheDirty(resource)) {
+		if (!allowDirty && storedCache.isDirty(resource)) {
 			updateAmountResourceStoredCache(resource);
 		}
 
-		// Check if amountResourceStoredCache contains the resource
-		if (storedCache.containsKey(resource))
-			return storedCache.get(resource);
-		else {
-			capacityCache.put(resource, 0D);
-			return 0;
-		}
-
-		// return amountResourceStoredCache.get(resource);
-
+		return storedCache.get(resource);
 	}
 
 	/**
@@ -1939,6 +1887,11 @@ public class Inventory implements Serializable {
 	 */
 	private void updateAmountResourceStoredCache(int resource) {
 
+		// Initialize amount resource stored cache if necessary.
+		if (storedCache == null) {
+			initializeARStoredCache();
+		}
+
 		double stored = 0D;
 
 		if (resourceStorage != null) {
@@ -1946,33 +1899,22 @@ public class Inventory implements Serializable {
 		}
 
 		double containerStored = 0D;
-		// Add checking for amountResourceContainersStoredCacheDirty
-		if (containersStoredCacheDirty.containsKey(resource)) {
-			if (containersStoredCacheDirty.get(resource)) {
-				if (containedUnits != null) {
-					for (Unit unit : containedUnits) {
-						if (unit instanceof Container) {
-							containerStored += unit.getInventory().getAmountResourceStored(resource, false);
-						}
+		if (containersStoredCache.isDirty(resource)) {
+			if (containedUnits != null) {
+				for (Unit unit : containedUnits) {
+					if (unit instanceof Container) {
+						containerStored += unit.getInventory().getAmountResourceStored(resource, false);
 					}
 				}
-				containersStoredCache.put(resource, containerStored);
-				containersStoredCacheDirty.put(resource, false);
-			} else {
-				containerStored = containersStoredCache.get(resource);
 			}
-		}
-		// Add checking amountResourceContainersStoredCache
-		else if (containersStoredCache.containsKey(resource)) {
-			containerStored = containersStoredCache.get(resource);
+			containersStoredCache.set(resource, containerStored);
 		} else {
-			// containerStored = amountResourceContainersStoredCache.get(resource);
+			containerStored = containersStoredCache.get(resource);
 		}
 
 		stored += containerStored;
 
-		storedCache.put(resource, stored);
-		storedCacheDirty.put(resource, false);
+		storedCache.set(resource, stored);
 	}
 
 	/**
@@ -2343,15 +2285,11 @@ public class Inventory implements Serializable {
 //        if (allStoredAmountResourcesCache != null) allStoredAmountResourcesCache.clear();
 //        allStoredAmountResourcesCache = null;
 		capacityCache = null;
-		capacityCacheDirty = null;
-		storedCacheDirty = null;
 		allStoredARCache = null;
 
 		containersCapacityCache = null;
-		containersCapacityCacheDirty = null;
 		storedCache = null;
 		containersStoredCache = null;
-		containersStoredCacheDirty = null;
 	}
 
 	/**
@@ -13,11 +13,11 @@ import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import org.mars_sim.msp.core.structure.Settlement;
@@ -41,13 +41,8 @@ public class LocalAreaUtil {
 	/** A very small distance (meters) for measuring how close two locations are. */
 	private static final double VERY_SMALL_DISTANCE = .00001D;
 
-	/**
-	 * Cache for total area containing obstacles for a given coordinate location.
-	 */
-	private static final Map<Coordinates, Area> obstacleAreaCache = new HashMap<Coordinates, Area>();
-
-	/** Time stamps for obstacle area cache. */
-	private static final Map<Coordinates, String> obstacleAreaTimestamps = new HashMap<Coordinates, String>();
+	/** The grids of the obstacles for a given coordinate location. */
+	private static final Map<Coordinates, ObstacleGrid> obstacleGrids = new ConcurrentHashMap<Coordinates, ObstacleGrid>();
 
 	/**
 	 * Private empty constructor for utility class.
@@ -400,7 +395,7 @@ public class LocalAreaUtil {
 			if (settlement.getCoordinates().equals(coordinates)) {
 
 				// Add all buildings at settlement.
-				Iterator<Building> j = settlement.getBuildingManager().getACopyOfBuildings().iterator();
+				Iterator<Building> j = settlement.getBuildingManager().getBuildings().iterator();
 				while (j.hasNext()) {
 					Building b = j.next();
 					// 2016-03-07 Added checking for getInTransport()
@@ -445,7 +440,7 @@ public class LocalAreaUtil {
 			if (settlement.getCoordinates().equals(coordinates)) {
 
 				// Add all buildings at settlement.
-				Iterator<Building> j = settlement.getBuildingManager().getACopyOfBuildings().iterator();
+				Iterator<Building> j = settlement.getBuildingManager().getBuildings().iterator();
 				while (j.hasNext()) {
 					result.add(j.next());
 				}
@@ -549,7 +544,7 @@ public class LocalAreaUtil {
 		Rectangle2D objectRect = new Rectangle2D.Double(xLoc - (width / 2D), yLoc - (length / 2D), width, length);
 		Path2D objectPath = getPathFromRectangleRotation(objectRect, facing);
 
-		result = isPathCollisionFree(object, objectPath, coordinates, false);
+		result = isPathCollisionFree(object, objectPath, coordinates);
 
 		return result;
 	}
@@ -560,17 +555,21 @@ public class LocalAreaUtil {
 	 * 
 	 * @param line        the line.
 	 * @param coordinates the global coordinate location to check.
-	 * @param useCache    true if caching should be used.
+	 * @param useCache    true if the cached obstacle grid should be used.
 	 * @return true if line path doesn't collide with anything.
 	 */
 	public static boolean checkLinePathCollision(Line2D line, Coordinates coordinates, boolean useCache) {
 
+		if (useCache) {
+			return getObstacleGrid(coordinates).isLineFree(line.getX1(), line.getY1(), line.getX2(), line.getY2());
+		}
+
 		boolean result = true;
 
 		// Create line path
 		Path2D linePath = createLinePath(line);
 
-		result = isPathCollisionFree(null, linePath, coordinates, useCache);
+		result = isPathCollisionFree(null, linePath, coordinates);
 
 		return result;
 	}
@@ -749,41 +748,26 @@ public class LocalAreaUtil {
 	 * @param object      the object being checked (may be null if no object).
 	 * @param path        the path to check.
 	 * @param coordinates the global coordinate location to check.
-	 * @param useCache    true if caching should be used.
 	 * @return true if path doesn't collide with anything.
 	 */
-	private static boolean isPathCollisionFree(Object object, Path2D path, Coordinates coordinates, boolean useCache) {
+	private static boolean isPathCollisionFree(Object object, Path2D path, Coordinates coordinates) {
 
 		boolean result = true;
 
-		// Check if obstacle area has been cached for this coordinate location if using
-		// cache.
-		boolean cached = false;
+		// Add all obstacle areas at location together to create a total obstacle area.
 		Area obstacleArea = null;
-		if (useCache && obstacleAreaCache.containsKey(coordinates)) {
-			String currentTimestamp = Simulation.instance().getMasterClock().getMarsClock().getDateTimeStamp();
-			String cachedTimestamp = obstacleAreaTimestamps.get(coordinates);
-			if (currentTimestamp.equals(cachedTimestamp)) {
-				cached = true;
-				obstacleArea = obstacleAreaCache.get(coordinates);
-			}
-		}
-
-		if (!cached) {
-			// Add all obstacle areas at location together to create a total obstacle area.
-			Iterator<LocalBoundedObject> i = getAllLocalBoundedObjectsAtLocation(coordinates).iterator();
-			while (i.hasNext()) {
-				LocalBoundedObject lbo = i.next();
-				if (lbo != object) {
-					Rectangle2D objectRect = new Rectangle2D.Double(lbo.getXLocation() - (lbo.getWidth() / 2D),
-							lbo.getYLocation() - (lbo.getLength() / 2D), lbo.getWidth(), lbo.getLength());
-					Path2D objectPath = getPathFromRectangleRotation(objectRect, lbo.getFacing());
-					Area objectArea = new Area(objectPath);
-					if (obstacleArea == null) {
-						obstacleArea = objectArea;
-					} else {
-						obstacleArea.add(objectArea);
-					}
+		Iterator<LocalBoundedObject> i = getAllLocalBoundedObjectsAtLocation(coordinates).iterator();
+		while (i.hasNext()) {
+			LocalBoundedObject lbo = i.next();
+			if (lbo != object) {
+				Rectangle2D objectRect = new Rectangle2D.Double(lbo.getXLocation() - (lbo.getWidth() / 2D),
+						lbo.getYLocation() - (lbo.getLength() / 2D), lbo.getWidth(), lbo.getLength());
+				Path2D objectPath = getPathFromRectangleRotation(objectRect, lbo.getFacing());
+				Area objectArea = new Area(objectPath);
+				if (obstacleArea == null) {
+					obstacleArea = objectArea;
+				} else {
+					obstacleArea.add(objectArea);
 				}
 			}
 		}
@@ -801,26 +785,30 @@ public class LocalAreaUtil {
 			}
 		}
 
-		// Store cached obstacle area for location with current timestamp if needed.
-		if (useCache && !cached && (obstacleArea != null)) {
-			obstacleAreaCache.put(coordinates, obstacleArea);
-			String currentTimestamp = Simulation.instance().getMasterClock().getMarsClock().getDateTimeStamp();
-			obstacleAreaTimestamps.put(coordinates, currentTimestamp);
-		}
-
 		return result;
 	}
 
 	/**
-	 * Clear the obstacle area cache and time stamps.
+	 * Gets the grid of the obstacles at a location, brought up to date with the
+	 * obstacles once per tick.
+	 * 
+	 * @param coordinates the global coordinate location.
+	 * @return the obstacle grid.
 	 */
-	public static void clearObstacleCache() {
-		if (obstacleAreaCache != null) {
-			obstacleAreaCache.clear();
-		}
-		if (obstacleAreaTimestamps != null) {
-			obstacleAreaTimestamps.clear();
+	private static ObstacleGrid getObstacleGrid(Coordinates coordinates) {
+		ObstacleGrid grid = obstacleGrids.computeIfAbsent(coordinates, c -> new ObstacleGrid());
+		long tick = Simulation.instance().getUnitManager().getTick();
+		if (grid.getTick() != tick) {
+			grid.update(getAllLocalBoundedObjectsAtLocation(coordinates), tick);
 		}
+		return grid;
+	}
+
+	/**
+	 * Clear the obstacle grids.
+	 */
+	public static void clearObstacleCache() {
+		obstacleGrids.clear();
 	}
 
 	/**
@@ -7,33 +7,46 @@
 
 package org.mars_sim.msp.core;
 
-import java.util.HashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.mars_sim.msp.core.time.EarthClock;
 import org.mars_sim.msp.core.time.MarsClock;
 
-import com.google.common.flogger.FluentLogger;
 //  See https://stackoverflow.com/questions/9132193/log4j-standard-way-to-prevent-repetitive-log-messages#37619797
 //	Do
 // 		LogConsolidated.log(logger, Level.WARN, 5000, "File: " + f + " not found.", e);
 //	Instead of:
 //		logger.warn("File: " + f + " not found.", e);
+//	Or in hot paths, with a site resolved once
+//		private static final LogConsolidated.Site SITE = LogConsolidated.site(logger, 5000);
+//		SITE.log(Level.WARNING, () -> "File: " + f + " not found.", e);
+//	Or per source, with a message built only if logged
+//		LogConsolidated.log(Level.WARNING, 5000, sourceName, () -> "File: " + f + " not found.", e);
 
 public class LogConsolidated {
 
-	/* Google fluent logger. */
-	private static final FluentLogger flogger = FluentLogger.forEnclosingClass();
-	
-	private static HashMap<String, TimeAndCount> lastLogged = new HashMap<>();
+	/** The logger of the messages logged without a logger. */
+	private static final Logger defaultLogger = Logger.getLogger(LogConsolidated.class.getName());
+
+	/** The sites of the messages logged with a logger, by file and line. */
+	private static Map<String, Site> lastLogged = new ConcurrentHashMap<>();
+	/** The sites of the messages logged without a logger, by source name, time between logs and level. */
+	private static Map<SourceKey, Site> sourceSites = new ConcurrentHashMap<>();
+
+	/** Walks the stack to find the caller of LogConsolidated. */
+	private static final StackWalker walker = StackWalker.getInstance();
 
 	private static final String OPEN_BRACKET = "[x";
 	private static final String CLOSED_BRACKET = "] ";
 	private static final String COLON = " : ";
 	private static final String COLON_2 = ":";
-	private static final String ONCE = "[x1] ";
 	private static final String QUESTION = "?";
 	private static final String PERIOD = ".";
 
@@ -45,6 +58,17 @@ public class LogConsolidated {
 	private static EarthClock earthClock;// = Simulation.instance().getMasterClock().getEarthClock();
 	private static MarsClock marsClock;// = Simulation.instance().getMasterClock().getMarsClock();
 	
+	/**
+	 * Gets a site for rate-limited messages, to be kept in a static field of the
+	 * calling class.
+	 * 
+	 * @param logger          Where to log.
+	 * @param timeBetweenLogs Milliseconds to wait between messages of the site.
+	 * @return the site.
+	 */
+	public static Site site(Logger logger, long timeBetweenLogs) {
+		return new Site(logger, logger.getName(), timeBetweenLogs);
+	}
 
 	/**
 	 * Logs given <code>message</code> to given <code>logger</code> as long as:
@@ -56,7 +80,8 @@ public class LogConsolidated {
 	 * </ul>
 	 * Note: If messages are skipped, they are counted. When
 	 * <code>timeBetweenLogs</code> has passed, and a repeat message is logged, the
-	 * count will be displayed.
+	 * count will be displayed. The call site is found by walking the stack, so
+	 * hot paths should rather use a {@link Site}.
 	 * 
 	 * @param logger          Where to log.
 	 * @param level           Level to log.
@@ -66,62 +91,86 @@ public class LogConsolidated {
 	 */
 	public static void log(Logger logger, Level level, long timeBetweenLogs, String sourceName, String message,
 			Throwable t) {
-		long dTime = timeBetweenLogs;
-		String className = sourceName.substring(sourceName.lastIndexOf(PERIOD) + 1, sourceName.length());
-
-//		if (logger.isEnabledFor(level)) {
-		String uniqueIdentifier = getFileAndLine();
-		TimeAndCount lastTimeAndCount = lastLogged.get(uniqueIdentifier);
-		if (lastTimeAndCount != null) {
-			synchronized (lastTimeAndCount) {
-				long now = System.currentTimeMillis();
-				if (now - lastTimeAndCount.startTime < dTime) {
-					// Increment count only since the message in the same and is within the time prescribed
-					lastTimeAndCount.count++;
-					return;
-				} else {
-					// Print the log statement with counts
-					log(logger, level,
-							OPEN_BRACKET + lastTimeAndCount.count + CLOSED_BRACKET + className + COLON + message, t);
-				}
-			}
-		}
+		if (!logger.isLoggable(level))
+			return;
 
-		else {
-			// Print the log statement
-			log(logger, level, ONCE + className + COLON + message, t);
-		}
-
-		// Register the message
-		lastLogged.put(uniqueIdentifier, new TimeAndCount());
+		Site site = lastLogged.computeIfAbsent(getFileAndLine(), k -> new Site(logger, sourceName, timeBetweenLogs));
+		site.log(level, message, t);
 	}
-//	}
 
-//	public static void go(Level level, int timeBetweenLogs, StringBuffer sb) {
-//		flogger.at(level).atMostEvery(timeBetweenLogs, TimeUnit.SECONDS).log(sb.toString());
-//	}
-	
+	/**
+	 * Logs a message at most once every <code>timeBetweenLogs</code> for each
+	 * source name and level.
+	 * 
+	 * @param level           Level to log.
+	 * @param timeBetweenLogs Milliseconds to wait between messages of the source.
+	 * @param sourceName      The class logging the message.
+	 * @param message         The actual message to log.
+	 */
 	public static void log(Level level, int timeBetweenLogs, String sourceName, String message) {
-//		if (sourceName.contains("."))
-//			sourceName = sourceName.substring(sourceName.lastIndexOf(PERIOD) + 1, sourceName.length());
-		flogger.at(level).atMostEvery(timeBetweenLogs, TimeUnit.MILLISECONDS).log(sourceName + COLON + message);
+		log(level, timeBetweenLogs, sourceName, message, null);
 	}
 	
+	/**
+	 * Logs a message at most once every <code>timeBetweenLogs</code> for each
+	 * source name and level.
+	 * 
+	 * @param level           Level to log.
+	 * @param timeBetweenLogs Milliseconds to wait between messages of the source.
+	 * @param sourceName      The class logging the message.
+	 * @param message         The actual message to log.
+	 * @param t               Can be null. Will log stack trace if not null.
+	 */
 	public static void log(Level level, int timeBetweenLogs, String sourceName, String message, Throwable t) {
-//		if (sourceName.contains("."))
-//			sourceName = sourceName.substring(sourceName.lastIndexOf(PERIOD) + 1, sourceName.length());
-		flogger.at(level).atMostEvery(timeBetweenLogs, TimeUnit.MILLISECONDS).log(sourceName + COLON + message, t);
+		if (!defaultLogger.isLoggable(level))
+			return;
+
+		getSourceSite(level, timeBetweenLogs, sourceName).log(level, message, t);
+	}
+
+	/**
+	 * Logs a message built only if logged, at most once every
+	 * <code>timeBetweenLogs</code> for each source name and level.
+	 * 
+	 * @param level           Level to log.
+	 * @param timeBetweenLogs Milliseconds to wait between messages of the source.
+	 * @param sourceName      The class logging the message.
+	 * @param message         The supplier of the message.
+	 */
+	public static void log(Level level, int timeBetweenLogs, String sourceName, Supplier<String> message) {
+		log(level, timeBetweenLogs, sourceName, message, null);
+	}
+
+	/**
+	 * Logs a message built only if logged, at most once every
+	 * <code>timeBetweenLogs</code> for each source name and level.
+	 * 
+	 * @param level           Level to log.
+	 * @param timeBetweenLogs Milliseconds to wait between messages of the source.
+	 * @param sourceName      The class logging the message.
+	 * @param message         The supplier of the message.
+	 * @param t               Can be null. Will log stack trace if not null.
+	 */
+	public static void log(Level level, int timeBetweenLogs, String sourceName, Supplier<String> message,
+			Throwable t) {
+		if (!defaultLogger.isLoggable(level))
+			return;
+
+		getSourceSite(level, timeBetweenLogs, sourceName).log(level, message, t);
+	}
+
+	/**
+	 * Gets the site of the messages of a source at a level and rate.
+	 * 
+	 * @param level           Level to log.
+	 * @param timeBetweenLogs Milliseconds to wait between messages of the source.
+	 * @param sourceName      The class logging the message.
+	 * @return the site.
+	 */
+	private static Site getSourceSite(Level level, int timeBetweenLogs, String sourceName) {
+		return sourceSites.computeIfAbsent(new SourceKey(sourceName, timeBetweenLogs, level),
+				k -> new Site(defaultLogger, sourceName, timeBetweenLogs));
 	}
-	
-//	public static void info(int timeBetweenLogs, String sourceName, String message) {
-//		flogger.atInfo().atMostEvery(timeBetweenLogs, TimeUnit.SECONDS)
-//			.log(sourceName.substring(sourceName.lastIndexOf(PERIOD) + 1, sourceName.length()) + COLON + message);
-//	}
-//	
-//	public static void info(int timeBetweenLogs, String sourceName, String message, Throwable t) {
-//		flogger.atInfo().atMostEvery(timeBetweenLogs, TimeUnit.SECONDS)
-//			.log(sourceName.substring(sourceName.lastIndexOf(PERIOD) + 1, sourceName.length()) + COLON + message, t);
-//	}
 	
 	/**
 	 * Returns the line
@@ -129,36 +178,21 @@ public class LogConsolidated {
 	 * @return
 	 */
 	private static String getFileAndLine() {
-		StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-		boolean enteredLogConsolidated = false;
-		for (StackTraceElement ste : stackTrace) {
-			if (ste.getClassName().equals(LogConsolidated.class.getName())) {
-				enteredLogConsolidated = true;
-			} else if (enteredLogConsolidated) {
-				// We have now file/line before entering LogConsolidated.
-				return ste.getFileName() + COLON_2 + ste.getLineNumber();
-			}
-		}
-		return QUESTION;
+		Optional<StackWalker.StackFrame> caller = walker.walk(frames -> frames
+				.dropWhile(f -> !f.getClassName().equals(LogConsolidated.class.getName()))
+				.dropWhile(f -> f.getClassName().equals(LogConsolidated.class.getName()))
+				.findFirst());
+		// We have now file/line before entering LogConsolidated.
+		return caller.map(f -> f.getFileName() + COLON_2 + f.getLineNumber()).orElse(QUESTION);
 	}
 
 	private static void log(Logger logger, Level level, String message, Throwable t) {
-
-//    	java.util.logging.Level l2 = null;
-//    	if (level == Level.INFO)
-//    		l2 =  java.util.logging.Level.INFO;
-//    	else if (level == Level.WARN || level == Level.ERROR)
-//    		l2 =  java.util.logging.Level.WARNING;
-//    	else if (level == Level.FATAL)
-//    		l2 =  java.util.logging.Level.SEVERE;
-
 		if (t == null) {
 			logger.log(level, message);
 
 		} else {
 			logger.log(level, message, t);
 		}
-
 	}
 
 	public static boolean showRateLimit() {
@@ -199,15 +233,131 @@ public class LogConsolidated {
 	}
 	
 	/**
-	 * TimeAndCount keeps track of the between time and the number of times the message has appeared
+	 * The key of the site of the messages of a source at a level and rate.
 	 */
-	private static class TimeAndCount {
-		protected long startTime;
-		protected int count;
+	private static final class SourceKey {
+
+		private final String sourceName;
+		private final int timeBetweenLogs;
+		private final Level level;
+
+		private SourceKey(String sourceName, int timeBetweenLogs, Level level) {
+			this.sourceName = sourceName;
+			this.timeBetweenLogs = timeBetweenLogs;
+			this.level = level;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (!(o instanceof SourceKey))
+				return false;
+			SourceKey k = (SourceKey) o;
+			return timeBetweenLogs == k.timeBetweenLogs && level.equals(k.level) && sourceName.equals(k.sourceName);
+		}
 
-		TimeAndCount() {
-			this.startTime = System.currentTimeMillis();
-			this.count = 1;
+		@Override
+		public int hashCode() {
+			return (sourceName.hashCode() * 31 + timeBetweenLogs) * 31 + level.hashCode();
+		}
+	}
+
+	/**
+	 * A site of rate-limited messages. A message is logged if the time between
+	 * logs has passed since the last one, otherwise it is only counted. The
+	 * message of a supplier is built only when logged.
+	 */
+	public static final class Site {
+
+		private final Logger logger;
+		private final String className;
+		private final long timeBetweenLogs;
+		/** The earliest time (millis) of the next message. */
+		private final AtomicLong nextTime = new AtomicLong(Long.MIN_VALUE);
+		/** The messages skipped since the last one. */
+		private final LongAdder skipped = new LongAdder();
+
+		private Site(Logger logger, String sourceName, long timeBetweenLogs) {
+			this.logger = logger;
+			this.className = sourceName.substring(sourceName.lastIndexOf(PERIOD) + 1);
+			this.timeBetweenLogs = timeBetweenLogs;
+		}
+
+		/**
+		 * Checks if a message would be logged now.
+		 * 
+		 * @param level Level to log.
+		 * @return true if the level is active and the time between logs has passed.
+		 */
+		public boolean isLoggable(Level level) {
+			return logger.isLoggable(level) && System.currentTimeMillis() >= nextTime.get();
+		}
+
+		/**
+		 * Logs a message.
+		 * 
+		 * @param level   Level to log.
+		 * @param message The actual message to log.
+		 */
+		public void log(Level level, String message) {
+			log(level, message, null);
+		}
+
+		/**
+		 * Logs a message.
+		 * 
+		 * @param level   Level to log.
+		 * @param message The actual message to log.
+		 * @param t       Can be null. Will log stack trace if not null.
+		 */
+		public void log(Level level, String message, Throwable t) {
+			long count = acquire(level);
+			if (count > 0)
+				LogConsolidated.log(logger, level, OPEN_BRACKET + count + CLOSED_BRACKET + className + COLON + message, t);
+		}
+
+		/**
+		 * Logs a message built only if logged.
+		 * 
+		 * @param level   Level to log.
+		 * @param message The supplier of the message.
+		 */
+		public void log(Level level, Supplier<String> message) {
+			log(level, message, null);
+		}
+
+		/**
+		 * Logs a message built only if logged.
+		 * 
+		 * @param level   Level to log.
+		 * @param message The supplier of the message.
+		 * @param t       Can be null. Will log stack trace if not null.
+		 */
+		public void log(Level level, Supplier<String> message, Throwable t) {
+			long count = acquire(level);
+			if (count > 0)
+				LogConsolidated.log(logger, level, OPEN_BRACKET + count + CLOSED_BRACKET + className + COLON + message.get(), t);
+		}
+
+		/**
+		 * Takes the right to log a message, or counts it as skipped.
+		 * 
+		 * @param level Level to log.
+		 * @return the number of messages since the last one logged, including this
+		 *         one, or 0 if not to be logged.
+		 */
+		private long acquire(Level level) {
+			if (!logger.isLoggable(level))
+				return 0;
+
+			long now = System.currentTimeMillis();
+			long next = nextTime.get();
+			if (now < next || !nextTime.compareAndSet(next, now + timeBetweenLogs)) {
+				skipped.increment();
+				return 0;
+			}
+			return skipped.sumThenReset() + 1;
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,296 @@
+/**
+ * Mars Simulation Project
+ * ObstacleGrid.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An occupancy grid of the obstacles (buildings, construction sites and
+ * vehicles) at a coordinate location. Each cell of the grid lists the
+ * obstacles overlapping it, so that a line path is only tested against the
+ * obstacles in the cells it crosses. When the obstacles are updated, only the
+ * ones that have moved, appeared or disappeared are placed in the grid again.
+ */
+class ObstacleGrid {
+
+	/** The size of a grid cell (meters). */
+	private static final double CELL_SIZE = 2D;
+
+	/**
+	 * Half the width of a line path (meters), so that a line touching the edge
+	 * of an obstacle collides with it.
+	 */
+	private static final double EDGE_MARGIN = .0005D;
+
+	/** The obstacles and their footprints. */
+	private Map<LocalBoundedObject, Footprint> footprints = new HashMap<>();
+	/** The footprints in each cell, by cell key. */
+	private Map<Long, List<Footprint>> cells = new HashMap<>();
+	/** The tick of the last update. */
+	private long tick = -1L;
+	/** The number of the current query, to test each footprint once. */
+	private int query;
+
+	/**
+	 * Gets the tick of the last update.
+	 *
+	 * @return tick
+	 */
+	synchronized long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Updates the grid with the current obstacles.
+	 *
+	 * @param obstacles the obstacles at the location.
+	 * @param tick      the current tick.
+	 */
+	synchronized void update(Collection<LocalBoundedObject> obstacles, long tick) {
+		this.tick = tick;
+
+		// Remove the obstacles that are gone.
+		Iterator<Map.Entry<LocalBoundedObject, Footprint>> i = footprints.entrySet().iterator();
+		while (i.hasNext()) {
+			Map.Entry<LocalBoundedObject, Footprint> entry = i.next();
+			if (!obstacles.contains(entry.getKey())) {
+				removeFootprint(entry.getValue());
+				i.remove();
+			}
+		}
+
+		// Place the new and the moved obstacles.
+		for (LocalBoundedObject obstacle : obstacles) {
+			Footprint footprint = footprints.get(obstacle);
+			if ((footprint == null) || !footprint.matches(obstacle)) {
+				if (footprint != null) {
+					removeFootprint(footprint);
+				}
+				footprint = new Footprint(obstacle);
+				footprints.put(obstacle, footprint);
+				addFootprint(footprint);
+			}
+		}
+	}
+
+	/**
+	 * Checks if a line path is free of obstacles.
+	 *
+	 * @param x1 the X location of the start of the line.
+	 * @param y1 the Y location of the start of the line.
+	 * @param x2 the X location of the end of the line.
+	 * @param y2 the Y location of the end of the line.
+	 * @return true if the line doesn't collide with any obstacle.
+	 */
+	synchronized boolean isLineFree(double x1, double y1, double x2, double y2) {
+		if (footprints.isEmpty()) {
+			return true;
+		}
+
+		query++;
+
+		// Walk the cells crossed by the line.
+		int col = getCell(x1);
+		int row = getCell(y1);
+		int endCol = getCell(x2);
+		int endRow = getCell(y2);
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		int stepCol = (dx > 0D) ? 1 : -1;
+		int stepRow = (dy > 0D) ? 1 : -1;
+		double tDeltaX = (dx != 0D) ? (CELL_SIZE / Math.abs(dx)) : Double.POSITIVE_INFINITY;
+		double tDeltaY = (dy != 0D) ? (CELL_SIZE / Math.abs(dy)) : Double.POSITIVE_INFINITY;
+		double tMaxX = (dx != 0D) ? (((col + (stepCol > 0 ? 1 : 0)) * CELL_SIZE - x1) / dx) : Double.POSITIVE_INFINITY;
+		double tMaxY = (dy != 0D) ? (((row + (stepRow > 0 ? 1 : 0)) * CELL_SIZE - y1) / dy) : Double.POSITIVE_INFINITY;
+		int steps = Math.abs(endCol - col) + Math.abs(endRow - row);
+
+		for (int s = 0; s <= steps; s++) {
+			List<Footprint> list = cells.get(getKey(col, row));
+			if (list != null) {
+				for (Footprint footprint : list) {
+					if (footprint.query != query) {
+						footprint.query = query;
+						if (footprint.intersectsLine(x1, y1, x2, y2)) {
+							return false;
+						}
+					}
+				}
+			}
+
+			if (tMaxX < tMaxY) {
+				tMaxX += tDeltaX;
+				col += stepCol;
+			} else {
+				tMaxY += tDeltaY;
+				row += stepRow;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Adds a footprint to the cells it overlaps.
+	 *
+	 * @param footprint the footprint.
+	 */
+	private void addFootprint(Footprint footprint) {
+		for (int col = footprint.minCol; col <= footprint.maxCol; col++) {
+			for (int row = footprint.minRow; row <= footprint.maxRow; row++) {
+				cells.computeIfAbsent(getKey(col, row), k -> new ArrayList<>(2)).add(footprint);
+			}
+		}
+	}
+
+	/**
+	 * Removes a footprint from the cells it overlaps.
+	 *
+	 * @param footprint the footprint.
+	 */
+	private void removeFootprint(Footprint footprint) {
+		for (int col = footprint.minCol; col <= footprint.maxCol; col++) {
+			for (int row = footprint.minRow; row <= footprint.maxRow; row++) {
+				Long key = getKey(col, row);
+				List<Footprint> list = cells.get(key);
+				if (list != null) {
+					list.remove(footprint);
+					if (list.isEmpty()) {
+						cells.remove(key);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the cell index of a location.
+	 *
+	 * @param location the X or Y location (meters).
+	 * @return cell index.
+	 */
+	private static int getCell(double location) {
+		return (int) Math.floor(location / CELL_SIZE);
+	}
+
+	/**
+	 * Gets the key of a cell.
+	 *
+	 * @param col the column.
+	 * @param row the row.
+	 * @return key
+	 */
+	private static long getKey(int col, int row) {
+		return ((long) col << 32) | (row & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * The rotated rectangle covered by an obstacle.
+	 */
+	private static class Footprint {
+
+		private double xLoc;
+		private double yLoc;
+		private double width;
+		private double length;
+		private double facing;
+		private double cos;
+		private double sin;
+		private int minCol;
+		private int maxCol;
+		private int minRow;
+		private int maxRow;
+		private int query;
+
+		Footprint(LocalBoundedObject object) {
+			xLoc = object.getXLocation();
+			yLoc = object.getYLocation();
+			width = object.getWidth();
+			length = object.getLength();
+			facing = object.getFacing();
+
+			double radians = Math.toRadians(facing);
+			cos = Math.cos(radians);
+			sin = Math.sin(radians);
+
+			// The bounding rectangle of the rotated rectangle.
+			double halfX = (Math.abs(cos) * width + Math.abs(sin) * length) / 2D + EDGE_MARGIN * 2D;
+			double halfY = (Math.abs(sin) * width + Math.abs(cos) * length) / 2D + EDGE_MARGIN * 2D;
+			minCol = getCell(xLoc - halfX);
+			maxCol = getCell(xLoc + halfX);
+			minRow = getCell(yLoc - halfY);
+			maxRow = getCell(yLoc + halfY);
+		}
+
+		/**
+		 * Checks if the obstacle is still where the footprint was taken.
+		 *
+		 * @param object the obstacle.
+		 * @return true if unchanged.
+		 */
+		boolean matches(LocalBoundedObject object) {
+			return (xLoc == object.getXLocation()) && (yLoc == object.getYLocation())
+					&& (width == object.getWidth()) && (length == object.getLength())
+					&& (facing == object.getFacing());
+		}
+
+		/**
+		 * Checks if a line intersects the footprint. As in {@link LocalAreaUtil},
+		 * the line is a thin rectangle and only an overlap with some area counts,
+		 * so this is a separating axis test of the two rectangles.
+		 *
+		 * @return true if they intersect.
+		 */
+		boolean intersectsLine(double x1, double y1, double x2, double y2) {
+			double dx = x2 - x1;
+			double dy = y2 - y1;
+			double halfLine = Math.hypot(dx, dy) / 2D;
+			if (halfLine == 0D) {
+				return false;
+			}
+
+			// The axes of the line.
+			double ux = dx / (halfLine * 2D);
+			double uy = dy / (halfLine * 2D);
+			double vx = -uy;
+			double vy = ux;
+
+			// The offset from the center of the line to the center of the rectangle.
+			double tx = xLoc - (x1 + dx / 2D);
+			double ty = yLoc - (y1 + dy / 2D);
+
+			double halfWidth = width / 2D;
+			double halfLength = length / 2D;
+
+			// The width axis of the rectangle.
+			double au = Math.abs(cos * ux + sin * uy);
+			double av = Math.abs(cos * vx + sin * vy);
+			if (Math.abs(cos * tx + sin * ty) >= halfWidth + au * halfLine + av * EDGE_MARGIN) {
+				return false;
+			}
+
+			// The length axis of the rectangle.
+			double bu = Math.abs(-sin * ux + cos * uy);
+			double bv = Math.abs(-sin * vx + cos * vy);
+			if (Math.abs(-sin * tx + cos * ty) >= halfLength + bu * halfLine + bv * EDGE_MARGIN) {
+				return false;
+			}
+
+			// The axis along the line.
+			if (Math.abs(ux * tx + uy * ty) >= halfLine + au * halfWidth + bu * halfLength) {
+				return false;
+			}
+
+			// The axis across the line.
+			return Math.abs(vx * tx + vy * ty) < EDGE_MARGIN + av * halfWidth + bv * halfLength;
+		}
+	}
+}
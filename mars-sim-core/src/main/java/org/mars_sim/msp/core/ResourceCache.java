@@ -0,0 +1,103 @@
+/**
+ * Mars Simulation Project
+ * ResourceCache.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A cache of one double value per amount resource, indexed by the resource id.
+ * Amount resource ids are small dense ints, so the values are kept in a plain
+ * array with a dirty bit for each. Looking up a value does not box or hash.
+ * The table grows if a resource is registered after it was created.
+ */
+class ResourceCache {
+
+	/** The cached values. */
+	private double[] values;
+	/** A set bit means the value is dirty. */
+	private BitSet dirty;
+
+	/**
+	 * Constructor. All values start as zero and dirty.
+	 *
+	 * @param size the expected number of resource ids
+	 */
+	ResourceCache(int size) {
+		values = new double[size];
+		dirty = new BitSet(size);
+		dirty.set(0, size);
+	}
+
+	/**
+	 * Gets the cached value of a resource.
+	 *
+	 * @param id the resource id
+	 * @return the value, or zero if never set or not a valid id
+	 */
+	double get(int id) {
+		if (id >= 0 && id < values.length)
+			return values[id];
+		return 0D;
+	}
+
+	/**
+	 * Sets the value of a resource and marks it clean. A negative id is not a
+	 * resource and is not cached.
+	 *
+	 * @param id    the resource id
+	 * @param value the value
+	 */
+	void set(int id, double value) {
+		if (id < 0)
+			return;
+		if (id >= values.length)
+			grow(id);
+		values[id] = value;
+		dirty.clear(id);
+	}
+
+	/**
+	 * Checks if the value of a resource is dirty. A resource that has never been
+	 * set, or a negative id, is dirty.
+	 *
+	 * @param id the resource id
+	 * @return true if dirty
+	 */
+	boolean isDirty(int id) {
+		return id < 0 || id >= values.length || dirty.get(id);
+	}
+
+	/**
+	 * Marks the value of a resource as dirty.
+	 *
+	 * @param id the resource id
+	 */
+	void setDirty(int id) {
+		if (id >= 0 && id < values.length)
+			dirty.set(id);
+	}
+
+	/**
+	 * Marks all values as dirty.
+	 */
+	void setAllDirty() {
+		dirty.set(0, values.length);
+	}
+
+	/**
+	 * Grows the table to hold a resource id.
+	 *
+	 * @param id the resource id
+	 */
+	private void grow(int id) {
+		int oldSize = values.length;
+		int newSize = Math.max(id + 1, oldSize * 2);
+		values = Arrays.copyOf(values, newSize);
+		dirty.set(oldSize, newSize);
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * Mars Simulation Project
+ * SaveCodec.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.tukaani.xz.LZMA2Options;
+import org.tukaani.xz.XZInputStream;
+import org.tukaani.xz.XZOutputStream;
+
+/**
+ * The compression codecs available for a saved sim. Both produce a .sim file.
+ * The codec of an existing file is detected from its first bytes when loading.
+ */
+public enum SaveCodec {
+
+	/** LZMA2 at preset 7. The smallest files but the slowest to write. */
+	XZ,
+	/** Deflate at its fastest level. Larger files but several times faster. */
+	FAST;
+
+	/** The LZMA2 preset. For mid sized archives (>8mb), 7 works better than the default of 6. */
+	private static final int XZ_PRESET = 7;
+	/** The memory limit of the xz decoder in KB. */
+	private static final int XZ_MEMORY_LIMIT = 256 * 1024;
+	/** The buffer size of the deflate streams. */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Wraps an output stream with the compressor of this codec.
+	 *
+	 * @param out the underlying stream
+	 * @return the compressing stream
+	 * @throws IOException
+	 */
+	public OutputStream compress(OutputStream out) throws IOException {
+		if (this == FAST) {
+			return new GZIPOutputStream(out, BUFFER_SIZE) {
+				{
+					def.setLevel(Deflater.BEST_SPEED);
+				}
+			};
+		}
+
+		// Using the default integrity check type (CRC64)
+		return new XZOutputStream(out, new LZMA2Options(XZ_PRESET));
+	}
+
+	/**
+	 * Wraps an input stream with the decompressor matching the codec that the
+	 * stream was written with.
+	 *
+	 * @param in the underlying stream. Must support mark and reset.
+	 * @return the decompressing stream
+	 * @throws IOException
+	 */
+	public static InputStream decompress(InputStream in) throws IOException {
+		in.mark(2);
+		int b0 = in.read();
+		int b1 = in.read();
+		in.reset();
+
+		// Check the gzip magic number 0x1f8b
+		if (b0 == 0x1f && b1 == 0x8b)
+			return new GZIPInputStream(in, BUFFER_SIZE);
+
+		return new XZInputStream(in, XZ_MEMORY_LIMIT);
+	}
+
+	/**
+	 * Gets the codec by its name.
+	 *
+	 * @param name the name of the codec, case insensitive
+	 * @return the codec
+	 */
+	public static SaveCodec fromName(String name) {
+		for (SaveCodec c : values()) {
+			if (c.name().equalsIgnoreCase(name))
+				return c;
+		}
+		throw new IllegalArgumentException("Unknown save codec : " + name);
+	}
+}
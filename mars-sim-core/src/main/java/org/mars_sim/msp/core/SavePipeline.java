@@ -0,0 +1,375 @@
+/**
+ * Mars Simulation Project
+ * SavePipeline.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The SavePipeline hands the serialized simulation to a compressor on a
+ * background writer thread as a queue of chunks. It runs in one of two modes.
+ * <br>
+ * 1. Capture : the queue may grow up to the capture limit, 64 MB by default but
+ * never more than a sixteenth of the maximum heap. A world that fits is copied
+ * into an immutable capture as fast as it can be serialized and the clock
+ * resumes right after, while the writer encodes the capture. A larger world
+ * fills the queue and the rest is streamed.
+ * <br>
+ * 2. Stream : the queue holds at most a few megabytes. The serializing thread
+ * waits for the compressor, which keeps the heap low but the pause longer.
+ * <br>
+ * In both modes the serialization itself runs on the thread that saves, with
+ * the clock stopped. Only the compression and the writing are taken off it.
+ */
+public class SavePipeline {
+
+	/** default logger. */
+	private static Logger logger = Logger.getLogger(SavePipeline.class.getName());
+
+	/** The size of each chunk in bytes. */
+	private static final int CHUNK_SIZE = 256 * 1024;
+	/** The maximum number of chunks waiting to be compressed in stream mode. */
+	private static final int STREAM_QUEUE_SIZE = 16;
+	/** The default maximum size of a capture in bytes. */
+	public static final long DEFAULT_CAPTURE_LIMIT = Math.min(64L * 1024 * 1024,
+			Runtime.getRuntime().maxMemory() / 16);
+	/** The marker of the last chunk. */
+	private static final byte[] END = new byte[0];
+
+	/** The thread that compresses and writes the saved sims. */
+	private static ExecutorService writer;
+
+	private File file;
+	private SaveCodec codec;
+	/** The task to run if the file could not be written. */
+	private Runnable onFailure;
+	/** The time the save started (in nanos). */
+	private long startTime;
+	/** The time the snapshot was captured (in nanos). */
+	private long snapshotTime;
+	/** True if the snapshot has been captured. */
+	private boolean captured;
+
+	/** The chunks waiting to be compressed. */
+	private BlockingQueue<byte[]> queue;
+	/** The stream the simulation is serialized into. */
+	private ChunkOutputStream out = new ChunkOutputStream();
+	/** Counts down when the writer is done. */
+	private CountDownLatch done = new CountDownLatch(1);
+	/** The error of the writer, if any. */
+	private volatile IOException error;
+
+	/**
+	 * Constructor. Starts the writer.
+	 *
+	 * @param file      the file to write to
+	 * @param codec     the compression codec
+	 * @param capture   true to capture the snapshot, up to the default limit,
+	 *                  before waiting for the compressor, false to stream it
+	 *                  through a small buffer
+	 * @param onFailure the task to run on the writer thread if the file could
+	 *                  not be written
+	 */
+	public SavePipeline(File file, SaveCodec codec, boolean capture, Runnable onFailure) {
+		this(file, codec, capture ? DEFAULT_CAPTURE_LIMIT : 0L, onFailure);
+	}
+
+	/**
+	 * Constructor. Starts the writer.
+	 *
+	 * @param file         the file to write to
+	 * @param codec        the compression codec
+	 * @param captureLimit the maximum size in bytes of the snapshot captured
+	 *                     before waiting for the compressor, or 0 to stream it
+	 *                     through a small buffer
+	 * @param onFailure    the task to run on the writer thread if the file could
+	 *                     not be written
+	 */
+	public SavePipeline(File file, SaveCodec codec, long captureLimit, Runnable onFailure) {
+		if (captureLimit < 0)
+			throw new IllegalArgumentException("captureLimit must not be negative: " + captureLimit);
+		this.file = file;
+		this.codec = codec;
+		this.onFailure = onFailure;
+
+		int chunks = (int) Math.min(Integer.MAX_VALUE, captureLimit / CHUNK_SIZE);
+		if (chunks > STREAM_QUEUE_SIZE)
+			queue = new LinkedBlockingQueue<>(chunks);
+		else
+			queue = new ArrayBlockingQueue<>(STREAM_QUEUE_SIZE);
+
+		resetPeakHeap();
+		startTime = System.nanoTime();
+		getWriter().execute(this::write);
+	}
+
+	/**
+	 * Gets the writer thread.
+	 *
+	 * @return {@link ExecutorService}
+	 */
+	private static synchronized ExecutorService getWriter() {
+		if (writer == null) {
+			writer = Executors.newSingleThreadExecutor(r -> {
+				Thread t = new Thread(r, "save-writer");
+				t.setPriority(Thread.NORM_PRIORITY - 1);
+				// Simulation.awaitSave() is called before exiting
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		return writer;
+	}
+
+	/**
+	 * Gets the stream to serialize the simulation into.
+	 *
+	 * @return {@link OutputStream}
+	 */
+	public OutputStream getOutputStream() {
+		return out;
+	}
+
+	/**
+	 * Marks the end of the serialized data. From this point on, the simulation may
+	 * change without affecting the saved sim.
+	 *
+	 * @throws IOException if the writer has failed
+	 */
+	public void snapshotCaptured() throws IOException {
+		out.close();
+		snapshotTime = System.nanoTime();
+		captured = true;
+	}
+
+	/**
+	 * Checks if the snapshot has been captured.
+	 *
+	 * @return true if captured
+	 */
+	public boolean isCaptured() {
+		return captured;
+	}
+
+	/**
+	 * Aborts the save after the serialization has failed. The writer stops and
+	 * runs the failure task.
+	 */
+	public void abort() {
+		if (error == null)
+			error = new IOException("Aborted saving " + file);
+		queue.clear();
+		queue.offer(END);
+	}
+
+	/**
+	 * Gets the size of the snapshot.
+	 *
+	 * @return the size in bytes
+	 */
+	public long getSnapshotSize() {
+		return out.size;
+	}
+
+	/**
+	 * Gets the maximum number of bytes waiting to be compressed.
+	 *
+	 * @return the size in bytes
+	 */
+	long getBufferSize() {
+		return (long) (queue.size() + queue.remainingCapacity()) * CHUNK_SIZE;
+	}
+
+	/**
+	 * Gets the time taken to capture the snapshot.
+	 *
+	 * @return the time in milliseconds
+	 */
+	public long getSnapshotMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(snapshotTime - startTime);
+	}
+
+	/**
+	 * Waits for the writer to finish.
+	 *
+	 * @throws IOException if the file could not be written
+	 */
+	public void await() throws IOException {
+		try {
+			done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (error != null)
+			throw error;
+	}
+
+	/**
+	 * Checks if the writer has finished.
+	 *
+	 * @return true if done
+	 */
+	public boolean isDone() {
+		return done.getCount() == 0;
+	}
+
+	/**
+	 * Compresses the chunks into the file. Runs on the writer thread.
+	 */
+	private void write() {
+		try (OutputStream os = codec.compress(new BufferedOutputStream(new FileOutputStream(file), CHUNK_SIZE))) {
+			byte[] chunk;
+			while ((chunk = queue.take()) != END) {
+				os.write(chunk);
+			}
+			if (error != null)
+				throw error;
+		} catch (IOException e) {
+			error = e;
+		} catch (InterruptedException e) {
+			error = new IOException("Interrupted while writing " + file, e);
+		} catch (RuntimeException e) {
+			error = new IOException(e);
+		}
+
+		if (error != null) {
+			logger.log(Level.SEVERE, "Could not write " + file + " : " + error.getMessage(), error);
+			// Unblock the serializing thread
+			queue.clear();
+			// Do not leave a partial file behind
+			file.delete();
+			if (onFailure != null)
+				onFailure.run();
+		}
+
+		else {
+			logger.config("Saved " + file.getName() + " with the " + codec + " codec in "
+					+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms. File size : "
+					+ Math.round(file.length() / 1_000.0) / 1_000.0 + " MB. Peak heap : "
+					+ Math.round(getPeakHeap() / 1_000_000.0) + " MB.");
+		}
+
+		done.countDown();
+	}
+
+	/**
+	 * Resets the peak usage of the heap memory pools.
+	 */
+	private static void resetPeakHeap() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP)
+				pool.resetPeakUsage();
+		}
+	}
+
+	/**
+	 * Gets the sum of the peak usage of the heap memory pools since the last reset.
+	 *
+	 * @return the peak heap in bytes
+	 */
+	private static long getPeakHeap() {
+		long sum = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null)
+				sum += pool.getPeakUsage().getUsed();
+		}
+		return sum;
+	}
+
+	/**
+	 * Cuts the serialized data into chunks and hands them to the writer. Blocks
+	 * when the queue is full.
+	 */
+	private class ChunkOutputStream extends OutputStream {
+
+		private byte[] buf = new byte[CHUNK_SIZE];
+		private int count;
+		private long size;
+		private boolean closed;
+
+		@Override
+		public void write(int b) throws IOException {
+			if (count == buf.length)
+				flushChunk();
+			buf[count++] = (byte) b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				if (count == buf.length)
+					flushChunk();
+				int n = Math.min(len, buf.length - count);
+				System.arraycopy(b, off, buf, count, n);
+				count += n;
+				off += n;
+				len -= n;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!closed) {
+				closed = true;
+				if (count > 0)
+					flushChunk();
+				put(END);
+			}
+		}
+
+		/**
+		 * Hands the current chunk to the writer and starts a new one.
+		 */
+		private void flushChunk() throws IOException {
+			size += count;
+			put(buf);
+			buf = new byte[CHUNK_SIZE];
+			count = 0;
+		}
+
+		/**
+		 * Puts a chunk into the queue, giving up if the writer has failed.
+		 *
+		 * @param chunk
+		 */
+		private void put(byte[] chunk) throws IOException {
+			if (chunk != END && count < chunk.length) {
+				byte[] last = new byte[count];
+				System.arraycopy(chunk, 0, last, 0, count);
+				chunk = last;
+			}
+
+			try {
+				while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+					if (error != null)
+						throw error;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while saving " + file, e);
+			}
+
+			if (error != null)
+				throw error;
+		}
+	}
+}
@@ -7,16 +7,11 @@
 package org.mars_sim.msp.core;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InvalidObjectException;
 import java.io.NotActiveException;
 import java.io.NotSerializableException;
@@ -127,20 +122,17 @@ import org.mars_sim.msp.core.time.MasterClock;
 import org.mars_sim.msp.core.time.SystemDateTime;
 import org.mars_sim.msp.core.time.UpTimer;
 import org.mars_sim.msp.core.tool.CheckSerializedSize;
+import org.mars_sim.msp.core.tool.RandomUtil;
+import org.mars_sim.msp.core.tool.TickProfiler;
 import org.mars_sim.msp.core.vehicle.GroundVehicle;
 import org.mars_sim.msp.core.vehicle.Rover;
 import org.mars_sim.msp.core.vehicle.Vehicle;
-import org.tukaani.xz.FilterOptions;
-import org.tukaani.xz.LZMA2Options;
-import org.tukaani.xz.XZInputStream;
-import org.tukaani.xz.XZOutputStream;
 
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.google.common.io.ByteStreams;
 
 //import mikera.gui.Frames;
 //import mikera.gui.JConsole;
@@ -166,6 +158,12 @@ public class Simulation implements ClockListener, Serializable {
 	public static final int AUTOSAVE_AS_DEFAULT = 3;
 	/**  The mode to save with build info/date/time stamp. */
 	public static final int AUTOSAVE = 4;
+	/** The names of the random streams of a deterministic run. */
+	private static final String INIT_STREAM = "Initialization";
+	private static final String MARS_STREAM = "Mars";
+	private static final String MISSION_STREAM = "Missions";
+	private static final String SCIENCE_STREAM = "Science";
+	private static final String TRANSPORT_STREAM = "Transport";
 	/** # of thread(s). */
 	public static final int NUM_THREADS = Runtime.getRuntime().availableProcessors();
 	/** User's home directory string. */
@@ -234,6 +232,12 @@ public class Simulation implements ClockListener, Serializable {
 	private static boolean autosaveDefault;
 	
 	private static boolean clockOnPause = false;
+	/** The compression codec of the saved sims. */
+	private static SaveCodec saveCodec = SaveCodec.XZ;
+	/** True if saves capture the whole snapshot before waiting for the compressor. */
+	private static boolean captureSaves = true;
+	/** The maximum size in bytes of a captured snapshot. */
+	private static long saveCaptureLimit = SavePipeline.DEFAULT_CAPTURE_LIMIT;
 	
 	private boolean initialSimulationCreated = false;
 
@@ -251,6 +255,8 @@ public class Simulation implements ClockListener, Serializable {
 	private transient ExecutorService clockThreadExecutor;
 	/** The simulation thread executor service. */
 	private transient ExecutorService simExecutor;
+	/** The pipeline of the last save. */
+	private transient SavePipeline savePipeline;
 
 	// Intransient data members (stored in save file)
 	/** Planet Mars. */
@@ -383,7 +389,9 @@ public class Simulation implements ClockListener, Serializable {
 		sim.initialSimulationCreated = true;
 
 		// Initialize intransient data members.
+		RandomUtil.useStream(INIT_STREAM);
 		sim.initializeIntransientData(timeRatio, loadSaveSim);
+		RandomUtil.clearStream();
 
 		// Initialize transient data members.
 //        sim.initializeTransientData(); // done in the constructor already (MultiplayerClient needs HistoricalEnventManager)
@@ -641,36 +649,15 @@ public class Simulation implements ClockListener, Serializable {
     public void deserialize(File file) throws IOException,
             ClassNotFoundException {
 
-//		byte[] buf = new byte[8192];
 		FileInputStream in = null;
-	    XZInputStream xzin = null;
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-	    InputStream is = null;
 	    ObjectInputStream ois = null;
 
 		try {
 			in = new FileInputStream(file);
-			// Replace gzip with xz compression (based on LZMA2)
-			// Since XZInputStream does some buffering internally
-			// anyway, BufferedInputStream doesn't seem to be
-			// needed here to improve performance.
-			// in = new BufferedInputStream(in);
-			
-			// Limit memory usage to 256 MB
-			xzin = new XZInputStream(new BufferedInputStream(in), 256 * 1024);
-//			int size;
-//			while ((size = xzin.read(buf)) != -1)
-//				baos.write(buf, 0, size);			
-			ByteStreams.copy(xzin, baos);
-			
-			//see https://stackoverflow.com/questions/26960997/convert-outputstream-to-bytearrayoutputstream
-//			byte[] bytes = new byte[8];
-//			baos.write(bytes);
-//			baos.writeTo(os);
-
-//			is = new ByteArrayInputStream(baos.toByteArray());
-//			ois = new ObjectInputStream(is);
-			ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+			// Read the objects straight from the decompressor instead of
+			// inflating the whole file in memory first. The codec is detected
+			// from the first bytes of the file.
+			ois = new ObjectInputStream(SaveCodec.decompress(new BufferedInputStream(in, 256 * 1024)));
 
 			// Load intransient objects.
 //			SimulationConfig.setInstance((SimulationConfig) ois.readObject());	
@@ -754,18 +741,6 @@ public class Simulation implements ClockListener, Serializable {
 			if (in != null) {
 				in.close();
 			}
-
-			if (xzin != null) {
-				xzin.close();
-			}
-
-			if (is != null) {
-				is.close();
-			}
-
-			if (baos != null) {
-				baos.close();
-			}
 		}
 
     }
@@ -1046,8 +1021,14 @@ public class Simulation implements ClockListener, Serializable {
 	 * @param file the file to be saved to.
 	 */
 	public synchronized void saveSimulation(int type, File file) throws IOException {
+		// Let the previous save finish writing before touching the files
+		awaitSave();
+
+		long t0 = System.nanoTime();
 		Simulation sim = instance();
 		sim.halt();
+		// Let the pulses in flight finish so that the simulation is at a tick boundary
+		masterClock.awaitClockPulses();
 
 		// Experiment with saving in JSON format
 //		writeJSON();
@@ -1124,6 +1105,63 @@ public class Simulation implements ClockListener, Serializable {
 		
 		sim.proceed();
 
+		logger.config("The simulation resumed after a pause of " 
+				+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0) + " ms.");
+	}
+
+	/**
+	 * Waits for the last save to be completely written.
+	 */
+	public void awaitSave() {
+		if (savePipeline != null) {
+			try {
+				savePipeline.await();
+			} catch (IOException e) {
+				// Already logged by the pipeline
+			}
+			savePipeline = null;
+		}
+	}
+
+	/**
+	 * Sets the compression codec of the saved sims.
+	 * 
+	 * @param codec
+	 */
+	public static void setSaveCodec(SaveCodec codec) {
+		saveCodec = codec;
+	}
+
+	/**
+	 * Sets if saves capture the whole snapshot before waiting for the compressor.
+	 * If false, the snapshot is streamed through a small buffer, which uses less
+	 * heap but keeps the clock stopped until most of it is compressed.
+	 * 
+	 * @param value
+	 */
+	public static void setCaptureSaves(boolean value) {
+		captureSaves = value;
+	}
+
+	/**
+	 * Sets the maximum size of a captured snapshot. The part of a larger snapshot
+	 * is streamed through the compressor.
+	 * 
+	 * @param bytes the size in bytes
+	 */
+	public static void setSaveCaptureLimit(long bytes) {
+		if (bytes < 0)
+			throw new IllegalArgumentException("The capture limit must not be negative: " + bytes);
+		saveCaptureLimit = bytes;
+	}
+
+	/**
+	 * Gets the compression codec of the saved sims.
+	 * 
+	 * @return {@link SaveCodec}
+	 */
+	public static SaveCodec getSaveCodec() {
+		return saveCodec;
 	}
 
 	/**
@@ -1140,28 +1178,31 @@ public class Simulation implements ClockListener, Serializable {
     }
     
     /**
-     * Serialize the given object and save it to a given file.
+     * Serialize the given object and save it to a given file. The objects are
+     * captured by the save pipeline, which compresses and writes them on its own
+     * thread. Returns as soon as the last object has been serialized, so the clock
+     * only stops for the capture.
      */
     public void serialize(int type, File file, Path srcPath, Path destPath)
             throws IOException {
 
-		// Replace gzip with xz compression (based on LZMA2)
-		// See (1)
-		// http://stackoverflow.com/questions/5481487/how-to-use-lzma-sdk-to-compress-decompress-in-java
-		// (2) http://tukaani.org/xz/xz-javadoc/
-
-		// STEP 1: combine all objects into one single uncompressed file, namely
-		// "default"
+		// Restore the backup of default.sim if the file cannot be written
+		Runnable restoreBackup = () -> {
+			if ((type == AUTOSAVE_AS_DEFAULT || type == SAVE_DEFAULT) && destPath != null 
+					&& destPath.toFile().exists()) {
+				try {
+					Files.move(destPath, srcPath, StandardCopyOption.REPLACE_EXISTING);
+				} catch (IOException e) {
+					logger.log(Level.SEVERE, "Could not restore the backup of " + srcPath, e);
+				}
+			}
+		};
 		
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-	    ObjectOutputStream oos = new ObjectOutputStream(baos);
-	    InputStream is = null;
-		XZOutputStream xzout = null;
+		SavePipeline pipeline = new SavePipeline(file, saveCodec, captureSaves ? saveCaptureLimit : 0L, restoreBackup);
+		savePipeline = pipeline;
+	    ObjectOutputStream oos = new ObjectOutputStream(pipeline.getOutputStream());
 		
 		try {
-	
-			// Set a delay for 200 millis to avoid java.util.ConcurrentModificationException
-			delay(500L);
 			
 			// Store the in-transient objects.
 //			oos.writeObject(SimulationConfig.instance());
@@ -1179,38 +1220,13 @@ public class Simulation implements ClockListener, Serializable {
 			oos.writeObject(masterClock);
 
 			oos.flush();
-			oos.close();
-
-		    is = new ByteArrayInputStream(baos.toByteArray());
-		    
-			// Print the size of each serializable object
-//			System.out.println(printObjectSize(0).toString());
 			
-			// Using the default settings and the default integrity check type (CRC64)
-			LZMA2Options lzma2 = new LZMA2Options(7);
-			// Set to 6. For mid sized archives (>8mb), 7 works better.
-			//lzma2.setPreset(8);
-			FilterOptions[] options = {lzma2};
-			
-			// Using the x86 BCJ filter // 424KB
-//			X86Options x86 = new X86Options();
-//			LZMA2Options lzma2 = new LZMA2Options();
-//			FilterOptions[] options = { x86, lzma2 };
-			logger.config("Encoder memory usage : "
-		              + Math.round(FilterOptions.getEncoderMemoryUsage(options)/1_000.0*100.00)/100.00 + " MB");
-			logger.config("Decoder memory usage : "
-		              + Math.round(FilterOptions.getDecoderMemoryUsage(options)/1_000.0*100.00)/100.00 + " MB");
-		
-			xzout = new XZOutputStream(new BufferedOutputStream(new FileOutputStream(file)), options);
-		
-			ByteStreams.copy(is, xzout);
-			
-			xzout.finish();
-			
-			// Print the size of the saved sim
-			logger.config("           File size : " + computeFileSize(file));
+			// The remaining chunks are compressed while the simulation runs
+			pipeline.snapshotCaptured();
+
+			logger.config("Captured the snapshot of " + Math.round(pipeline.getSnapshotSize() / 1_000.0) / 1_000.0 
+					+ " MB in " + pipeline.getSnapshotMillis() + " ms.");
 			
-			logger.config("Done saving. The simulation resumes.");
 		// Note: see https://docs.oracle.com/javase/7/docs/platform/serialization/spec/exceptions.html
 		} catch (WriteAbortedException e) {
 			// Thrown when reading a stream terminated by an exception that occurred while the stream was being written.
@@ -1247,47 +1263,18 @@ public class Simulation implements ClockListener, Serializable {
 			logger.log(Level.SEVERE, oos.getClass().getSimpleName() + ": " + Msg.getString("Simulation.log.saveError"), e0); //$NON-NLS-1$
 			e0.printStackTrace();
 
-			if (type == AUTOSAVE_AS_DEFAULT || type == SAVE_DEFAULT) {
-//	            backupFile = new File(DEFAULT_DIR, DEFAULT_FILE + DEFAULT_EXTENSION);
-//	            backupFile.renameTo(file);
-
-				if (file.exists() && !file.isDirectory()) {
-					// Backup the existing default.sim
-					Files.move(destPath, srcPath, StandardCopyOption.REPLACE_EXISTING);
-				}
-			}
-
 		} catch (Exception e) {
 			logger.log(Level.SEVERE, oos.getClass().getSimpleName() + ": " + Msg.getString("Simulation.log.saveError"), e); //$NON-NLS-1$
 			e.printStackTrace();
 
-			if (type == AUTOSAVE_AS_DEFAULT || type == SAVE_DEFAULT) {
-//	            backupFile = new File(DEFAULT_DIR, DEFAULT_FILE + DEFAULT_EXTENSION);
-//	            backupFile.renameTo(file);
-
-				if (file.exists() && !file.isDirectory()) {
-					// backup the existing default.sim
-					Files.move(destPath, srcPath, StandardCopyOption.REPLACE_EXISTING);
-				}
-			}
-
 		}
 
 		finally {
-		
-			if (xzout != null) {
-				xzout.close();
-				xzout.finish();
-			}
 			
-			if (oos != null)
-				oos.close();
-			
-			if (is != null)
-				is.close();
-			
-			if (baos != null)
-				baos.close();
+			if (!pipeline.isCaptured()) {
+				// Discard the partial file. The writer restores the backup.
+				pipeline.abort();
+			}
 			
 			justSaved = true;
 
@@ -1423,6 +1410,7 @@ public class Simulation implements ClockListener, Serializable {
 	 * Ends the current simulation
 	 */
 	public void endSimulation() {
+		awaitSave();
 		interactiveTerm.setKeepRunning(false);
 		interactiveTerm.disposeTerminal();
 		instance().defaultLoad = false;
@@ -1430,6 +1418,7 @@ public class Simulation implements ClockListener, Serializable {
 		masterClock.endClockListenerExecutor();
 		if (clockThreadExecutor != null)
 			clockThreadExecutor.shutdownNow();
+		UnitTickEngine.shutdown();
 	}
 
 	public void endMasterClock() {
@@ -1676,15 +1665,20 @@ public class Simulation implements ClockListener, Serializable {
 //				logger.fine(Msg.getString("Simulation.log.clockPulseMars", //$NON-NLS-1$
 //						ut.getUptime(), mars.toString()));
 //			}
+			long start = TickProfiler.start();
+			RandomUtil.useStream(MARS_STREAM);
 			mars.timePassing(time);
 			ut.updateTime();
+			start = record("Mars", start);
 
 //			if (debug) {
 //				logger.fine(Msg.getString("Simulation.log.clockPulseMissionManager", //$NON-NLS-1$
 //						masterClock.getUpTimer().getUptime(), missionManager.toString()));
 //			}
+			RandomUtil.useStream(MISSION_STREAM);
 			missionManager.timePassing(time);
 			ut.updateTime();
+			start = record("MissionManager", start);
 
 //			if (debug) {
 //				logger.fine(Msg.getString("Simulation.log.clockPulseUnitManager", //$NON-NLS-1$
@@ -1692,22 +1686,40 @@ public class Simulation implements ClockListener, Serializable {
 //			}
 			unitManager.timePassing(time);
 			ut.updateTime();
+			start = record("UnitManager", start);
 
 //			if (debug) {
 //				logger.fine(Msg.getString("Simulation.log.clockPulseScientificStudyManager", //$NON-NLS-1$
 //						masterClock.getUpTimer().getUptime(), scientificStudyManager.toString()));
 //			}
+			RandomUtil.useStream(SCIENCE_STREAM);
 			scientificStudyManager.updateStudies();
 			ut.updateTime();
+			start = record("ScientificStudyManager", start);
 
 //			if (debug) {
 //				logger.fine(Msg.getString("Simulation.log.clockPulseTransportManager", //$NON-NLS-1$
 //						masterClock.getUpTimer().getUptime(), transportManager.toString()));
 //			}
+			RandomUtil.useStream(TRANSPORT_STREAM);
 			transportManager.timePassing(time);
+			record("TransportManager", start);
+			RandomUtil.clearStream();
 		}
 	}
 
+	/**
+	 * Records the time spent in a manager during the time pulse.
+	 * 
+	 * @param manager the name of the manager
+	 * @param start   the start time of the manager
+	 * @return the start time of the next manager
+	 */
+	private static long record(String manager, long start) {
+		TickProfiler.record(TickProfiler.Category.MANAGER, manager, start);
+		return TickProfiler.start();
+	}
+
 	public boolean getAutosaveDefault() {
 		return autosaveDefault;
 	}
@@ -85,6 +85,9 @@ public abstract class Unit implements Serializable, Comparable<Unit> {
 
 	protected LocationStateType currentStateType;
 
+	/** The unit manager tick of the last unit update event. */
+	private volatile long lastChangeTick;
+
 	/** Unit listeners. */
 	private transient List<UnitListener> listeners;// = Collections.synchronizedList(new ArrayList<UnitListener>());
 
@@ -537,6 +540,17 @@ public abstract class Unit implements Serializable, Comparable<Unit> {
 		return name;
 	}
 
+	/**
+	 * Gets the hash code from the identifier, so that the order of the units in
+	 * a hash map does not depend on the thread that first hashed them.
+	 *
+	 * @return the identifier
+	 */
+	@Override
+	public int hashCode() {
+		return identifier;
+	}
+
     public String getCode() {
         return getClass().getName() + "@" + Integer.toHexString(hashCode());
     }
@@ -607,23 +621,49 @@ public abstract class Unit implements Serializable, Comparable<Unit> {
 		// logger.info("Unit's fireUnitUpdate() is on " +
 		// Thread.currentThread().getName() + " Thread");
 
-		if (listeners == null || listeners.size() < 1) {
-			// listeners = Collections.synchronizedList(new ArrayList<UnitListener>());
+		markChanged();
+
+		UnitManager unitManager = getUnitManager();
+		UnitEventBus bus = (unitManager != null) ? unitManager.getEventBus() : null;
+		boolean hasSubscribers = (bus != null) && bus.hasSubscribers();
+
+		if (!hasSubscribers && (listeners == null || listeners.size() < 1)) {
 			// we don't do anything if there's no listeners attached
 			return;
 		}
 		final UnitEvent ue = new UnitEvent(this, updateType, target);
+		if (hasSubscribers)
+			bus.post(ue);
+		if (listeners == null || listeners.size() < 1)
+			return;
 		synchronized (listeners) {
-			// Iterator<UnitListener> i = listeners.iterator();
-			// while (i.hasNext()) {
-			// i.next().unitUpdate(ue);
-			// }
 			for (UnitListener u : listeners) {
 				u.unitUpdate(ue);
 			}
 		}
 	}
 
+	/**
+	 * Records that the unit has changed during the current tick.
+	 */
+	void markChanged() {
+		UnitManager unitManager = getUnitManager();
+		if (unitManager != null)
+			lastChangeTick = unitManager.getTick();
+	}
+
+	/**
+	 * Gets the tick of the last change of the unit, i.e. of its last unit update
+	 * event. Values that change continuously without an event, such as the
+	 * physical condition of a person, are not tracked.
+	 * 
+	 * @return the unit manager tick.
+	 * @see UnitManager#getTick()
+	 */
+	public long getLastChangeTick() {
+		return lastChangeTick;
+	}
+
 	/**
 	 * Compares this object with the specified object for order.
 	 * 
@@ -0,0 +1,24 @@
+/**
+ * Mars Simulation Project
+ * UnitBatchListener.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core;
+
+import java.util.List;
+
+/**
+ * A subscriber of the {@link UnitEventBus}, receiving the unit events of the
+ * units as batches.
+ */
+public interface UnitBatchListener {
+
+	/**
+	 * Catch a batch of unit update events. A batch holds at most one event for
+	 * each unit and event type, the latest one.
+	 *
+	 * @param events the unit events.
+	 */
+	public void unitUpdates(List<UnitEvent> events);
+}
@@ -0,0 +1,294 @@
+/**
+ * Mars Simulation Project
+ * UnitEventBus.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The UnitEventBus collects the unit events of all units during a tick and
+ * sends them as batches to its subscribers, off the simulation thread. Repeated
+ * events of the same type for the same unit are merged, keeping the latest one.
+ * Events with a target, e.g. the resource stored, the crop or the building
+ * added, are only merged if they also have the same target. Only the events
+ * whose target is the new value of a unit property, e.g. its name or its task
+ * phase, are merged regardless of the target.
+ * <br>
+ * Each subscriber has its own executor, e.g. the event dispatch thread, and
+ * receives one batch at a time. While a subscriber is busy with a batch, the
+ * events of the next ticks keep merging into its pending batch. The pending
+ * batch is bounded; events for a new unit and event type are dropped once it is
+ * full.
+ */
+public class UnitEventBus {
+
+	/** default logger. */
+	private static Logger logger = Logger.getLogger(UnitEventBus.class.getName());
+
+	/** The default maximum size of the pending batch of a subscriber. */
+	public static final int DEFAULT_CAPACITY = 10_000;
+
+	/** The event types whose target is the new value and not part of the merge key. */
+	private static final Set<UnitEventType> LATEST_VALUE_TYPES = EnumSet.of(
+			UnitEventType.NAME_EVENT,
+			UnitEventType.DESCRIPTION_EVENT,
+			UnitEventType.LOCATION_EVENT,
+			UnitEventType.CONTAINER_UNIT_EVENT,
+			UnitEventType.ASSOCIATED_SETTLEMENT_EVENT,
+			UnitEventType.TASK_EVENT,
+			UnitEventType.TASK_NAME_EVENT,
+			UnitEventType.TASK_DESCRIPTION_EVENT,
+			UnitEventType.TASK_FUNCTION_EVENT,
+			UnitEventType.TASK_PHASE_EVENT,
+			UnitEventType.TASK_SUBTASK_EVENT,
+			UnitEventType.JOB_EVENT,
+			UnitEventType.MISSION_EVENT,
+			UnitEventType.ROLE_EVENT,
+			UnitEventType.STATUS_EVENT,
+			UnitEventType.SPEED_EVENT,
+			UnitEventType.OPERATOR_EVENT);
+
+	/** The subscriptions. */
+	private List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+	/** The events of the current tick. */
+	private Map<EventKey, UnitEvent> tickEvents = new ConcurrentHashMap<>();
+
+	/** The number of events merged with a later event. */
+	private AtomicLong mergedCount = new AtomicLong();
+	/** The number of events dropped because a subscriber was too far behind. */
+	private AtomicLong droppedCount = new AtomicLong();
+
+	/**
+	 * Subscribes a listener with the default capacity.
+	 *
+	 * @param listener the listener.
+	 * @param executor the executor running the listener.
+	 */
+	public void subscribe(UnitBatchListener listener, Executor executor) {
+		subscribe(listener, executor, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Subscribes a listener.
+	 *
+	 * @param listener the listener.
+	 * @param executor the executor running the listener.
+	 * @param capacity the maximum size of its pending batch.
+	 */
+	public void subscribe(UnitBatchListener listener, Executor executor, int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		unsubscribe(listener);
+		subscriptions.add(new Subscription(listener, executor, capacity));
+	}
+
+	/**
+	 * Unsubscribes a listener. Its pending events are discarded.
+	 *
+	 * @param listener the listener.
+	 */
+	public void unsubscribe(UnitBatchListener listener) {
+		for (Subscription s : subscriptions) {
+			if (s.listener == listener) {
+				s.cancel();
+				subscriptions.remove(s);
+			}
+		}
+	}
+
+	/**
+	 * Checks if the bus has any subscriber.
+	 *
+	 * @return true if there is a subscriber.
+	 */
+	public boolean hasSubscribers() {
+		return !subscriptions.isEmpty();
+	}
+
+	/**
+	 * Posts a unit event for the current tick.
+	 *
+	 * @param event the unit event.
+	 */
+	public void post(UnitEvent event) {
+		if (subscriptions.isEmpty())
+			return;
+		UnitEventType type = event.getType();
+		Object target = LATEST_VALUE_TYPES.contains(type) ? null : event.getTarget();
+		EventKey key = new EventKey((Unit) event.getSource(), type, target);
+		if (tickEvents.put(key, event) != null)
+			mergedCount.incrementAndGet();
+	}
+
+	/**
+	 * Sends the events of the tick to the subscribers. Called by the unit
+	 * manager at the end of each tick.
+	 */
+	public void flush() {
+		if (tickEvents.isEmpty())
+			return;
+
+		// Take each event out with remove(key), so that an event posted for the
+		// same key while flushing is either in this batch or left for the next.
+		Map<EventKey, UnitEvent> batch = new LinkedHashMap<>();
+		Iterator<EventKey> i = tickEvents.keySet().iterator();
+		while (i.hasNext()) {
+			EventKey key = i.next();
+			UnitEvent event = tickEvents.remove(key);
+			if (event != null)
+				batch.put(key, event);
+		}
+
+		for (Subscription s : subscriptions) {
+			s.offer(batch);
+		}
+	}
+
+	/**
+	 * Gets the number of events merged with a later event of the same unit and
+	 * type.
+	 *
+	 * @return count
+	 */
+	public long getMergedCount() {
+		return mergedCount.get();
+	}
+
+	/**
+	 * Gets the number of events dropped because a subscriber was too far behind.
+	 *
+	 * @return count
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * The key of an event : the unit, the event type and the target unless it is
+	 * the latest value.
+	 */
+	private static class EventKey {
+
+		private final Unit unit;
+		private final UnitEventType type;
+		private final Object target;
+
+		EventKey(Unit unit, UnitEventType type, Object target) {
+			this.unit = unit;
+			this.type = type;
+			this.target = target;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (!(o instanceof EventKey))
+				return false;
+			EventKey k = (EventKey) o;
+			return (unit == k.unit) && (type == k.type) && Objects.equals(target, k.target);
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * System.identityHashCode(unit) + type.hashCode()) * 31 + Objects.hashCode(target);
+		}
+	}
+
+	/**
+	 * A subscriber with its pending batch.
+	 */
+	private class Subscription {
+
+		private final UnitBatchListener listener;
+		private final Executor executor;
+		private final int capacity;
+
+		/** The events not yet sent. */
+		private Map<EventKey, UnitEvent> pending = new LinkedHashMap<>();
+		/** True if a batch is scheduled on the executor or being processed. */
+		private boolean scheduled = false;
+		private volatile boolean cancelled = false;
+
+		Subscription(UnitBatchListener listener, Executor executor, int capacity) {
+			this.listener = listener;
+			this.executor = executor;
+			this.capacity = capacity;
+		}
+
+		/**
+		 * Adds the events of a tick to the pending batch and schedules the delivery
+		 * if none is on the way.
+		 *
+		 * @param events the events.
+		 */
+		synchronized void offer(Map<EventKey, UnitEvent> events) {
+			if (cancelled)
+				return;
+
+			for (Map.Entry<EventKey, UnitEvent> entry : events.entrySet()) {
+				EventKey key = entry.getKey();
+				if (pending.containsKey(key)) {
+					pending.put(key, entry.getValue());
+					mergedCount.incrementAndGet();
+				} else if (pending.size() < capacity) {
+					pending.put(key, entry.getValue());
+				} else {
+					droppedCount.incrementAndGet();
+				}
+			}
+
+			if (!scheduled && !pending.isEmpty()) {
+				scheduled = true;
+				executor.execute(this::deliver);
+			}
+		}
+
+		/**
+		 * Sends the pending batch to the listener.
+		 */
+		private void deliver() {
+			List<UnitEvent> batch;
+			synchronized (this) {
+				batch = new ArrayList<>(pending.values());
+				pending.clear();
+			}
+
+			try {
+				if (!batch.isEmpty() && !cancelled)
+					listener.unitUpdates(batch);
+			} catch (RuntimeException e) {
+				logger.log(Level.SEVERE, "Unit batch listener failed", e);
+			} finally {
+				synchronized (this) {
+					// Send what arrived in the meantime as the next batch.
+					if (!pending.isEmpty() && !cancelled)
+						executor.execute(this::deliver);
+					else
+						scheduled = false;
+				}
+			}
+		}
+
+		synchronized void cancel() {
+			cancelled = true;
+			pending.clear();
+		}
+	}
+}
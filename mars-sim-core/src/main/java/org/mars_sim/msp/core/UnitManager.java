@@ -14,6 +14,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -90,6 +91,8 @@ public class UnitManager implements Serializable {
 	
 	// Data members
 	private int solCache = 0;
+	/** The number of time pulses passed to the units. Stamps the unit changes. */
+	private volatile long tick = 0;
 
 	public String originalBuild;
 	
@@ -105,6 +108,10 @@ public class UnitManager implements Serializable {
 	public transient boolean justReloaded = false;
 	/** List of unit manager listeners. */
 	private transient List<UnitManagerListener> listeners;
+	/** The engine for sending the time pulse to all units. */
+	private transient UnitTickEngine tickEngine;
+	/** The bus for sending the unit events of each tick in batches. */
+	private transient UnitEventBus eventBus;
 
 	// Static members
 	/** List of possible settlement names. */
@@ -159,7 +166,7 @@ public class UnitManager implements Serializable {
 		marsClock = sim.getMasterClock().getMarsClock();
 
 		// Initialize unit collection
-		lookupID = new HashMap<>();
+		lookupID = new ConcurrentHashMap<>();
 		units = new CopyOnWriteArrayList<>();//ConcurrentLinkedQueue<Unit>();
 		listeners = Collections.synchronizedList(new ArrayList<UnitManagerListener>());
 		equipmentNumberMap = new HashMap<String, Integer>();
@@ -349,6 +356,30 @@ public class UnitManager implements Serializable {
 		lookupID.put(unit.getIdentifier(), unit);
 	}
 	
+	/**
+	 * Gets a unit of a given type by its identifier.
+	 * 
+	 * @param id   the unit identifier.
+	 * @param type the unit class.
+	 * @return the unit or null if there is no unit of this type with the identifier.
+	 */
+	public <T extends Unit> T getUnitByID(int id, Class<T> type) {
+		Unit unit = lookupID.get(id);
+		if (type.isInstance(unit))
+			return type.cast(unit);
+		return null;
+	}
+	
+	/**
+	 * Gets the current tick, i.e. the number of time pulses passed to the units.
+	 * 
+	 * @return the tick.
+	 * @see Unit#getLastChangeTick()
+	 */
+	public long getTick() {
+		return tick;
+	}
+	
 	/**
 	 * Adds a unit to the unit manager if it doesn't already have it.
 	 *
@@ -359,6 +390,7 @@ public class UnitManager implements Serializable {
 			units.add(unit);
 			// Track the unit's id
 			addUnitID(unit);
+			unit.markChanged();
 			
 			Iterator<Unit> i = unit.getInventory().getContainedUnits().iterator();
 			while (i.hasNext()) {
@@ -1775,10 +1807,28 @@ public class UnitManager implements Serializable {
 			justLoaded = false;
 		}
 
-		for (Unit u : units) {
-			u.timePassing(time);
-		}
+		if (tickEngine == null)
+			tickEngine = new UnitTickEngine();
+		
+		tick++;
+		tickEngine.timePassing(units, time);
 
+		getEventBus().flush();
+	}
+
+	/**
+	 * Gets the bus sending the unit events of each tick in batches.
+	 * 
+	 * @return the unit event bus.
+	 */
+	public UnitEventBus getEventBus() {
+		if (eventBus == null) {
+			synchronized (this) {
+				if (eventBus == null)
+					eventBus = new UnitEventBus();
+			}
+		}
+		return eventBus;
 	}
 
 	/**
@@ -0,0 +1,290 @@
+/**
+ * Mars Simulation Project
+ * UnitTickEngine.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+
+import org.mars_sim.msp.core.equipment.Equipment;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.person.ai.mission.VehicleMission;
+import org.mars_sim.msp.core.robot.Robot;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.tool.RandomUtil;
+import org.mars_sim.msp.core.tool.TickProfiler;
+import org.mars_sim.msp.core.vehicle.Vehicle;
+
+/**
+ * The UnitTickEngine sends the time pulse to all units. Units are partitioned
+ * by the settlement they are at. Each partition (the settlement with its
+ * buildings, and the people, robots, equipment and parked vehicles at it) is
+ * updated on a ForkJoinPool in parallel with the other partitions. Units whose
+ * work crosses settlement boundaries, such as vehicles in transit, the members
+ * of missions between settlements and the vehicles reserved for them, are
+ * updated afterward in a serial phase. Work of a partition that reaches other
+ * settlements, such as starting a mission, is deferred to the serial phase as
+ * well. Each partition draws from its own random stream, so that a
+ * deterministic run gives the same results whatever order the partitions are
+ * updated in.
+ */
+public class UnitTickEngine {
+
+	/** default logger. */
+	private static Logger logger = Logger.getLogger(UnitTickEngine.class.getName());
+
+	/** The name prefix of the random stream of each settlement. */
+	private static final String SETTLEMENT_STREAM = "Settlement-";
+	/** The name of the random stream of units not at any settlement. */
+	private static final String SERIAL_STREAM = "Transit";
+
+	/** True if the settlement partitions are updated in parallel. */
+	private static volatile boolean parallel = true;
+
+	/** The pool for updating the settlement partitions. */
+	private static ForkJoinPool pool;
+
+	/** The units grouped by the settlement they are at. */
+	private Map<Settlement, List<Unit>> partitions = new LinkedHashMap<>();
+	/** The units not at any settlement. */
+	private List<Unit> serialUnits = new ArrayList<>();
+	/** The actions deferred by each partition to the serial phase. */
+	private Map<Settlement, List<Runnable>> deferredActions = new LinkedHashMap<>();
+
+	/** The deferred actions of the partition the calling thread is updating. */
+	private static final ThreadLocal<List<Runnable>> currentDeferred = new ThreadLocal<>();
+
+	/**
+	 * Sets if the settlement partitions are updated in parallel. The
+	 * single-thread mode is meant for debugging.
+	 *
+	 * @param value true if parallel
+	 */
+	public static void setParallel(boolean value) {
+		if (parallel != value) {
+			parallel = value;
+			logger.config("Units will be updated " + (value ? "in parallel by settlement." : "on a single thread."));
+		}
+	}
+
+	/**
+	 * Checks if the settlement partitions are updated in parallel.
+	 *
+	 * @return true if parallel
+	 */
+	public static boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Gets the pool for updating the settlement partitions. Other work split by
+	 * settlement between the time pulses of the units may also use it.
+	 *
+	 * @return {@link ForkJoinPool}
+	 */
+	public static synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			pool = new ForkJoinPool(Simulation.NUM_THREADS);
+		}
+		return pool;
+	}
+
+	/**
+	 * Shuts down the pool.
+	 */
+	public static synchronized void shutdown() {
+		if (pool != null) {
+			pool.shutdownNow();
+			pool = null;
+		}
+	}
+
+	/**
+	 * Checks if the calling thread is updating a settlement partition.
+	 *
+	 * @return true if in a partition
+	 */
+	public static boolean isInPartition() {
+		return currentDeferred.get() != null;
+	}
+
+	/**
+	 * Defers an action that reaches beyond the settlement being updated, such as
+	 * starting a mission, to the serial phase of the time pulse. The actions of
+	 * each partition are run in the order they were deferred, one partition after
+	 * the other. Outside of a partition the action is run at once.
+	 *
+	 * @param action the action
+	 */
+	public static void defer(Runnable action) {
+		List<Runnable> list = currentDeferred.get();
+		if (list == null) {
+			action.run();
+		}
+		else {
+			list.add(action);
+		}
+	}
+
+	/**
+	 * Gets the settlement that owns the unit during a time pulse.
+	 *
+	 * @param unit the unit
+	 * @return the settlement or null if the unit is not at a settlement
+	 */
+	static Settlement getOwningSettlement(Unit unit) {
+		if (unit instanceof Settlement) {
+			return (Settlement) unit;
+		}
+
+		else if (unit instanceof Person) {
+			Person person = (Person) unit;
+			// Members of a mission between settlements are updated in the serial phase
+			if (person.getMind().getMission() instanceof VehicleMission)
+				return null;
+			// Include people in a vehicle parked inside a garage
+			return person.getSettlement();
+		}
+
+		else if (unit instanceof Robot) {
+			Robot robot = (Robot) unit;
+			if (robot.getBotMind().getMission() instanceof VehicleMission)
+				return null;
+			return robot.getSettlement();
+		}
+
+		else if (unit instanceof Vehicle) {
+			Vehicle vehicle = (Vehicle) unit;
+			if (vehicle.isReservedForMission())
+				return null;
+			// Parked vehicles only
+			return vehicle.getSettlement();
+		}
+
+		else if (unit instanceof Equipment) {
+			return ((Equipment) unit).getSettlement();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Sends the time pulse to the units.
+	 *
+	 * @param units the units
+	 * @param time  the amount time passing (in millisols)
+	 */
+	public void timePassing(Collection<Unit> units, double time) {
+		partition(units);
+
+		if (parallel && partitions.size() > 1) {
+			ForkJoinPool p = getPool();
+			List<ForkJoinTask<?>> tasks = new ArrayList<>(partitions.size());
+			for (Map.Entry<Settlement, List<Unit>> e : partitions.entrySet()) {
+				List<Runnable> actions = deferredActions.get(e.getKey());
+				tasks.add(p.submit(() -> {
+					timePassing(e.getKey(), e.getValue(), actions, time);
+					RandomUtil.clearStream();
+				}));
+			}
+			// Wait for all settlements to finish. Rethrows any exception from a partition.
+			for (ForkJoinTask<?> t : tasks) {
+				t.join();
+			}
+		}
+
+		else {
+			for (Map.Entry<Settlement, List<Unit>> e : partitions.entrySet()) {
+				timePassing(e.getKey(), e.getValue(), deferredActions.get(e.getKey()), time);
+			}
+		}
+
+		// Run the deferred actions in the order of the partitions, whatever order
+		// the partitions finished in
+		for (Map.Entry<Settlement, List<Runnable>> e : deferredActions.entrySet()) {
+			RandomUtil.useStream(SETTLEMENT_STREAM + e.getKey().getName());
+			for (Runnable action : e.getValue()) {
+				action.run();
+			}
+		}
+
+		// Units outside of any settlement may interact with more than one settlement
+		RandomUtil.useStream(SERIAL_STREAM);
+		for (Unit u : serialUnits) {
+			timePassing(u, time);
+		}
+
+		partitions.clear();
+		serialUnits.clear();
+		deferredActions.clear();
+	}
+
+	/**
+	 * Sends the time pulse to the units of a settlement, drawing random numbers
+	 * from the settlement's own stream.
+	 *
+	 * @param settlement the settlement
+	 * @param list       the units at the settlement
+	 * @param actions    the list to add the deferred actions to
+	 * @param time       the amount time passing (in millisols)
+	 */
+	private static void timePassing(Settlement settlement, List<Unit> list, List<Runnable> actions, double time) {
+		RandomUtil.useStream(SETTLEMENT_STREAM + settlement.getName());
+		currentDeferred.set(actions);
+		try {
+			for (Unit u : list) {
+				timePassing(u, time);
+			}
+		} finally {
+			currentDeferred.remove();
+		}
+	}
+
+	/**
+	 * Sends the time pulse to a unit.
+	 *
+	 * @param unit the unit
+	 * @param time the amount time passing (in millisols)
+	 */
+	private static void timePassing(Unit unit, double time) {
+		long start = TickProfiler.start();
+		unit.timePassing(time);
+		TickProfiler.record(TickProfiler.Category.UNIT, unit.getClass(), start);
+	}
+
+	/**
+	 * Groups the units by their owning settlement, keeping their original order.
+	 *
+	 * @param units the units
+	 */
+	private void partition(Collection<Unit> units) {
+		partitions.clear();
+		serialUnits.clear();
+		deferredActions.clear();
+
+		for (Unit u : units) {
+			Settlement s = getOwningSettlement(u);
+			if (s == null) {
+				serialUnits.add(u);
+			}
+			else {
+				List<Unit> list = partitions.get(s);
+				if (list == null) {
+					list = new ArrayList<>();
+					partitions.put(s, list);
+					deferredActions.put(s, new ArrayList<>());
+				}
+				list.add(u);
+			}
+		}
+	}
+}
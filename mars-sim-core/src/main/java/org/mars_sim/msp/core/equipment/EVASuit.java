@@ -152,13 +152,13 @@ public class EVASuit extends Equipment implements LifeSupportType, Serializable,
 		try {
 			if (getInventory().getAmountResourceStored(ResourceUtil.oxygenID, false) <= 0D) {
 				LogConsolidated.log(Level.WARNING, 5000, sourceName,
-						"[" + this.getLocationTag().getLocale() + "] " 
+						() -> "[" + this.getLocationTag().getLocale() + "] " 
 								+ this.getName() + " ran out of oxygen.");
 				return false;
 			}
 			if (getInventory().getAmountResourceStored(ResourceUtil.waterID, false) <= 0D) {
 				LogConsolidated.log(Level.WARNING, 5000, sourceName,
-						"[" + this.getLocationTag().getLocale() + "] " 
+						() -> "[" + this.getLocationTag().getLocale() + "] " 
 								+ this.getName() + " ran out of water.");
 //				return false;
 			}
@@ -178,14 +178,14 @@ public class EVASuit extends Equipment implements LifeSupportType, Serializable,
 			double p = getAirPressure();
 			if (p > PhysicalCondition.MAXIMUM_AIR_PRESSURE || p <= minimum_air_pressure) {
 				LogConsolidated.log(Level.WARNING, 5000, sourceName,
-						"[" + this.getLocationTag().getLocale() + "] " 
+						() -> "[" + this.getLocationTag().getLocale() + "] " 
 								+ this.getName() + " detected improper air pressure at " + Math.round(p * 10D) / 10D);
 				return false;
 			}
 			double t = getTemperature();
 			if (t > NORMAL_TEMP + 15 || t < NORMAL_TEMP - 20) {
 				LogConsolidated.log(Level.WARNING, 5000, sourceName,
-						"[" + this.getLocationTag().getLocale() + "] " 
+						() -> "[" + this.getLocationTag().getLocale() + "] " 
 								+ this.getName() + " detected improper temperature at " + Math.round(t * 10D) / 10D);
 				return false;
 			}
@@ -0,0 +1,556 @@
+/**
+ * Mars Simulation Project
+ * EventLog.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core.events;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.mars_sim.msp.core.Simulation;
+
+/**
+ * The EventLog is an append-only log of the historical events, stored by
+ * column. The strings of the events are kept once in dictionaries, and the
+ * columns are split in segments of {@link #SEGMENT_SIZE} events. The latest
+ * segments stay in memory. The older ones are compressed, and written to a
+ * spill directory if there is one. Each segment knows its first and last sol
+ * and its categories, so that a query reads only the segments it needs.
+ * <br>
+ * The events are indexed in time order, the oldest first.
+ */
+class EventLog implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	/** default logger. */
+	private static Logger logger = Logger.getLogger(EventLog.class.getName());
+
+	/** The number of events per segment. */
+	static final int SEGMENT_SIZE = 4096;
+	/** The number of latest segments kept in memory. */
+	private static final int RESIDENT_SEGMENTS = 4;
+	/** The number of older segments kept decoded after a read. */
+	private static final int CACHED_SEGMENTS = 2;
+
+	/** The directory of the spilled segments or null to keep them compressed in memory. */
+	private static volatile File spillDirectory = new File(System.getProperty("user.home"),
+			Simulation.MARS_SIM_DIR + File.separator + "events");
+
+	private final Dictionary whats = new Dictionary();
+	private final Dictionary whileDoings = new Dictionary();
+	private final Dictionary whos = new Dictionary();
+	private final Dictionary loc0s = new Dictionary();
+	private final Dictionary loc1s = new Dictionary();
+
+	private transient List<Segment> segments = new ArrayList<>();
+	private transient int size;
+	/** The directory of the segments of this log, created on the first spill. */
+	private transient File directory;
+	/** The older segments recently decoded. */
+	private transient Map<Segment, Columns> cache = createCache();
+
+	/**
+	 * Sets the directory of the spilled segments.
+	 *
+	 * @param dir the directory or null to keep the old segments in memory.
+	 */
+	static void setSpillDirectory(File dir) {
+		spillDirectory = dir;
+	}
+
+	/**
+	 * Gets the directory of the spilled segments.
+	 *
+	 * @return the directory or null.
+	 */
+	static File getSpillDirectory() {
+		return spillDirectory;
+	}
+
+	/**
+	 * Appends an event.
+	 *
+	 * @return the event.
+	 */
+	synchronized SimpleEvent add(short sol, float millisols, byte cat, byte type, String what, String whileDoing,
+			String who, String loc0, String loc1) {
+		Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+		if (segment == null || segment.count == SEGMENT_SIZE) {
+			segment = new Segment(sol);
+			segment.columns = new Columns();
+			segments.add(segment);
+			evict();
+		}
+
+		SimpleEvent result = new SimpleEvent(sol, millisols, cat, type, (short) whats.getID(what),
+				(short) whileDoings.getID(whileDoing), (short) whos.getID(who), (short) loc0s.getID(loc0),
+				(short) loc1s.getID(loc1));
+		segment.columns.set(segment.count, result);
+		segment.count++;
+		segment.lastSol = sol;
+		segment.categoryMask |= 1 << cat;
+		size++;
+		return result;
+	}
+
+	/**
+	 * Gets the number of events.
+	 *
+	 * @return count.
+	 */
+	synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Gets an event.
+	 *
+	 * @param index the index of the event, the oldest first.
+	 * @return the event.
+	 */
+	synchronized SimpleEvent get(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		Segment segment = segments.get(index / SEGMENT_SIZE);
+		return load(segment).get(index % SEGMENT_SIZE);
+	}
+
+	/**
+	 * Gets the events of a range of sols and of some categories.
+	 *
+	 * @param fromSol      the first mission sol.
+	 * @param toSol        the last mission sol.
+	 * @param categoryMask the categories, as bits by ordinal.
+	 * @return the events, the latest first.
+	 */
+	synchronized List<SimpleEvent> query(int fromSol, int toSol, int categoryMask) {
+		return query(fromSol, toSol, categoryMask, -1, 0, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Gets a page of the events of a range of sols, of some categories and
+	 * optionally of a type. The segments are only read until the page is full.
+	 *
+	 * @param fromSol      the first mission sol.
+	 * @param toSol        the last mission sol.
+	 * @param categoryMask the categories, as bits by ordinal.
+	 * @param type         the type ordinal, or -1 for any type.
+	 * @param offset       the number of matching events to skip.
+	 * @param limit        the maximum number of events.
+	 * @return the events, the latest first.
+	 */
+	synchronized List<SimpleEvent> query(int fromSol, int toSol, int categoryMask, int type, int offset, int limit) {
+		List<SimpleEvent> result = new ArrayList<>();
+		if (limit > 0)
+			scan(fromSol, toSol, categoryMask, type, Math.max(offset, 0), limit, result);
+		return result;
+	}
+
+	/**
+	 * Counts the events of a range of sols, of some categories and optionally of
+	 * a type. Without a type, the segments that match as a whole are counted
+	 * without being read.
+	 *
+	 * @param fromSol      the first mission sol.
+	 * @param toSol        the last mission sol.
+	 * @param categoryMask the categories, as bits by ordinal.
+	 * @param type         the type ordinal, or -1 for any type.
+	 * @return the number of events.
+	 */
+	synchronized int count(int fromSol, int toSol, int categoryMask, int type) {
+		return scan(fromSol, toSol, categoryMask, type, 0, 0, null);
+	}
+
+	/**
+	 * Goes through the matching events, the latest first.
+	 *
+	 * @param result the list to add the page to, or null to only count.
+	 * @return the number of matching events gone through.
+	 */
+	private int scan(int fromSol, int toSol, int categoryMask, int type, int offset, int limit,
+			List<SimpleEvent> result) {
+		int matched = 0;
+		for (int s = segments.size() - 1; s >= 0; s--) {
+			Segment segment = segments.get(s);
+			// The sols of the older segments are lower.
+			if (segment.lastSol < fromSol)
+				break;
+			if (segment.firstSol > toSol || (segment.categoryMask & categoryMask) == 0)
+				continue;
+
+			// A segment that matches as a whole is skipped if it is before the page
+			boolean whole = type < 0 && segment.firstSol >= fromSol && segment.lastSol <= toSol
+					&& (segment.categoryMask & ~categoryMask) == 0;
+			if (whole && (result == null || matched + segment.count <= offset)) {
+				matched += segment.count;
+				continue;
+			}
+
+			Columns columns = load(segment);
+			for (int i = segment.count - 1; i >= 0; i--) {
+				int sol = columns.sols[i];
+				if (sol < fromSol)
+					break;
+				if (sol <= toSol && (categoryMask & (1 << columns.categories[i])) != 0
+						&& (type < 0 || columns.types[i] == type)) {
+					if (result != null && matched >= offset) {
+						result.add(columns.get(i));
+						if (result.size() >= limit)
+							return matched + 1;
+					}
+					matched++;
+				}
+			}
+		}
+		return matched;
+	}
+
+	/**
+	 * Gets a view of the events, the latest first.
+	 *
+	 * @return the list of events.
+	 */
+	List<SimpleEvent> asList() {
+		return new AbstractList<SimpleEvent>() {
+			@Override
+			public SimpleEvent get(int index) {
+				synchronized (EventLog.this) {
+					return EventLog.this.get(size - 1 - index);
+				}
+			}
+
+			@Override
+			public int size() {
+				return EventLog.this.size();
+			}
+		};
+	}
+
+	synchronized String getWhat(int id) {
+		return whats.get(id);
+	}
+
+	synchronized String getWhileDoing(int id) {
+		return whileDoings.get(id);
+	}
+
+	synchronized String getWho(int id) {
+		return whos.get(id);
+	}
+
+	synchronized String getLoc0(int id) {
+		return loc0s.get(id);
+	}
+
+	synchronized String getLoc1(int id) {
+		return loc1s.get(id);
+	}
+
+	/**
+	 * Removes the spilled segments.
+	 */
+	synchronized void destroy() {
+		for (Segment segment : segments) {
+			if (segment.file != null)
+				segment.file.delete();
+		}
+		if (directory != null)
+			directory.delete();
+		segments.clear();
+		cache.clear();
+		size = 0;
+	}
+
+	/**
+	 * Gets the columns of a segment, decoding them if needed.
+	 */
+	private Columns load(Segment segment) {
+		if (segment.columns != null)
+			return segment.columns;
+
+		Columns result = cache.get(segment);
+		if (result == null) {
+			try {
+				byte[] packed = (segment.packed != null) ? segment.packed : Files.readAllBytes(segment.file.toPath());
+				result = Columns.unpack(packed, segment.count);
+			} catch (IOException e) {
+				logger.log(Level.SEVERE, "Could not read the events of " + segment.file, e);
+				result = new Columns();
+			}
+			cache.put(segment, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Compresses the segments older than the resident ones, and spills them.
+	 */
+	private void evict() {
+		for (int s = segments.size() - RESIDENT_SEGMENTS - 1; s >= 0; s--) {
+			Segment segment = segments.get(s);
+			if (segment.columns == null)
+				break;
+			segment.packed = segment.columns.pack(segment.count);
+			segment.columns = null;
+			spill(segment);
+		}
+	}
+
+	/**
+	 * Writes a compressed segment to the spill directory, if any.
+	 */
+	private void spill(Segment segment) {
+		File base = spillDirectory;
+		if (base == null || segment.packed == null)
+			return;
+
+		try {
+			if (directory == null) {
+				if (!base.isDirectory() && !base.mkdirs())
+					throw new IOException("Could not create " + base);
+				directory = Files.createTempDirectory(base.toPath(), "log-").toFile();
+				directory.deleteOnExit();
+			}
+			File file = new File(directory, "segment-" + segment.firstIndex(segments) + ".bin");
+			Files.write(file.toPath(), segment.packed);
+			file.deleteOnExit();
+			segment.file = file;
+			segment.packed = null;
+		} catch (IOException e) {
+			logger.log(Level.WARNING, "Keeping the old events in memory", e);
+		}
+	}
+
+	private static Map<Segment, Columns> createCache() {
+		return new LinkedHashMap<Segment, Columns>(CACHED_SEGMENTS * 2, .75F, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Segment, Columns> eldest) {
+				return size() > CACHED_SEGMENTS;
+			}
+		};
+	}
+
+	/**
+	 * Implementing writeObject method for serialization. Each segment is written
+	 * compressed.
+	 *
+	 * @param out the output stream.
+	 * @throws IOException if error writing to the output stream.
+	 */
+	private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeInt(segments.size());
+		for (Segment segment : segments) {
+			out.writeShort(segment.firstSol);
+			out.writeShort(segment.lastSol);
+			out.writeInt(segment.categoryMask);
+			out.writeInt(segment.count);
+			byte[] packed;
+			if (segment.columns != null)
+				packed = segment.columns.pack(segment.count);
+			else if (segment.packed != null)
+				packed = segment.packed;
+			else
+				packed = Files.readAllBytes(segment.file.toPath());
+			out.writeInt(packed.length);
+			out.write(packed);
+		}
+	}
+
+	/**
+	 * Implementing readObject method for serialization.
+	 *
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		segments = new ArrayList<>();
+		cache = createCache();
+		size = 0;
+
+		int n = in.readInt();
+		for (int s = 0; s < n; s++) {
+			Segment segment = new Segment(in.readShort());
+			segment.lastSol = in.readShort();
+			segment.categoryMask = in.readInt();
+			segment.count = in.readInt();
+			byte[] packed = new byte[in.readInt()];
+			in.readFully(packed);
+			if (s >= n - RESIDENT_SEGMENTS)
+				segment.columns = Columns.unpack(packed, segment.count);
+			else
+				segment.packed = packed;
+			segments.add(segment);
+			size += segment.count;
+		}
+
+		for (Segment segment : segments) {
+			if (segment.packed != null)
+				spill(segment);
+		}
+	}
+
+	/**
+	 * The strings of a field of the events, each with an ID.
+	 */
+	private static class Dictionary implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<String> strings = new ArrayList<>();
+		private transient Map<String, Integer> ids = new HashMap<>();
+
+		/**
+		 * Gets the ID of a string, adding it if new.
+		 */
+		int getID(String s) {
+			Integer id = ids.get(s);
+			if (id == null) {
+				id = strings.size();
+				strings.add(s);
+				ids.put(s, id);
+			}
+			return id;
+		}
+
+		String get(int id) {
+			return strings.get(id);
+		}
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			in.defaultReadObject();
+			ids = new HashMap<>();
+			for (int i = 0; i < strings.size(); i++) {
+				ids.putIfAbsent(strings.get(i), i);
+			}
+		}
+	}
+
+	/**
+	 * A part of the log.
+	 */
+	private static class Segment {
+
+		private final short firstSol;
+		private short lastSol;
+		/** The categories of the events, as bits by ordinal. */
+		private int categoryMask;
+		private int count;
+
+		/** The columns if resident, or null. */
+		private Columns columns;
+		/** The compressed columns if not resident and not spilled, or null. */
+		private byte[] packed;
+		/** The file of the compressed columns if spilled, or null. */
+		private File file;
+
+		Segment(short firstSol) {
+			this.firstSol = firstSol;
+			this.lastSol = firstSol;
+		}
+
+		int firstIndex(List<Segment> segments) {
+			return segments.indexOf(this) * SEGMENT_SIZE;
+		}
+	}
+
+	/**
+	 * The columns of a segment.
+	 */
+	private static class Columns {
+
+		private final short[] sols = new short[SEGMENT_SIZE];
+		private final float[] millisols = new float[SEGMENT_SIZE];
+		private final byte[] categories = new byte[SEGMENT_SIZE];
+		private final byte[] types = new byte[SEGMENT_SIZE];
+		private final short[] whats = new short[SEGMENT_SIZE];
+		private final short[] whileDoings = new short[SEGMENT_SIZE];
+		private final short[] whos = new short[SEGMENT_SIZE];
+		private final short[] loc0s = new short[SEGMENT_SIZE];
+		private final short[] loc1s = new short[SEGMENT_SIZE];
+
+		void set(int i, SimpleEvent e) {
+			sols[i] = e.getSol();
+			millisols[i] = e.getMillisol();
+			categories[i] = e.getCat();
+			types[i] = e.getType();
+			whats[i] = e.getWhat();
+			whileDoings[i] = e.getWhileDoing();
+			whos[i] = e.getWho();
+			loc0s[i] = e.getLoc0();
+			loc1s[i] = e.getLoc1();
+		}
+
+		SimpleEvent get(int i) {
+			return new SimpleEvent(sols[i], millisols[i], categories[i], types[i], whats[i], whileDoings[i], whos[i],
+					loc0s[i], loc1s[i]);
+		}
+
+		/**
+		 * Compresses the first events, column after column.
+		 */
+		byte[] pack(int count) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+				for (int i = 0; i < count; i++)
+					out.writeShort(sols[i]);
+				for (int i = 0; i < count; i++)
+					out.writeFloat(millisols[i]);
+				out.write(categories, 0, count);
+				out.write(types, 0, count);
+				for (short[] column : new short[][] { whats, whileDoings, whos, loc0s, loc1s }) {
+					for (int i = 0; i < count; i++)
+						out.writeShort(column[i]);
+				}
+			} catch (IOException e) {
+				// Not with a byte array
+				throw new IllegalStateException(e);
+			}
+			return bytes.toByteArray();
+		}
+
+		static Columns unpack(byte[] packed, int count) throws IOException {
+			Columns result = new Columns();
+			try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(packed)))) {
+				for (int i = 0; i < count; i++)
+					result.sols[i] = in.readShort();
+				for (int i = 0; i < count; i++)
+					result.millisols[i] = in.readFloat();
+				in.readFully(result.categories, 0, count);
+				in.readFully(result.types, 0, count);
+				for (short[] column : new short[][] { result.whats, result.whileDoings, result.whos, result.loc0s,
+						result.loc1s }) {
+					for (int i = 0; i < count; i++)
+						column[i] = in.readShort();
+				}
+			}
+			return result;
+		}
+	}
+}
@@ -10,6 +10,7 @@ import java.io.Serializable;
 
 import org.mars_sim.msp.core.person.EventType;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 
 /**
  * This class represents a time based event that has occurred in the simulation.
@@ -35,7 +36,7 @@ public abstract class HistoricalEvent implements Serializable {
 //	/** TODO Long description of historical events should be internationalizable. */
 //	private String description;
 	/** Time event occurred. */
-	private MarsClock timestamp;
+	private MarsTime timestamp;
 	/** Source of event may be null. */
 	private Object source;
 	private String whileDoing;
@@ -71,7 +72,7 @@ public abstract class HistoricalEvent implements Serializable {
 	 * Set the timestamp for this event.
 	 * @param timestamp
 	 */
-	void setTimestamp(MarsClock timestamp) {
+	void setTimestamp(MarsTime timestamp) {
 		this.timestamp = timestamp;
 	}
 
@@ -121,10 +122,18 @@ public abstract class HistoricalEvent implements Serializable {
 	 * Get event time.
 	 * @return Time the event happened
 	 */
-	public MarsClock getTimestamp() {
+	public MarsTime getTime() {
 		return timestamp;
 	}
 
+	/**
+	 * Get event time as a clock.
+	 * @return Time the event happened
+	 */
+	public MarsClock getTimestamp() {
+		return (timestamp == null) ? null : timestamp.toMarsClock();
+	}
+
 	/**
 	 * Get the type of event.
 	 * @return String representing the type.
@@ -8,15 +8,20 @@
 package org.mars_sim.msp.core.events;
 
 import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.UnitTickEngine;
 import org.mars_sim.msp.core.narrator.Narrator;
 import org.mars_sim.msp.core.person.EventType;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
-
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -26,7 +31,8 @@ import java.util.List;
  * been registered. The manager maintains an ordered list in terms of decreasing
  * time, i.e. most recent event first. It should be noted that the throughput of
  * new events of the manager can be in the order of 100 event per simulation
- * tick.
+ * tick. The events are kept in an {@link EventLog}, which spills the older
+ * events to disk.
  */
 public class HistoricalEventManager implements Serializable {
 
@@ -46,10 +52,11 @@ public class HistoricalEventManager implements Serializable {
 
 	private volatile static List<HistoricalEvent> lastEvents = new ArrayList<>();
 
-	// The following list cannot be static since it needs to be serialized
-	private List<SimpleEvent> eventsRegistry;
+	// The following log cannot be static since it needs to be serialized
+	private EventLog eventLog;
 
-	// The following 4 list cannot be static since they need to be serialized
+	// The lists of the older saved simulations, moved to the event log when loaded
+	private List<SimpleEvent> eventsRegistry;
 	private List<String> whatList;
 	private List<String> whileDoingList;
 	private List<String> whoList;
@@ -66,19 +73,9 @@ public class HistoricalEventManager implements Serializable {
 		// start
 		listeners = new ArrayList<HistoricalEventListener>();
 //		events = new LinkedList<HistoricalEvent>();
-		eventsRegistry = new ArrayList<>();
+		eventLog = new EventLog();
 		narrator = new Narrator();
 //		lastEvents = new ArrayList<>();
-		initMaps();
-	}
-
-	private void initMaps() {
-		whatList = new ArrayList<>();
-		whileDoingList = new ArrayList<>();
-		whoList = new ArrayList<>();
-		loc0List = new ArrayList<>();
-		loc1List = new ArrayList<>();
-
 	}
 
 	/**
@@ -116,11 +113,20 @@ public class HistoricalEventManager implements Serializable {
 	/**
 	 * Get the event at a specified index.
 	 * 
-	 * @param index Index of event to retrieve.
+	 * @param index Index of event to retrieve, the most recent first.
 	 * @return Historical event.
 	 */
 	public SimpleEvent getEvent(int index) {
-		return eventsRegistry.get(index);
+		return eventLog.get(eventLog.size() - 1 - index);
+	}
+
+	/**
+	 * Get the number of events in the manager.
+	 * 
+	 * @return Stored event count.
+	 */
+	public int size() {
+		return eventLog.size();
 	}
 
 	public boolean isSameEvent(HistoricalEvent newEvent) {
@@ -145,11 +151,22 @@ public class HistoricalEventManager implements Serializable {
 
 	/**
 	 * An new event needs registering with the manager. The event will be time
-	 * stamped with the current clock time and inserted at position zero.
+	 * stamped with the current clock time and inserted at position zero. Events
+	 * from a settlement partition are registered in the serial phase, so that
+	 * they come in the same order whichever partition finishes first.
+	 * 
+	 * @param newEvent The event to register.
+	 */
+	public void registerNewEvent(HistoricalEvent newEvent) {
+		UnitTickEngine.defer(() -> addEvent(newEvent));
+	}
+
+	/**
+	 * Registers an event.
 	 * 
 	 * @param newEvent The event to register.
 	 */
-	public synchronized void registerNewEvent(HistoricalEvent newEvent) {
+	private synchronized void addEvent(HistoricalEvent newEvent) {
 //		HistoricalEventCategory category = newEvent.getCategory();
 		if (newEvent.getCategory() == HistoricalEventCategory.TASK)
 			return;
@@ -182,10 +199,7 @@ public class HistoricalEventManager implements Serializable {
 		if (marsClock == null)
 			marsClock = Simulation.instance().getMasterClock().getMarsClock();
 
-		MarsClock timestamp = (MarsClock) marsClock.clone();
-
-		if (timestamp == null)
-			throw new IllegalStateException("timestamp is null");
+		MarsTime timestamp = marsClock.getTime();
 
 		newEvent.setTimestamp(timestamp);
 
@@ -206,21 +220,15 @@ public class HistoricalEventManager implements Serializable {
 		narrator.translate(newEvent);
 	}
 
-	private SimpleEvent convert2SimpleEvent(HistoricalEvent event, MarsClock timestamp) {
-		short missionSol = (short) (timestamp.getMissionSol());//event.getTimestamp().getMissionSol());
-		float millisols = (float) (event.getTimestamp().getMillisol());
+	private SimpleEvent convert2SimpleEvent(HistoricalEvent event, MarsTime timestamp) {
+		short missionSol = (short) (timestamp.getMissionSol());
+		float millisols = (float) (timestamp.getMillisol());
 		byte cat = (byte) (event.getCategory().ordinal());
 		byte type = (byte) (event.getType().ordinal());
-		short what = (short) (getID(whatList, event.getWhatCause()));
-		short whileDoing = (short) (getID(whileDoingList, event.getWhileDoing()));
-		short who = (short) (getID(whoList, event.getWho()));
-		short loc0 = (short) (getID(loc0List, event.getLocation0()));
-		short loc1 = (short) (getID(loc1List, event.getLocation1()));
 
 //		System.out.println("HistoricalEventManager's mission sol : " + missionSol);
-		SimpleEvent se = new SimpleEvent(missionSol, millisols, cat, type, what, whileDoing, who, loc0, loc1);
-		eventsRegistry.add(0, se);
-		return se;
+		return eventLog.add(missionSol, millisols, cat, type, event.getWhatCause(), event.getWhileDoing(),
+				event.getWho(), event.getLocation0(), event.getLocation1());
 	}
 
 //	public int getID(Map<Integer, String> map, String s) {
@@ -238,16 +246,6 @@ public class HistoricalEventManager implements Serializable {
 //		return -1;
 //	}
 	
-	public int getID(List<String> list, String s) {
-		if (list.contains(s)) {
-			return list.indexOf(s);
-		} else {
-			int size = list.size();
-			list.add(s);
-			return size;
-		}
-	}
-	
 //	public String getStr(Map<Integer, String> map, Integer id) {
 //		return map.get(id);
 //	}
@@ -257,23 +255,23 @@ public class HistoricalEventManager implements Serializable {
 //	}
 	
 	public String getWhat(int id) {
-		return whatList.get(id);
+		return eventLog.getWhat(id);
 	}
 
 	public String getWhileDoing(int id) {
-		return whileDoingList.get(id);
+		return eventLog.getWhileDoing(id);
 	}
 
 	public String getWho(int id) {
-		return whoList.get(id);
+		return eventLog.getWho(id);
 	}
 
 	public String getLoc0(int id) {
-		return loc0List.get(id);
+		return eventLog.getLoc0(id);
 	}
 
 	public String getLoc1(int id) {
-		return loc1List.get(id);
+		return eventLog.getLoc1(id);
 	}
 
 //	/**
@@ -304,8 +302,104 @@ public class HistoricalEventManager implements Serializable {
 //		return events;
 //	}
 
+	/**
+	 * Gets the events, the most recent first. The list is a view of the events
+	 * and grows with them.
+	 * 
+	 * @return list of events.
+	 */
 	public List<SimpleEvent> getEvents() {
-		return eventsRegistry;
+		return eventLog.asList();
+	}
+
+	/**
+	 * Gets the events of a range of mission sols and of some categories.
+	 * 
+	 * @param fromSol    the first mission sol.
+	 * @param toSol      the last mission sol.
+	 * @param categories the categories.
+	 * @return list of events, the most recent first.
+	 */
+	public List<SimpleEvent> getEvents(int fromSol, int toSol, Set<HistoricalEventCategory> categories) {
+		int mask = getCategoryMask(categories);
+		if (mask == 0 || fromSol > toSol)
+			return Collections.emptyList();
+		return eventLog.query(fromSol, toSol, mask);
+	}
+
+	/**
+	 * Gets a page of the events of a range of mission sols, of some categories
+	 * and optionally of a type.
+	 * 
+	 * @param fromSol    the first mission sol.
+	 * @param toSol      the last mission sol.
+	 * @param categories the categories.
+	 * @param type       the type or null for any type.
+	 * @param offset     the number of matching events to skip.
+	 * @param limit      the maximum number of events.
+	 * @return list of events, the most recent first.
+	 */
+	public List<SimpleEvent> getEvents(int fromSol, int toSol, Set<HistoricalEventCategory> categories, EventType type,
+			int offset, int limit) {
+		int mask = getCategoryMask(categories);
+		if (mask == 0 || fromSol > toSol)
+			return Collections.emptyList();
+		return eventLog.query(fromSol, toSol, mask, (type != null) ? type.ordinal() : -1, offset, limit);
+	}
+
+	/**
+	 * Counts the events of a range of mission sols, of some categories and
+	 * optionally of a type.
+	 * 
+	 * @param fromSol    the first mission sol.
+	 * @param toSol      the last mission sol.
+	 * @param categories the categories.
+	 * @param type       the type or null for any type.
+	 * @return the number of events.
+	 */
+	public int getEventCount(int fromSol, int toSol, Set<HistoricalEventCategory> categories, EventType type) {
+		int mask = getCategoryMask(categories);
+		if (mask == 0 || fromSol > toSol)
+			return 0;
+		return eventLog.count(fromSol, toSol, mask, (type != null) ? type.ordinal() : -1);
+	}
+
+	private static int getCategoryMask(Set<HistoricalEventCategory> categories) {
+		int mask = 0;
+		for (HistoricalEventCategory c : categories) {
+			mask |= 1 << c.ordinal();
+		}
+		return mask;
+	}
+
+	/**
+	 * Implementing readObject method for serialization. Moves the events of the
+	 * older saved simulations to the event log.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		if (eventLog == null) {
+			eventLog = new EventLog();
+			if (eventsRegistry != null) {
+				// The registry has the most recent event first
+				for (int i = eventsRegistry.size() - 1; i >= 0; i--) {
+					SimpleEvent e = eventsRegistry.get(i);
+					eventLog.add(e.getSol(), e.getMillisol(), e.getCat(), e.getType(), whatList.get(e.getWhat()),
+							whileDoingList.get(e.getWhileDoing()), whoList.get(e.getWho()),
+							loc0List.get(e.getLoc0()), loc1List.get(e.getLoc1()));
+				}
+			}
+		}
+		eventsRegistry = null;
+		whatList = null;
+		whileDoingList = null;
+		whoList = null;
+		loc0List = null;
+		loc1List = null;
 	}
 
 	/**
@@ -316,7 +410,7 @@ public class HistoricalEventManager implements Serializable {
 		listeners = null;
 //		events.clear();
 //		events = null;
-		eventsRegistry.clear();
-		eventsRegistry = null;
+		eventLog.destroy();
+		eventLog = null;
 	}
 }
\ No newline at end of file
@@ -22,6 +22,14 @@ public class SimpleEvent implements Serializable {
 //	private static final String THREE_ZEROS = "000";
 	private static final String COLON = ":";
 
+	/** The format of the millisols, shared by the events of a thread. */
+	private static final ThreadLocal<DecimalFormat> DECIMAL_FORMAT = ThreadLocal.withInitial(() -> {
+		DecimalFormat df = new DecimalFormat("000.000");
+		df.setMinimumFractionDigits(3);
+		df.setMinimumIntegerDigits(3);
+		return df;
+	});
+
 	private short missionSol;
 	private float msol;
 	private byte cat;
@@ -31,9 +39,7 @@ public class SimpleEvent implements Serializable {
 	private short who;
 	private short loc0;
 	private short loc1;
-	private String dateTime = null;
-
-	private DecimalFormat df = new DecimalFormat("000.000");
+	private transient String dateTime = null;
 
 	public SimpleEvent(short missionSol, float msol, byte cat, byte type, short what, short whileDoing, short who, short loc0,
 			short loc1) {
@@ -46,10 +52,6 @@ public class SimpleEvent implements Serializable {
 		this.who = who;
 		this.loc0 = loc0;
 		this.loc1 = loc1;
-		
-		df.setMinimumFractionDigits(3);
-		df.setMinimumIntegerDigits(3);
-		
 	}
 
 	public String getFullDateTimeString() {
@@ -110,7 +112,11 @@ public class SimpleEvent implements Serializable {
 	 * @return the time string
 	 */
 	public String getDecimalMillisol() {
-		return df.format(msol);
+		return DECIMAL_FORMAT.get().format(msol);
+	}
+
+	public float getMillisol() {
+		return msol;
 	}
 	
 	public byte getCat() {
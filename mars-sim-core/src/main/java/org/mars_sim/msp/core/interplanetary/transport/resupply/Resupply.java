@@ -182,7 +182,7 @@ public class Resupply implements Serializable, Transportable {
 
 		if (orderedBuildings.size() > 0) {
 
-			Building aBuilding = buildingManager.getACopyOfBuildings().get(0);
+			Building aBuilding = buildingManager.getBuildings().get(0);
 			settlement.fireUnitUpdate(UnitEventType.START_BUILDING_PLACEMENT_EVENT, aBuilding);
 
 			Iterator<BuildingTemplate> buildingI = orderedBuildings.iterator();
@@ -415,7 +415,7 @@ public class Resupply implements Serializable, Transportable {
 			leastDistance = MIN_NONINHABITABLE_BUILDING_DISTANCE;
 		}
 
-		List<Building> list = mgr.getBuildings(FunctionType.LIFE_SUPPORT);
+		List<Building> list = new ArrayList<Building>(mgr.getBuildings(FunctionType.LIFE_SUPPORT));
 		Collections.shuffle(list);
 
 		Iterator<Building> i = list.iterator();
@@ -671,8 +671,8 @@ public class Resupply implements Serializable, Transportable {
 				// logger.config("No other same building type");
 				// Put this habitable building next to another inhabitable building (e.g.
 				// greenhouse, lander hab, research hab...)
-				List<Building> inhabitableBuildings = settlement.getBuildingManager()
-						.getBuildings(FunctionType.LIFE_SUPPORT);
+				List<Building> inhabitableBuildings = new ArrayList<Building>(settlement.getBuildingManager()
+						.getBuildings(FunctionType.LIFE_SUPPORT));
 				Collections.shuffle(inhabitableBuildings);
 				Iterator<Building> i = inhabitableBuildings.iterator();
 				while (i.hasNext()) {
@@ -812,7 +812,7 @@ public class Resupply implements Serializable, Transportable {
 		int baseLevel = buildingConfig.getBaseLevel(newBuildingType);
 
 		BuildingManager manager = settlement.getBuildingManager();
-		List<Building> inhabitableBuildings = manager.getBuildings(FunctionType.LIFE_SUPPORT);
+		List<Building> inhabitableBuildings = new ArrayList<Building>(manager.getBuildings(FunctionType.LIFE_SUPPORT));
 		Collections.shuffle(inhabitableBuildings);
 
 		// Case 1
@@ -38,6 +38,9 @@ public class Malfunction implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The messages of the repair work orders. */
+	private static final LogConsolidated.Site repairLog = LogConsolidated.site(logger, 0);
+
 	private static final String INCIDENT_NUM = " - incident #";
 
 	// Data members
@@ -254,8 +257,8 @@ public class Malfunction implements Serializable {
 
 			String id_string = INCIDENT_NUM + incidentNum;
 
-			LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-					name + id_string + " - emergency repair worked by " + repairer + ".", null);
+			repairLog.log(Level.WARNING,
+					() -> name + id_string + " - emergency repair worked by " + repairer + ".");
 
 			if (repairersWorkTime.containsKey(repairer)) {
 				repairersWorkTime.put(repairer, repairersWorkTime.get(repairer) + time);
@@ -384,18 +387,18 @@ public class Malfunction implements Serializable {
 		String id_string = INCIDENT_NUM + id;
 
 		if (emergencyWorkTime > 0D) {
-			LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-					name + id_string + " - an emergency repair work order was requested.", null);
+			repairLog.log(Level.WARNING,
+					() -> name + id_string + " - an emergency repair work order was requested.");
 		}
 
 		if (this.EVAWorkTime > 0) {
-			LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-					name + id_string + " - an EVA repair work order was put in place.", null);
+			repairLog.log(Level.WARNING,
+					() -> name + id_string + " - an EVA repair work order was put in place.");
 		}
 
 		if (this.workTime > 0) {
-			LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-					name + id_string + " - a normal repair work order was set up.", null);
+			repairLog.log(Level.WARNING,
+					() -> name + id_string + " - a normal repair work order was set up.");
 		}
 
 		return clone;
@@ -416,8 +419,8 @@ public class Malfunction implements Serializable {
 				// Part part = (Part) ItemResource.findItemResource(partName);
 				repairParts.put(ItemResourceUtil.findIDbyItemResourceName(partName), number);
 				String id_string = INCIDENT_NUM + incidentNum;
-				LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-						name + id_string + " - the repair requires " + partName + " (quantity: " + number + ").", null);
+				repairLog.log(Level.WARNING,
+						() -> name + id_string + " - the repair requires " + partName + " (quantity: " + number + ").");
 			}
 		}
 	}
@@ -172,7 +172,7 @@ public final class MalfunctionFactory implements Serializable {
 		Collection<Malfunctionable> entities = new ArrayList<Malfunctionable>();
 
 		if (person.isInSettlement()) {
-			entities = getMalfunctionables(person.getSettlement());
+			entities = new ArrayList<Malfunctionable>(getMalfunctionables(person.getSettlement()));
 		}
 
 		if (person.isInVehicle()) {
@@ -196,7 +196,7 @@ public final class MalfunctionFactory implements Serializable {
 		Collection<Malfunctionable> entities = new ArrayList<Malfunctionable>();
 
 		if (robot.isInSettlement()) {
-			entities = getMalfunctionables(robot.getSettlement());
+			entities = new ArrayList<Malfunctionable>(getMalfunctionables(robot.getSettlement()));
 		}
 
 		if (robot.isInVehicle()) {
@@ -216,25 +216,14 @@ public final class MalfunctionFactory implements Serializable {
 	}
 
 	/**
-	 * Gets a collection of malfunctionable entities local to a given settlement.
+	 * Gets a collection of malfunctionable entities local to a given settlement :
+	 * its buildings and the malfunctionable units stored in it.
 	 * 
 	 * @param settlement the settlement.
-	 * @return collection of malfunctionables.
+	 * @return collection of malfunctionables. Must not be modified.
 	 */
 	public static Collection<Malfunctionable> getMalfunctionables(Settlement settlement) {
-		Collection<Malfunctionable> entities = new ArrayList<>(settlement.getBuildingManager().getBuildings());
-
-		// Add all malfunctionable entities in settlement inventory.
-		Collection<Unit> inventoryUnits = settlement.getInventory().getContainedUnits();
-		if (inventoryUnits.size() > 0) {
-			for (Unit unit : inventoryUnits) {
-				if ((unit instanceof Malfunctionable) && (!entities.contains((Malfunctionable)unit))) {
-					entities.add((Malfunctionable) unit);
-				}
-			}
-		}
-
-		return entities;
+		return settlement.getBuildingManager().getMalfunctionables();
 	}
 
 	/**
@@ -271,7 +260,7 @@ public final class MalfunctionFactory implements Serializable {
 
 		// Add settlement, buildings and all other malfunctionables in settlement
 		// inventory.
-		Collection<Malfunctionable> entities = getMalfunctionables(settlement);
+		Collection<Malfunctionable> entities = new ArrayList<Malfunctionable>(getMalfunctionables(settlement));
 
 		if (missionManager == null)
 			missionManager = Simulation.instance().getMissionManager();
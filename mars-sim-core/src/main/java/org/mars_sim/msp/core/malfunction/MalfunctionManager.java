@@ -39,6 +39,7 @@ import org.mars_sim.msp.core.resource.ItemResourceUtil;
 import org.mars_sim.msp.core.resource.Part;
 import org.mars_sim.msp.core.resource.ResourceUtil;
 import org.mars_sim.msp.core.robot.Robot;
+import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.time.MarsClock;
 import org.mars_sim.msp.core.time.MasterClock;
@@ -63,6 +64,21 @@ public class MalfunctionManager implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The messages of the new malfunctions. */
+	private static final LogConsolidated.Site malfunctionLog = LogConsolidated.site(logger, 0);
+
+	/** The rate-limited messages of the late maintenance. */
+	private static final LogConsolidated.Site maintenanceLog = LogConsolidated.site(logger, 1000);
+
+	/** The messages of the fixed malfunctions. */
+	private static final LogConsolidated.Site fixedLog = LogConsolidated.site(logger, 0);
+
+	/** The rate-limited messages of the leaks. */
+	private static final LogConsolidated.Site leakLog = LogConsolidated.site(logger, 15_000);
+
+	/** The rate-limited messages of the accidents. */
+	private static final LogConsolidated.Site accidentLog = LogConsolidated.site(logger, 3000);
+
 	/** Initial estimate for malfunctions per orbit for an entity. */
 	private static double ESTIMATED_MALFUNCTIONS_PER_ORBIT = 10D;
 	/** Initial estimate for maintenances per orbit for an entity. */
@@ -432,7 +448,7 @@ public class MalfunctionManager implements Serializable {
 		Person person = null;
 		Robot robot = null;
 
-		String offender = PARTS_FAILURE;
+		String offender = (actor != null) ? actor.getName() : PARTS_FAILURE;
 		String task = "N/A";
 
 		malfunctions.add(malfunction);
@@ -450,9 +466,6 @@ public class MalfunctionManager implements Serializable {
 //			}
 		}
 
-		if (actor != null)
-			offender = actor.getName();
-
 		String malfunctionName = malfunction.getName();
 
 		try {
@@ -460,14 +473,15 @@ public class MalfunctionManager implements Serializable {
 		} catch (Exception e) {
 			e.printStackTrace(System.err);
 		}
+		markPartsDemandDirty();
 
 		if (registerEvent) {
 
 			if (!malfunctionName.contains("Meteorite")) {
 				// if it has NOTHING to do with meteorite impact
 
-				String loc0 = null;
-				String loc1 = null;
+				String loc0;
+				String loc1;
 
 				// TODO: determine what happens to each entity
 //				entity instanceof EVASuit	
@@ -506,28 +520,28 @@ public class MalfunctionManager implements Serializable {
 								malfunction, malfunctionName, "N/A", "None", loc0, loc1);
 						eventManager.registerNewEvent(newEvent);
 						
-						LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-								"[" + loc1 + "] " + object + " has " 
-								+ malfunction.getName() + ". Cause : Parts Fatigue.", null);
+						malfunctionLog.log(Level.WARNING,
+								() -> "[" + loc1 + "] " + object + " has " 
+								+ malfunction.getName() + ". Cause : Parts Fatigue.");
 					} else {
 						if (person != null) {
 							HistoricalEvent newEvent = new MalfunctionEvent(EventType.MALFUNCTION_HUMAN_FACTORS,
 									malfunction, malfunctionName, task, offender, loc0, loc1);
 							eventManager.registerNewEvent(newEvent);
 							
-							LogConsolidated.log(logger, Level.WARNING, 0, sourceName, 
-									"[" + loc1 + "] " + object + " has "
+							malfunctionLog.log(Level.WARNING, 
+									() -> "[" + loc1 + "] " + object + " has "
 									+ malfunction.getName() + " as reported by " 
-									+ offender + ". Cause : Human Factors.", null);
+									+ offender + ". Cause : Human Factors.");
 						} else if (robot != null) {
 							HistoricalEvent newEvent = new MalfunctionEvent(EventType.MALFUNCTION_PROGRAMMING_ERROR,
 									malfunction, malfunctionName, task, offender, loc0, loc1);
 							eventManager.registerNewEvent(newEvent);
 							
-							LogConsolidated.log(logger, Level.WARNING, 0, sourceName, 
-									"[" + loc1 + "] " + object + " has "
+							malfunctionLog.log(Level.WARNING, 
+									() -> "[" + loc1 + "] " + object + " has "
 									+ malfunction.getName() + " as reported by " 
-									+ offender + ". Cause : Software Quality Control.", null);
+									+ offender + ". Cause : Software Quality Control.");
 						}
 					}
 				} 
@@ -538,9 +552,9 @@ public class MalfunctionManager implements Serializable {
 								malfunction, malfunctionName + " on " + object, "N/A", "None", loc0, loc1);
 						eventManager.registerNewEvent(newEvent);
 						
-						LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-								"[" + loc1 + "] " + object + " has " 
-								+ malfunction.getName() + " in " + loc0 + ". Cause : Parts Fatigue.", null);					
+						malfunctionLog.log(Level.WARNING,
+								() -> "[" + loc1 + "] " + object + " has " 
+								+ malfunction.getName() + " in " + loc0 + ". Cause : Parts Fatigue.");					
 					} 
 					
 					else {
@@ -549,10 +563,10 @@ public class MalfunctionManager implements Serializable {
 									malfunction, malfunctionName + " on " + object, task, offender, loc0, loc1);
 							eventManager.registerNewEvent(newEvent);
 							
-							LogConsolidated.log(logger, Level.WARNING, 0, sourceName, 
-									"[" + loc1 + "] " + object + " has "
+							malfunctionLog.log(Level.WARNING, 
+									() -> "[" + loc1 + "] " + object + " has "
 									+ malfunction.getName() + " in " + loc0 + " as reported by " 
-									+ offender + ". Cause : Human Factors.", null);
+									+ offender + ". Cause : Human Factors.");
 						} 
 						
 						else if (robot != null) {
@@ -560,10 +574,10 @@ public class MalfunctionManager implements Serializable {
 									malfunction, malfunctionName, task, offender, loc0, loc1);
 							eventManager.registerNewEvent(newEvent);
 							
-							LogConsolidated.log(logger, Level.WARNING, 0, sourceName, 
-									"[" + loc1 + "] " + object + " has "
+							malfunctionLog.log(Level.WARNING, 
+									() -> "[" + loc1 + "] " + object + " has "
 									+ malfunction.getName() + " in " + loc0 + " as reported by " 
-									+ offender + ". Cause : Software Quality Control.", null);
+									+ offender + ". Cause : Software Quality Control.");
 						}
 					}
 				}
@@ -573,8 +587,8 @@ public class MalfunctionManager implements Serializable {
 				// due to meteorite impact
 				
 				// Note : Unit actor is null
-				String loc0 = null;
-				String loc1 = null;
+				String loc0;
+				String loc1;
 
 				String object = entity.getNickName();
 
@@ -615,12 +629,12 @@ public class MalfunctionManager implements Serializable {
 				eventManager.registerNewEvent(newEvent);
 				
 				if (object.equals(loc0)) {
-					LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-						"[" + loc1 + "] " + object + " was damaged by " +  malfunction.getName(), null);
+					malfunctionLog.log(Level.WARNING,
+						() -> "[" + loc1 + "] " + object + " was damaged by " +  malfunction.getName());
 				}
 				else {
-					LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-							"[" + loc1 + "] " + object + " was damaged by " +  malfunction.getName() + " in " + loc0, null);
+					malfunctionLog.log(Level.WARNING,
+							() -> "[" + loc1 + "] " + object + " was damaged by " +  malfunction.getName() + " in " + loc0);
 				}
 			}
 			
@@ -763,11 +777,10 @@ public class MalfunctionManager implements Serializable {
 			int solsLastMaint = (int) (effectiveTimeSinceLastMaintenance / 1000D);
 			// Reduce the max possible health condition
 //			maxCondition = (wearCondition + 400D)/500D; 
-			LogConsolidated.log(logger, Level.WARNING, 1000, sourceName,
-					"[" + entity.getImmediateLocation() + "] " + entity.getNickName() + " is behind on maintenance.  "
+			maintenanceLog.log(Level.WARNING,
+					() -> "[" + entity.getImmediateLocation() + "] " + entity.getNickName() + " is behind on maintenance.  "
 							+ "Time since last check-up: " + solsLastMaint + " sols.  Condition: " + Math.round(wearCondition*10.0)/10.0
-							+ " %.",
-					null);
+							+ " %.");
 
 			// TODO: does it use field reliability statistics to select a malfunction ?
 			selectMalfunction(null);
@@ -876,6 +889,7 @@ public class MalfunctionManager implements Serializable {
 				} catch (Exception e) {
 					e.printStackTrace(System.err);
 				}
+				markPartsDemandDirty();
 
 				String chiefRepairer = m.getChiefRepairer();
 
@@ -885,9 +899,9 @@ public class MalfunctionManager implements Serializable {
 
 				eventManager.registerNewEvent(newEvent);
 				
-				LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-						"[" + entity.getLocale() + "] The malfunction '" + m.getName() + "' has been fixed in "
-						+ entity.getImmediateLocation(), null);
+				fixedLog.log(Level.WARNING,
+						() -> "[" + entity.getLocale() + "] The malfunction '" + m.getName() + "' has been fixed in "
+						+ entity.getImmediateLocation());
 			
 				// Remove the malfunction
 				malfunctions.remove(m);				
@@ -978,19 +992,15 @@ public class MalfunctionManager implements Serializable {
 					while (i2.hasNext()) {
 						Integer resource = i2.next();
 						double amount = effects.get(resource);
-						double amountDepleted = amount * time;
 						Inventory inv = entity.getInventory();
 						double amountStored = inv.getAmountResourceStored(resource, false);
-
-						if (amountStored < amountDepleted) {
-							amountDepleted = amountStored;
-						}
+						double amountDepleted = Math.min(amount * time, amountStored);
 						if (amountDepleted >= 0) {
 							inv.retrieveAmountResource(resource, amountDepleted);
-							LogConsolidated.log(logger, Level.WARNING, 15_000, sourceName,
-									"[" + getUnit().getLocationTag().getLocale() + "] Leaking "
+							leakLog.log(Level.WARNING,
+									() -> "[" + getUnit().getLocationTag().getLocale() + "] Leaking "
 											+ Math.round(amountDepleted*100.0)/100.0 + " of  " + ResourceUtil.findAmountResource(resource) 
-											+ " in " + getUnit().getLocationTag().getImmediateLocation()+ ".", null);
+											+ " in " + getUnit().getLocationTag().getImmediateLocation()+ ".");
 						}
 					}
 				}
@@ -1050,10 +1060,9 @@ public class MalfunctionManager implements Serializable {
 //				 sb.insert(0, "in an "); else sb.insert(0, "in a "); 
 //		 }
 
-		LogConsolidated.log(logger, Level.WARNING, 3000, sourceName,
-				"[" + u.getLocationTag().getLocale() + "] A Type-I accident occurred " 
-				+ sb.toString() + " in " + u.getLocationTag().getImmediateLocation() + ".",
-				null);
+		accidentLog.log(Level.WARNING,
+				() -> "[" + u.getLocationTag().getLocale() + "] A Type-I accident occurred " 
+				+ sb.toString() + " in " + u.getLocationTag().getImmediateLocation() + ".");
 
 	}
 
@@ -1098,10 +1107,10 @@ public class MalfunctionManager implements Serializable {
 //					.replace(" in ", "");
 //		}
 
-		LogConsolidated.log(logger, Level.WARNING, 3000, sourceName,
-				// "[" + locationName + "] An accident occurs " + sb.toString() + ".", null);
+		accidentLog.log(Level.WARNING,
+				() -> // "[" + locationName + "] An accident occurs " + sb.toString() + ".", null);
 				"[" + entity.getLocale() + "] A Type-II accident occurred in " 
-						+ Conversion.capitalize(n) + ".", null);
+						+ Conversion.capitalize(n) + ".");
 	}
 
 	/**
@@ -1321,6 +1330,24 @@ public class MalfunctionManager implements Serializable {
 			throw new IllegalStateException("Could not find unit associated with malfunctionable.");
 	}
 
+	/**
+	 * Tells the goods manager of the settlement of the entity that the parts
+	 * demand has changed. The malfunction events of a building or a vehicle are
+	 * fired on that unit and do not reach the listeners of the settlement.
+	 */
+	private void markPartsDemandDirty() {
+		Settlement settlement = null;
+		if (entity instanceof Building)
+			settlement = ((Building) entity).getBuildingManager().getSettlement();
+		else if (entity instanceof Settlement)
+			settlement = (Settlement) entity;
+		else if (entity instanceof Vehicle)
+			settlement = ((Vehicle) entity).getAssociatedSettlement();
+
+		if (settlement != null && settlement.getGoodsManager() != null)
+			settlement.getGoodsManager().markPartsDemandDirty();
+	}
+
 	/**
 	 * Determines a new set of required maintenance parts.
 	 */
@@ -8,6 +8,7 @@ package org.mars_sim.msp.core.mars;
 
 import java.io.Serializable;
 
+import org.mars_sim.msp.core.tool.RandomUtil;
 
 /**
  * Mars represents the planet Mars in the simulation.
@@ -22,6 +23,9 @@ public class Mars implements Serializable {
 
 	public static final double MARS_CIRCUMFERENCE = MARS_RADIUS_KM * 2D * Math.PI;
 
+	/** The name of the random stream of the weather. */
+	private static final String WEATHER_STREAM = "Weather";
+
 	// Data members
 	/** Martian weather. */
 	private Weather weather;
@@ -102,6 +106,7 @@ public class Mars implements Serializable {
 	public void timePassing(double time) {
 		orbitInfo.addTime(time);
 		surfaceFeatures.timePassing(time);
+		RandomUtil.useStream(WEATHER_STREAM);
 		weather.timePassing(time);
 	}
 
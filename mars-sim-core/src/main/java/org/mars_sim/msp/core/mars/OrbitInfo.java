@@ -419,8 +419,6 @@ public class OrbitInfo implements Serializable {
 //		if (marsClock == null)
 //			marsClock = sim.getMasterClock().getMarsClock();
 
-		double solar_time = marsClock.getMillisol();
-
 		// compute latitude in radians rather than in degree
 		double lat = location.getPhi2LatRadian();
 
@@ -457,6 +455,45 @@ public class OrbitInfo implements Serializable {
 		computeSineSolarDeclinationAngle();
 		double d = getSolarDeclinationAngle();
 
+		return getCosineSolarZenithAngle(lat, location.getTheta(), getSolarTime(), sineSolarDeclinationAngle,
+				Math.cos(d));
+	}
+
+	/**
+	 * Gets the cosine solar zenith angle from the terms that depend on the
+	 * location and the terms that depend on the position of the sun, so that the
+	 * angle of many locations can be computed with the same sun position.
+	 * 
+	 * @param lat       the latitude as given by
+	 *                  {@link Coordinates#getPhi2LatRadian()}
+	 * @param theta     the longitude (radians)
+	 * @param solarTime the solar time at longitude 0, see {@link #getSolarTime()}
+	 * @param sinDec    the sine of the solar declination angle
+	 * @param cosDec    the cosine of the solar declination angle
+	 * @return cosine of solar zenith angle (from -1 to 1).
+	 */
+	public static double getCosineSolarZenithAngle(double lat, double theta, double solarTime, double sinDec,
+			double cosDec) {
+		double theta_offset = theta * 159.1519;
+		// 159.1519 = 1000D / 2D / Math.PI ; // convert theta (longitude) from radians
+		// to millisols;
+
+		double modified_solar_time = theta_offset + solarTime;
+		// The hour angle is measured from the true noon westward, represented by h = 2
+		// * pi * t / P, t is time past noon in seconds
+		double h = 0.0063 * Math.abs(modified_solar_time - 500D);
+		// 0.0063 = 2D * Math.PI / 1000D;
+
+		return Math.sin(lat) * sinDec + Math.cos(lat) * cosDec * Math.cos(h);
+	}
+
+	/**
+	 * Gets the solar time at longitude 0 : the time of the clock corrected by the
+	 * equation of time.
+	 * 
+	 * @return millisols
+	 */
+	public double getSolarTime() {
 		double equation_of_time_offset = 0;
 
 		double Ls = getL_s();
@@ -475,21 +512,10 @@ public class OrbitInfo implements Serializable {
 		else if (Ls <= 360)
 			equation_of_time_offset = -41D - 10 * Math.sin(90D / 34D * (Ls - 326) * DEGREE_TO_RADIAN);
 
-		double theta_offset = location.getTheta() * 159.1519;
-		// 159.1519 = 1000D / 2D / Math.PI ; // convert theta (longitude) from radians
-		// to millisols;
-
 		double EOT_in_millisol = equation_of_time_offset * 0.6759;
 		// 0.6759 = 60D / SOLAR_DAY * 1000D; // convert from min to millisols
 
-		double modified_solar_time = theta_offset + solar_time + EOT_in_millisol;
-		// The hour angle is measured from the true noon westward, represented by h = 2
-		// * pi * t / P, t is time past noon in seconds
-		double h = 0.0063 * Math.abs(modified_solar_time - 500D);
-		// 0.0063 = 2D * Math.PI / 1000D;
-
-		return Math.sin(lat) * sineSolarDeclinationAngle + Math.cos(lat) * Math.cos(d) * Math.cos(h);
-
+		return marsClock.getMillisol() + EOT_in_millisol;
 	}
 
 	/**
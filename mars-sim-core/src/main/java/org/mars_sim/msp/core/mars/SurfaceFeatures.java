@@ -14,6 +14,7 @@ import org.mars_sim.msp.core.person.ai.mission.Mission;
 import org.mars_sim.msp.core.person.ai.mission.MissionManager;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.time.MasterClock;
 import org.mars_sim.msp.core.tool.RandomUtil;
 
@@ -50,6 +51,12 @@ public class SurfaceFeatures implements Serializable {
 	// http://ccar.colorado.edu/asen5050/projects/projects_2001/benoit/solar_irradiance_on_mars.htm
 
 	private static final double HALF_PI = Math.PI / 2d;
+	/** The solar zenith angle where the twilight border starts (radians). */
+	public static final double DAYLIGHT_ZENITH = 1.4708;
+	/** The solar zenith angle where the twilight border ends (radians). */
+	public static final double NIGHT_ZENITH = 1.6708;
+	private static final double COS_DAYLIGHT_ZENITH = Math.cos(DAYLIGHT_ZENITH);
+	private static final double COS_NIGHT_ZENITH = Math.cos(NIGHT_ZENITH);
 
 	private static double factor = MEAN_SOLAR_IRRADIANCE * OrbitInfo.SEMI_MAJOR_AXIS * OrbitInfo.SEMI_MAJOR_AXIS;
 
@@ -72,7 +79,7 @@ public class SurfaceFeatures implements Serializable {
 	private static SimulationConfig simulationConfig = SimulationConfig.instance();
 	private static MissionManager missionManager;
 	
-	private static MarsClock solarIrradianceMapCacheTime;
+	private static volatile MarsTime solarIrradianceMapCacheTime;
 	private static MasterClock masterClock;
 	
 	private static TerrainElevation terrainElevation;
@@ -162,8 +169,6 @@ public class SurfaceFeatures implements Serializable {
 	 *         conditions.
 	 */
 	public double getSurfaceSunlight(Coordinates location) {
-		double result = 1D;
-
 		// Method 1:
 //        double angleFromSun = sunDirection.getAngle(location);
 //        //System.out.print ("z1 : "+  Math.round(angleFromSun * 180D / Math.PI * 1000D)/1000D + "   ");
@@ -190,20 +195,26 @@ public class SurfaceFeatures implements Serializable {
 //        }
 
 		// Method 2:
-		double z = orbitInfo.getSolarZenithAngle(location);
-		// System.out.println("z2 : " + Math.round(z * 180D / Math.PI * 1000D)/1000D);
-
-		// double twilightzone = .2D;
-		if (z < 1.4708) {
-			result = 1D;
-		} else if (z > 1.6708) {
-			result = 0D;
+		return getSurfaceSunlight(orbitInfo.getCosineSolarZenithAngle(location));
+	}
+
+	/**
+	 * Returns the sunlight conditions for a solar zenith angle. The twilight
+	 * border goes from a zenith angle of 1.4708 to 1.6708 radians, so the angle
+	 * itself is only needed within the border.
+	 * 
+	 * @param cosZenith the cosine of the solar zenith angle
+	 * @return value from 0.0 - 1.0 as in {@link #getSurfaceSunlight(Coordinates)}
+	 */
+	public static double getSurfaceSunlight(double cosZenith) {
+		if (cosZenith > COS_DAYLIGHT_ZENITH) {
+			return 1D;
+		} else if (cosZenith < COS_NIGHT_ZENITH) {
+			return 0D;
 		} else {
 			// double twilightAngle = z - 1.6708;
-			result = 8.354 - 5 * z;
+			return 8.354 - 5 * Math.acos(cosZenith);
 		}
-
-		return result;
 	}
 
 	public double getOpticalDepth(Coordinates location) {
@@ -318,7 +329,24 @@ public class SurfaceFeatures implements Serializable {
 //		if (masterClock == null)
 //			masterClock = sim.getMasterClock();
 		MarsClock currentTime = masterClock.getMarsClock();
-		if (!currentTime.equals(solarIrradianceMapCacheTime)) {
+		if (currentTime.isAt(solarIrradianceMapCacheTime)) {
+			Double cached = solarIrradiance.get(location);
+			if (cached != null)
+				return cached;
+		}
+		return computeSolarIrradiance(location, currentTime);
+	}
+
+	/**
+	 * Calculates the solar irradiance at a location once per frame. The settlements
+	 * may ask at the same time, so the cache is cleared and filled under the lock.
+	 * 
+	 * @param location    the coordinate location on Mars.
+	 * @param currentTime the current time.
+	 * @return solar irradiance (W/m2)
+	 */
+	private synchronized double computeSolarIrradiance(Coordinates location, MarsClock currentTime) {
+		if (!currentTime.isAt(solarIrradianceMapCacheTime)) {
 			// Call here once per frame because getSolarIrradiance()
 			// is called many times in 
 //			double G_h = 0;
@@ -328,7 +356,7 @@ public class SurfaceFeatures implements Serializable {
 //				+ "   Light : " + G_h
 //				+ "   Trend : " + getTrend(location));
 			solarIrradiance.clear();
-			solarIrradianceMapCacheTime = (MarsClock) currentTime.clone();
+			solarIrradianceMapCacheTime = currentTime.getTime();
 		}
 //		else {
 //			// It's mostly this case
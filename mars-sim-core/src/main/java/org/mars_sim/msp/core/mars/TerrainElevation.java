@@ -13,7 +13,6 @@ import org.mars_sim.msp.core.Direction;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
-import java.awt.Color;
 import java.io.Serializable;
 
 /**
@@ -25,11 +24,6 @@ public class TerrainElevation implements Serializable {
 
 	private static final long serialVersionUID = 1L;
 
-	private static final double OLYMPUS_MONS_CALDERA_PHI = 1.246165D;
-	private static final double OLYMPUS_MONS_CALDERA_THETA = 3.944444D;
-	private static final double ASCRAEUS_MONS_PHI = 1.363102D;
-	private static final double ASCRAEUS_MONS_THETA = 4.459316D;
-
 	/**
 	 * Constructor
 	 */
@@ -62,56 +56,6 @@ public class TerrainElevation implements Serializable {
 	 * @return the elevation at the location (in km)
 	 */
 	public double getElevation(Coordinates location) {
-
-		// Find hue and saturation color components at location.
-		Color color = MapDataUtil.instance().getTopoMapData().getRGBColor(location.getPhi(), location.getTheta());
-		float[] hsb = Color.RGBtoHSB(color.getRed(), color.getGreen(), color.getBlue(), null);
-		float hue = hsb[0];
-		float saturation = hsb[1];
-
-		// Determine elevation in meters.
-		// TODO This code (calculate terrain elevation) needs updating.
-		double elevation = 0D;
-		if ((hue < .792F) && (hue > .033F))
-			elevation = (-13801.99D * hue) + 2500D;
-		else
-			elevation = (-21527.78D * saturation) + 19375D + 2500D;
-
-		// Determine elevation in kilometers.
-		elevation = elevation / 1000D;
-
-		// Patch elevation problems at certain locations.
-		elevation = patchElevation(elevation, location);
-
-		return elevation;
-	}
-
-	/**
-	 * Patches elevation errors around mountain tops.
-	 * 
-	 * @param elevation the original elevation for the location.
-	 * @param location  the coordinates
-	 * @return the patched elevation for the location
-	 */
-	private double patchElevation(double elevation, Coordinates location) {
-		double result = elevation;
-
-		// Patch errors at Olympus Mons caldera.
-		if (Math.abs(location.getTheta() - OLYMPUS_MONS_CALDERA_THETA) < .04D) {
-			if (Math.abs(location.getPhi() - OLYMPUS_MONS_CALDERA_PHI) < .04D) {
-				if (elevation < 3D)
-					result = 20D;
-			}
-		}
-
-		// Patch errors at Ascraeus Mons.
-		if (Math.abs(location.getTheta() - ASCRAEUS_MONS_THETA) < .02D) {
-			if (Math.abs(location.getPhi() - ASCRAEUS_MONS_PHI) < .02D) {
-				if (elevation < 3D)
-					result = 20D;
-			}
-		}
-
-		return result;
+		return MapDataUtil.instance().getElevationMapData().getElevation(location.getPhi(), location.getTheta());
 	}
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ package org.mars_sim.msp.core.mars;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,6 +54,10 @@ public class Weather implements Serializable {
 	// // = 49.97W/180 deg * 500 millisols;
 	private static final double VIKING_LATITUDE = 22.48D; // At 22.48E
 
+	/** The order of the locations the weather is computed for. */
+	private static final Comparator<Coordinates> LOCATION_ORDER = Comparator.comparingDouble(Coordinates::getPhi)
+			.thenComparingDouble(Coordinates::getTheta);
+
 	public static final double PARTIAL_PRESSURE_CARBON_DIOXIDE_MARS = 0.57D; // in kPa
 	public static final double PARTIAL_PRESSURE_CARBON_DIOXIDE_EARTH = 0.035D; // in kPa
 	public static final double PARTIAL_PRESSURE_WATER_VAPOR_ROOM_CONDITION = 1.6D; // in kPa. under Earth's atmosphere,
@@ -168,13 +173,16 @@ public class Weather implements Serializable {
 	
 	/**
 	 * Checks if a location with certain coordinates already exists and add any new
-	 * location
+	 * location. The locations are kept sorted, so that the weather is computed in
+	 * the same order whichever settlement asks first.
 	 * 
 	 * @param location
 	 */
-	public void checkLocation(Coordinates location) {
-		if (!coordinateList.contains(location))
+	public synchronized void checkLocation(Coordinates location) {
+		if (!coordinateList.contains(location)) {
 			coordinateList.add(location);
+			coordinateList.sort(LOCATION_ORDER);
+		}
 	}
 
 	/**
@@ -837,7 +845,7 @@ public class Weather implements Serializable {
 					newStormID++;
 
 					LogConsolidated.log(Level.INFO, 1000, sourceName,
-							"[" + ds.getSettlements().get(0).getName() + "] On L_s = " + Math.round(L_s * 100.0) / 100.0
+							() -> "[" + ds.getSettlements().get(0).getName() + "] On L_s = " + Math.round(L_s * 100.0) / 100.0
 									+ ", " + ds.getName() + " was first spotted near " + s + "."); 
 
 				}
@@ -871,7 +879,7 @@ public class Weather implements Serializable {
 
 			if (ds.getSize() != 0)
 				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + ds.getSettlements().get(0).getName() + "] On Sol " + (solCache + 1) + ", " + ds.getName()
+						() -> "[" + ds.getSettlements().get(0).getName() + "] On Sol " + (solCache + 1) + ", " + ds.getName()
 								+ " (size " + ds.getSize() + " with windspeed "
 								+ Math.round(ds.getSpeed() * 10.0) / 10.0 + " m/s) was sighted.");
 		}
@@ -915,7 +923,7 @@ public class Weather implements Serializable {
 
 			if (ds.getSize() != 0)
 				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + ds.getSettlements().get(0).getName() + "] On Sol " + (solCache + 1) + ", " + ds.getName()
+						() -> "[" + ds.getSettlements().get(0).getName() + "] On Sol " + (solCache + 1) + ", " + ds.getName()
 								+ " (size " + ds.getSize() + " with windspeed "
 								+ Math.round(ds.getSpeed() * 10.0) / 10.0 + " m/s) was sighted.");
 		}
@@ -961,7 +969,7 @@ public class Weather implements Serializable {
 
 			if (ds.getSize() != 0)
 				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + ds.getSettlements().get(0).getName() + "] On Sol " + (solCache + 1) + ", " + ds.getName()
+						() -> "[" + ds.getSettlements().get(0).getName() + "] On Sol " + (solCache + 1) + ", " + ds.getName()
 								+ " (size " + ds.getSize() + " with windspeed "
 								+ Math.round(ds.getSpeed() * 10.0) / 10.0 + " m/s) was sighted.");
 		}
@@ -995,7 +1003,7 @@ public class Weather implements Serializable {
 
 			if (ds.getSize() != 0)
 				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + ds.getSettlements().get(0) + "] On Sol " + (solCache + 1) + ", " + ds.getName()
+						() -> "[" + ds.getSettlements().get(0) + "] On Sol " + (solCache + 1) + ", " + ds.getName()
 								+ " (size " + ds.getSize() + " with windspeed "
 								+ Math.round(ds.getSpeed() * 10.0) / 10.0 + " m/s) was sighted.");
 		}
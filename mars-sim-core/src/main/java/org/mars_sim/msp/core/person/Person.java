@@ -955,7 +955,7 @@ public class Person extends Unit implements VehicleOperator, MissionMember, Seri
 					} catch (Exception ex) {
 						ex.printStackTrace();
 						LogConsolidated.log(Level.SEVERE, 2000, sourceName,
-								"[" + getLocationTag().getLocale() + "] "
+								() -> "[" + getLocationTag().getLocale() + "] "
 								+ getName() + "'s Mind was having trouble processing task selection.", ex);
 					}
 
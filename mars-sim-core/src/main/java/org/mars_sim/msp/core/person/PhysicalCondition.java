@@ -101,6 +101,7 @@ public class PhysicalCondition implements Serializable {
 	private static double RANDOM_AILMENT_PROBABILITY_TIME = 100_000D;
 
 	private static double o2_consumption;
+	private static double low_o2_consumption;
 	private static double h2o_consumption;
 	private static double minimum_air_pressure;
 	private static double min_temperature;
@@ -342,6 +343,7 @@ public class PhysicalCondition implements Serializable {
 
 		h2o_consumption = personConfig.getWaterConsumptionRate(); // 3 kg per sol
 		o2_consumption = personConfig.getNominalO2ConsumptionRate();
+		low_o2_consumption = personConfig.getLowO2ConsumptionRate();
 
 		minimum_air_pressure = personConfig.getMinAirPressure();
 		min_temperature = personConfig.getMinTemperature();
@@ -426,11 +428,6 @@ public class PhysicalCondition implements Serializable {
 				} else
 					restingTask = false;
 			
-			if (restingTask)
-				o2_consumption = personConfig.getLowO2ConsumptionRate();
-			else
-				o2_consumption = personConfig.getNominalO2ConsumptionRate();
-				
 			// Check life support system
 			checkLifeSupport(time, support);
 			// Update radiation counter
@@ -580,20 +577,22 @@ public class PhysicalCondition implements Serializable {
 			String loc1 = person.getLocationTag().getImmediateLocation();
 //			System.out.println("tims : " + time + "  o2_consumption : " + o2_consumption);
 			try {
-				if (lackOxygen(support, o2_consumption * (time / 1000D)))
+				// A person at rest breathes less
+				double o2 = restingTask ? low_o2_consumption : o2_consumption;
+				if (lackOxygen(support, o2 * (time / 1000D)))
 					LogConsolidated.log(Level.SEVERE, 1000, sourceName,
-							"[" + loc0 + "] " + name + " in " + loc1 + " reported lack of oxygen.");
+							() -> "[" + loc0 + "] " + name + " in " + loc1 + " reported lack of oxygen.");
 				if (badAirPressure(support, minimum_air_pressure))
 					LogConsolidated.log(Level.SEVERE, 1000, sourceName,
-							"[" + loc0 + "] " + name + " in " + loc1 + " reported non-optimal air pressure.");
+							() -> "[" + loc0 + "] " + name + " in " + loc1 + " reported non-optimal air pressure.");
 				if (badTemperature(support, min_temperature, max_temperature))
 					LogConsolidated.log(Level.SEVERE, 1000, sourceName,
-							"[" + loc0 + "] " + name + " in " + loc1 + " reported non-optimal temperature.");
+							() -> "[" + loc0 + "] " + name + " in " + loc1 + " reported non-optimal temperature.");
 				
 			} catch (Exception e) {
 				e.printStackTrace();
 				LogConsolidated.log(Level.SEVERE, 1000, sourceName,
-						"[" + loc0 + "] " + name + " in " + loc1 + " reported anomaly in the life support system.");
+						() -> "[" + loc0 + "] " + name + " in " + loc1 + " reported anomaly in the life support system.");
 			}
 		}
 	}
@@ -929,7 +928,7 @@ public class PhysicalCondition implements Serializable {
 						addMedicalComplaint(panicAttack);
 						person.fireUnitUpdate(UnitEventType.ILLNESS_EVENT);
 						LogConsolidated.log(Level.INFO, 0, sourceName,
-								"[" + person.getLocationTag().getLocale() + "] " + name
+								() -> "[" + person.getLocationTag().getLocale() + "] " + name
 										+ " had a panic attack.");
 
 						// the person should be carried to the sickbay at this point
@@ -947,7 +946,7 @@ public class PhysicalCondition implements Serializable {
 						addMedicalComplaint(depression);
 						person.fireUnitUpdate(UnitEventType.ILLNESS_EVENT);
 						LogConsolidated.log(Level.INFO, 0, sourceName,
-								"[" + person.getLocationTag().getLocale() + "] " + name
+								() -> "[" + person.getLocationTag().getLocale() + "] " + name
 										+ " had an episode of depression.");
 //						person.getMind().getTaskManager().addTask(new RequestMedicalTreatment(person));
 					} else
@@ -1010,7 +1009,7 @@ public class PhysicalCondition implements Serializable {
 				isRadiationPoisoned = true;
 				person.fireUnitUpdate(UnitEventType.ILLNESS_EVENT);
 				LogConsolidated.log(Level.INFO, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + name
+						() -> "[" + person.getLocationTag().getLocale() + "] " + name
 								+ " collapsed because of radiation poisoning.");
 //				person.getMind().getTaskManager().addTask(new RequestMedicalTreatment(person));
 			} 
@@ -1199,13 +1198,9 @@ public class PhysicalCondition implements Serializable {
 
 			String n = type.getName().toLowerCase();
 			String prefix = "[" + person.getLocationTag().getLocale() + "] ";
-			String phrase = "";
-			String suffix = ".";
-
-			if (person.isInSettlement()) {
-				// prefix = "[" + person.getSettlement() + "] ";
-				suffix = " in " + person.getBuildingLocation() + ".";
-			}
+			String phrase;
+			// prefix = "[" + person.getSettlement() + "] ";
+			String suffix = person.isInSettlement() ? " in " + person.getBuildingLocation() + "." : ".";
 
 			if (type == ComplaintType.STARVATION)// .equalsIgnoreCase("starvation"))
 				phrase = " was starving";
@@ -1231,10 +1226,11 @@ public class PhysicalCondition implements Serializable {
 				phrase = " had a pulled muscle";
 			else if (type == ComplaintType.HIGH_FATIGUE_COLLAPSE)
 				phrase = " had a high fatigue collapse";
-//			else
+			else
+				phrase = "";
 //				phrase = " was complaining about " + n;
 
-			LogConsolidated.log(Level.INFO, 0, sourceName, prefix + person + phrase + suffix);
+			LogConsolidated.log(Level.INFO, 0, sourceName, () -> prefix + person + phrase + suffix);
 
 			recalculatePerformance();
 			
@@ -1278,7 +1274,7 @@ public class PhysicalCondition implements Serializable {
 			// throw new IllegalStateException("Warning: less than 0.01 kg dried food
 			// remaining!");
 			LogConsolidated.log(Level.WARNING, 10_000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "]" + " only " + foodAvailable
+					() -> "[" + person.getLocationTag().getLocale() + "]" + " only " + foodAvailable
 							+ " kg preserved food remaining.");
 			}
 
@@ -1784,7 +1780,7 @@ public class PhysicalCondition implements Serializable {
 	}
 
 	/**
-	 * Gets the oxygen consumption rate per Sol.
+	 * Gets the nominal oxygen consumption rate per Sol.
 	 * 
 	 * @return oxygen consumed (kg/Sol)
 	 * @throws Exception if error in configuration.
@@ -16,6 +16,7 @@ import java.util.logging.Logger;
 import org.mars_sim.msp.core.LogConsolidated;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.UnitEventType;
+import org.mars_sim.msp.core.UnitTickEngine;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.PersonalityTraitManager;
 import org.mars_sim.msp.core.person.ai.job.Job;
@@ -264,7 +265,7 @@ public class Mind implements Serializable {
 					getNewAction(true, needMission);
 				} catch (Exception e) {
 					LogConsolidated.log(Level.SEVERE, 5_000, sourceName,
-							person.getName() + " could not get new action", e);
+							() -> person.getName() + " could not get new action", e);
 					e.printStackTrace(System.err);
 				}
 			}
@@ -354,7 +355,7 @@ public class Mind implements Serializable {
 					jh.saveJob(newJob, assignedBy, status, approvedBy, false);
 				}
 				LogConsolidated.log(Level.CONFIG, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 						+ " took the " + newJobStr + " job position.");
 
 				person.fireUnitUpdate(UnitEventType.JOB_EVENT, newJob);
@@ -429,26 +430,14 @@ public class Mind implements Serializable {
 	 */
 	public void getNewAction(boolean tasks, boolean missions) {
 		// If this Person is too weak then they can not do Missions
-		if (person.getPerformanceRating() < MINIMUM_MISSION_PERFORMANCE) {
-			missions = false;
-		}
+		boolean canMission = missions && person.getPerformanceRating() >= MINIMUM_MISSION_PERFORMANCE;
 
 		// Get probability weights from tasks, missions and active missions.
-		double taskWeights = 0D;
-		double missionWeights = 0D;
+		double taskWeights = tasks ? taskManager.getTotalTaskProbability(false) : 0D;
+		double missionWeights = canMission ? missionManager.getTotalMissionProbability(person) : 0D;
 
 		// Determine sum of weights based on given parameters
-		double weightSum = 0D;
-
-		if (tasks) {
-			taskWeights = taskManager.getTotalTaskProbability(false);
-			weightSum += taskWeights;
-		}
-
-		if (missions) {
-			missionWeights = missionManager.getTotalMissionProbability(person);
-			weightSum += missionWeights;
-		}
+		double weightSum = taskWeights + missionWeights;
 
 		if ((weightSum <= 0D) || (Double.isNaN(weightSum)) || (Double.isInfinite(weightSum))) {
 //			try {
@@ -457,8 +446,8 @@ public class Mind implements Serializable {
 //				e.printStackTrace();
 //			}
 			LogConsolidated.log(Level.SEVERE, 20_000, sourceName,
-					person.getName() + " has an invalid weight sum of " + weightSum 
-					+ ". (tasks is " + tasks + ". missions is " + missions + "). Clearing all tasks...");
+					() -> person.getName() + " has an invalid weight sum of " + weightSum 
+					+ ". (tasks is " + tasks + ". missions is " + canMission + "). Clearing all tasks...");
 //			taskManager.clearTask();
 //			throw new IllegalStateException("Mind.getNewAction(): " + person + " weight sum: " + weightSum);
 		}
@@ -481,13 +470,10 @@ public class Mind implements Serializable {
 			}
 		}
 
-		if (missions) {
+		if (canMission) {
 			if (rand < missionWeights) {
-				Mission newMission = missionManager.getNewMission(person);
-				if (newMission != null) {
-					missionManager.addMission(newMission);
-					setMission(newMission);
-				}
+				// A new mission may reach other settlements, so it starts in the serial phase
+				UnitTickEngine.defer(this::startNewMission);
 
 				return;
 			} else {
@@ -498,10 +484,25 @@ public class Mind implements Serializable {
 		
 		// If reached this point, no task or mission has been found.
 		LogConsolidated.log(Level.SEVERE, 20_000, sourceName,
-					person.getName() + " couldn't determine new action - taskWeights: " + taskWeights
+					() -> person.getName() + " couldn't determine new action - taskWeights: " + taskWeights
 				+ ", missionWeights: " + missionWeights);	
 	}
 
+	/**
+	 * Starts a new mission for the person, unless the person has got one or is
+	 * gone in the meantime.
+	 */
+	private void startNewMission() {
+		if (hasActiveMission() || person.getPhysicalCondition().isDead())
+			return;
+
+		Mission newMission = missionManager.getNewMission(person);
+		if (newMission != null) {
+			missionManager.addMission(newMission);
+			setMission(newMission);
+		}
+	}
+
 	/**
 	 * Calls the psi function
 	 * @param av
@@ -318,8 +318,7 @@ public class PersonalityType implements Serializable {
 	 * Prepare object for garbage collection.
 	 */
 	public void destroy() {
-		if (personalityDistribution != null)
-			personalityDistribution.clear();
+		// The distribution is shared with the person config, so it is not cleared
 		personalityDistribution = null;
 		personalityType = null;
 		person = null;
@@ -6,6 +6,9 @@
  */
 package org.mars_sim.msp.core.person.ai.mission;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,6 +37,7 @@ import org.mars_sim.msp.core.science.ScientificStudy;
 import org.mars_sim.msp.core.science.ScientificStudyManager;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Rover;
 import org.mars_sim.msp.core.vehicle.Vehicle;
@@ -65,7 +69,7 @@ public class AreologyStudyFieldMission extends RoverMission implements Serializa
 
 	// Data members
 	/** The start time at the field site. */
-	private MarsClock fieldSiteStartTime;
+	private MarsTime fieldSiteStart;
 	/** External flag for ending research at the field site. */
 	private boolean endFieldSite;
 	/** The field site location. */
@@ -480,14 +484,14 @@ public class AreologyStudyFieldMission extends RoverMission implements Serializa
 	private void researchFieldSitePhase(MissionMember member) {
 
 		// Check if field site research has just started.
-		if (fieldSiteStartTime == null) {
-			fieldSiteStartTime = (MarsClock) Simulation.instance().getMasterClock().getMarsClock().clone();
+		if (fieldSiteStart == null) {
+			fieldSiteStart = Simulation.instance().getMasterClock().getMarsClock().getTime();
 		}
 
 		// Check if crew has been at site for more than required length of time.
 		boolean timeExpired = false;
-		MarsClock currentTime = (MarsClock) Simulation.instance().getMasterClock().getMarsClock().clone();
-		if (MarsClock.getTimeDiff(currentTime, fieldSiteStartTime) >= FIELD_SITE_TIME) {
+		MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
+		if (currentTime.getTimeDiff(fieldSiteStart) >= FIELD_SITE_TIME) {
 			timeExpired = true;
 		}
 
@@ -604,7 +608,7 @@ public class AreologyStudyFieldMission extends RoverMission implements Serializa
 		// Add estimated remaining field work time at field site if still there.
 		if (RESEARCH_SITE.equals(getPhase())) {
 			MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-			double timeSpentAtExplorationSite = MarsClock.getTimeDiff(currentTime, fieldSiteStartTime);
+			double timeSpentAtExplorationSite = currentTime.getTimeDiff(fieldSiteStart);
 			double remainingTime = FIELD_SITE_TIME - timeSpentAtExplorationSite;
 			if (remainingTime > 0D) {
 				result += remainingTime;
@@ -612,7 +616,7 @@ public class AreologyStudyFieldMission extends RoverMission implements Serializa
 		}
 
 		// If field site hasn't been visited yet, add full field work time.
-		if (fieldSiteStartTime == null) {
+		if (fieldSiteStart == null) {
 			result += FIELD_SITE_TIME;
 		}
 
@@ -676,10 +680,36 @@ public class AreologyStudyFieldMission extends RoverMission implements Serializa
 		return result;
 	}
 
+	/**
+	 * Implementing readObject method for serialization. An older save keeps the
+	 * start time at the field site as a clock.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		ObjectStreamClass desc = fields.getObjectStreamClass();
+
+		endFieldSite = fields.get("endFieldSite", false);
+		fieldSite = (Coordinates) fields.get("fieldSite", null);
+		study = (ScientificStudy) fields.get("study", null);
+		leadResearcher = (Person) fields.get("leadResearcher", null);
+
+		if (desc.getField("fieldSiteStart") != null) {
+			fieldSiteStart = (MarsTime) fields.get("fieldSiteStart", null);
+		}
+		else if (desc.getField("fieldSiteStartTime") != null) {
+			MarsClock startTime = (MarsClock) fields.get("fieldSiteStartTime", null);
+			fieldSiteStart = (startTime == null) ? null : startTime.getTime();
+		}
+	}
 	@Override
 	public void destroy() {
 		super.destroy();
-		fieldSiteStartTime = null;
+		fieldSiteStart = null;
 		fieldSite = null;
 		study = null;
 		leadResearcher = null;
@@ -6,6 +6,9 @@
  */
 package org.mars_sim.msp.core.person.ai.mission;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -33,6 +36,7 @@ import org.mars_sim.msp.core.science.ScientificStudy;
 import org.mars_sim.msp.core.science.ScientificStudyManager;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Rover;
 import org.mars_sim.msp.core.vehicle.Vehicle;
@@ -64,7 +68,7 @@ public class BiologyStudyFieldMission extends RoverMission implements Serializab
 	private boolean endFieldSite;
 
 	/** The start time at the field site. */
-	private MarsClock fieldSiteStartTime;
+	private MarsTime fieldSiteStart;
 	/** The field site location. */
 	private Coordinates fieldSite;
 	/** Scientific study to research. */
@@ -477,14 +481,14 @@ public class BiologyStudyFieldMission extends RoverMission implements Serializab
 	private void researchFieldSitePhase(MissionMember member) {
 
 		// Check if field site research has just started.
-		if (fieldSiteStartTime == null) {
-			fieldSiteStartTime = (MarsClock) Simulation.instance().getMasterClock().getMarsClock().clone();
+		if (fieldSiteStart == null) {
+			fieldSiteStart = Simulation.instance().getMasterClock().getMarsClock().getTime();
 		}
 
 		// Check if crew has been at site for more than required length of time.
 		boolean timeExpired = false;
-		MarsClock currentTime = (MarsClock) Simulation.instance().getMasterClock().getMarsClock().clone();
-		if (MarsClock.getTimeDiff(currentTime, fieldSiteStartTime) >= FIELD_SITE_TIME) {
+		MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
+		if (currentTime.getTimeDiff(fieldSiteStart) >= FIELD_SITE_TIME) {
 			timeExpired = true;
 		}
 
@@ -601,14 +605,14 @@ public class BiologyStudyFieldMission extends RoverMission implements Serializab
 		// Add estimated remaining field work time at field site if still there.
 		if (RESEARCH_SITE.equals(getPhase())) {
 			MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-			double timeSpentAtExplorationSite = MarsClock.getTimeDiff(currentTime, fieldSiteStartTime);
+			double timeSpentAtExplorationSite = currentTime.getTimeDiff(fieldSiteStart);
 			double remainingTime = FIELD_SITE_TIME - timeSpentAtExplorationSite;
 			if (remainingTime > 0D)
 				result += remainingTime;
 		}
 
 		// If field site hasn't been visited yet, add full field work time.
-		if (fieldSiteStartTime == null)
+		if (fieldSiteStart == null)
 			result += FIELD_SITE_TIME;
 
 		return result;
@@ -654,11 +658,37 @@ public class BiologyStudyFieldMission extends RoverMission implements Serializab
 		return result;
 	}
 
+	/**
+	 * Implementing readObject method for serialization. An older save keeps the
+	 * start time at the field site as a clock.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		ObjectStreamClass desc = fields.getObjectStreamClass();
+
+		endFieldSite = fields.get("endFieldSite", false);
+		fieldSite = (Coordinates) fields.get("fieldSite", null);
+		study = (ScientificStudy) fields.get("study", null);
+		leadResearcher = (Person) fields.get("leadResearcher", null);
+
+		if (desc.getField("fieldSiteStart") != null) {
+			fieldSiteStart = (MarsTime) fields.get("fieldSiteStart", null);
+		}
+		else if (desc.getField("fieldSiteStartTime") != null) {
+			MarsClock startTime = (MarsClock) fields.get("fieldSiteStartTime", null);
+			fieldSiteStart = (startTime == null) ? null : startTime.getTime();
+		}
+	}
 	@Override
 	public void destroy() {
 		super.destroy();
 
-		fieldSiteStartTime = null;
+		fieldSiteStart = null;
 		fieldSite = null;
 		study = null;
 		leadResearcher = null;
@@ -8,6 +8,9 @@ package org.mars_sim.msp.core.person.ai.mission;
 
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -49,6 +52,7 @@ import org.mars_sim.msp.core.structure.construction.ConstructionUtil;
 import org.mars_sim.msp.core.structure.construction.ConstructionValues;
 import org.mars_sim.msp.core.structure.construction.ConstructionVehicleType;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Crewable;
 import org.mars_sim.msp.core.vehicle.GroundVehicle;
@@ -113,7 +117,7 @@ public class BuildingConstructionMission extends Mission implements Serializable
 	private Settlement settlement;
 	private ConstructionSite site;
 	private ConstructionStage stage;
-	private MarsClock sitePreparationStartTime;
+	private MarsTime sitePreparationStart;
 
 	private List<GroundVehicle> constructionVehicles;
 	private Collection<MissionMember> members;// = constructionSite.getMembers();
@@ -762,11 +766,11 @@ public class BuildingConstructionMission extends Mission implements Serializable
 
 		// Check if site preparation time has expired.
 		MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-		if (sitePreparationStartTime == null) {
-			sitePreparationStartTime = (MarsClock) currentTime.clone();
+		if (sitePreparationStart == null) {
+			sitePreparationStart = currentTime.getTime();
 		}
 
-		if (MarsClock.getTimeDiff(currentTime, sitePreparationStartTime) >= SITE_PREPARE_TIME) {
+		if (currentTime.getTimeDiff(sitePreparationStart) >= SITE_PREPARE_TIME) {
 			setPhaseEnded(true);
 		}
 	}
@@ -1147,8 +1151,8 @@ public class BuildingConstructionMission extends Mission implements Serializable
 					goodPosition = determineSite(buildingType, DEFAULT_LARGE_GREENHOUSE_DISTANCE, site);
 				} else {
 					// Try to put building next to another inhabitable building.
-					List<Building> inhabitableBuildings = settlement.getBuildingManager()
-							.getBuildings(FunctionType.LIFE_SUPPORT);
+					List<Building> inhabitableBuildings = new ArrayList<Building>(settlement.getBuildingManager()
+							.getBuildings(FunctionType.LIFE_SUPPORT));
 					Collections.shuffle(inhabitableBuildings);
 					for (Building b : inhabitableBuildings) {
 						// Match the floor area (e.g look more organize to put all 7m x 9m next to one
@@ -1175,7 +1179,7 @@ public class BuildingConstructionMission extends Mission implements Serializable
 
 			logger.fine("buildingType : " + buildingType);
 			// Try to put building next to another inhabitable building.
-			List<Building> inhabitableBuildings = s.getBuildingManager().getBuildings();// FunctionType.LIFE_SUPPORT);
+			List<Building> inhabitableBuildings = s.getBuildingManager().getACopyOfBuildings();// FunctionType.LIFE_SUPPORT);
 			Collections.shuffle(inhabitableBuildings);
 			for (Building b : inhabitableBuildings) {
 				// Match the floor area (e.g look more organize to put all 7m x 9m next to one
@@ -1230,7 +1234,7 @@ public class BuildingConstructionMission extends Mission implements Serializable
 		boolean result = false;
 
 		BuildingManager manager = settlement.getBuildingManager();
-		List<Building> inhabitableBuildings = manager.getBuildings(FunctionType.LIFE_SUPPORT);
+		List<Building> inhabitableBuildings = new ArrayList<Building>(manager.getBuildings(FunctionType.LIFE_SUPPORT));
 		Collections.shuffle(inhabitableBuildings);
 
 		BuildingConfig buildingConfig = SimulationConfig.instance().getBuildingConfiguration();
@@ -1645,6 +1649,36 @@ public class BuildingConstructionMission extends Mission implements Serializable
 		return goodPosition;
 	}
 
+	/**
+	 * Implementing readObject method for serialization. An older save keeps the
+	 * start time of the site preparation as a clock.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		ObjectStreamClass desc = fields.getObjectStreamClass();
+
+		settlement = (Settlement) fields.get("settlement", null);
+		site = (ConstructionSite) fields.get("site", null);
+		stage = (ConstructionStage) fields.get("stage", null);
+		constructionVehicles = (List<GroundVehicle>) fields.get("constructionVehicles", null);
+		members = (Collection<MissionMember>) fields.get("members", null);
+		luvAttachmentParts = (List<Integer>) fields.get("luvAttachmentParts", null);
+
+		if (desc.getField("sitePreparationStart") != null) {
+			sitePreparationStart = (MarsTime) fields.get("sitePreparationStart", null);
+		}
+		else if (desc.getField("sitePreparationStartTime") != null) {
+			MarsClock startTime = (MarsClock) fields.get("sitePreparationStartTime", null);
+			sitePreparationStart = (startTime == null) ? null : startTime.getTime();
+		}
+	}
+
 	@Override
 	public void destroy() {
 		super.destroy();
@@ -1656,7 +1690,7 @@ public class BuildingConstructionMission extends Mission implements Serializable
 			constructionVehicles.clear();
 		}
 		constructionVehicles = null;
-		sitePreparationStartTime = null;
+		sitePreparationStart = null;
 		if (luvAttachmentParts != null) {
 			luvAttachmentParts.clear();
 		}
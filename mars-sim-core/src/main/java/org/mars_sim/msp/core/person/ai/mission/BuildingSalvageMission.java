@@ -7,6 +7,9 @@
 package org.mars_sim.msp.core.person.ai.mission;
 
 import java.awt.geom.Point2D;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -42,6 +45,7 @@ import org.mars_sim.msp.core.structure.construction.ConstructionVehicleType;
 import org.mars_sim.msp.core.structure.construction.SalvageValues;
 import org.mars_sim.msp.core.structure.goods.GoodsUtil;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Crewable;
 import org.mars_sim.msp.core.vehicle.GroundVehicle;
@@ -86,7 +90,7 @@ public class BuildingSalvageMission extends Mission implements Serializable {
 	private Settlement settlement;
 	private ConstructionSite constructionSite;
 	private ConstructionStage constructionStage;
-	private MarsClock sitePreparationStartTime;
+	private MarsTime sitePreparationStart;
 	
 	private List<GroundVehicle> constructionVehicles;
 	private List<Integer> luvAttachmentParts;
@@ -449,7 +453,7 @@ public class BuildingSalvageMission extends Mission implements Serializable {
 
 		SalvageValues values = settlement.getConstructionManager().getSalvageValues();
 		Map<Building, Double> salvageBuildings = new HashMap<Building, Double>();
-		Iterator<Building> i = settlement.getBuildingManager().getACopyOfBuildings().iterator();
+		Iterator<Building> i = settlement.getBuildingManager().getBuildings().iterator();
 		while (i.hasNext()) {
 			Building building = i.next();
 			double salvageProfit = values.getNewBuildingSalvageProfit(building, constructionSkill);
@@ -532,10 +536,10 @@ public class BuildingSalvageMission extends Mission implements Serializable {
 
 		// Check if site preparation time has expired.
 		MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-		if (sitePreparationStartTime == null) {
-			sitePreparationStartTime = (MarsClock) currentTime.clone();
+		if (sitePreparationStart == null) {
+			sitePreparationStart = currentTime.getTime();
 		}
-		if (MarsClock.getTimeDiff(currentTime, sitePreparationStartTime) >= SITE_PREPARE_TIME) {
+		if (currentTime.getTimeDiff(sitePreparationStart) >= SITE_PREPARE_TIME) {
 			setPhaseEnded(true);
 		}
 	}
@@ -943,6 +947,37 @@ public class BuildingSalvageMission extends Mission implements Serializable {
 		return constructionStage;
 	}
 
+	/**
+	 * Implementing readObject method for serialization. An older save keeps the
+	 * start time of the site preparation as a clock.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		ObjectStreamClass desc = fields.getObjectStreamClass();
+
+		finishingExistingStage = fields.get("finishingExistingStage", false);
+		wearCondition = fields.get("wearCondition", 0D);
+		settlement = (Settlement) fields.get("settlement", null);
+		constructionSite = (ConstructionSite) fields.get("constructionSite", null);
+		constructionStage = (ConstructionStage) fields.get("constructionStage", null);
+		constructionVehicles = (List<GroundVehicle>) fields.get("constructionVehicles", null);
+		luvAttachmentParts = (List<Integer>) fields.get("luvAttachmentParts", null);
+
+		if (desc.getField("sitePreparationStart") != null) {
+			sitePreparationStart = (MarsTime) fields.get("sitePreparationStart", null);
+		}
+		else if (desc.getField("sitePreparationStartTime") != null) {
+			MarsClock startTime = (MarsClock) fields.get("sitePreparationStartTime", null);
+			sitePreparationStart = (startTime == null) ? null : startTime.getTime();
+		}
+	}
+
 	@Override
 	public void destroy() {
 		super.destroy();
@@ -953,7 +988,7 @@ public class BuildingSalvageMission extends Mission implements Serializable {
 		if (constructionVehicles != null)
 			constructionVehicles.clear();
 		constructionVehicles = null;
-		sitePreparationStartTime = null;
+		sitePreparationStart = null;
 		if (luvAttachmentParts != null)
 			luvAttachmentParts.clear();
 		luvAttachmentParts = null;
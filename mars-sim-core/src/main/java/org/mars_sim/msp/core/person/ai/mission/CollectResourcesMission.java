@@ -7,6 +7,9 @@
 
 package org.mars_sim.msp.core.person.ai.mission;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,6 +37,7 @@ import org.mars_sim.msp.core.resource.ResourceUtil;
 import org.mars_sim.msp.core.robot.Robot;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Rover;
 import org.mars_sim.msp.core.vehicle.Vehicle;
@@ -80,7 +84,7 @@ public abstract class CollectResourcesMission extends RoverMission implements Se
 	/** The type of container needed for the mission or null if none. */
 	private Integer containerType;
 	/** The start time at the current collection site. */
-	private MarsClock collectionSiteStartTime;
+	private MarsTime collectionSiteStart;
 	/** The type of resource to collect. */
 	private Integer resourceType;
 
@@ -343,7 +347,7 @@ public abstract class CollectResourcesMission extends RoverMission implements Se
 				setPhase(COLLECT_RESOURCES);
 				setPhaseDescription(Msg.getString("Mission.phase.collectResources.description",
 						getCurrentNavpoint().getDescription())); // $NON-NLS-1$
-				collectionSiteStartTime = (MarsClock) Simulation.instance().getMasterClock().getMarsClock().clone();
+				collectionSiteStart = Simulation.instance().getMasterClock().getMarsClock().getTime();
 			}
 
 		}
@@ -623,9 +627,9 @@ public abstract class CollectResourcesMission extends RoverMission implements Se
 		double result = 0D;
 
 		// Add estimated remaining collection time at current site if still there.
-		if (COLLECT_RESOURCES.equals(getPhase())) {
+		if (COLLECT_RESOURCES.equals(getPhase()) && collectionSiteStart != null) {
 			MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-			double timeSpentAtCollectionSite = MarsClock.getTimeDiff(currentTime, collectionSiteStartTime);
+			double timeSpentAtCollectionSite = currentTime.getTimeDiff(collectionSiteStart);
 			double remainingTime = getEstimatedTimeAtCollectionSite(useBuffer) - timeSpentAtCollectionSite;
 			if (remainingTime > 0D)
 				result += remainingTime;
@@ -789,6 +793,38 @@ public abstract class CollectResourcesMission extends RoverMission implements Se
 		}
 	}
 
+	/**
+	 * Implementing readObject method for serialization. An older save keeps the
+	 * start time at the current site as a clock.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		ObjectStreamClass desc = fields.getObjectStreamClass();
+
+		siteCollectedResources = fields.get("siteCollectedResources", 0D);
+		collectingStart = fields.get("collectingStart", 0D);
+		siteResourceGoal = fields.get("siteResourceGoal", 0D);
+		resourceCollectionRate = fields.get("resourceCollectionRate", 0D);
+		containerNum = fields.get("containerNum", 0);
+		endCollectingSite = fields.get("endCollectingSite", false);
+		totalResourceCollected = fields.get("totalResourceCollected", 0D);
+		containerType = (Integer) fields.get("containerType", null);
+		resourceType = (Integer) fields.get("resourceType", null);
+
+		if (desc.getField("collectionSiteStart") != null) {
+			collectionSiteStart = (MarsTime) fields.get("collectionSiteStart", null);
+		}
+		else if (desc.getField("collectionSiteStartTime") != null) {
+			MarsClock startTime = (MarsClock) fields.get("collectionSiteStartTime", null);
+			collectionSiteStart = (startTime == null) ? null : startTime.getTime();
+		}
+	}
+
 	/**
 	 * Gets the description of a collection site.
 	 * 
@@ -804,6 +840,6 @@ public abstract class CollectResourcesMission extends RoverMission implements Se
 		personConfig = null;
 		resourceType = null;
 		containerType = null;
-		collectionSiteStartTime = null;
+		collectionSiteStart = null;
 	}
 }
\ No newline at end of file
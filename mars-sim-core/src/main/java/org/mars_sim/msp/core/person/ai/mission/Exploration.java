@@ -6,6 +6,9 @@
  */
 package org.mars_sim.msp.core.person.ai.mission;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -36,6 +39,7 @@ import org.mars_sim.msp.core.resource.ResourceUtil;
 import org.mars_sim.msp.core.robot.Robot;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Rover;
 import org.mars_sim.msp.core.vehicle.Vehicle;
@@ -74,7 +78,7 @@ public class Exploration extends RoverMission implements Serializable {
 	/** Map of exploration sites and their completion. */
 	private Map<String, Double> explorationSiteCompletion;
 	/** The start time at the current exploration site. */
-	private MarsClock explorationSiteStartTime;
+	private MarsTime explorationSiteStart;
 	/** The current exploration site. */
 	private ExploredLocation currentSite;
 	/** List of sites explored by this mission. */
@@ -331,13 +335,15 @@ public class Exploration extends RoverMission implements Serializable {
 		// Add new explored site if just starting exploring.
 		if (currentSite == null) {
 			createNewExploredSite();
-			explorationSiteStartTime = (MarsClock) Simulation.instance().getMasterClock().getMarsClock().clone();
+			explorationSiteStart = null;
 		}
+		MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
+		if (explorationSiteStart == null)
+			explorationSiteStart = currentTime.getTime();
 
 		// Check if crew has been at site for more than one sol.
 		boolean timeExpired = false;
-		MarsClock currentTime = (MarsClock) Simulation.instance().getMasterClock().getMarsClock().clone();
-		double timeDiff = MarsClock.getTimeDiff(currentTime, explorationSiteStartTime);
+		double timeDiff = currentTime.getTimeDiff(explorationSiteStart);
 		if (timeDiff >= EXPLORING_SITE_TIME) {
 			timeExpired = true;
 		}
@@ -489,9 +495,9 @@ public class Exploration extends RoverMission implements Serializable {
 		double result = 0D;
 
 		// Add estimated remaining exploration time at current site if still there.
-		if (EXPLORE_SITE.equals(getPhase())) {
+		if (EXPLORE_SITE.equals(getPhase()) && explorationSiteStart != null) {
 			MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-			double timeSpentAtExplorationSite = MarsClock.getTimeDiff(currentTime, explorationSiteStartTime);
+			double timeSpentAtExplorationSite = currentTime.getTimeDiff(explorationSiteStart);
 			double remainingTime = EXPLORING_SITE_TIME - timeSpentAtExplorationSite;
 			if (remainingTime > 0D)
 				result += remainingTime;
@@ -842,6 +848,34 @@ public class Exploration extends RoverMission implements Serializable {
 		return exploredSites;
 	}
 
+	/**
+	 * Implementing readObject method for serialization. An older save keeps the
+	 * start time at the current site as a clock.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		ObjectStreamClass desc = fields.getObjectStreamClass();
+
+		explorationSiteCompletion = (Map<String, Double>) fields.get("explorationSiteCompletion", null);
+		currentSite = (ExploredLocation) fields.get("currentSite", null);
+		exploredSites = (List<ExploredLocation>) fields.get("exploredSites", null);
+		endExploringSite = fields.get("endExploringSite", false);
+
+		if (desc.getField("explorationSiteStart") != null) {
+			explorationSiteStart = (MarsTime) fields.get("explorationSiteStart", null);
+		}
+		else if (desc.getField("explorationSiteStartTime") != null) {
+			MarsClock startTime = (MarsClock) fields.get("explorationSiteStartTime", null);
+			explorationSiteStart = (startTime == null) ? null : startTime.getTime();
+		}
+	}
+
 	/**
 	 * Gets a map of exploration site names and their level of completion.
 	 * 
@@ -858,7 +892,7 @@ public class Exploration extends RoverMission implements Serializable {
 		if (explorationSiteCompletion != null)
 			explorationSiteCompletion.clear();
 		explorationSiteCompletion = null;
-		explorationSiteStartTime = null;
+		explorationSiteStart = null;
 		currentSite = null;
 		if (exploredSites != null)
 			exploredSites.clear();
@@ -7,6 +7,9 @@
 
 package org.mars_sim.msp.core.person.ai.mission;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -39,6 +42,7 @@ import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.goods.Good;
 import org.mars_sim.msp.core.structure.goods.GoodsUtil;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Crewable;
 import org.mars_sim.msp.core.vehicle.LightUtilityVehicle;
@@ -85,7 +89,7 @@ public class Mining extends RoverMission {
 	private boolean endMiningSite;
 	
 	private ExploredLocation miningSite;
-	private MarsClock miningSiteStartTime;
+	private MarsTime miningSiteStart;
 	private LightUtilityVehicle luv;
 
 	private Map<AmountResource, Double> excavatedMinerals;
@@ -425,8 +429,9 @@ public class Mining extends RoverMission {
 	private void miningPhase(MissionMember member) {
 
 		// Set the mining site start time if necessary.
-		if (miningSiteStartTime == null) {
-			miningSiteStartTime = (MarsClock) Simulation.instance().getMasterClock().getMarsClock().clone();
+		MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
+		if (miningSiteStart == null) {
+			miningSiteStart = currentTime.getTime();
 		}
 
 		// Detach towed light utility vehicle if necessary.
@@ -437,8 +442,7 @@ public class Mining extends RoverMission {
 
 		// Check if crew has been at site for more than three sols.
 		boolean timeExpired = false;
-		MarsClock currentTime = (MarsClock) Simulation.instance().getMasterClock().getMarsClock().clone();
-		if (MarsClock.getTimeDiff(currentTime, miningSiteStartTime) >= MINING_SITE_TIME) {
+		if (currentTime.getTimeDiff(miningSiteStart) >= MINING_SITE_TIME) {
 			timeExpired = true;
 		}
 
@@ -969,16 +973,16 @@ public class Mining extends RoverMission {
 		double result = 0D;
 
 		// Use estimated remaining mining time at site if still there.
-		if (MINING_SITE.equals(getPhase())) {
+		if (MINING_SITE.equals(getPhase()) && miningSiteStart != null) {
 			MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-			double timeSpentAtMiningSite = MarsClock.getTimeDiff(currentTime, miningSiteStartTime);
+			double timeSpentAtMiningSite = currentTime.getTimeDiff(miningSiteStart);
 			double remainingTime = MINING_SITE_TIME - timeSpentAtMiningSite;
 			if (remainingTime > 0D) {
 				result = remainingTime;
 			}
 		} else {
 			// If mission hasn't reached mining site yet, use estimated mining site time.
-			if (miningSiteStartTime == null) {
+			if (miningSiteStart == null) {
 				result = MINING_SITE_TIME;
 			}
 		}
@@ -1150,6 +1154,35 @@ public class Mining extends RoverMission {
 		fireMissionUpdate(MissionEventType.EXCAVATE_MINERALS_EVENT);
 	}
 
+	/**
+	 * Implementing readObject method for serialization. An older save keeps the
+	 * start time at the current site as a clock.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		ObjectStreamClass desc = fields.getObjectStreamClass();
+
+		endMiningSite = fields.get("endMiningSite", false);
+		miningSite = (ExploredLocation) fields.get("miningSite", null);
+		luv = (LightUtilityVehicle) fields.get("luv", null);
+		excavatedMinerals = (Map<AmountResource, Double>) fields.get("excavatedMinerals", null);
+		totalExcavatedMinerals = (Map<AmountResource, Double>) fields.get("totalExcavatedMinerals", null);
+
+		if (desc.getField("miningSiteStart") != null) {
+			miningSiteStart = (MarsTime) fields.get("miningSiteStart", null);
+		}
+		else if (desc.getField("miningSiteStartTime") != null) {
+			MarsClock startTime = (MarsClock) fields.get("miningSiteStartTime", null);
+			miningSiteStart = (startTime == null) ? null : startTime.getTime();
+		}
+	}
+
 	/**
 	 * Collects an amount of a mineral.
 	 * 
@@ -1176,7 +1209,7 @@ public class Mining extends RoverMission {
 		super.destroy();
 
 		miningSite = null;
-		miningSiteStartTime = null;
+		miningSiteStart = null;
 		if (excavatedMinerals != null) {
 			excavatedMinerals.clear();
 		}
@@ -213,7 +213,7 @@ public abstract class Mission implements Serializable {
 
 			// Log mission starting.
 			int n = members.size();
-			String str = "";
+			String str;
 			if (n == 0)
 				str = ".";
 			else if (n == 1)
@@ -221,12 +221,9 @@ public abstract class Mission implements Serializable {
 			else
 				str = "' with " + n + " others.";
 			
-			String article = "a ";
-					
-			if(Conversion.isVowel(missionName))
-				article = "an ";
+			String article = Conversion.isVowel(missionName) ? "an " : "a ";
 
-			LogConsolidated.log(Level.INFO, 1000, sourceName, "[" + person.getSettlement() + "] "
+			LogConsolidated.log(Level.INFO, 1000, sourceName, () -> "[" + person.getSettlement() + "] "
 					+ startingMember.getName() + " is organizing " + article + missionName + " mission" + str);
 
 			// Add starting member to mission.
@@ -771,7 +768,7 @@ public abstract class Mission implements Serializable {
 			// loaded in rover Rahu" with mission name 'Trade With Camp Bradbury'
 
 			LogConsolidated.log(Level.INFO, 1000, sourceName,
-					"[" + startingMember.getLocationTag().getLocale() + "] " + startingMember.getName()
+					() -> "[" + startingMember.getLocationTag().getLocale() + "] " + startingMember.getName()
 							+ " ended the " + missionName + " mission. Reason : " + reason);
 
 			done = true; // Note: done = true is very important to keep !
@@ -785,7 +782,7 @@ public abstract class Mission implements Serializable {
 			if (members != null) {
 				if (!members.isEmpty()) { 
 					LogConsolidated.log(Level.INFO, 1000, sourceName,
-							"[" + startingMember.getLocationTag().getLocale()
+							() -> "[" + startingMember.getLocationTag().getLocale()
 									+ "] " + startingMember + " disbanded mission member(s) : " + members);
 					Iterator<MissionMember> i = members.iterator();
 					while (i.hasNext()) {
@@ -798,7 +795,7 @@ public abstract class Mission implements Serializable {
 		
 		else
 			LogConsolidated.log(Level.INFO, 1000, sourceName,
-					"[" + startingMember.getLocationTag().getLocale() + "] " + startingMember.getName()
+					() -> "[" + startingMember.getLocationTag().getLocale() + "] " + startingMember.getName()
 							+ " is ending the " + missionName + ". Reason : '" + reason + "'");
 		
 		
@@ -1248,7 +1245,7 @@ public abstract class Mission implements Serializable {
 				}
 			}
 			
-			LogConsolidated.log(Level.INFO, 1000, sourceName, s.toString());
+			LogConsolidated.log(Level.INFO, 1000, sourceName, () -> s.toString());
 		}
 
 		return result;
@@ -1288,7 +1285,7 @@ public abstract class Mission implements Serializable {
 		
 		if (!approved && plan == null) {			
 			plan = new MissionPlanning(this, p.getName(), p.getRole().getType());		
-			LogConsolidated.log(Level.INFO, 1000, sourceName, "[" + p.getLocationTag().getLocale() + "] " 
+			LogConsolidated.log(Level.INFO, 1000, sourceName, () -> "[" + p.getLocationTag().getLocale() + "] " 
 					+ p.getName() + " (" + p.getRole().getType() 
 					+ ") was requesting approval for " + getDescription() + ".");
 
@@ -1303,7 +1300,7 @@ public abstract class Mission implements Serializable {
 			
 			fullMissionDesignation = createFullDesignation(p);
 			
-			LogConsolidated.log(Level.INFO, 1000, sourceName, "[" + p.getLocationTag().getLocale() + "] " 
+			LogConsolidated.log(Level.INFO, 1000, sourceName, () -> "[" + p.getLocationTag().getLocale() + "] " 
 					+ p.getRole().getType() + " " + p.getName() 
 					+ " was getting"// the rover " + startingMember.getVehicle() 
 					+ " ready to embark on " + getDescription());
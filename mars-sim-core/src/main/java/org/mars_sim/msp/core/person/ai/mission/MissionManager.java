@@ -6,23 +6,29 @@
  */
 package org.mars_sim.msp.core.person.ai.mission;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.mars_sim.msp.core.UnitTickEngine;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.ai.mission.meta.MetaMission;
 import org.mars_sim.msp.core.person.ai.mission.meta.MetaMissionUtil;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Rover;
 import org.mars_sim.msp.core.vehicle.Vehicle;
@@ -52,18 +58,21 @@ public class MissionManager implements Serializable {
 	/** Mission listeners. */
 	private transient List<MissionManagerListener> listeners;
 
-	// Cache variables.
-	private transient double totalProbCache;
-	
 	/** Current missions in the simulation. */
 	private List<Mission> missions;
 
 	private Map<Integer, List<MissionPlanning>> historicalMissions;
 	
 	// Transient members
-	private transient MarsClock personTimeCache;
-	private transient Map<MetaMission, Double> missionProbCache;
+	/**
+	 * The mission probabilities of each person, by the person's id. A person is
+	 * only updated by the thread of its settlement partition, so each entry is
+	 * only used by one thread at a time.
+	 */
+	private transient Map<Integer, MissionProbability> missionProbCache;
 	private transient Map<MetaMission, Double> robotMissionProbCache;
+	/** The estimated trades between the settlements. */
+	private transient TradeMatrix tradeMatrix;
 	
 	private static List<String> missionNames;
 	private static Map<String, Integer> settlementID;
@@ -77,19 +86,16 @@ public class MissionManager implements Serializable {
 	 * Constructor.
 	 */
 	public MissionManager() {
-		// Initialize cache values.
-		personTimeCache = null;
-		totalProbCache = 0D;
 		// Create an array of mission names
 		createMissionArray();
 		
 		// Initialize data members
 		missionIdentifer = 0;
 		missions = new CopyOnWriteArrayList<>();
-		historicalMissions = new HashMap<>();
+		historicalMissions = new ConcurrentHashMap<>();
 		settlementID = new HashMap<>();
 		listeners = new CopyOnWriteArrayList<>();//Collections.synchronizedList(new ArrayList<MissionManagerListener>(0));
-		missionProbCache = new HashMap<MetaMission, Double>(MetaMissionUtil.getMetaMissions().size());
+		missionProbCache = new ConcurrentHashMap<>();
 		robotMissionProbCache = new HashMap<MetaMission, Double>(MetaMissionUtil.getRobotMetaMissions().size());
 	}
 
@@ -107,7 +113,7 @@ public class MissionManager implements Serializable {
 //		return getSettlementID(name);
 //	}
 	
-	public static int getSettlementID(String name) {
+	public static synchronized int getSettlementID(String name) {
 		if (settlementID.containsKey(name)) {
 			return settlementID.get(name);			
 		}
@@ -350,11 +356,15 @@ public class MissionManager implements Serializable {
 	 * @return total probability weight
 	 */
 	public double getTotalMissionProbability(Person person) {
-		// If cache is not current, calculate the probabilities.
-		if (!useCache(person)) {
-			calculateProbability(person);
-		}
-		return totalProbCache;
+		if (UnitTickEngine.isInPartition()) {
+			// The probabilities look at other settlements, so they are worked out in
+			// the serial phase and the last ones are used until then
+			MissionProbability probability = getMissionProbCache().get(person.getIdentifier());
+			if (probability == null || !useCache(probability))
+				UnitTickEngine.defer(() -> getMissionProbability(person));
+			return probability == null ? 0D : probability.total;
+		}
+		return getMissionProbability(person).total;
 	}
 
 //	public double getTotalMissionProbability(Robot robot) {
@@ -373,13 +383,13 @@ public class MissionManager implements Serializable {
 	 */
 	public Mission getNewMission(Person person) {
 		Mission result = null;
-		// If cache is not current, calculate the probabilities.
-		if (!useCache(person)) {
-			calculateProbability(person);
-		}
+		// Take the probabilities out of the cache since they will be stale once
+		// a mission is chosen.
+		MissionProbability probability = getMissionProbability(person);
+		getMissionProbCache().remove(person.getIdentifier());
 
 		// Get a random number from 0 to the total weight
-		double totalProbability = getTotalMissionProbability(person);
+		double totalProbability = probability.total;
 
 		if (totalProbability == 0D) {
 			//throw new IllegalStateException(person + " has zero total mission probability weight.");
@@ -391,10 +401,11 @@ public class MissionManager implements Serializable {
 
 		// Determine which mission is selected.
 		MetaMission selectedMetaMission = null;
-		Iterator<MetaMission> i = missionProbCache.keySet().iterator();
+		Iterator<Map.Entry<MetaMission, Double>> i = probability.weights.entrySet().iterator();
 		while (i.hasNext() && (selectedMetaMission == null)) {
-			MetaMission metaMission = i.next();
-			double probWeight = missionProbCache.get(metaMission);
+			Map.Entry<MetaMission, Double> entry = i.next();
+			MetaMission metaMission = entry.getKey();
+			double probWeight = entry.getValue();
 			if (r <= probWeight) {
 				selectedMetaMission = metaMission;
 			} else {
@@ -409,9 +420,6 @@ public class MissionManager implements Serializable {
 		// Construct the mission
 		result = selectedMetaMission.constructInstance(person);
 
-		// Clear time cache.
-		personTimeCache = null;
-
 		return result;
 	}
 
@@ -632,35 +640,64 @@ public class MissionManager implements Serializable {
 	}
 
 	/**
-	 * Calculates and caches the probabilities.
+	 * Gets the mission probabilities of a person, from the cache if they were
+	 * worked out at the current time.
 	 * 
 	 * @param person the person to check for.
+	 * @return the probabilities.
 	 */
-	private void calculateProbability(Person person) {
+	private MissionProbability getMissionProbability(Person person) {
+		MissionProbability probability = getMissionProbCache().get(person.getIdentifier());
+		if (probability == null || !useCache(probability)) {
+			probability = calculateProbability(person);
+			missionProbCache.put(person.getIdentifier(), probability);
+		}
+		return probability;
+	}
+
+	/**
+	 * Gets the cache of the mission probabilities by person id.
+	 * 
+	 * @return the cache.
+	 */
+	private Map<Integer, MissionProbability> getMissionProbCache() {
 		if (missionProbCache == null) {
-			missionProbCache = new HashMap<MetaMission, Double>(MetaMissionUtil.getMetaMissions().size());
+			synchronized (this) {
+				if (missionProbCache == null)
+					missionProbCache = new ConcurrentHashMap<>();
+			}
 		}
+		return missionProbCache;
+	}
 
-		// Clear total probabilities.
-		totalProbCache = 0D;
+	/**
+	 * Calculates the probabilities.
+	 * 
+	 * @param person the person to check for.
+	 * @return the probabilities.
+	 */
+	private MissionProbability calculateProbability(Person person) {
+		List<MetaMission> metaMissions = MetaMissionUtil.getMetaMissions();
+		Map<MetaMission, Double> weights = new LinkedHashMap<>(metaMissions.size());
+		double total = 0D;
 
 		// Determine probabilities.
-		Iterator<MetaMission> i = MetaMissionUtil.getMetaMissions().iterator();
+		Iterator<MetaMission> i = metaMissions.iterator();
 		while (i.hasNext()) {
 			MetaMission metaMission = i.next();
 			double probability = metaMission.getProbability(person);
 			if ((probability >= 0D) && (!Double.isNaN(probability)) && (!Double.isInfinite(probability))) {
-				missionProbCache.put(metaMission, probability);
-				totalProbCache += probability;
+				weights.put(metaMission, probability);
+				total += probability;
 			} else {
-				missionProbCache.put(metaMission, 0D);
+				weights.put(metaMission, 0D);
 				logger.severe(person.getName() + " had bad mission probability on " + metaMission.getName() + " probability: "
 						+ probability);
 			}
 		}
 
-		// Set the time cache to the current time.
-		personTimeCache = (MarsClock) marsClock.clone();
+		// Note the current time for the cache.
+		return new MissionProbability(marsClock.getTime(), weights, total);
 	}
 
 //	/**
@@ -699,11 +736,11 @@ public class MissionManager implements Serializable {
 	/**
 	 * Checks if task probability cache should be used.
 	 * 
-	 * @param the person to check for.
+	 * @param probability the cached probabilities.
 	 * @return true if cache should be used.
 	 */
-	private boolean useCache(Person person) {
-		return marsClock.equals(personTimeCache);
+	private boolean useCache(MissionProbability probability) {
+		return marsClock.isAt(probability.time);
 	}
 
 //	/**
@@ -718,6 +755,21 @@ public class MissionManager implements Serializable {
 //		return currentTime.equals(robotTimeCache);// && (robot == robotCache);
 //	}
 
+	/**
+	 * Gets the estimated trades between the settlements.
+	 * 
+	 * @return the trade matrix.
+	 */
+	public TradeMatrix getTradeMatrix() {
+		if (tradeMatrix == null) {
+			synchronized (this) {
+				if (tradeMatrix == null)
+					tradeMatrix = new TradeMatrix();
+			}
+		}
+		return tradeMatrix;
+	}
+
 	/**
 	 * Updates mission based on passing time.
 	 * 
@@ -726,6 +778,10 @@ public class MissionManager implements Serializable {
 	public void timePassing(double time) {
 		// Remove inactive missions
 		cleanMissions();
+
+		// Refresh some of the estimated trades
+		if (marsClock != null)
+			getTradeMatrix().timePassing(marsClock);
 		
 //		Iterator<Mission> i = missions.iterator();
 //		while (i.hasNext()) {
@@ -741,15 +797,17 @@ public class MissionManager implements Serializable {
 	public void addMissionPlanning(MissionPlanning plan) {
 		int mSol = marsClock.getMissionSol();
 
-		if (historicalMissions.containsKey(mSol)) {
-			List<MissionPlanning> plans = historicalMissions.get(mSol);
-			plans.add(plan);
+		// Plans may be added from more than one settlement partition at a time
+		List<MissionPlanning> plans = historicalMissions.get(mSol);
+		if (plans == null) {
+			List<MissionPlanning> newPlans = new CopyOnWriteArrayList<>();
+			plans = historicalMissions.putIfAbsent(mSol, newPlans);
+			if (plans == null)
+				plans = newPlans;
 		}
-		else {
-			List<MissionPlanning> plans = new ArrayList<>();
-			plans.add(plan);
-			historicalMissions.put(mSol, plans);
-			
+		plans.add(plan);
+
+		if (plans.size() == 1) {
 			// Keep only the last x # of sols of mission plans
 			if (mSol > MAX_NUM_PLANS && historicalMissions.size() > MAX_NUM_PLANS) {
 				historicalMissions.get(mSol-MAX_NUM_PLANS);
@@ -861,7 +919,6 @@ public class MissionManager implements Serializable {
 
 		marsClock = null;
 		// personCache = null;
-		personTimeCache = null;
 //		robotTimeCache = null;
 		if (missionProbCache != null) {
 			missionProbCache.clear();
@@ -872,4 +929,39 @@ public class MissionManager implements Serializable {
 			robotMissionProbCache = null;
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Converts the mission plans of an older save to concurrent collections.
+	 * 
+	 * @param in the stream.
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		if (!(historicalMissions instanceof ConcurrentHashMap)) {
+			Map<Integer, List<MissionPlanning>> plans = new ConcurrentHashMap<>();
+			if (historicalMissions != null) {
+				for (Map.Entry<Integer, List<MissionPlanning>> e : historicalMissions.entrySet())
+					plans.put(e.getKey(), new CopyOnWriteArrayList<>(e.getValue()));
+			}
+			historicalMissions = plans;
+		}
+	}
+
+	/**
+	 * The mission probabilities of a person at a time.
+	 */
+	private static final class MissionProbability {
+
+		private final MarsTime time;
+		private final Map<MetaMission, Double> weights;
+		private final double total;
+
+		private MissionProbability(MarsTime time, Map<MetaMission, Double> weights, double total) {
+			this.time = time;
+			this.weights = weights;
+			this.total = total;
+		}
+	}
+}
@@ -64,6 +64,11 @@ public class RescueSalvageVehicle extends RoverMission implements Serializable {
 	private static Logger logger = Logger.getLogger(RescueSalvageVehicle.class.getName());
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
+
+	/** The rate-limited messages of embarking on a rescue. */
+	private static final LogConsolidated.Site embarkLog = LogConsolidated.site(logger, 3000);
+	/** The rate-limited messages of rendezvous with the target vehicle. */
+	private static final LogConsolidated.Site rendezvousLog = LogConsolidated.site(logger, 5000);
 	
 	/** Default description. */
 	public static final String DEFAULT_DESCRIPTION = Msg.getString("Mission.description.rescueSalvageVehicle"); //$NON-NLS-1$
@@ -302,13 +307,13 @@ public class RescueSalvageVehicle extends RoverMission implements Serializable {
 			setPhaseDescription(
 					Msg.getString("Mission.phase.travelling.description", getNextNavpoint().getDescription())); // $NON-NLS-1$
 			if (rescue) {
-				LogConsolidated.log(logger, Level.INFO, 3000, sourceName,
+				embarkLog.log(Level.INFO, () ->
 						"[" + getVehicle().getLocationTag().getLocale() + "] " 
-								+ getVehicle().getName() + " has been embarked to rescue " + vehicleTarget.getName(), null);
+								+ getVehicle().getName() + " has been embarked to rescue " + vehicleTarget.getName());
 			} else {
-				LogConsolidated.log(logger, Level.INFO, 3000, sourceName,
+				embarkLog.log(Level.INFO, () ->
 						"[" + getVehicle().getLocationTag().getLocale() + "] " 
-								+ getVehicle().getName() + " has been embarked to rescue " + vehicleTarget.getName(), null);
+								+ getVehicle().getName() + " has been embarked to rescue " + vehicleTarget.getName());
 			}
 		}
 
@@ -356,9 +361,9 @@ public class RescueSalvageVehicle extends RoverMission implements Serializable {
 	 */
 	private void rendezvousPhase(MissionMember member) {
 
-		LogConsolidated.log(logger, Level.FINER, 5000, sourceName,
+		rendezvousLog.log(Level.FINER, () ->
 				"[" + member.getLocationTag().getLocale() + "] " + member.getName() + " in " + getVehicle().getName()
-				+ " had arrived to rendezvous with " + vehicleTarget.getName() + ".", null);
+				+ " had arrived to rendezvous with " + vehicleTarget.getName() + ".");
 
 		// If rescuing vehicle crew, load rescue life support resources into vehicle (if
 		// possible).
@@ -442,7 +447,7 @@ public class RescueSalvageVehicle extends RoverMission implements Serializable {
 			rover.setTowedVehicle(null);
 			towedVehicle.setTowingVehicle(null);
 			LogConsolidated.log(Level.FINER, 0, sourceName,
-					"[" + rover.getLocationTag().getLocale() + "] " + rover 
+					() -> "[" + rover.getLocationTag().getLocale() + "] " + rover 
 					+ " was being unhooked from " + towedVehicle + " at " + disembarkSettlement);
 
 			// Place this vehicle near settlement vicinity
@@ -461,7 +466,7 @@ public class RescueSalvageVehicle extends RoverMission implements Serializable {
 	                
 			// towedVehicle.determinedSettlementParkedLocationAndFacing();
 	    	LogConsolidated.log(Level.FINER, 0, sourceName,
-					"[" + towedVehicle.getLocationTag().getLocale() + "] " + towedVehicle 
+					() -> "[" + towedVehicle.getLocationTag().getLocale() + "] " + towedVehicle 
 					+ " has been towed to " + disembarkSettlement.getName());
 
 			String issue = "";
@@ -488,12 +493,12 @@ public class RescueSalvageVehicle extends RoverMission implements Serializable {
 						
 						if (p.isDeclaredDead())
 							LogConsolidated.log(Level.FINER, 0, sourceName,
-								"[" + p.getLocationTag().getLocale() + "] " + p.getName() 
+								() -> "[" + p.getLocationTag().getLocale() + "] " + p.getName() 
 								+ p.getName() + "'s body had been retrieved from the towed rover "
 										+ towedVehicle.getName() + " during an Rescue Operation.");
 						else
 							LogConsolidated.log(Level.FINER, 0, sourceName,
-									"[" + p.getLocationTag().getLocale() + "] " + p.getName() 
+									() -> "[" + p.getLocationTag().getLocale() + "] " + p.getName() 
 									+ p.getName() + " was rescued from the towed rover "
 											+ towedVehicle.getName() + " during an Rescue Operation.");
 						
@@ -515,7 +520,7 @@ public class RescueSalvageVehicle extends RoverMission implements Serializable {
 					
 					else {					
 						LogConsolidated.log(Level.FINER, 0, sourceName,
-								"[" + p.getLocationTag().getLocale() + "] " + p.getName() 
+								() -> "[" + p.getLocationTag().getLocale() + "] " + p.getName() 
 								+ " successfully towed the rover "+ towedVehicle.getName() + " back home.");
 					}
 				}
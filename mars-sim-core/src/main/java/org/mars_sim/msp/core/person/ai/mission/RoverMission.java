@@ -62,6 +62,11 @@ public abstract class RoverMission extends VehicleMission {
 	
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
+
+	/** The rate-limited messages of departure from the settlement. */
+	private static final LogConsolidated.Site settlementLog = LogConsolidated.site(logger, 0);
+	/** The rate-limited messages of members unable to enter the rover. */
+	private static final LogConsolidated.Site enterLog = LogConsolidated.site(logger, 0);
 	
 	// Static members
 	public static final int MIN_STAYING_MEMBERS = 1;
@@ -289,8 +294,8 @@ public abstract class RoverMission extends VehicleMission {
 			Settlement settlement = getVehicle().getSettlement();
 			if (settlement == null) {
 				//throw new IllegalStateException(
-				LogConsolidated.log(logger, Level.WARNING, 0, sourceName, 
-						Msg.getString("RoverMission.log.notAtSettlement", getPhase().getName()), null); //$NON-NLS-1$
+				settlementLog.log(Level.WARNING, () ->
+						Msg.getString("RoverMission.log.notAtSettlement", getPhase().getName())); //$NON-NLS-1$
 				endMission(Mission.NO_AVAILABLE_VEHICLES);
 			}
 
@@ -363,10 +368,10 @@ public abstract class RoverMission extends VehicleMission {
 						if (Walk.canWalkAllSteps(person, adjustedLoc.getX(), adjustedLoc.getY(), getVehicle())) {
 							assignTask(person, new Walk(person, adjustedLoc.getX(), adjustedLoc.getY(), getVehicle()));
 						} else {
-							LogConsolidated.log(logger, Level.SEVERE, 0, sourceName,
+							enterLog.log(Level.SEVERE, () ->
 									"[" + person.getLocationTag().getLocale() + "] " 
 										+  Msg.getString("RoverMission.log.unableToEnter", person.getName(), //$NON-NLS-1$
-									getVehicle().getName()), null);
+									getVehicle().getName()));
 							endMission(Msg.getString("RoverMission.log.unableToEnter", person.getName(), //$NON-NLS-1$
 									getVehicle().getName()));
 						}
@@ -375,10 +380,10 @@ public abstract class RoverMission extends VehicleMission {
 						if (Walk.canWalkAllSteps(robot, adjustedLoc.getX(), adjustedLoc.getY(), getVehicle())) {
 							assignTask(robot, new Walk(robot, adjustedLoc.getX(), adjustedLoc.getY(), getVehicle()));
 						} else {
-							LogConsolidated.log(logger, Level.SEVERE, 0, sourceName,
+							enterLog.log(Level.SEVERE, () ->
 									"[" + robot.getLocationTag().getLocale() + "] " 
 										+  Msg.getString("RoverMission.log.unableToEnter", robot.getName(), //$NON-NLS-1$
-									getVehicle().getName()), null);
+									getVehicle().getName()));
 							endMission(Msg.getString("RoverMission.log.unableToEnter", robot.getName(), //$NON-NLS-1$
 									getVehicle().getName()));
 						}
@@ -467,7 +472,7 @@ public abstract class RoverMission extends VehicleMission {
 				if (p.isDeclaredDead()) {
 					
 					LogConsolidated.log(Level.FINER, 0, sourceName,
-							"[" + p.getLocationTag().getLocale() + "] " + p.getName() 
+							() -> "[" + p.getLocationTag().getLocale() + "] " + p.getName() 
 							+ "'s body had been retrieved from rover " + v.getName() + ".");
 
 					// Retrieve the person if he/she is dead
@@ -491,7 +496,7 @@ public abstract class RoverMission extends VehicleMission {
 					// the person is still inside the vehicle
 					
 					LogConsolidated.log(Level.FINER, 0, sourceName,
-							"[" + p.getLocationTag().getLocale() + "] " + p.getName() 
+							() -> "[" + p.getLocationTag().getLocale() + "] " + p.getName() 
 							+ " finally came home safety on the rover "+ rover.getName() + ".");
 					
 			
@@ -511,7 +516,7 @@ public abstract class RoverMission extends VehicleMission {
 							else {						
 								// This person needs to be rescued.
 								LogConsolidated.log(Level.WARNING, 0, sourceName, 
-										"[" + disembarkSettlement.getName() + "] "
+										() -> "[" + disembarkSettlement.getName() + "] "
 										+ Msg.getString("RoverMission.log.emergencyEnterSettlement", p.getName(), 
 												disembarkSettlement.getNickName())); //$NON-NLS-1$
 								
@@ -552,7 +557,7 @@ public abstract class RoverMission extends VehicleMission {
 					BuildingManager.addToMedicalBuilding(p, disembarkSettlement);
 				
 					LogConsolidated.log(Level.FINER, 0, sourceName,
-							"[" + p.getLocationTag().getLocale() + "] " 
+							() -> "[" + p.getLocationTag().getLocale() + "] " 
 									+ Msg.getString("RoverMission.log.emergencyEnterSettlement", 
 							p.getName(), disembarkSettlement.getName())); //$NON-NLS-1$
 
@@ -7,6 +7,9 @@
 package org.mars_sim.msp.core.person.ai.mission;
 
 import java.awt.geom.Point2D;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashMap;
@@ -43,6 +46,7 @@ import org.mars_sim.msp.core.structure.goods.CreditManager;
 import org.mars_sim.msp.core.structure.goods.Good;
 import org.mars_sim.msp.core.structure.goods.GoodType;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.GroundVehicle;
 import org.mars_sim.msp.core.vehicle.Rover;
@@ -74,10 +78,6 @@ public class Trade extends RoverMission implements Serializable {
 	// Static members
 	public static final double MAX_STARTING_PROBABILITY = 10D;
 
-	// Static cache for holding trade profit info.
-	public static final Map<Settlement, TradeProfitInfo> TRADE_PROFIT_CACHE = new HashMap<Settlement, TradeProfitInfo>();
-	public static final Map<Settlement, Settlement> TRADE_SETTLEMENT_CACHE = new HashMap<Settlement, Settlement>();
-
 	static final int MAX_MEMBERS = 2;
 
 	// Data members.
@@ -88,7 +88,7 @@ public class Trade extends RoverMission implements Serializable {
 	private boolean doNegotiation;
 
 	private Settlement tradingSettlement;
-	private MarsClock startNegotiationTime;
+	private MarsTime startNegotiation;
 	private NegotiateTrade negotiationTask;
 
 	private Map<Good, Integer> sellLoad;
@@ -121,15 +121,15 @@ public class Trade extends RoverMission implements Serializable {
 			setStartingSettlement(s);
 
 			// Get trading settlement
-			tradingSettlement = TRADE_SETTLEMENT_CACHE.get(s);
+			TradeMatrix tradeMatrix = Simulation.instance().getMissionManager().getTradeMatrix();
+			if (getRover() != null)
+				tradingSettlement = tradeMatrix.getBestTradingSettlement(s, getRover());
 			if (tradingSettlement != null && !tradingSettlement.equals(s)) {
 				addNavpoint(new NavPoint(tradingSettlement.getCoordinates(), tradingSettlement,
 						tradingSettlement.getName()));
 				setDescription(Msg.getString("Mission.description.trade.detail", tradingSettlement.getName())); // $NON-NLS-1$
-				TRADE_PROFIT_CACHE.remove(getStartingSettlement());
-				TRADE_PROFIT_CACHE.remove(tradingSettlement);
-				TRADE_SETTLEMENT_CACHE.remove(getStartingSettlement());
-				TRADE_SETTLEMENT_CACHE.remove(tradingSettlement);
+				tradeMatrix.invalidate(getStartingSettlement());
+				tradeMatrix.invalidate(tradingSettlement);
 			} else {
 				endMission(Mission.NO_TRADING_SETTLEMENT);
 			}
@@ -408,9 +408,9 @@ public class Trade extends RoverMission implements Serializable {
 						setPhaseEnded(true);
 					}
 				} else {
-					if (startNegotiationTime == null) {
+					if (startNegotiation == null) {
 
-						startNegotiationTime = (MarsClock) marsClock.clone();
+						startNegotiation = marsClock.getTime();
 					}
 					Person settlementTrader = getSettlementTrader();
 					if (settlementTrader != null) {
@@ -423,8 +423,7 @@ public class Trade extends RoverMission implements Serializable {
 						}
 					} else {
 
-						MarsClock currentTime = (MarsClock) marsClock.clone();
-						double timeDiff = MarsClock.getTimeDiff(currentTime, startNegotiationTime);
+						double timeDiff = marsClock.getTimeDiff(startNegotiation);
 						if (timeDiff > 1000D) {
 							buyLoad = new HashMap<Good, Integer>(0);
 							profit = 0D;
@@ -443,7 +442,7 @@ public class Trade extends RoverMission implements Serializable {
 			equipmentNeededCache = null;
 			addNavpoint(new NavPoint(getStartingSettlement().getCoordinates(), getStartingSettlement(),
 					getStartingSettlement().getName()));
-			TRADE_PROFIT_CACHE.remove(getStartingSettlement());
+			Simulation.instance().getMissionManager().getTradeMatrix().invalidate(getStartingSettlement());
 		}
 	}
 
@@ -1010,6 +1009,38 @@ public class Trade extends RoverMission implements Serializable {
 		return result;
 	}
 
+	/**
+	 * Implementing readObject method for serialization. An older save keeps the
+	 * start time of the negotiation as a clock.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		ObjectStreamClass desc = fields.getObjectStreamClass();
+
+		profit = fields.get("profit", 0D);
+		desiredProfit = fields.get("desiredProfit", 0D);
+		outbound = fields.get("outbound", false);
+		doNegotiation = fields.get("doNegotiation", false);
+		tradingSettlement = (Settlement) fields.get("tradingSettlement", null);
+		negotiationTask = (NegotiateTrade) fields.get("negotiationTask", null);
+		sellLoad = (Map<Good, Integer>) fields.get("sellLoad", null);
+		buyLoad = (Map<Good, Integer>) fields.get("buyLoad", null);
+		desiredBuyLoad = (Map<Good, Integer>) fields.get("desiredBuyLoad", null);
+
+		if (desc.getField("startNegotiation") != null) {
+			startNegotiation = (MarsTime) fields.get("startNegotiation", null);
+		}
+		else if (desc.getField("startNegotiationTime") != null) {
+			MarsClock startTime = (MarsClock) fields.get("startNegotiationTime", null);
+			startNegotiation = (startTime == null) ? null : startTime.getTime();
+		}
+	}
 	@Override
 	public void destroy() {
 		super.destroy();
@@ -1024,24 +1055,10 @@ public class Trade extends RoverMission implements Serializable {
 		if (desiredBuyLoad != null)
 			desiredBuyLoad.clear();
 		desiredBuyLoad = null;
-		startNegotiationTime = null;
+		startNegotiation = null;
 		negotiationTask = null;
 	}
 
-	/**
-	 * Inner class for storing trade profit info.
-	 */
-	public static class TradeProfitInfo {
-		
-		public double profit;
-		public MarsClock time;
-
-		public TradeProfitInfo(double profit, MarsClock time) {
-			this.profit = profit;
-			this.time = time;
-		}
-	}
-
 	@Override
 	public Map<Integer, Integer> getEquipmentNeededForRemainingMission(boolean useBuffer) {
 		if (equipmentNeededCache != null)
@@ -0,0 +1,412 @@
+/**
+ * Mars Simulation Project
+ * TradeMatrix.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core.person.ai.mission;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.UnitTickEngine;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.vehicle.Rover;
+
+/**
+ * The TradeMatrix keeps the estimated profit of a trade mission for each pair of
+ * settlements within rover range of each other, so that the trade meta mission
+ * reads the best trade instead of estimating the trade with every other
+ * settlement.
+ * <br>
+ * The entries are refreshed a few at a time on each time pulse : first the
+ * missing ones, then the ones whose goods values have moved much at either
+ * settlement, then the old ones. The pairs of a refresh round have no
+ * settlement in common and are estimated in parallel, since an estimate uses the
+ * caches of the goods managers of both settlements.
+ * <br>
+ * The rover of each settlement is looked up again from time to time only. The
+ * entries of a settlement without a rover are kept, since the trade meta mission
+ * checks them against the range of its own rover anyway.
+ */
+public class TradeMatrix {
+
+	/** default logger. */
+	private static Logger logger = Logger.getLogger(TradeMatrix.class.getName());
+
+	/** The maximum number of pairs refreshed per time pulse. */
+	private static final int MAX_PAIRS_PER_PULSE = 8;
+	/** The minimum age (millisols) of an entry refreshed for moved goods values. */
+	static final double MIN_REFRESH_AGE = 250D;
+	/** The age (millisols) at which an entry is refreshed anyway. */
+	static final double MAX_AGE = 2000D;
+	/** The age (millisols) at which the rover of a settlement is looked up again. */
+	static final double ROVER_CHECK_AGE = 100D;
+	/** The part of the rover range usable for a trade mission. */
+	private static final double RANGE_FACTOR = .8D;
+
+	/** The entries by starting settlement and trading settlement. */
+	private Map<Settlement, Map<Settlement, TradeEntry>> entries = new ConcurrentHashMap<>();
+	/** The rover of each settlement and its trade range. */
+	private Map<Settlement, RoverCheck> rovers = new ConcurrentHashMap<>();
+	/** The number of estimates made. */
+	private long refreshCount;
+
+	/**
+	 * Refreshes some of the entries. Called on each time pulse before the units
+	 * are updated.
+	 *
+	 * @param clock the current time.
+	 */
+	public void timePassing(MarsClock clock) {
+		timePassing(Simulation.instance().getUnitManager().getSettlements(), MarsClock.getTotalMillisols(clock));
+	}
+
+	/**
+	 * Refreshes some of the entries of some settlements.
+	 *
+	 * @param settlements the settlements.
+	 * @param now         the current time (millisols).
+	 */
+	void timePassing(Collection<Settlement> settlements, double now) {
+		// Forget the removed settlements.
+		entries.keySet().retainAll(settlements);
+		rovers.keySet().retainAll(settlements);
+
+		List<Candidate> candidates = new ArrayList<>();
+		for (Settlement start : settlements) {
+			RoverCheck check = getRoverCheck(start, now);
+			if (check.rover == null)
+				continue;
+
+			Rover rover = check.rover;
+			double range = check.range;
+			Map<Settlement, TradeEntry> row = entries.computeIfAbsent(start, s -> new ConcurrentHashMap<>());
+			for (Settlement trading : settlements) {
+				if (trading == start)
+					continue;
+
+				double distance = start.getCoordinates().getDistance(trading.getCoordinates());
+				TradeEntry entry = row.get(trading);
+				if (distance > range) {
+					row.remove(trading);
+				} else if (entry == null) {
+					candidates.add(new Candidate(start, trading, rover, Double.POSITIVE_INFINITY));
+				} else {
+					double priority = getRefreshPriority(entry, start, trading, now);
+					if (priority > 0D)
+						candidates.add(new Candidate(start, trading, rover, priority));
+				}
+			}
+		}
+
+		if (candidates.isEmpty())
+			return;
+
+		// The most urgent pairs first, each settlement once per round.
+		candidates.sort((a, b) -> Double.compare(b.priority, a.priority));
+		List<Candidate> round = new ArrayList<>();
+		Set<Settlement> busy = new HashSet<>();
+		for (Candidate c : candidates) {
+			if (round.size() >= MAX_PAIRS_PER_PULSE)
+				break;
+			if (!busy.contains(c.start) && !busy.contains(c.trading)) {
+				busy.add(c.start);
+				busy.add(c.trading);
+				round.add(c);
+			}
+		}
+
+		refreshCount += round.size();
+		if (UnitTickEngine.isParallel() && round.size() > 1) {
+			ForkJoinPool pool = UnitTickEngine.getPool();
+			List<ForkJoinTask<?>> tasks = new ArrayList<>(round.size());
+			for (Candidate c : round) {
+				tasks.add(pool.submit(() -> refresh(c, now)));
+			}
+			for (ForkJoinTask<?> t : tasks) {
+				t.join();
+			}
+		} else {
+			for (Candidate c : round) {
+				refresh(c, now);
+			}
+		}
+	}
+
+	/**
+	 * Gets the rover of a settlement, looking it up again if the last look up is
+	 * old.
+	 *
+	 * @param start the settlement to trade from.
+	 * @param now   the current time (millisols).
+	 * @return the rover and its range.
+	 */
+	private RoverCheck getRoverCheck(Settlement start, double now) {
+		RoverCheck check = rovers.get(start);
+		if (check == null || now - check.time >= ROVER_CHECK_AGE) {
+			Rover rover = findRover(start);
+			double range = (rover != null) ? getTradeRange(rover) : 0D;
+			check = new RoverCheck(rover, range, now);
+			rovers.put(start, check);
+		}
+		return check;
+	}
+
+	/**
+	 * Finds the rover with the greatest range at a settlement.
+	 *
+	 * @param start the settlement to trade from.
+	 * @return the rover or null if none.
+	 */
+	Rover findRover(Settlement start) {
+		return (Rover) RoverMission.getVehicleWithGreatestRange(start, false);
+	}
+
+	/**
+	 * Gets the distance a rover can go on a trade mission.
+	 *
+	 * @param rover the rover.
+	 * @return range (km).
+	 */
+	double getTradeRange(Rover rover) {
+		return rover.getRange() * RANGE_FACTOR;
+	}
+
+	/**
+	 * Estimates the trade profit from a settlement to another.
+	 *
+	 * @param start   the settlement to trade from.
+	 * @param rover   the rover to carry the trade.
+	 * @param trading the settlement to trade to.
+	 * @return the profit (value points).
+	 */
+	double estimateProfit(Settlement start, Rover rover, Settlement trading) {
+		return TradeUtil.getEstimatedTradeProfit(start, rover, trading);
+	}
+
+	/**
+	 * Gets the number of estimates made.
+	 *
+	 * @return count.
+	 */
+	long getRefreshCount() {
+		return refreshCount;
+	}
+
+	/**
+	 * Gets how urgently an entry needs to be estimated again. An entry whose goods
+	 * values have moved much at either settlement comes before an old one.
+	 *
+	 * @param entry   the entry.
+	 * @param start   the settlement to trade from.
+	 * @param trading the settlement to trade to.
+	 * @param now     the current time (millisols).
+	 * @return the priority or 0 if the entry is still good.
+	 */
+	static double getRefreshPriority(TradeEntry entry, Settlement start, Settlement trading, double now) {
+		double age = now - entry.time;
+		if (age >= MAX_AGE)
+			return age;
+		if (age >= MIN_REFRESH_AGE && !entry.isCurrent(start, trading))
+			return age + MAX_AGE;
+		return 0D;
+	}
+
+	/**
+	 * Estimates the trade of a pair again.
+	 *
+	 * @param c   the pair.
+	 * @param now the current time (millisols).
+	 */
+	private void refresh(Candidate c, double now) {
+		long startRevision = c.start.getGoodsManager().getTradeRevision();
+		long tradingRevision = c.trading.getGoodsManager().getTradeRevision();
+		try {
+			double profit = estimateProfit(c.start, c.rover, c.trading);
+			double distance = c.start.getCoordinates().getDistance(c.trading.getCoordinates());
+			Map<Settlement, TradeEntry> row = entries.get(c.start);
+			if (row != null)
+				row.put(c.trading, new TradeEntry(profit, distance, now, startRevision, tradingRevision));
+		} catch (RuntimeException e) {
+			logger.log(Level.SEVERE, "Could not estimate the trade from " + c.start + " to " + c.trading, e);
+		}
+	}
+
+	/**
+	 * Forgets the entries involving a settlement, e.g. when a trade mission starts
+	 * from or to it. They are estimated again first.
+	 *
+	 * @param settlement the settlement.
+	 */
+	public void invalidate(Settlement settlement) {
+		entries.remove(settlement);
+		for (Map<Settlement, TradeEntry> row : entries.values()) {
+			row.remove(settlement);
+		}
+	}
+
+	/**
+	 * Gets the entry of a pair of settlements.
+	 *
+	 * @param start   the settlement to trade from.
+	 * @param trading the settlement to trade to.
+	 * @return the entry or null if not estimated.
+	 */
+	public TradeEntry getEntry(Settlement start, Settlement trading) {
+		Map<Settlement, TradeEntry> row = entries.get(start);
+		return (row != null) ? row.get(trading) : null;
+	}
+
+	/**
+	 * Gets the best trade profit for a settlement.
+	 *
+	 * @param start the settlement to trade from.
+	 * @param rover the rover to carry the trade.
+	 * @return the best profit (value points) or 0 if none.
+	 */
+	public double getBestProfit(Settlement start, Rover rover) {
+		Map.Entry<Settlement, TradeEntry> best = findBest(start, rover);
+		return (best != null) ? best.getValue().profit : 0D;
+	}
+
+	/**
+	 * Gets the settlement with the best trade profit for a settlement.
+	 *
+	 * @param start the settlement to trade from.
+	 * @param rover the rover to carry the trade.
+	 * @return the settlement or null if no profitable trade.
+	 */
+	public Settlement getBestTradingSettlement(Settlement start, Rover rover) {
+		Map.Entry<Settlement, TradeEntry> best = findBest(start, rover);
+		return (best != null) ? best.getKey() : null;
+	}
+
+	/**
+	 * Finds the most profitable trade for a settlement. The settlements already
+	 * trading with it and the ones out of range of the rover are left out.
+	 *
+	 * @param start the settlement to trade from.
+	 * @param rover the rover to carry the trade.
+	 * @return the trading settlement and its entry or null if no profitable trade.
+	 */
+	private Map.Entry<Settlement, TradeEntry> findBest(Settlement start, Rover rover) {
+		Map<Settlement, TradeEntry> row = entries.get(start);
+		if (row == null)
+			return null;
+
+		double range = rover.getRange() * RANGE_FACTOR;
+		double bestProfit = 0D;
+		Map.Entry<Settlement, TradeEntry> result = null;
+		for (Map.Entry<Settlement, TradeEntry> e : row.entrySet()) {
+			TradeEntry entry = e.getValue();
+			if (entry.profit > bestProfit && entry.distance <= range
+					&& !TradeUtil.hasCurrentTradeMission(start, e.getKey())) {
+				bestProfit = entry.profit;
+				result = e;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * A pair to estimate.
+	 */
+	private static class Candidate {
+
+		private Settlement start;
+		private Settlement trading;
+		private Rover rover;
+		private double priority;
+
+		Candidate(Settlement start, Settlement trading, Rover rover, double priority) {
+			this.start = start;
+			this.trading = trading;
+			this.rover = rover;
+			this.priority = priority;
+		}
+	}
+
+	/**
+	 * The rover of a settlement at the time of a look up.
+	 */
+	private static class RoverCheck {
+
+		private final Rover rover;
+		private final double range;
+		private final double time;
+
+		RoverCheck(Rover rover, double range, double time) {
+			this.rover = rover;
+			this.range = range;
+			this.time = time;
+		}
+	}
+
+	/**
+	 * The estimated trade from a settlement to another.
+	 */
+	public static class TradeEntry {
+
+		private final double profit;
+		private final double distance;
+		private final double time;
+		private final long startRevision;
+		private final long tradingRevision;
+
+		TradeEntry(double profit, double distance, double time, long startRevision, long tradingRevision) {
+			this.profit = profit;
+			this.distance = distance;
+			this.time = time;
+			this.startRevision = startRevision;
+			this.tradingRevision = tradingRevision;
+		}
+
+		/**
+		 * Gets the estimated profit.
+		 *
+		 * @return profit (value points).
+		 */
+		public double getProfit() {
+			return profit;
+		}
+
+		/**
+		 * Gets the distance between the settlements.
+		 *
+		 * @return distance (km).
+		 */
+		public double getDistance() {
+			return distance;
+		}
+
+		/**
+		 * Gets the time of the estimate.
+		 *
+		 * @return total millisols.
+		 */
+		public double getTime() {
+			return time;
+		}
+
+		/**
+		 * Checks if the goods values of both settlements have not moved much since
+		 * the estimate.
+		 */
+		boolean isCurrent(Settlement start, Settlement trading) {
+			return startRevision == start.getGoodsManager().getTradeRevision()
+					&& tradingRevision == trading.getGoodsManager().getTradeRevision();
+		}
+	}
+}
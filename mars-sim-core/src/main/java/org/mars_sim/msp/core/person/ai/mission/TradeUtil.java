@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import org.mars_sim.msp.core.Coordinates;
@@ -59,14 +60,11 @@ public final class TradeUtil {
 	private static final int MIN_REPAIR_PARTS = 20;
 
 	/** Performance cache for equipment goods. */
-	private final static Map<Class<? extends Equipment>, Equipment> equipmentGoodCache = new HashMap<Class<? extends Equipment>, Equipment>(
+	private final static Map<Class<? extends Equipment>, Equipment> equipmentGoodCache = new ConcurrentHashMap<Class<? extends Equipment>, Equipment>(
 			5);
 
-	/** Cache for the best trade settlement. */
-	public static Settlement bestTradeSettlementCache = null;
-
 	/** Cache for container types. */
-	private final static Map<Class<? extends Equipment>, Equipment> containerTypeCache = new HashMap<Class<? extends Equipment>, Equipment>(
+	private final static Map<Class<? extends Equipment>, Equipment> containerTypeCache = new ConcurrentHashMap<Class<? extends Equipment>, Equipment>(
 			3);
 
 	private static int oxygenID = ResourceUtil.oxygenID;
@@ -83,46 +81,6 @@ public final class TradeUtil {
 	private TradeUtil() {
 	};
 
-	/**
-	 * Gets the best trade value for a given settlement.
-	 * 
-	 * @param startingSettlement the settlement to trade from.
-	 * @param rover              the rover to carry the trade.
-	 * @return the best value (value points) for trade.
-	 * @throws Exception if error while getting best trade profit.
-	 */
-	public static double getBestTradeProfit(Settlement startingSettlement, Rover rover) {
-		double bestProfit = 0D;
-		Settlement bestSettlement = null;
-
-		for (Settlement s : Simulation.instance().getUnitManager().getSettlements()) {
-			if (s != startingSettlement) {
-
-				boolean hasCurrentTradeMission = hasCurrentTradeMission(startingSettlement, s);
-
-				double settlementRange = s.getCoordinates().getDistance(startingSettlement.getCoordinates());
-				boolean withinRange = (settlementRange <= (rover.getRange() * .8D));
-
-				if (!hasCurrentTradeMission && withinRange) {
-					// double startTime = System.currentTimeMillis();
-
-					double profit = getEstimatedTradeProfit(startingSettlement, rover, s);
-					// double endTime = System.currentTimeMillis();
-					// logger.info("getEstimatedTradeProfit " + (endTime - startTime));
-					if (profit > bestProfit) {
-						bestProfit = profit;
-						bestSettlement = s;
-					}
-				}
-			}
-		}
-
-		// Set settlement cache.
-		bestTradeSettlementCache = bestSettlement;
-
-		return bestProfit;
-	}
-
 	/**
 	 * Checks if there is currently a trade mission between two settlements.
 	 * 
@@ -130,7 +88,7 @@ public final class TradeUtil {
 	 * @param settlement2 the second settlement.
 	 * @return true if current trade mission between settlements.
 	 */
-	private static boolean hasCurrentTradeMission(Settlement settlement1, Settlement settlement2) {
+	static boolean hasCurrentTradeMission(Settlement settlement1, Settlement settlement2) {
 		boolean result = false;
 
 		// MissionManager manager = Simulation.instance().getMissionManager();
@@ -163,7 +121,7 @@ public final class TradeUtil {
 	 * @return the trade profit (value points)
 	 * @throws Exception if error getting the estimated trade profit.
 	 */
-	private static double getEstimatedTradeProfit(Settlement startingSettlement, Rover rover,
+	static double getEstimatedTradeProfit(Settlement startingSettlement, Rover rover,
 			Settlement tradingSettlement) {
 
 		// Determine estimated trade revenue.
@@ -29,6 +29,11 @@ public abstract class TravelMission extends Mission {
 	/** default logger. */
 	private static Logger logger = Logger.getLogger(TravelMission.class.getName());
 
+	/** The rate-limited messages of missing navpoints. */
+	private static final LogConsolidated.Site navPointLog = LogConsolidated.site(logger, 1000);
+	/** The rate-limited messages of navpoint indexes out of bounds. */
+	private static final LogConsolidated.Site navIndexLog = LogConsolidated.site(logger, 0);
+
 	// Travel Mission status
 	public final static String AT_NAVPOINT = "At a navpoint";
 	public final static String TRAVEL_TO_NAVPOINT = "Traveling to navpoint";
@@ -88,7 +93,7 @@ public abstract class TravelMission extends Mission {
 			navPoints.add(navPoint);
 			fireMissionUpdate(MissionEventType.NAVPOINTS_EVENT);
 		} else {
-			LogConsolidated.log(logger, Level.SEVERE, 1000, logger.getName(), "navPoint is null", null);
+			navPointLog.log(Level.SEVERE, "navPoint is null");
 			// throw new IllegalArgumentException("navPoint is null");
 		}
 	}
@@ -105,7 +110,7 @@ public abstract class TravelMission extends Mission {
 			navPoints.set(index, navPoint);
 			fireMissionUpdate(MissionEventType.NAVPOINTS_EVENT);
 		} else {
-			LogConsolidated.log(logger, Level.SEVERE, 1000, logger.getName(), "navPoint is null", null);
+			navPointLog.log(Level.SEVERE, "navPoint is null");
 			// throw new IllegalArgumentException("navPoint is null");
 		}
 	}
@@ -165,8 +170,8 @@ public abstract class TravelMission extends Mission {
 		if (newNavIndex < getNumberOfNavpoints()) {
 			navIndex = newNavIndex;
 		} else
-			LogConsolidated.log(logger, Level.SEVERE, 0, logger.getName(),
-					getPhase() + "'s newNavIndex " + newNavIndex + " is out of bounds.", null);
+			navIndexLog.log(Level.SEVERE, () ->
+					getPhase() + "'s newNavIndex " + newNavIndex + " is out of bounds.");
 		// throw new IllegalStateException(getPhase() + " : newNavIndex: "
 		// + newNavIndex + " is outOfBounds.");
 	}
@@ -182,9 +187,9 @@ public abstract class TravelMission extends Mission {
 		if ((index >= 0) && (index < getNumberOfNavpoints()))
 			return navPoints.get(index);
 		else {
-			LogConsolidated.log(logger, Level.SEVERE, 0, logger.getName(),
+			navIndexLog.log(Level.SEVERE, () ->
 					// getPhase() + " index " + index + " out of bounds."
-					"Index is " + index + ". # of navpoints is " + getNumberOfNavpoints(), null);
+					"Index is " + index + ". # of navpoints is " + getNumberOfNavpoints());
 			// throw new IllegalArgumentException("index: " + index
 			// + " out of bounds.");
 
@@ -387,7 +387,7 @@ public abstract class VehicleMission extends TravelMission implements UnitListen
 						// if the emergency beacon is off
 						// Question: could the emergency beacon itself be broken ?
 						LogConsolidated.log(Level.WARNING, 0, sourceName,
-								"[" + startingMember.getLocationTag().getLocale() + "] " + startingMember
+								() -> "[" + startingMember.getLocationTag().getLocale() + "] " + startingMember
 										+ " turned on " + vehicle
 										+ "'s emergency beacon and request for towing. Reason : " + reason);
 						vehicle.setEmergencyBeacon(true);
@@ -414,7 +414,7 @@ public abstract class VehicleMission extends TravelMission implements UnitListen
 							// don't end the mission yet
 							// So do not called setPhaseEnded(true) and super.endMission(reason);
 							LogConsolidated.log(Level.WARNING, 2000, sourceName,
-									"[" + vehicle.getLocationTag().getLocale() + "] "
+									() -> "[" + vehicle.getLocationTag().getLocale() + "] "
 									+  vehicle.getName() + " is currently being towed by " + vehicle.getTowingVehicle());
 //									+ " Remaining distance : " + getClosestDistance() + " km.", null);
 						}
@@ -431,7 +431,7 @@ public abstract class VehicleMission extends TravelMission implements UnitListen
 				else { // Vehicle is already in the settlement vicinity
 					// e.g. unrepairable malfunction
 					LogConsolidated.log(Level.WARNING, 2000, sourceName, 
-							"[" + vehicle.getLocationTag().getLocale() + "] "
+							() -> "[" + vehicle.getLocationTag().getLocale() + "] "
 							+ vehicle.getName() + " is currently at " + vehicle.getSettlement()
 							+ " and its mission ended. Reason : " + reason);
 					// if the vehicle is still somewhere inside the settlement when it got broken
@@ -515,11 +515,11 @@ public abstract class VehicleMission extends TravelMission implements UnitListen
 				getPeopleNumber(), tripTime);
 		if (!vehicleCapacity) {
 			LogConsolidated.log(Level.WARNING, 5000, sourceName,
-					"[" + vehicle.getName() + "] doesn't have enough capacity for " + startingMember + "'s proposed excursion.");
+					() -> "[" + vehicle.getName() + "] doesn't have enough capacity for " + startingMember + "'s proposed excursion.");
 		}
 		if (!settlementSupplies) {
 			LogConsolidated.log(Level.WARNING, 5000, sourceName,
-					"[" + settlement.getName() + "] doesn't have enough supplies for " + startingMember + "'s proposed excursion.");
+					() -> "[" + settlement.getName() + "] doesn't have enough supplies for " + startingMember + "'s proposed excursion.");
 		}
 
 		return vehicleCapacity && settlementSupplies;
@@ -980,7 +980,7 @@ public abstract class VehicleMission extends TravelMission implements UnitListen
 					sameDestination = true;
 
 					LogConsolidated.log(Level.WARNING, 5000, sourceName,
-							"[" + vehicle.getName() + "] Home Settlement (" + newDestination.getName() + ") : " 
+							() -> "[" + vehicle.getName() + "] Home Settlement (" + newDestination.getName() + ") : " 
 							+ Math.round(newDistance * 100D) / 100D
 							+ " km    Duration : " + Math.round(newTripTime * 100.0 / 1000.0) / 100.0 + " sols");
 					
@@ -991,7 +991,7 @@ public abstract class VehicleMission extends TravelMission implements UnitListen
 				if (!sameDestination) {
 
 					LogConsolidated.log(Level.WARNING, 5000, sourceName,
-							"[" + vehicle.getName() + "] Home Settlement (" + oldHome.getName() + ") : " 
+							() -> "[" + vehicle.getName() + "] Home Settlement (" + oldHome.getName() + ") : " 
 							+ Math.round(oldDistance * 100D) / 100D
 							+ " km    Nearest Settlement (" + newDestination.getName() + ") : " 
 							+ Math.round(newDistance * 100D) / 100D
@@ -1033,7 +1033,7 @@ public abstract class VehicleMission extends TravelMission implements UnitListen
 					sameDestination = true;
 
 					LogConsolidated.log(Level.WARNING, 5000, sourceName,
-							"[" + vehicle.getName() 
+							() -> "[" + vehicle.getName() 
 							+ "] Home Settlement (" + newDestination.getName() + ") : " 
 							+ Math.round(newDistance * 2 / 3 * 100D) / 100D 
 							+ " km    Duration : "
@@ -1045,7 +1045,7 @@ public abstract class VehicleMission extends TravelMission implements UnitListen
 				if (!sameDestination) {
 
 					LogConsolidated.log(Level.WARNING, 5000, sourceName,
-							"[" + vehicle.getName() 
+							() -> "[" + vehicle.getName() 
 							+ "] Home Settlement (" + oldHome.getName() + ") : " 
 							+ Math.round(oldDistance * 100D) / 100D
 							+ " km    Next Routing Stop : " + Math.round(newDistance * 2 / 3 * 100D) / 100D
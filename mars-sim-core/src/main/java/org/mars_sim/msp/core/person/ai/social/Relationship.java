@@ -17,6 +17,8 @@ import org.mars_sim.msp.core.tool.RandomUtil;
 
 /**
  * The Relationship class represents a social relationship between two people.
+ * The relationships handed out by the relationship manager are views of its
+ * relationship store : the opinions are read from and written to the store.
  */
 public class Relationship implements Serializable {
 
@@ -42,6 +44,8 @@ public class Relationship implements Serializable {
 	private double person1Opinion;
 	private int person2;
 	private double person2Opinion;
+	/** The store holding the opinions or null if held here. */
+	private RelationshipStore store;
 
 	/**
 	 * Constructor.
@@ -72,6 +76,35 @@ public class Relationship implements Serializable {
 			throw new IllegalArgumentException("Invalid starting relationship type: " + startingRelationship);
 	}
 
+	/**
+	 * Constructor for a view of a relationship in a store.
+	 * 
+	 * @param store   the relationship store.
+	 * @param person1 the identifier of the first person.
+	 * @param person2 the identifier of the second person.
+	 */
+	Relationship(RelationshipStore store, int person1, int person2) {
+		this.store = store;
+		this.person1 = person1;
+		this.person2 = person2;
+	}
+
+	/**
+	 * Gets the opinion of one of the two people, as held in this relationship.
+	 * 
+	 * @param first true for the first person, false for the second.
+	 * @return the opinion.
+	 */
+	double getOpinion(boolean first) {
+		if (store != null)
+			return first ? getStoredOpinion(person1, person2) : getStoredOpinion(person2, person1);
+		return first ? person1Opinion : person2Opinion;
+	}
+
+	private double getStoredOpinion(int id1, int id2) {
+		return store.getOpinion(store.getIndex(id1), store.getIndex(id2), 50D);
+	}
+
 	/**
 	 * Gets the two people in relationship.
 	 * 
@@ -133,9 +166,9 @@ public class Relationship implements Serializable {
 	 */
 	public double getPersonOpinion(Person person) throws IllegalArgumentException {
 		if (person.getIdentifier() == person1)
-			return person1Opinion;
+			return getOpinion(true);
 		else if (person.getIdentifier() == person2)
-			return person2Opinion;
+			return getOpinion(false);
 		else
 			throw new IllegalArgumentException("Invalid person: " + person);
 	}
@@ -150,11 +183,17 @@ public class Relationship implements Serializable {
 	 *                                  the relationship.
 	 */
 	public void setPersonOpinion(Person person, double opinion) throws IllegalArgumentException {
-		if (person.getIdentifier() == person1)
-			setPerson1Opinion(opinion);
-		else if (person.getIdentifier() == person2)
-			setPerson2Opinion(opinion);
-		else
+		if (person.getIdentifier() == person1) {
+			if (store != null)
+				store.setOpinion(store.getIndex(person1), store.getIndex(person2), opinion);
+			else
+				setPerson1Opinion(opinion);
+		} else if (person.getIdentifier() == person2) {
+			if (store != null)
+				store.setOpinion(store.getIndex(person2), store.getIndex(person1), opinion);
+			else
+				setPerson2Opinion(opinion);
+		} else
 			throw new IllegalArgumentException("Invalid person: " + person);
 	}
 
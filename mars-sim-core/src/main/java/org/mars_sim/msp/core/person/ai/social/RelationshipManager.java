@@ -6,6 +6,8 @@
  */
 package org.mars_sim.msp.core.person.ai.social;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -30,18 +32,18 @@ import org.mars_sim.msp.core.person.ai.PersonalityType;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.tool.RandomUtil;
 
-import com.phoenixst.plexus.DefaultGraph;
-import com.phoenixst.plexus.EdgePredicate;
-import com.phoenixst.plexus.EdgePredicateFactory;
 import com.phoenixst.plexus.Graph;
 import com.phoenixst.plexus.GraphUtils;
-import com.phoenixst.plexus.NoSuchNodeException;
 import com.phoenixst.plexus.Traverser;
 
 /**
  * The RelationshipManager class keeps track of all the social relationships
  * between people.<br/>
  * <br/>
+ * The opinions are kept in a {@link RelationshipStore}, by the dense index of
+ * each person. The relationship graph of older saves is moved into the store
+ * when loaded.<br/>
+ * <br/>
  * The simulation instance has only one relationship manager.
  */
 public class RelationshipManager implements Serializable {
@@ -74,8 +76,10 @@ public class RelationshipManager implements Serializable {
 	 */
 	private static final double SETTLER_MODIFIER = .02D;
 
-	/** The relationship graph. */
+	/** The relationship graph of older saves, null once moved into the store. */
 	private Graph relationshipGraph;
+	/** The opinions of the people. */
+	private RelationshipStore store;
 	
 	private static UnitManager unitManager;
 
@@ -83,9 +87,7 @@ public class RelationshipManager implements Serializable {
 	 * Constructor
 	 */
 	public RelationshipManager() {
-		// Create new graph for relationships.
-		if (relationshipGraph == null)
-			relationshipGraph = new DefaultGraph();
+		store = new RelationshipStore();
 	}
 
 	/**
@@ -121,8 +123,8 @@ public class RelationshipManager implements Serializable {
 		if ((person == null) || (initialGroup == null))
 			throw new IllegalArgumentException("RelationshipManager.addPerson(): null parameter.");
 	
-		if (!relationshipGraph.containsNode(person.getIdentifier())) {
-			relationshipGraph.addNode(person.getIdentifier());
+		if (store.getIndex(person.getIdentifier()) < 0) {
+			store.addPerson(person.getIdentifier());
 
 			Iterator<Person> i = initialGroup.iterator();
 			while (i.hasNext()) {
@@ -147,17 +149,12 @@ public class RelationshipManager implements Serializable {
 	 *                         members)
 	 */
 	public void addRelationship(Person person1, Person person2, String relationshipType) {
-		try {
-			Relationship relationship = new Relationship(person1, person2, relationshipType);
-//			if (relationshipType.equals(Relationship.EXISTING_RELATIONSHIP))
-//				;
-//			else if (relationshipType.equals(Relationship.COMMUNICATION_MEETING))
-//				;
-//			else if (relationshipType.equals(Relationship.FIRST_IMPRESSION))
-//				;
-			relationshipGraph.addEdge(relationship, person1.getIdentifier(), person2.getIdentifier(), false);
-		} catch (NoSuchNodeException e) {
-		}
+		Relationship relationship = new Relationship(person1, person2, relationshipType);
+		int index1 = store.getIndex(person1.getIdentifier());
+		int index2 = store.getIndex(person2.getIdentifier());
+		// Both people must have been added.
+		if (index1 >= 0 && index2 >= 0 && index1 != index2)
+			store.addRelationship(index1, index2, relationship.getOpinion(true), relationship.getOpinion(false));
 	}
 
 	/**
@@ -168,9 +165,9 @@ public class RelationshipManager implements Serializable {
 	 * @return true if the two people have a relationship
 	 */
 	public boolean hasRelationship(Person person1, Person person2) {
-		EdgePredicate edgePredicate = EdgePredicateFactory.createEqualsNodes(person1.getIdentifier(), person2.getIdentifier(),
-				GraphUtils.UNDIRECTED_MASK);
-		return (relationshipGraph.getEdge(edgePredicate) != null);
+		int index1 = store.getIndex(person1.getIdentifier());
+		int index2 = store.getIndex(person2.getIdentifier());
+		return index1 >= 0 && index2 >= 0 && store.hasRelationship(index1, index2);
 	}
 
 	/**
@@ -183,9 +180,7 @@ public class RelationshipManager implements Serializable {
 	public Relationship getRelationship(Person person1, Person person2) {
 		Relationship result = null;
 		if (hasRelationship(person1, person2)) {
-			EdgePredicate edgePredicate = EdgePredicateFactory.createEqualsNodes(person1.getIdentifier(), person2.getIdentifier(),
-					GraphUtils.UNDIRECTED_MASK);
-			result = (Relationship) relationshipGraph.getEdge(edgePredicate).getUserObject();
+			result = new Relationship(store, person1.getIdentifier(), person2.getIdentifier());
 		}
 		return result;
 	}
@@ -197,15 +192,13 @@ public class RelationshipManager implements Serializable {
 	 * @return a list of the person's Relationship objects.
 	 */
 	public List<Relationship> getAllRelationships(Person person) {
-//		if (allRelationshipList == null) {
-		 List<Relationship> allRelationshipList = new ArrayList<Relationship>();
-			Traverser traverser = relationshipGraph.traverser(person.getIdentifier(), GraphUtils.UNDIRECTED_TRAVERSER_PREDICATE);
-			while (traverser.hasNext()) {
-				traverser.next();
-				Relationship relationship = (Relationship) traverser.getEdge().getUserObject();
-				allRelationshipList.add(relationship);
+		List<Relationship> allRelationshipList = new ArrayList<Relationship>();
+		int index = store.getIndex(person.getIdentifier());
+		if (index >= 0) {
+			for (int known : store.getKnownPeople(index)) {
+				allRelationshipList.add(new Relationship(store, person.getIdentifier(), store.getId(known)));
 			}
-//		}
+		}
 		return allRelationshipList;
 	}
 
@@ -217,10 +210,12 @@ public class RelationshipManager implements Serializable {
 	 */
 	public Collection<Person> getAllKnownPeople(Person person) {
 		Collection<Person> result = new ConcurrentLinkedQueue<Person>();
-		Traverser traverser = relationshipGraph.traverser(person.getIdentifier(), GraphUtils.UNDIRECTED_TRAVERSER_PREDICATE);
-		while (traverser.hasNext()) {
-			Person knownPerson = (Person) (unitManager.getUnitByID((Integer)traverser.next()));
-			result.add(knownPerson);
+		int index = store.getIndex(person.getIdentifier());
+		if (index >= 0) {
+			for (int known : store.getKnownPeople(index)) {
+				Person knownPerson = (Person) (unitManager.getUnitByID(store.getId(known)));
+				result.add(knownPerson);
+			}
 		}
 		return result;
 	}
@@ -233,16 +228,12 @@ public class RelationshipManager implements Serializable {
 	 */
 	public Map<Person, Double> getMyOpinionsOfThem(Person person) {
 		Map<Person, Double> friends = new HashMap<>();
-		Collection<Person> list = getAllKnownPeople(person);
-//		System.out.println("list : " + list);
-		double highestScore = 0;
-//		double nextScore = 0;	
-		if (!list.isEmpty()) {
-			for (Person pp : list) {
-				double score = getOpinionOfPerson(person, pp);
-				if (highestScore <= score)
-					highestScore = score;
-					friends.put(pp, score);
+		int index = store.getIndex(person.getIdentifier());
+		if (index >= 0) {
+			int[] known = store.getKnownPeople(index);
+			double[] opinions = store.getOpinions(index);
+			for (int i = 0; i < known.length; i++) {
+				friends.put((Person) unitManager.getUnitByID(store.getId(known[i])), opinions[i]);
 			}
 		}
 
@@ -257,16 +248,10 @@ public class RelationshipManager implements Serializable {
 	 */
 	public Map<Person, Double> getTheirOpinionsOfMe(Person person) {
 		Map<Person, Double> friends = new HashMap<>();
-		Collection<Person> list = getAllKnownPeople(person);
-//		System.out.println("list : " + list);
-		double highestScore = 0;
-//		double nextScore = 0;	
-		if (!list.isEmpty()) {
-			for (Person pp : list) {
-				double score = getOpinionOfPerson(pp, person);
-				if (highestScore <= score)
-					highestScore = score;
-					friends.put(pp, score);
+		int index = store.getIndex(person.getIdentifier());
+		if (index >= 0) {
+			for (int known : store.getKnownPeople(index)) {
+				friends.put((Person) unitManager.getUnitByID(store.getId(known)), store.getOpinion(known, index, 50D));
 			}
 		}
 
@@ -345,14 +330,21 @@ public class RelationshipManager implements Serializable {
 	 *         friend).
 	 */
 	public double getOpinionOfPerson(Person person1, Person person2) {
-		double result = 50D;
-
-		if (hasRelationship(person1, person2)) {
-			Relationship relationship = getRelationship(person1, person2);
-			result = relationship.getPersonOpinion(person1);
-		}
+		return getOpinion(store.getIndex(person1.getIdentifier()), store.getIndex(person2.getIdentifier()));
+	}
 
-		return result;
+	/**
+	 * Gets the opinion that a person has of another person, 50 if they don't have
+	 * a relationship.
+	 * 
+	 * @param index1 the index of the person holding the opinion or -1 if not added.
+	 * @param index2 the index of the person who the opinion is of or -1 if not added.
+	 * @return opinion value from 0 to 100.
+	 */
+	private double getOpinion(int index1, int index2) {
+		if (index1 < 0 || index2 < 0)
+			return 50D;
+		return store.getOpinion(index1, index2, 50D);
 	}
 
 	/**
@@ -371,11 +363,12 @@ public class RelationshipManager implements Serializable {
 			throw new IllegalArgumentException("people is null");
 
 		if (people.size() > 0) {
+			int index1 = store.getIndex(person1.getIdentifier());
 			double result = 0D;
 			Iterator<Person> i = people.iterator();
 			while (i.hasNext()) {
 				Person person2 = i.next();
-				result += getOpinionOfPerson(person1, person2);
+				result += getOpinion(index1, store.getIndex(person2.getIdentifier()));
 			}
 
 			result = result / people.size();
@@ -413,16 +406,17 @@ public class RelationshipManager implements Serializable {
 
 		// Get the person's local group of people.
 		Collection<Person> localGroup = person.getLocalGroup();
+		int index = store.getIndex(person.getIdentifier());
 
 		// Go through each person in local group.
 		Iterator<Person> i = localGroup.iterator();
-		int count2 = 0;
 		while (i.hasNext()) {
 			Person localPerson = i.next();
+			int localIndex = store.getIndex(localPerson.getIdentifier());
 			double localPersonStress = localPerson.getPhysicalCondition().getStress();
 
 			// Check if new relationship.
-			if (!hasRelationship(person, localPerson)) {
+			if (index < 0 || localIndex < 0 || !store.hasRelationship(index, localIndex)) {
 				addRelationship(person, localPerson, Relationship.FIRST_IMPRESSION);
 
 				if (logger.isLoggable(Level.FINEST)) {
@@ -442,8 +436,7 @@ public class RelationshipManager implements Serializable {
 					changeAmount = 0 - changeAmount;
 
 				// Modify based on difference in other person's opinion.
-				double otherOpinionModifier = (getOpinionOfPerson(localPerson, person)
-						- getOpinionOfPerson(person, localPerson)) / 100D;
+				double otherOpinionModifier = (getOpinion(localIndex, index) - getOpinion(index, localIndex)) / 100D;
 				otherOpinionModifier *= BASE_OPINION_MODIFIER * time;
 				changeAmount += RandomUtil.getRandomDouble(otherOpinionModifier);
 
@@ -487,16 +480,14 @@ public class RelationshipManager implements Serializable {
 				changeAmount *= stressChangeModifier;
 
 				// Change the person's opinion of the other person.
-				Relationship relationship = getRelationship(person, localPerson);
-				if (relationship != null)
-					relationship.setPersonOpinion(person, relationship.getPersonOpinion(person) + changeAmount);
+				if (index >= 0 && localIndex >= 0)
+					store.setOpinion(index, localIndex, store.getOpinion(index, localIndex, 50D) + changeAmount);
 				if (logger.isLoggable(Level.FINEST)) {
 					logger.finest(person.getName() + " has changed opinion of " + localPerson.getName() + " by "
 							+ changeAmount);
 				}
 			}
 		}
-		count2++;
 	}
 
 	/**
@@ -508,10 +499,11 @@ public class RelationshipManager implements Serializable {
 	 */
 	private void modifyStress(Person person, double time) {
 		double stressModifier = 0D;
+		int index = store.getIndex(person.getIdentifier());
 
 		Iterator<Person> i = person.getLocalGroup().iterator();
 		while (i.hasNext())
-			stressModifier -= ((getOpinionOfPerson(person, i.next()) - 50D) / 50D);
+			stressModifier -= ((getOpinion(index, store.getIndex(i.next().getIdentifier())) - 50D) / 50D);
 
 		stressModifier = stressModifier * BASE_STRESS_MODIFIER * time;
 		PhysicalCondition condition = person.getPhysicalCondition();
@@ -547,16 +539,13 @@ public class RelationshipManager implements Serializable {
 	public double getRelationshipScore(Settlement s) {
 		double score = 0;
 
-		List<Person> list0 = new ArrayList<>(s.getAllAssociatedPeople());
-
 		int count = 0;
-		for (Person pp : list0) {
-			Map<Person, Double> friends = getTheirOpinionsOfMe(pp);//.getMyOpinionsOfThem(pp);
-			if (!friends.isEmpty()) {
-				List<Person> list = new ArrayList<>(friends.keySet());
-				for (int i = 0; i < list.size(); i++) {
-					Person p = list.get(i);
-					score += friends.get(p);
+		for (Person pp : s.getAllAssociatedPeople()) {
+			// The opinions of the people who know pp
+			int index = store.getIndex(pp.getIdentifier());
+			if (index >= 0) {
+				for (int known : store.getKnownPeople(index)) {
+					score += store.getOpinion(known, index, 50D);
 					count++;
 				}
 			}
@@ -571,11 +560,59 @@ public class RelationshipManager implements Serializable {
 		unitManager = u;		
 	}
 	
+	/**
+	 * Moves the relationships of a graph into the store.
+	 * 
+	 * @param graph the relationship graph of an older save.
+	 */
+	private void migrate(Graph graph) {
+		for (Object node : graph.nodes(null)) {
+			store.addPerson((Integer) node);
+		}
+
+		int count = 0;
+		for (Object node : graph.nodes(null)) {
+			Traverser traverser = graph.traverser(node, GraphUtils.UNDIRECTED_TRAVERSER_PREDICATE);
+			while (traverser.hasNext()) {
+				traverser.next();
+				Relationship relationship = (Relationship) traverser.getEdge().getUserObject();
+				int[] people = relationship.getPeople();
+				int index1 = store.getIndex(people[0]);
+				int index2 = store.getIndex(people[1]);
+				if (index1 >= 0 && index2 >= 0 && index1 != index2
+						&& store.addRelationship(index1, index2, relationship.getOpinion(true), relationship.getOpinion(false)))
+					count++;
+			}
+		}
+		logger.info("Moved " + count + " relationships of " + store.size() + " people from the relationship graph.");
+	}
+
+	/**
+	 * Implementing readObject method for serialization.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		in.defaultReadObject();
+
+		// Saves made before the store have the graph only.
+		if (store == null) {
+			store = new RelationshipStore();
+			if (relationshipGraph != null)
+				migrate(relationshipGraph);
+			relationshipGraph = null;
+		}
+	}
+
 	/**
 	 * Prepare object for garbage collection.
 	 */
 	public void destroy() {
 		relationshipGraph = null;
+		store = null;
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,256 @@
+/**
+ * Mars Simulation Project
+ * RelationshipStore.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core.person.ai.social;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The RelationshipStore keeps the opinions people have of each other in
+ * primitive arrays. Each person gets a dense index when added. The row of a
+ * person holds the indices of the people he/she knows, sorted, and his/her
+ * opinion of each of them. A relationship is always in both rows.
+ * <br>
+ * Reads take no lock : the arrays of a row are replaced as a whole when a
+ * relationship is added. Opinion changes and new relationships lock the rows
+ * they touch.
+ */
+class RelationshipStore implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	/** The lowest opinion. */
+	static final double MIN_OPINION = 0D;
+	/** The highest opinion. */
+	static final double MAX_OPINION = 100D;
+
+	private static final int[] NO_INDICES = new int[0];
+	private static final double[] NO_OPINIONS = new double[0];
+
+	/** The dense index + 1 of each person identifier, 0 if not added. */
+	private volatile int[] indexById = new int[0];
+	/** The rows, by dense index. */
+	private volatile Row[] rows = new Row[0];
+	/** The number of people. */
+	private volatile int size;
+
+	/**
+	 * Gets the dense index of a person.
+	 *
+	 * @param id the person identifier.
+	 * @return the index or -1 if not added.
+	 */
+	int getIndex(int id) {
+		int[] ids = indexById;
+		return (id >= 0 && id < ids.length) ? ids[id] - 1 : -1;
+	}
+
+	/**
+	 * Adds a person.
+	 *
+	 * @param id the person identifier.
+	 * @return the index of the person.
+	 */
+	synchronized int addPerson(int id) {
+		if (id < 0)
+			throw new IllegalArgumentException("Invalid person identifier: " + id);
+
+		int index = getIndex(id);
+		if (index >= 0)
+			return index;
+
+		int[] ids = indexById;
+		if (id >= ids.length)
+			ids = Arrays.copyOf(ids, Math.max(id + 1, ids.length * 2));
+
+		Row[] r = rows;
+		if (size == r.length)
+			r = Arrays.copyOf(r, Math.max(16, r.length * 2));
+
+		index = size++;
+		r[index] = new Row(id);
+		// Publish the row before the index
+		rows = r;
+		ids[id] = index + 1;
+		indexById = ids;
+		return index;
+	}
+
+	/**
+	 * Gets the number of people.
+	 *
+	 * @return count.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the identifier of a person.
+	 *
+	 * @param index the index of the person.
+	 * @return the person identifier.
+	 */
+	int getId(int index) {
+		return rows[index].id;
+	}
+
+	/**
+	 * Gets the people a person knows.
+	 *
+	 * @param index the index of the person.
+	 * @return the sorted indices of the people, not to be modified.
+	 */
+	int[] getKnownPeople(int index) {
+		return rows[index].adjacency.indices;
+	}
+
+	/**
+	 * Gets the opinions of a person, in the order of {@link #getKnownPeople(int)}.
+	 *
+	 * @param index the index of the person.
+	 * @return the opinions, not to be modified.
+	 */
+	double[] getOpinions(int index) {
+		return rows[index].adjacency.opinions;
+	}
+
+	/**
+	 * Checks if two people have a relationship.
+	 *
+	 * @param index1 the index of a person.
+	 * @param index2 the index of another person.
+	 * @return true if they have one.
+	 */
+	boolean hasRelationship(int index1, int index2) {
+		Adjacency a = rows[index1].adjacency;
+		return Arrays.binarySearch(a.indices, index2) >= 0;
+	}
+
+	/**
+	 * Gets the opinion a person has of another person.
+	 *
+	 * @param index1       the index of the person holding the opinion.
+	 * @param index2       the index of the person who the opinion is of.
+	 * @param defaultValue the value if they have no relationship.
+	 * @return the opinion.
+	 */
+	double getOpinion(int index1, int index2, double defaultValue) {
+		Adjacency a = rows[index1].adjacency;
+		int slot = Arrays.binarySearch(a.indices, index2);
+		return (slot >= 0) ? a.opinions[slot] : defaultValue;
+	}
+
+	/**
+	 * Sets the opinion a person has of another person, from 0 to 100.
+	 *
+	 * @param index1  the index of the person holding the opinion.
+	 * @param index2  the index of the person who the opinion is of.
+	 * @param opinion the opinion.
+	 * @return false if they have no relationship.
+	 */
+	boolean setOpinion(int index1, int index2, double opinion) {
+		Row row = rows[index1];
+		synchronized (row) {
+			Adjacency a = row.adjacency;
+			int slot = Arrays.binarySearch(a.indices, index2);
+			if (slot < 0)
+				return false;
+			a.opinions[slot] = clamp(opinion);
+			return true;
+		}
+	}
+
+	/**
+	 * Adds a relationship. Does nothing if the people already have one.
+	 *
+	 * @param index1   the index of a person.
+	 * @param index2   the index of another person.
+	 * @param opinion1 the opinion of the first person of the second.
+	 * @param opinion2 the opinion of the second person of the first.
+	 * @return false if they already had a relationship.
+	 */
+	boolean addRelationship(int index1, int index2, double opinion1, double opinion2) {
+		if (index1 == index2)
+			throw new IllegalArgumentException("A person cannot have a relationship with him/herself.");
+
+		Row row1 = rows[index1];
+		Row row2 = rows[index2];
+		// Lock the rows in the order of the indices
+		Row first = (index1 < index2) ? row1 : row2;
+		Row second = (index1 < index2) ? row2 : row1;
+		synchronized (first) {
+			synchronized (second) {
+				if (hasRelationship(index1, index2))
+					return false;
+				row1.insert(index2, clamp(opinion1));
+				row2.insert(index1, clamp(opinion2));
+				return true;
+			}
+		}
+	}
+
+	private static double clamp(double opinion) {
+		if (opinion < MIN_OPINION)
+			return MIN_OPINION;
+		if (opinion > MAX_OPINION)
+			return MAX_OPINION;
+		return opinion;
+	}
+
+	/**
+	 * The sorted indices of the people a person knows and his/her opinions of
+	 * them. The indices never change once published.
+	 */
+	private static class Adjacency implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int[] indices;
+		private final double[] opinions;
+
+		Adjacency(int[] indices, double[] opinions) {
+			this.indices = indices;
+			this.opinions = opinions;
+		}
+	}
+
+	/**
+	 * The relationships of a person.
+	 */
+	private static class Row implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int id;
+		private volatile Adjacency adjacency = new Adjacency(NO_INDICES, NO_OPINIONS);
+
+		Row(int id) {
+			this.id = id;
+		}
+
+		/**
+		 * Inserts a relationship, keeping the indices sorted. Called with the row
+		 * locked.
+		 */
+		void insert(int index, double opinion) {
+			Adjacency a = adjacency;
+			int n = a.indices.length;
+			int slot = -Arrays.binarySearch(a.indices, index) - 1;
+			int[] indices = new int[n + 1];
+			double[] opinions = new double[n + 1];
+			System.arraycopy(a.indices, 0, indices, 0, slot);
+			System.arraycopy(a.opinions, 0, opinions, 0, slot);
+			indices[slot] = index;
+			opinions[slot] = opinion;
+			System.arraycopy(a.indices, slot, indices, slot + 1, n - slot);
+			System.arraycopy(a.opinions, slot, opinions, slot + 1, n - slot);
+			adjacency = new Adjacency(indices, opinions);
+		}
+	}
+}
@@ -138,7 +138,7 @@ public class AreologyStudyFieldWork extends EVAOperation implements Serializable
 
 			if (isGettingDark(person)) {
 				LogConsolidated.log(Level.FINE, 5000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended "
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended "
 								+ person.getTaskDescription() + " : too dark to continue with the EVA.");
 				return false;
 			}
@@ -200,7 +200,7 @@ public class AreologyStudyFieldWork extends EVAOperation implements Serializable
 		// Add experience points
 		addExperience(time);
 
-		LogConsolidated.log(Level.FINE, 5000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+		LogConsolidated.log(Level.FINE, 5000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 				+ person.getName() + " was doing " + person.getTaskDescription() + ".");
 
 		return 0D;
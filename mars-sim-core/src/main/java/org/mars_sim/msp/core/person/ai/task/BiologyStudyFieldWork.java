@@ -125,7 +125,7 @@ implements Serializable {
             
             if (isGettingDark(person)) {
     			LogConsolidated.log(Level.FINE, 5000, sourceName,
-    					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended "
+    					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended "
     					+ person.getTaskDescription() + " : too dark to continue with the EVA.");
     			return false;
     		}
@@ -185,7 +185,7 @@ implements Serializable {
 
         if (addTimeOnSite(time)) {
     		LogConsolidated.log(Level.INFO, 0, sourceName,
-    				"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+    				() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
     				+ " was done doing biology study field work and going back to the rover.");
             setPhase(WALK_BACK_INSIDE);
             return time;
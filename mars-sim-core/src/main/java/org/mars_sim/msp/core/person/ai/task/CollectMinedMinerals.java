@@ -49,6 +49,9 @@ public class CollectMinedMinerals extends EVAOperation implements Serializable {
 	private static Logger logger = Logger.getLogger(CollectMinedMinerals.class.getName());
 
     private static String sourceName = logger.getName();
+
+	/** The rate-limited messages of mineral collection. */
+	private static final LogConsolidated.Site collectLog = LogConsolidated.site(logger, 5000);
     
 	/** Task name */
 	private static final String NAME = Msg.getString("Task.description.collectMinedMinerals"); //$NON-NLS-1$
@@ -92,9 +95,9 @@ public class CollectMinedMinerals extends EVAOperation implements Serializable {
 
 			// If bags are not available, end task.
 			if (!hasBags()) {
-				LogConsolidated.log(logger, Level.FINE, 5000, sourceName, 
+				collectLog.log(Level.FINE, () ->
 		        		"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
-		        		+ " was not able to find bags to collect mined minerals.", null);
+		        		+ " was not able to find bags to collect mined minerals.");
 				endTask();
 			}
 		}
@@ -336,9 +339,9 @@ public class CollectMinedMinerals extends EVAOperation implements Serializable {
 
 			Mars mars = Simulation.instance().getMars();
 			if (mars.getSurfaceFeatures().getSolarIrradiance(person.getCoordinates()) == 0D) {
-				LogConsolidated.log(logger, Level.FINE, 5000, sourceName, 
+				collectLog.log(Level.FINE, () ->
 		        		"[" + person.getLocationTag().getLocale() + "] " + person.getName()
-		        			+ " ended collecting minerals: night time",   null);
+		        			+ " ended collecting minerals: night time");
 				if (!mars.getSurfaceFeatures().inDarkPolarRegion(person.getCoordinates()))
 					return false;
 			}
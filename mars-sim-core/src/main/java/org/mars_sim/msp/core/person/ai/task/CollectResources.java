@@ -47,6 +47,9 @@ public class CollectResources extends EVAOperation implements Serializable {
 //			 logger.getName().length());
 
     private static String sourceName = logger.getName();
+
+	/** The rate-limited messages of missing containers. */
+	private static final LogConsolidated.Site containerLog = LogConsolidated.site(logger, 5000);
     
 	/** Task phases. */
 	private static final TaskPhase COLLECT_RESOURCES = new TaskPhase(Msg.getString("Task.phase.collectResources")); //$NON-NLS-1$
@@ -102,8 +105,8 @@ public class CollectResources extends EVAOperation implements Serializable {
 
 			// If container is not available, end task.
 			if (!hasContainers()) {        
-				LogConsolidated.log(logger, Level.FINE, 5000, sourceName, 
-	        		"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " was not able to find containers to collect resources.", null);
+				containerLog.log(Level.FINE, () ->
+	        		"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " was not able to find containers to collect resources.");
 				endTask();
 			}
 		}
@@ -277,7 +277,7 @@ implements Serializable {
         boolean isPrimary = study.getPrimaryResearcher().equals(person);
         if (isPrimary) {
             if (study.isPrimaryPaperCompleted()) {
-    			LogConsolidated.log(Level.INFO, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+    			LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
     					+ person.getName() + " just spent " 
     					+ Math.round(study.getPrimaryPaperWorkTimeCompleted() *10.0)/10.0
     					+ " millisols in compiling data " 
@@ -288,7 +288,7 @@ implements Serializable {
         }
         else {
             if (study.isCollaborativePaperCompleted(person)) {
-    			LogConsolidated.log(Level.INFO, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+    			LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
     					+ person.getName() + " just spent " 
     					+ Math.round(study.getCollaborativePaperWorkTimeCompleted(person) *10.0)/10.0
     					+ " millisols in performing lab experiments " 
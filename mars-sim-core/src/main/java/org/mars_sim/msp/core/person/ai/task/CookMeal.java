@@ -46,6 +46,9 @@ public class CookMeal extends Task implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			 logger.getName().length());
 
+	/** The rate-limited messages of cooking. */
+	private static final LogConsolidated.Site cookingLog = LogConsolidated.site(logger, 5000);
+
 	/** Task name */
 	private static final String NAME = Msg.getString("Task.description.cookMeal"); //$NON-NLS-1$
 
@@ -125,7 +128,7 @@ public class CookMeal extends Task implements Serializable {
 
 				log.append("[" + person.getSettlement().getName() + "] ").append(person).append(NO_INGREDIENT);
 
-				LogConsolidated.log(logger, Level.WARNING, 5000, sourceName, log.toString(), null);
+				cookingLog.log(Level.WARNING, () -> log.toString());
 
 				endTask();
 
@@ -182,7 +185,7 @@ public class CookMeal extends Task implements Serializable {
 
 				log.append("[" + robot.getSettlement().getName() + "] ").append(robot).append(NO_INGREDIENT);
 
-				LogConsolidated.log(logger, Level.WARNING, 5000, logger.getName(), log.toString(), null);
+				cookingLog.log(Level.WARNING, () -> log.toString());
 
 				endTask();
 
@@ -325,7 +325,7 @@ implements Serializable {
             setPhase(WALK_BACK_INSIDE);
 
             LogConsolidated.log(Level.INFO, 0, sourceName, 
-        		"[" + person.getLocationTag().getLocale() +  "] " +
+        		() -> "[" + person.getLocationTag().getLocale() +  "] " +
         		person.getName() + " collected " + Math.round(totalCollected*100D)/100D 
         		+ " kg of regolith outside " + person.getAssociatedSettlement());
  
@@ -45,6 +45,9 @@ public class DriveGroundVehicle extends OperateVehicle implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The rate-limited messages of driving. */
+	private static final LogConsolidated.Site drivingLog = LogConsolidated.site(logger, 5000);
+
 	/** Task name */
 	private static final String NAME = Msg.getString("Task.description.driveGroundVehicle"); //$NON-NLS-1$
 
@@ -90,12 +93,11 @@ public class DriveGroundVehicle extends OperateVehicle implements Serializable {
 		addPhase(AVOID_OBSTACLE);
 		addPhase(WINCH_VEHICLE);
 
-		LogConsolidated.log(logger, Level.FINER, 5000, sourceName,
+		drivingLog.log(Level.FINER, () ->
 				"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " took the wheel of rover "
 //						+ (person.getGender() == GenderType.MALE ? "his" : "her") + " driving " 
 						+ vehicle.getName()
-						+ ".",
-				null);
+						+ ".");
 	}
 
 	public DriveGroundVehicle(Robot robot, GroundVehicle vehicle, Coordinates destination, MarsClock startTripTime,
@@ -143,12 +145,11 @@ public class DriveGroundVehicle extends OperateVehicle implements Serializable {
 		if (startingPhase != null)
 			setPhase(startingPhase);
 
-		LogConsolidated.log(logger, Level.FINER, 5000, sourceName,
+		drivingLog.log(Level.FINER, () ->
 				"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " took the wheel of rover "
 //						+ (person.getGender() == GenderType.MALE ? "his" : "her") + " driving " 
 						+ vehicle.getName()
-						+ ".",
-				null);
+						+ ".");
 
 	}
 
@@ -555,8 +556,8 @@ public class DriveGroundVehicle extends OperateVehicle implements Serializable {
 	 */
 	public void endTask() {
 		if (person != null)
-			LogConsolidated.log(logger, Level.FINER, 5000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
-					+ person.getName() + " took a break from driving " + getVehicle().getName() + ".", null);
+			drivingLog.log(Level.FINER, () -> "[" + person.getLocationTag().getLocale() + "] "
+					+ person.getName() + " took a break from driving " + getVehicle().getName() + ".");
 
 		else if (robot != null)
 			logger.fine(robot.getName() + " finished driving " + getVehicle().getName());
@@ -99,7 +99,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 				// throw new IllegalStateException(person.getName() + " is in " +
 				// person.getSettlement() + " but not in building : interiorObject is null.");
 				LogConsolidated.log(Level.WARNING, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 						" in " + person.getLocationTag().getImmediateLocation()
 								+ " is supposed to be in a building but interiorObject is null.");
 				endTask();
@@ -120,7 +120,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 					// throw new IllegalStateException(person.getName() + " not in a vehicle and
 					// interiorObject is null.");
 					LogConsolidated.log(Level.WARNING, 3000, sourceName,
-							"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
+							() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
 								+ person.getLocationTag().getImmediateLocation() 
 								+ " is supposed to be in a vehicle but interiorObject is null.");
 				}
@@ -132,7 +132,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 				setPhase(WALK_TO_OUTSIDE_SITE);
 			} else {
 				LogConsolidated.log(Level.SEVERE, 3000, sourceName,
-						"[" + person.getName() + " not in a rover vehicle: " + person.getVehicle());
+						() -> "[" + person.getName() + " not in a rover vehicle: " + person.getVehicle());
 			}
 		}
 	}
@@ -258,7 +258,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 					if (s != null) {
 						interiorObject = (Building)(s.getClosestAvailableAirlock(person).getEntity()); // (LocalBoundedObject)(s.getClosestAvailableAirlock(person).getEntity());//
 						LogConsolidated.log(Level.WARNING, 0, sourceName,
-								"[" + person.getLocationTag().getLocale() + "] " + person.getName()
+								() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
 //								" in " + person.getLocationTag().getImmediateLocation()
 								+ " found " + ((Building)interiorObject).getNickName()
 								+ " as the closet building with an airlock to enter.");
@@ -268,7 +268,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 						Rover r = (Rover)person.getVehicle();
 //						interiorObject = (LocalBoundedObject) (r.getAirlock()).getEntity();
 						LogConsolidated.log(Level.WARNING, 0, sourceName,
-								"[" + person.getLocationTag().getLocale() + "] " + person.getName()
+								() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
 								+ " was near " + r.getName() //person.getLocationTag().getImmediateLocation()
 								+ " and had to end the EVA now.");
 						endTask();
@@ -276,7 +276,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 				}
 				else {				
 					LogConsolidated.log(Level.WARNING, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName()
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
 						+ " was " + person.getLocationTag().getImmediateLocation()
 						+ " had to end the EVA now.");
 					endTask();
@@ -301,7 +301,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 					addSubTask(walkingTask);
 				} else {
 					LogConsolidated.log(Level.SEVERE, 3000, sourceName,
-							person.getName() + " cannot walk back to inside location.");
+							() -> person.getName() + " cannot walk back to inside location.");
 					endTask();
 				}
 			} else {
@@ -314,7 +314,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 				// throw new IllegalStateException(person.getName() + " is in " +
 				// person.getSettlement() + " but not in building : interiorObject is null.");
 				LogConsolidated.log(Level.WARNING, 0, sourceName,
-						"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + 
+						() -> "[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + 
 						" in " + robot.getLocationTag().getImmediateLocation()
 						+ " did not have a designated building to go to yet. Ending EVA now.");
 				endTask();
@@ -336,7 +336,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 					addSubTask(walkingTask);
 				} else {
 					LogConsolidated.log(Level.SEVERE, 0, sourceName,
-							"[" + robot.getName() + " cannot walk back to inside location.");
+							() -> "[" + robot.getName() + " cannot walk back to inside location.");
 					endTask();
 				}
 			} else {
@@ -420,7 +420,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 		
 		if (isGettingDark(person)) {
 			LogConsolidated.log(Level.FINE, 5000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended "
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended "
 					+ person.getTaskDescription() + " : too dark to continue with the EVA.");
 			return false;
 		}
@@ -428,7 +428,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 		EVASuit suit = (EVASuit) person.getInventory().findUnitOfClass(EVASuit.class);
 		if (suit == null) {
 			LogConsolidated.log(Level.WARNING, 5000, sourceName, 
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended " 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended " 
 							+ person.getTaskDescription() + " : no EVA suit is available.");
 			return false;
 		}
@@ -441,7 +441,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 			double oxygen = suitInv.getAmountResourceStored(ResourceUtil.oxygenID, false);
 			if (oxygen <= (oxygenCap * .2D)) {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName()
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
 								+ " reported less than 20% O2 level left. Ending "
 								+ person.getTaskDescription() + " : " + suit.getName());
 				return false;
@@ -452,7 +452,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 			double water = suitInv.getAmountResourceStored(ResourceUtil.waterID, false);
 			if (water <= (waterCap * .10D)) {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + "'s " + suit.getName()
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + "'s " + suit.getName()
 								+ " reported less than 10% water level left when "
 										+ person.getTaskDescription());
 //				return false;
@@ -461,20 +461,20 @@ public abstract class EVAOperation extends Task implements Serializable {
 			// Check if life support system in suit is working properly.
 			if (!suit.lifeSupportCheck()) {
 				LogConsolidated.log(Level.WARNING, 5000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended '"
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended '"
 								+ person.getTaskDescription() + "' : " + suit.getName() + " failed life support check.");
 				return false;
 			}
 		} catch (Exception e) {
 			e.printStackTrace(System.err);
 			LogConsolidated.log(Level.WARNING, 5000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended '"
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " ended '"
 							+ person.getTaskDescription() + "' : " + suit.getName() + " failed system check.", e);
 		}
 
 		// Check if suit has any malfunctions.
 		if (suit.getMalfunctionManager().hasMalfunction()) {
-			LogConsolidated.log(Level.INFO, 5000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+			LogConsolidated.log(Level.INFO, 5000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person.getName() + " ended '" + person.getTaskDescription() + "' : " + suit.getName() + " has malfunction.");
 			return false;
 		}
@@ -484,7 +484,7 @@ public abstract class EVAOperation extends Task implements Serializable {
 		if (perf < .1D) {
 			// Add back to 10% so that the person can walk
 			person.getPhysicalCondition().setPerformanceFactor((perf + .01)* 1.1);
-			LogConsolidated.log(Level.INFO, 5000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+			LogConsolidated.log(Level.INFO, 5000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person.getName() + " ended '" + person.getTaskDescription() + "' : performance is less than 10%.");
 			return false;
 		}
@@ -295,7 +295,7 @@ public class EatMeal extends Task implements Serializable {
 			cookedMeal = kitchen.chooseAMeal(person);
 			if (cookedMeal != null) {
 				LogConsolidated.log(Level.FINE, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person
 								+ " picked up a cooked meal '" + cookedMeal.getName() 
 								+ "' to eat in " + person.getLocationTag().getImmediateLocation() + ".");
 			}
@@ -394,7 +394,7 @@ public class EatMeal extends Task implements Serializable {
 			nameOfDessert = dessertKitchen.chooseADessert(person);
 			if (nameOfDessert != null) {
 				LogConsolidated.log(Level.FINE, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person
 								+ " picked up prepared dessert '" + nameOfDessert.getName() 
 								+ "' to eat/drink in " + person.getLocationTag().getImmediateLocation() + ".");
 			}
@@ -659,9 +659,10 @@ public class EatMeal extends Task implements Serializable {
 							person.addConsumptionTime(1, amount);
 							if (waterOnly)
 								setDescription(Msg.getString("Task.description.eatMeal.water")); //$NON-NLS-1$
+							double mL = Math.round(amount * 1000.0) / 1.0;
 							LogConsolidated.log(Level.FINE, 1000, sourceName,
-									"[" + person.getLocationTag().getLocale() + "] " + person
-											+ " drank " + Math.round(amount * 1000.0) / 1.0
+									() -> "[" + person.getLocationTag().getLocale() + "] " + person
+											+ " drank " + mL
 											+ " mL of water.");
 						}
 	//					LogConsolidated.log(Level.INFO, 1000, sourceName,
@@ -692,10 +693,11 @@ public class EatMeal extends Task implements Serializable {
 								person.addConsumptionTime(1, amount);
 								if (waterOnly)
 									setDescription(Msg.getString("Task.description.eatMeal.water")); //$NON-NLS-1$
+								double mL = Math.round(amount * 1000.0) / 1.0;
 								LogConsolidated.log(Level.WARNING, 1000, sourceName,
-										"[" + person.getLocationTag().getLocale() + "] " + person
+										() -> "[" + person.getLocationTag().getLocale() + "] " + person
 												+ " was put on water ration and allocated to drink no more than " 
-												+ Math.round(amount * 1000.0) / 1.0
+												+ mL
 												+ " mL of water.");
 							}
 						}
@@ -718,10 +720,11 @@ public class EatMeal extends Task implements Serializable {
 									person.addConsumptionTime(1, amount);
 									if (waterOnly)
 										setDescription(Msg.getString("Task.description.eatMeal.water")); //$NON-NLS-1$
+									double mL = Math.round(amount * 1000.0) / 1.0;
 									LogConsolidated.log(Level.WARNING, 1000, sourceName,
-											"[" + person.getLocationTag().getLocale() + "] " + person
+											() -> "[" + person.getLocationTag().getLocale() + "] " + person
 													+ " was put on water ration and allocated to drink no more than " 
-													+ Math.round(amount * 1000.0) / 1.0
+													+ mL
 													+ " mL of water.");
 								}
 							}
@@ -745,10 +748,11 @@ public class EatMeal extends Task implements Serializable {
 										person.addConsumptionTime(1, amount);
 										if (waterOnly)
 											setDescription(Msg.getString("Task.description.eatMeal.water")); //$NON-NLS-1$
+										double mL = Math.round(amount * 1000.0) / 1.0;
 										LogConsolidated.log(Level.WARNING, 1000, sourceName,
-												"[" + person.getLocationTag().getLocale() + "] " + person
+												() -> "[" + person.getLocationTag().getLocale() + "] " + person
 														+ " was put on water ration and allocated to drink no more than " 
-														+ Math.round(amount * 1000.0) / 1.0
+														+ mL
 														+ " mL of water.");
 									}
 								}
@@ -968,8 +972,11 @@ public class EatMeal extends Task implements Serializable {
 			// try {
 			Inventory inv = containerUnit.getInventory();
 
-			if (foodConsumptionRate > MIN)
-				result = Storage.retrieveAnResource(foodConsumptionRate, ResourceUtil.foodID, inv, false);
+			// The rate is set by the first meal, so read it from the config here
+			double amount = SimulationConfig.instance().getPersonConfiguration().getFoodConsumptionRate()
+					/ NUMBER_OF_MEAL_PER_SOL;
+			if (amount > MIN)
+				result = Storage.retrieveAnResource(amount, ResourceUtil.foodID, inv, false);
 			// }
 			// catch (Exception e) {
 			// e.printStackTrace(System.err);
@@ -81,7 +81,7 @@ public class EnterAirlock extends Task implements Serializable {
 		super(NAME, person, false, false, STRESS_MODIFIER, false, 0D);
 		this.airlock = airlock;
 		LogConsolidated.log(Level.FINER, 0, sourceName, 
-				"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+				() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 				+ " was starting to enter " + airlock.getEntityName());
 		// Initialize data members
 		setDescription(Msg.getString("Task.description.enterAirlock.detail", airlock.getEntityName())); // $NON-NLS-1$
@@ -132,7 +132,7 @@ public class EnterAirlock extends Task implements Serializable {
 
 		// Waiting to enter. But not allowed to enter yet.
 		LogConsolidated.log(Level.FINER, 0, sourceName, 
-				"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+				() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 				" was waiting to enter airlock from outside in " + person.getLocationTag().getImmediateLocation());
 		
 		// If person is already inside, change to exit airlock phase.
@@ -166,7 +166,7 @@ public class EnterAirlock extends Task implements Serializable {
 				boolean activationSuccessful = airlock.addCycleTime(activationTime);
 				if (!activationSuccessful) {
 					LogConsolidated.log(Level.WARNING, 0, sourceName,
-							"[" + person.getLocationTag().getLocale() + "] " + person.getName() +
+							() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() +
 							" had problem with airlock activation.");
 				}
 			} else {
@@ -196,14 +196,14 @@ public class EnterAirlock extends Task implements Serializable {
 		}
 
 		LogConsolidated.log(Level.FINER, 0, sourceName, 
-				"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+				() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 				" was about to enter the airlock from outside.");
 		
 		Point2D personLocation = new Point2D.Double(person.getXLocation(), person.getYLocation());
 
 		if (airlock.inAirlock(person)) {
 			LogConsolidated.log(Level.FINER, 0, sourceName, 
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 					" was about to enter airlock, but found already in the airlock.");
 			setPhase(WAITING_INSIDE_AIRLOCK);
 		} 
@@ -211,7 +211,7 @@ public class EnterAirlock extends Task implements Serializable {
 		else if (person.isInside()) { 
 			// WARNING: calling this incorrectly can potentially halt the simulation
 			LogConsolidated.log(Level.WARNING, 0, sourceName, 
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 					" was about to enter the airlock from outside, but was already inside the settlement. End task.");
 			endTask();
 		} 
@@ -226,7 +226,7 @@ public class EnterAirlock extends Task implements Serializable {
 					airlock.activateAirlock(person);
 				}
 				LogConsolidated.log(Level.FINER, 0, sourceName, 
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 						" had entered the airlock in " + person.getLocationTag().getImmediateLocation());
 
 				setPhase(WAITING_INSIDE_AIRLOCK);
@@ -248,7 +248,7 @@ public class EnterAirlock extends Task implements Serializable {
 					boolean activationSuccessful = airlock.addCycleTime(activationTime);
 					if (!activationSuccessful) {
 						LogConsolidated.log(Level.WARNING, 0, sourceName,
-								"[" + person.getLocationTag().getLocale() + "] " + person.getName() +
+								() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() +
 								" had problem with airlock activation.");
 					}
 				} else {
@@ -281,7 +281,7 @@ public class EnterAirlock extends Task implements Serializable {
 
 		// waiting inside
 		LogConsolidated.log(Level.FINER, 0, sourceName,
-				"[" + person.getLocationTag().getLocale() + "] "
+				() -> "[" + person.getLocationTag().getLocale() + "] "
   						+ person + " was waiting inside airlock. ");
 		// NOTE: person.getLocationTag().getImmediateLocation() will NOT reported correctly
 		// since it doesn't track intermediate state such as in the airlock.
@@ -306,7 +306,7 @@ public class EnterAirlock extends Task implements Serializable {
 				
 				boolean activationSuccessful = airlock.addCycleTime(activationTime);
 				if (!activationSuccessful) {
-					LogConsolidated.log(Level.WARNING, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+					LogConsolidated.log(Level.WARNING, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person.getName() + " has problems with airlock activation.");
 				}
 			} 
@@ -319,7 +319,7 @@ public class EnterAirlock extends Task implements Serializable {
 		
 		else {
 			LogConsolidated.log(Level.FINER, 0, sourceName, 
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 					+ " was in " + person.getLocationTag().getImmediateLocation() + 
 					" and somehow was not inside its airlock.");
 			setPhase(EXITING_AIRLOCK);
@@ -347,14 +347,14 @@ public class EnterAirlock extends Task implements Serializable {
 
 		// logger.finer(person + " exiting airlock inside.");
 		LogConsolidated.log(Level.FINER, 0, sourceName, 
-				"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+				() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 				+ " was trying to exit an airlock in exitingAirlockPhase().");
 
 		Point2D personLocation = new Point2D.Double(person.getXLocation(), person.getYLocation());
 		
 		if (LocalAreaUtil.areLocationsClose(personLocation, interiorAirlockPos)) {
 			LogConsolidated.log(Level.FINER, 0, sourceName, 
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 					+ " had exited the airlock and going to store the EVA suit");
 
 			setPhase(STORING_EVA_SUIT);
@@ -371,19 +371,19 @@ public class EnterAirlock extends Task implements Serializable {
 					Building startBuilding = BuildingManager.getBuilding(person);
 					if (startBuilding != null) {
 						LogConsolidated.log(Level.FINER, 0, sourceName, 
-								"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+								() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 								+ " was walking from " + startBuilding + " to an airlock at " + airlockBuilding);
 						addSubTask(new WalkSettlementInterior(person, airlockBuilding, interiorAirlockPos.getX(),
 								interiorAirlockPos.getY()));
 					} else {
 						LogConsolidated.log(Level.FINER, 0, sourceName, 
-								"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+								() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 								+ " was not inside a building");
 						endTask();
 					}
 				} else {
 					LogConsolidated.log(Level.WARNING, 0, sourceName, 
-							"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+							() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 							+ " was waiting to enter airlock but airlockBuilding is null");
 				}
 
@@ -394,7 +394,7 @@ public class EnterAirlock extends Task implements Serializable {
 
 				Rover airlockRover = (Rover) airlock.getEntity();
 				LogConsolidated.log(Level.FINER, 0, sourceName, 
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 						+ " was walking to an airlock in " + airlockRover);
 				addSubTask(new WalkRoverInterior(person, airlockRover, interiorAirlockPos.getX(),
 						interiorAirlockPos.getY()));
@@ -425,7 +425,7 @@ public class EnterAirlock extends Task implements Serializable {
 			
 			if (person.getContainerUnit() instanceof MarsSurface) {
 				LogConsolidated.log(Level.WARNING, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] "  
+						() -> "[" + person.getLocationTag().getLocale() + "] "  
 									+ person + " had no container. Location state type : " 
 									+ person.getLocationStateType());
 				endTask();
@@ -433,7 +433,7 @@ public class EnterAirlock extends Task implements Serializable {
 			else {
 				// Empty the EVA suit
 				LogConsolidated.log(Level.FINER, 0, sourceName, 
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 						+ " was going to retrieve the O2 and H2O in " + suit.getName());
 	
 				Inventory entityInv = null;
@@ -457,7 +457,7 @@ public class EnterAirlock extends Task implements Serializable {
 		
 					} catch (Exception e) {
 						LogConsolidated.log(Level.WARNING, 0, sourceName, 
-								"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+								() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 								+ " in " + person.getLocationTag().getImmediateLocation() 
 								+ " but was unable to retrieve/store oxygen : ", e);
 						endTask();
@@ -476,7 +476,7 @@ public class EnterAirlock extends Task implements Serializable {
 		
 					} catch (Exception e) {
 						LogConsolidated.log(Level.WARNING, 0, sourceName, 
-								"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+								() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 								+ " in " + person.getLocationTag().getImmediateLocation() 
 								+ " but was unable to retrieve/store water : ", e);
 						endTask();
@@ -489,7 +489,7 @@ public class EnterAirlock extends Task implements Serializable {
 					entityInv.storeUnit(suit);
 					// Return suit to entity's inventory.
 					LogConsolidated.log(Level.FINER, 0, sourceName, 
-							"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+							() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 							+ " in " + person.getLocationTag().getImmediateLocation() 
 							+ " had just stowed away "  + suit.getName() + ".");
 					
@@ -504,7 +504,7 @@ public class EnterAirlock extends Task implements Serializable {
 		
 		else {
 			LogConsolidated.log(Level.WARNING, 0, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " 
+					() -> "[" + person.getLocationTag().getLocale() + "] " 
 					+ person.getName() + " did NOT have an EVA suit to put away in "
 							+ person.getLocationTag().getImmediateLocation());
 			endTask();
@@ -547,7 +547,7 @@ public class EnterAirlock extends Task implements Serializable {
 
 		if (person.isInside()) {
 			LogConsolidated.log(Level.FINER, 0, sourceName, 
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 					+ " could not enter airlock to " + airlock.getEntityName()
 					+ " due to not being outside.");
 			result = false;
@@ -563,7 +563,7 @@ public class EnterAirlock extends Task implements Serializable {
 		// Clear the person as the airlock operator if task ended prematurely.
 		if ((airlock != null) && person.equals(airlock.getOperator())) {
 			LogConsolidated.log(Level.SEVERE, 0, sourceName, 
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 					+ " was ending entering airlock task prematurely, clearing as airlock operator for "
 					+ airlock.getEntityName());
 			airlock.clearOperator();
@@ -49,6 +49,9 @@ public class ExamineBody extends Task implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The rate-limited messages of postmortem exams. */
+	private static final LogConsolidated.Site examLog = LogConsolidated.site(logger, 1000);
+
 	/** Task name */
 	private static final String NAME = Msg.getString("Task.description.examineBody"); //$NON-NLS-1$
 
@@ -267,9 +270,9 @@ public class ExamineBody extends Task implements Serializable {
 			deathInfo.getBodyRetrieved();
 		
 		if (timeExam < 10) {
-			LogConsolidated.log(logger, Level.WARNING, 1000, sourceName, 
+			examLog.log(Level.WARNING, () ->
 					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " began performing a postmortem exam on " 
-						+ patient.getName() + ".", null);
+						+ patient.getName() + ".");
 		}
 		
 		if (timeExam > (deathInfo.getEstTimeExam() + duration)/2D) {
@@ -365,9 +368,10 @@ public class ExamineBody extends Task implements Serializable {
 //		logger.log(Level.WARNING,
 //				"[" + person.getLocationTag().getQuickLocation() + "] A post-mortem examination had been completed on "
 //						+ person + ". Cause of death : " + cause);
-		LogConsolidated.log(logger, Level.WARNING, 1000, sourceName, 
+		String causeOfDeath = cause;
+		examLog.log(Level.WARNING, () ->
 				"[" + person.getLocationTag().getLocale() + "] " + person + " completed the postmortem exam on " 
-					+ patient.getName() + ". Cause of death : " + cause + ".", null);
+					+ patient.getName() + ". Cause of death : " + causeOfDeath + ".");
 
 		// Create medical event for death.
 		MedicalEvent event = new MedicalEvent(person, problem, EventType.MEDICAL_DEATH);
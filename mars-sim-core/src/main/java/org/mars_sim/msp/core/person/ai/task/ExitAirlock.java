@@ -49,6 +49,9 @@ public class ExitAirlock extends Task implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The rate-limited messages of suit oxygen. */
+	private static final LogConsolidated.Site oxygenLog = LogConsolidated.site(logger, 10_000);
+
 //    private static final double EGRESS_TIME = .05; // in millisols
 
 	/** Task name */
@@ -96,7 +99,7 @@ public class ExitAirlock extends Task implements Serializable {
 		init();
 
 		LogConsolidated.log(Level.FINER, 0, sourceName, 
-				"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+				() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 				+ " would be undergoing the procedure of exiting the airlock in " + airlock.getEntityName());
 	}
 
@@ -168,7 +171,7 @@ public class ExitAirlock extends Task implements Serializable {
 						hasSuit = true;
 						// logger.info(person + " grabbed an EVA suit.");
 					} catch (Exception e) {
-						LogConsolidated.log(Level.WARNING, 0, sourceName, "[" + person.getLocationTag().getLocale()
+						LogConsolidated.log(Level.WARNING, 0, sourceName, () -> "[" + person.getLocationTag().getLocale()
 										+ "] " + person.getName() + " could not take " + suit.toString(), e);
 
 					}
@@ -178,7 +181,7 @@ public class ExitAirlock extends Task implements Serializable {
 			// If person still doesn't have an EVA suit, end task.
 			if (!hasSuit) {
 				LogConsolidated.log(Level.WARNING, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName()
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
 								+ " could not find a working EVA suit.");
 
 //				person.getMind().getTaskManager().clearTask();
@@ -209,7 +212,7 @@ public class ExitAirlock extends Task implements Serializable {
 
 		// Waiting to enter but not allowed to enter yet
 		LogConsolidated.log(Level.FINER, 0, sourceName, 
-				"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in " 
+				() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in " 
 						+ person.getLocationTag().getImmediateLocation() + " was waiting to enter the airlock.");
 
 		// If person is already outside, change to exit airlock phase.
@@ -242,7 +245,7 @@ public class ExitAirlock extends Task implements Serializable {
 				}
 				boolean activationSuccessful = airlock.addCycleTime(activationTime);
 				if (!activationSuccessful) {
-					LogConsolidated.log(Level.WARNING, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+					LogConsolidated.log(Level.WARNING, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person.getName() + " has problems with airlock activation.");
 				}
 			} else {
@@ -273,25 +276,25 @@ public class ExitAirlock extends Task implements Serializable {
 
 		if (person != null) {
 			LogConsolidated.log(Level.FINER, 0, sourceName, 
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 					" was about to enter airlock.");
 			
 			Point2D personLocation = new Point2D.Double(person.getXLocation(), person.getYLocation());
 	
 			if (airlock.inAirlock(person)) {
 				LogConsolidated.log(Level.FINER, 0, sourceName, 
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 						" was about to enter airlock, but found already in airlock.");
 				setPhase(WAITING_INSIDE_AIRLOCK);
 			} else if (person.isOutside()) {
 				// WARNING: calling this incorrectly can potentially halt the simulation
 				LogConsolidated.log(Level.WARNING, 0, sourceName, 
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 						" was about to enter the airlock within the settlement, but was already outside. End task.");	
 				endTask();
 			} else if (LocalAreaUtil.areLocationsClose(personLocation, insideAirlockPos)) {
 				LogConsolidated.log(Level.FINER, 0, sourceName, 
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName()
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
 						+ " has arrived at an airlock and ready to enter.");
 				
 				// Enter airlock.
@@ -302,7 +305,7 @@ public class ExitAirlock extends Task implements Serializable {
 						airlock.activateAirlock(person);
 					}
 					LogConsolidated.log(Level.FINER, 0, sourceName, 
-							"[" + person.getLocationTag().getLocale() + "] " + person.getName()
+							() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
 							+ " was waiting inside the airlock.");
 					
 					setPhase(WAITING_INSIDE_AIRLOCK);
@@ -323,7 +326,7 @@ public class ExitAirlock extends Task implements Serializable {
 						}
 						boolean activationSuccessful = airlock.addCycleTime(activationTime);
 						if (!activationSuccessful) {
-							LogConsolidated.log(Level.WARNING, 0, sourceName, "[" + person.getSettlement() + "] "
+							LogConsolidated.log(Level.WARNING, 0, sourceName, () -> "[" + person.getSettlement() + "] "
 									+ person.getName() + " has problems with airlock activation.");
 						}
 					} else {
@@ -383,7 +386,7 @@ public class ExitAirlock extends Task implements Serializable {
 					// If airlock has not been activated, activate it.
 					if (!airlock.isActivated()) {
 						LogConsolidated.log(Level.FINER, 0, sourceName, 
-								"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+								() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 								" was the operator activating the airlock.");
 						airlock.activateAirlock(person);
 					}
@@ -398,7 +401,7 @@ public class ExitAirlock extends Task implements Serializable {
 					boolean activationSuccessful = airlock.addCycleTime(activationTime);
 					if (!activationSuccessful) {
 						LogConsolidated.log(Level.SEVERE, 0, sourceName,
-								"[" + person.getLocationTag().getLocale() + "] " + person.getName() +
+								() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() +
 								" had problem with airlock activation.");
 					}
 				} 
@@ -406,7 +409,7 @@ public class ExitAirlock extends Task implements Serializable {
 				else {
 					// If person is not airlock operator, just wait.
 					LogConsolidated.log(Level.FINER, 0, sourceName, 
-							"[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
+							() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + 
 							" was not the operator and waiting inside an airlock for the completion of the air cycle.");
 					remainingTime = 0D;
 				}
@@ -442,13 +445,13 @@ public class ExitAirlock extends Task implements Serializable {
 
 //        if (person != null) {
 		LogConsolidated.log(Level.FINER, 0, sourceName,
-				"[" + person.getLocationTag().getLocale() + "] " + person + " was about to leave the airlock going outside.");
+				() -> "[" + person.getLocationTag().getLocale() + "] " + person + " was about to leave the airlock going outside.");
 		
 		if (!person.isOutside()) {
 //                throw new IllegalStateException(person + " has exited airlock of " + airlock.getEntityName() +
 //                        " but is not outside.");
 			LogConsolidated.log(Level.SEVERE, 5000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " + person + " was still inside the airlock at " 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person + " was still inside the airlock at " 
 							+ airlock.getEntityName() + " and should have been outside.");
 			endTask();
 		}
@@ -462,7 +465,7 @@ public class ExitAirlock extends Task implements Serializable {
 			Point2D personLocation = new Point2D.Double(person.getXLocation(), person.getYLocation());
 			if (LocalAreaUtil.areLocationsClose(personLocation, exteriorAirlockPos)) {
 				LogConsolidated.log(Level.FINER, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person + " had just left the airlock and going outside.");
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person + " had just left the airlock and going outside.");
 				endTask();
 			}
 
@@ -512,7 +515,7 @@ public class ExitAirlock extends Task implements Serializable {
 
 		// Check if person is outside.
 		if (person.isOutside()) {
-			LogConsolidated.log(Level.WARNING, 10000, sourceName, person.getName()
+			LogConsolidated.log(Level.WARNING, 10000, sourceName, () -> person.getName()
 					+ " could NOT exit airlock from " + airlock.getEntityName() + " since he/she was already outside.");
 //			person.getMind().getNewAction(true, false);
 //          person.getMind().getTaskManager().clearTask();
@@ -544,7 +547,7 @@ public class ExitAirlock extends Task implements Serializable {
 
 			} catch (Exception e) {
 				LogConsolidated.log(Level.SEVERE, 10000, sourceName,
-						person + " could not get new action" + e.getMessage(), e);
+						() -> person + " could not get new action" + e.getMessage(), e);
 				e.printStackTrace(System.err);
 
 			}
@@ -557,7 +560,7 @@ public class ExitAirlock extends Task implements Serializable {
 			// Check if EVA suit is available.
 			if (!goodEVASuitAvailable(airlock.getEntityInventory(), person)) {
 
-				LogConsolidated.log(Level.WARNING, 10_000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+				LogConsolidated.log(Level.WARNING, 10_000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 								+ person + " could not find a working EVA suit and needed to wait.");
 				// TODO: how to reduce the probability of doing any EVA tasks to save cpu util
 				
@@ -605,7 +608,7 @@ public class ExitAirlock extends Task implements Serializable {
 				Mission m = person.getMind().getMission();
 				// Mission m = missionManager.getMission(person);
 				
-				LogConsolidated.log(Level.WARNING, 20_000, sourceName, "[" + person.getLocationTag().getLocale() 
+				LogConsolidated.log(Level.WARNING, 20_000, sourceName, () -> "[" + person.getLocationTag().getLocale() 
 						+ "] " + person + " in " + v.getName() + " for " + m.getName() 
 						+ " did NOT have a working EVA suit, awaiting the response for rescue.");
 				
@@ -622,7 +625,7 @@ public class ExitAirlock extends Task implements Serializable {
 
 					// Repair this EVASuit by himself/herself
 					
-					LogConsolidated.log(Level.WARNING, 2000, sourceName, "[" + person.getLocationTag().getLocale() 
+					LogConsolidated.log(Level.WARNING, 2000, sourceName, () -> "[" + person.getLocationTag().getLocale() 
 							+ "] " + person + " in " + v.getName() + " for " + m.getName() 
 							+ " will try to repair an EVA suit.");
 					
@@ -631,7 +634,7 @@ public class ExitAirlock extends Task implements Serializable {
 					// Check if suit has any malfunctions.
 					if (suit != null && suit.getMalfunctionManager().hasMalfunction()) {
 						
-						LogConsolidated.log(Level.INFO, 20_000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+						LogConsolidated.log(Level.INFO, 20_000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 								+ person.getName() + " ended " + person.getTaskDescription() + " since " 
 								+ suit.getName() + " has malfunctions and not usable.");
 					}
@@ -705,7 +708,7 @@ public class ExitAirlock extends Task implements Serializable {
 			EVASuit suit = (EVASuit) u;
 			boolean malfunction = suit.getMalfunctionManager().hasMalfunction();
 			if (malfunction) 
-				LogConsolidated.log(Level.SEVERE, 50_000, sourceName, "[" + p.getLocationTag().getLocale()
+				LogConsolidated.log(Level.SEVERE, 50_000, sourceName, () -> "[" + p.getLocationTag().getLocale()
 					+ "] " + p + " spotted the malfunction with " + suit.getName() + " when examining it.");
 			try {
 				boolean hasEnoughResources = hasEnoughResourcesForSuit(inv, suit);
@@ -717,7 +720,7 @@ public class ExitAirlock extends Task implements Serializable {
 				}
 			} catch (Exception e) {
 //				e.printStackTrace(System.err);
-				LogConsolidated.log(Level.SEVERE, 50_000, sourceName, "[" + p.getLocationTag().getLocale()
+				LogConsolidated.log(Level.SEVERE, 50_000, sourceName, () -> "[" + p.getLocationTag().getLocale()
 						+ "] " + p + " could not find enough resources for " + suit.getName() + ".", e);
 			}
 		}
@@ -802,10 +805,8 @@ public class ExitAirlock extends Task implements Serializable {
 				entityInv.addAmountDemand(oxygenID, takenOxygen);
 				suitInv.storeAmountResource(oxygenID, takenOxygen, true);
 			} catch (Exception e) {
-				LogConsolidated.log(
-						logger, Level.SEVERE, 10_000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
-								+ person + " ran into issues providing oxygen to " + suit.getName() + e.getMessage(),
-						null);
+				oxygenLog.log(Level.SEVERE, () -> "[" + person.getLocationTag().getLocale() + "] "
+								+ person + " ran into issues providing oxygen to " + suit.getName() + e.getMessage());
 			}
 	
 			// Fill water in suit from entity's inventory.
@@ -824,13 +825,13 @@ public class ExitAirlock extends Task implements Serializable {
 				suitInv.storeAmountResource(waterID, takenWater, true);
 	
 			} catch (Exception e) {
-				LogConsolidated.log( Level.SEVERE, 10_000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+				LogConsolidated.log( Level.SEVERE, 10_000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 								+ person + " ran into issues providing water to " + suit.getName(), e);
 			}
 
 			// Return suit to entity's inventory.
 			LogConsolidated.log(Level.FINER, 0, sourceName, 
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 					+ " in " + person.getLocationTag().getImmediateLocation() + " loaded up "  + suit.getName() + ".");
 		}
 	}
@@ -841,7 +842,7 @@ public class ExitAirlock extends Task implements Serializable {
 		// Clear the person as the airlock operator if task ended prematurely.
 		if ((airlock != null) && person.equals(airlock.getOperator())) {
 			LogConsolidated.log(Level.WARNING, 1_000, sourceName,
-					person + " was ending the task of exiting airlock task prematurely and no longer being the airlock operator for "
+					() -> person + " was ending the task of exiting airlock task prematurely and no longer being the airlock operator for "
 							+ airlock.getEntityName());
 			airlock.clearOperator();
 		}
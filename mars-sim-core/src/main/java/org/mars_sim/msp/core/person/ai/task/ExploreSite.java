@@ -265,7 +265,7 @@ public class ExploreSite extends EVAOperation implements Serializable {
 
 			// Add to site mineral concentration estimation improvement number.
 			site.addEstimationImprovement();
-			LogConsolidated.log(Level.FINE, 5000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+			LogConsolidated.log(Level.FINE, 5000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person.getName() + " was exploring the site at " + site.getLocation().getFormattedString() + ". Estimation Improvement: "
 					+ site.getNumEstimationImprovement() + ".");
 		}
@@ -45,6 +45,9 @@ implements Serializable {
 
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
+
+	/** The rate-limited messages of conversations. */
+	private static final LogConsolidated.Site chatLog = LogConsolidated.site(logger, 5000);
 	
     /** Task name */
     private static final String NAME = Msg.getString(
@@ -244,8 +247,9 @@ implements Serializable {
         	setDescription(Msg.getString("Task.description.havingConversation.detail", 
                 detail)); //$NON-NLS-1$
         	//logger.info(person.getName() + " is chatting with " + detail);
-			LogConsolidated.log(logger, Level.FINE, 5000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " was chatting with " + detail + ".", null);
+			String with = detail;
+			chatLog.log(Level.FINE, () ->
+					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " was chatting with " + with + ".");
         }	
     }
     
@@ -17,6 +17,7 @@ import java.util.logging.Logger;
 import org.mars_sim.msp.core.LogConsolidated;
 import org.mars_sim.msp.core.Msg;
 import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.UnitTickEngine;
 import org.mars_sim.msp.core.location.LocationSituation;
 import org.mars_sim.msp.core.person.NaturalAttributeType;
 import org.mars_sim.msp.core.person.Person;
@@ -226,27 +227,40 @@ implements Serializable {
         // If duration, send invitation.
         if (getDuration() <= (getTimeCompleted() + time)) {
 
-            // Add invitation to study.
-            study.addInvitedResearcher(invitee);
+            // The invitee may be at another settlement, so the invitation is sent in
+            // the serial phase
+            UnitTickEngine.defer(this::sendInvitation);
+        }
 
-            // Check if existing relationship between primary researcher and invitee.
-            RelationshipManager relationshipManager = Simulation.instance().getRelationshipManager();
-            if (!relationshipManager.hasRelationship(person, invitee)) {
-                // Add new communication meeting relationship.
-                relationshipManager.addRelationship(person, invitee, Relationship.COMMUNICATION_MEETING);
-            }
+        return 0D;
+    }
 
-            // Add 10 points to invitee's opinion of primary researcher due to invitation.
-            Relationship relationship = relationshipManager.getRelationship(invitee, person);
-            double currentOpinion = relationship.getPersonOpinion(invitee);
-            relationship.setPersonOpinion(invitee, currentOpinion + 10D);
-            LogConsolidated.log(Level.FINE, 0, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " + person
-					+ " was inviting " + invitee.getName() +
-                    " to collaborate in " + study.toString());
+    /**
+     * Sends the invitation to the invitee.
+     */
+    private void sendInvitation() {
+        // Another task may have sent it since
+        if (study.hasResearcherBeenInvited(invitee))
+            return;
+
+        // Add invitation to study.
+        study.addInvitedResearcher(invitee);
+
+        // Check if existing relationship between primary researcher and invitee.
+        RelationshipManager relationshipManager = Simulation.instance().getRelationshipManager();
+        if (!relationshipManager.hasRelationship(person, invitee)) {
+            // Add new communication meeting relationship.
+            relationshipManager.addRelationship(person, invitee, Relationship.COMMUNICATION_MEETING);
         }
 
-        return 0D;
+        // Add 10 points to invitee's opinion of primary researcher due to invitation.
+        Relationship relationship = relationshipManager.getRelationship(invitee, person);
+        double currentOpinion = relationship.getPersonOpinion(invitee);
+        relationship.setPersonOpinion(invitee, currentOpinion + 10D);
+        LogConsolidated.log(Level.FINE, 0, sourceName,
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person
+					+ " was inviting " + invitee.getName() +
+                " to collaborate in " + study.toString());
     }
 
     @Override
@@ -64,6 +64,13 @@ implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The rate-limited messages of loading errors. */
+	private static final LogConsolidated.Site loadingLog = LogConsolidated.site(logger, 1_000);
+	/** The rate-limited messages of equipment that cannot be stored. */
+	private static final LogConsolidated.Site equipmentLog = LogConsolidated.site(logger, 1_000);
+	/** The rate-limited messages of rover capacity. */
+	private static final LogConsolidated.Site capacityLog = LogConsolidated.site(logger, 1_000);
+
     /** Task name */
     private static final String NAME = Msg.getString(
             "Task.description.loadVehicleEVA"); //$NON-NLS-1$
@@ -534,8 +541,9 @@ implements Serializable {
                 amountLoading -= resourceAmount;
             }
             else {
-    			LogConsolidated.log(logger, Level.WARNING, 1_000, sourceName,
-    					"[" + settlement.getName() + "] Rover " + vehicle + loadingError, null);
+    			String error = loadingError;
+    			loadingLog.log(Level.WARNING, () ->
+    					"[" + settlement.getName() + "] Rover " + vehicle + error);
                 endTask();
 //                throw new IllegalStateException(loadingError);
             }
@@ -639,8 +647,9 @@ implements Serializable {
                 if (amountLoading < 0D) amountLoading = 0D;
             }
             else {
-    			LogConsolidated.log(logger, Level.WARNING, 1_000, sourceName,
-    					"[" + settlement.getName() + "] Rover " + vehicle + loadingError, null);
+    			String error = loadingError;
+    			loadingLog.log(Level.WARNING, () ->
+    					"[" + settlement.getName() + "] Rover " + vehicle + error);
                 endTask();
 //                throw new IllegalStateException(loadingError);
             }
@@ -725,9 +734,9 @@ implements Serializable {
                                 loaded++;
                             }
                             else {
-                    			LogConsolidated.log(logger, Level.WARNING, 1_000, sourceName,
+                    			equipmentLog.log(Level.WARNING, () ->
                     					"[" + settlement.getName() + "] Rover " + vehicle
-                    						+ " cannot store " + eq + ".", null);
+                    						+ " cannot store " + eq + ".");
                                 endTask();
                             }
                         }
@@ -817,9 +826,9 @@ implements Serializable {
                             loaded++;
                         }
                         else {
-                			LogConsolidated.log(logger, Level.WARNING, 1_000, sourceName,
+                			equipmentLog.log(Level.WARNING, () ->
                 					"[" + settlement.getName() + "] Rover " + vehicle
-                						+ " cannot store " + eq + ".", null);
+                						+ " cannot store " + eq + ".");
 //                            logger.warning(vehicle + " cannot store " + eq);
                             endTask();
                         }
@@ -916,9 +925,9 @@ implements Serializable {
         }
         catch (Exception e) {
 //            logger.info(e.getMessage());
-			LogConsolidated.log(logger, Level.WARNING, 1_000, sourceName,
+			capacityLog.log(Level.WARNING, () ->
 					"[" + settlement.getName() + "] did NOT have enough capacity in rover "
-							+ vehicle + " to store needed resources for a proposed mission. " + e.getMessage(), null);
+							+ vehicle + " to store needed resources for a proposed mission. " + e.getMessage());
             sufficientCapacity = false;
         }
 
@@ -62,6 +62,17 @@ public class LoadVehicleGarage extends Task implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The rate-limited messages of loading exceptions. */
+	private static final LogConsolidated.Site errorLog = LogConsolidated.site(logger, 5000);
+	/** The rate-limited messages of loading errors. */
+	private static final LogConsolidated.Site loadingLog = LogConsolidated.site(logger, 1_000);
+	/** The rate-limited messages of equipment that cannot be stored. */
+	private static final LogConsolidated.Site equipmentLog = LogConsolidated.site(logger, 1_000);
+	/** The rate-limited messages of needed and stored amounts. */
+	private static final LogConsolidated.Site neededLog = LogConsolidated.site(logger, 5000);
+	/** The rate-limited messages of rover capacity. */
+	private static final LogConsolidated.Site capacityLog = LogConsolidated.site(logger, 1_000);
+
 	/** Task name */
 	private static final String NAME = Msg.getString("Task.description.loadVehicleGarage"); //$NON-NLS-1$
 
@@ -80,8 +91,10 @@ public class LoadVehicleGarage extends Task implements Serializable {
 	 */
 	private static double LOAD_RATE = 20D;
 
-	/** The duration of the loading task (millisols). */
-	private static double DURATION = RandomUtil.getRandomDouble(50D) + 10D;
+	/** The random duration of the loading task (millisols). */
+	private static final double DURATION = 50D;
+	/** The minimum duration of the loading task (millisols). */
+	private static final double MIN_DURATION = 10D;
 
 	
 	// Data members
@@ -116,7 +129,7 @@ public class LoadVehicleGarage extends Task implements Serializable {
 	 */
 	public LoadVehicleGarage(Person person) {
 		// Use Task constructor
-		super(NAME, person, true, false, STRESS_MODIFIER, true, DURATION);
+		super(NAME, person, true, false, STRESS_MODIFIER, true, RandomUtil.getRandomDouble(DURATION) + MIN_DURATION);
 
 		if (personConfig == null)
 			personConfig = SimulationConfig.instance().getPersonConfiguration();
@@ -158,7 +171,7 @@ public class LoadVehicleGarage extends Task implements Serializable {
 
 	public LoadVehicleGarage(Robot robot) {
 		// Use Task constructor
-		super(NAME, robot, true, false, STRESS_MODIFIER, true, DURATION);
+		super(NAME, robot, true, false, STRESS_MODIFIER, true, RandomUtil.getRandomDouble(DURATION) + MIN_DURATION);
 
 		if (personConfig == null)
 			personConfig = SimulationConfig.instance().getPersonConfiguration();
@@ -212,7 +225,7 @@ public class LoadVehicleGarage extends Task implements Serializable {
 			Map<Integer, Number> optionalResources, Map<Integer, Integer> requiredEquipment,
 			Map<Integer, Integer> optionalEquipment) {
 		// Use Task constructor.
-		super("Loading vehicle", person, true, false, STRESS_MODIFIER, true, DURATION);
+		super("Loading vehicle", person, true, false, STRESS_MODIFIER, true, RandomUtil.getRandomDouble(DURATION) + MIN_DURATION);
 
 		setDescription(Msg.getString("Task.description.loadVehicleGarage.detail", vehicle.getName())); // $NON-NLS-1$
 		this.vehicle = vehicle;
@@ -252,7 +265,7 @@ public class LoadVehicleGarage extends Task implements Serializable {
 			Map<Integer, Number> optionalResources, Map<Integer, Integer> requiredEquipment,
 			Map<Integer, Integer> optionalEquipment) {
 		// Use Task constructor.
-		super("Loading vehicle", robot, true, false, STRESS_MODIFIER, true, DURATION);
+		super("Loading vehicle", robot, true, false, STRESS_MODIFIER, true, RandomUtil.getRandomDouble(DURATION) + MIN_DURATION);
 
 		setDescription(Msg.getString("Task.description.loadVehicleGarage.detail", vehicle.getName())); // $NON-NLS-1$
 		this.vehicle = vehicle;
@@ -422,7 +435,7 @@ public class LoadVehicleGarage extends Task implements Serializable {
 			amountLoading = loadResources(amountLoading);
 		} catch (Exception e) {
 			// logger.severe(e.getMessage());
-			LogConsolidated.log(logger, Level.WARNING, 5000, sourceName, e.getMessage(), null);
+			errorLog.log(Level.WARNING, () -> e.getMessage());
 		}
 
 		// Put rover back into settlement.
@@ -555,8 +568,9 @@ public class LoadVehicleGarage extends Task implements Serializable {
 				}
 				amountLoading -= resourceAmount;
 			} else {
-    			LogConsolidated.log(logger, Level.WARNING, 1_000, sourceName,
-    					"[" + settlement.getName() + "] Rover " + vehicle + loadingError, null);
+    			String error = loadingError;
+    			loadingLog.log(Level.WARNING, () ->
+    					"[" + settlement.getName() + "] Rover " + vehicle + error);
 				endTask();
 				// throw new IllegalStateException(loadingError);
 
@@ -657,8 +671,9 @@ public class LoadVehicleGarage extends Task implements Serializable {
 				if (amountLoading < 0D)
 					amountLoading = 0D;
 			} else {
-    			LogConsolidated.log(logger, Level.WARNING, 1_000, sourceName,
-    					"[" + settlement.getName() + "] Rover " + vehicle + loadingError, null);
+    			String error = loadingError;
+    			loadingLog.log(Level.WARNING, () ->
+    					"[" + settlement.getName() + "] Rover " + vehicle + error);
 				endTask();
 //				throw new IllegalStateException(loadingError);
 			}
@@ -743,9 +758,9 @@ public class LoadVehicleGarage extends Task implements Serializable {
 								}
 								loaded++;
 							} else {
-                    			LogConsolidated.log(logger, Level.WARNING, 1_000, sourceName,
+                    			equipmentLog.log(Level.WARNING, () ->
                     					"[" + settlement.getName() + "] Rover " + vehicle
-                    						+ " cannot store " + eq + ".", null);
+                    						+ " cannot store " + eq + ".");
 								endTask();
 							}
 						}
@@ -831,9 +846,9 @@ public class LoadVehicleGarage extends Task implements Serializable {
 							}
 							loaded++;
 						} else {
-                			LogConsolidated.log(logger, Level.WARNING, 1_000, sourceName,
+                			equipmentLog.log(Level.WARNING, () ->
                 					"[" + settlement.getName() + "] Rover " + vehicle
-                						+ " cannot store " + eq + ".", null);
+                						+ " cannot store " + eq + ".");
 							endTask();
 						}
 					}
@@ -927,12 +942,11 @@ public class LoadVehicleGarage extends Task implements Serializable {
 					double totalDessertNeeded = amountDessertNeeded + settlementDessertNeed - amountDessertLoaded;
 
 					if (totalAmountDessertStored < totalDessertNeeded) {
-						if (logger.isLoggable(Level.INFO))
-							LogConsolidated.log(logger, Level.INFO, 5000, sourceName,
+						double dessertStored = totalAmountDessertStored;
+						neededLog.log(Level.INFO, () ->
 									"Desserts needed: " + Math.round(totalDessertNeeded * 100.0) / 100.0
 											+ " kg   Total stored: "
-											+ Math.round(totalAmountDessertStored * 100.0) / 100.0 + " kg ",
-									null);
+											+ Math.round(dessertStored * 100.0) / 100.0 + " kg ");
 						enoughSupplies = false;
 					}
 				}
@@ -944,12 +958,10 @@ public class LoadVehicleGarage extends Task implements Serializable {
 					double totalNeeded = amountNeeded + settlementNeed - amountLoaded;
 					if (inv.getAmountResourceStored(resource, false) < totalNeeded) {
 						double stored = inv.getAmountResourceStored(resource, false);
-						if (logger.isLoggable(Level.INFO))
-							LogConsolidated.log(logger, Level.INFO, 5000, sourceName,
+						neededLog.log(Level.INFO, () ->
 									Conversion.capitalize(ResourceUtil.findAmountResourceName(resource)) + " needed: "
 											+ Math.round(totalNeeded * 100.0) / 100.0 + " kg   Stored: "
-											+ Math.round(stored * 100.0) / 100.0 + " kg ",
-									null);
+											+ Math.round(stored * 100.0) / 100.0 + " kg ");
 						// enoughSupplies = false;
 						return false;
 					}
@@ -963,11 +975,9 @@ public class LoadVehicleGarage extends Task implements Serializable {
 				int totalNeeded = numNeeded + settlementNumPartNeed - numLoaded;
 				if (inv.getItemResourceNum(resource) < totalNeeded) {
 					int stored = inv.getItemResourceNum(resource);
-					if (logger.isLoggable(Level.INFO))
-						LogConsolidated.log(logger, Level.INFO, 5000, sourceName,
+					neededLog.log(Level.INFO, () ->
 								Conversion.capitalize(ResourceUtil.findAmountResourceName(resource)) + " needed: "
-										+ totalNeeded + "  Stored: " + stored,
-								null);
+										+ totalNeeded + "  Stored: " + stored);
 					// enoughSupplies = false;
 					return false;
 				}
@@ -985,9 +995,8 @@ public class LoadVehicleGarage extends Task implements Serializable {
 			int totalNeeded = numNeeded + settlementEquipmentNumNeed - numLoaded;
 			if (inv.findNumEmptyUnitsOfClass(equipmentType, false) < totalNeeded) {
 				int stored = inv.findNumEmptyUnitsOfClass(equipmentType, false);
-				if (logger.isLoggable(Level.INFO))
-					LogConsolidated.log(logger, Level.INFO, 5000, sourceName,
-							equipmentType + " needed: " + totalNeeded + "  Stored: " + stored, null);
+				neededLog.log(Level.INFO, () ->
+							equipmentType + " needed: " + totalNeeded + "  Stored: " + stored);
 				// enoughSupplies = false;
 				return false;
 			}
@@ -1119,9 +1128,9 @@ public class LoadVehicleGarage extends Task implements Serializable {
 			}
 		} catch (Exception e) {
 			// logger.info(e.getMessage());
-			LogConsolidated.log(logger, Level.WARNING, 1_000, sourceName,
+			capacityLog.log(Level.WARNING, () ->
 					"[" + settlement.getName() + "] did NOT have enough capacity in rover "
-							+ vehicle + " to store needed resources for a proposed mission. " + e.getMessage(), null);
+							+ vehicle + " to store needed resources for a proposed mission. " + e.getMessage());
 			sufficientCapacity = false;
 		}
 
@@ -8,8 +8,8 @@ package org.mars_sim.msp.core.person.ai.task;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -663,7 +663,7 @@ implements Serializable {
 			int techLevel = workshop.getTechLevel();
 
 			// Determine all manufacturing processes that are possible and profitable.
-			Map<ManufactureProcessInfo, Double> processProbMap = new HashMap<ManufactureProcessInfo, Double>();
+			Map<ManufactureProcessInfo, Double> processProbMap = new LinkedHashMap<ManufactureProcessInfo, Double>();
 			Iterator<ManufactureProcessInfo> i = ManufactureUtil.getManufactureProcessesForTechSkillLevel(
 					techLevel, skillLevel).iterator();
 			while (i.hasNext()) {
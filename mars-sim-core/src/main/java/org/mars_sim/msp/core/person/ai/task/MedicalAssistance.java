@@ -108,7 +108,7 @@ public class MedicalAssistance extends Task implements Serializable {
 				medical.startTreatment(problem, duration);
 				
 				LogConsolidated.log(Level.INFO, 0, sourceName, 
-						"[" + person.getLocationTag().getLocale() + "] " + person
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person
 					+ " was treating " + problem.getIllness().getType().toString());
 
 				// Add person to medical care building if necessary.
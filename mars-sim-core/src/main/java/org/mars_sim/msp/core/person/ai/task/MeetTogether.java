@@ -43,6 +43,9 @@ implements Serializable {
 
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
+
+	/** The rate-limited messages of meetings. */
+	private static final LogConsolidated.Site meetingLog = LogConsolidated.site(logger, 5000);
 	
     /** Task name */
     private static final String NAME = Msg.getString(
@@ -220,8 +223,8 @@ implements Serializable {
 
 				setDescription(Msg.getString("Task.description.meetTogether.detail", candidate.getName())); //$NON-NLS-1$
 			
-				LogConsolidated.log(logger, Level.FINER, 5000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " +  Msg.getString("Task.description.meetTogether.detail", candidate.getName()), null);
+				meetingLog.log(Level.FINER, () ->
+						"[" + person.getLocationTag().getLocale() + "] " +  Msg.getString("Task.description.meetTogether.detail", candidate.getName()));
 	
 		        //if (isDone()) {
 		        //    return time;
@@ -257,8 +260,8 @@ implements Serializable {
 
 			setDescription(Msg.getString("Task.description.meetTogether.detail.invited", inviter.getName())); //$NON-NLS-1$
 			
-			LogConsolidated.log(logger, Level.FINER, 5000, sourceName,
-					"[" + inviter.getLocationTag().getLocale() + "] " +  Msg.getString("Task.description.meetTogether.detail.invited", inviter.getName()), null);
+			meetingLog.log(Level.FINER, () ->
+					"[" + inviter.getLocationTag().getLocale() + "] " +  Msg.getString("Task.description.meetTogether.detail.invited", inviter.getName()));
 
 
     	}
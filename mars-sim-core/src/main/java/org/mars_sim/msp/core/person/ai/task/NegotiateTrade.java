@@ -162,10 +162,9 @@ public class NegotiateTrade extends Task implements Serializable {
 			// Get the credit that the starting settlement has with the destination
 			// settlement.
 			CreditManager creditManager = Simulation.instance().getCreditManager();
-			double credit = creditManager.getCredit(buyingSettlement, sellingSettlement);
-			credit += soldLoadValue;
+			double credit = creditManager.getCredit(buyingSettlement, sellingSettlement) + soldLoadValue;
 			creditManager.setCredit(buyingSettlement, sellingSettlement, credit);
-			LogConsolidated.log(Level.INFO, 1000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+			LogConsolidated.log(Level.INFO, 1000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person.getName() + " completed a trade negotiation. "
 					+ "   Credit : " + credit 
 					+ "   Buyer : " + buyingSettlement.getName() 
@@ -182,12 +181,12 @@ public class NegotiateTrade extends Task implements Serializable {
 				double buyLoadValue = baseBuyLoadValue / tradeModifier;
 
 				// Update the credit value between the starting and destination settlements.
-				credit -= buyLoadValue;
-				creditManager.setCredit(buyingSettlement, sellingSettlement, credit);
+				double newCredit = credit - buyLoadValue;
+				creditManager.setCredit(buyingSettlement, sellingSettlement, newCredit);
 				
-				LogConsolidated.log(Level.INFO, 1000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+				LogConsolidated.log(Level.INFO, 1000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 						+ person.getName() + " adjusted the credit/debit as follows : "
-						+ "   Credit : " + credit 
+						+ "   Credit : " + newCredit 
 						+ "   Buyer : " + buyingSettlement.getName() 
 						+ "   Seller : " + sellingSettlement.getName());
 //				logger.fine("Credit at " + buyingSettlement.getName() + " for " + sellingSettlement.getName() + " is " + credit);
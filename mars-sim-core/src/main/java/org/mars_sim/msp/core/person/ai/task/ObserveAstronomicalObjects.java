@@ -88,7 +88,7 @@ public class ObserveAstronomicalObjects extends Task implements ResearchScientif
 				observatory.addObserver();
 				isActiveObserver = true;
 			} else {
-				LogConsolidated.log(Level.SEVERE, 5000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+				LogConsolidated.log(Level.SEVERE, 5000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 						+ person.getName() + " could not find the observatory.");
 				endTask();
 			}
@@ -288,7 +288,7 @@ public class ObserveAstronomicalObjects extends Task implements ResearchScientif
 		boolean isPrimary = study.getPrimaryResearcher().equals(person);
 		if (isPrimary) {
 			if (study.isPrimaryResearchCompleted()) {
-				LogConsolidated.log(Level.INFO, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+				LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 						+ person.getName() + " just spent " 
 						+ Math.round(study.getPrimaryResearchWorkTimeCompleted() *10.0)/10.0
 						+ " millisols to complete a primary research using " + person.getLocationTag().getImmediateLocation());				
@@ -296,7 +296,7 @@ public class ObserveAstronomicalObjects extends Task implements ResearchScientif
 			}
 		} else {
 			if (study.isCollaborativeResearchCompleted(person)) {
-				LogConsolidated.log(Level.INFO, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+				LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 						+ person.getName() + " just spent " 
 						+ Math.round(study.getCollaborativeResearchWorkTimeCompleted(person) *10.0)/10.0
 						+ " millisols to complete a collaborative research using " + person.getLocationTag().getImmediateLocation());
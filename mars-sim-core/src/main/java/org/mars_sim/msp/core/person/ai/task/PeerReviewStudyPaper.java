@@ -234,7 +234,7 @@ implements Serializable {
 
         // Check if peer review phase in study is completed.
         if (study.isCompleted()) {
-			LogConsolidated.log(Level.INFO, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+			LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person.getName() + " just spent " 
 					+ Math.round(study.getPeerReviewTimeCompleted() *10.0)/10.0
 					+ " millisols to finish peer reviewing a paper "
@@ -480,7 +480,7 @@ implements ResearchScientificStudy, Serializable {
         boolean isPrimary = study.getPrimaryResearcher().equals(person);
         if (isPrimary) {
             if (study.isPrimaryResearchCompleted()) {
-    			LogConsolidated.log(Level.INFO, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+    			LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
     					+ person.getName() + " just spent " 
     					+ Math.round(study.getPrimaryResearchWorkTimeCompleted() *10.0)/10.0
     					+ " millisols in performing lab experiments " 
@@ -491,7 +491,7 @@ implements ResearchScientificStudy, Serializable {
         }
         else {
             if (study.isCollaborativeResearchCompleted(person)) {
-    			LogConsolidated.log(Level.INFO, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+    			LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
     					+ person.getName() + " just spent " 
     					+ Math.round(study.getCollaborativeResearchWorkTimeCompleted(person) *10.0)/10.0
     					+ " millisols in performing lab experiments " 
@@ -48,6 +48,9 @@ implements ResearchScientificStudy, Serializable {
     
     private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1, logger.getName().length());
 
+	/** The rate-limited messages of missing lab slots. */
+	private static final LogConsolidated.Site labSlotLog = LogConsolidated.site(logger, 5000);
+
     /** Task name */
     private static final String NAME = Msg.getString(
             "Task.description.performMathematicalModeling"); //$NON-NLS-1$
@@ -93,9 +96,9 @@ implements ResearchScientificStudy, Serializable {
             }
             
             else {
-            	LogConsolidated.log(logger, Level.INFO, 5000, sourceName, 
+            	labSlotLog.log(Level.INFO, () ->
             		"[" + person.getLocationTag().getLocale() + "] " 
-            			+ person + NO_LAB_SLOT, null);
+            			+ person + NO_LAB_SLOT);
             	endTask();
 //            	person.getMind().getTaskManager().clearTask();
             	//person.getMind().getTaskManager().getNewTask();
@@ -190,7 +190,7 @@ public class PlayHoloGame extends Task implements Serializable {
 	private double settingUpPhase(double time) {
 		// TODO: add codes for selecting a particular type of game
 		
-		LogConsolidated.log(Level.INFO, 10_000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+		LogConsolidated.log(Level.INFO, 10_000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 				+ person + " was setting up hologames to play in " + person.getLocationTag().getImmediateLocation());
 		
 		setPhase(PLAYING_A_HOLO_GAME);
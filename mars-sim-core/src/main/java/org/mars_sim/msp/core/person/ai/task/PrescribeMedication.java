@@ -51,13 +51,17 @@ implements Serializable {
 	/** default logger. */
 	private static Logger logger = Logger.getLogger(PrescribeMedication.class.getName());
 
+	/** The rate-limited messages of medications. */
+	private static final LogConsolidated.Site medicationLog = LogConsolidated.site(logger, 5000);
+
     private String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1, logger.getName().length());
     
 	/** Task name */
     private static final String NAME = Msg.getString(
             "Task.description.prescribeMedication"); //$NON-NLS-1$
 
-	private static final double AVERAGE_MEDICAL_WASTE = .1 * RandomUtil.getRandomDouble(2);
+	/** The maximum amount of medical waste (kg) per medication. */
+	private static final double MAX_MEDICAL_WASTE = .2;
 
     /** Task phases. */
     private static final TaskPhase MEDICATING = new TaskPhase(Msg.getString(
@@ -374,7 +378,7 @@ implements Serializable {
                         			.append("."); 
                         }
 
-                		LogConsolidated.log(logger, Level.INFO, 5000, sourceName, phrase.toString(), null);
+                		medicationLog.log(Level.INFO, phrase.toString());
 
                     }
                     
@@ -407,7 +411,7 @@ implements Serializable {
 
 		if (!(containerUnit instanceof MarsSurface)) {
             Inventory inv = containerUnit.getInventory();
-            Storage.storeAnResource(AVERAGE_MEDICAL_WASTE, ResourceUtil.toxicWasteAR, inv, 
+            Storage.storeAnResource(RandomUtil.getRandomDouble(MAX_MEDICAL_WASTE), ResourceUtil.toxicWasteAR, inv, 
             		sourceName + "::produceMedicalWaste");
         }
 	}
@@ -8,8 +8,8 @@ package org.mars_sim.msp.core.person.ai.task;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -671,7 +671,7 @@ implements Serializable {
 			int techLevel = foodFactory.getTechLevel();
 
 			// Determine all foodProduction processes that are possible and profitable.
-			Map<FoodProductionProcessInfo, Double> processProbMap = new HashMap<FoodProductionProcessInfo, Double>();
+			Map<FoodProductionProcessInfo, Double> processProbMap = new LinkedHashMap<FoodProductionProcessInfo, Double>();
 			for (FoodProductionProcessInfo processInfo : FoodProductionUtil.getFoodProductionProcessesForTechSkillLevel(
 					techLevel, skillLevel)) {
 			//Iterator<FoodProductionProcessInfo> i = FoodProductionUtil.getFoodProductionProcessesForTechSkillLevel(
@@ -164,7 +164,7 @@ implements Serializable {
     private double proposingPhase(double time) {
         
     	if (study.isProposalCompleted()){
-   			LogConsolidated.log(Level.INFO, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+   			LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person.getName() + " just finished writing a study proposal in " 
    					+ study.getScience().getName() 
 					+ " in " + person.getLocationTag().getImmediateLocation());	
@@ -421,7 +421,7 @@ public class RepairEVAMalfunction extends EVAOperation implements Repair, Serial
 		if (isEVAMalfunction) {
 			if ((malfunction.getEVAWorkTime() - malfunction.getCompletedEVAWorkTime()) <= 0D) {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName()
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
 						+ " had completed the EVA repair of " + malfunction.getName() + " in "+ entity + ".");
 				finishedRepair = true;
 			}
@@ -429,7 +429,7 @@ public class RepairEVAMalfunction extends EVAOperation implements Repair, Serial
 		
 		else if ((malfunction.getWorkTime() - malfunction.getCompletedWorkTime() <= 0D)) {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName()
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
 						+ " had completed the regular repair of " + malfunction.getName() + " in "+ entity + ".");
 				finishedRepair = true;
 		}
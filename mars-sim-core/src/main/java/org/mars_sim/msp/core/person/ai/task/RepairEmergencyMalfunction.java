@@ -116,13 +116,13 @@ public class RepairEmergencyMalfunction extends Task implements Repair, Serializ
 		if (malfunction != null) {
 			if (person != null) {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " started repairing on emergency malfunction: " 
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " started repairing on emergency malfunction: " 
 				+ malfunction.getName() + " in "+ entity + ".");
 //				+ "@"+ Integer.toHexString(malfunction.hashCode()));
 			}
         	else if (robot != null) {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-						"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " started repairing on emergency malfunction: " 
+						() -> "[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " started repairing on emergency malfunction: " 
 				+ malfunction.getName() + " in "+ entity + ".");
 //				+ "@" + Integer.toHexString(malfunction.hashCode()));
         	}
@@ -154,12 +154,12 @@ public class RepairEmergencyMalfunction extends Task implements Repair, Serializ
 		if (workTimeLeft <= 0) {
 			if (person != null) {
 			LogConsolidated.log(Level.INFO, 5000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 					+ " had finished the emergency malfunction of " + malfunction.getName() + " in "+ entity + ".");
 			}
 			else {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-						"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() 
+						() -> "[" + robot.getLocationTag().getLocale() + "] " + robot.getName() 
 						+ " had finished the emergency malfunction of " + malfunction.getName() + " in "+ entity + ".");
 			}
 			endTask();
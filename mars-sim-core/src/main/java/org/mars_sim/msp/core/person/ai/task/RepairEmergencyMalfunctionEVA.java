@@ -286,13 +286,13 @@ public class RepairEmergencyMalfunctionEVA extends EVAOperation implements Repai
 		if (workTimeLeft <= 0) {
 			if (person != null) {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " had completed the emergency EVA repair on malfunction: " 
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " had completed the emergency EVA repair on malfunction: " 
 				+ malfunction.getName() + " in "+ entity + ".");
 //				+ "@"+ Integer.toHexString(malfunction.hashCode()));
 			}
         	else if (robot != null) {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-						"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " had completed the emergency EVA repair on malfunction: " 
+						() -> "[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " had completed the emergency EVA repair on malfunction: " 
 				+ malfunction.getName() + " in "+ entity + ".");
 //				+ "@" + Integer.toHexString(malfunction.hashCode()));
         	}
@@ -493,15 +493,16 @@ public class RepairMalfunction extends Task implements Repair, Serializable {
 		}
 
 		if ((malfunction.getWorkTime() - malfunction.getCompletedWorkTime() <= 0D)) {
+			String name = malfunction.getName();
 			if (person != null) {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName()
-						+ " had completed the regular repair of " + malfunction.getName() + " in "+ entity + ".");
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
+						+ " had completed the regular repair of " + name + " in "+ entity + ".");
 			}
 			else {
 				LogConsolidated.log(Level.INFO, 5000, sourceName,
-					"[" + robot.getLocationTag().getLocale() + "] " + robot.getName()
-						+ " had completed the regular repair of "  + malfunction.getName() + " in "+ entity + ".");
+					() -> "[" + robot.getLocationTag().getLocale() + "] " + robot.getName()
+						+ " had completed the regular repair of "  + name + " in "+ entity + ".");
 			}
 		}
 		
@@ -16,6 +16,7 @@ import java.util.logging.Logger;
 
 import org.mars_sim.msp.core.LogConsolidated;
 import org.mars_sim.msp.core.Msg;
+import org.mars_sim.msp.core.UnitTickEngine;
 import org.mars_sim.msp.core.person.NaturalAttributeType;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.ai.SkillType;
@@ -154,48 +155,61 @@ implements Serializable {
         // If duration, send respond to invitation.
         if (getDuration() <= (getTimeCompleted() + time)) {
 
-            study.respondingInvitedResearcher(person);
-            Job job = person.getMind().getJob();
+            // The primary researcher may be at another settlement, so the response is
+            // sent in the serial phase
+            UnitTickEngine.defer(this::respondToInvitation);
+        }
 
-            // Get relationship between invitee and primary researcher.
-            Person primaryResearcher = study.getPrimaryResearcher();
-//            RelationshipManager relationshipManager = Simulation.instance().getRelationshipManager();
-            Relationship relationship = relationshipManager.getRelationship(person, primaryResearcher);
+        return 0D;
+    }
 
-            // Decide response to invitation.
-            if (decideResponse()) {
-                ScienceType science = ScienceType.getJobScience(job);
-                study.addCollaborativeResearcher(person, science);
+    /**
+     * Responds to the invitation.
+     */
+    private void respondToInvitation() {
+        // Another task may have responded since
+        if (study.hasInvitedResearcherResponded(person))
+            return;
 
-                // Add 10 points to primary researcher's opinion of invitee for accepting invitation.
-                if (relationship != null) {
-                    double currentOpinion = relationship.getPersonOpinion(primaryResearcher);
-                    relationship.setPersonOpinion(primaryResearcher, currentOpinion + 10D);
-                }
+        study.respondingInvitedResearcher(person);
+        Job job = person.getMind().getJob();
 
-                LogConsolidated.log(Level.INFO, 0, sourceName,
-    					"[" + person.getLocationTag().getLocale() + "] " 
-    					+ person.getName() + 
-                        " accepted invitation from " + primaryResearcher.getName() + 
-                        " to collaborate on " + study.toString());
-            }
-            else {
+        // Get relationship between invitee and primary researcher.
+        Person primaryResearcher = study.getPrimaryResearcher();
+//            RelationshipManager relationshipManager = Simulation.instance().getRelationshipManager();
+        Relationship relationship = relationshipManager.getRelationship(person, primaryResearcher);
 
-                // Subtract 10 points from primary researcher's opinion of invitee for rejecting invitation.
-                if (relationship != null) {
-                    double currentOpinion = relationship.getPersonOpinion(primaryResearcher);
-                    relationship.setPersonOpinion(primaryResearcher, currentOpinion - 10D);
-                }
+        // Decide response to invitation.
+        if (decideResponse()) {
+            ScienceType science = ScienceType.getJobScience(job);
+            study.addCollaborativeResearcher(person, science);
 
-                LogConsolidated.log(Level.INFO, 0, sourceName,
-    					"[" + person.getLocationTag().getLocale() + "] " 
-    						+ person.getName() + 
-                        " rejected invitation from " + primaryResearcher.getName() + 
-                        " to collaborate on " + study.toString());
+            // Add 10 points to primary researcher's opinion of invitee for accepting invitation.
+            if (relationship != null) {
+                double currentOpinion = relationship.getPersonOpinion(primaryResearcher);
+                relationship.setPersonOpinion(primaryResearcher, currentOpinion + 10D);
             }
+
+            LogConsolidated.log(Level.INFO, 0, sourceName,
+					() -> "[" + person.getLocationTag().getLocale() + "] " 
+					+ person.getName() + 
+                    " accepted invitation from " + primaryResearcher.getName() + 
+                    " to collaborate on " + study.toString());
         }
+        else {
 
-        return 0D;
+            // Subtract 10 points from primary researcher's opinion of invitee for rejecting invitation.
+            if (relationship != null) {
+                double currentOpinion = relationship.getPersonOpinion(primaryResearcher);
+                relationship.setPersonOpinion(primaryResearcher, currentOpinion - 10D);
+            }
+
+            LogConsolidated.log(Level.INFO, 0, sourceName,
+					() -> "[" + person.getLocationTag().getLocale() + "] " 
+						+ person.getName() + 
+                    " rejected invitation from " + primaryResearcher.getName() + 
+                    " to collaborate on " + study.toString());
+        }
     }
 
     /**
@@ -41,6 +41,9 @@ public class RestingMedicalRecovery extends Task implements Serializable {
 
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1, logger.getName().length());
 
+	/** The rate-limited messages of missing medical aid. */
+	private static final LogConsolidated.Site medicalAidLog = LogConsolidated.site(logger, 10000);
+
     /** Task name */
     private static final String NAME = Msg.getString(
             "Task.description.restingMedicalRecovery"); //$NON-NLS-1$
@@ -99,9 +102,9 @@ public class RestingMedicalRecovery extends Task implements Serializable {
         }
         else {
             //logger.severe(person + " can't find any medical aid.");
-      		LogConsolidated.log(logger, Level.SEVERE, 10000, sourceName, 
+      		medicalAidLog.log(Level.SEVERE, () ->
       				"[" + person.getLocationTag().getLocale() + "] "
-      				+ person + " can't find any medical aid.", null);
+      				+ person + " can't find any medical aid.");
       		
             endTask();
         }
@@ -235,7 +238,7 @@ public class RestingMedicalRecovery extends Task implements Serializable {
             HealthProblem problem = i.next();
             if (problem.getRecovering() && problem.requiresBedRest()) {
                 problem.addBedRestRecoveryTime(time);
-    			LogConsolidated.log(Level.FINE, 20_000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+    			LogConsolidated.log(Level.FINE, 20_000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
     					+ person.getName() + " was taking a medical leave and resting "
     					+ " in " + person.getLocationTag().getImmediateLocation());	
                 if (!problem.isCured()) {
@@ -246,7 +249,7 @@ public class RestingMedicalRecovery extends Task implements Serializable {
 
         // If person has no more health problems requiring bed rest, end task.
         if (!remainingBedRest) {
-			LogConsolidated.log(Level.FINE, 0, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+			LogConsolidated.log(Level.FINE, 0, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person.getName() + " ended the medical leave.");
             endTask();
         }
@@ -177,7 +177,7 @@ public class ReviewJobReassignment extends Task implements Serializable {
 							JobAssignmentType.NOT_APPROVED, approvedBy);
 
 					LogConsolidated.log(Level.INFO, 3000, sourceName,
-							"[" + s + "] " + approvedBy + " did NOT approve " + tempPerson
+							() -> "[" + s + "] " + approvedBy + " did NOT approve " + tempPerson
 							+ "'s job reassignment as " + pendingJobStr + "."
 							//+ "Try again when the performance rating is higher."
 							);
@@ -187,7 +187,7 @@ public class ReviewJobReassignment extends Task implements Serializable {
 					tempPerson.getMind().reassignJob(pendingJobStr, true, JobManager.USER,
 							JobAssignmentType.APPROVED, approvedBy);
 					LogConsolidated.log(Level.INFO, 3000, sourceName,
-							"[" + s + "] " + approvedBy + " just approved " + tempPerson
+							() -> "[" + s + "] " + approvedBy + " just approved " + tempPerson
 							+ "'s job reassignment as " + pendingJobStr + ".");
 				}
 				
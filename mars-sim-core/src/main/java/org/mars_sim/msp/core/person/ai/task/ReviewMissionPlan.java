@@ -195,8 +195,6 @@ public class ReviewMissionPlan extends Task implements Serializable {
 						Person p = m.getStartingMember();
 						String requestedBy = p.getName();
 		
-		            	double score = 0;
-            			
 						String s = person.getAssociatedSettlement().getName();
 						
 						if (!reviewedBy.equals(requestedBy)
@@ -206,7 +204,7 @@ public class ReviewMissionPlan extends Task implements Serializable {
 							int last = list.size() - 1;
 							
 							// 1. Reviews requester's cumulative job rating
-							double rating = list.get(last).getJobRating();
+							double jobRating = list.get(last).getJobRating();
 							double cumulative_rating = 0;
 							int size = list.size();
 							for (int j = 0; j < size; j++) {
@@ -214,7 +212,7 @@ public class ReviewMissionPlan extends Task implements Serializable {
 							}
 							cumulative_rating = cumulative_rating / size;
 			
-							rating = (rating + cumulative_rating) * 2.5D;
+							double rating = (jobRating + cumulative_rating) * 2.5D;
 									
 							// 2. Relationship Score 
 							int relation = (int)(relationshipManager.getOpinionOfPerson(person, p)/5D);
@@ -222,7 +220,7 @@ public class ReviewMissionPlan extends Task implements Serializable {
 												
 							
 							// 3. Mission Qualification Score
-							double qual = 0;
+							double qual;
 							
 							if (m instanceof AreologyStudyFieldMission) {
 	//							AreologyStudyFieldMission aM = (AreologyStudyFieldMission)m;
@@ -242,7 +240,7 @@ public class ReviewMissionPlan extends Task implements Serializable {
 								qual = 2D * m.getMissionQualification(person);											
 							
 							// 4. Settlement objective score
-							double obj = 0;
+							double obj;
 							
 							if (person.getAssociatedSettlement().getObjective() == ObjectiveType.TOURISM
 									&& (m instanceof AreologyStudyFieldMission
@@ -250,32 +248,32 @@ public class ReviewMissionPlan extends Task implements Serializable {
 									|| m instanceof TravelToSettlement
 									|| m instanceof Exploration)
 									) {
-								obj += 10D * person.getAssociatedSettlement().getGoodsManager().getTourismFactor();
+								obj = 10D * person.getAssociatedSettlement().getGoodsManager().getTourismFactor();
 							}				
 							
 							else if (person.getAssociatedSettlement().getObjective() == ObjectiveType.TRADE_CENTER
 									&& m instanceof Trade) {
-								obj += 10D * person.getAssociatedSettlement().getGoodsManager().getTradeFactor();
+								obj = 10D * person.getAssociatedSettlement().getGoodsManager().getTradeFactor();
 							}	
 							
 							else if (person.getAssociatedSettlement().getObjective() == ObjectiveType.TRANSPORTATION_HUB
 									&& (m instanceof TravelToSettlement
 									|| m instanceof Exploration)) {
-								obj += 10D * person.getAssociatedSettlement().getGoodsManager().getTransportationFactor();
+								obj = 10D * person.getAssociatedSettlement().getGoodsManager().getTransportationFactor();
 							}	
 							
 							else if (person.getAssociatedSettlement().getObjective() == ObjectiveType.MANUFACTURING_DEPOT
 									&& (m instanceof Mining
 									|| m instanceof CollectRegolith)) {
-								obj += 10D * person.getAssociatedSettlement().getGoodsManager().getManufacturingFactor();
+								obj = 10D * person.getAssociatedSettlement().getGoodsManager().getManufacturingFactor();
 							}	
 							
+							else
+								obj = 0;
+							
 							// 5. emergency
-							int emer = 0;
-							if (m instanceof EmergencySupplyMission
-									|| m instanceof RescueSalvageVehicle) {
-								emer = 50;
-							}	
+							int emer = (m instanceof EmergencySupplyMission
+									|| m instanceof RescueSalvageVehicle) ? 50 : 0;
 							
 							// 6. randomness
 							int rand = RandomUtil.getRandomInt(-30, 10);
@@ -284,20 +282,13 @@ public class ReviewMissionPlan extends Task implements Serializable {
 							// TODO: 6. Go to him/her to have a chat
 							// TODO: 7. look at the mission experience of a person
 							
-							score = rating + relation + qual + obj + emer + rand;
+							double score = rating + relation + qual + obj + emer + rand;
 							
 							// Updates the mission plan status
 							missionManager.scoreMissionPlan(mp, score, person);
 							
-							// Modify the sign for the random number
-							String sign = " + ";
-							if (rand < 0) {
-								rand = -rand;
-								sign = " - ";
-							}
-							
 							LogConsolidated.log(Level.INFO, 2000, sourceName, 
-									"[" + s + "] " + reviewedBy + " gave " + requestedBy
+									() -> "[" + s + "] " + reviewedBy + " gave " + requestedBy
 									+ "'s " + m.getDescription() + " mission plan a score of " + score 
 									+ " (" 
 									+ rating 
@@ -305,8 +296,8 @@ public class ReviewMissionPlan extends Task implements Serializable {
 									+ " + " + qual 
 									+ " + " + obj
 									+ " + " + emer
-									+ sign 
-									+ rand 
+									+ (rand < 0 ? " - " : " + ") 
+									+ Math.abs(rand) 
 									+ ").");
 							
 						      // Add experience
@@ -360,7 +351,7 @@ public class ReviewMissionPlan extends Task implements Serializable {
 						missionManager.approveMissionPlan(mp, p, PlanType.APPROVED);
 							
 						LogConsolidated.log(Level.INFO, 0, sourceName,
-								"[" + s + "] " + reviewedBy + " approved " + requestedBy
+								() -> "[" + s + "] " + reviewedBy + " approved " + requestedBy
 								+ "'s " + m.getDescription() + " mission plan. Total Score: " + score 
 								+ " (Min: " + settlement.getMinimumPassingScore() + ").");
 					} else {
@@ -369,7 +360,7 @@ public class ReviewMissionPlan extends Task implements Serializable {
 						missionManager.approveMissionPlan(mp, p, PlanType.NOT_APPROVED);
 					
 						LogConsolidated.log(Level.INFO, 0, sourceName, 
-								"[" + s + "] " + reviewedBy + " did NOT approve " + requestedBy
+								() -> "[" + s + "] " + reviewedBy + " did NOT approve " + requestedBy
 								+ "'s " + m.getDescription() + " mission plan. Total Score: " + score 
 								+ " (Min: " + settlement.getMinimumPassingScore() + ").");
 					}
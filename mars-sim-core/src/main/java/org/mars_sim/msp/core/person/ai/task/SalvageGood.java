@@ -8,8 +8,8 @@ package org.mars_sim.msp.core.person.ai.task;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -461,7 +461,7 @@ implements Serializable {
 			int skillLevel = getEffectiveSkillLevel();
 			int techLevel = workshop.getTechLevel();
 
-			Map<SalvageProcessInfo, Double> processValues = new HashMap<SalvageProcessInfo, Double>();
+			Map<SalvageProcessInfo, Double> processValues = new LinkedHashMap<SalvageProcessInfo, Double>();
 			Iterator<SalvageProcessInfo> i = ManufactureUtil.getSalvageProcessesForTechSkillLevel(
 					techLevel, skillLevel).iterator();
 			while (i.hasNext()) {
@@ -46,6 +46,9 @@ public class SelfTreatHealthProblem extends Task implements Serializable {
     private static Logger logger = Logger.getLogger(SelfTreatHealthProblem.class.getName());
 
     private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1, logger.getName().length());
+
+	/** The rate-limited messages of self-treatments. */
+	private static final LogConsolidated.Site treatmentLog = LogConsolidated.site(logger, 0);
     
     /** Task name */
     private static final String NAME = Msg.getString(
@@ -93,15 +96,15 @@ public class SelfTreatHealthProblem extends Task implements Serializable {
                     setStressModifier(STRESS_MODIFIER * treatment.getSkill());
                 }
                 else {
-            		LogConsolidated.log(logger, Level.WARNING, 0, sourceName, 
-            				"[" + person.getSettlement() + "] " + healthProblem + " does not have treatment.", null);
+            		treatmentLog.log(Level.WARNING, () ->
+            				"[" + person.getSettlement() + "] " + healthProblem + " does not have treatment.");
                     endTask();
                 }
             }
             else {
-            	LogConsolidated.log(logger, Level.WARNING, 0, sourceName, 
+            	treatmentLog.log(Level.WARNING, () ->
             			"[" + person.getSettlement() + "] " +
-            			person + " could not self-treat a health problem at " + medicalAid + ".", null);
+            			person + " could not self-treat a health problem at " + medicalAid + ".");
                 endTask();
             }
 
@@ -334,9 +337,9 @@ public class SelfTreatHealthProblem extends Task implements Serializable {
         if (!medicalAid.getProblemsBeingTreated().contains(healthProblem)) {
             medicalAid.requestTreatment(healthProblem);
             medicalAid.startTreatment(healthProblem, duration);
-        	LogConsolidated.log(logger, Level.INFO, 0, sourceName, 
+        	treatmentLog.log(Level.INFO, () ->
         			"[" + person.getSettlement() + "] " +
-        			person.getName() + " is self-treating his/her " + healthProblem.getIllness().getType().toString().toLowerCase(), null);
+        			person.getName() + " is self-treating his/her " + healthProblem.getIllness().getType().toString().toLowerCase());
 
             // Create starting task event if needed.
             if (getCreateEvents()) {
@@ -1219,7 +1219,7 @@ public abstract class Task implements Serializable, Comparable<Task> {
 					if (building.getNickName().toLowerCase().contains("astronomy")) {
 						if (robot.getSettlement().getBuildingConnectors(building).size() > 0) {
 							LogConsolidated.log(Level.FINER, 5000, sourceName,
-									"[" + robot.getLocationTag().getLocale() + "] " 
+									() -> "[" + robot.getLocationTag().getLocale() + "] " 
 											+ robot.getName() + " is walking toward " + building.getNickName());
 							walkToActivitySpotInBuilding(building, fct, allowFail);
 						}
@@ -1249,7 +1249,7 @@ public abstract class Task implements Serializable, Comparable<Task> {
 			} else {
 //				logger.fine(person.getName() + " unable to walk to " + interiorObject);
 				LogConsolidated.log(Level.FINER, 5000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " 
+						() -> "[" + person.getLocationTag().getLocale() + "] " 
 								+ person.getName() + " was unable to walk to " + interiorObject);
 				if (!allowFail) {
 					endTask();
@@ -1262,7 +1262,7 @@ public abstract class Task implements Serializable, Comparable<Task> {
 			} else {
 //				logger.fine(robot.getName() + " unable to walk to " + interiorObject);
 				LogConsolidated.log(Level.FINER, 5000, sourceName,
-						"[" + robot.getLocationTag().getLocale() + "] " 
+						() -> "[" + robot.getLocationTag().getLocale() + "] " 
 								+ robot.getName() + " was unable to walk to " + interiorObject);
 				if (!allowFail) {
 					endTask();
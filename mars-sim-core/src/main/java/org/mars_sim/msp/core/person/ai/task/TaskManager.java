@@ -7,7 +7,7 @@
 package org.mars_sim.msp.core.person.ai.task;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -28,6 +28,7 @@ import org.mars_sim.msp.core.person.ai.task.meta.MetaTaskUtil;
 import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.time.MarsClock;
 import org.mars_sim.msp.core.tool.RandomUtil;
+import org.mars_sim.msp.core.tool.TickProfiler;
 import org.mars_sim.msp.core.vehicle.Vehicle;
 
 /**
@@ -48,6 +49,11 @@ public class TaskManager implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The rate-limited messages of the task selection. */
+	private static final LogConsolidated.Site selectionLog = LogConsolidated.site(logger, 5_000);
+	/** The rate-limited messages of the task probabilities. */
+	private static final LogConsolidated.Site probabilityLog = LogConsolidated.site(logger, 5_000);
+
 	private static final String WALK = "walk";
 	
 	private static final int MAX_TASK_PROBABILITY = 3000;
@@ -109,7 +115,7 @@ public class TaskManager implements Serializable {
 
 		// Initialize cache values.
 //		timeCache = null;
-		taskProbCache = new HashMap<MetaTask, Double>();
+		taskProbCache = new LinkedHashMap<MetaTask, Double>();
 		totalProbCache = 0D;
 
 		// Ensure no NULLPOiNTEREXCEPTION in maven test
@@ -403,7 +409,10 @@ public class TaskManager implements Serializable {
 //			 checkForEmergency();
 //			 }
 
+			long start = TickProfiler.start();
+			Class<?> taskClass = currentTask.getClass();
 			remainingTime = currentTask.performTask(time);
+			TickProfiler.record(TickProfiler.Category.TASK, taskClass, start);
 
 			// Expend energy based on activity.
 			double energyTime = time - remainingTime;
@@ -569,8 +578,7 @@ public class TaskManager implements Serializable {
 
 		if (totalProbability == 0D) {
 //			throw new IllegalStateException(mind.getPerson() + " has zero total task probability weight.");
-			LogConsolidated.log(Level.SEVERE, 5_000, sourceName,
-					person.getName() + " has zero total task probability weight.");
+			selectionLog.log(Level.SEVERE, () -> person.getName() + " has zero total task probability weight.");
 		}
 
 		double r = RandomUtil.getRandomDouble(totalProbability);
@@ -590,8 +598,7 @@ public class TaskManager implements Serializable {
 
 		if (selectedMetaTask == null) {
 //			throw new IllegalStateException(mind.getPerson() + " could not determine a new task.");
-			LogConsolidated.log(Level.SEVERE, 5_000, sourceName,
-					person.getName() + " could not determine a new task.");
+			selectionLog.log(Level.SEVERE, () -> person.getName() + " could not determine a new task.");
 		} else {
 			// Call constructInstance of the selected Meta Task to commence the ai task
 			result = selectedMetaTask.constructInstance(mind.getPerson());
@@ -672,19 +679,21 @@ public class TaskManager implements Serializable {
 				// Use new mtList
 				mtListCache = mtList;
 				// Create new taskProbCache
-				taskProbCache = new HashMap<MetaTask, Double>(mtList.size());		
+				taskProbCache = new LinkedHashMap<MetaTask, Double>(mtList.size());		
 			}
 
 			// Clear total probabilities.
 			totalProbCache = 0D;
 			// Determine probabilities.
 			for (MetaTask mt : mtListCache) {
+				long start = TickProfiler.start();
 				double probability = mt.getProbability(person);
+				TickProfiler.record(TickProfiler.Category.META_TASK, mt.getClass(), start);
 				if ((probability >= 0D) && (!Double.isNaN(probability)) && (!Double.isInfinite(probability))) {
 					if (probability > MAX_TASK_PROBABILITY) {
-						LogConsolidated.log(Level.FINER, 5_000, sourceName,
-								mind.getPerson().getName() + " - " + mt.getName() 
-									+ " : Probability is " + Math.round(probability*10.0)/10.0 + ".");										
+						double highProbability = probability;
+						probabilityLog.log(Level.FINER, () -> mind.getPerson().getName() + " - " + mt.getName() 
+									+ " : Probability is " + Math.round(highProbability*10.0)/10.0 + ".");
 						if (mt.getName().contains("eat")) 
 							addTask(new EatMeal(person));
 						else if (mt.getName().contains("sleep")) 
@@ -701,9 +710,9 @@ public class TaskManager implements Serializable {
 				
 				else {
 					taskProbCache.put(mt, 0D);
-					LogConsolidated.log(Level.SEVERE, 5_000, sourceName,
-							mind.getPerson().getName() + " has invalid probability when calculating "
-								+ mt.getName() + " : Probability is " + probability + ".");
+					double invalidProbability = probability;
+					probabilityLog.log(Level.SEVERE, () -> mind.getPerson().getName() + " has invalid probability when calculating "
+								+ mt.getName() + " : Probability is " + invalidProbability + ".");
 				}
 			}
 		}
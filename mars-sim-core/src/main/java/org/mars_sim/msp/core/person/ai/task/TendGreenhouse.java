@@ -286,7 +286,7 @@ public class TendGreenhouse extends Task implements Serializable {
 			if (greenhouse.checkBotanyLab(type.getID(), person))  {
 				
 				LogConsolidated.log(Level.INFO, 30_000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 						+ " was growing " + type.getName() + " tissue culture in the botany lab in " 
 						+ farmBuilding.getNickName()
 						+ ".");
@@ -441,7 +441,7 @@ public class TendGreenhouse extends Task implements Serializable {
 	 */
 	private double samplingPhase(double time) {
 		// double remainingTime = 0, workTime = 0;
-		CropType type = null;
+		CropType type;
 		
 		int rand = RandomUtil.getRandomInt(5);
 
@@ -465,7 +465,7 @@ public class TendGreenhouse extends Task implements Serializable {
 						Conversion.capitalize(type.getName()) + " Tissues Culture for Lab Work"));
 
 					LogConsolidated.log(Level.INFO, 30_000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 						+ " was growing and sampling " + type.getName() + " tissue culture in the botany lab in " 
 						+ farmBuilding.getNickName()
 						+ ".");
@@ -48,6 +48,9 @@ public class ToggleResourceProcess extends Task implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The rate-limited messages of toggled processes. */
+	private static final LogConsolidated.Site toggleLog = LogConsolidated.site(logger, 0);
+
 	/** The minimum period of time in millisols the process must stay on or off. */
 	public static final int DURATION = 200;
 
@@ -503,25 +506,19 @@ public class ToggleResourceProcess extends Task implements Serializable {
 		if (!finished) {
 			Settlement s = person.getSettlement(); 	
 			
-			String toggle = OFF;
-			if (toBeToggledOn) {
-				toggle = ON;
-				process.setProcessRunning(true);
-			}
-			else {
-				process.setProcessRunning(false);
-			}
+			String toggle = toBeToggledOn ? ON : OFF;
+			process.setProcessRunning(toBeToggledOn);
 	
 			if (destination == resourceProcessBuilding) {
-				LogConsolidated.log(logger, Level.INFO, 0, sourceName,
+				toggleLog.log(Level.INFO, () ->
 						"[" + s.getName() + "] " + person.getName() + " at " + destination.getNickName() 
-						+ " manually turned the " + process.getProcessName()  + " " + toggle + ".", null);
+						+ " manually turned the " + process.getProcessName()  + " " + toggle + ".");
 			}
 			else {
-				LogConsolidated.log(logger, Level.INFO, 0, sourceName,
+				toggleLog.log(Level.INFO, () ->
 						"[" + s.getName() + "] " + person.getName() + " at " + destination.getNickName() 
 					+ " gained remote access to the " + process.getProcessName() 
-					+ " of " + resourceProcessBuilding.getNickName() + " and turned it " + toggle + ".", null);
+					+ " of " + resourceProcessBuilding.getNickName() + " and turned it " + toggle + ".");
 			}
 			// Only need to run the finished phase once and for all
 			finished = true;
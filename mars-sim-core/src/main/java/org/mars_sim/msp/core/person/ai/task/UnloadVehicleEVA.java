@@ -56,6 +56,15 @@ public class UnloadVehicleEVA extends EVAOperation implements Serializable {
 	
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
+
+	/** The rate-limited messages of vehicles to unload. */
+	private static final LogConsolidated.Site unloadLog = LogConsolidated.site(logger, 0);
+	/** The rate-limited messages of unloaded equipment. */
+	private static final LogConsolidated.Site equipmentLog = LogConsolidated.site(logger, 3_000);
+	/** The rate-limited messages of unloaded totals. */
+	private static final LogConsolidated.Site totalLog = LogConsolidated.site(logger, 3_000);
+	/** The rate-limited messages of retrieved bodies. */
+	private static final LogConsolidated.Site bodyLog = LogConsolidated.site(logger, 0);
 	
 
 	/** Task name */
@@ -110,9 +119,9 @@ public class UnloadVehicleEVA extends EVAOperation implements Serializable {
 //			setPhase(UNLOADING); 
 			// NOTE: EVAOperation will set the phase. Do NOT do it here
 			
-			LogConsolidated.log(logger, Level.FINER, 0, sourceName, 
+			unloadLog.log(Level.FINER, () ->
 					"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
-					+ " in " + person.getLocationTag().getImmediateLocation() + " was going to unload " + vehicle.getName() + ".", null);
+					+ " in " + person.getLocationTag().getImmediateLocation() + " was going to unload " + vehicle.getName() + ".");
 		} else {
 			endTask();
 		}
@@ -148,9 +157,9 @@ public class UnloadVehicleEVA extends EVAOperation implements Serializable {
 //		setPhase(UNLOADING); 
 		// NOTE: EVAOperation will set the phase. Do NOT do it here
 		
-		LogConsolidated.log(logger, Level.FINER, 0, sourceName, 
+		unloadLog.log(Level.FINER, () ->
 				"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
-				+ " in " + person.getLocationTag().getImmediateLocation() + " was going to unload " + vehicle.getName() + ".", null);
+				+ " in " + person.getLocationTag().getImmediateLocation() + " was going to unload " + vehicle.getName() + ".");
 		
 //		logger.fine(person.getName() + " is unloading " + vehicle.getName());
 	}
@@ -404,13 +413,13 @@ public class UnloadVehicleEVA extends EVAOperation implements Serializable {
 				amountUnloading -= equipment.getMass();
 				
 				if (person != null)
-					LogConsolidated.log(logger, Level.INFO, 3_000, sourceName, 
+					equipmentLog.log(Level.INFO, () ->
 						"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
-						+ " in " + person.getLocationTag().getImmediateLocation() + " unloaded " + equipment.getNickName() + " from " + vehicle.getName() + ".", null);
+						+ " in " + person.getLocationTag().getImmediateLocation() + " unloaded " + equipment.getNickName() + " from " + vehicle.getName() + ".");
 				else
-					LogConsolidated.log(logger, Level.INFO, 3_000, sourceName, 
+					equipmentLog.log(Level.INFO, () ->
 						"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() 
-						+ " in " + robot.getLocationTag().getImmediateLocation() + " unloaded " + equipment.getNickName() + " from " + vehicle.getName() + ".", null);
+						+ " in " + robot.getLocationTag().getImmediateLocation() + " unloaded " + equipment.getNickName() + " from " + vehicle.getName() + ".");
 			}
 		}
 
@@ -439,14 +448,15 @@ public class UnloadVehicleEVA extends EVAOperation implements Serializable {
 		}
 		
 		if (totalAmount > 0) {
+			double unloaded = totalAmount;
 			if (person != null)
-				LogConsolidated.log(logger, Level.INFO, 3_000, sourceName, 
+				totalLog.log(Level.INFO, () ->
 				"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
-				+ " in " + person.getLocationTag().getImmediateLocation() + " just unloaded a total of " + Math.round(totalAmount*100.0)/100.0 + " kg of resources from " + vehicle.getName() + ".", null);
+				+ " in " + person.getLocationTag().getImmediateLocation() + " just unloaded a total of " + Math.round(unloaded*100.0)/100.0 + " kg of resources from " + vehicle.getName() + ".");
 			else
-				LogConsolidated.log(logger, Level.INFO, 3_000, sourceName, 
+				totalLog.log(Level.INFO, () ->
 				"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() 
-				+ " in " + robot.getLocationTag().getImmediateLocation() + " just unloaded a total of " + Math.round(totalAmount*100.0)/100.0 + " kg of resources from " + vehicle.getName() + ".", null);
+				+ " in " + robot.getLocationTag().getImmediateLocation() + " just unloaded a total of " + Math.round(unloaded*100.0)/100.0 + " kg of resources from " + vehicle.getName() + ".");
 		}
 		
 		int totalItems = 0;
@@ -472,14 +482,15 @@ public class UnloadVehicleEVA extends EVAOperation implements Serializable {
 			}
 			
 			if (totalItems > 0) {
+				int items = totalItems;
 				if (person != null)
-					LogConsolidated.log(logger, Level.INFO, 3_000, sourceName, 
+					totalLog.log(Level.INFO, () ->
 						"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
-						+ " in " + person.getLocationTag().getImmediateLocation() + " just unloaded a total of " + totalItems + " items from " + vehicle.getName() + ".", null);
+						+ " in " + person.getLocationTag().getImmediateLocation() + " just unloaded a total of " + items + " items from " + vehicle.getName() + ".");
 				else
-					LogConsolidated.log(logger, Level.INFO, 3_000, sourceName, 
+					totalLog.log(Level.INFO, () ->
 						"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() 
-						+ " in " + robot.getLocationTag().getImmediateLocation() + " just unloaded a total of " + totalItems + " items from " + vehicle.getName() + ".", null);
+						+ " in " + robot.getLocationTag().getImmediateLocation() + " just unloaded a total of " + items + " items from " + vehicle.getName() + ".");
 			}
 		}
 
@@ -503,11 +514,11 @@ public class UnloadVehicleEVA extends EVAOperation implements Serializable {
 			for (Person p : crewable.getCrew()) {
 				if (p.isDeclaredDead()) {
 					
-					LogConsolidated.log(logger, Level.INFO, 0, sourceName,
+					bodyLog.log(Level.INFO, () ->
 						"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
 						+ " was retrieving the dead body of " + p + " from " + vehicle.getName() 
 						+ " parked in the vicinity of "
-						+ settlement, null);
+						+ settlement);
 					
 
 					// Retrieve the person if he/she is dead
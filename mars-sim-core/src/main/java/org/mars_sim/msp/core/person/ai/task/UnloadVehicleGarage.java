@@ -71,8 +71,10 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 	/** The stress modified per millisol. */
 	private static final double STRESS_MODIFIER = .1D;
 
-	/** The duration of the task (millisols). */
-	private static final double DURATION = RandomUtil.getRandomDouble(40D) + 10D;
+	/** The random duration of the task (millisols). */
+	private static final double DURATION = 40D;
+	/** The minimum duration of the task (millisols). */
+	private static final double MIN_DURATION = 10D;
 
 	// Data members
 	/** The vehicle that needs to be unloaded. */
@@ -87,7 +89,7 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 	 */
 	public UnloadVehicleGarage(Person person) {
 		// Use Task constructor.
-		super(NAME, person, true, false, STRESS_MODIFIER, true, DURATION);
+		super(NAME, person, true, false, STRESS_MODIFIER, true, RandomUtil.getRandomDouble(DURATION) + MIN_DURATION);
 
 		settlement = person.getSettlement();
 
@@ -121,7 +123,7 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 			setPhase(UNLOADING);
 
 			LogConsolidated.log(Level.FINER, 0, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
+					() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
 							+ person.getLocationTag().getImmediateLocation() + " was going to unload "
 							+ vehicle.getName() + ".");
 		} else
@@ -130,7 +132,7 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 
 	public UnloadVehicleGarage(Robot robot) {
 		// Use Task constructor.
-		super(NAME, robot, true, false, STRESS_MODIFIER, true, DURATION);
+		super(NAME, robot, true, false, STRESS_MODIFIER, true, RandomUtil.getRandomDouble(DURATION) + MIN_DURATION);
 
 		settlement = robot.getSettlement();
 
@@ -164,7 +166,7 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 			setPhase(UNLOADING);
 
 			LogConsolidated.log(Level.FINER, 0, sourceName,
-					"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " in "
+					() -> "[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " in "
 							+ robot.getLocationTag().getImmediateLocation() + " was going to unload "
 							+ vehicle.getName() + ".");
 		} else
@@ -179,7 +181,7 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 	 */
 	public UnloadVehicleGarage(Person person, Vehicle vehicle) {
 		// Use Task constructor.
-		super("Unloading vehicle", person, true, false, STRESS_MODIFIER, true, DURATION);
+		super("Unloading vehicle", person, true, false, STRESS_MODIFIER, true, RandomUtil.getRandomDouble(DURATION) + MIN_DURATION);
 
 		setDescription(Msg.getString("Task.description.unloadVehicleGarage.detail", vehicle.getName())); // $NON-NLS-1$;
 		this.vehicle = vehicle;
@@ -198,7 +200,7 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 		setPhase(UNLOADING); 
 	
 		LogConsolidated.log(Level.FINER, 0, sourceName,
-				"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
+				() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
 						+ person.getLocationTag().getImmediateLocation() + " was going to unload " + vehicle.getName()
 						+ ".");
 
@@ -207,7 +209,7 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 
 	public UnloadVehicleGarage(Robot robot, Vehicle vehicle) {
 		// Use Task constructor.
-		super("Unloading vehicle", robot, true, false, STRESS_MODIFIER, true, DURATION);
+		super("Unloading vehicle", robot, true, false, STRESS_MODIFIER, true, RandomUtil.getRandomDouble(DURATION) + MIN_DURATION);
 
 		setDescription(Msg.getString("Task.description.unloadVehicleGarage.detail", vehicle.getName())); // $NON-NLS-1$;
 		this.vehicle = vehicle;
@@ -226,7 +228,7 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 		setPhase(UNLOADING); 
 	
 		LogConsolidated.log(Level.FINER, 0, sourceName,
-				"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " in "
+				() -> "[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " in "
 						+ robot.getLocationTag().getImmediateLocation() + " was going to unload " + vehicle.getName()
 						+ ".");
 
@@ -443,12 +445,12 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 
 				if (person != null)
 					LogConsolidated.log(Level.INFO, 3_000, sourceName,
-							"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
+							() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
 									+ person.getLocationTag().getImmediateLocation() + " unloaded "
 									+ equipment.getNickName() + " from " + vehicle.getName() + ".");
 				else
 					LogConsolidated.log(Level.INFO, 3_000, sourceName,
-							"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " in "
+							() -> "[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " in "
 									+ robot.getLocationTag().getImmediateLocation() + " unloaded "
 									+ equipment.getNickName() + " from " + vehicle.getName() + ".");
 			}
@@ -472,7 +474,7 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 				settlementInv.storeAmountResource(resource, amount, true);
 			} catch (Exception e) {
 				LogConsolidated.log(Level.INFO, 3_000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
 								+ person.getLocationTag().getImmediateLocation() + " Could NOT unload the resources.", e);
 			}
 			amountUnloading -= amount;
@@ -481,17 +483,18 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 		}
 
 		if (totalAmount > 0) {
+			double kg = Math.round(totalAmount * 100.0) / 100.0;
 			if (person != null)
 				LogConsolidated.log(Level.INFO, 3_000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
+						() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
 								+ person.getLocationTag().getImmediateLocation() + " just unloaded a total of "
-								+ Math.round(totalAmount * 100.0) / 100.0 + " kg of resources from " + vehicle.getName()
+								+ kg + " kg of resources from " + vehicle.getName()
 								+ ".");
 			else
 				LogConsolidated.log(Level.INFO, 3_000, sourceName,
-						"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " in "
+						() -> "[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " in "
 								+ robot.getLocationTag().getImmediateLocation() + " just unloaded a total of "
-								+ Math.round(totalAmount * 100.0) / 100.0 + " kg of resources from " + vehicle.getName()
+								+ kg + " kg of resources from " + vehicle.getName()
 								+ ".");
 		}
 
@@ -518,12 +521,12 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 			if (totalItems > 0) {
 				if (person != null)
 					LogConsolidated.log(Level.INFO, 3_000, sourceName,
-							"[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
+							() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName() + " in "
 									+ person.getLocationTag().getImmediateLocation() + " just unloaded a total of "
 									+ totalItems + " items from " + vehicle.getName() + ".");
 				else
 					LogConsolidated.log(Level.INFO, 3_000, sourceName,
-							"[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " in "
+							() -> "[" + robot.getLocationTag().getLocale() + "] " + robot.getName() + " in "
 									+ robot.getLocationTag().getImmediateLocation() + " just unloaded a total of "
 									+ totalItems + " items from " + vehicle.getName() + ".");
 			}
@@ -550,7 +553,7 @@ public class UnloadVehicleGarage extends Task implements Serializable {
 				if (p.isDeclaredDead()) {
 					
 					LogConsolidated.log(Level.INFO, 0, sourceName,
-								"[" + person.getLocationTag().getLocale() + "] " + person.getName()
+								() -> "[" + person.getLocationTag().getLocale() + "] " + person.getName()
 										+ " was retrieving the dead body of " + p + " from " + vehicle.getName()
 										+ " parked inside " + settlement, null);
 
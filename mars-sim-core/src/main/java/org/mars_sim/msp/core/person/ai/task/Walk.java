@@ -198,7 +198,7 @@ public class Walk extends Task implements Serializable {
 
 		if (walkingSteps == null) {
 			LogConsolidated.log(Level.SEVERE, 5000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] "
+					() -> "[" + person.getLocationTag().getLocale() + "] "
       						+ person + " was in " + person.getLocationTag().getImmediateLocation()
       						+ " but walking steps could not be determined.");
 			endTask();
@@ -216,7 +216,7 @@ public class Walk extends Task implements Serializable {
 		
 		else if (!canWalkAllSteps(person, walkingSteps)) {
 			LogConsolidated.log( Level.SEVERE, 5000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] "
+					() -> "[" + person.getLocationTag().getLocale() + "] "
       						+ person + " was in " + person.getLocationTag().getImmediateLocation()
 					+ " but Valid Walking steps could not be determined.");
 			endTask();
@@ -315,7 +315,7 @@ public class Walk extends Task implements Serializable {
 		// End task if all steps cannot be walked.
 		if (!canWalkAllSteps(person, walkingSteps)) {
 			LogConsolidated.log(Level.SEVERE, 5000, sourceName,
-					"[" + person.getLocationTag().getLocale() + "] "
+					() -> "[" + person.getLocationTag().getLocale() + "] "
       						+ person + " was in " + person.getLocationTag().getImmediateLocation()
 					+ " and could not find valid walking steps to " + interiorObject);
 			endTask();
@@ -347,7 +347,7 @@ public class Walk extends Task implements Serializable {
 		// End task if all steps cannot be walked.
 		if (!canWalkAllSteps(robot, walkingSteps)) {
 			LogConsolidated.log(Level.SEVERE, 5000, sourceName,
-					"[" + robot.getLocationTag().getLocale() + "] "
+					() -> "[" + robot.getLocationTag().getLocale() + "] "
       						+ robot + " was in " + robot.getLocationTag().getImmediateLocation()
       						+ " and could not find valid walking steps to " + interiorObject);
 			endTask();
@@ -623,7 +623,7 @@ public class Walk extends Task implements Serializable {
 					if (!ExitAirlock.canExitAirlock(person, airlock)) {
 						result = false;
 						 LogConsolidated.log(Level.WARNING, 5000, sourceName,
-								 "[" + person.getLocationTag().getLocale() + "] "
+								 () -> "[" + person.getLocationTag().getLocale() + "] "
 				      					+ person + " was in " + person.getLocationTag().getImmediateLocation()
 				      					+ " and could exit airlock at " + airlock.getEntityName());
 					}
@@ -693,7 +693,7 @@ public class Walk extends Task implements Serializable {
 
 		if (person != null) {
 			LogConsolidated.log(Level.FINER, 5_000, sourceName,
-      				"[" + person.getLocationTag().getLocale() + "] "
+      				() -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person + " was in " + person.getLocationTag().getImmediateLocation()
 					+ " and walking inside the settlement.");
 
@@ -724,14 +724,14 @@ public class Walk extends Task implements Serializable {
 						addSubTask(new WalkSettlementInterior(person, step.building, x, y));
 					else {
 						LogConsolidated.log(Level.SEVERE, 5_000, sourceName,
-			      				"[" + person.getLocationTag().getLocale() + "] "
+			      				() -> "[" + person.getLocationTag().getLocale() + "] "
 								+ person + " was in " + person.getBuildingLocation()
 								+ " but couldn't find a destination building to go.");
 						endTask();
 					}
 				} else {
 					LogConsolidated.log(Level.SEVERE, 5_000, sourceName,
-		      				"[" + person.getLocationTag().getLocale() + "] "
+		      				() -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person + " was in " + person.getLocationTag().getImmediateLocation() 
 							+ " and was not in a building.");
 					endTask();
@@ -744,7 +744,7 @@ public class Walk extends Task implements Serializable {
 
 		} else if (robot != null) {
 			LogConsolidated.log(Level.FINER, 5_000, sourceName,
-      				"[" + robot.getLocationTag().getLocale() + "] "
+      				() -> "[" + robot.getLocationTag().getLocale() + "] "
 					+ robot + " was in " + robot.getLocationTag().getImmediateLocation()
 					+ " and walking inside the settlement.");
 			
@@ -774,7 +774,7 @@ public class Walk extends Task implements Serializable {
 					addSubTask(new WalkSettlementInterior(robot, step.building, x, y));
 				} else {
 					LogConsolidated.log(Level.SEVERE, 5_000, sourceName,
-		      				"[" + robot.getLocationTag().getLocale() + "] "
+		      				() -> "[" + robot.getLocationTag().getLocale() + "] "
 							+ robot + " was in " + person.getLocationTag().getImmediateLocation() 
 							+ " but was not in a building.");
 //	        		logger.info(robot + " may be at " + robot.getBuildingLocation());
@@ -808,7 +808,7 @@ public class Walk extends Task implements Serializable {
 
 		if (person != null) {
 			LogConsolidated.log(Level.FINER, 5_000, sourceName,
-      				"[" + person.getLocationTag().getLocale() + "] "
+      				() -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person + " was in " + person.getLocationTag().getImmediateLocation()
 					+ " and walking inside the rover.");
 			
@@ -849,7 +849,7 @@ public class Walk extends Task implements Serializable {
 
 				if (person.isInSettlement()) {// || person.isInVehicleInGarage()) {
 					LogConsolidated.log(Level.SEVERE, 10_000, sourceName,
-		      				"[" + person.getLocationTag().getLocale() + "] "
+		      				() -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person + " is in " + person.getLocationTag().getImmediateLocation()
 							+ " but is supposed to be in a rover.");
 					endTask();
@@ -859,7 +859,7 @@ public class Walk extends Task implements Serializable {
 
 				if (person.isInVehicle() || person.isInVehicleInGarage()) {
 					LogConsolidated.log(Level.FINER, 5_000, sourceName,
-		      				"[" + person.getLocationTag().getLocale() + "] "
+		      				() -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person + " was in " + person.getLocationTag().getImmediateLocation()
 							+ " and starting WalkRoverInterior.");
 					addSubTask(new WalkRoverInterior(person, step.rover, x, y));
@@ -867,7 +867,7 @@ public class Walk extends Task implements Serializable {
 
 				else if (person.isOutside()) {
 					LogConsolidated.log(Level.SEVERE, 10_000, sourceName,
-							"[" + person.getLocationTag().getLocale() + "] "
+							() -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person +  " was in " + person.getLocationTag().getImmediateLocation()
 							+ " and outside (in walkingRoverInteriorPhase()) and NOT in rover.");
 					endTask();
@@ -879,7 +879,7 @@ public class Walk extends Task implements Serializable {
 
 		} else if (robot != null) {
 			LogConsolidated.log(Level.FINER, 5_000, sourceName,
-      				"[" + robot.getLocationTag().getLocale() + "] "
+      				() -> "[" + robot.getLocationTag().getLocale() + "] "
 					+ robot + " was in " + robot.getLocationTag().getImmediateLocation()
 					+ " and walking inside the rover.");
 			
@@ -916,7 +916,7 @@ public class Walk extends Task implements Serializable {
 			} else {
 //				logger.finest("Starting walk rover interior from Walk.walkingRoverInteriorPhase.");
 				LogConsolidated.log(Level.FINER, 5_000, sourceName,
-	      				"[" + robot.getLocationTag().getLocale() + "] "
+	      				() -> "[" + robot.getLocationTag().getLocale() + "] "
 						+ robot + " was in " + robot.getLocationTag().getImmediateLocation()
 						+ " and starting WalkRoverInterior.");
 				addSubTask(new WalkRoverInterior(robot, step.rover, x, y));
@@ -942,7 +942,7 @@ public class Walk extends Task implements Serializable {
 
 //			logger.finer(person + " walking exterior phase.");
 			LogConsolidated.log(Level.FINER, 5_000, sourceName,
-      				"[" + person.getLocationTag().getLocale() + "] "
+      				() -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person + " was in " + person.getLocationTag().getImmediateLocation()
 					+ " and in walkingExteriorPhase().");
 			
@@ -971,7 +971,7 @@ public class Walk extends Task implements Serializable {
 				if (person.isOutside()) {
 //					logger.finer(person + " starting walk outside task.");
 					LogConsolidated.log(Level.FINER, 5_000, sourceName,
-		      				"[" + person.getLocationTag().getLocale() + "] "
+		      				() -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person + " was in " + person.getLocationTag().getImmediateLocation()
 							+ " and starting WalkOutside task.");
 					// setDescription("Walking Outside from (" + x + ", " + y + ") to (" + xx + ", "
@@ -980,7 +980,7 @@ public class Walk extends Task implements Serializable {
 				} else {
 //					logger.severe(person + " is already physically outside.");
 					LogConsolidated.log(Level.SEVERE, 5_000, sourceName,
-		      				"[" + person.getLocationTag().getLocale() + "] "
+		      				() -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person + " was in " + person.getLocationTag().getImmediateLocation()
 							+ " but already physically outside.");
 					endTask();
@@ -992,7 +992,7 @@ public class Walk extends Task implements Serializable {
 
 //			logger.finer(robot + " walking exterior phase.");
 			LogConsolidated.log(Level.FINER, 5_000, sourceName,
-      				"[" + robot.getLocationTag().getLocale() + "] "
+      				() -> "[" + robot.getLocationTag().getLocale() + "] "
 					+ robot + " was in " + robot.getLocationTag().getImmediateLocation()
 					+ " and in walkingExteriorPhase().");
 			
@@ -1019,7 +1019,7 @@ public class Walk extends Task implements Serializable {
 				if (robot.isOutside()) {
 //					logger.finer(robot + " starting walk outside task.");
 					LogConsolidated.log(Level.FINER, 5_000, sourceName,
-		      				"[" + robot.getLocationTag().getLocale() + "] "
+		      				() -> "[" + robot.getLocationTag().getLocale() + "] "
 							+ robot + " was in " + robot.getLocationTag().getImmediateLocation()
 							+ " and starting WalkOutside subtask.");
 					// setDescription("Walking Outside from (" + x + ", " + y + ") to (" + xx + ", "
@@ -1030,7 +1030,7 @@ public class Walk extends Task implements Serializable {
 				else {
 //					logger.severe(robot + " is already physically outside.");
 					LogConsolidated.log(Level.SEVERE, 5_000, sourceName,
-		      				"[" + robot.getLocationTag().getLocale() + "] "
+		      				() -> "[" + robot.getLocationTag().getLocale() + "] "
 							+ robot + " was in " + robot.getLocationTag().getImmediateLocation()
 							+ " but already physically outside.");
 					endTask();
@@ -1055,7 +1055,7 @@ public class Walk extends Task implements Serializable {
 		if (person != null) {
 //			logger.finer(person + " in exitingAirlockPhase()");
 			LogConsolidated.log(Level.FINER, 5_000, sourceName,
-      				"[" + person.getLocationTag().getLocale() + "] "
+      				() -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person + " was in " + person.getLocationTag().getImmediateLocation()
 					+ " and in exitingAirlockPhase().");
 			// Check if person has reached the outside of the airlock.
@@ -1077,13 +1077,13 @@ public class Walk extends Task implements Serializable {
 				if (ExitAirlock.canExitAirlock(person, airlock)) {
 //					logger.finer(person + " to add ExitAirlock as a subTask");
 					LogConsolidated.log(Level.FINER, 5_000, sourceName,
-		      				"[" + person.getLocationTag().getLocale() + "] "
+		      				() -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person + " was in " + person.getLocationTag().getImmediateLocation()
 							+ " and starting ExitAirlock subTask.");
 					addSubTask(new ExitAirlock(person, airlock));
 				} else {
 					LogConsolidated.log(Level.SEVERE, 5_000, sourceName, 
-		      				"[" + person.getLocationTag().getLocale() + "] "
+		      				() -> "[" + person.getLocationTag().getLocale() + "] "
 		      						+ person + " is in " + person.getLocationTag().getImmediateLocation()
 									+ " is unable to physically exit the airlock of " + airlock.getEntityName() + ".");
 //					person.getMind().getTaskManager().clearTask();
@@ -1113,7 +1113,7 @@ public class Walk extends Task implements Serializable {
 //        if (person != null) {
 //		logger.finer(person + " walking entering airlock phase.");
 		LogConsolidated.log(Level.FINER, 0, sourceName + "::enteringAirlockPhase",
-  				"[" + person.getLocationTag().getLocale() + "] "
+  				() -> "[" + person.getLocationTag().getLocale() + "] "
 				+ person + " was in " + person.getLocationTag().getImmediateLocation()
 				+ ".");
 
@@ -1125,14 +1125,14 @@ public class Walk extends Task implements Serializable {
 				// setDescription("is OUTSIDE and attempting to enter an airlock. calling
 				// EnterAirlock as a subTask now");
 				LogConsolidated.log(Level.FINER, 00, sourceName + "::enteringAirlockPhase",
-		  				"[" + person.getLocationTag().getLocale() + "] "
+		  				() -> "[" + person.getLocationTag().getLocale() + "] "
 						+ person + " was in " + person.getLocationTag().getImmediateLocation()
 						+ " and starting EnterAirlock subtask.");
 				addSubTask(new EnterAirlock(person, airlock));
 			} else {
 				endTask();
 				LogConsolidated.log(Level.SEVERE, 0, sourceName + "::enteringAirlockPhase", 
-	      				"[" + person.getLocationTag().getLocale() + "] "
+	      				() -> "[" + person.getLocationTag().getLocale() + "] "
 	      						+ person + " is in " + person.getLocationTag().getImmediateLocation()
 								+ " is OUTSIDE, unable to physically enter the airlock in" + airlock.getEntityName());
 			}
@@ -1170,7 +1170,7 @@ public class Walk extends Task implements Serializable {
 		if (person != null) {
 
 			LogConsolidated.log(Level.FINER, 0, sourceName + "::exitingRoverGaragePhase",
-	  				"[" + person.getLocationTag().getLocale() + "] "
+	  				() -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person + " was about to exit the rover " + rover.getName() 
 					+ " and was reportedly in " + person.getLocationTag().getImmediateLocation()
 					+ ".");
@@ -1190,7 +1190,7 @@ public class Walk extends Task implements Serializable {
 				BuildingManager.addPersonOrRobotToBuilding(person, garageBuilding);
 
 				LogConsolidated.log(Level.FINER, 0, sourceName + "::exitingRoverGaragePhase",
-	  				"[" + person.getLocationTag().getLocale() + "] "
+	  				() -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person + " had just exit the rover " + rover.getName() 
 					+ " and was reportedly in " + person.getLocationTag().getImmediateLocation()
 					+ ".");
@@ -1200,7 +1200,7 @@ public class Walk extends Task implements Serializable {
 		else if (robot != null) {
 //			logger.finer(robot + " walking exiting rover garage phase.");
 			LogConsolidated.log(Level.FINER, 0, sourceName + "::exitingRoverGaragePhase",
-	  				"[" + robot.getLocationTag().getLocale() + "] "
+	  				() -> "[" + robot.getLocationTag().getLocale() + "] "
 					+ robot + " was about to exit rover " + rover.getName()
 					+ " and was reportedly in " + robot.getLocationTag().getImmediateLocation()
 					+ ".");
@@ -1216,7 +1216,7 @@ public class Walk extends Task implements Serializable {
 				BuildingManager.addPersonOrRobotToBuilding(robot, garageBuilding);
 				
 				LogConsolidated.log(Level.FINER, 00, sourceName + "::exitingRoverGaragePhase",
-		  				"[" + robot.getLocationTag().getLocale() + "] "
+		  				() -> "[" + robot.getLocationTag().getLocale() + "] "
 						+ robot + " had just exited rover " + rover.getName() 
 						+ " and was reportedly in " + robot.getLocationTag().getImmediateLocation()
 						+ ".");
@@ -1250,7 +1250,7 @@ public class Walk extends Task implements Serializable {
 
 		if (person != null) {
 			LogConsolidated.log(Level.FINER, 0, sourceName + "::enteringRoverInsideGaragePhase",
-	  				"[" + person.getLocationTag().getLocale() + "] "
+	  				() -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person + " was about to enter rover " + rover.getName() 
 					+ " and was reportedly in " + person.getLocationTag().getImmediateLocation()
 					+ ".");
@@ -1263,7 +1263,7 @@ public class Walk extends Task implements Serializable {
 			rover.getInventory().storeUnit(person);
 			
 			LogConsolidated.log(Level.FINER, 0, sourceName + "::enteringRoverInsideGaragePhase",
-	  				"[" + person.getLocationTag().getLocale() + "] "
+	  				() -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person + " had just entered rover " + rover.getName() 
 					+ " and was reportedly in " + person.getLocationTag().getImmediateLocation()
 					+ ".");
@@ -1271,7 +1271,7 @@ public class Walk extends Task implements Serializable {
 		
 		else if (robot != null) {
 			LogConsolidated.log(Level.FINER, 0, sourceName + "::enteringRoverInsideGaragePhase",
-	  				"[" + robot.getLocationTag().getLocale() + "] "
+	  				() -> "[" + robot.getLocationTag().getLocale() + "] "
 					+ robot + " was about to enter rover " + rover.getName() 
 					+ " and was reportedly in " + robot.getLocationTag().getImmediateLocation()
 					+ ".");
@@ -1284,7 +1284,7 @@ public class Walk extends Task implements Serializable {
 			rover.getInventory().storeUnit(robot);
 			
 			LogConsolidated.log(Level.FINER, 0, sourceName + "::enteringRoverInsideGaragePhase",
-	  				"[" + robot.getLocationTag().getLocale() + "] "
+	  				() -> "[" + robot.getLocationTag().getLocale() + "] "
 					+ robot + " had just entered rover " + rover.getName()
 					+ " and was reportedly in " + robot.getLocationTag().getImmediateLocation()
 					+ ".");
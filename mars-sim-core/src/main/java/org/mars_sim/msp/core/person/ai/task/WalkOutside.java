@@ -16,6 +16,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -55,6 +56,9 @@ implements Serializable {
 
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
+
+	/** The rate-limited messages of arrivals. */
+	private static final LogConsolidated.Site arrivalLog = LogConsolidated.site(logger, 5000);
 	
     /** Task phases. */
     private static final TaskPhase WALKING = new TaskPhase(Msg.getString(
@@ -262,18 +266,23 @@ implements Serializable {
         // The set of tentative locations to be evaluated
         Set<Point2D> openSet = new HashSet<Point2D>();
 
+        // The tentative locations in a binary heap, with the lowest fScore first.
+        PriorityQueue<SearchNode> openQueue = new PriorityQueue<SearchNode>();
+        int order = 0;
+
         // Initially add starting location to openSet.
         openSet.add(startLoc);
+        openQueue.add(new SearchNode(startLoc, getFScore(startLoc), order++));
 
         // The map of navigated locations.
         Map<Point2D, Point2D> cameFrom = new HashMap<Point2D, Point2D>();
 
         // Check each location in openSet.
-        while (openSet.size() > 0) {
+        while (!openQueue.isEmpty()) {
 
-            // Find loc in openSet with lowest fScore value.
+            // Take loc in openSet with lowest fScore value.
             // FScore is distance (m) from start through currentLoc to destination.
-            Point2D currentLoc = getLowestFScore(openSet);
+            Point2D currentLoc = openQueue.poll().location;
 
             // Check if clear path to destination.
             if (checkClearPathToDestination(currentLoc, endLoc)) {
@@ -311,8 +320,9 @@ implements Serializable {
                     cameFrom.put(neighborLoc, currentLoc);
 
                     // Add neighbor location to openSet.
-                    if (!openSet.contains(neighborLoc)) {
-                        openSet.add(neighborLoc);
+                    // Its fScore only depends on the location, so it is queued once.
+                    if (openSet.add(neighborLoc)) {
+                        openQueue.add(new SearchNode(neighborLoc, getFScore(neighborLoc), order++));
                     }
                 }
             }
@@ -322,26 +332,29 @@ implements Serializable {
     }
 
     /**
-     * Find location in openSet with lowest fScore value.
-     * The fScore value is the distance (m) from start through location to destination.
-     * @param openSet a set of locations.
-     * @return location with lowest fScore value.
+     * A tentative location of the obstacle avoidance search, ordered by fScore value
+     * and then by the order it was found in.
      */
-    private Point2D getLowestFScore(Set<Point2D> openSet) {
+    private static class SearchNode implements Comparable<SearchNode> {
 
-        double lowestFScore = Double.POSITIVE_INFINITY;
-        Point2D result = null;
-        Iterator<Point2D> i = openSet.iterator();
-        while (i.hasNext()) {
-            Point2D loc = i.next();
-            double fScore = getFScore(loc);
-            if (fScore < lowestFScore) {
-                result = loc;
-                lowestFScore = fScore;
-            }
+        private Point2D location;
+        private double fScore;
+        private int order;
+
+        SearchNode(Point2D location, double fScore, int order) {
+            this.location = location;
+            this.fScore = fScore;
+            this.order = order;
         }
 
-        return result;
+        @Override
+        public int compareTo(SearchNode o) {
+            int result = Double.compare(fScore, o.fScore);
+            if (result == 0) {
+                result = Integer.compare(order, o.order);
+            }
+            return result;
+        }
     }
 
     /**
@@ -466,14 +479,14 @@ implements Serializable {
 
     /**
      * Get search location neighbors to a given location.
-     * This method gets a set of four locations at 1m distance North, South, East and West of the
+     * This method gets a list of four locations at 1m distance North, East, South and West of the
      * current location.
      * @param currentLoc the current location.
-     * @return set of neighbor locations.
+     * @return list of neighbor locations.
      */
-    private Set<Point2D> getNeighbors(Point2D currentLoc) {
+    private List<Point2D> getNeighbors(Point2D currentLoc) {
 
-        Set<Point2D> result = new HashSet<Point2D>(8);
+        List<Point2D> result = new ArrayList<Point2D>(4);
 
         // Get location North of currentLoc.
         Point2D northLoc = new Point2D.Double(currentLoc.getX(), currentLoc.getY() + NEIGHBOR_DISTANCE);
@@ -782,17 +795,17 @@ implements Serializable {
         if (getRemainingPathDistance() <= VERY_SMALL_DISTANCE) {
 
 			if (person != null) {
-				LogConsolidated.log(logger, Level.FINER, 5000, sourceName,
+				arrivalLog.log(Level.FINER, () ->
 						"[" + person.getLocationTag().getLocale() + "] " 
-								+ person.getName() + " finished walking to new location outside.", null);
+								+ person.getName() + " finished walking to new location outside.");
 	            Point2D finalLocation = walkingPath.get(walkingPath.size() - 1);
 	            person.setXLocation(finalLocation.getX());
 	            person.setYLocation(finalLocation.getY());
 			}
 			else if (robot != null) {
-				LogConsolidated.log(logger, Level.FINER, 5000, sourceName,
+				arrivalLog.log(Level.FINER, () ->
 						"[" + robot.getLocationTag().getLocale() + "] " 
-								+ robot.getName() + " finished walking to new location outside.", null);
+								+ robot.getName() + " finished walking to new location outside.");
 	            Point2D finalLocation = walkingPath.get(walkingPath.size() - 1);
 	            robot.setXLocation(finalLocation.getX());
 	            robot.setYLocation(finalLocation.getY());
@@ -63,13 +63,13 @@ implements Serializable {
         // Check that the person is currently inside a rover.
         if (person.isInSettlement()) {
         	LogConsolidated.log(Level.SEVERE, 5000, sourceName, 
-        			person + " is in " + person.getSettlement() + " now but is calling WalkRoverInterior "
+        			() -> person + " is in " + person.getSettlement() + " now but is calling WalkRoverInterior "
            			+ "task and NOT in rover " + rover.getName() + "."); 
     	}
         
         else if (person.isOutside()) {
         	LogConsolidated.log(Level.SEVERE, 5000, sourceName, 
-        			person + " is outside but is calling WalkRoverInterior task and NOT in rover " 
+        			() -> person + " is outside but is calling WalkRoverInterior task and NOT in rover " 
         			+ rover.getName() + "."); 
             //throw new IllegalStateException(
             //        "WalkRoverInterior task started when " + person + " is not in a rover.");
@@ -77,7 +77,7 @@ implements Serializable {
 
         else if (person.isInVehicle()) {
         	LogConsolidated.log(Level.SEVERE, 5000, sourceName, 
-        		"WalkRoverInterior task started when " + person + " is not in rover " 
+        		() -> "WalkRoverInterior task started when " + person + " is not in rover " 
         			+ rover.getName() + ".");
         }
    
@@ -106,7 +106,7 @@ implements Serializable {
         if (location != LocationSituation.IN_VEHICLE) {
 //            throw new IllegalStateException(
             	LogConsolidated.log(Level.SEVERE, 5000, sourceName, 
-                    robot + " is not in a vheicle but doing WalkRoverInterior task in rover "
+                    () -> robot + " is not in a vheicle but doing WalkRoverInterior task in rover "
                     		+ rover.getName() + "."); 
         }
 
@@ -179,7 +179,7 @@ implements Serializable {
                     person.setYLocation(destYLoc);
 //                    logger.finer(person.getName() + " walked to new location in " + rover.getName());
         			LogConsolidated.log(Level.FINER, 5000, sourceName,
-        					"[" + person.getLocationTag().getLocale() + "] "
+        					() -> "[" + person.getLocationTag().getLocale() + "] "
               						+ person + " was in " + person.getLocationTag().getImmediateLocation()
         					+ " and walked to new location in " + rover.getName() + ".", null);
             	}
@@ -189,7 +189,7 @@ implements Serializable {
                     robot.setYLocation(destYLoc);
 //                    logger.finer(robot.getName() + " walked to new location in " + rover.getName());
         			LogConsolidated.log(Level.FINER, 5000, sourceName,
-        					"[" + robot.getLocationTag().getLocale() + "] "
+        					() -> "[" + robot.getLocationTag().getLocale() + "] "
               						+ robot + " was in " + robot.getLocationTag().getImmediateLocation()
         					+ " and walked to new location in " + rover.getName() + ".", null);
             	}
@@ -207,7 +207,7 @@ implements Serializable {
                 person.setYLocation(destYLoc);
 //                logger.finer(person.getName() + " walked to new location in " + rover.getName());
     			LogConsolidated.log(Level.FINER, 5000, sourceName,
-    					"[" + person.getLocationTag().getLocale() + "] "
+    					() -> "[" + person.getLocationTag().getLocale() + "] "
           						+ person + " was in " + person.getLocationTag().getImmediateLocation()
     					+ " and walked to new location in " + rover.getName() + ".", null);
             }
@@ -217,7 +217,7 @@ implements Serializable {
                 robot.setYLocation(destYLoc);
 //              logger.finer(robot.getName() + " walked to new location in " + rover.getName());
     			LogConsolidated.log(Level.FINER, 5000, sourceName,
-    					"[" + robot.getLocationTag().getLocale() + "] "
+    					() -> "[" + robot.getLocationTag().getLocale() + "] "
           						+ robot + " was in " + robot.getLocationTag().getImmediateLocation()
     					+ " and walked to new location in " + rover.getName() + ".", null);
             }
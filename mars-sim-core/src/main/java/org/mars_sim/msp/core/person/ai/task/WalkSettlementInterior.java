@@ -95,7 +95,7 @@ public class WalkSettlementInterior extends Task implements Serializable {
 
 		// Check that destination location is within destination building.
 		if (!LocalAreaUtil.checkLocationWithinLocalBoundedObject(destXLoc, destYLoc, destBuilding)) {
-			LogConsolidated.log(Level.WARNING, 20_000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+			LogConsolidated.log(Level.WARNING, 20_000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 					+ person + " was unable to walk to the destination in " + person.getBuildingLocation());
 			// throw new IllegalStateException(
 			// "Given destination walking location not within destination building.");
@@ -145,7 +145,7 @@ public class WalkSettlementInterior extends Task implements Serializable {
 			person.getMind().getTaskManager().getNewTask();
 		}
 		
-		LogConsolidated.log(Level.FINER, 20_000, sourceName, "[" + person.getLocationTag().getLocale() + "] "
+		LogConsolidated.log(Level.FINER, 20_000, sourceName, () -> "[" + person.getLocationTag().getLocale() + "] "
 				+ person.getName() + " proceeded to the walking phase in WalkSettlementInterior.");
 		
 		// Initialize task phase.
@@ -173,7 +173,7 @@ public class WalkSettlementInterior extends Task implements Serializable {
 		// Check that destination location is within destination building.
 		if (!LocalAreaUtil.checkLocationWithinLocalBoundedObject(destXLoc, destYLoc, destBuilding)) {
 			LogConsolidated.log(Level.WARNING, 20_000, sourceName,
-					robot + " was unable to walk to the destination in " + robot.getBuildingLocation() + " at "
+					() -> robot + " was unable to walk to the destination in " + robot.getBuildingLocation() + " at "
 							+ robot.getSettlement());
 			// throw new IllegalStateException(
 			// "Given destination walking location not within destination building.");
@@ -230,10 +230,10 @@ public class WalkSettlementInterior extends Task implements Serializable {
 
 			if (person != null) {
 				LogConsolidated.log(Level.SEVERE, 2000, sourceName,
-						person.getName() + " at " + person.getBuildingLocation() + " : Task phase is null");
+						() -> person.getName() + " at " + person.getBuildingLocation() + " : Task phase is null");
 			} else if (robot != null) {
 				LogConsolidated.log(Level.SEVERE, 2000, sourceName,
-						robot.getName() + " at " + robot.getBuildingLocation() + " : Task phase is null");
+						() -> robot.getName() + " at " + robot.getBuildingLocation() + " : Task phase is null");
 			}
 			// endTask();
 			throw new IllegalArgumentException("Task phase is null");
@@ -264,7 +264,7 @@ public class WalkSettlementInterior extends Task implements Serializable {
 				// Exception in thread "pool-4-thread-1" java.lang.StackOverflowError
 				// Flooding with the following statement in stacktrace
 				LogConsolidated.log(Level.SEVERE, 1000, sourceName,
-						person.getName() + " unable to continue walking due to missing path objects.");
+						() -> person.getName() + " unable to continue walking due to missing path objects.");
 				// endTask();
 				return time / 2D;
 			}
@@ -275,7 +275,7 @@ public class WalkSettlementInterior extends Task implements Serializable {
 				// Exception in thread "pool-4-thread-1" java.lang.StackOverflowError
 				// Flooding with the following statement in stacktrace
 				LogConsolidated.log(Level.SEVERE, 1000, sourceName,
-						robot.getName() + " unable to continue walking due to missing path objects.");
+						() -> robot.getName() + " unable to continue walking due to missing path objects.");
 				// endTask();
 				return time / 2D;
 			}
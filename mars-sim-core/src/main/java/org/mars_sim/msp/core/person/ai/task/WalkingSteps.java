@@ -40,6 +40,15 @@ implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1, 
 			logger.getName().length());
 
+	/** The rate-limited messages of invalid start locations. */
+	private static final LogConsolidated.Site startLog = LogConsolidated.site(logger, 5000);
+	/** The rate-limited messages of invalid location situations. */
+	private static final LogConsolidated.Site situationLog = LogConsolidated.site(logger, 5000);
+	/** The rate-limited messages of invalid destinations. */
+	private static final LogConsolidated.Site destinationLog = LogConsolidated.site(logger, 5000);
+	/** The rate-limited messages of missing walkable airlocks. */
+	private static final LogConsolidated.Site airlockLog = LogConsolidated.site(logger, 10000);
+
 	// Data members.
 	private List<WalkStep> walkingSteps;
 	private List<RobotWalkStep> robotWalkingSteps;
@@ -168,10 +177,10 @@ implements Serializable {
             if (!LocalAreaUtil.checkLocationWithinLocalBoundedObject(person.getXLocation(),
                     person.getYLocation(), building)) {
 
-    			LogConsolidated.log(logger, Level.SEVERE, 5000, sourceName, 		
+    			startLog.log(Level.SEVERE, () ->
     					"[" + person.getSettlement() + "] " + person.getName() + " has invalid walk start location. (" +
                         person.getXLocation() + ", " + person.getYLocation() + ") is not within " 
-            					+ building, null);
+            					+ building);
                 //throw new IllegalStateException(person.getName() + " has invalid walk start location. (" +
                 //    person.getXLocation() + ", " + person.getYLocation() + ") is not within building " + building);
             }
@@ -187,9 +196,9 @@ implements Serializable {
                 if (!LocalAreaUtil.checkLocationWithinLocalBoundedObject(person.getXLocation(),
                         person.getYLocation(), vehicle)) {
                 	// 2016-12-12 java.lang.IllegalStateException: Ralph Radske has invalid walk start location. (-52.43904870061289, 53.26900723773019) is not within vehicle Spirit II
-        			LogConsolidated.log(logger, Level.SEVERE, 5000, sourceName,
+        			startLog.log(Level.SEVERE, () ->
         				"[" + vehicle + "] " + person.getName() + " has invalid walk start location. (" +
-                        person.getXLocation() + ", " + person.getYLocation() + ") is not within the vehicle.", null);
+                        person.getXLocation() + ", " + person.getYLocation() + ") is not within the vehicle.");
                     //throw new IllegalStateException(person.getName() + " has invalid walk start location. (" +
                     //       person.getXLocation() + ", " + person.getYLocation() + ") is not within vehicle " + vehicle);
                 }
@@ -203,9 +212,9 @@ implements Serializable {
             result = new WalkState(WalkState.OUTSIDE_LOC);
         }
         else {
-			LogConsolidated.log(logger, Level.SEVERE, 5000, sourceName,
+			situationLog.log(Level.SEVERE, () ->
 					"[" + person.getLocationStateType().getName() + "] " + person.getName() +
-                    " is in an invalid location situation for walking task " , null);
+                    " is in an invalid location situation for walking task ");
             //throw new IllegalStateException(person.getName() +
             //        " is in an invalid location situation for walking task: " + locationSituation);
         }
@@ -236,9 +245,9 @@ implements Serializable {
 
             if (!LocalAreaUtil.checkLocationWithinLocalBoundedObject(robot.getXLocation(),
                     robot.getYLocation(), building)) {
-            	LogConsolidated.log(logger, Level.SEVERE, 5000, sourceName,
+            	startLog.log(Level.SEVERE, () ->
             			"[" + robot.getSettlement() + "] " + robot.getName() + " has invalid walk start location. (" +
-                        robot.getXLocation() + ", " + robot.getYLocation() + ") is not within building " + building, null);
+                        robot.getXLocation() + ", " + robot.getYLocation() + ") is not within building " + building);
                 //throw new IllegalStateException(robot.getName() + " has invalid walk start location. (" +
                 //    robot.getXLocation() + ", " + robot.getYLocation() + ") is not within building " + building);
             }
@@ -268,9 +277,9 @@ implements Serializable {
 //        }
 
         else {
-        	LogConsolidated.log(logger, Level.SEVERE, 5000, sourceName,
+        	situationLog.log(Level.SEVERE, () ->
         			"[" + robot.getLocationStateType().getName() + "] " + robot.getName() +
-                    " is in an invalid location situation for walking task ", null);
+                    " is in an invalid location situation for walking task ");
             //throw new IllegalStateException(robot.getName() +
             //        " is in an invalid location situation for walking task: " + locationSituation);
         }
@@ -303,15 +312,15 @@ implements Serializable {
 
             if (!LocalAreaUtil.checkLocationWithinLocalBoundedObject(xLoc, yLoc, building)) {
             	if (person != null)
-            		LogConsolidated.log(logger, Level.SEVERE, 5000, sourceName,
+            		destinationLog.log(Level.SEVERE, () ->
             			"[" + person.getSettlement() + "] " + person +		
     					" has an invalid walk destination location. (" +
-                        xLoc + ", " + yLoc + ") is not within building " + building, null);
+                        xLoc + ", " + yLoc + ") is not within building " + building);
             	else if (robot != null)
-        			LogConsolidated.log(logger, Level.SEVERE, 5000, sourceName,
+        			destinationLog.log(Level.SEVERE, () ->
                 			"[" + robot.getSettlement() + "] " + robot +		
         					" has an invalid walk destination location. (" +
-                            xLoc + ", " + yLoc + ") is not within building " + building, null);
+                            xLoc + ", " + yLoc + ") is not within building " + building);
                 //throw new IllegalStateException("Invalid walk destination location. (" +
                 //    xLoc + ", " + yLoc + ") is not within building " + building);
             }
@@ -325,15 +334,15 @@ implements Serializable {
 	
 	            if (!LocalAreaUtil.checkLocationWithinLocalBoundedObject(xLoc, yLoc, rover)) {
 	            	if (person != null)
-	            		LogConsolidated.log(logger, Level.SEVERE, 5000, sourceName,
+	            		destinationLog.log(Level.SEVERE, () ->
 	            			"[" + person.getSettlement() + "] " + person +		
 	    					" has an invalid walk destination location. (" +
-	                        xLoc + ", " + yLoc + ") is not within rover " + rover, null);
+	                        xLoc + ", " + yLoc + ") is not within rover " + rover);
 	            	else if (robot != null)
-	        			LogConsolidated.log(logger, Level.SEVERE, 5000, sourceName,
+	        			destinationLog.log(Level.SEVERE, () ->
 	                			"[" + robot.getSettlement() + "] " + robot +		
 	        					" has an invalid walk destination location. (" +
-	                            xLoc + ", " + yLoc + ") is not within rover " + rover, null);
+	                            xLoc + ", " + yLoc + ") is not within rover " + rover);
 	                //throw new IllegalStateException("Invalid walk destination location. (" +
 	                //    xLoc + ", " + yLoc + ") is not within rover " + rover);
 	            }
@@ -369,10 +378,10 @@ implements Serializable {
             result.building = building;
 
             if (!LocalAreaUtil.checkLocationWithinLocalBoundedObject(xLoc, yLoc, building)) {
-        			LogConsolidated.log(logger, Level.SEVERE, 5000, sourceName,
+        			destinationLog.log(Level.SEVERE, () ->
                 			"[" + robot.getSettlement() + "] " + robot +		
         					" has an invalid walk destination location. (" +
-                            xLoc + ", " + yLoc + ") is not within building " + building, null);
+                            xLoc + ", " + yLoc + ") is not within building " + building);
                 //throw new IllegalStateException("Invalid walk destination location. (" +
                 //    xLoc + ", " + yLoc + ") is not within building " + building);
             }
@@ -583,15 +592,15 @@ implements Serializable {
             if (airlock == null) {
                 canWalkAllSteps = false;
                 if (person != null)
-        			LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+        			airlockLog.log(Level.WARNING, () ->
         					"[" + person.getSettlement() + "] " + person.getName()
                 		+ " in " + person.getBuildingLocation().getNickName()
-                		+ " cannot find walkable airlock from building interior to building interior.", null);
+                		+ " cannot find walkable airlock from building interior to building interior.");
                 else if (robot != null)
-                	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                	airlockLog.log(Level.WARNING, () ->
         					"[" + robot.getSettlement() + "] " + robot.getName()
                     		+ " in " + robot.getBuildingLocation().getNickName()
-                    		+ " cannot find walkable airlock from building interior to building interior.", null);
+                    		+ " cannot find walkable airlock from building interior to building interior.");
 
                 return;
             }
@@ -675,15 +684,15 @@ implements Serializable {
             if (airlock == null) {
                 canWalkAllSteps = false;
                 if (person != null)
-                	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                	airlockLog.log(Level.WARNING, () ->
         					"[" + person.getSettlement() + "] " + person.getName()
                 		+ " in " + person.getBuildingLocation().getNickName()
-                		+ " cannot find walkable airlock from building interior to building interior.", null);
+                		+ " cannot find walkable airlock from building interior to building interior.");
                 else if (robot != null)
-                	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                	airlockLog.log(Level.WARNING, () ->
         					"[" + robot.getSettlement() + "] " + robot.getName()
                     		+ " in " + robot.getBuildingLocation().getNickName()
-                    		+ " cannot find walkable airlock from building interior to building interior.", null);
+                    		+ " cannot find walkable airlock from building interior to building interior.");
                return;
             }
 
@@ -724,15 +733,15 @@ implements Serializable {
         if (airlock == null) {
             canWalkAllSteps = false;
             if (person != null)
-            	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+            	airlockLog.log(Level.WARNING, () ->
     					"[" + person.getSettlement() + "] " + person.getName()
             		+ " in " + person.getBuildingLocation().getNickName()
-            		+ " cannot find walkable airlock from building interior to building interior.", null);
+            		+ " cannot find walkable airlock from building interior to building interior.");
             else if (robot != null)
-            	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+            	airlockLog.log(Level.WARNING, () ->
     					"[" + robot.getSettlement() + "] " + robot.getName()
                 		+ " in " + robot.getBuildingLocation().getNickName()
-                		+ " cannot find walkable airlock from building interior to building interior.", null);
+                		+ " cannot find walkable airlock from building interior to building interior.");
            return;
         }
 
@@ -1230,15 +1239,15 @@ implements Serializable {
                     canWalkAllSteps = false;
 
                     if (person != null)
-                    	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                    	airlockLog.log(Level.WARNING, () ->
             					"[" + person.getLocationTag().getLocale()  + "] " + person.getName()
             					+ " in " + person.getBuildingLocation().getNickName()
-                        		+ " cannot find walkable airlock from building airlock exterior to building interior.", null);
+                        		+ " cannot find walkable airlock from building airlock exterior to building interior.");
                     else if (robot != null)
-                    	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                    	airlockLog.log(Level.WARNING, () ->
             					"[" + robot.getLocationTag().getLocale()  + "] " + robot.getName()
                         		+ " in " + robot.getBuildingLocation().getNickName()
-                        		+ " cannot find walkable airlock from building airlock exterior to building interior.", null);
+                        		+ " cannot find walkable airlock from building airlock exterior to building interior.");
 
                 }
             }
@@ -1271,15 +1280,15 @@ implements Serializable {
                 canWalkAllSteps = false;
                 
                 if (person != null)
-                	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                	airlockLog.log(Level.WARNING, () ->
         					"[" + person.getLocationTag().getLocale() + "] " + person.getName()
         					+ " in " + person.getBuildingLocation().getNickName()
-                    		+ " cannot find walkable airlock from rover airlock exterior to building interior.", null);
+                    		+ " cannot find walkable airlock from rover airlock exterior to building interior.");
                 else if (robot != null)
-                	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                	airlockLog.log(Level.WARNING, () ->
         					"[" + robot.getLocationTag().getLocale()  + "] " + robot.getName()
                     		+ " in " + robot.getBuildingLocation().getNickName()
-                    		+ " cannot find walkable airlock from rover airlock exterior to building interior.", null);
+                    		+ " cannot find walkable airlock from rover airlock exterior to building interior.");
                 
             }
         }
@@ -1345,15 +1354,15 @@ implements Serializable {
                 canWalkAllSteps = false;
            
                 if (person != null)
-                	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                	airlockLog.log(Level.WARNING, () ->
         					"[" + person.getLocationTag().getLocale() + "] " + person.getName()
         					+ " in " + person.getBuildingLocation().getNickName()
-                    		+ " cannot find walkable airlock from airlock exterior to rover in garage.", null);
+                    		+ " cannot find walkable airlock from airlock exterior to rover in garage.");
                 else if (robot != null)
-                	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                	airlockLog.log(Level.WARNING, () ->
         					"[" + robot.getLocationTag().getLocale() + "] " + robot.getName()
                     		+ " in " + robot.getBuildingLocation().getNickName()
-                    		+ " cannot find walkable airlock from airlock exterior to rover in garage.", null);
+                    		+ " cannot find walkable airlock from airlock exterior to rover in garage.");
                 
             }
         }
@@ -1467,15 +1476,15 @@ implements Serializable {
 //            logger.severe("Cannot find walkable airlock from outside to building interior.");
             
             if (person != null)
-            	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+            	airlockLog.log(Level.WARNING, () ->
     					"[" + person.getLocationTag().getLocale() + "] " + person.getName()
     					+ " in " + person.getBuildingLocation().getNickName()
-                		+ " cannot find walkable airlock from outside to building interior.", null);
+                		+ " cannot find walkable airlock from outside to building interior.");
             else if (robot != null)
-            	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+            	airlockLog.log(Level.WARNING, () ->
     					"[" + robot.getLocationTag().getLocale() + "] " + robot.getName()
                 		+ " in " + robot.getBuildingLocation().getNickName()
-                		+ " cannot find walkable airlock from outside to building interior.", null);
+                		+ " cannot find walkable airlock from outside to building interior.");
             
             
         }
@@ -1519,15 +1528,15 @@ implements Serializable {
                 canWalkAllSteps = false;
                 
                 if (person != null)
-                	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                	airlockLog.log(Level.WARNING, () ->
         					"[" + person.getLocationTag().getLocale() + "] " + person.getName()
         					+ " in " + person.getBuildingLocation().getNickName()
-                    		+ " cannot find walkable airlock from outside to rover in garage.", null);
+                    		+ " cannot find walkable airlock from outside to rover in garage.");
                 else if (robot != null)
-                	LogConsolidated.log(logger, Level.WARNING, 10000, sourceName,
+                	airlockLog.log(Level.WARNING, () ->
         					"[" + robot.getLocationTag().getLocale()  + "] " + robot.getName()
                     		+ " in " + robot.getBuildingLocation().getNickName()
-                    		+ " cannot find walkable airlock from outside to rover in garage.", null);
+                    		+ " cannot find walkable airlock from outside to rover in garage.");
                 
             }
         }
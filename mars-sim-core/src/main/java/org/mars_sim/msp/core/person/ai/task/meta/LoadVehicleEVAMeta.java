@@ -89,8 +89,7 @@ public class LoadVehicleEVAMeta implements MetaTask, Serializable {
 	
 	        // Check all vehicle missions occurring at the settlement.
 	        try {
-	            List<Mission> missions = LoadVehicleEVA.getAllMissionsNeedingLoading(settlement);
-	            result += 100D * missions.size();
+	            result += 100D * SettlementTaskContext.get(settlement).getMissionsNeedingLoading(true);
 	        }
 	        catch (Exception e) {
 	            logger.log(Level.SEVERE, "Error finding loading missions.", e);
@@ -7,7 +7,6 @@
 package org.mars_sim.msp.core.person.ai.task.meta;
 
 import java.io.Serializable;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -17,7 +16,6 @@ import org.mars_sim.msp.core.person.FavoriteType;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.PhysicalCondition;
 import org.mars_sim.msp.core.person.ai.job.Job;
-import org.mars_sim.msp.core.person.ai.mission.Mission;
 import org.mars_sim.msp.core.person.ai.task.LoadVehicleGarage;
 import org.mars_sim.msp.core.person.ai.task.Task;
 import org.mars_sim.msp.core.robot.Robot;
@@ -66,8 +64,7 @@ public class LoadVehicleGarageMeta implements MetaTask, Serializable {
             
             // Check all vehicle missions occurring at the settlement.
             try {
-                List<Mission> missions = LoadVehicleGarage.getAllMissionsNeedingLoading(person.getSettlement());
-                result = 100D * missions.size();
+                result = 100D * SettlementTaskContext.get(person.getSettlement()).getMissionsNeedingLoading(false);
             }
             catch (Exception e) {
                 logger.log(Level.SEVERE, "Error finding loading missions.", e);
@@ -116,8 +113,7 @@ public class LoadVehicleGarageMeta implements MetaTask, Serializable {
 
 	            // Check all vehicle missions occurring at the settlement.
 	            try {
-	                List<Mission> missions = LoadVehicleGarage.getAllMissionsNeedingLoading(robot.getSettlement());
-	                result = 100D * missions.size();
+	                result = 100D * SettlementTaskContext.get(robot.getSettlement()).getMissionsNeedingLoading(false);
 	            }
 	            catch (Exception e) {
 	                logger.log(Level.SEVERE, "Error finding loading missions.", e);
@@ -7,27 +7,19 @@
 package org.mars_sim.msp.core.person.ai.task.meta;
 
 import java.io.Serializable;
-import java.util.Iterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.mars_sim.msp.core.Msg;
-import org.mars_sim.msp.core.malfunction.MalfunctionFactory;
-import org.mars_sim.msp.core.malfunction.MalfunctionManager;
-import org.mars_sim.msp.core.malfunction.Malfunctionable;
 import org.mars_sim.msp.core.person.FavoriteType;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.PhysicalCondition;
 import org.mars_sim.msp.core.person.ai.job.Job;
 import org.mars_sim.msp.core.person.ai.task.EVAOperation;
-import org.mars_sim.msp.core.person.ai.task.Maintenance;
 import org.mars_sim.msp.core.person.ai.task.MaintenanceEVA;
 import org.mars_sim.msp.core.person.ai.task.Task;
 import org.mars_sim.msp.core.robot.Robot;
 import org.mars_sim.msp.core.structure.Settlement;
-import org.mars_sim.msp.core.structure.Structure;
-import org.mars_sim.msp.core.structure.building.Building;
-import org.mars_sim.msp.core.structure.building.function.FunctionType;
 
 /**
  * Meta task for the MaintenanceEVA task.
@@ -93,28 +85,7 @@ public class MaintenanceEVAMeta implements MetaTask, Serializable {
 
             try {
                 // Total probabilities for all malfunctionable entities in person's local.
-                Iterator<Malfunctionable> i = MalfunctionFactory.getMalfunctionables(person).iterator();
-
-                while (i.hasNext()) {
-                    Malfunctionable entity = i.next();
-                    boolean isStructure = (entity instanceof Structure);
-                    boolean uninhabitableBuilding = false;
-                    if (entity instanceof Building)
-                        uninhabitableBuilding = !((Building) entity).hasFunction(FunctionType.LIFE_SUPPORT);
-
-                    MalfunctionManager manager = entity.getMalfunctionManager();
-                    boolean hasMalfunction = manager.hasMalfunction();
-                    boolean hasParts = Maintenance.hasMaintenanceParts(person, entity);
-                    double effectiveTime = manager.getEffectiveTimeSinceLastMaintenance();
-                    boolean minTime = (effectiveTime >= 1000D);
-                    if ((isStructure || uninhabitableBuilding) && !hasMalfunction && minTime && hasParts) {
-                        double entityProb = manager.getEffectiveTimeSinceLastMaintenance() / 1000D;
-                        if (entityProb > 100D) {
-                            entityProb = 100D;
-                        }
-                        result += entityProb * FACTOR;
-                    }
-                }
+                result += SettlementTaskContext.getMaintenanceProbability(person, true) * FACTOR;
             }
             catch (Exception e) {
                 logger.log(Level.SEVERE,"getProbability()",e);
@@ -157,29 +128,8 @@ public class MaintenanceEVAMeta implements MetaTask, Serializable {
 		double result = 0D;
 
         try {
-            // Total probabilities for all malfunctionable entities in person's local.
-            Iterator<Malfunctionable> i = MalfunctionFactory.getMalfunctionables(settlement).iterator();
-
-            while (i.hasNext()) {
-                Malfunctionable entity = i.next();
-                boolean isStructure = (entity instanceof Structure);
-                boolean uninhabitableBuilding = false;
-                if (entity instanceof Building)
-                    uninhabitableBuilding = !((Building) entity).hasFunction(FunctionType.LIFE_SUPPORT);
-
-                MalfunctionManager manager = entity.getMalfunctionManager();
-                boolean hasMalfunction = manager.hasMalfunction();
-                boolean hasParts = Maintenance.hasMaintenanceParts(settlement, entity);
-                double effectiveTime = manager.getEffectiveTimeSinceLastMaintenance();
-                boolean minTime = (effectiveTime >= 1000D);
-                if ((isStructure || uninhabitableBuilding) && !hasMalfunction && minTime && hasParts) {
-                    double entityProb = manager.getEffectiveTimeSinceLastMaintenance() / 1000D;
-                    if (entityProb > 100D) {
-                        entityProb = 100D;
-                    }
-                    result += entityProb;
-                }
-            }
+            // Total probabilities for all malfunctionable entities in the settlement.
+            result += SettlementTaskContext.get(settlement).getMaintenanceEVAProbability();
         }
         catch (Exception e) {
             logger.log(Level.SEVERE,"getProbability()",e);
@@ -72,27 +72,7 @@ public class MaintenanceMeta implements MetaTask, Serializable {
             
 			try {
 				// Total probabilities for all malfunctionable entities in person's local.
-				Iterator<Malfunctionable> i = MalfunctionFactory.getMalfunctionables(person).iterator();
-				while (i.hasNext()) {
-					Malfunctionable entity = i.next();
-					boolean isVehicle = (entity instanceof Vehicle);
-					boolean uninhabitableBuilding = false;
-					if (entity instanceof Building) {
-						uninhabitableBuilding = !((Building) entity).hasFunction(FunctionType.LIFE_SUPPORT);
-					}
-					MalfunctionManager manager = entity.getMalfunctionManager();
-					boolean hasMalfunction = manager.hasMalfunction();
-					boolean hasParts = Maintenance.hasMaintenanceParts(person, entity);
-					double effectiveTime = manager.getEffectiveTimeSinceLastMaintenance();
-					boolean minTime = (effectiveTime >= 1000D);
-					if (!hasMalfunction && !isVehicle && !uninhabitableBuilding && hasParts && minTime) {
-						double entityProb = effectiveTime / 1000D;
-						if (entityProb > 100D) {
-							entityProb = 100D;
-						}
-						result += entityProb * FACTOR;
-					}
-				}
+				result += SettlementTaskContext.getMaintenanceProbability(person, false) * FACTOR;
 			} catch (Exception e) {
 				logger.log(Level.SEVERE, "getProbability()", e);
 			}
@@ -129,28 +109,8 @@ public class MaintenanceMeta implements MetaTask, Serializable {
 		double result = 0D;
 
 		try {
-			// Total probabilities for all malfunctionable entities in person's local.
-			Iterator<Malfunctionable> i = MalfunctionFactory.getMalfunctionables(settlement).iterator();
-			while (i.hasNext()) {
-				Malfunctionable entity = i.next();
-				boolean isVehicle = (entity instanceof Vehicle);
-				boolean uninhabitableBuilding = false;
-				if (entity instanceof Building) {
-					uninhabitableBuilding = !((Building) entity).hasFunction(FunctionType.LIFE_SUPPORT);
-				}
-				MalfunctionManager manager = entity.getMalfunctionManager();
-				boolean hasMalfunction = manager.hasMalfunction();
-				boolean hasParts = Maintenance.hasMaintenanceParts(settlement, entity);
-				double effectiveTime = manager.getEffectiveTimeSinceLastMaintenance();
-				boolean minTime = (effectiveTime >= 1000D);
-				if (!hasMalfunction && !isVehicle && !uninhabitableBuilding && hasParts && minTime) {
-					double entityProb = effectiveTime / 1000D;
-					if (entityProb > 100D) {
-						entityProb = 100D;
-					}
-					result += entityProb * FACTOR;
-				}
-			}
+			// Total probabilities for all malfunctionable entities in the settlement.
+			result += SettlementTaskContext.get(settlement).getMaintenanceProbability() * FACTOR;
 		} catch (Exception e) {
 			logger.log(Level.SEVERE, "getProbability()", e);
 		}
@@ -89,7 +89,8 @@ public class PerformLaboratoryExperimentMeta implements MetaTask, Serializable {
 	            if (!primaryStudy.isPrimaryResearchCompleted()) {
 	                if (experimentalSciences.contains(primaryStudy.getScience())) {
 	                    try {
-	                        Lab lab = PerformLaboratoryExperiment.getLocalLab(person, primaryStudy.getScience());
+	                        Lab lab = SettlementTaskContext.mayHaveLab(person, primaryStudy.getScience())
+	                        		? PerformLaboratoryExperiment.getLocalLab(person, primaryStudy.getScience()) : null;
 	                        if (lab != null) {
 	                            double primaryResult = 50D;
 
@@ -124,7 +125,8 @@ public class PerformLaboratoryExperimentMeta implements MetaTask, Serializable {
 	                    ScienceType collabScience = collabStudy.getCollaborativeResearchers().get(person.getIdentifier());
 	                    if (experimentalSciences.contains(collabScience)) {
 	                        try {
-	                            Lab lab = PerformLaboratoryExperiment.getLocalLab(person, collabScience);
+	                            Lab lab = SettlementTaskContext.mayHaveLab(person, collabScience)
+	                            		? PerformLaboratoryExperiment.getLocalLab(person, collabScience) : null;
 	                            if (lab != null) {
 	                                double collabResult = 25D;
 
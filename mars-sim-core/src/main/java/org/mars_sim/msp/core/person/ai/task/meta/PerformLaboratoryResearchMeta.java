@@ -43,6 +43,9 @@ public class PerformLaboratoryResearchMeta implements MetaTask, Serializable {
 
     private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1, logger.getName().length());
 
+	/** The rate-limited messages of missing labs. */
+	private static final LogConsolidated.Site labLog = LogConsolidated.site(logger, 2000);
+
     private static ScientificStudyManager studyManager;
     
     @Override
@@ -79,7 +82,8 @@ public class PerformLaboratoryResearchMeta implements MetaTask, Serializable {
 	        if ((primaryStudy != null) && ScientificStudy.RESEARCH_PHASE.equals(primaryStudy.getPhase())) {
 	            if (!primaryStudy.isPrimaryResearchCompleted()) {
 	                try {
-	                    Lab lab = PerformLaboratoryResearch.getLocalLab(person, primaryStudy.getScience());
+	                    Lab lab = SettlementTaskContext.mayHaveLab(person, primaryStudy.getScience())
+	                    		? PerformLaboratoryResearch.getLocalLab(person, primaryStudy.getScience()) : null;
 	                    if (lab != null) {
 	                        double primaryResult = 50D;
 
@@ -100,8 +104,8 @@ public class PerformLaboratoryResearchMeta implements MetaTask, Serializable {
 	                }
 	                catch (Exception e) {
 //                        logger.severe("[" + person.getVehicle() + "] " + person + " is unable to perform lab research.");// + e.getMessage());
-            			LogConsolidated.log(logger, Level.INFO, 2000, sourceName,
-            					"[" + person.getLocationTag().getImmediateLocation() + "] " + person + " is unable to perform lab research.", null);	                
+            			labLog.log(Level.INFO, () ->
+            					"[" + person.getLocationTag().getImmediateLocation() + "] " + person + " is unable to perform lab research.");	                
 	                }
 	            }
 	        }
@@ -115,7 +119,8 @@ public class PerformLaboratoryResearchMeta implements MetaTask, Serializable {
 	                    try {
 	                        ScienceType collabScience = collabStudy.getCollaborativeResearchers().get(person.getIdentifier());
 
-	                        Lab lab = PerformLaboratoryResearch.getLocalLab(person, collabScience);
+	                        Lab lab = SettlementTaskContext.mayHaveLab(person, collabScience)
+	                        		? PerformLaboratoryResearch.getLocalLab(person, collabScience) : null;
 	                        if (lab != null) {
 	                            double collabResult = 25D;
 
@@ -136,8 +141,8 @@ public class PerformLaboratoryResearchMeta implements MetaTask, Serializable {
 	                    }
 	                    catch (Exception e) {
 //	                        logger.severe("[" + person.getVehicle() + "] " + person + " is unable to perform lab research.");// + e.getMessage());
-	            			LogConsolidated.log(logger, Level.INFO, 2000, sourceName,
-	            					"[" + person.getLocationTag().getImmediateLocation() + "] " + person + " is unable to perform lab research.", null);	                
+	            			labLog.log(Level.INFO, () ->
+	            					"[" + person.getLocationTag().getImmediateLocation() + "] " + person + " is unable to perform lab research.");	                
 
 	                    }
 	                }
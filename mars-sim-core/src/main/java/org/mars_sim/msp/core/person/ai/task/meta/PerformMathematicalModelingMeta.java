@@ -86,7 +86,8 @@ public class PerformMathematicalModelingMeta implements MetaTask, Serializable {
 	            if (!primaryStudy.isPrimaryResearchCompleted()) {
 	                if (mathematics == primaryStudy.getScience()) {
 	                    try {
-	                        Lab lab = PerformMathematicalModeling.getLocalLab(person);
+	                        Lab lab = SettlementTaskContext.mayHaveLab(person, mathematics)
+	                        		? PerformMathematicalModeling.getLocalLab(person) : null;
 	                        if (lab != null) {
 	                            double primaryResult = 50D;
 
@@ -121,7 +122,8 @@ public class PerformMathematicalModelingMeta implements MetaTask, Serializable {
 	                    ScienceType collabScience = collabStudy.getCollaborativeResearchers().get(person.getIdentifier());
 	                    if (mathematics == collabScience) {
 	                        try {
-	                            Lab lab = PerformMathematicalModeling.getLocalLab(person);
+	                            Lab lab = SettlementTaskContext.mayHaveLab(person, mathematics)
+	                            		? PerformMathematicalModeling.getLocalLab(person) : null;
 	                            if (lab != null) {
 	                                double collabResult = 25D;
 
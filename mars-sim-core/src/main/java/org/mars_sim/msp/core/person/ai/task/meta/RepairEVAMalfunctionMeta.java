@@ -12,7 +12,6 @@ import java.util.Iterator;
 import org.mars_sim.msp.core.Msg;
 import org.mars_sim.msp.core.location.LocationStateType;
 import org.mars_sim.msp.core.malfunction.Malfunction;
-import org.mars_sim.msp.core.malfunction.MalfunctionFactory;
 import org.mars_sim.msp.core.malfunction.MalfunctionManager;
 import org.mars_sim.msp.core.malfunction.Malfunctionable;
 import org.mars_sim.msp.core.person.FavoriteType;
@@ -88,7 +87,7 @@ public class RepairEVAMalfunctionMeta implements MetaTask, Serializable {
 			// to take care of the the repair.
 			
 			// Add probability for all malfunctionable entities in person's local.
-			Iterator<Malfunctionable> i = MalfunctionFactory.getMalfunctionables(person).iterator();
+			Iterator<Malfunctionable> i = SettlementTaskContext.getMalfunctioning(person).iterator();
 			while (i.hasNext()) {
 				Malfunctionable entity = i.next();
 				MalfunctionManager manager = entity.getMalfunctionManager();
@@ -163,7 +162,7 @@ public class RepairEVAMalfunctionMeta implements MetaTask, Serializable {
 		double result = 0D;
 
 		// Add probability for all malfunctionable entities in person's local.
-		Iterator<Malfunctionable> i = MalfunctionFactory.getMalfunctionables(settlement).iterator();
+		Iterator<Malfunctionable> i = SettlementTaskContext.get(settlement).getMalfunctioning().iterator();
 		while (i.hasNext()) {
 			Malfunctionable entity = i.next();
 			MalfunctionManager manager = entity.getMalfunctionManager();
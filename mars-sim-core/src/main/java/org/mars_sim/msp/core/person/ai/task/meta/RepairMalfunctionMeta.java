@@ -65,7 +65,7 @@ public class RepairMalfunctionMeta implements MetaTask, Serializable {
             	return 0;
             
 	        // Add probability for all malfunctionable entities in person's local.
-	        Iterator<Malfunctionable> i = MalfunctionFactory.getMalfunctionables(person).iterator();
+	        Iterator<Malfunctionable> i = SettlementTaskContext.getMalfunctioning(person).iterator();
 	        while (i.hasNext()) {
 	            Malfunctionable entity = i.next();
 	            if (!RepairMalfunction.requiresEVA(person, entity)) {
@@ -157,7 +157,7 @@ public class RepairMalfunctionMeta implements MetaTask, Serializable {
 
         
         // Add probability for all malfunctionable entities in robot's local.
-        Iterator<Malfunctionable> i = MalfunctionFactory.getMalfunctionables(settlement).iterator();
+        Iterator<Malfunctionable> i = SettlementTaskContext.get(settlement).getMalfunctioning().iterator();
         while (i.hasNext()) {
             Malfunctionable entity = i.next();
             if (!RepairMalfunction.requiresEVA(entity)) {
@@ -0,0 +1,323 @@
+/**
+ * Mars Simulation Project
+ * SettlementTaskContext.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core.person.ai.task.meta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.Unit;
+import org.mars_sim.msp.core.malfunction.MalfunctionFactory;
+import org.mars_sim.msp.core.malfunction.MalfunctionManager;
+import org.mars_sim.msp.core.malfunction.Malfunctionable;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.person.ai.task.LoadVehicleEVA;
+import org.mars_sim.msp.core.person.ai.task.LoadVehicleGarage;
+import org.mars_sim.msp.core.person.ai.task.Maintenance;
+import org.mars_sim.msp.core.person.ai.task.UnloadVehicleEVA;
+import org.mars_sim.msp.core.person.ai.task.UnloadVehicleGarage;
+import org.mars_sim.msp.core.science.ScienceType;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.Structure;
+import org.mars_sim.msp.core.structure.building.Building;
+import org.mars_sim.msp.core.structure.building.function.FunctionType;
+import org.mars_sim.msp.core.structure.building.function.Research;
+import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.vehicle.Vehicle;
+
+/**
+ * The settlement wide facts that the meta tasks need when computing the task
+ * probabilities of the people and robots of a settlement. Each fact is computed
+ * at most once per tick, when first asked for, and then shared by everyone at
+ * the settlement, instead of rescanning the buildings for each person.
+ */
+public class SettlementTaskContext {
+
+	private Settlement settlement;
+
+	/** The mission sol of the tick of the cached facts. */
+	private int sol = -1;
+	/** The millisol of the tick of the cached facts, with one decimal. */
+	private double millisol = -1D;
+
+	private Set<Malfunctionable> malfunctionables;
+	private List<Malfunctionable> malfunctioning;
+	private double maintenanceProb = -1D;
+	private double maintenanceEVAProb = -1D;
+	private int missionsNeedingLoading = -1;
+	private int missionsNeedingLoadingEVA = -1;
+	private int vehiclesNeedingUnloading = -1;
+	private int vehiclesNeedingUnloadingEVA = -1;
+	private Set<ScienceType> labSciences;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param settlement the settlement.
+	 */
+	public SettlementTaskContext(Settlement settlement) {
+		this.settlement = settlement;
+	}
+
+	/**
+	 * Gets the context of a settlement for the current tick.
+	 *
+	 * @param settlement the settlement.
+	 * @return the context.
+	 */
+	public static SettlementTaskContext get(Settlement settlement) {
+		SettlementTaskContext context = settlement.getTaskContext();
+		context.checkTick();
+		return context;
+	}
+
+	/**
+	 * Clears the cached facts if a new tick has started.
+	 */
+	private synchronized void checkTick() {
+		MarsClock marsClock = Simulation.instance().getMasterClock().getMarsClock();
+		int newSol = marsClock.getMissionSol();
+		double newMillisol = marsClock.getMillisolOneDecimal();
+		if (newSol != sol || Double.compare(newMillisol, millisol) != 0) {
+			sol = newSol;
+			millisol = newMillisol;
+			malfunctionables = null;
+			malfunctioning = null;
+			maintenanceProb = -1D;
+			maintenanceEVAProb = -1D;
+			missionsNeedingLoading = -1;
+			missionsNeedingLoadingEVA = -1;
+			vehiclesNeedingUnloading = -1;
+			vehiclesNeedingUnloadingEVA = -1;
+			labSciences = null;
+		}
+	}
+
+	/**
+	 * Gets the malfunctionable entities of the settlement.
+	 *
+	 * @return the buildings and the malfunctionable units stored in the settlement.
+	 */
+	public synchronized Set<Malfunctionable> getMalfunctionables() {
+		if (malfunctionables == null)
+			malfunctionables = new LinkedHashSet<>(MalfunctionFactory.getMalfunctionables(settlement));
+		return malfunctionables;
+	}
+
+	/**
+	 * Gets the malfunctionable entities of the settlement that have a malfunction.
+	 *
+	 * @return list of entities.
+	 */
+	public synchronized List<Malfunctionable> getMalfunctioning() {
+		if (malfunctioning == null) {
+			malfunctioning = new ArrayList<>();
+			for (Malfunctionable entity : getMalfunctionables()) {
+				if (entity.getMalfunctionManager().hasMalfunction())
+					malfunctioning.add(entity);
+			}
+		}
+		return malfunctioning;
+	}
+
+	/**
+	 * Gets the malfunctionable entities local to a person that have a
+	 * malfunction. Only these matter to the repair tasks.
+	 *
+	 * @param person the person.
+	 * @return collection of entities. Must not be modified.
+	 */
+	public static Collection<Malfunctionable> getMalfunctioning(Person person) {
+		if (!person.isInSettlement())
+			return MalfunctionFactory.getMalfunctionables(person);
+
+		SettlementTaskContext context = get(person.getSettlement());
+		List<Malfunctionable> carried = getCarriedMalfunctionables(person, context);
+		if (carried.isEmpty())
+			return context.getMalfunctioning();
+
+		List<Malfunctionable> result = new ArrayList<>(context.getMalfunctioning());
+		for (Malfunctionable entity : carried) {
+			if (entity.getMalfunctionManager().hasMalfunction())
+				result.add(entity);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the malfunctionable units carried by a person that are not stored in
+	 * the settlement.
+	 *
+	 * @param person  the person.
+	 * @param context the context of the person's settlement.
+	 * @return list of entities.
+	 */
+	private static List<Malfunctionable> getCarriedMalfunctionables(Person person, SettlementTaskContext context) {
+		Collection<Unit> units = person.getInventory().getContainedUnits();
+		if (units.isEmpty())
+			return Collections.emptyList();
+
+		List<Malfunctionable> result = new ArrayList<>();
+		for (Unit unit : units) {
+			if (unit instanceof Malfunctionable && !context.getMalfunctionables().contains(unit))
+				result.add((Malfunctionable) unit);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the sum of the maintenance probabilities of the inside entities of the
+	 * settlement.
+	 *
+	 * @return probability.
+	 */
+	public synchronized double getMaintenanceProbability() {
+		if (maintenanceProb < 0D) {
+			maintenanceProb = 0D;
+			for (Malfunctionable entity : getMalfunctionables())
+				maintenanceProb += getMaintenanceProbability(entity, false);
+		}
+		return maintenanceProb;
+	}
+
+	/**
+	 * Gets the sum of the maintenance probabilities of the entities of the
+	 * settlement that need an EVA.
+	 *
+	 * @return probability.
+	 */
+	public synchronized double getMaintenanceEVAProbability() {
+		if (maintenanceEVAProb < 0D) {
+			maintenanceEVAProb = 0D;
+			for (Malfunctionable entity : getMalfunctionables())
+				maintenanceEVAProb += getMaintenanceProbability(entity, true);
+		}
+		return maintenanceEVAProb;
+	}
+
+	/**
+	 * Gets the sum of the maintenance probabilities of the entities local to a
+	 * person in a settlement.
+	 *
+	 * @param person the person.
+	 * @param eva    true for the entities needing an EVA.
+	 * @return probability.
+	 */
+	public static double getMaintenanceProbability(Person person, boolean eva) {
+		SettlementTaskContext context = get(person.getSettlement());
+		double result = eva ? context.getMaintenanceEVAProbability() : context.getMaintenanceProbability();
+		for (Malfunctionable entity : getCarriedMalfunctionables(person, context))
+			result += context.getMaintenanceProbability(entity, eva);
+		return result;
+	}
+
+	/**
+	 * Gets the maintenance probability of an entity.
+	 *
+	 * @param entity the entity.
+	 * @param eva    true if the maintenance is done during an EVA.
+	 * @return probability.
+	 */
+	private double getMaintenanceProbability(Malfunctionable entity, boolean eva) {
+		boolean uninhabitableBuilding = false;
+		if (entity instanceof Building)
+			uninhabitableBuilding = !((Building) entity).hasFunction(FunctionType.LIFE_SUPPORT);
+
+		if (eva) {
+			if (!(entity instanceof Structure) && !uninhabitableBuilding)
+				return 0D;
+		} else if (entity instanceof Vehicle || uninhabitableBuilding)
+			return 0D;
+
+		MalfunctionManager manager = entity.getMalfunctionManager();
+		double effectiveTime = manager.getEffectiveTimeSinceLastMaintenance();
+		if (manager.hasMalfunction() || effectiveTime < 1000D
+				|| !Maintenance.hasMaintenanceParts(settlement, entity))
+			return 0D;
+
+		return Math.min(effectiveTime / 1000D, 100D);
+	}
+
+	/**
+	 * Gets the number of vehicle missions needing loading at the settlement.
+	 *
+	 * @param eva true for the vehicles outside, false for the ones in a garage.
+	 * @return number of missions.
+	 */
+	public synchronized int getMissionsNeedingLoading(boolean eva) {
+		if (eva) {
+			if (missionsNeedingLoadingEVA < 0)
+				missionsNeedingLoadingEVA = LoadVehicleEVA.getAllMissionsNeedingLoading(settlement).size();
+			return missionsNeedingLoadingEVA;
+		}
+		if (missionsNeedingLoading < 0)
+			missionsNeedingLoading = LoadVehicleGarage.getAllMissionsNeedingLoading(settlement).size();
+		return missionsNeedingLoading;
+	}
+
+	/**
+	 * Gets the number of vehicles needing unloading at the settlement, with or
+	 * without a mission.
+	 *
+	 * @param eva true for the vehicles outside, false for the ones in a garage.
+	 * @return number of vehicles.
+	 */
+	public synchronized int getVehiclesNeedingUnloading(boolean eva) {
+		if (eva) {
+			if (vehiclesNeedingUnloadingEVA < 0)
+				vehiclesNeedingUnloadingEVA = UnloadVehicleEVA.getAllMissionsNeedingUnloading(settlement).size()
+						+ UnloadVehicleEVA.getNonMissionVehiclesNeedingUnloading(settlement).size();
+			return vehiclesNeedingUnloadingEVA;
+		}
+		if (vehiclesNeedingUnloading < 0)
+			vehiclesNeedingUnloading = UnloadVehicleGarage.getAllMissionsNeedingUnloading(settlement).size()
+					+ UnloadVehicleGarage.getNonMissionVehiclesNeedingUnloading(settlement).size();
+		return vehiclesNeedingUnloading;
+	}
+
+	/**
+	 * Checks if a person may find a lab for a science. In a settlement, it needs
+	 * a lab with the specialty, no malfunction and an available space.
+	 *
+	 * @param person  the person.
+	 * @param science the science.
+	 * @return false if there is no such lab at the person's settlement.
+	 */
+	public static boolean mayHaveLab(Person person, ScienceType science) {
+		if (!person.isInSettlement())
+			return true;
+		return get(person.getSettlement()).hasAvailableLab(science);
+	}
+
+	/**
+	 * Checks if the settlement has a lab available for a science.
+	 *
+	 * @param science the science.
+	 * @return true if available.
+	 */
+	public synchronized boolean hasAvailableLab(ScienceType science) {
+		if (labSciences == null) {
+			labSciences = EnumSet.noneOf(ScienceType.class);
+			for (Building building : settlement.getBuildingManager().getBuildings(FunctionType.RESEARCH)) {
+				Research lab = building.getResearch();
+				if (!building.getMalfunctionManager().hasMalfunction()
+						&& lab.getResearcherNum() < lab.getLaboratorySize()) {
+					for (ScienceType type : ScienceType.values()) {
+						if (lab.hasSpecialty(type))
+							labSciences.add(type);
+					}
+				}
+			}
+		}
+		return labSciences.contains(science);
+	}
+}
@@ -108,7 +108,8 @@ public class StudyFieldSamplesMeta implements MetaTask, Serializable {
 	            if (!primaryStudy.isPrimaryResearchCompleted()) {
 	                if (fieldSciences.contains(primaryStudy.getScience())) {
 	                    try {
-	                        Lab lab = StudyFieldSamples.getLocalLab(person, primaryStudy.getScience());
+	                        Lab lab = SettlementTaskContext.mayHaveLab(person, primaryStudy.getScience())
+	                        		? StudyFieldSamples.getLocalLab(person, primaryStudy.getScience()) : null;
 	                        if (lab != null) {
 	                            double primaryResult = 50D;
 	
@@ -143,7 +144,8 @@ public class StudyFieldSamplesMeta implements MetaTask, Serializable {
 	                    ScienceType collabScience = collabStudy.getCollaborativeResearchers().get(person.getIdentifier());
 	                    if (fieldSciences.contains(collabScience)) {
 	                        try {
-	                            Lab lab = StudyFieldSamples.getLocalLab(person, collabScience);
+	                            Lab lab = SettlementTaskContext.mayHaveLab(person, collabScience)
+	                            		? StudyFieldSamples.getLocalLab(person, collabScience) : null;
 	                            if (lab != null) {
 	                                double collabResult = 25D;
 	
@@ -86,9 +86,7 @@ public class UnloadVehicleEVAMeta implements MetaTask, Serializable {
 	
 	        // Check all vehicle missions occurring at the settlement.
 	        try {
-	            int numVehicles = 0;
-	            numVehicles += UnloadVehicleEVA.getAllMissionsNeedingUnloading(settlement).size();
-	            numVehicles += UnloadVehicleEVA.getNonMissionVehiclesNeedingUnloading(settlement).size();
+	            int numVehicles = SettlementTaskContext.get(settlement).getVehiclesNeedingUnloading(true);
 	            result = 100D * numVehicles;
 	        }
 	        catch (Exception e) {
@@ -67,9 +67,7 @@ public class UnloadVehicleGarageMeta implements MetaTask, Serializable {
 	  
             // Check all vehicle missions occurring at the settlement.
             try {
-                int numVehicles = 0;
-                numVehicles += UnloadVehicleGarage.getAllMissionsNeedingUnloading(settlement).size();
-                numVehicles += UnloadVehicleGarage.getNonMissionVehiclesNeedingUnloading(settlement).size();
+                int numVehicles = SettlementTaskContext.get(settlement).getVehiclesNeedingUnloading(false);
                 result = 100D * numVehicles;
             }
             catch (Exception e) {
@@ -119,12 +117,9 @@ public class UnloadVehicleGarageMeta implements MetaTask, Serializable {
 
 	            // Check all vehicle missions occurring at the settlement.
 	            try {
-	                int numVehicles = 0;
-	                
 	               	Settlement settlement = robot.getAssociatedSettlement();
 	                
-	                numVehicles += UnloadVehicleGarage.getAllMissionsNeedingUnloading(settlement).size();
-	                numVehicles += UnloadVehicleGarage.getNonMissionVehiclesNeedingUnloading(settlement).size();
+	                int numVehicles = SettlementTaskContext.get(settlement).getVehiclesNeedingUnloading(false);
 	                result = 100D * numVehicles;
 	            }
 	            catch (Exception e) {
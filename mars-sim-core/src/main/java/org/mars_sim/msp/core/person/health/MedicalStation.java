@@ -35,8 +35,8 @@ public class MedicalStation implements MedicalAid, Serializable {
 	/** default logger. */
 	private static Logger logger = Logger.getLogger(MedicalStation.class.getName());
 
-	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
-			logger.getName().length());
+	/** The rate-limited messages of the problems not treated. */
+	private static final LogConsolidated.Site treatmentLog = LogConsolidated.site(logger, 2000);
 
 	/** Treatment level of the facility. */
 	private int level;
@@ -199,19 +199,21 @@ public class MedicalStation implements MedicalAid, Serializable {
 			// Add the problem to the waiting queue.
 			problemsAwaitingTreatment.add(problem);
 		} else {
-			String loc0 = null;
-			String loc1 = null;
+			String loc0;
+			String loc1;
 			if (building != null) {
 				loc0 = building.getNickName();
 				loc1 = building.getLocationTag().getSettlementName();
 			} else if (vehicle != null) {
 				loc0 = vehicle.getName();
 				loc1 = loc0;
+			} else {
+				loc0 = null;
+				loc1 = null;
 			}
 
-			LogConsolidated.log(logger, Level.INFO, 2000, sourceName,
-					"[" + loc0 + "] " + problem.getIllness() + " cannot be treated in " + loc1 + "'s medical station.",
-					null);
+			treatmentLog.log(Level.INFO,
+					() -> "[" + loc0 + "] " + problem.getIllness() + " cannot be treated in " + loc1 + "'s medical station.");
 		}
 	}
 
@@ -243,18 +245,21 @@ public class MedicalStation implements MedicalAid, Serializable {
 			problemsBeingTreated.add(problem);
 			problemsAwaitingTreatment.remove(problem);
 		} else {
-			String loc0 = null;
-			String loc1 = null;
+			String loc0;
+			String loc1;
 			if (building != null) {
 				loc0 = building.getNickName();
 				loc1 = building.getLocationTag().getSettlementName();
 			} else if (vehicle != null) {
 				loc0 = vehicle.getName();
 				loc1 = loc0;
+			} else {
+				loc0 = null;
+				loc1 = null;
 			}
 
-			LogConsolidated.log(logger, Level.INFO, 2000, sourceName, "[" + loc0 + "] " + problem.getIllness()
-					+ " cannot be treated in " + loc1 + "'s medical station is not equipped to handle.", null);
+			treatmentLog.log(Level.INFO, () -> "[" + loc0 + "] " + problem.getIllness()
+					+ " cannot be treated in " + loc1 + "'s medical station is not equipped to handle.");
 		}
 	}
 
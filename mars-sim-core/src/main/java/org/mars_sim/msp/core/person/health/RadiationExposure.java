@@ -36,8 +36,8 @@ public class RadiationExposure implements Serializable {
 
 	private static Logger logger = Logger.getLogger(RadiationExposure.class.getName());
 
-	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
-			logger.getName().length());
+	/** The messages of the radiation doses. */
+	private static final LogConsolidated.Site doseLog = LogConsolidated.site(logger, 0);
 
 	/*
 	 * Curiosity's Radiation Assessment Detector (RAD). Note: Mars rover Curiosity
@@ -580,16 +580,16 @@ public class RadiationExposure implements Serializable {
 
 				if (person.getVehicle() == null)
 					// if a person steps outside of the vehicle
-					LogConsolidated.log(logger, Level.INFO, 0, sourceName,
-							"[" + coord + "] " + str + DOSE + EVA_OPERATION + coord, null);
+					doseLog.log(Level.INFO,
+							() -> "[" + coord + "] " + str + DOSE + EVA_OPERATION + coord);
 				else {
-					String activity = "";
+					String activity;
 					if (person.getMind().getMission() != null)
 						activity = person.getMind().getMission().getName();
 					else
 						activity = person.getTaskDescription();
-					LogConsolidated.log(logger, Level.INFO, 0, sourceName,
-							"[" + coord + "] " + str + DOSE + " while " + activity, null);
+					doseLog.log(Level.INFO,
+							() -> "[" + coord + "] " + str + DOSE + " while " + activity);
 				}
 
 				HistoricalEvent hEvent = new HazardEvent(EventType.HAZARD_RADIATION_EXPOSURE, eventMap,
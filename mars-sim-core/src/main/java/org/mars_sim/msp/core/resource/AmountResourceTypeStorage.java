@@ -10,16 +10,17 @@ package org.mars_sim.msp.core.resource;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
 /**
- * Storage for types of amount resource.
+ * Storage for types of amount resource. The capacities and stored amounts are
+ * kept in arrays indexed by the amount resource id.
  */
 class AmountResourceTypeStorage implements Serializable {
 
@@ -29,13 +30,13 @@ class AmountResourceTypeStorage implements Serializable {
 	// Data members
 
 	/** Capacity for each type of amount resource. */
-	// private Map<AmountResource, ResourceAmount> amountResourceTypeCapacities =
-	// null;
-	private Map<Integer, ResourceAmount> typeCapacities = null;
+	private double[] capacityByID = null;
+
+	/** The types of amount resource that have a capacity. */
+	private BitSet capacityTypes = null;
 
 	/** Stored resources by type. */
-	// private Map<AmountResource, ResourceAmount> amountResourceTypeStored = null;
-	private Map<Integer, ResourceAmount> typeStored = null;
+	private double[] storedByID = null;
 
 	/** Cache value for the total amount of resources stored. */
 	private transient double totalAmountCache = 0D;
@@ -63,16 +64,34 @@ class AmountResourceTypeStorage implements Serializable {
 			throw new IllegalStateException("Cannot add negative type capacity: " + capacity);
 		}
 
-		if (typeCapacities == null) {
-			typeCapacities = new HashMap<Integer, ResourceAmount>();
+		if (capacityTypes == null) {
+			capacityTypes = new BitSet();
 		}
 
-		if (hasARTypeCapacity(resource)) {
-			ResourceAmount existingCapacity = typeCapacities.get(resource);
-			existingCapacity.setAmount(existingCapacity.getAmount() + capacity);
-		} else {
-			typeCapacities.put(resource, new ResourceAmount(capacity));
+		capacityByID = ensureSize(capacityByID, resource);
+		capacityByID[resource] += capacity;
+		capacityTypes.set(resource);
+	}
+
+	/**
+	 * Makes sure that an array indexed by resource id can hold a resource.
+	 * 
+	 * @param array    the array or null.
+	 * @param resource the resource.
+	 * @return the array or a larger copy of it.
+	 * @throws IllegalStateException if the resource id is negative.
+	 */
+	private static double[] ensureSize(double[] array, int resource) {
+		if (resource < 0) {
+			throw new IllegalStateException("Invalid resource id: " + resource);
 		}
+		else if (array == null) {
+			return new double[Math.max(resource + 1, ResourceUtil.getIDTableSize())];
+		}
+		else if (resource >= array.length) {
+			return Arrays.copyOf(array, Math.max(resource + 1, array.length * 2));
+		}
+		return array;
 	}
 
 	/**
@@ -97,21 +116,20 @@ class AmountResourceTypeStorage implements Serializable {
 			throw new IllegalStateException("Cannot remove negative type capacity: " + capacity);
 		}
 
-		if (typeCapacities == null) {
-			typeCapacities = new HashMap<Integer, ResourceAmount>();
-		}
-
 		double existingCapacity = getAmountResourceTypeCapacity(resource);
 		double newCapacity = existingCapacity - capacity;
 		if (newCapacity > 0D) {
-			if (hasARTypeCapacity(resource)) {
-				ResourceAmount existingCapacityAmount = typeCapacities.get(resource);
-				existingCapacityAmount.setAmount(newCapacity);
-			} else {
-				typeCapacities.put(resource, new ResourceAmount(newCapacity));
+			if (capacityTypes == null) {
+				capacityTypes = new BitSet();
 			}
+			capacityByID = ensureSize(capacityByID, resource);
+			capacityByID[resource] = newCapacity;
+			capacityTypes.set(resource);
 		} else if (newCapacity == 0D) {
-			typeCapacities.remove(resource);
+			if (hasARTypeCapacity(resource)) {
+				capacityByID[resource] = 0D;
+				capacityTypes.clear(resource);
+			}
 		} else {
 			throw new IllegalStateException("Insufficient existing resource type capacity to remove - existing: "
 					+ existingCapacity + ", removed: " + capacity);
@@ -138,11 +156,8 @@ class AmountResourceTypeStorage implements Serializable {
 
 		boolean result = false;
 
-//      if (amountResourceTypeCapacities != null) {
-//   	   result = amountResourceTypeCapacities.containsKey(resource);
-//  	}
-		if (typeCapacities != null) {
-			result = typeCapacities.containsKey(resource);
+		if (capacityTypes != null && resource >= 0) {
+			result = capacityTypes.get(resource);
 		}
 
 		return result;
@@ -169,7 +184,7 @@ class AmountResourceTypeStorage implements Serializable {
 		double result = 0D;
 
 		if (hasARTypeCapacity(resource)) {
-			result = (typeCapacities.get(resource)).getAmount();
+			result = capacityByID[resource];
 		}
 
 		return result;
@@ -182,15 +197,7 @@ class AmountResourceTypeStorage implements Serializable {
 	 * @return stored amount (kg).
 	 */
 	double getAmountResourceTypeStored(AmountResource resource) {
-
-		double result = 0D;
-
-		ResourceAmount storedAmount = getARTypeStoredObject(resource.getID());// getAmountResourceTypeStoredObject(resource);
-		if (storedAmount != null) {
-			result = storedAmount.getAmount();
-		}
-
-		return result;
+		return getAmountResourceTypeStored(resource.getID());
 	}
 
 	/**
@@ -203,46 +210,8 @@ class AmountResourceTypeStorage implements Serializable {
 
 		double result = 0D;
 
-		ResourceAmount storedAmount = getARTypeStoredObject(resource);
-		if (storedAmount != null) {
-			result = storedAmount.getAmount();
-		}
-
-		return result;
-	}
-
-	/**
-	 * Gets the amount of a resource type stored.
-	 * 
-	 * @param resource the resource.
-	 * @return stored amount as ResourceAmount object.
-	 */
-	private ResourceAmount getAmountResourceTypeStoredObject(AmountResource resource) {
-
-		ResourceAmount result = null;
-
-//        if (amountResourceTypeStored != null) {
-//            result = amountResourceTypeStored.get(resource);
-//        }
-		if (typeStored != null) {
-			result = typeStored.get(resource.getID());
-		}
-
-		return result;
-	}
-
-	/**
-	 * Gets the amount of a resource type stored.
-	 * 
-	 * @param resource the resource.
-	 * @return stored amount as ResourceAmount object.
-	 */
-	private ResourceAmount getARTypeStoredObject(int resource) {
-
-		ResourceAmount result = null;
-
-		if (typeStored != null) {
-			result = typeStored.get(resource);
+		if (storedByID != null && resource >= 0 && resource < storedByID.length) {
+			result = storedByID[resource];
 		}
 
 		return result;
@@ -287,19 +256,9 @@ class AmountResourceTypeStorage implements Serializable {
 
 		double totalAmount = 0D;
 
-//        if (amountResourceTypeStored != null) {
-//            Map<AmountResource, ResourceAmount> tempMap = Collections.unmodifiableMap(amountResourceTypeStored);
-//            Iterator<AmountResource> i = tempMap.keySet().iterator();
-//            while (i.hasNext()) {
-//                totalAmount += tempMap.get(i.next()).getAmount();
-//            }
-//        }
-
-		if (typeStored != null) {
-			Map<Integer, ResourceAmount> tempMap = Collections.unmodifiableMap(typeStored);
-			Iterator<Integer> i = tempMap.keySet().iterator();
-			while (i.hasNext()) {
-				totalAmount += tempMap.get(i.next()).getAmount();
+		if (storedByID != null) {
+			for (double amount : storedByID) {
+				totalAmount += amount;
 			}
 		}
 
@@ -314,11 +273,9 @@ class AmountResourceTypeStorage implements Serializable {
 
 		double totalAmount = 0D;
 
-		if (typeStored != null) {
-			Map<Integer, ResourceAmount> tempMap = Collections.unmodifiableMap(typeStored);
-			Iterator<Integer> i = tempMap.keySet().iterator();
-			while (i.hasNext()) {
-				totalAmount += tempMap.get(i.next()).getAmount();
+		if (storedByID != null) {
+			for (double amount : storedByID) {
+				totalAmount += amount;
 			}
 		}
 
@@ -366,12 +323,10 @@ class AmountResourceTypeStorage implements Serializable {
 
 		Set<Integer> result = null;
 
-		if (typeStored != null) {
-			result = new HashSet<Integer>(typeStored.size());
-			Iterator<Integer> i = typeStored.keySet().iterator();
-			while (i.hasNext()) {
-				Integer resource = i.next();
-				if (getAmountResourceTypeStored(resource) > 0D) {
+		if (storedByID != null) {
+			result = new HashSet<Integer>();
+			for (int resource = 0; resource < storedByID.length; resource++) {
+				if (storedByID[resource] > 0D) {
 					result.add(resource);
 				}
 			}
@@ -444,16 +399,8 @@ class AmountResourceTypeStorage implements Serializable {
 				// Set total amount cache to dirty since value is changing.
 				totalAmountCacheDirty = true;
 
-				if (typeStored == null) {
-					typeStored = new HashMap<Integer, ResourceAmount>();
-				}
-
-				ResourceAmount stored = getARTypeStoredObject(resource);
-				if (stored != null) {
-					stored.setAmount(stored.getAmount() + amount);
-				} else {
-					typeStored.put(resource, new ResourceAmount(amount));
-				}
+				storedByID = ensureSize(storedByID, resource);
+				storedByID[resource] += amount;
 			} else
 				throw new IllegalStateException("Amount resource could not be added in type storage.");
 		}
@@ -477,8 +424,7 @@ class AmountResourceTypeStorage implements Serializable {
 				// Set total amount cache to dirty since value is changing.
 				totalAmountCacheDirty = true;
 
-				ResourceAmount stored = getAmountResourceTypeStoredObject(resource);
-				stored.setAmount(stored.getAmount() - amount);
+				storedByID[resource.getID()] -= amount;
 			} else {
 				throw new IllegalStateException("Amount resource (" + resource.getName() + ":" + amount
 						+ ") could not be retrieved from type storage");
@@ -504,8 +450,7 @@ class AmountResourceTypeStorage implements Serializable {
 				// Set total amount cache to dirty since value is changing.
 				totalAmountCacheDirty = true;
 
-				ResourceAmount stored = getARTypeStoredObject(resource);
-				stored.setAmount(stored.getAmount() - amount);
+				storedByID[resource] -= amount;
 			} else {
 				throw new IllegalStateException(
 						"Amount resource (" + resource + ":" + amount + ") could not be retrieved from type storage");
@@ -513,29 +458,6 @@ class AmountResourceTypeStorage implements Serializable {
 		}
 	}
 
-	/**
-	 * Internal class for storing type resource amounts.
-	 */
-	private static class ResourceAmount implements Serializable {
-
-		/** default serial id. */
-		private static final long serialVersionUID = 1L;
-		
-		private double amount;
-
-		private ResourceAmount(double amount) {
-			this.amount = amount;
-		}
-
-		private void setAmount(double amount) {
-			this.amount = amount;
-		}
-
-		private double getAmount() {
-			return amount;
-		}
-	}
-
 	public void restoreARs(AmountResource[] ars) {
 //    	if (amountResourceTypeCapacities != null && !amountResourceTypeCapacities.isEmpty()) {
 //	    	for (AmountResource r : amountResourceTypeCapacities.keySet()) {
@@ -600,8 +522,9 @@ class AmountResourceTypeStorage implements Serializable {
 //        if (amountResourceTypeStored != null) amountResourceTypeStored.clear();
 //        amountResourceTypeStored = null;
 
-		typeCapacities = null;
-		typeStored = null;
+		capacityByID = null;
+		capacityTypes = null;
+		storedByID = null;
 	}
 
 	/**
@@ -613,9 +536,53 @@ class AmountResourceTypeStorage implements Serializable {
 	 */
 	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
 
-		in.defaultReadObject();
+		ObjectInputStream.GetField fields = in.readFields();
+		ObjectStreamClass desc = fields.getObjectStreamClass();
+
+		if (desc.getField("capacityByID") != null) {
+			capacityByID = (double[]) fields.get("capacityByID", null);
+			capacityTypes = (BitSet) fields.get("capacityTypes", null);
+			storedByID = (double[]) fields.get("storedByID", null);
+		}
+		else {
+			// An older save keeps the amounts in maps of ResourceAmount
+			capacityByID = null;
+			capacityTypes = null;
+			storedByID = null;
+			if (desc.getField("typeCapacities") != null) {
+				Map<?, ?> typeCapacities = (Map<?, ?>) fields.get("typeCapacities", null);
+				if (typeCapacities != null) {
+					for (Map.Entry<?, ?> e : typeCapacities.entrySet()) {
+						addAmountResourceTypeCapacity((Integer) e.getKey(), ((ResourceAmount) e.getValue()).amount);
+					}
+				}
+			}
+			if (desc.getField("typeStored") != null) {
+				Map<?, ?> typeStored = (Map<?, ?>) fields.get("typeStored", null);
+				if (typeStored != null) {
+					for (Map.Entry<?, ?> e : typeStored.entrySet()) {
+						int resource = (Integer) e.getKey();
+						storedByID = ensureSize(storedByID, resource);
+						storedByID[resource] = ((ResourceAmount) e.getValue()).amount;
+					}
+				}
+			}
+		}
 
 		// Initialize transient variables that need it.
 		totalAmountCacheDirty = true;
 	}
+
+	/**
+	 * Internal class for storing type resource amounts. Only kept to read older
+	 * saves.
+	 */
+	@Deprecated
+	private static class ResourceAmount implements Serializable {
+
+		/** default serial id. */
+		private static final long serialVersionUID = 1L;
+
+		private double amount;
+	}
 }
\ No newline at end of file
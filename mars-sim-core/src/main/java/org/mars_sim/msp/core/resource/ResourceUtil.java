@@ -549,6 +549,22 @@ public class ResourceUtil implements Serializable {
 		return amountResourceIDMap.keySet();
 	}
 
+	/**
+	 * Gets the size of a table indexed by amount resource id.
+	 *
+	 * @return one more than the largest amount resource id.
+	 */
+	public static int getIDTableSize() {
+		int max = -1;
+		if (amountResourceIDMap != null) {
+			for (int id : amountResourceIDMap.keySet()) {
+				if (id > max)
+					max = id;
+			}
+		}
+		return max + 1;
+	}
+
 //  An example method
 //	private Set<T> intersection(Collection<T> first, Collection<T> second) {
 //		// intersection with an empty collection is empty
@@ -7,7 +7,7 @@
 package org.mars_sim.msp.core.robot.ai.task;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -24,7 +24,9 @@ import org.mars_sim.msp.core.robot.SystemCondition;
 import org.mars_sim.msp.core.robot.ai.BotMind;
 import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.tool.RandomUtil;
+import org.mars_sim.msp.core.tool.TickProfiler;
 import org.mars_sim.msp.core.vehicle.Vehicle;
 
 /**
@@ -59,7 +61,7 @@ implements Serializable {
 
 	private Robot robot = null;
 	
-	private transient MarsClock timeCache;
+	private transient MarsTime timeCache;
 	
 	private MarsClock marsClock;
 	
@@ -79,7 +81,7 @@ implements Serializable {
 
 		// Initialize cache values.
 		timeCache = null;
-		taskProbCache = new HashMap<MetaTask, Double>(MetaTaskUtil.getRobotMetaTasks().size());
+		taskProbCache = new LinkedHashMap<MetaTask, Double>(MetaTaskUtil.getRobotMetaTasks().size());
 		totalProbCache = 0D;
 	
 		if (Simulation.instance().getMasterClock() != null) // use this check to pass maven test
@@ -278,7 +280,10 @@ implements Serializable {
 			}
 
 			checkForEmergency();
+			long start = TickProfiler.start();
+			Class<?> taskClass = currentTask.getClass();
 			remainingTime = currentTask.performTask(time);
+			TickProfiler.record(TickProfiler.Category.TASK, taskClass, start);
 
 			// Expend energy based on activity.
 		    double energyTime = time - remainingTime;
@@ -485,9 +490,8 @@ implements Serializable {
 //    		marsClock = Simulation.instance().getMasterClock().getMarsClock();
 //    	}
     	
-	    if (timeCache == null) {
-	    	timeCache = Simulation.instance().getMasterClock().getMarsClock();
-	    	marsClock = timeCache;
+	    if (marsClock == null) {
+	    	marsClock = Simulation.instance().getMasterClock().getMarsClock();
 	    }
 	    
 	    
@@ -499,13 +503,15 @@ implements Serializable {
 			List<MetaTask> mtList = MetaTaskUtil.getRobotMetaTasks();
 	
 			if (taskProbCache == null)
-				taskProbCache = new HashMap<MetaTask, Double>(mtList.size());
+				taskProbCache = new LinkedHashMap<MetaTask, Double>(mtList.size());
 	
 			// Clear total probabilities.
 			totalProbCache = 0D;
 			// Determine probabilities.
 			for (MetaTask mt : mtList) {
+				long start = TickProfiler.start();
 				double probability = mt.getProbability(robot);
+				TickProfiler.record(TickProfiler.Category.META_TASK, mt.getClass(), start);
 	
 				if ((probability >= 0D) && (!Double.isNaN(probability)) && (!Double.isInfinite(probability))) {
 					taskProbCache.put(mt, probability);
@@ -522,7 +528,7 @@ implements Serializable {
 			// Set the time cache to the current time.
 			//if (marsClock != null)
 			//	marsClock = Simulation.instance().getMasterClock().getMarsClock();
-			timeCache = (MarsClock) marsClock.clone();
+			timeCache = marsClock.getTime();
 	    }
 	}
 
@@ -533,7 +539,7 @@ implements Serializable {
 	private boolean useCache() {
 		//MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
 		//return currentTime.equals(timeCache);
-		return marsClock.equals(timeCache);
+		return marsClock.isAt(timeCache);
 	}
 
 	/**
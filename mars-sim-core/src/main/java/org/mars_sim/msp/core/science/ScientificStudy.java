@@ -188,6 +188,15 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 		return (Person) (unitManager.getUnitByID(primaryResearcher));
 	}
 
+	/**
+	 * Gets the identifier of the study's primary researcher.
+	 * 
+	 * @return person identifier.
+	 */
+	int getPrimaryResearcherID() {
+		return primaryResearcher;
+	}
+
 	/**
 	 * Gets the total amount of proposal work time required for the study.
 	 * 
@@ -724,6 +733,15 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 		return (Settlement) (unitManager.getUnitByID(primarySettlement));
 	}
 
+	/**
+	 * Gets the identifier of the settlement where primary research is conducted.
+	 * 
+	 * @return settlement identifier.
+	 */
+	int getPrimarySettlementID() {
+		return primarySettlement;
+	}
+
 	/**
 	 * Gets the last time primary research work was done on the study.
 	 * 
@@ -6,23 +6,32 @@
  */
 package org.mars_sim.msp.core.science;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.UnitTickEngine;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
 
 /**
- * A class that keeps track of all scientific studies in the simulation.
+ * A class that keeps track of all scientific studies in the simulation. The
+ * ongoing studies are kept apart from the completed ones, which are moved to
+ * an archive, and both are indexed by researcher and by settlement. The
+ * manager listens to each study to keep the indexes up to date.
  */
 public class ScientificStudyManager //extends Thread
-implements Serializable {
+implements Serializable, ScientificStudyListener {
 
     /** default serial id. */
 	private static final long serialVersionUID = 1L;
@@ -31,7 +40,25 @@ implements Serializable {
 	private static Logger logger = Logger.getLogger(ScientificStudyManager.class.getName());
     
     // Data members
+    /** The ongoing studies. */
     private List<ScientificStudy> studies;
+    /** The completed studies. */
+    private List<ScientificStudy> archive;
+
+    // Indexes of the ongoing studies
+    private transient Map<String, List<ScientificStudy>> ongoingByPhase;
+    private transient Map<Integer, List<ScientificStudy>> ongoingByPrimary;
+    private transient Map<Integer, List<ScientificStudy>> ongoingByCollaborator;
+    private transient Map<Integer, List<ScientificStudy>> ongoingBySettlement;
+
+    // Indexes of the completed studies
+    private transient Map<String, List<ScientificStudy>> completedByState;
+    private transient Map<Integer, List<ScientificStudy>> completedByPrimary;
+    private transient Map<Integer, List<ScientificStudy>> completedByCollaborator;
+    private transient Map<Integer, List<ScientificStudy>> completedBySettlement;
+
+    /** The settlement each ongoing study is indexed with. */
+    private transient Map<ScientificStudy, Integer> indexedSettlements;
     
 	private static MarsClock marsClock = Simulation.instance().getMasterClock().getMarsClock();
 	private static UnitManager unitManager = Simulation.instance().getUnitManager();
@@ -41,10 +68,14 @@ implements Serializable {
      */
     public ScientificStudyManager() {
         studies = new ArrayList<ScientificStudy>();
+        archive = new ArrayList<ScientificStudy>();
+        buildIndexes();
 	}
     
     /**
-     * Creates a new scientific study.
+     * Creates a new scientific study. A study created in a settlement partition
+     * is listed in the serial phase, so that the studies of all the settlements
+     * are listed in the same order whichever partition finishes first.
      * @param researcher the primary researcher.
      * @param science the primary field of science.
      * @param difficultyLevel the difficulty level of the study.
@@ -57,87 +88,61 @@ implements Serializable {
         if (difficultyLevel < 0) throw new IllegalArgumentException("difficultyLevel must be positive value");
         
         ScientificStudy study = new ScientificStudy(researcher, science, difficultyLevel);
-        studies.add(study);
+        study.addScientificStudyListener(this);
+        UnitTickEngine.defer(() -> addStudy(study));
         
         logger.fine(researcher.getName() + " begins writing proposal for new " + study.toString());
         
         return study;
     }
     
+    /**
+     * Lists a new study.
+     * @param study the study.
+     */
+    private synchronized void addStudy(ScientificStudy study) {
+        studies.add(study);
+        indexOngoing(study);
+    }
+
     /**
      * Gets all ongoing scientific studies.
      * @return list of studies.
      */
-    public List<ScientificStudy> getOngoingStudies() {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (!study.isCompleted()) result.add(study);
-        }
-        return result;
+    public synchronized List<ScientificStudy> getOngoingStudies() {
+        return new ArrayList<ScientificStudy>(studies);
     }
     
     /**
      * Gets all completed scientific studies, regardless of completion state.
      * @return list of studies.
      */
-    public List<ScientificStudy> getCompletedStudies() {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (study.isCompleted()) result.add(study);
-        }
-        return result;
+    public synchronized List<ScientificStudy> getCompletedStudies() {
+        return new ArrayList<ScientificStudy>(archive);
     }
     
     /**
      * Gets all successfully completed scientific studies.
      * @return list of studies.
      */
-    public List<ScientificStudy> getSuccessfulStudies() {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (study.isCompleted() && 
-                    study.getCompletionState().equals(ScientificStudy.SUCCESSFUL_COMPLETION)) 
-                result.add(study);
-        }
-        return result;
+    public synchronized List<ScientificStudy> getSuccessfulStudies() {
+        return lookup(completedByState, ScientificStudy.SUCCESSFUL_COMPLETION);
     }
     
     /**
      * Gets all failed completed scientific studies.
      * @return list of studies.
      */
-    public List<ScientificStudy> getFailedStudies() {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (study.isCompleted() && 
-                    study.getCompletionState().equals(ScientificStudy.FAILED_COMPLETION)) 
-                result.add(study);
-        }
-        return result;
+    public synchronized List<ScientificStudy> getFailedStudies() {
+        return lookup(completedByState, ScientificStudy.FAILED_COMPLETION);
     }
     
     /**
      * Gets all canceled scientific studies.
      * @return list of studies.
      */
-    public List<ScientificStudy> getCanceledStudies() {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (study.isCompleted() && 
-                    study.getCompletionState().equals(ScientificStudy.CANCELED)) 
-                result.add(study);
-        }
-        return result;
+    public synchronized List<ScientificStudy> getCanceledStudies() {
+        return lookup(completedByState, ScientificStudy.CANCELED);
     }
     
     /**
@@ -145,15 +150,9 @@ implements Serializable {
      * @param researcher the primary researcher.
      * @return primary research scientific study or null if none.
      */
-    public ScientificStudy getOngoingPrimaryStudy(Person researcher) {
-        ScientificStudy result = null;
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (!study.isCompleted() && (study.getPrimaryResearcher().equals(researcher)))
-                result = study;
-        }
-        return result;
+    public synchronized ScientificStudy getOngoingPrimaryStudy(Person researcher) {
+        List<ScientificStudy> list = ongoingByPrimary.get(researcher.getIdentifier());
+        return (list != null) ? list.get(list.size() - 1) : null;
     }
     
     /**
@@ -161,15 +160,8 @@ implements Serializable {
      * @param researcher the primary researcher.
      * @return list of studies.
      */
-    public List<ScientificStudy> getCompletedPrimaryStudies(Person researcher) {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (study.isCompleted() && (study.getPrimaryResearcher().equals(researcher)))
-                result.add(study);
-        }
-        return result;
+    public synchronized List<ScientificStudy> getCompletedPrimaryStudies(Person researcher) {
+        return lookup(completedByPrimary, researcher.getIdentifier());
     }
     
     /**
@@ -177,15 +169,8 @@ implements Serializable {
      * @param researcher the collaborative researcher.
      * @return list of studies.
      */
-    public List<ScientificStudy> getOngoingCollaborativeStudies(Person researcher) {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (!study.isCompleted() && (study.getCollaborativeResearchers().containsKey(researcher.getIdentifier())))
-                result.add(study);
-        }
-        return result;
+    public synchronized List<ScientificStudy> getOngoingCollaborativeStudies(Person researcher) {
+        return lookup(ongoingByCollaborator, researcher.getIdentifier());
     }
     
     /**
@@ -194,19 +179,7 @@ implements Serializable {
      * @return list of studies.
      */
     public List<ScientificStudy> getOngoingCollaborativeStudies(Settlement settlement) {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        
-		List<Person> pList = new ArrayList<>(settlement.getAllAssociatedPeople());
-
-		for (Person p : pList) {
-	        Iterator<ScientificStudy> i = studies.iterator();
-	        while (i.hasNext()) {
-	            ScientificStudy study = i.next();
-	            if (!study.isCompleted() && (study.getCollaborativeResearchers().containsKey(p.getIdentifier())))
-	                result.add(study);
-	        }
-		}
-        return result;
+        return lookup(ongoingByCollaborator, settlement);
     }
     
     /**
@@ -214,15 +187,8 @@ implements Serializable {
      * @param researcher the collaborative researcher.
      * @return list of studies.
      */
-    public List<ScientificStudy> getCompletedCollaborativeStudies(Person researcher) {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (study.isCompleted() && (study.getCollaborativeResearchers().containsKey(researcher.getIdentifier())))
-                result.add(study);
-        }
-        return result;
+    public synchronized List<ScientificStudy> getCompletedCollaborativeStudies(Person researcher) {
+        return lookup(completedByCollaborator, researcher.getIdentifier());
     }
     
     /**
@@ -231,19 +197,7 @@ implements Serializable {
      * @return list of studies.
      */
     public List<ScientificStudy> getCompletedCollaborativeStudies(Settlement settlement) {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        
-		List<Person> pList = new ArrayList<>(settlement.getAllAssociatedPeople());
-
-		for (Person p : pList) {
-	        Iterator<ScientificStudy> i = studies.iterator();
-	        while (i.hasNext()) {
-	            ScientificStudy study = i.next();
-	            if (study.isCompleted() && (study.getCollaborativeResearchers().containsKey(p.getIdentifier())))
-	                result.add(study);
-	        }
-		}
-        return result;
+        return lookup(completedByCollaborator, settlement);
     }
     
     
@@ -252,15 +206,8 @@ implements Serializable {
      * @param settlement the primary research settlement.
      * @return list of studies.
      */
-    public List<ScientificStudy> getOngoingPrimaryStudies(Settlement settlement) {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (!study.isCompleted() && settlement.equals(study.getPrimarySettlement()))
-                result.add(study);
-        }
-        return result;
+    public synchronized List<ScientificStudy> getOngoingPrimaryStudies(Settlement settlement) {
+        return lookup(ongoingBySettlement, settlement.getIdentifier());
     }
     
     /**
@@ -268,15 +215,8 @@ implements Serializable {
      * @param settlement the primary research settlement.
      * @return list of studies.
      */
-    public List<ScientificStudy> getCompletedPrimaryStudies(Settlement settlement) {
-        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (study.isCompleted() && settlement.equals(study.getPrimarySettlement()))
-                result.add(study);
-        }
-        return result;
+    public synchronized List<ScientificStudy> getCompletedPrimaryStudies(Settlement settlement) {
+        return lookup(completedBySettlement, settlement.getIdentifier());
     }
     
     /**
@@ -284,15 +224,14 @@ implements Serializable {
      * @param settlement the primary research settlement.
      * @return list of studies.
      */
-    public List<ScientificStudy> getAllFailedStudies(Settlement settlement) {
+    public synchronized List<ScientificStudy> getAllFailedStudies(Settlement settlement) {
         List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (study.isCompleted() 
-            		&& study.getCompletionState().equals(ScientificStudy.FAILED_COMPLETION) 
-            		&& settlement.equals(study.getPrimarySettlement()))
-                result.add(study);
+        List<ScientificStudy> list = completedBySettlement.get(settlement.getIdentifier());
+        if (list != null) {
+            for (ScientificStudy study : list) {
+                if (ScientificStudy.FAILED_COMPLETION.equals(study.getCompletionState()))
+                    result.add(study);
+            }
         }
         return result;
     }
@@ -302,12 +241,11 @@ implements Serializable {
      * @param collaborativeResearcher the collaborative researcher.
      * @return list of studies.
      */
-    public List<ScientificStudy> getOpenInvitationStudies(Person collaborativeResearcher) {
+    public synchronized List<ScientificStudy> getOpenInvitationStudies(Person collaborativeResearcher) {
         List<ScientificStudy> result = new ArrayList<ScientificStudy>();
-        Iterator<ScientificStudy> i = studies.iterator();
-        while (i.hasNext()) {
-            ScientificStudy study = i.next();
-            if (!study.isCompleted() && study.getPhase().equals(ScientificStudy.INVITATION_PHASE)) {
+        List<ScientificStudy> list = ongoingByPhase.get(ScientificStudy.INVITATION_PHASE);
+        if (list != null) {
+            for (ScientificStudy study : list) {
                 if (study.hasResearcherBeenInvited(collaborativeResearcher)) {
                     if (!study.hasInvitedResearcherResponded(collaborativeResearcher)) 
                         result.add(study);
@@ -364,10 +302,13 @@ implements Serializable {
     }
     
     /**
-     * Update all of the studies.
+     * Update all of the ongoing studies.
      */
     public void updateStudies() {
-        Iterator<ScientificStudy> i = studies.iterator();
+        // The studies change phase outside of the lock, the indexes follow from
+        // their events.
+        List<ScientificStudy> ongoing = getOngoingStudies();
+        Iterator<ScientificStudy> i = ongoing.iterator();
         while (i.hasNext()) {
             ScientificStudy study = i.next();
             if (!study.isCompleted()) {
@@ -495,6 +436,144 @@ implements Serializable {
         }
     }
     
+    /**
+     * Catches the events of the studies to update the indexes.
+     * @param event the scientific study event.
+     */
+    @Override
+    public synchronized void scientificStudyUpdate(ScientificStudyEvent event) {
+        ScientificStudy study = event.getStudy();
+        if (!indexedSettlements.containsKey(study))
+            return;
+
+        String type = event.getType();
+        if (ScientificStudyEvent.STUDY_COMPLETION_EVENT.equals(type)) {
+            unindexOngoing(study);
+            studies.remove(study);
+            archive.add(study);
+            indexCompleted(study);
+        }
+        else if (ScientificStudyEvent.PHASE_CHANGE_EVENT.equals(type)) {
+            removeAll(ongoingByPhase, study);
+            index(ongoingByPhase, study.getPhase(), study);
+        }
+        else if (ScientificStudyEvent.ADD_COLLABORATOR_EVENT.equals(type)) {
+            index(ongoingByCollaborator, event.getResearcher().getIdentifier(), study);
+        }
+        else if (ScientificStudyEvent.REMOVE_COLLABORATOR_EVENT.equals(type)) {
+            unindex(ongoingByCollaborator, event.getResearcher().getIdentifier(), study);
+        }
+        else if (ScientificStudyEvent.PROPOSAL_WORK_EVENT.equals(type)
+                || ScientificStudyEvent.PRIMARY_RESEARCH_WORK_EVENT.equals(type)
+                || ScientificStudyEvent.PRIMARY_PAPER_WORK_EVENT.equals(type)) {
+            // The primary settlement follows the primary researcher, and is only
+            // updated when the primary researcher works on the study.
+            int settlement = study.getPrimarySettlementID();
+            int indexed = indexedSettlements.get(study);
+            if (settlement != indexed) {
+                unindex(ongoingBySettlement, indexed, study);
+                index(ongoingBySettlement, settlement, study);
+                indexedSettlements.put(study, settlement);
+            }
+        }
+    }
+
+    /**
+     * Creates the indexes of the studies.
+     */
+    private void buildIndexes() {
+        ongoingByPhase = new HashMap<>();
+        ongoingByPrimary = new HashMap<>();
+        ongoingByCollaborator = new HashMap<>();
+        ongoingBySettlement = new HashMap<>();
+        completedByState = new HashMap<>();
+        completedByPrimary = new HashMap<>();
+        completedByCollaborator = new HashMap<>();
+        completedBySettlement = new HashMap<>();
+        indexedSettlements = new IdentityHashMap<>();
+
+        for (ScientificStudy study : studies) {
+            indexOngoing(study);
+        }
+        for (ScientificStudy study : archive) {
+            indexCompleted(study);
+        }
+    }
+
+    private void indexOngoing(ScientificStudy study) {
+        int settlement = study.getPrimarySettlementID();
+        index(ongoingByPhase, study.getPhase(), study);
+        index(ongoingByPrimary, study.getPrimaryResearcherID(), study);
+        index(ongoingBySettlement, settlement, study);
+        for (Integer id : study.getCollaborativeResearchers().keySet()) {
+            index(ongoingByCollaborator, id, study);
+        }
+        indexedSettlements.put(study, settlement);
+    }
+
+    private void unindexOngoing(ScientificStudy study) {
+        removeAll(ongoingByPhase, study);
+        unindex(ongoingByPrimary, study.getPrimaryResearcherID(), study);
+        unindex(ongoingBySettlement, indexedSettlements.remove(study), study);
+        removeAll(ongoingByCollaborator, study);
+    }
+
+    private void indexCompleted(ScientificStudy study) {
+        index(completedByState, study.getCompletionState(), study);
+        index(completedByPrimary, study.getPrimaryResearcherID(), study);
+        index(completedBySettlement, study.getPrimarySettlementID(), study);
+        for (Integer id : study.getCollaborativeResearchers().keySet()) {
+            index(completedByCollaborator, id, study);
+        }
+    }
+
+    private static <K> void index(Map<K, List<ScientificStudy>> map, K key, ScientificStudy study) {
+        List<ScientificStudy> list = map.get(key);
+        if (list == null) {
+            list = new ArrayList<ScientificStudy>(2);
+            map.put(key, list);
+        }
+        if (!list.contains(study))
+            list.add(study);
+    }
+
+    private static <K> void unindex(Map<K, List<ScientificStudy>> map, K key, ScientificStudy study) {
+        List<ScientificStudy> list = map.get(key);
+        if (list != null && list.remove(study) && list.isEmpty())
+            map.remove(key);
+    }
+
+    private static <K> void removeAll(Map<K, List<ScientificStudy>> map, ScientificStudy study) {
+        Iterator<List<ScientificStudy>> i = map.values().iterator();
+        while (i.hasNext()) {
+            List<ScientificStudy> list = i.next();
+            if (list.remove(study) && list.isEmpty())
+                i.remove();
+        }
+    }
+
+    private static <K> List<ScientificStudy> lookup(Map<K, List<ScientificStudy>> map, K key) {
+        List<ScientificStudy> list = map.get(key);
+        return (list != null) ? new ArrayList<ScientificStudy>(list) : new ArrayList<ScientificStudy>();
+    }
+
+    /**
+     * Gets the studies of the collaborators of a settlement, once per
+     * collaborator.
+     */
+    private List<ScientificStudy> lookup(Map<Integer, List<ScientificStudy>> map, Settlement settlement) {
+        List<ScientificStudy> result = new ArrayList<ScientificStudy>();
+        List<Person> pList = new ArrayList<>(settlement.getAllAssociatedPeople());
+        synchronized (this) {
+            for (Person p : pList) {
+                List<ScientificStudy> list = map.get(p.getIdentifier());
+                if (list != null)
+                    result.addAll(list);
+            }
+        }
+        return result;
+    }
+
     /**
      * Checks if a study's primary researcher is dead.
      * @param study the scientific study.
@@ -584,15 +663,46 @@ implements Serializable {
 		marsClock = c;
 	}
 	
+    /**
+     * Implementing readObject method for serialization. The completed studies of
+     * the older saved simulations are moved to the archive.
+     * @param in the input stream.
+     * @throws IOException if error reading from input stream.
+     * @throws ClassNotFoundException if error creating class.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (archive == null) {
+            archive = new ArrayList<ScientificStudy>();
+            Iterator<ScientificStudy> i = studies.iterator();
+            while (i.hasNext()) {
+                ScientificStudy study = i.next();
+                if (study.isCompleted()) {
+                    archive.add(study);
+                    i.remove();
+                }
+            }
+        }
+        buildIndexes();
+        for (ScientificStudy study : studies) {
+            study.addScientificStudyListener(this);
+        }
+    }
+
     /**
      * Prepare object for garbage collection.
      */
     public void destroy() {
-       Iterator<ScientificStudy> i = studies.iterator();
+       List<ScientificStudy> all = new ArrayList<ScientificStudy>(studies);
+       all.addAll(archive);
+       Iterator<ScientificStudy> i = all.iterator();
        while (i.hasNext()) {
            i.next().destroy();
        }
        studies.clear();
+       archive.clear();
+       buildIndexes();
        studies = null;
+       archive = null;
     }
 }
\ No newline at end of file
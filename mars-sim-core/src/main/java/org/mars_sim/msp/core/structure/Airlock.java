@@ -165,7 +165,7 @@ public abstract class Airlock implements Serializable {
 					}
 				}
 				LogConsolidated.log(Level.FINER, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " 
+						() -> "[" + person.getLocationTag().getLocale() + "] " 
 							+ person.getName() + " entered through the inner door of the airlock at " + getEntityName());
 				result = true;
 			} else if (!inside && !outerDoorLocked) {
@@ -177,7 +177,7 @@ public abstract class Airlock implements Serializable {
 					}
 				}
 				LogConsolidated.log(Level.FINER, 0, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] " 
+						() -> "[" + person.getLocationTag().getLocale() + "] " 
 							+ person.getName() + " entered through the outer door of the airlock at " + getEntityName());
 				result = true;
 			}
@@ -199,7 +199,7 @@ public abstract class Airlock implements Serializable {
 	 */
 	public boolean activateAirlock(Person operator) {
 		LogConsolidated.log(Level.FINER, 0, sourceName,
-				"[" + operator.getLocationTag().getLocale() + "] " 
+				() -> "[" + operator.getLocationTag().getLocale() + "] " 
 					+ operator.getName() + " as the operator was getting ready to activate the airlock at "
 					+ getEntityName());
 		
@@ -219,7 +219,7 @@ public abstract class Airlock implements Serializable {
 
 					if (!occupants.contains(person)) {
 						LogConsolidated.log(Level.FINER, 0, sourceName,
-								"[" + person.getLocationTag().getLocale() + "] " 
+								() -> "[" + person.getLocationTag().getLocale() + "] " 
 									+ person.getName() + " entered through the inner door of the airlock at "
 									+ getEntityName());
 						occupants.add(person);
@@ -240,7 +240,7 @@ public abstract class Airlock implements Serializable {
 
 					if (!occupants.contains(person)) {
 						LogConsolidated.log(Level.FINER, 0, sourceName,
-								"[" + person.getLocationTag().getLocale() + "] " 
+								() -> "[" + person.getLocationTag().getLocale() + "] " 
 								+ person.getName() + " entered through the outer door of the airlock at "
 								+ getEntityName());
 						occupants.add(person);
@@ -263,7 +263,7 @@ public abstract class Airlock implements Serializable {
 				setState(PRESSURIZING);
 			} else {
 				LogConsolidated.log(Level.SEVERE, 0, sourceName,
-						"[" + operator.getLocationTag().getLocale() + "] " 
+						() -> "[" + operator.getLocationTag().getLocale() + "] " 
 					+ operator.getName() + " reported the airlock was having incorrect state for activation: '" + state + "'.");
 				return false;
 			}
@@ -347,7 +347,7 @@ public abstract class Airlock implements Serializable {
 				if (occupant instanceof Person) {
 					Person person = (Person) occupant;
 					LogConsolidated.log(Level.FINER, 0, sourceName,
-							"[" + person.getLocationTag().getLocale() + "] " 
+							() -> "[" + person.getLocationTag().getLocale() + "] " 
 						+ person.getName()
 						+ " reported that the airlock in " + getEntity() + " had been " + getState() 
 							+ ".");
@@ -446,7 +446,7 @@ public abstract class Airlock implements Serializable {
 	 */
 	public void addAwaitingAirlockInnerDoor(Person p) {
 		if (!awaitingInnerDoor.contains(p)) {
-			LogConsolidated.log(Level.FINER, 0, sourceName, "[" + p.getLocationTag().getLocale() + "] "
+			LogConsolidated.log(Level.FINER, 0, sourceName, () -> "[" + p.getLocationTag().getLocale() + "] "
 					+ p.getName() + " was awaiting the inner door of the airlock in " + getEntityName() + " to open.");
 			awaitingInnerDoor.add(p);
 		}
@@ -459,7 +459,7 @@ public abstract class Airlock implements Serializable {
 	 */
 	public void addAwaitingAirlockOuterDoor(Person p) {
 		if (!awaitingOuterDoor.contains(p)) {
-			LogConsolidated.log(Level.FINER, 0, sourceName, "[" + p.getLocationTag().getLocale() + "] "
+			LogConsolidated.log(Level.FINER, 0, sourceName, () -> "[" + p.getLocationTag().getLocale() + "] "
 					+ p.getName() + " was in " + p.getLocationTag().getImmediateLocation() 
 					+ " and waiting the outer door of the airlock in " + getEntityName() + " to open.");
 			awaitingOuterDoor.add(p);
@@ -482,7 +482,7 @@ public abstract class Airlock implements Serializable {
 				if (isDead) {
 					// If operator is dead, deactivate airlock.
 					String operatorName = operator.getName();
-					LogConsolidated.log(Level.SEVERE, 0, sourceName, "[" + operator.getLocationTag().getLocale() + "] "
+					LogConsolidated.log(Level.SEVERE, 0, sourceName, () -> "[" + operator.getLocationTag().getLocale() + "] "
 							+ "Airlock operator " + operatorName + " was dead."
 							+ getEntityName());
 					
@@ -492,7 +492,7 @@ public abstract class Airlock implements Serializable {
 						// No operator, deactivate the air lock
 						deactivateAirlock();
 					else {
-						LogConsolidated.log(Level.INFO, 0, sourceName, "[" + operator.getLocationTag().getLocale() + "] "
+						LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + operator.getLocationTag().getLocale() + "] "
 								+ operator + " stepped up and became the operator of the airlock in "
 								+ getEntityName());
 					}
@@ -513,7 +513,7 @@ public abstract class Airlock implements Serializable {
 
 					if (!hasAirlockTask) {
 						String operatorName = operator.getName();
-						LogConsolidated.log(Level.SEVERE, 0, sourceName, "[" + operator.getLocationTag().getLocale() + "] "
+						LogConsolidated.log(Level.SEVERE, 0, sourceName, () -> "[" + operator.getLocationTag().getLocale() + "] "
 								+ "Airlock operator " + operatorName + " was no longer "
 								+ "operating the airlock in " + getEntityName());
 						// Elect a new operator
@@ -522,7 +522,7 @@ public abstract class Airlock implements Serializable {
 							// No operator, deactivate the air lock
 							deactivateAirlock();
 						else {
-							LogConsolidated.log(Level.INFO, 0, sourceName, "[" + operator.getLocationTag().getLocale() + "] "
+							LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + operator.getLocationTag().getLocale() + "] "
 									+ operator + " stepped up and became the operator of the airlock in "
 									+ getEntityName());
 						}
@@ -532,14 +532,14 @@ public abstract class Airlock implements Serializable {
 			
 			else {
 				// If no operator, deactivate airlock.
-				LogConsolidated.log(Level.SEVERE, 0, sourceName, //"[" + locale + "] "
+				LogConsolidated.log(Level.SEVERE, 0, sourceName, () -> //"[" + locale + "] "
 						"Without an operator, the airlock in " 
 						+ getEntityName() + " may get deactivated.");
 				if (operator == null) 
 					// No operator, deactivate the air lock
 					deactivateAirlock();
 				else {
-					LogConsolidated.log(Level.INFO, 0, sourceName, "[" + operator.getLocationTag().getLocale() + "] "
+					LogConsolidated.log(Level.INFO, 0, sourceName, () -> "[" + operator.getLocationTag().getLocale() + "] "
 							+ operator + " stepped up and became the operator of the airlock in "
 							+ getEntityName());
 				}
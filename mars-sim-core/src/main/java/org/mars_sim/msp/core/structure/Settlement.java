@@ -66,6 +66,7 @@ import org.mars_sim.msp.core.person.ai.task.meta.MaintenanceEVAMeta;
 import org.mars_sim.msp.core.person.ai.task.meta.MaintenanceMeta;
 import org.mars_sim.msp.core.person.ai.task.meta.RepairEVAMalfunctionMeta;
 import org.mars_sim.msp.core.person.ai.task.meta.RepairMalfunctionMeta;
+import org.mars_sim.msp.core.person.ai.task.meta.SettlementTaskContext;
 import org.mars_sim.msp.core.person.health.RadiationExposure;
 import org.mars_sim.msp.core.resource.AmountResource;
 import org.mars_sim.msp.core.resource.ResourceUtil;
@@ -271,6 +272,9 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 	/** The settlement's goods manager. */
 	@JsonIgnore
 	protected GoodsManager goodsManager;
+	/** The facts shared by the meta tasks at this settlement during a tick. */
+	@JsonIgnore
+	private transient SettlementTaskContext taskContext;
 	/** The settlement's construction manager. */
 	@JsonIgnore
 	protected ConstructionManager constructionManager;
@@ -643,7 +647,11 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 		// TODO: need to factor in those inside a vehicle parked inside a garage 
 		
 		int n = 0;
-		Iterator<Unit> i = getInventory().getAllContainedUnits().iterator();
+		Collection<Unit> units = getInventory().getAllContainedUnits();
+		if (units == null)
+			// A new settlement with no units stored yet
+			return 0;
+		Iterator<Unit> i = units.iterator();
 		while (i.hasNext()) {
 			if (i.next() instanceof Person)
 				n++;
@@ -861,7 +869,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 			double p = getAirPressure();
 			if (p > PhysicalCondition.MAXIMUM_AIR_PRESSURE || p < Settlement.minimum_air_pressure) {
 				LogConsolidated.log(Level.SEVERE, 10_000, sourceName,
-						"[" + this.getName() + "] out-of-range overall air pressure at " + Math.round(p * 10D) / 10D 
+						() -> "[" + this.getName() + "] out-of-range overall air pressure at " + Math.round(p * 10D) / 10D 
 						+ " kPa detected.");
 				return false;
 			}
@@ -870,7 +878,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 			if (t < life_support_value[0][4] - SAFE_TEMPERATURE_RANGE
 					|| t > life_support_value[1][4] + SAFE_TEMPERATURE_RANGE) {
 				LogConsolidated.log(Level.SEVERE, 10_000, sourceName,
-						"[" + this.getName() + "] out-of-range overall temperature at " + Math.round(t * 10D) / 10D 
+						() -> "[" + this.getName() + "] out-of-range overall temperature at " + Math.round(t * 10D) / 10D 
 						+ " " + Msg.getString("temperature.sign.degreeCelsius") + " detected.");
 				return false;
 			}
@@ -924,7 +932,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 			 
 		} catch (Exception e) {
 			LogConsolidated.log(Level.SEVERE, 5000, sourceName,
-					name + " - Error in providing O2/removing CO2: ", e);
+					() -> name + " - Error in providing O2/removing CO2: ", e);
 		}
 
 		return oxygenTaken;
@@ -952,7 +960,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 			}
 		} catch (Exception e) {
 			LogConsolidated.log(Level.SEVERE, 5000, sourceName,
-					name + " - Error in providing H2O needs: ", e);
+					() -> name + " - Error in providing H2O needs: ", e);
 		}
 
 		return waterTaken;
@@ -1087,13 +1095,13 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 //		double buildingScore = constructBuildingMeta.getProbability(this);
 		
 		LogConsolidated.log(Level.INFO, 0, sourceName,
-				"[" + name + "] MaintenanceMeta Task score : "+  Math.round(maintScore*10.0)/10.0 + ".");
+				() -> "[" + name + "] MaintenanceMeta Task score : "+  Math.round(maintScore*10.0)/10.0 + ".");
 		LogConsolidated.log(Level.INFO,0, sourceName,
-				"[" + name + "] MaintenanceEVAMeta Task score : "+  Math.round(maintEVAScore*10.0)/10.0 + ".");
+				() -> "[" + name + "] MaintenanceEVAMeta Task score : "+  Math.round(maintEVAScore*10.0)/10.0 + ".");
 		LogConsolidated.log(Level.INFO, 0, sourceName,
-				"[" + name + "] RepairMalfunctionMeta Task score : "+  Math.round(repairScore*10.0)/10.0 + ".");
+				() -> "[" + name + "] RepairMalfunctionMeta Task score : "+  Math.round(repairScore*10.0)/10.0 + ".");
 		LogConsolidated.log(Level.INFO,0, sourceName,
-				"[" + name + "] RepairEVAMalfunctionMeta Task score : "+  Math.round(repairEVAScore*10.0)/10.0 + ".");
+				() -> "[" + name + "] RepairEVAMalfunctionMeta Task score : "+  Math.round(repairEVAScore*10.0)/10.0 + ".");
 //		LogConsolidated.log(Level.INFO,0, sourceName,
 //				"[" + name + "] ConstructBuildingMeta Task score : "+  Math.round(buildingScore*10.0)/10.0 + ".");
 		
@@ -1108,11 +1116,11 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 		double iceScore = collectIceMeta.getProbability(this);
 		
 		LogConsolidated.log(Level.INFO, 0, sourceName,
-				"[" + name + "] BuildingConstructionMissionMeta Task score : "+  Math.round(bConstScore*10.0)/10.0 + ".");
+				() -> "[" + name + "] BuildingConstructionMissionMeta Task score : "+  Math.round(bConstScore*10.0)/10.0 + ".");
 		LogConsolidated.log(Level.INFO, 0, sourceName,
-				"[" + name + "] CollectRegolithMeta Task score : "+  Math.round(regolithScore*10.0)/10.0 + ".");
+				() -> "[" + name + "] CollectRegolithMeta Task score : "+  Math.round(regolithScore*10.0)/10.0 + ".");
 		LogConsolidated.log(Level.INFO, 0, sourceName,
-				"[" + name + "] CollectIceMeta Task score : "+  Math.round(iceScore*10.0)/10.0 + ".");
+				() -> "[" + name + "] CollectIceMeta Task score : "+  Math.round(iceScore*10.0)/10.0 + ".");
 	}
 	/**
 	 * Perform time-related processes
@@ -1806,6 +1814,17 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 		return goodsManager;
 	}
 
+	/**
+	 * Gets the facts shared by the meta tasks at the settlement.
+	 *
+	 * @return task context
+	 */
+	public SettlementTaskContext getTaskContext() {
+		if (taskContext == null)
+			taskContext = new SettlementTaskContext(this);
+		return taskContext;
+	}
+
 	/**
 	 * Gets the closest available airlock to a person.
 	 *
@@ -3271,7 +3290,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 		if (RandomUtil.lessThanRandPercent(chance1)) {
 			exposed[1] = true;
 			LogConsolidated.log(Level.INFO, 1_000, sourceName,
-					"[" + name + DETECTOR_GRID + UnitEventType.GCR_EVENT.toString() + " is imminent.");
+					() -> "[" + name + DETECTOR_GRID + UnitEventType.GCR_EVENT.toString() + " is imminent.");
 			this.fireUnitUpdate(UnitEventType.GCR_EVENT);
 		} else
 			exposed[1] = false;
@@ -3281,7 +3300,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportTy
 		if (RandomUtil.lessThanRandPercent(chance2)) {
 			exposed[2] = true;
 			LogConsolidated.log(Level.INFO, 1_000, sourceName,
-					"[" + name + DETECTOR_GRID + UnitEventType.SEP_EVENT.toString() + " is imminent.");
+					() -> "[" + name + DETECTOR_GRID + UnitEventType.SEP_EVENT.toString() + " is imminent.");
 			this.fireUnitUpdate(UnitEventType.SEP_EVENT);
 		} else
 			exposed[2] = false;
@@ -91,8 +91,8 @@ public class Building extends Structure implements Malfunctionable, Indoor, // C
 	// default logger.
 	private static Logger logger = Logger.getLogger(Building.class.getName());
 
-	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
-			logger.getName().length());
+	/** The messages of the meteorite impacts. */
+	private static final LogConsolidated.Site impactLog = LogConsolidated.site(logger, 0);
 	
 	public static String TYPE = SystemType.BUILDING.getName();
 	
@@ -464,6 +464,12 @@ public class Building extends Structure implements Malfunctionable, Indoor, // C
 		super("Mock Building", new Coordinates(0D, 0D));
 		// Place it in a settlement
 //		enter(LocationCodeType.SETTLEMENT);
+		if (manager != null) {
+			this.manager = manager;
+			this.settlement = manager.getSettlement();
+			if (settlement != null)
+				inv = settlement.getInventory();
+		}
 	}
 
 	/**
@@ -892,8 +898,8 @@ public class Building extends Structure implements Malfunctionable, Indoor, // C
 	public void removeFunction(Function function) {
 		if (functions.contains(function)) {
 			functions.remove(function);
-			// Call removeOneFunctionfromBFMap()
-			manager.removeOneFunctionfromBFMap(this, function);
+			// Update the function index of the settlement
+			manager.removeFunction(this, function);
 		}
 	}
 
@@ -1395,8 +1401,8 @@ public class Building extends Structure implements Malfunctionable, Indoor, // C
 			// need to set up detection of the impactTimeInMillisol with a +/- 3 range.
 			int delta = (int) Math.sqrt(Math.sqrt(masterClock.getTimeRatio()));
 			if (now > moment_of_impact - 2 * delta && now < moment_of_impact + 2 * delta) {
-				LogConsolidated.log(logger, Level.WARNING, 0, sourceName,
-						"[" + settlement + "] A meteorite impact over " + nickName + " is imminent.", null);
+				impactLog.log(Level.WARNING,
+						() -> "[" + settlement + "] A meteorite impact over " + nickName + " is imminent.");
 				// reset the boolean immmediately. This is for keeping track of whether the
 				// impact has occurred at msols
 				isImpactImminent = false;
@@ -14,7 +14,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -28,6 +27,7 @@ import org.mars_sim.msp.core.Unit;
 import org.mars_sim.msp.core.UnitEventType;
 import org.mars_sim.msp.core.events.HistoricalEventManager;
 import org.mars_sim.msp.core.interplanetary.transport.resupply.Resupply;
+import org.mars_sim.msp.core.malfunction.Malfunctionable;
 import org.mars_sim.msp.core.mars.Meteorite;
 import org.mars_sim.msp.core.mars.MeteoriteModule;
 import org.mars_sim.msp.core.person.Person;
@@ -73,6 +73,7 @@ import org.mars_sim.msp.core.structure.construction.ConstructionSite;
 import org.mars_sim.msp.core.structure.construction.ConstructionStageInfo;
 import org.mars_sim.msp.core.structure.construction.ConstructionUtil;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 import org.mars_sim.msp.core.time.MasterClock;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.GroundVehicle;
@@ -104,7 +105,7 @@ public class BuildingManager implements Serializable {
 	private double wallPenetrationThicknessAL;
 
 	private Settlement settlement;
-	private MarsClock lastBuildingValuesUpdateTime;
+	private MarsTime lastBuildingValuesUpdate;
 
 	private Resupply resupply;
 	private Meteorite meteorite;
@@ -112,7 +113,8 @@ public class BuildingManager implements Serializable {
 	private List<Building> buildings, farmsNeedingWorkCache, buildingsNickNames;
 	private Map<String, Double> buildingValuesNewCache;
 	private Map<String, Double> buildingValuesOldCache;
-	private Map<FunctionType, List<Building>> buildingFunctionsMap;
+	/** The buildings indexed by function. */
+	private transient BuildingRegistry registry;
 	private Map<String, Integer> buildingTypeIDMap;
 
 
@@ -158,6 +160,7 @@ public class BuildingManager implements Serializable {
 
 		// Construct all buildings in the settlement.
 		buildings = new ArrayList<Building>();
+		registry = new BuildingRegistry(buildings);
 		if (buildingTemplates != null) {
 			Iterator<BuildingTemplate> i = buildingTemplates.iterator();
 			while (i.hasNext()) {
@@ -173,8 +176,6 @@ public class BuildingManager implements Serializable {
 			createBuildingTypeIDMap(b);
 		}
 
-		setupBuildingFunctionsMap();
-
 		numBuildings = getNumBuilding();
 
 		// Initialize building value caches.
@@ -206,27 +207,36 @@ public class BuildingManager implements Serializable {
 
 		// Construct all buildings in the settlement.
 		buildings = new ArrayList<Building>();
-
-		// setupBuildingFunctionsMap();
-
-		buildingFunctionsMap = new ConcurrentHashMap<FunctionType, List<Building>>(); // HashMap<>();
+		registry = new BuildingRegistry(buildings);
 
 		// Initialize building value caches.
 		buildingValuesNewCache = new HashMap<String, Double>();
 		buildingValuesOldCache = new HashMap<String, Double>();
 	}
 
-	public void setupBuildingFunctionsMap() {
-		buildingFunctionsMap = new ConcurrentHashMap<FunctionType, List<Building>>(); // HashMap<>();
-		List<FunctionType> functions = buildingConfig.getBuildingFunctions();
-		for (FunctionType f : functions) {
-			List<Building> l = new ArrayList<Building>();
-			for (Building b : buildings) {
-				if (b.hasFunction(f))
-					l.add(b);
+	/**
+	 * Gets the building registry, created again after loading a saved simulation.
+	 * 
+	 * @return the registry.
+	 */
+	private BuildingRegistry getRegistry() {
+		BuildingRegistry result = registry;
+		if (result == null) {
+			synchronized (this) {
+				if (registry == null)
+					registry = new BuildingRegistry(buildings);
+				result = registry;
 			}
-			buildingFunctionsMap.put(f, l);
 		}
+		return result;
+	}
+
+	/**
+	 * Indexes the buildings by function again, e.g. after functions were added to
+	 * a building already in the settlement.
+	 */
+	public void setupBuildingFunctionsMap() {
+		getRegistry().invalidate();
 	}
 
 	/**
@@ -236,81 +246,26 @@ public class BuildingManager implements Serializable {
 	 */
 	public void removeBuilding(Building oldBuilding) {
 
-		if (buildings.contains(oldBuilding)) {
+		if (containsBuilding(oldBuilding)) {
 			// Remove building connections (hatches) to old building.
 			settlement.getBuildingConnectorManager().removeAllConnectionsToBuilding(oldBuilding);
 			// Remove the building's functions from the settlement.
 			oldBuilding.removeFunctionsFromSettlement();
 
-			buildings.remove(oldBuilding);
-
-			// Call to remove all references of this building in all functions
-			removeAllFunctionsfromBFMap(oldBuilding);
+			getRegistry().remove(oldBuilding);
 
 			settlement.fireUnitUpdate(UnitEventType.REMOVE_BUILDING_EVENT, oldBuilding);
 		}
 	}
 
 	/**
-	 * Removes all references of this building in all functions in
-	 * buildingFunctionsMap
-	 * 
-	 * @param oldBuilding
-	 */
-	public void removeAllFunctionsfromBFMap(Building oldBuilding) {
-		if (buildingFunctionsMap != null) {
-			// use this only after buildingFunctionsMap has been created
-			for (FunctionType f : buildingConfig.getBuildingFunctions()) {
-				// if this building has this function
-				if (oldBuilding.hasFunction(f)) {
-					List<Building> list = buildingFunctionsMap.get(f);
-					if (!list.contains(oldBuilding))
-						list.remove(oldBuilding);
-				}
-			}
-		}
-	}
-
-	/**
-	 * Removes the reference of this building for a functions in
-	 * buildingFunctionsMap
+	 * Updates the function index after a building lost a function.
 	 * 
-	 * @param a building
-	 * @param a function
-	 */
-	public void removeOneFunctionfromBFMap(Building b, Function f) {
-		if (buildingFunctionsMap != null) {
-			FunctionType ft = f.getFunctionType();
-			List<Building> list = buildingFunctionsMap.get(ft);
-			if (!list.contains(b))
-				list.remove(b);
-		}
-	}
-
-	/**
-	 * Add references of this building in all functions in buildingFunctionsMap
-	 * 
-	 * @param oldBuilding
-	 */
-	public void addAllFunctionstoBFMap(Building newBuilding) {
-		if (buildingFunctionsMap != null) {
-			// use this only after buildingFunctionsMap has been created
-			for (FunctionType f : buildingConfig.getBuildingFunctions()) {
-				// if this building has this function
-				if (newBuilding.hasFunction(f)) {
-					List<Building> list = null;
-					if (buildingFunctionsMap.containsKey(f)) {
-						list = buildingFunctionsMap.get(f);
-						if (!list.contains(newBuilding))
-							list.add(newBuilding);
-					} else {
-						list = new ArrayList<>();
-						list.add(newBuilding);
-						buildingFunctionsMap.put(f, list);
-					}
-				}
-			}
-		}
+	 * @param b the building.
+	 * @param f the function removed.
+	 */
+	public void removeFunction(Building b, Function f) {
+		getRegistry().invalidate();
 	}
 
 	/**
@@ -321,15 +276,12 @@ public class BuildingManager implements Serializable {
 	 *                                  connections.
 	 */
 	public void addBuilding(Building newBuilding, boolean createBuildingConnections) {
-		if (!buildings.contains(newBuilding)) {
+		if (getRegistry().add(newBuilding)) {
 
-			buildings.add(newBuilding);
 			// Add tracking air composition
 			if (settlement.getCompositionOfAir() != null)
 				settlement.getCompositionOfAir().addAirNew(newBuilding);
-			// Insert this new building into buildingFunctionsMap
-			addAllFunctionstoBFMap(newBuilding);
-			
+
 			settlement.fireUnitUpdate(UnitEventType.ADD_BUILDING_EVENT, newBuilding);
 			// Create new building connections if needed.
 			if (createBuildingConnections) {
@@ -381,16 +333,17 @@ public class BuildingManager implements Serializable {
 	 * @return collection of buildings
 	 */
 	public List<Building> getACopyOfBuildings() {
-		return new ArrayList<Building>(buildings);
+		return new ArrayList<Building>(getBuildings());
 	}
 
 	/**
-	 * Gets a collection of buildings.
+	 * Gets a collection of buildings. The list is an immutable snapshot ; use
+	 * {@link #getACopyOfBuildings()} to get a list that may be modified.
 	 * 
 	 * @return collection of buildings
 	 */
 	public List<Building> getBuildings() {
-		return buildings;
+		return getRegistry().getBuildings();
 	}
 
 	/**
@@ -399,7 +352,7 @@ public class BuildingManager implements Serializable {
 	 * @return collection of buildings
 	 */
 	public List<Building> getSortedBuildings() {
-		return buildings.stream().sorted(new AlphanumComparator()).collect(Collectors.toList());
+		return getBuildings().stream().sorted(new AlphanumComparator()).collect(Collectors.toList());
 	}
 
 	/**
@@ -509,7 +462,7 @@ public class BuildingManager implements Serializable {
 	 * @return true if settlement contains building.
 	 */
 	public boolean containsBuilding(Building building) {
-		return buildings.contains(building);
+		return getBuildings().contains(building);
 	}
 
 	/**
@@ -529,7 +482,7 @@ public class BuildingManager implements Serializable {
 		// Note: the version below can pass junit test.
 		Building result = null;
 
-		Iterator<Building> i = buildings.iterator();
+		Iterator<Building> i = getBuildings().iterator();
 		while (i.hasNext()) {
 			Building b = i.next();
 			if (b.getTemplateID() == id) {
@@ -551,55 +504,41 @@ public class BuildingManager implements Serializable {
 	 * @return list of buildings.
 	 */
 	public List<Building> getSortedBuildings(FunctionType bf) {
-
-		if (buildingFunctionsMap.containsKey(bf)) {
-			return buildingFunctionsMap.get(bf).stream().sorted(new AlphanumComparator()).collect(Collectors.toList());
-
-		}
-
-		else {
-			List<Building> list = buildings.stream().filter(b -> b.hasFunction(bf)).sorted(new AlphanumComparator())
-					.collect(Collectors.toList());
-
-			buildingFunctionsMap.put(bf, list);
-			logger.info(bf + " was not found in buildingFunctionsMap yet. Just added.");
-
-			return list;
-		}
-
+		return getBuildings(bf).stream().sorted(new AlphanumComparator()).collect(Collectors.toList());
 	}
 
 	/**
-	 * Gets the buildings in a settlement that has a given function.
+	 * Gets the buildings in a settlement that has a given function. The list is
+	 * an immutable snapshot shared by all callers.
 	 * 
 	 * @param building function {@link FunctionType} the function of the building.
 	 * @return list of buildings.
 	 */
 	public List<Building> getBuildings(FunctionType bf) {
-		if (buildingFunctionsMap.containsKey(bf)) {
-			return buildingFunctionsMap.get(bf);
-		}
-
-		else {
-			List<Building> list = buildings.stream().filter(b -> b.hasFunction(bf)).collect(Collectors.toList());
-
-			buildingFunctionsMap.put(bf, list);
-			logger.info(bf + " was not found in buildingFunctionsMap yet. Just added.");
-
-			return list;
-		}
-
+		return getRegistry().getBuildings(bf);
 	}
 
 	/**
-	 * Gets the buildings in a settlement have have all of a given array of
-	 * functions.
+	 * Gets the buildings in a settlement that have both of the given functions.
+	 * The list is an immutable snapshot shared by all callers.
 	 * 
-	 * @param functions the array of required functions {@link BuildingFunctions}.
+	 * @param f1 a function {@link FunctionType}.
+	 * @param f2 another function {@link FunctionType}.
 	 * @return list of buildings.
 	 */
 	public List<Building> getBuildings(FunctionType f1, FunctionType f2) {
-		return buildings.stream().filter(b -> b.hasFunction(f1) && b.hasFunction(f2)).collect(Collectors.toList());
+		return getRegistry().getBuildings(f1, f2);
+	}
+
+	/**
+	 * Gets the buildings of the settlement and the malfunctionable units stored in
+	 * it. The list is an immutable snapshot kept until the buildings or the stored
+	 * units change.
+	 * 
+	 * @return list of malfunctionables.
+	 */
+	public List<Malfunctionable> getMalfunctionables() {
+		return getRegistry().getMalfunctionables(settlement.getInventory());
 	}
 
 	/**
@@ -612,7 +551,7 @@ public class BuildingManager implements Serializable {
 	public List<Building> getBuildingsOfSameType(String buildingType) {
 		// Called by Resupply.java and BuildingConstructionMission.java
 		// for putting new building next to the same building "type".
-		return buildings.stream().filter(b -> b.getBuildingType().equalsIgnoreCase(buildingType))
+		return getBuildings().stream().filter(b -> b.getBuildingType().equalsIgnoreCase(buildingType))
 				.collect(Collectors.toList());
 	}
 
@@ -655,7 +594,7 @@ public class BuildingManager implements Serializable {
 
 		numBuildings = countBuildingNum();
 
-		for (Building b : buildings) {
+		for (Building b : getBuildings()) {
 			b.timePassing(time);
 		}
 	}
@@ -698,7 +637,7 @@ public class BuildingManager implements Serializable {
 		
 		else {
 			LogConsolidated.log(Level.WARNING, 2000, sourceName,
-					"[" + p.getLocationTag().getLocale() + "] No medical facility available for "
+					() -> "[" + p.getLocationTag().getLocale() + "] No medical facility available for "
 							+ p.getName() + ". Go to a random building.");
 			addToRandomBuilding(p, settlement);
 		}
@@ -726,9 +665,10 @@ public class BuildingManager implements Serializable {
 			} else {
 				// throw new IllegalStateException("No inhabitable buildings available for " +
 				// person.getName());
+				Person p = person;
 				LogConsolidated.log(Level.WARNING, 2000, sourceName,
-						"[" + person.getLocationTag().getLocale() + "] No inhabitable buildings available for "
-								+ person.getName());
+						() -> "[" + p.getLocationTag().getLocale() + "] No inhabitable buildings available for "
+								+ p.getName());
 			}
 
 		}
@@ -857,7 +797,7 @@ public class BuildingManager implements Serializable {
 			}
 			else { 
 				LogConsolidated.log(Level.INFO, 1000, sourceName,
-					"[" + settlement.getName() + "] " + vehicle.getName() + " already garaged in " + getBuilding(vehicle, settlement));
+					() -> "[" + settlement.getName() + "] " + vehicle.getName() + " already garaged in " + getBuilding(vehicle, settlement));
 			}
 			return true;
 		}
@@ -878,7 +818,7 @@ public class BuildingManager implements Serializable {
 //				vehicle.enter(LocationCodeType.BUILDING);
 				settlement.getInventory().storeUnit(vehicle);
 				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + settlement.getName() + "] " +  vehicle.getName() + " has just been stowed inside " + getBuilding(vehicle, settlement));
+						() -> "[" + settlement.getName() + "] " +  vehicle.getName() + " has just been stowed inside " + getBuilding(vehicle, settlement));
 				vehicle.setStatus(StatusType.GARAGED);
 			}
 			return true;
@@ -913,7 +853,7 @@ public class BuildingManager implements Serializable {
 				} catch (Exception e) {
 //					logger.log(Level.SEVERE, "Calling getBuilding(vehicle): " + e.getMessage());
 					LogConsolidated.log(Level.SEVERE, 2000, sourceName,
-							"[" + vehicle.getLocationTag().getLocale() + "] "
+							() -> "[" + vehicle.getLocationTag().getLocale() + "] "
 									+ vehicle.getName() + " is not in a building.", e);
 				}
 			}
@@ -940,7 +880,7 @@ public class BuildingManager implements Serializable {
 				} catch (Exception e) {
 //					logger.log(Level.SEVERE, "Calling getBuilding(vehicle, settlement) : " + e.getMessage());
 					LogConsolidated.log(Level.SEVERE, 2000, sourceName,
-							"[" + vehicle.getLocationTag().getLocale() + "] "
+							() -> "[" + vehicle.getLocationTag().getLocale() + "] "
 									+ vehicle.getName() + " is not in a building.", e);
 				}
 			}
@@ -1042,7 +982,7 @@ public class BuildingManager implements Serializable {
 	 */
 	public Building getBuildingAtPosition(double xLoc, double yLoc) {
 		// Use Java 8 stream
-		return buildings.stream().filter(b -> LocalAreaUtil.checkLocationWithinLocalBoundedObject(xLoc, yLoc, b))
+		return getBuildings().stream().filter(b -> LocalAreaUtil.checkLocationWithinLocalBoundedObject(xLoc, yLoc, b))
 				.findFirst().orElse(null);// get();
 //        Building result = null;
 //        //for (Building building : buildings) {
@@ -1347,7 +1287,7 @@ public class BuildingManager implements Serializable {
 //				throw new IllegalStateException(
 //						"BuildingManager.addPersonOrRobotToBuildingSameLocation(): " + e.getMessage());
 				LogConsolidated.log(Level.SEVERE, 2000, sourceName,
-						"[" + unit.getLocationTag().getLocale() + "] "
+						() -> "[" + unit.getLocationTag().getLocale() + "] "
 								+ unit.getName() + " could not be added to " + building.getNickName(), e);
 			}
 		}
@@ -1401,7 +1341,7 @@ public class BuildingManager implements Serializable {
 			} catch (Exception e) {
 //				throw new IllegalStateException("BuildingManager.addPersonOrRobotToBuilding(): " + e.getMessage());
 				LogConsolidated.log(Level.SEVERE, 2000, sourceName,
-						"[" + unit.getLocationTag().getLocale() + "] "
+						() -> "[" + unit.getLocationTag().getLocale() + "] "
 								+ unit.getName() + " could not be added to " + building.getNickName(), e);
 			}
 		} else {
@@ -1457,7 +1397,7 @@ public class BuildingManager implements Serializable {
 //				throw new IllegalStateException(
 //						"BuildingManager.addPersonOrRobotToBuildingRandomLocation(): " + e.getMessage());
 				LogConsolidated.log(Level.SEVERE, 2000, sourceName,
-						"[" + unit.getLocationTag().getLocale() + "] "
+						() -> "[" + unit.getLocationTag().getLocale() + "] "
 								+ unit.getName() + " could not be added to " + building.getNickName(), e);
 			}
 		} else {
@@ -1500,7 +1440,7 @@ public class BuildingManager implements Serializable {
 			} catch (Exception e) {
 //				throw new IllegalStateException("BuildingManager.removePersonOrRobotFromBuilding(): " + e.getMessage());
 				LogConsolidated.log(Level.SEVERE, 2000, sourceName,
-						"[" + unit.getLocationTag().getLocale() + "] "
+						() -> "[" + unit.getLocationTag().getLocale() + "] "
 								+ unit.getName() + " could not be removed from " + building.getNickName(), e);
 			}
 		} else {
@@ -1525,11 +1465,11 @@ public class BuildingManager implements Serializable {
 		// Update building values cache once per Sol.
 		// MarsClock currentTime =
 		// Simulation.instance().getMasterClock().getMarsClock(); ?
-		if ((lastBuildingValuesUpdateTime == null)
-				|| (MarsClock.getTimeDiff(marsClock, lastBuildingValuesUpdateTime) > 1000D)) {
+		if ((lastBuildingValuesUpdate == null)
+				|| (marsClock.getTimeDiff(lastBuildingValuesUpdate) > 1000D)) {
 			buildingValuesNewCache.clear();
 			buildingValuesOldCache.clear();
-			lastBuildingValuesUpdateTime = (MarsClock) marsClock.clone();
+			lastBuildingValuesUpdate = marsClock.getTime();
 		}
 
 		if (newBuilding && buildingValuesNewCache.containsKey(buildingType)) {
@@ -1748,7 +1688,7 @@ public class BuildingManager implements Serializable {
 	 */
 	public Building getInhabitableBuilding(int id) {
 		// Use Java 8 stream
-		return buildings.stream().filter(b -> b.getInhabitableID() == id).findFirst().orElse(null);// .get();
+		return getBuildings().stream().filter(b -> b.getInhabitableID() == id).findFirst().orElse(null);// .get();
 //    	Building result = null;
 //        Iterator<Building> i = buildings.iterator();
 //        while (i.hasNext()) {
@@ -1790,7 +1730,7 @@ public class BuildingManager implements Serializable {
 	public int getNextInhabitableID() {
 
 		int max = -1;
-		for (Building b : buildings) {
+		for (Building b : getBuildings()) {
 			if (b.hasFunction(FunctionType.LIFE_SUPPORT)) {
 				int id = b.getInhabitableID();
 				max = Math.max(id, max);
@@ -1809,7 +1749,7 @@ public class BuildingManager implements Serializable {
 	public int getLargestInhabitableID() {
 
 		int max = -1;
-		for (Building b : buildings) {
+		for (Building b : getBuildings()) {
 			if (b.hasFunction(FunctionType.LIFE_SUPPORT)) {
 				int id = b.getInhabitableID();
 				max = Math.max(id, max);
@@ -1988,12 +1928,13 @@ public class BuildingManager implements Serializable {
 		}
 		// buildings.clear();
 		buildings = null;
+		registry = null;
 		settlement = null;
 		// buildingValuesNewCache.clear();
 		buildingValuesNewCache = null;
 		// buildingValuesOldCache.clear();
 		buildingValuesOldCache = null;
-		lastBuildingValuesUpdateTime = null;
+		lastBuildingValuesUpdate = null;
 		resupply = null;
 		meteorite = null;
 		marsClock = null;
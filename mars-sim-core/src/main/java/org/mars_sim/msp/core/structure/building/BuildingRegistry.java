@@ -0,0 +1,213 @@
+/**
+ * Mars Simulation Project
+ * BuildingRegistry.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core.structure.building;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.mars_sim.msp.core.Inventory;
+import org.mars_sim.msp.core.Unit;
+import org.mars_sim.msp.core.malfunction.Malfunctionable;
+import org.mars_sim.msp.core.structure.building.function.Function;
+import org.mars_sim.msp.core.structure.building.function.FunctionType;
+
+/**
+ * The BuildingRegistry holds the buildings of a settlement and indexes them by
+ * function. It hands out immutable snapshots that callers share without copying.
+ * Adding or removing a building, or a function of a building, discards the
+ * current snapshot and the next read builds a new one. A caller holding a
+ * snapshot keeps seeing the buildings as they were.
+ */
+class BuildingRegistry {
+
+	private static final List<Building> NONE = Collections.emptyList();
+
+	/** The buildings, owned by the building manager. */
+	private final List<Building> buildings;
+
+	/** The current snapshot or null if it has to be built again. */
+	private volatile Snapshot snapshot;
+	/** The malfunctionables of the settlement. */
+	private volatile Malfunctionables malfunctionables;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param buildings the list of buildings of the building manager.
+	 */
+	BuildingRegistry(List<Building> buildings) {
+		this.buildings = buildings;
+	}
+
+	/**
+	 * Adds a building.
+	 *
+	 * @param building the building.
+	 * @return true if added, false if already there.
+	 */
+	synchronized boolean add(Building building) {
+		if (buildings.contains(building))
+			return false;
+		buildings.add(building);
+		snapshot = null;
+		return true;
+	}
+
+	/**
+	 * Removes a building.
+	 *
+	 * @param building the building.
+	 * @return true if removed, false if not there.
+	 */
+	synchronized boolean remove(Building building) {
+		if (!buildings.remove(building))
+			return false;
+		snapshot = null;
+		return true;
+	}
+
+	/**
+	 * Discards the snapshot, e.g. after a building lost a function.
+	 */
+	synchronized void invalidate() {
+		snapshot = null;
+	}
+
+	/**
+	 * Gets the current snapshot, building it if needed.
+	 *
+	 * @return the snapshot.
+	 */
+	private Snapshot getSnapshot() {
+		Snapshot result = snapshot;
+		if (result == null) {
+			synchronized (this) {
+				result = snapshot;
+				if (result == null) {
+					result = new Snapshot(buildings.toArray(new Building[buildings.size()]));
+					snapshot = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets all the buildings.
+	 *
+	 * @return immutable list of buildings.
+	 */
+	List<Building> getBuildings() {
+		return getSnapshot().all;
+	}
+
+	/**
+	 * Gets the buildings having a function.
+	 *
+	 * @param function the function.
+	 * @return immutable list of buildings.
+	 */
+	List<Building> getBuildings(FunctionType function) {
+		List<Building> result = getSnapshot().byFunction.get(function);
+		return (result != null) ? result : NONE;
+	}
+
+	/**
+	 * Gets the buildings having both functions.
+	 *
+	 * @param f1 a function.
+	 * @param f2 another function.
+	 * @return immutable list of buildings.
+	 */
+	List<Building> getBuildings(FunctionType f1, FunctionType f2) {
+		Snapshot s = getSnapshot();
+		int key = f1.ordinal() * FunctionType.values().length + f2.ordinal();
+		return s.byFunctions.computeIfAbsent(key, k -> {
+			List<Building> list = new ArrayList<>();
+			for (Building b : getBuildings(f1)) {
+				if (b.hasFunction(f2))
+					list.add(b);
+			}
+			return list.isEmpty() ? NONE : Collections.unmodifiableList(list);
+		});
+	}
+
+	/**
+	 * Gets the buildings and the malfunctionable units stored in an inventory.
+	 * The list is kept until the buildings or the units stored change.
+	 *
+	 * @param inventory the inventory of the settlement.
+	 * @return immutable list of malfunctionables.
+	 */
+	List<Malfunctionable> getMalfunctionables(Inventory inventory) {
+		Snapshot s = getSnapshot();
+		int revision = inventory.getContainedUnitsRevision();
+		Malfunctionables result = malfunctionables;
+		if (result == null || result.snapshot != s || result.revision != revision) {
+			List<Malfunctionable> list = new ArrayList<Malfunctionable>(s.all);
+			for (Unit unit : inventory.getContainedUnits()) {
+				if (unit instanceof Malfunctionable && !list.contains(unit))
+					list.add((Malfunctionable) unit);
+			}
+			result = new Malfunctionables(s, revision, Collections.unmodifiableList(list));
+			malfunctionables = result;
+		}
+		return result.list;
+	}
+
+	/**
+	 * The buildings and their function index at some time.
+	 */
+	private static class Snapshot {
+
+		private final List<Building> all;
+		private final Map<FunctionType, List<Building>> byFunction = new EnumMap<>(FunctionType.class);
+		/** The buildings having two functions, filled on demand. */
+		private final Map<Integer, List<Building>> byFunctions = new ConcurrentHashMap<>();
+
+		Snapshot(Building[] buildings) {
+			all = Collections.unmodifiableList(Arrays.asList(buildings));
+
+			Map<FunctionType, List<Building>> lists = new EnumMap<>(FunctionType.class);
+			for (Building b : buildings) {
+				if (b.getFunctions() == null)
+					continue;
+				for (Function f : b.getFunctions()) {
+					List<Building> list = lists.computeIfAbsent(f.getFunctionType(), t -> new ArrayList<>());
+					if (!list.contains(b))
+						list.add(b);
+				}
+			}
+			for (Map.Entry<FunctionType, List<Building>> e : lists.entrySet()) {
+				List<Building> list = e.getValue();
+				Building[] array = list.toArray(new Building[list.size()]);
+				byFunction.put(e.getKey(), Collections.unmodifiableList(Arrays.asList(array)));
+			}
+		}
+	}
+
+	/**
+	 * The malfunctionables of a snapshot and a revision of the stored units.
+	 */
+	private static class Malfunctionables {
+
+		private final Snapshot snapshot;
+		private final int revision;
+		private final List<Malfunctionable> list;
+
+		Malfunctionables(Snapshot snapshot, int revision, List<Malfunctionable> list) {
+			this.snapshot = snapshot;
+			this.revision = revision;
+			this.list = list;
+		}
+	}
+}
@@ -9,11 +9,16 @@ package org.mars_sim.msp.core.structure.building.connection;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,8 +43,8 @@ public class BuildingConnectorManager implements Serializable {
 
 	private static Logger logger = Logger.getLogger(BuildingConnectorManager.class.getName());
 
-	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
-			logger.getName().length());
+	/** The rate-limited messages of the missing walking paths. */
+	private static final LogConsolidated.Site pathLog = LogConsolidated.site(logger, 10000);
 
 	/** Comparison to indicate a small but non-zero amount. */
 	private static final double SMALL_AMOUNT_COMPARISON = .0000001D;
@@ -66,6 +71,9 @@ public class BuildingConnectorManager implements Serializable {
 	private Settlement settlement;
 	private Set<BuildingConnector> buildingConnections;
 
+	/** The connector graph, built from the building connections when needed. */
+	private transient volatile ConnectorGraph connectorGraph;
+
 	/**
 	 * Constructor
 	 * 
@@ -213,6 +221,7 @@ public class BuildingConnectorManager implements Serializable {
 
 		if (!buildingConnections.contains(buildingConnector)) {
 			buildingConnections.add(buildingConnector);
+			invalidateConnectorGraph();
 		} else {
 			throw new IllegalArgumentException("BuildingConnector already exists.");
 		}
@@ -227,6 +236,7 @@ public class BuildingConnectorManager implements Serializable {
 
 		if (buildingConnections.contains(buildingConnector)) {
 			buildingConnections.remove(buildingConnector);
+			invalidateConnectorGraph();
 		} else {
 			throw new IllegalArgumentException("BuildingConnector does not exists.");
 		}
@@ -298,21 +308,92 @@ public class BuildingConnectorManager implements Serializable {
 	 */
 	public Set<BuildingConnector> getConnectionsToBuilding(Building building) {
 
-		Set<BuildingConnector> result = new HashSet<BuildingConnector>();
+		List<BuildingConnector> connectors = getConnectorGraph().connectors.get(building);
+		if (connectors == null) {
+			return new HashSet<BuildingConnector>();
+		}
 
-		Iterator<BuildingConnector> i = buildingConnections.iterator();
-		while (i.hasNext()) {
-			BuildingConnector connector = i.next();
-			if (building.equals(connector.getBuilding1()) || building.equals(connector.getBuilding2())) {
-				result.add(connector);
+		return new HashSet<BuildingConnector>(connectors);
+	}
+
+	/**
+	 * Clears the connector graph after the building connections have changed.
+	 */
+	private void invalidateConnectorGraph() {
+		connectorGraph = null;
+	}
+
+	/**
+	 * Gets the connector graph, building it again if the building connections have
+	 * changed.
+	 * 
+	 * @return connector graph.
+	 */
+	private ConnectorGraph getConnectorGraph() {
+		ConnectorGraph result = connectorGraph;
+		if (result == null) {
+			synchronized (this) {
+				result = connectorGraph;
+				if (result == null) {
+					Map<Building, List<BuildingConnector>> connectors = new HashMap<Building, List<BuildingConnector>>();
+					synchronized (buildingConnections) {
+						for (BuildingConnector connector : buildingConnections) {
+							connectors.computeIfAbsent(connector.getBuilding1(), b -> new ArrayList<>()).add(connector);
+							connectors.computeIfAbsent(connector.getBuilding2(), b -> new ArrayList<>()).add(connector);
+						}
+					}
+					result = new ConnectorGraph(connectors, createBuildingGroups(connectors));
+					connectorGraph = result;
+				}
 			}
 		}
+		return result;
+	}
 
-		// System.out.println("# of connectors for " + building.getNickName() + " : " +
-		// result.size());
+	/**
+	 * Finds the groups of buildings connected to each other.
+	 * 
+	 * @param graph the connectors to each building.
+	 * @return map of buildings and their group number.
+	 */
+	private static Map<Building, Integer> createBuildingGroups(Map<Building, List<BuildingConnector>> graph) {
+		Map<Building, Integer> result = new HashMap<Building, Integer>();
+		int group = 0;
+		Deque<Building> queue = new ArrayDeque<Building>();
+		for (Building building : graph.keySet()) {
+			if (!result.containsKey(building)) {
+				result.put(building, group);
+				queue.add(building);
+				while (!queue.isEmpty()) {
+					Building current = queue.poll();
+					for (BuildingConnector connector : graph.get(current)) {
+						Building next = getOtherBuilding(connector, current);
+						if (!result.containsKey(next)) {
+							result.put(next, group);
+							queue.add(next);
+						}
+					}
+				}
+				group++;
+			}
+		}
 		return result;
 	}
 
+	/**
+	 * Gets the building at the other end of a connector.
+	 * 
+	 * @param connector the building connector.
+	 * @param building  the building at one end.
+	 * @return the building at the other end.
+	 */
+	private static Building getOtherBuilding(BuildingConnector connector, Building building) {
+		if (connector.getBuilding1().equals(building)) {
+			return connector.getBuilding2();
+		}
+		return connector.getBuilding1();
+	}
+
 	/**
 	 * Checks if there is a valid interior walking path between two buildings.
 	 * 
@@ -328,14 +409,17 @@ public class BuildingConnectorManager implements Serializable {
 			throw new IllegalArgumentException("Building arguments cannot be null");
 		}
 
-		InsideBuildingPath validPath = determineShortestPath(building1, building1.getXLocation(),
-				building1.getYLocation(), building2, building2.getXLocation(), building2.getYLocation());
-
-		if (validPath != null) {
+		if (building1.equals(building2)) {
 			result = true;
-		} else if (logger.isLoggable(Level.FINEST)) {
-			LogConsolidated.log(logger, Level.FINEST, 10000, sourceName,
-					"Unable to find valid interior walking path between " + building1 + " and " + building2, null);
+		} else {
+			Map<Building, Integer> groups = getConnectorGraph().groups;
+			Integer group1 = groups.get(building1);
+			result = (group1 != null) && group1.equals(groups.get(building2));
+		}
+
+		if (!result && logger.isLoggable(Level.FINEST)) {
+			pathLog.log(Level.FINEST,
+					() -> "Unable to find valid interior walking path between " + building1 + " and " + building2);
 		}
 
 		return result;
@@ -368,7 +452,7 @@ public class BuildingConnectorManager implements Serializable {
 		InsideBuildingPath finalPath = null;
 		if (!building1.equals(building2)) {
 			// Check shortest path to target building from this building.
-			finalPath = determineShortestPath(startingPath, building1, building2, endingLocation);
+			finalPath = determineShortestPath(startingPath, startingLocation, endingLocation);
 		} else {
 			finalPath = startingPath;
 			finalPath.addPathLocation(endingLocation);
@@ -383,90 +467,131 @@ public class BuildingConnectorManager implements Serializable {
 	}
 
 	/**
-	 * Recursive method to determine the shortest path between two buildings.
+	 * Determines the shortest path between two buildings with Dijkstra's algorithm
+	 * over the connector graph. A path goes from the starting location through the
+	 * connectors, crossing each building in between through its center, to the
+	 * ending location.
 	 * 
-	 * @param existingPath    the current path.
-	 * @param currentBuilding the current building.
-	 * @param targetBuilding  the target building.
-	 * @param endingLocation  the end building location.
+	 * @param startingPath     the path holding the starting location.
+	 * @param startingLocation the starting location.
+	 * @param endingLocation   the ending location.
 	 * @return shortest path or null if none found.
 	 */
-	private InsideBuildingPath determineShortestPath(InsideBuildingPath existingPath, Building currentBuilding,
-			Building targetBuilding, BuildingLocation endingLocation) {
-
-		InsideBuildingPath result = null;
-
-		// Try each building connection from current building.
-		Iterator<BuildingConnector> i = getConnectionsToBuilding(currentBuilding).iterator();
-		while (i.hasNext()) {
-			BuildingConnector connector = i.next();
-
-			Building connectionBuilding = null;
-			Hatch nearHatch = null;
-			Hatch farHatch = null;
-			if (connector.getBuilding1().equals(currentBuilding)) {
-				connectionBuilding = connector.getBuilding2();
-				nearHatch = connector.getHatch1();
-				farHatch = connector.getHatch2();
-			} else {
-				connectionBuilding = connector.getBuilding1();
-				nearHatch = connector.getHatch2();
-				farHatch = connector.getHatch1();
-			}
-
-			// Make sure building or connection is not already in existing path.
-			boolean inExistingPath = false;
-			if (existingPath.containsPathLocation(connectionBuilding)) {
-				inExistingPath = true;
-			}
-			if (existingPath.containsPathLocation(connector)) {
-				inExistingPath = true;
-			}
-			if (existingPath.containsPathLocation(nearHatch)) {
-				inExistingPath = true;
+	private InsideBuildingPath determineShortestPath(InsideBuildingPath startingPath,
+			BuildingLocation startingLocation, BuildingLocation endingLocation) {
+
+		Building startBuilding = startingLocation.getBuilding();
+		Building targetBuilding = endingLocation.getBuilding();
+		if (!hasValidPath(startBuilding, targetBuilding)) {
+			return null;
+		}
+
+		Map<Building, List<BuildingConnector>> graph = getConnectorGraph().connectors;
+		Map<Building, Double> distances = new HashMap<Building, Double>();
+		Map<Building, BuildingConnector> previousConnectors = new HashMap<Building, BuildingConnector>();
+		PriorityQueue<RouteNode> queue = new PriorityQueue<RouteNode>();
+		distances.put(startBuilding, 0D);
+		queue.add(new RouteNode(startBuilding, 0D));
+
+		while (!queue.isEmpty()) {
+			RouteNode node = queue.poll();
+			Building current = node.building;
+			if (node.distance > distances.get(current)) {
+				// A shorter route to this building was already settled.
+				continue;
 			}
-			if (existingPath.containsPathLocation(farHatch)) {
-				inExistingPath = true;
+			if (current.equals(targetBuilding)) {
+				break;
 			}
-			if (inExistingPath) {
+
+			InsidePathLocation from = current.equals(startBuilding) ? startingLocation : current;
+			List<BuildingConnector> connectors = graph.get(current);
+			if (connectors == null) {
 				continue;
 			}
+			for (BuildingConnector connector : connectors) {
+				Building next = getOtherBuilding(connector, current);
+				InsidePathLocation to = next.equals(targetBuilding) ? endingLocation : next;
+				double distance = node.distance + getCrossingDistance(connector, current, from, to);
+				Double known = distances.get(next);
+				if ((known == null) || (distance < known)) {
+					distances.put(next, distance);
+					previousConnectors.put(next, connector);
+					queue.add(new RouteNode(next, distance));
+				}
+			}
+		}
 
-			// Copy existing path to create new path.
-			InsideBuildingPath newPath = (InsideBuildingPath) existingPath.clone();
+		if (!previousConnectors.containsKey(targetBuilding)) {
+			return null;
+		}
 
-			// Add building connector to new path.
-			if (connector.isSplitConnection()) {
-				newPath.addPathLocation(nearHatch);
-				newPath.addPathLocation(connector);
-				newPath.addPathLocation(farHatch);
-			} else {
-				newPath.addPathLocation(connector);
-			}
+		// Walk back from the target building to list the connectors in order.
+		List<BuildingConnector> route = new ArrayList<BuildingConnector>();
+		Building building = targetBuilding;
+		while (!building.equals(startBuilding)) {
+			BuildingConnector connector = previousConnectors.get(building);
+			route.add(connector);
+			building = getOtherBuilding(connector, building);
+		}
+		Collections.reverse(route);
 
-			InsideBuildingPath bestPath = null;
-			if (connectionBuilding.equals(targetBuilding)) {
-				// Add ending location within connection building.
-				newPath.addPathLocation(endingLocation);
-				bestPath = newPath;
+		InsideBuildingPath result = startingPath;
+		building = startBuilding;
+		for (BuildingConnector connector : route) {
+			if (connector.isSplitConnection()) {
+				boolean forward = connector.getBuilding1().equals(building);
+				result.addPathLocation(forward ? connector.getHatch1() : connector.getHatch2());
+				result.addPathLocation(connector);
+				result.addPathLocation(forward ? connector.getHatch2() : connector.getHatch1());
 			} else {
-				// Add connection building to new path.
-				newPath.addPathLocation(connectionBuilding);
-
-				// Recursively call this method with new path and connection building.
-				bestPath = determineShortestPath(newPath, connectionBuilding, targetBuilding, endingLocation);
+				result.addPathLocation(connector);
 			}
 
-			if (bestPath != null) {
-				if ((result == null) || (bestPath.getPathLength() < result.getPathLength())) {
-					result = bestPath;
-				}
+			building = getOtherBuilding(connector, building);
+			if (!building.equals(targetBuilding)) {
+				result.addPathLocation(building);
 			}
 		}
+		result.addPathLocation(endingLocation);
 
 		return result;
 	}
 
+	/**
+	 * Gets the walking distance from a location in a building, through a
+	 * connector, to a location in the building at the other end.
+	 * 
+	 * @param connector the building connector.
+	 * @param building  the building walked from.
+	 * @param from      the location walked from.
+	 * @param to        the location walked to.
+	 * @return distance (meters).
+	 */
+	private static double getCrossingDistance(BuildingConnector connector, Building building,
+			InsidePathLocation from, InsidePathLocation to) {
+		if (connector.isSplitConnection()) {
+			boolean forward = connector.getBuilding1().equals(building);
+			InsidePathLocation nearHatch = forward ? connector.getHatch1() : connector.getHatch2();
+			InsidePathLocation farHatch = forward ? connector.getHatch2() : connector.getHatch1();
+			return getDistance(from, nearHatch) + getDistance(nearHatch, connector) + getDistance(connector, farHatch)
+					+ getDistance(farHatch, to);
+		}
+		return getDistance(from, connector) + getDistance(connector, to);
+	}
+
+	/**
+	 * Gets the distance between two path locations.
+	 * 
+	 * @param location1 the first location.
+	 * @param location2 the second location.
+	 * @return distance (meters).
+	 */
+	private static double getDistance(InsidePathLocation location1, InsidePathLocation location2) {
+		return Point2D.distance(location1.getXLocation(), location1.getYLocation(), location2.getXLocation(),
+				location2.getYLocation());
+	}
+
 	/**
 	 * Create building connections from a new building to the surrounding buildings.
 	 * 
@@ -811,6 +936,41 @@ public class BuildingConnectorManager implements Serializable {
 		}
 		// buildingConnections.clear();
 		buildingConnections = null;
+		invalidateConnectorGraph();
+	}
+
+	/**
+	 * Inner class for the connectors to each building and the groups of buildings
+	 * connected to each other.
+	 */
+	private static class ConnectorGraph {
+
+		private Map<Building, List<BuildingConnector>> connectors;
+		private Map<Building, Integer> groups;
+
+		ConnectorGraph(Map<Building, List<BuildingConnector>> connectors, Map<Building, Integer> groups) {
+			this.connectors = connectors;
+			this.groups = groups;
+		}
+	}
+
+	/**
+	 * Inner class for a building reached by the route search.
+	 */
+	private static class RouteNode implements Comparable<RouteNode> {
+
+		private Building building;
+		private double distance;
+
+		RouteNode(Building building, double distance) {
+			this.building = building;
+			this.distance = distance;
+		}
+
+		@Override
+		public int compareTo(RouteNode other) {
+			return Double.compare(distance, other.distance);
+		}
 	}
 
 	/**
@@ -85,13 +85,13 @@ public class BuildingAirlock extends Airlock {
             	// check if the airlock has been sealed from outside and pressurized, ready to 
             	// open the inner door to release the person into the settlement
             	LogConsolidated.log(Level.FINER, 0, sourceName,
-    	  				"[" + person.getLocationTag().getLocale() 
+    	  				() -> "[" + person.getLocationTag().getLocale() 
     	  				+ "] The airlock had been pressurized and is ready to open the inner door to release " + person + ".");
             	
                 if (person.isOutside()) {
                 	
         			LogConsolidated.log(Level.FINER, 0, sourceName,
-        	  				"[" + person.getLocationTag().getLocale() + "] "
+        	  				() -> "[" + person.getLocationTag().getLocale() + "] "
         					+ person + " was about to leave the airlock in " + building + " to go inside " 
                 			+ building.getBuildingManager().getSettlement()
                 			+ ".");
@@ -109,7 +109,7 @@ public class BuildingAirlock extends Airlock {
                     BuildingManager.addPersonOrRobotToBuilding(person, building);
                     
            			LogConsolidated.log(Level.FINER, 0, sourceName,
-        	  				"[" + person.getLocationTag().getLocale() + "] "
+        	  				() -> "[" + person.getLocationTag().getLocale() + "] "
         					+ person + " had just exited the airlock at " + building + " and went inside " 
                 			+ building.getBuildingManager().getSettlement()
                 			+ ".");
@@ -121,7 +121,7 @@ public class BuildingAirlock extends Airlock {
 //                    throw new IllegalStateException(person + " was in " + person.getLocationTag().getImmediateLocation() + " and entering " + getEntityName() +
 //                            " from an airlock but not from outside.");
                   	LogConsolidated.log(Level.SEVERE, 0, sourceName,		
-                  		person +  " was supposed to be entering " + getEntityName() +
+                  		() -> person +  " was supposed to be entering " + getEntityName() +
                           "'s airlock but now alraedy in " + person.getLocationTag().getImmediateLocation());
                 }
             }
@@ -130,12 +130,12 @@ public class BuildingAirlock extends Airlock {
             	// check if the airlock has been depressurized, ready to open the outer door to 
             	// get exposed to the outside air and release the person
             	LogConsolidated.log(Level.FINER, 0, sourceName,
-    	  				"[" + person.getLocationTag().getLocale() 
+    	  				() -> "[" + person.getLocationTag().getLocale() 
     	  				+ "] The airlock had been depressurized and is ready to open the outer door to release " + person + ".");
             	
             	if (person.isInSettlement()) {
           			LogConsolidated.log(Level.FINER, 0, sourceName,
-        	  				"[" + person.getLocationTag().getLocale() + "] "
+        	  				() -> "[" + person.getLocationTag().getLocale() + "] "
         					+ person
                 			+ " was about to leave the airlock at " + building + " in " 
                 			+ building.getBuildingManager().getSettlement()
@@ -161,7 +161,7 @@ public class BuildingAirlock extends Airlock {
                     BuildingManager.removePersonOrRobotFromBuilding(person, building);
                                      
           			LogConsolidated.log(Level.FINER, 0, sourceName,
-        	  				"[" + person.getLocationTag().getLocale() + "] "
+        	  				() -> "[" + person.getLocationTag().getLocale() + "] "
         					+ person
                 			+ " had just left the airlock at " + building + " in " 
                 			+ building.getBuildingManager().getSettlement()
@@ -173,7 +173,7 @@ public class BuildingAirlock extends Airlock {
                 	//if (LocationSituation.BURIED != person.getLocationSituation()) {
 //                    throw new IllegalStateException(
                     	LogConsolidated.log(Level.SEVERE, 0, sourceName,		
-                    		person +  " was supposed to be exiting " + getEntityName() +
+                    		() -> person +  " was supposed to be exiting " + getEntityName() +
                             "'s airlock but now alraedy in " + person.getLocationTag().getImmediateLocation());
                 }
             }
@@ -36,6 +36,7 @@ import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.structure.building.BuildingConfig;
 import org.mars_sim.msp.core.structure.building.BuildingException;
+import org.mars_sim.msp.core.structure.goods.GoodsManager;
 
 /**
  * A building function for foodProduction.
@@ -266,6 +267,9 @@ public class FoodProduction extends Function implements Serializable {
 //            settlement.getGoodsManager().updateGoodValue(FoodProductionUtil.getGood(item), false);
 		}
 
+		// The inputs are gone and the outputs are on the way.
+		markGoodsDirty(process);
+
 		// Log foodProduction process starting.
 		if (logger.isLoggable(Level.FINEST)) {
 
@@ -500,6 +504,7 @@ public class FoodProduction extends Function implements Serializable {
 		}
 
 		processes.remove(process);
+		markGoodsDirty(process);
 
 		// Log process ending.
 		if (logger.isLoggable(Level.FINEST)) {
@@ -509,6 +514,21 @@ public class FoodProduction extends Function implements Serializable {
 		}
 	}
 
+	/**
+	 * Marks the goods of a process to be revalued on the next goods update.
+	 * 
+	 * @param process the food production process.
+	 */
+	private void markGoodsDirty(FoodProductionProcess process) {
+		GoodsManager goodsManager = settlement.getGoodsManager();
+		for (FoodProductionProcessItem item : process.getInfo().getInputList()) {
+			goodsManager.markDirty(FoodProductionUtil.getGood(item));
+		}
+		for (FoodProductionProcessItem item : process.getInfo().getOutputList()) {
+			goodsManager.markDirty(FoodProductionUtil.getGood(item));
+		}
+	}
+
 	@Override
 	public double getMaintenanceTime() {
 		double result = 0D;
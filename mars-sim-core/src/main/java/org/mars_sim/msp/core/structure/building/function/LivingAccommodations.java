@@ -41,6 +41,12 @@ public class LivingAccommodations extends Function implements Serializable {
 
 	private static String sourceName = logger.getName();
 
+	/** The rate-limited messages of the shortage of beds. */
+	private static final LogConsolidated.Site bedShortageLog = LogConsolidated.site(logger, 5000);
+
+	/** The rate-limited messages of the bed assignments. */
+	private static final LogConsolidated.Site bedLog = LogConsolidated.site(logger, 2000);
+
 	public static final int MAX_NUM_SOLS = 14;
 	
 	public static final double TOILET_WASTE_PERSON_SOL = .02D;
@@ -187,10 +193,10 @@ public class LivingAccommodations extends Function implements Serializable {
 	 */
 	public void registerSleeper(Person person, boolean isAGuest) {
 		if (sleepers > maxNumBeds) {		 
-			 LogConsolidated.log(logger, Level.WARNING, 5000, sourceName, 
-					 "[" + settlement.getName() + "] Too many sleepers and not enough beds "
+			 bedShortageLog.log(Level.WARNING, 
+					 () -> "[" + settlement.getName() + "] Too many sleepers and not enough beds "
 					 		+ " (# sleepers : " + sleepers 
-					 + "  # beds : " + maxNumBeds + ").", null);
+					 + "  # beds : " + maxNumBeds + ").");
 			 
 		} else if (!assignedBeds.containsKey(person)) {
 			if (isAGuest) {
@@ -211,8 +217,8 @@ public class LivingAccommodations extends Function implements Serializable {
 				if (bed != null) {
 					sleepers++;
 				} else {
-					LogConsolidated.log(logger, Level.FINE, 2000, sourceName,
-							"[" + settlement.getName() + "] " + person + " did not have a bed assigned yet.", null);
+					bedLog.log(Level.FINE,
+							() -> "[" + settlement.getName() + "] " + person + " did not have a bed assigned yet.");
 				}
 			}
 		}
@@ -240,9 +246,9 @@ public class LivingAccommodations extends Function implements Serializable {
 					assignedBeds.put(person, bed);
 					person.setBed(bed);
 					person.setQuarters(building);
-					LogConsolidated.log(logger, Level.FINE, 2000, sourceName,
-							person + " was designated a bed at (" + bed.getX() + ", " +
-							bed.getY() + ") in " + person.getQuarters(), null);
+					bedLog.log(Level.FINE,
+							() -> person + " was designated a bed at (" + spot.getX() + ", " +
+							spot.getY() + ") in " + person.getQuarters());
 					break;
 				}
 			}
@@ -45,6 +45,7 @@ import org.mars_sim.msp.core.structure.building.BuildingManager;
 import org.mars_sim.msp.core.structure.building.BuildingConfig;
 import org.mars_sim.msp.core.structure.building.BuildingException;
 import org.mars_sim.msp.core.structure.goods.Good;
+import org.mars_sim.msp.core.structure.goods.GoodsManager;
 import org.mars_sim.msp.core.structure.goods.GoodsUtil;
 import org.mars_sim.msp.core.vehicle.LightUtilityVehicle;
 import org.mars_sim.msp.core.vehicle.Rover;
@@ -306,6 +307,9 @@ public class Manufacture extends Function implements Serializable {
 			settlement.getGoodsManager().updateGoodValue(ManufactureUtil.getGood(item), false);
 		}
 
+		// The outputs are now on the way.
+		markGoodsDirty(process);
+
 		// Log manufacturing process starting.
 		if (logger.isLoggable(Level.FINEST)) {
 			// Settlement settlement = getBuilding().getBuildingManager().getSettlement();
@@ -630,6 +634,7 @@ public class Manufacture extends Function implements Serializable {
 		}
 
 		processes.remove(process);
+		markGoodsDirty(process);
 
 		// Untag an 3D Printer (upon the process is ended or discontinued)
 		// if (numPrinterInUse >= 1)
@@ -643,6 +648,21 @@ public class Manufacture extends Function implements Serializable {
 		}
 	}
 
+	/**
+	 * Marks the goods of a process to be revalued on the next goods update.
+	 * 
+	 * @param process the manufacturing process.
+	 */
+	private void markGoodsDirty(ManufactureProcess process) {
+		GoodsManager goodsManager = settlement.getGoodsManager();
+		for (ManufactureProcessItem item : process.getInfo().getInputList()) {
+			goodsManager.markDirty(ManufactureUtil.getGood(item));
+		}
+		for (ManufactureProcessItem item : process.getInfo().getOutputList()) {
+			goodsManager.markDirty(ManufactureUtil.getGood(item));
+		}
+	}
+
 	/**
 	 * Ends a salvage process.
 	 * 
@@ -35,7 +35,8 @@ implements Serializable {
 	/** default logger. */
 	private static Logger logger = Logger.getLogger(PowerStorage.class.getName());
 	
-    private static String sourceName = logger.getName();
+	/** The rate-limited messages of the reconditioned batteries. */
+	private static final LogConsolidated.Site reconditionLog = LogConsolidated.site(logger, 3000);
   
 	// Building function name.
 	private static final FunctionType FUNCTION = FunctionType.POWER_STORAGE;
@@ -295,12 +296,11 @@ implements Serializable {
 	public void reconditionBattery() {
 		health = health * (1 + PERCENT_BATTERY_RECONDITIONING_PER_CYCLE/100D);
 		
-		LogConsolidated.log(logger, Level.INFO, 3000, sourceName, 
-				"the grid battery for "
+		reconditionLog.log(Level.INFO, 
+				() -> "the grid battery for "
 				//"r_total is " + Math.round(r_total*10D)/10D 
 				+ building.getNickName() + " in " + building.getSettlement()
-				+ " has just been reconditioned."
-				, null);
+				+ " has just been reconditioned.");
 	}
 	
 	
@@ -220,7 +220,7 @@ implements Lab, Serializable {
             researcherNum = 0;
             Settlement s = building.getSettlement();
 			LogConsolidated.log(Level.SEVERE, 5000, sourceName,
-					"[" + s + "] "
+					() -> "[" + s + "] "
 					+ building + "'s lab has no researchers.");
 //            throw new IllegalStateException("Lab is already empty of researchers.");
         }
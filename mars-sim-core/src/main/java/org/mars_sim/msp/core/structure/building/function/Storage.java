@@ -344,7 +344,7 @@ public class Storage extends Function implements Serializable {
 						s.increaseGreyWaterFilteringRate();
 						double r = s.getGreyWaterFilteringRate();
 						LogConsolidated.log(Level.WARNING, 1_000, sourceName + "::" + method, 
-								"[" + s
+								() -> "[" + s
 					    		+ "] Updated the grey water filtering rate to " + Math.round(r*100.0)/100.0 + ".");
 					}
 				}
@@ -356,7 +356,7 @@ public class Storage extends Function implements Serializable {
 					if (!method.equals(""))
 						method = " at " + method;
 				    LogConsolidated.log(Level.SEVERE, 30_000, sourceName + method, 
-				    		"[" + inv.getOwner()
+				    		() -> "[" + inv.getOwner()
 				    		+ "] The storage capacity for " 
 				    		+ ResourceUtil.findAmountResourceName(id) + " has been reached. Only "
 					    	+ Math.round(remainingCapacity*10000.0)/10000.0 
@@ -380,16 +380,15 @@ public class Storage extends Function implements Serializable {
 			} catch (Exception e) {
 				e.printStackTrace(System.err);
 				LogConsolidated.log(Level.SEVERE, 10_000, sourceName,
-						"[" + inv.getOwner()
+						() -> "[" + inv.getOwner()
 			    		+ "] Issues with (int) storeAnResource on " + ResourceUtil.findAmountResourceName(id) + " : " + e.getMessage(), e);
 			}
 		} else {
 			result = false;
-			if (!method.equals(""))
-				method = " at " + method;
-			LogConsolidated.log(Level.SEVERE, 10_000, sourceName, "[" + inv.getOwner()
+			String at = method.equals("") ? "" : " at " + method;
+			LogConsolidated.log(Level.SEVERE, 10_000, sourceName, () -> "[" + inv.getOwner()
     		+ "] Attempting to store non-positive amount of "
-					+ ResourceUtil.findAmountResourceName(id) + method);
+					+ ResourceUtil.findAmountResourceName(id) + at);
 		}
 
 		return result;
@@ -445,7 +444,7 @@ public class Storage extends Function implements Serializable {
 						s.decreaseGreyWaterFilteringRate();
 						double r = s.getGreyWaterFilteringRate();
 						LogConsolidated.log(Level.WARNING, 1_000, sourceName, 
-								"[" + s
+								() -> "[" + s
 					    		+ "] Updated the new grey water filtering rate to " + Math.round(r*100.0)/100.0 + ".");
 					}
 				
@@ -456,7 +455,7 @@ public class Storage extends Function implements Serializable {
 						inv.addAmountDemand(id, amount);
 					}
 					LogConsolidated.log(Level.WARNING, 30_000, sourceName,
-							"[" + inv.getOwner()
+							() -> "[" + inv.getOwner()
 				    		+ "] ran out of "
 							+ ResourceUtil.findAmountResourceName(id) + "."
 							);
@@ -471,13 +470,13 @@ public class Storage extends Function implements Serializable {
 				}
 			} catch (Exception e) {
 				e.printStackTrace(System.err);
-				LogConsolidated.log(Level.SEVERE, 10_000, sourceName, "[" + inv.getOwner()
+				LogConsolidated.log(Level.SEVERE, 10_000, sourceName, () -> "[" + inv.getOwner()
 	    		+ "] Issues with retrieveAnResource(ar) on "
 						+ ResourceUtil.findAmountResourceName(id) + " : " + e.getMessage(), e);
 			}
 		} else {
 			result = false;
-			LogConsolidated.log(Level.SEVERE, 10_000, sourceName, "[" + inv.getOwner()
+			LogConsolidated.log(Level.SEVERE, 10_000, sourceName, () -> "[" + inv.getOwner()
     		+ "] Attempting to retrieve non-positive amount of "
 					+ ResourceUtil.findAmountResourceName(id));
 		}
@@ -829,7 +829,7 @@ public class Cooking extends Function implements Serializable {
 		cleanliness = cleanliness - .0075;
 
 		LogConsolidated.log(Level.FINE, 10_000, sourceName,
-				"[" + settlement + "] " + producerName + " just cooked '" + nameOfMeal + "' in " + building + ".");
+				() -> "[" + settlement + "] " + producerName + " just cooked '" + nameOfMeal + "' in " + building + ".");
 
 		return nameOfMeal;
 	}
@@ -928,7 +928,7 @@ public class Cooking extends Function implements Serializable {
 		}
 		// oil is not available
 		else if (logger.isLoggable(Level.FINE)) {
-			LogConsolidated.log(Level.FINE, 30_000, sourceName, "[" + settlement + "] No oil is available.");
+			LogConsolidated.log(Level.FINE, 30_000, sourceName, () -> "[" + settlement + "] No oil is available.");
 		}
 
 		return false;
@@ -992,7 +992,7 @@ public class Cooking extends Function implements Serializable {
 									.append(" kg ").append(meal.getName().toLowerCase()).append(DISCARDED)
 									.append(getBuilding().getNickName()).append(".");
 
-							LogConsolidated.log(Level.FINE, 10_000, sourceName, log.toString());
+							LogConsolidated.log(Level.FINE, 10_000, sourceName, () -> log.toString());
 
 						} else {
 							// Convert the meal into preserved food.
@@ -1002,7 +1002,7 @@ public class Cooking extends Function implements Serializable {
 									.append(dryMassPerServing).append(" kg ").append(meal.getName().toLowerCase())
 									.append(PRESERVED).append(getBuilding().getNickName()).append(".");
 
-							LogConsolidated.log(Level.FINE, 10_000, sourceName, log.toString());
+							LogConsolidated.log(Level.FINE, 10_000, sourceName, () -> log.toString());
 						}
 
 						// Adjust the rate to go down for each meal that wasn't eaten.
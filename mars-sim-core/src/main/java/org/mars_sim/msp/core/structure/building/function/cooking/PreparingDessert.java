@@ -752,7 +752,7 @@ implements Serializable {
 	                            		.append(getBuilding().getNickName())
 	                            		.append(".");
 	            				
-	                            LogConsolidated.log(Level.INFO, 10000, sourceName, log.toString());
+	                            LogConsolidated.log(Level.INFO, 10000, sourceName, () -> log.toString());
 	                            
 	                        }
 	                        else  {
@@ -768,7 +768,7 @@ implements Serializable {
 	                            		.append(getBuilding().getNickName())
 	                            		.append(".");
 	            				
-	                            LogConsolidated.log( Level.INFO, 10000, sourceName, log.toString());
+	                            LogConsolidated.log( Level.INFO, 10000, sourceName, () -> log.toString());
 	             
 	                            //logger.finest("The dessert has lost its freshness at " +
 	                            //        getBuilding().getBuildingManager().getSettlement().getName());
@@ -338,7 +338,7 @@ public class Crop implements Serializable {
 				currentPhaseWorkCompleted = 0;
 				phaseType = PhaseType.INCUBATION;
 				LogConsolidated.log(Level.INFO, 0, sourceName,
-						"[" + settlement + "] " + " No " + capitalizedCropName + " tissue culture left in " + farmName
+						() -> "[" + settlement + "] " + " No " + capitalizedCropName + " tissue culture left in " + farmName
 								+ ". Will take time to incubate and restock in " + farmName + ".");
 			}
 
@@ -347,7 +347,7 @@ public class Crop implements Serializable {
 				currentPhaseWorkCompleted = 0;
 				phaseType = PhaseType.PLANTING;
 				LogConsolidated.log(Level.INFO, 0, sourceName,
-						"[" + settlement + "] Proceeding to transferring plantflets from " + capitalizedCropName
+						() -> "[" + settlement + "] Proceeding to transferring plantflets from " + capitalizedCropName
 								+ "'s tissue culture into the field.");
 
 				setupMushroom();
@@ -357,7 +357,7 @@ public class Crop implements Serializable {
 				currentPhaseWorkCompleted = 1000D * phases.get(0).getWorkRequired() * (100D - tissuePercent) / 100D;
 				phaseType = PhaseType.INCUBATION;
 				LogConsolidated.log(Level.INFO, 0, sourceName,
-						"[" + settlement + "] A work period of "
+						() -> "[" + settlement + "] A work period of "
 								+ Math.round(currentPhaseWorkCompleted / 1000D * 10D) / 10D
 								+ " sols is needed to clone enough " + capitalizedCropName + " tissues before planting in " + farmName + ".");
 			}
@@ -683,7 +683,7 @@ public class Crop implements Serializable {
 
 					if (totalHarvest > 0)
 						LogConsolidated.log(Level.INFO, 0, sourceName,
-							"[" + settlement + "] " + unit.getName() + " harvested a total of "
+							() -> "[" + settlement + "] " + unit.getName() + " harvested a total of "
 									+ Math.round(totalHarvest * 100.0) / 100.0 + " kg "
 									+ capitalizedCropName + " in " + farmName);
 					
@@ -58,6 +58,13 @@ public class Farming extends Function implements Serializable {
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The rate-limited messages of the tissue cultures used for planting. */
+	private static final LogConsolidated.Site tissueLog = LogConsolidated.site(logger, 1000);
+	/** The rate-limited messages of the crop errors. */
+	private static final LogConsolidated.Site cropErrorLog = LogConsolidated.site(logger, 1000);
+	/** The rate-limited messages of the planting. */
+	private static final LogConsolidated.Site plantingLog = LogConsolidated.site(logger, 3_000);
+
 	private static final FunctionType FARMING_FUNCTION = FunctionType.FARMING;
 	
 	public static final int MAX_NUM_SOLS = 14;
@@ -550,8 +557,7 @@ public class Farming extends Function implements Serializable {
 			inv.addAmountDemandTotalRequest(tissueID);
 
 			if (amountStored < MIN) {
-				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + settlement + "]" + "Ran out of " + tissueName);
+				tissueLog.log(Level.INFO, () -> "[" + settlement + "]" + "Ran out of " + tissueName);
 				percent = 0;
 			}
 
@@ -559,16 +565,17 @@ public class Farming extends Function implements Serializable {
 				available = true;
 				percent = amountStored / requestedAmount * 100D;
 				requestedAmount = amountStored;
-				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + settlement + "] " + Math.round(requestedAmount * 100.0) / 100.0 + " kg " + tissueName
-								+ " was partially available.");
+				double partialAmount = requestedAmount;
+				tissueLog.log(Level.INFO, () -> "[" + settlement + "] " + Math.round(partialAmount * 100.0) / 100.0 + " kg "
+						+ tissueName + " was partially available.");
 			}
 
 			else {
 				available = true;
 				percent = 100D;
-				LogConsolidated.log(Level.INFO, 1000, sourceName, "[" + settlement + "] "
-						+ Math.round(requestedAmount * 100.0) / 100.0 + " kg " + tissueName + " was fully available.");
+				double fullAmount = requestedAmount;
+				tissueLog.log(Level.INFO, () -> "[" + settlement + "] "
+						+ Math.round(fullAmount * 100.0) / 100.0 + " kg " + tissueName + " was fully available.");
 			}
 
 			if (available)
@@ -888,8 +895,8 @@ public class Farming extends Function implements Serializable {
 				crop.timePassing(time * productionLevel);
 			
 			} catch (Exception e) {
-				LogConsolidated.log(Level.WARNING, 1000, sourceName,
-						"[" + settlement.getName() + "] " + crop.getCropName() + " ran into issues in " + building , e);
+				cropErrorLog.log(Level.WARNING, () -> "[" + settlement.getName() + "] " + crop.getCropName()
+						+ " ran into issues in " + building, e);
 				e.printStackTrace();
 			}
 			
@@ -935,9 +942,9 @@ public class Farming extends Function implements Serializable {
 				cropHistory.put(crop.getIdentifier(), n);
 				settlement.fireUnitUpdate(UnitEventType.CROP_EVENT, crop);
 				
-				LogConsolidated.log(Level.INFO, 3_000, sourceName,
-						"[" + settlement.getName() + "] " + p + " planted a new crop of " + n 
-						+ " in " + building.getNickName() + ".");
+				String cropName = n;
+				plantingLog.log(Level.INFO, () -> "[" + settlement.getName() + "] " + p + " planted a new crop of "
+						+ cropName + " in " + building.getNickName() + ".");
 				
 				numCrops2Plant--;
 				break;
@@ -1163,7 +1170,7 @@ public class Farming extends Function implements Serializable {
 						Storage.storeAnResource(STANDARD_AMOUNT_TISSUE_CULTURE, tissueID, inv,
 								sourceName + "::growCropTissue");
 						LogConsolidated.log(Level.INFO, 3_000, sourceName,
-							"[" + settlement.getName() + "] During sampling analysis, " + p
+							() -> "[" + settlement.getName() + "] During sampling analysis, " + p
 								+ " could not find any " + cropName + TISSUE_CULTURE
 								+ " in stock and produced " + STANDARD_AMOUNT_TISSUE_CULTURE
 										+ " kg from " + cropName + " in " + lab.getBuilding().getNickName()
@@ -1190,9 +1197,10 @@ public class Farming extends Function implements Serializable {
 					// store the tissues
 					if (amountExtracted > 0) {
 						Storage.storeAnResource(amountExtracted, tissueID, inv, sourceName + "::growCropTissue");
+						double kg = Math.round(amountExtracted*1000.0)/1000.0D;
 						LogConsolidated.log(Level.INFO, 3_000, sourceName,
-							"[" + settlement.getName() + "] During sampling analysis, " + p + " cloned and restocked "
-							+ Math.round(amountExtracted*1000.0)/1000.0D + " kg "
+							() -> "[" + settlement.getName() + "] During sampling analysis, " + p + " cloned and restocked "
+							+ kg + " kg "
 							+ cropName + TISSUE_CULTURE + " in "
 							+ lab.getBuilding().getNickName() + ".");
 
@@ -7,10 +7,14 @@
 
 package org.mars_sim.msp.core.structure.construction;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
 import java.text.DecimalFormat;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +27,7 @@ import org.mars_sim.msp.core.structure.goods.Good;
 import org.mars_sim.msp.core.structure.goods.GoodsManager;
 import org.mars_sim.msp.core.structure.goods.GoodsUtil;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 
 /**
  * Provides value information for construction.
@@ -39,11 +44,11 @@ implements Serializable {
     // Data members
     private Settlement settlement;
     private Map<Integer, Double> settlementConstructionValueCache;
-    private MarsClock settlementConstructionValueCacheTime;
+    private MarsTime settlementConstructionValueCacheUpdate;
     private Map<ConstructionStageInfoSkillKey, Double> stageInfoValueCache;
-    private MarsClock stageInfoValueCacheTime;
+    private MarsTime stageInfoValueCacheUpdate;
     private Map<ConstructionStageInfoSkillKey, Double> allStageInfoValueCache;
-    private MarsClock allStageInfoValueCacheTime;
+    private MarsTime allStageInfoValueCacheUpdate;
 
     /**
      * Constructor.
@@ -69,12 +74,12 @@ implements Serializable {
     public double getSettlementConstructionProfit(int constructionSkill) {
 
         MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-        if ((settlementConstructionValueCacheTime == null) || 
-                (MarsClock.getTimeDiff(currentTime, settlementConstructionValueCacheTime) > 1000D)) {
+        if ((settlementConstructionValueCacheUpdate == null) || 
+                (currentTime.getTimeDiff(settlementConstructionValueCacheUpdate) > 1000D)) {
             if (settlementConstructionValueCache == null) 
                 settlementConstructionValueCache = new HashMap<Integer, Double>();
             settlementConstructionValueCache.clear();
-            settlementConstructionValueCacheTime = (MarsClock) currentTime.clone();
+            settlementConstructionValueCacheUpdate = currentTime.getTime();
         }
 
         if (!settlementConstructionValueCache.containsKey(constructionSkill)) {
@@ -212,7 +217,7 @@ implements Serializable {
     public Map<ConstructionStageInfo, Double> getNewConstructionStageProfits(
             ConstructionSite site, int constructionSkill) {
 
-        Map<ConstructionStageInfo, Double> result = new HashMap<ConstructionStageInfo, Double>();
+        Map<ConstructionStageInfo, Double> result = new LinkedHashMap<ConstructionStageInfo, Double>();
 
         ConstructionStage lastStage = site.getCurrentConstructionStage();
         if (lastStage != null) {
@@ -242,7 +247,7 @@ implements Serializable {
     public Map<ConstructionStageInfo, Double> getConstructionStageProfit(String stageType, 
             int constructionSkill) {
 
-        Map<ConstructionStageInfo, Double> result = new HashMap<ConstructionStageInfo, Double>();
+        Map<ConstructionStageInfo, Double> result = new LinkedHashMap<ConstructionStageInfo, Double>();
 
         List<ConstructionStageInfo> nextStages = ConstructionUtil.getConstructionStageInfoList(
                 stageType, constructionSkill);
@@ -264,10 +269,10 @@ implements Serializable {
     public Map<ConstructionStageInfo, Double> getAllConstructionStageValues(int constructionSkill) {
 
         MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-        if ((allStageInfoValueCacheTime == null) || 
-                (MarsClock.getTimeDiff(currentTime, allStageInfoValueCacheTime) > 1000D)) {
+        if ((allStageInfoValueCacheUpdate == null) || 
+                (currentTime.getTimeDiff(allStageInfoValueCacheUpdate) > 1000D)) {
             if (allStageInfoValueCache == null) {
-                allStageInfoValueCache = new HashMap<ConstructionStageInfoSkillKey, Double>();
+                allStageInfoValueCache = new LinkedHashMap<ConstructionStageInfoSkillKey, Double>();
             }
             allStageInfoValueCache.clear();
 
@@ -279,14 +284,14 @@ implements Serializable {
                         getConstructionStageValue(stageInfo, constructionSkill));
             }
 
-            allStageInfoValueCacheTime = (MarsClock) currentTime.clone();
+            allStageInfoValueCacheUpdate = currentTime.getTime();
 
             // Display building construction values report to System.out for testing purposes.
 //            displayAllBuildingConstructionValues();
         }
         
         // Create result map with just construction stage infos and their values.
-        Map<ConstructionStageInfo, Double> result = new HashMap<ConstructionStageInfo, Double>(allStageInfoValueCache.size());
+        Map<ConstructionStageInfo, Double> result = new LinkedHashMap<ConstructionStageInfo, Double>(allStageInfoValueCache.size());
         Iterator<ConstructionStageInfoSkillKey> j = allStageInfoValueCache.keySet().iterator();
         while (j.hasNext()) {
             ConstructionStageInfoSkillKey key = j.next();
@@ -306,13 +311,13 @@ implements Serializable {
     public double getConstructionStageValue(ConstructionStageInfo stageInfo, int constructionSkill) {
 
         MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-        if ((stageInfoValueCacheTime == null) || 
-                (MarsClock.getTimeDiff(currentTime, stageInfoValueCacheTime) > 1000D)) {
+        if ((stageInfoValueCacheUpdate == null) || 
+                (currentTime.getTimeDiff(stageInfoValueCacheUpdate) > 1000D)) {
             if (stageInfoValueCache == null) {
                 stageInfoValueCache = new HashMap<ConstructionStageInfoSkillKey, Double>();
             }
             stageInfoValueCache.clear();
-            stageInfoValueCacheTime = (MarsClock) currentTime.clone();
+            stageInfoValueCacheUpdate = currentTime.getTime();
         }
 
         ConstructionStageInfoSkillKey key = new ConstructionStageInfoSkillKey(stageInfo, constructionSkill);
@@ -471,7 +476,7 @@ implements Serializable {
                     else {
                         // Check if any existing buildings have same frame stage and can be refit or refurbished 
                         // into new building.
-                        Iterator<Building> i = settlement.getBuildingManager().getACopyOfBuildings().iterator();
+                        Iterator<Building> i = settlement.getBuildingManager().getBuildings().iterator();
                         while (i.hasNext()) {
                             ConstructionStageInfo tempBuildingStage = ConstructionUtil.getConstructionStageInfo(
                                     i.next().getName());
@@ -501,20 +506,64 @@ implements Serializable {
             settlementConstructionValueCache = new HashMap<Integer, Double>();
         }
         settlementConstructionValueCache.clear();
-        settlementConstructionValueCacheTime = (MarsClock) currentTime.clone();
+        settlementConstructionValueCacheUpdate = currentTime.getTime();
 
         if (stageInfoValueCache == null) {
             stageInfoValueCache = new HashMap<ConstructionStageInfoSkillKey, Double>();
         }
         stageInfoValueCache.clear();
-        stageInfoValueCacheTime = (MarsClock) currentTime.clone();
+        stageInfoValueCacheUpdate = currentTime.getTime();
 
         if (allStageInfoValueCache == null) {
-            allStageInfoValueCache = new HashMap<ConstructionStageInfoSkillKey, Double>();
+            allStageInfoValueCache = new LinkedHashMap<ConstructionStageInfoSkillKey, Double>();
         }
         allStageInfoValueCache.clear();
     }
 
+    /**
+     * Implementing readObject method for serialization. An older save keeps the
+     * times of the value caches as clocks.
+     * 
+     * @param in the input stream.
+     * @throws IOException            if error reading from input stream.
+     * @throws ClassNotFoundException if error creating class.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+        ObjectInputStream.GetField fields = in.readFields();
+        ObjectStreamClass desc = fields.getObjectStreamClass();
+
+        settlement = (Settlement) fields.get("settlement", null);
+        settlementConstructionValueCache = (Map<Integer, Double>) fields.get("settlementConstructionValueCache", null);
+        stageInfoValueCache = (Map<ConstructionStageInfoSkillKey, Double>) fields.get("stageInfoValueCache", null);
+        allStageInfoValueCache = (Map<ConstructionStageInfoSkillKey, Double>) fields.get("allStageInfoValueCache", null);
+
+        if (desc.getField("settlementConstructionValueCacheUpdate") != null) {
+            settlementConstructionValueCacheUpdate = (MarsTime) fields.get("settlementConstructionValueCacheUpdate", null);
+        }
+        else if (desc.getField("settlementConstructionValueCacheTime") != null) {
+            MarsClock time = (MarsClock) fields.get("settlementConstructionValueCacheTime", null);
+            settlementConstructionValueCacheUpdate = (time == null) ? null : time.getTime();
+        }
+
+        if (desc.getField("stageInfoValueCacheUpdate") != null) {
+            stageInfoValueCacheUpdate = (MarsTime) fields.get("stageInfoValueCacheUpdate", null);
+        }
+        else if (desc.getField("stageInfoValueCacheTime") != null) {
+            MarsClock time = (MarsClock) fields.get("stageInfoValueCacheTime", null);
+            stageInfoValueCacheUpdate = (time == null) ? null : time.getTime();
+        }
+
+        if (desc.getField("allStageInfoValueCacheUpdate") != null) {
+            allStageInfoValueCacheUpdate = (MarsTime) fields.get("allStageInfoValueCacheUpdate", null);
+        }
+        else if (desc.getField("allStageInfoValueCacheTime") != null) {
+            MarsClock time = (MarsClock) fields.get("allStageInfoValueCacheTime", null);
+            allStageInfoValueCacheUpdate = (time == null) ? null : time.getTime();
+        }
+    }
+
     /**
      * Prepare object for garbage collection.
      */
@@ -524,19 +573,19 @@ implements Serializable {
 
             settlementConstructionValueCache.clear();
             settlementConstructionValueCache = null;
-            settlementConstructionValueCacheTime = null;
+            settlementConstructionValueCacheUpdate = null;
         }
         if(stageInfoValueCache != null){
 
             stageInfoValueCache.clear();
             stageInfoValueCache = null;
-            stageInfoValueCacheTime = null;
+            stageInfoValueCacheUpdate = null;
         }
         if(allStageInfoValueCache != null){
 
             allStageInfoValueCache.clear();
             allStageInfoValueCache = null;
-            allStageInfoValueCacheTime = null;
+            allStageInfoValueCacheUpdate = null;
         }
     }
     
@@ -6,6 +6,9 @@
  */
 package org.mars_sim.msp.core.structure.construction;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -28,6 +31,7 @@ import org.mars_sim.msp.core.structure.building.function.RoboticStation;
 import org.mars_sim.msp.core.structure.goods.GoodsManager;
 import org.mars_sim.msp.core.structure.goods.GoodsUtil;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsTime;
 
 /**
  * Calculates values for salvaging buildings at a settlement.
@@ -45,7 +49,7 @@ implements Serializable {
 	// Data members
 	private Settlement settlement;
 	private Map<Integer, Double> settlementSalvageValueCache;
-	private MarsClock settlementSalvageValueCacheTime;
+	private MarsTime settlementSalvageValueCacheUpdate;
 
 	/**
 	 * Constructor.
@@ -61,7 +65,7 @@ implements Serializable {
 	public void clearCache() {
 	    if (settlementSalvageValueCache != null) {
 	        settlementSalvageValueCache.clear();
-	        settlementSalvageValueCacheTime = null;
+	        settlementSalvageValueCacheUpdate = null;
 	    }
 	}
 
@@ -83,12 +87,12 @@ implements Serializable {
 	public double getSettlementSalvageProfit(int constructionSkill) {
 
 		MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-		if ((settlementSalvageValueCacheTime == null) || 
-				(MarsClock.getTimeDiff(currentTime, settlementSalvageValueCacheTime) > 1000D)) {
+		if ((settlementSalvageValueCacheUpdate == null) || 
+				(currentTime.getTimeDiff(settlementSalvageValueCacheUpdate) > 1000D)) {
 			if (settlementSalvageValueCache == null) 
 				settlementSalvageValueCache = new HashMap<Integer, Double>();
 			settlementSalvageValueCache.clear();
-			settlementSalvageValueCacheTime = (MarsClock) currentTime.clone();
+			settlementSalvageValueCacheUpdate = currentTime.getTime();
 		}
 
 		if (!settlementSalvageValueCache.containsKey(constructionSkill)) {
@@ -356,6 +360,32 @@ implements Serializable {
 		return result;
 	}
 
+	/**
+	 * Implementing readObject method for serialization. An older save keeps the
+	 * time of the value cache as a clock.
+	 * 
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		ObjectStreamClass desc = fields.getObjectStreamClass();
+
+		settlement = (Settlement) fields.get("settlement", null);
+		settlementSalvageValueCache = (Map<Integer, Double>) fields.get("settlementSalvageValueCache", null);
+
+		if (desc.getField("settlementSalvageValueCacheUpdate") != null) {
+			settlementSalvageValueCacheUpdate = (MarsTime) fields.get("settlementSalvageValueCacheUpdate", null);
+		}
+		else if (desc.getField("settlementSalvageValueCacheTime") != null) {
+			MarsClock time = (MarsClock) fields.get("settlementSalvageValueCacheTime", null);
+			settlementSalvageValueCacheUpdate = (time == null) ? null : time.getTime();
+		}
+	}
+
 	/**
 	 * Prepare object for garbage collection.
 	 */
@@ -364,7 +394,7 @@ implements Serializable {
 		if(settlementSalvageValueCache != null){
 			settlementSalvageValueCache.clear();
 			settlementSalvageValueCache = null;
-			settlementSalvageValueCacheTime = null;
+			settlementSalvageValueCacheUpdate = null;
 		}
 	}
 }
\ No newline at end of file
@@ -6,16 +6,20 @@
  */
 package org.mars_sim.msp.core.structure.goods;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,12 +27,16 @@ import org.mars_sim.msp.core.Inventory;
 import org.mars_sim.msp.core.LifeSupportType;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.UnitEvent;
 import org.mars_sim.msp.core.UnitEventType;
+import org.mars_sim.msp.core.UnitListener;
 import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.UnitTickEngine;
 import org.mars_sim.msp.core.equipment.Bag;
 import org.mars_sim.msp.core.equipment.Container;
 import org.mars_sim.msp.core.equipment.ContainerUtil;
 import org.mars_sim.msp.core.equipment.EVASuit;
+import org.mars_sim.msp.core.equipment.Equipment;
 import org.mars_sim.msp.core.equipment.SpecimenContainer;
 import org.mars_sim.msp.core.foodProduction.FoodProductionProcess;
 import org.mars_sim.msp.core.foodProduction.FoodProductionProcessInfo;
@@ -60,6 +68,7 @@ import org.mars_sim.msp.core.resource.ItemResource;
 import org.mars_sim.msp.core.resource.ItemResourceUtil;
 import org.mars_sim.msp.core.resource.Part;
 import org.mars_sim.msp.core.resource.PhaseType;
+import org.mars_sim.msp.core.resource.Resource;
 import org.mars_sim.msp.core.resource.ResourceUtil;
 import org.mars_sim.msp.core.resource.ItemType;
 import org.mars_sim.msp.core.structure.Settlement;
@@ -91,7 +100,7 @@ import org.mars_sim.msp.core.vehicle.VehicleConfig.VehicleDescription;
 /**
  * A manager for computing the values of goods at a settlement.
  */
-public class GoodsManager implements Serializable {
+public class GoodsManager implements Serializable, UnitListener {
 
 	/** default serial id. */
 	private static final long serialVersionUID = 12L;
@@ -143,6 +152,12 @@ public class GoodsManager implements Serializable {
 	private static final double CONSTRUCTION_SITE_REQUIRED_PART_FACTOR = 100D;
 
 	private static final double MINIMUM_STORED_SUPPLY = 1D;
+	/** The number of sols between two full updates of the goods values. */
+	private static final int FULL_UPDATE_SOLS = 3;
+	/** The part of its value a good must move by to change the trade revision. */
+	private static final double TRADE_VALUE_CHANGE = .1D;
+	/** The least move (value points) of a good to change the trade revision. */
+	private static final double MIN_TRADE_VALUE_CHANGE = .01D;
 	private static final double METHANE_AVERAGE_DEMAND = 20;
 	private static final double TISSUE_CULTURE_FACTOR = 100;
 //	private static final double FOOD_FACTOR = .001;
@@ -186,6 +201,27 @@ public class GoodsManager implements Serializable {
 	private Map<String, Double> vehicleSellValueCache;
 	private Map<Integer, Double> partsDemandCache;
 
+	/** The goods marked dirty since the last update. Null until the first full update. */
+	private transient Set<Good> dirtyGoods;
+	/** The goods whose demand depends on the value of a good. */
+	private transient Map<Good, List<Good>> dependentGoods;
+	/** True if all the goods must be revalued on the next update. */
+	private transient volatile boolean fullUpdate;
+	/** True if the parts demand must be determined again. */
+	private transient volatile boolean partsDemandDirty;
+	/** The mission sol of the last full update. */
+	private transient int lastFullUpdateSol;
+	/** The number of updates that have revalued some goods. */
+	private transient volatile long valueRevision;
+	/** The revision of the goods values for trading. */
+	private transient volatile long tradeRevision;
+	/** The values of the goods at the last change of the trade revision. */
+	private transient Map<Good, Double> tradeValues;
+	/** The values of the goods seen by the other settlements. */
+	private transient volatile Map<Good, Double> publishedValues;
+	/** The value revision of the published values. */
+	private transient long publishedRevision;
+
 	private Settlement settlement;
 	private Inventory inv;
 
@@ -212,6 +248,7 @@ public class GoodsManager implements Serializable {
 
 	
 		populateGoodsValues();
+		publishValues();
 	}
 
 	/**
@@ -266,6 +303,33 @@ public class GoodsManager implements Serializable {
 		}
 	}
 
+	/**
+	 * Gets the value per item of a good as seen by the other settlements. The
+	 * values are published in the serial phase of each time pulse, so they do
+	 * not change while the settlements are being updated.
+	 * 
+	 * @param good the good to check.
+	 * @return value (VP)
+	 */
+	public double getPublishedValuePerItem(Good good) {
+		Double value = publishedValues.get(good);
+		if (value != null)
+			return Math.round(value * 1000.0) / 1000.0;
+		else
+			throw new IllegalArgumentException("Good: " + good + " not valid.");
+	}
+
+	/**
+	 * Publishes the values of the goods to the other settlements, if some goods
+	 * have been revalued since.
+	 */
+	private void publishValues() {
+		if (publishedValues == null || publishedRevision != valueRevision) {
+			publishedRevision = valueRevision;
+			publishedValues = new HashMap<>(goodsValues);
+		}
+	}
+
 	public double getGoodValuePerItem(Good good, double supply) {
 		if (goodsValues.containsKey(good))
 			return determineGoodValue(good, supply, true);
@@ -280,12 +344,72 @@ public class GoodsManager implements Serializable {
 	 */
 	public void timePassing(double time) {
 		updateGoodsValues();
+		UnitTickEngine.defer(this::publishValues);
 	}
 
 	/**
-	 * Updates the values for all the goods at the settlement.
+	 * Updates the values of the goods at the settlement. Only the goods marked
+	 * dirty since the last update and the goods depending on them are revalued.
+	 * All goods are revalued on the first update, after a building is added or
+	 * removed and every few sols, since the demand also drifts with time.
 	 */
 	public void updateGoodsValues() {
+		if (dirtyGoods == null || !initialized || fullUpdate
+				|| marsClock.getMissionSol() - lastFullUpdateSol >= FULL_UPDATE_SOLS) {
+			updateAllGoodsValues();
+			return;
+		}
+
+		// Determine the parts demand again if a malfunction has changed it.
+		if (partsDemandDirty) {
+			partsDemandDirty = false;
+			partsDemandCache.clear();
+			for (Good good : goodsValues.keySet()) {
+				if (GoodType.ITEM_RESOURCE == good.getCategory())
+					dirtyGoods.add(good);
+			}
+		}
+
+		// Clear vehicle caches.
+		vehicleBuyValueCache.clear();
+		vehicleSellValueCache.clear();
+
+		Set<Good> goods = getDirtyGoodsAndDependents();
+		if (!goods.isEmpty())
+			valueRevision++;
+		double inflation = inflation_rate;
+		for (Good good : goods) {
+			if (goodsValues.containsKey(good))
+				updateGoodValue(good, true);
+		}
+
+		// The inflation of the value points applies to all the resources.
+		if (inflation_rate != inflation) {
+			updateAllGoodsValues();
+			return;
+		}
+
+		settlement.fireUnitUpdate(UnitEventType.GOODS_VALUE_EVENT);
+	}
+
+	/**
+	 * Updates the values for all the goods at the settlement. This is also
+	 * useful to validate the values of the incremental updates.
+	 */
+	public void updateAllGoodsValues() {
+		if (dirtyGoods == null) {
+			dirtyGoods = ConcurrentHashMap.newKeySet();
+			// The listeners are not saved, so register again after loading a saved sim.
+			if (!settlement.hasUnitListener(this))
+				settlement.addUnitListener(this);
+		}
+		dirtyGoods.clear();
+		fullUpdate = false;
+		partsDemandDirty = false;
+		lastFullUpdateSol = marsClock.getMissionSol();
+		valueRevision++;
+		dependentGoods = createDependentGoods();
+
 		// Clear parts demand cache.
 		partsDemandCache.clear();
 
@@ -293,9 +417,16 @@ public class GoodsManager implements Serializable {
 		vehicleBuyValueCache.clear();
 		vehicleSellValueCache.clear();
 
-		Iterator<Good> i = goodsValues.keySet().iterator();
-		while (i.hasNext())
-			updateGoodValue(i.next(), true);
+		// The demand of the containers and of the other goods depends on the demand
+		// of the resources, so the resources come first.
+		for (Good good : goodsValues.keySet()) {
+			if (GoodType.AMOUNT_RESOURCE == good.getCategory())
+				updateGoodValue(good, true);
+		}
+		for (Good good : goodsValues.keySet()) {
+			if (GoodType.AMOUNT_RESOURCE != good.getCategory())
+				updateGoodValue(good, true);
+		}
 //		
 //		 while (i.hasNext()) {
 //			Good good = i.next(); 
@@ -317,13 +448,247 @@ public class GoodsManager implements Serializable {
 	 */
 	public void updateGoodValue(Good good, boolean collectiveUpdate) {
 		if (good != null) {
-			goodsValues.put(good, determineGoodValue(good, getNumberOfGoodForSettlement(good), false));
-			if (!collectiveUpdate)
+			double value = determineGoodValue(good, getNumberOfGoodForSettlement(good), false);
+			goodsValues.put(good, value);
+			checkTradeValue(good, value);
+			if (!collectiveUpdate) {
+				valueRevision++;
+				// The goods depending on this one are revalued on the next update.
+				markDependentsDirty(good);
 				settlement.fireUnitUpdate(UnitEventType.GOODS_VALUE_EVENT, good);
+			}
 		} else
 			throw new IllegalArgumentException("Good is null.");
 	}
 
+	/**
+	 * Gets the revision of the goods values. It changes whenever some goods are
+	 * revalued.
+	 * 
+	 * @return revision
+	 */
+	public long getValueRevision() {
+		return valueRevision;
+	}
+
+	/**
+	 * Gets the revision of the goods values for trading. Unlike the value
+	 * revision, it only changes when the value of some good has moved by more
+	 * than a tenth since the last change.
+	 * 
+	 * @return revision
+	 */
+	public long getTradeRevision() {
+		return tradeRevision;
+	}
+
+	/**
+	 * Changes the trade revision if the value of a good has moved much since the
+	 * last change.
+	 * 
+	 * @param good  the good.
+	 * @param value the new value of the good.
+	 */
+	private void checkTradeValue(Good good, double value) {
+		if (tradeValues == null)
+			tradeValues = new ConcurrentHashMap<>();
+		Double last = tradeValues.get(good);
+		if (last == null) {
+			tradeValues.put(good, value);
+			tradeRevision++;
+		} else if (Math.abs(value - last) > Math.max(MIN_TRADE_VALUE_CHANGE, Math.abs(last) * TRADE_VALUE_CHANGE)) {
+			tradeValues.put(good, value);
+			tradeRevision++;
+		}
+	}
+
+	/**
+	 * Marks a good to be revalued on the next update.
+	 * 
+	 * @param good the good.
+	 */
+	public void markDirty(Good good) {
+		if (good != null && dirtyGoods != null)
+			dirtyGoods.add(good);
+	}
+
+	/**
+	 * Marks all the goods to be revalued on the next update.
+	 */
+	public void markAllDirty() {
+		fullUpdate = true;
+	}
+
+	/**
+	 * Marks the parts demand to be determined again on the next update, e.g.
+	 * after a malfunction.
+	 */
+	public void markPartsDemandDirty() {
+		partsDemandDirty = true;
+	}
+
+	/**
+	 * Marks the goods depending on a good to be revalued on the next update.
+	 * 
+	 * @param good the good.
+	 */
+	private void markDependentsDirty(Good good) {
+		if (dirtyGoods != null && dependentGoods != null) {
+			List<Good> dependents = dependentGoods.get(good);
+			if (dependents != null)
+				dirtyGoods.addAll(dependents);
+		}
+	}
+
+	/**
+	 * Takes the dirty goods and adds the goods depending on them. The goods
+	 * are ordered so that a good comes before the goods depending on it, unless
+	 * they form a cycle.
+	 * 
+	 * @return the goods to revalue.
+	 */
+	private Set<Good> getDirtyGoodsAndDependents() {
+		Set<Good> result = new LinkedHashSet<>();
+		Iterator<Good> i = dirtyGoods.iterator();
+		while (i.hasNext()) {
+			result.add(i.next());
+			i.remove();
+		}
+
+		List<Good> queue = new ArrayList<>(result);
+		for (int j = 0; j < queue.size(); j++) {
+			List<Good> dependents = dependentGoods.get(queue.get(j));
+			if (dependents != null) {
+				for (Good dependent : dependents) {
+					if (result.add(dependent))
+						queue.add(dependent);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Creates the map of the goods whose demand depends on the value of a good.
+	 * The demand of a process input is based on the value of the process outputs.
+	 * The demand of equipment and vehicles is based on the value of ice and
+	 * regolith. The demand of a container is also based on the demand of the
+	 * resources of its phase.
+	 * 
+	 * @return map of goods and the goods depending on them.
+	 */
+	private Map<Good, List<Good>> createDependentGoods() {
+		Map<Good, List<Good>> result = new HashMap<>();
+
+		for (ManufactureProcessInfo process : ManufactureUtil.getAllManufactureProcesses()) {
+			for (ManufactureProcessItem output : process.getOutputList()) {
+				Good outputGood = ManufactureUtil.getGood(output);
+				for (ManufactureProcessItem input : process.getInputList())
+					addDependentGood(result, outputGood, ManufactureUtil.getGood(input));
+			}
+		}
+
+		for (FoodProductionProcessInfo process : FoodProductionUtil.getAllFoodProductionProcesses()) {
+			for (FoodProductionProcessItem output : process.getOutputList()) {
+				Good outputGood = FoodProductionUtil.getGood(output);
+				for (FoodProductionProcessItem input : process.getInputList())
+					addDependentGood(result, outputGood, FoodProductionUtil.getGood(input));
+			}
+		}
+
+		for (ResourceProcess process : getResourceProcesses()) {
+			for (Integer output : process.getOutputResources()) {
+				Good outputGood = GoodsUtil.getResourceGood(output);
+				for (Integer input : process.getInputResources())
+					addDependentGood(result, outputGood, GoodsUtil.getResourceGood(input));
+			}
+		}
+
+		Good iceGood = GoodsUtil.getResourceGood(ResourceUtil.iceID);
+		Good regolithGood = GoodsUtil.getResourceGood(ResourceUtil.regolithID);
+		for (Good good : goodsValues.keySet()) {
+			if (GoodType.EQUIPMENT == good.getCategory() || GoodType.VEHICLE == good.getCategory()) {
+				addDependentGood(result, iceGood, good);
+				addDependentGood(result, regolithGood, good);
+			}
+			if (GoodType.EQUIPMENT == good.getCategory() && Container.class.isAssignableFrom(good.getClassType())
+					&& !SpecimenContainer.class.equals(good.getClassType())) {
+				PhaseType phase = ContainerUtil.getContainerPhase((Class<? extends Container>) good.getClassType());
+				for (AmountResource resource : ResourceUtil.getAmountResources()) {
+					if (resource.getPhase() == phase)
+						addDependentGood(result, GoodsUtil.getResourceGood(resource), good);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Adds a good depending on another good.
+	 * 
+	 * @param map       the map of goods and the goods depending on them.
+	 * @param good      the good.
+	 * @param dependent the good depending on it.
+	 */
+	private static void addDependentGood(Map<Good, List<Good>> map, Good good, Good dependent) {
+		if (good == null || dependent == null || good.equals(dependent))
+			return;
+		List<Good> dependents = map.get(good);
+		if (dependents == null) {
+			dependents = new ArrayList<>(1);
+			map.put(good, dependents);
+		}
+		if (!dependents.contains(dependent))
+			dependents.add(dependent);
+	}
+
+	/**
+	 * Marks the goods affected by a change at the settlement as dirty.
+	 * 
+	 * @param event the unit event.
+	 */
+	@Override
+	public void unitUpdate(UnitEvent event) {
+		UnitEventType type = event.getType();
+		if (UnitEventType.INVENTORY_RESOURCE_EVENT == type
+				|| UnitEventType.INVENTORY_STORING_UNIT_EVENT == type
+				|| UnitEventType.INVENTORY_RETRIEVING_UNIT_EVENT == type)
+			markDirty(getGood(event.getTarget()));
+		else if (UnitEventType.MALFUNCTION_EVENT == type)
+			markPartsDemandDirty();
+		else if (UnitEventType.ADD_BUILDING_EVENT == type || UnitEventType.REMOVE_BUILDING_EVENT == type
+				|| UnitEventType.ADD_ASSOCIATED_PERSON_EVENT == type
+				|| UnitEventType.REMOVE_ASSOCIATED_PERSON_EVENT == type
+				|| UnitEventType.ADD_ASSOCIATED_ROBOT_EVENT == type
+				|| UnitEventType.REMOVE_ASSOCIATED_ROBOT_EVENT == type)
+			// The population drives the demand of most goods
+			markAllDirty();
+	}
+
+	/**
+	 * Gets the good of the target of an inventory event.
+	 * 
+	 * @param target the resource, resource id, resource name or unit.
+	 * @return the good or null if none.
+	 */
+	private static Good getGood(Object target) {
+		if (target instanceof Resource)
+			return GoodsUtil.getResourceGood((Resource) target);
+		else if (target instanceof Integer)
+			return GoodsUtil.getResourceGood((Integer) target);
+		else if (target instanceof String) {
+			AmountResource resource = ResourceUtil.findAmountResource((String) target);
+			if (resource != null)
+				return GoodsUtil.getResourceGood(resource);
+		} else if (target instanceof Equipment)
+			return GoodsUtil.getEquipmentGood(target.getClass());
+		else if (target instanceof Vehicle)
+			return GoodsUtil.getVehicleGood(((Vehicle) target).getDescription());
+		return null;
+	}
+
 	/**
 	 * Determines the value of a good.
 	 * 
@@ -787,22 +1152,27 @@ public class GoodsManager implements Serializable {
 
 	public void setCropFarmFactor(double value) {
 		cropFarm_factor = value * CROPFARM_BASE;
+		markAllDirty();
 	}
 
 	public void setManufacturingFactor(double value) {
 		manufacturing_factor = value * MANU_BASE;
+		markAllDirty();
 	}
 
 	public void setTransportationFactor(double value) {
 		transportation_factor = value * TRANSPORT_BASE;
+		markAllDirty();
 	}
 
 	public void setResearchFactor(double value) {
 		research_factor = value * RESEARCH_BASE;
+		markAllDirty();
 	}
 
 	public void setTradeFactor(double value) {
 		trade_factor = value * TRADE_BASE;
+		markAllDirty();
 	}
 
 	// public void setFreeMarketFactor(double value) {
@@ -811,6 +1181,7 @@ public class GoodsManager implements Serializable {
 
 	public void setTourismFactor(double value) {
 		tourism_factor = value * TOURISM_BASE;
+		markAllDirty();
 	}
 
 	public double getCropFarmFactor() {
@@ -1284,7 +1655,7 @@ public class GoodsManager implements Serializable {
 						// Check if any existing buildings have same frame stage and can be refit or
 						// refurbished
 						// into new building.
-						Iterator<Building> i = settlement.getBuildingManager().getACopyOfBuildings().iterator();
+						Iterator<Building> i = settlement.getBuildingManager().getBuildings().iterator();
 						while (i.hasNext()) {
 							ConstructionStageInfo tempBuildingStage = ConstructionUtil
 									.getConstructionStageInfo(i.next().getBuildingType());
@@ -2834,7 +3205,7 @@ public class GoodsManager implements Serializable {
 
 			for (Settlement tempSettlement : unitManager.getSettlements()) {
 				if (tempSettlement != settlement) {
-					double baseValue = tempSettlement.getGoodsManager().getGoodValuePerItem(good);
+					double baseValue = tempSettlement.getGoodsManager().getPublishedValuePerItem(good);
 					double distance = settlement.getCoordinates().getDistance(tempSettlement.getCoordinates());
 					double tradeValue = baseValue / (1D + (distance / 1000D));
 					if (tradeValue > bestTradeValue)
@@ -2953,6 +3324,18 @@ public class GoodsManager implements Serializable {
 
 	}
 	
+	/**
+	 * Publishes the loaded values of the goods to the other settlements.
+	 * 
+	 * @param in the stream.
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		publishValues();
+	}
+
 	/**
 	 * Prepare object for garbage collection.
 	 */
@@ -56,6 +56,16 @@ public class MarsClock implements Serializable {
 	public static final int SOUTHERN_HEMISPHERE = 2;
 
 	public static final int NUM_SOLS_SIX_MONTHS = SOLS_PER_MONTH_LONG * 5 + SOLS_PER_MONTH_SHORT;
+	/**
+	 * The sols of an orbit before each month. Only the last month of a leap orbit
+	 * is longer, so this is the same for all orbits.
+	 */
+	private static final int[] SOLS_BEFORE_MONTH = new int[MONTHS_PER_ORBIT + 1];
+
+	static {
+		for (int m = 2; m <= MONTHS_PER_ORBIT; m++)
+			SOLS_BEFORE_MONTH[m] = SOLS_BEFORE_MONTH[m - 1] + getSolsInMonth(m - 1, 1);
+	}
 	
 	// Note: the summer solstice marks the longest day of the calendar year and
 	// the beginning of summer in the "Northern Hemisphere".
@@ -790,19 +800,8 @@ public class MarsClock implements Serializable {
 	 * @return total millisols
 	 */
 	public static double getTotalMillisols(MarsClock time) {
-		double result = 0D;
-
-		// Add millisols up to current orbit
-		for (int x = 0; x < time.orbit; x++) {
-			if (isLeapOrbit(x))
-				result += SOLS_PER_ORBIT_LEAPYEAR * 1000D;
-			else
-				result += SOLS_PER_ORBIT_NON_LEAPYEAR * 1000D;
-		}
-
-		// Add millisols up to current month
-		for (int x = 1; x < time.month; x++)
-			result += getSolsInMonth(x, time.orbit) * 1000D;
+		// Add sols up to current orbit and up to current month
+		double result = (MarsTime.getSolsBeforeOrbit(time.orbit) + SOLS_BEFORE_MONTH[time.month]) * 1000D;
 
 		// Add millisols up to current sol
 		result += (time.sol - 1) * 1000D;
@@ -810,11 +809,38 @@ public class MarsClock implements Serializable {
 		// Add millisols in current sol
 		result += time.millisol;
 
-		// System.out.println("MarsClock : result : " + result);
-
 		return result;
 	}
 
+	/**
+	 * Gets the current time as an immutable value.
+	 *
+	 * @return {@link MarsTime} instance
+	 */
+	public MarsTime getTime() {
+		return new MarsTime(getTotalMillisols(this), missionSol);
+	}
+
+	/**
+	 * Returns the time difference with an earlier time.
+	 *
+	 * @param earlier the earlier time.
+	 * @return time difference in millisols
+	 */
+	public double getTimeDiff(MarsTime earlier) {
+		return getTotalMillisols(this) - earlier.getTotalMillisols();
+	}
+
+	/**
+	 * Checks if the clock is at a given time.
+	 *
+	 * @param time the time or null.
+	 * @return true if at the time.
+	 */
+	public boolean isAt(MarsTime time) {
+		return time != null && getTotalMillisols(this) == time.getTotalMillisols();
+	}
+
 	/**
 	 * Returns the name of the current month.
 	 *
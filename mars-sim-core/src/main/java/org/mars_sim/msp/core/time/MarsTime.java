@@ -0,0 +1,234 @@
+/**
+ * Mars Simulation Project
+ * MarsTime.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+
+package org.mars_sim.msp.core.time;
+
+import java.io.Serializable;
+
+/**
+ * The MarsTime class is an immutable instant of Martian time, kept as the
+ * total millisols since the start of orbit 0. Unlike a clone of
+ * {@link MarsClock}, comparing two instants or taking their difference is a
+ * subtraction. The orbit, month and sol are only worked out when asked for.
+ */
+public final class MarsTime implements Serializable, Comparable<MarsTime> {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	private static final double MILLISOLS_PER_SOL = 1000D;
+	private static final int MONTHS_PER_ORBIT = 24;
+
+	/** The total millisols since the start of orbit 0. */
+	private final double millisols;
+	/** The mission sol since the start of the sim. */
+	private final int missionSol;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param millisols  the total millisols since the start of orbit 0.
+	 * @param missionSol the mission sol.
+	 */
+	public MarsTime(double millisols, int missionSol) {
+		if (millisols < 0D || Double.isNaN(millisols))
+			throw new IllegalArgumentException("Invalid total millisols: " + millisols);
+		this.millisols = millisols;
+		this.missionSol = missionSol;
+	}
+
+	/**
+	 * Gets the total millisols since the start of orbit 0.
+	 *
+	 * @return millisols.
+	 */
+	public double getTotalMillisols() {
+		return millisols;
+	}
+
+	/**
+	 * Returns the mission sol. Note: the first day of the mission is Sol 1
+	 *
+	 * @return sol
+	 */
+	public int getMissionSol() {
+		return missionSol;
+	}
+
+	/**
+	 * Returns the time difference with an earlier time.
+	 *
+	 * @param earlier the other time.
+	 * @return time difference in millisols.
+	 */
+	public double getTimeDiff(MarsTime earlier) {
+		return millisols - earlier.millisols;
+	}
+
+	/**
+	 * Returns a time later by some millisols. Note: negative time gives an earlier
+	 * time.
+	 *
+	 * @param addedMillisols millisols to be added.
+	 * @return the new time.
+	 */
+	public MarsTime addTime(double addedMillisols) {
+		double total = millisols + addedMillisols;
+		int sols = (int) Math.floor(total / MILLISOLS_PER_SOL) - (int) Math.floor(millisols / MILLISOLS_PER_SOL);
+		return new MarsTime(total, missionSol + sols);
+	}
+
+	/**
+	 * Checks if this time is before another time.
+	 *
+	 * @param other the other time.
+	 * @return true if before.
+	 */
+	public boolean isBefore(MarsTime other) {
+		return millisols < other.millisols;
+	}
+
+	/**
+	 * Checks if this time is after another time.
+	 *
+	 * @param other the other time.
+	 * @return true if after.
+	 */
+	public boolean isAfter(MarsTime other) {
+		return millisols > other.millisols;
+	}
+
+	/**
+	 * Returns the orbit.
+	 *
+	 * @return the orbit
+	 */
+	public int getOrbit() {
+		return getOrbit(getTotalSols());
+	}
+
+	/**
+	 * Returns the month (1 - 24).
+	 *
+	 * @return the month
+	 */
+	public int getMonth() {
+		return getMonthAndSol() / 100;
+	}
+
+	/**
+	 * Returns the sol of the month (1 - 28).
+	 *
+	 * @return the sol of the month
+	 */
+	public int getSolOfMonth() {
+		return getMonthAndSol() % 100;
+	}
+
+	/**
+	 * Returns the millisol of the sol.
+	 *
+	 * @return the millisol
+	 */
+	public double getMillisol() {
+		return millisols - getTotalSols() * MILLISOLS_PER_SOL;
+	}
+
+	/**
+	 * Creates a clock set at this time. Note: its time won't increment.
+	 *
+	 * @return the clock.
+	 */
+	public MarsClock toMarsClock() {
+		return new MarsClock(getOrbit(), getMonth(), getSolOfMonth(), getMillisol(), missionSol);
+	}
+
+	/**
+	 * Works out the month and the sol of the month.
+	 *
+	 * @return month * 100 + sol of the month.
+	 */
+	private int getMonthAndSol() {
+		int totalSols = getTotalSols();
+		int orbit = getOrbit(totalSols);
+		int sols = totalSols - getSolsBeforeOrbit(orbit);
+		int month = 1;
+		while (month < MONTHS_PER_ORBIT && sols >= MarsClock.getSolsInMonth(month, orbit)) {
+			sols -= MarsClock.getSolsInMonth(month, orbit);
+			month++;
+		}
+		return month * 100 + sols + 1;
+	}
+
+	private int getTotalSols() {
+		return (int) Math.floor(millisols / MILLISOLS_PER_SOL);
+	}
+
+	/**
+	 * Gets the number of sols from the start of orbit 0 to the start of an orbit.
+	 *
+	 * @param orbit the orbit.
+	 * @return sols.
+	 */
+	static int getSolsBeforeOrbit(int orbit) {
+		if (orbit <= 0)
+			return 0;
+		// The leap orbits before this orbit, as in MarsClock.isLeapOrbit(int)
+		int leapOrbits = ceilDiv(orbit, 10) - ceilDiv(orbit, 100) + ceilDiv(orbit, 500);
+		return orbit * MarsClock.SOLS_PER_ORBIT_NON_LEAPYEAR + leapOrbits;
+	}
+
+	private static int ceilDiv(int a, int b) {
+		return (a + b - 1) / b;
+	}
+
+	/**
+	 * Gets the orbit a sol is in.
+	 *
+	 * @param totalSols the sols since the start of orbit 0.
+	 * @return the orbit.
+	 */
+	private static int getOrbit(int totalSols) {
+		int orbit = totalSols / MarsClock.SOLS_PER_ORBIT_LEAPYEAR;
+		while (getSolsBeforeOrbit(orbit + 1) <= totalSols)
+			orbit++;
+		return orbit;
+	}
+
+	@Override
+	public int compareTo(MarsTime other) {
+		return Double.compare(millisols, other.millisols);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return (object instanceof MarsTime) && Double.compare(millisols, ((MarsTime) object).millisols) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return Double.hashCode(millisols);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder b = new StringBuilder();
+		int orbit = getOrbit();
+		if (orbit < 10)
+			b.append("000");
+		else if (orbit < 100)
+			b.append("00");
+		else if (orbit < 1000)
+			b.append("0");
+		b.append(orbit).append("-").append(MarsClock.getMonthNames()[getMonth() - 1]).append("-");
+		int sol = getSolOfMonth();
+		if (sol < 10)
+			b.append("0");
+		b.append(sol).append(":").append(String.format("%07.3f", getMillisol()));
+		return b.toString();
+	}
+}
@@ -19,9 +19,12 @@ import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,6 +45,11 @@ public class MasterClock implements Serializable {
 
 	private static final int FACTOR = 4;
 
+	/** The default length of a pulse in fixed-step mode (in millisols). */
+	public static final double DEFAULT_FIXED_STEP = 0.5;
+	/** The maximum time to wait for the clock pulses in flight before saving (in seconds). */
+	private static final long PULSE_TIMEOUT = 10L;
+
 	// Data members
 	/** Runnable flag. */
 	private transient volatile boolean keepRunning = true;
@@ -53,6 +61,14 @@ public class MasterClock implements Serializable {
 	private transient volatile boolean autosave;
 	/** Mode for saving a simulation. */
 	private transient volatile int saveType;
+	/** Is the clock running in fixed-step (as fast as possible) mode. */
+	private transient volatile boolean isFixedStep = false;
+	/** The length of each pulse in fixed-step mode (in millisols). */
+	private transient double fixedStep = DEFAULT_FIXED_STEP;
+	/** The number of sols to run in fixed-step mode before exiting. 0 if unlimited. */
+	private transient int fixedStepSols = 0;
+	/** The sols achieved per second of wall-clock time in fixed-step mode. */
+	private transient volatile double solsPerSecond = 0;
 
 	/** The Current time between updates (TBU). */
 	private volatile long currentTBU_ns = 0L;
@@ -637,6 +653,51 @@ public class MasterClock implements Serializable {
 		return maxFrameSkips;
 	}
 
+	/**
+	 * Sets the clock to run in fixed-step mode. Each pulse advances the simulation
+	 * by a constant amount of time instead of the elapsed wall-clock time, and
+	 * pulses are sent out back-to-back as fast as the simulation can process them.
+	 * 
+	 * @param millisols the length of each pulse in millisols
+	 * @param sols      the number of sols to run before exiting, or 0 if unlimited
+	 */
+	public void setFixedStep(double millisols, int sols) {
+		if (millisols <= 0D || millisols > 100D)
+			throw new IllegalArgumentException("Fixed step is out of bounds. Must be between 0 and 100 millisols");
+		if (sols < 0)
+			throw new IllegalArgumentException("Number of sols cannot be negative");
+		fixedStep = millisols;
+		fixedStepSols = sols;
+		isFixedStep = true;
+	}
+
+	/**
+	 * Checks if the clock is running in fixed-step mode.
+	 * 
+	 * @return true if in fixed-step mode
+	 */
+	public boolean isFixedStep() {
+		return isFixedStep;
+	}
+
+	/**
+	 * Gets the length of each pulse in fixed-step mode.
+	 * 
+	 * @return millisols
+	 */
+	public double getFixedStep() {
+		return fixedStep;
+	}
+
+	/**
+	 * Gets the sols simulated per second of wall-clock time in fixed-step mode.
+	 * 
+	 * @return sols per second
+	 */
+	public double getSolsPerSecond() {
+		return solsPerSecond;
+	}
+
 	/**
 	 * Returns the instance of ClockThreadTask
 	 * 
@@ -662,7 +723,11 @@ public class MasterClock implements Serializable {
 			// Keep running until told not to by calling stop()
 			keepRunning = true;
 
-			if (!isFXGL) {
+			if (isFixedStep) {
+				runFixedStep();
+			}
+
+			else if (!isFXGL) {
 
 				long t1, t2, sleepTime, overSleepTime = 0L, excess = 0L;
 				int noDelays = 0;
@@ -766,6 +831,7 @@ public class MasterClock implements Serializable {
 					// Exit program if exitProgram flag is true.
 					if (exitProgram) {
 						AutosaveScheduler.cancel();
+						sim.awaitSave();
 						System.exit(0);
 					}
 
@@ -778,6 +844,85 @@ public class MasterClock implements Serializable {
 		} // end of run
 	}
 
+	/**
+	 * Runs the game loop in fixed-step mode. The simulation is pulsed directly on
+	 * the clock thread with no sleeping, no frame skipping and no ui pulses.
+	 */
+	private void runFixedStep() {
+		logger.config("Running in fixed-step mode at " + fixedStep + " millisols per pulse"
+				+ (fixedStepSols > 0 ? " for " + fixedStepSols + " sols." : "."));
+
+		int startSol = marsClock.getMissionSol();
+		int lastSol = startSol;
+		long pulses = 0;
+		long t0 = System.nanoTime();
+
+		while (keepRunning) {
+			if (!isPaused) {
+				addFixedTime();
+				pulses++;
+
+				int sol = marsClock.getMissionSol();
+				if (sol != lastSol) {
+					lastSol = sol;
+					double seconds = (System.nanoTime() - t0) / 1_000_000_000D;
+					solsPerSecond = pulses * fixedStep / 1000D / seconds;
+					logger.config("Sol " + sol + " reached. Achieved "
+							+ Math.round(solsPerSecond * 1000D) / 1000D + " sols per second.");
+
+					if (fixedStepSols > 0 && sol - startSol >= fixedStepSols) {
+						logger.config("Done running " + fixedStepSols + " sols in "
+								+ Math.round(seconds * 10D) / 10D + " secs.");
+						exitProgram = true;
+					}
+				}
+			}
+
+			else {
+				// Nothing to do while paused. Avoid spinning the cpu.
+				try {
+					TimeUnit.MILLISECONDS.sleep(100L);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				// Restart the measurement after a pause
+				t0 = System.nanoTime();
+				pulses = 0;
+			}
+
+			checkSave();
+
+			// Exit program if exitProgram flag is true.
+			if (exitProgram) {
+				AutosaveScheduler.cancel();
+				sim.awaitSave();
+				System.exit(0);
+			}
+		}
+	}
+
+	/**
+	 * Adds a fixed step of earth time and mars time and pulses the simulation
+	 * directly.
+	 */
+	private void addFixedTime() {
+		// Incrementing total time pulse number.
+		totalPulses++;
+		// Add the fixed step to Earth and Mars clocks.
+		earthClock.addTime(fixedStep * MarsClock.SECONDS_PER_MILLISOL * 1000D);
+		marsClock.addTime(fixedStep);
+
+		sim.clockPulse(fixedStep);
+	}
+
+	/**
+	 * Advances the clock by one fixed step and pulses the simulation on the
+	 * calling thread. Used for driving the simulation without the clock thread.
+	 */
+	public void advanceFixedStep() {
+		addFixedTime();
+	}
+
 	/*
 	 * Add earth time and mars time
 	 */
@@ -1064,6 +1209,25 @@ public class MasterClock implements Serializable {
 		keepRunning = true;
 	}
 
+	/**
+	 * Waits for the clock pulses already handed to the clock listeners to be
+	 * processed, so that the simulation is at a tick boundary.
+	 */
+	public void awaitClockPulses() {
+		ExecutorService executor = clockListenerExecutor;
+		if (executor != null && !executor.isShutdown()) {
+			try {
+				// The executor has a single thread. Any pulse submitted earlier is done
+				// once this returns.
+				executor.submit(() -> {}).get(PULSE_TIMEOUT, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException | RejectedExecutionException | TimeoutException e) {
+				logger.log(Level.WARNING, "Could not wait for the clock pulses to finish.", e);
+			}
+		}
+	}
+
 	/**
 	 * Set if the simulation is paused or not.
 	 *
@@ -1244,6 +1408,7 @@ public class MasterClock implements Serializable {
 			// Exit program if exitProgram flag is true.
 			if (exitProgram) {
 				AutosaveScheduler.cancel();
+				sim.awaitSave();
 				System.exit(0);
 			}
 
@@ -0,0 +1,158 @@
+/**
+ * Mars Simulation Project
+ * LatencyHistogram.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core.tool;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The LatencyHistogram counts durations in buckets whose width grows with the
+ * duration, in the manner of HdrHistogram : each power of two is split in 32
+ * buckets, so a percentile is off by at most 1/32 of its value. Durations up
+ * to 2^41 nanoseconds (about 36 minutes) are kept apart, longer ones fall in
+ * the last bucket. Recording takes no lock and may be done from many threads.
+ */
+public class LatencyHistogram {
+
+	/** The number of bits of the sub-buckets. */
+	private static final int SUB_BITS = 5;
+	/** The number of buckets per power of two. */
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+	/** The largest power of two kept apart. */
+	private static final int MAX_EXPONENT = 40;
+	/** The number of buckets. */
+	private static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param nanos the duration in nanoseconds.
+	 */
+	public void record(long nanos) {
+		if (nanos < 0L)
+			nanos = 0L;
+		counts.incrementAndGet(getIndex(nanos));
+		total.add(nanos);
+		if (nanos > max.get())
+			max.accumulateAndGet(nanos, Math::max);
+	}
+
+	/**
+	 * Gets the bucket of a duration.
+	 *
+	 * @param nanos the duration.
+	 * @return the index of the bucket.
+	 */
+	static int getIndex(long nanos) {
+		if (nanos < SUB_BUCKETS)
+			return (int) nanos;
+		int exponent = Math.min(63 - Long.numberOfLeadingZeros(nanos), MAX_EXPONENT);
+		int shift = exponent - SUB_BITS;
+		long sub = Math.min(nanos >>> shift, 2 * SUB_BUCKETS - 1) - SUB_BUCKETS;
+		return (shift + 1) * SUB_BUCKETS + (int) sub;
+	}
+
+	/**
+	 * Gets the largest duration falling in a bucket.
+	 *
+	 * @param index the index of the bucket.
+	 * @return the duration in nanoseconds.
+	 */
+	static long getHighestValue(int index) {
+		if (index < SUB_BUCKETS)
+			return index;
+		int shift = index / SUB_BUCKETS - 1;
+		long sub = index % SUB_BUCKETS + SUB_BUCKETS;
+		return ((sub + 1) << shift) - 1;
+	}
+
+	/**
+	 * Gets the number of durations recorded.
+	 *
+	 * @return count
+	 */
+	public long getCount() {
+		long result = 0L;
+		for (int i = 0; i < BUCKETS; i++) {
+			result += counts.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the sum of the durations recorded.
+	 *
+	 * @return nanoseconds
+	 */
+	public long getTotal() {
+		return total.sum();
+	}
+
+	/**
+	 * Gets the longest duration recorded.
+	 *
+	 * @return nanoseconds
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Gets the mean duration.
+	 *
+	 * @return nanoseconds or 0 if nothing recorded.
+	 */
+	public double getMean() {
+		long count = getCount();
+		return (count > 0L) ? (double) total.sum() / count : 0D;
+	}
+
+	/**
+	 * Gets the duration that a part of the durations recorded do not exceed.
+	 *
+	 * @param percentile the part, between 0 and 100.
+	 * @return nanoseconds or 0 if nothing recorded.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (percentile < 0D || percentile > 100D)
+			throw new IllegalArgumentException("Percentile must be between 0 and 100 : " + percentile);
+
+		long[] snapshot = new long[BUCKETS];
+		long count = 0L;
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			count += snapshot[i];
+		}
+		if (count == 0L)
+			return 0L;
+
+		long rank = Math.max(1L, (long) Math.ceil(percentile / 100D * count));
+		long seen = 0L;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= rank)
+				return Math.min(getHighestValue(i), getMax());
+		}
+		return getMax();
+	}
+
+	/**
+	 * Forgets the durations recorded.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0L);
+		}
+		total.reset();
+		max.set(0L);
+	}
+}
@@ -8,6 +8,7 @@ package org.mars_sim.msp.core.tool;
 
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.mars_sim.msp.core.Msg;
 
@@ -24,7 +25,29 @@ public final class RandomUtil {
 	 * MersenneTwisterFast provides a fast, much "more" random than the linear
 	 * congruential of the java.util.Random
 	 */
-	private final static MersenneTwisterFast random = new MersenneTwisterFast();
+	private final static MersenneTwisterFast seeder = new MersenneTwisterFast();
+	/**
+	 * Each thread has its own generator (seeded from the one above) since
+	 * MersenneTwisterFast is not thread safe and units may be updated in parallel.
+	 */
+	private final static ThreadLocal<MersenneTwisterFast> threadGenerator = ThreadLocal.withInitial(RandomUtil::createGenerator);
+	/** The stream selected by the calling thread, if any. */
+	private final static ThreadLocal<MersenneTwisterFast> currentStream = new ThreadLocal<>();
+	/** The named streams of a deterministic run. */
+	private final static Map<String, MersenneTwisterFast> streams = new ConcurrentHashMap<>();
+	/**
+	 * The generator of the calling thread in a deterministic run, for a thread
+	 * that has not selected a stream.
+	 */
+	private final static ThreadLocal<ThreadStream> threadStream = new ThreadLocal<>();
+	/** The name prefix of the stream of a thread that has not selected one. */
+	private final static String THREAD_STREAM = "Thread-";
+	/** The master seed of a deterministic run. */
+	private static volatile long masterSeed;
+	/** Counts the master seeds set, so that the thread streams are recreated. */
+	private static volatile int seedGeneration;
+	/** True if running with a master seed. */
+	private static volatile boolean deterministic = false;
 	// Note 1: it is compatible with standard java.util.Randrom's method and require
 	// no mapping
 	// See intro at
@@ -43,6 +66,108 @@ public final class RandomUtil {
 	// private final static SFMT19937 random = new SFMT19937();
 	// private final static SFMT19937j random = new SFMT19937j();
 
+	/**
+	 * Sets the master seed and switches to deterministic mode. Each subsystem
+	 * (e.g. a settlement or the weather) then draws from its own named stream
+	 * seeded from the master seed, so the numbers it gets do not depend on which
+	 * thread runs it or in what order the other subsystems ran.
+	 * 
+	 * @param seed the master seed
+	 */
+	public static void setMasterSeed(long seed) {
+		masterSeed = seed;
+		streams.clear();
+		seedGeneration++;
+		deterministic = true;
+	}
+
+	/**
+	 * Checks if running in deterministic mode.
+	 * 
+	 * @return true if a master seed has been set
+	 */
+	public static boolean isDeterministic() {
+		return deterministic;
+	}
+
+	/**
+	 * Gets the master seed.
+	 * 
+	 * @return the master seed
+	 */
+	public static long getMasterSeed() {
+		return masterSeed;
+	}
+
+	/**
+	 * Selects the named stream for the calling thread. Does nothing unless in
+	 * deterministic mode.
+	 * 
+	 * @param name the name of the stream
+	 */
+	public static void useStream(String name) {
+		if (deterministic) {
+			currentStream.set(streams.computeIfAbsent(name, RandomUtil::createStream));
+		}
+	}
+
+	/**
+	 * Deselects the stream of the calling thread.
+	 */
+	public static void clearStream() {
+		currentStream.remove();
+	}
+
+	/**
+	 * Creates a named stream seeded from the master seed.
+	 * 
+	 * @param name the name of the stream
+	 * @return {@link MersenneTwisterFast}
+	 */
+	private static MersenneTwisterFast createStream(String name) {
+		return new MersenneTwisterFast(new int[] { (int) (masterSeed >>> 32), (int) masterSeed, name.hashCode() });
+	}
+
+	/**
+	 * Gets the generator for the calling thread.
+	 * 
+	 * @return the selected stream, or the thread's own generator if none
+	 */
+	private static MersenneTwisterFast random() {
+		MersenneTwisterFast stream = currentStream.get();
+		if (stream != null)
+			return stream;
+		if (deterministic)
+			return getThreadStream();
+		return threadGenerator.get();
+	}
+
+	/**
+	 * Gets the generator of the calling thread in a deterministic run. It is
+	 * seeded from the master seed and the thread name, not from the seeder.
+	 * 
+	 * @return {@link MersenneTwisterFast}
+	 */
+	private static MersenneTwisterFast getThreadStream() {
+		ThreadStream stream = threadStream.get();
+		if (stream == null || stream.generation != seedGeneration) {
+			stream = new ThreadStream(seedGeneration, createStream(THREAD_STREAM + Thread.currentThread().getName()));
+			threadStream.set(stream);
+		}
+		return stream.generator;
+	}
+
+	/**
+	 * Creates a new generator for the calling thread.
+	 * 
+	 * @return {@link MersenneTwisterFast}
+	 */
+	private static MersenneTwisterFast createGenerator() {
+		synchronized (seeder) {
+			return new MersenneTwisterFast(seeder.nextLong());
+		}
+	}
+
 	/**
 	 * Returns true if given number is less than a random percentage.
 	 * 
@@ -50,7 +175,7 @@ public final class RandomUtil {
 	 * @return true if random percent is less than percentage limit
 	 */
 	public static boolean lessThanRandPercent(int randomLimit) {
-		int rand = random.nextInt(100) + 1;
+		int rand = random().nextInt(100) + 1;
 		return rand < randomLimit;
 	}
 
@@ -61,7 +186,7 @@ public final class RandomUtil {
 	 * @return true if random percent is less than percentage limit
 	 */
 	public static boolean lessThanRandPercent(double randomLimit) {
-		double rand = random.nextDouble() * 100D;
+		double rand = random().nextDouble() * 100D;
 		return rand < randomLimit;
 	}
 
@@ -74,7 +199,7 @@ public final class RandomUtil {
 	public static int getRandomInt(int ceiling) {
 		if (ceiling < 0)
 			throw new IllegalArgumentException(Msg.getString("RandomUtil.log.ceilingMustBePositive") + ceiling); //$NON-NLS-1$
-		return random.nextInt(ceiling + 1);
+		return random().nextInt(ceiling + 1);
 	}
 
 	/**
@@ -88,7 +213,7 @@ public final class RandomUtil {
 	public static int getRandomInt(int base, int ceiling) {
 		if (ceiling < base)
 			throw new IllegalArgumentException(Msg.getString("RandomUtil.log.ceilingMustGreaterBase")); //$NON-NLS-1$
-		return random.nextInt(ceiling - base + 1) + base;
+		return random().nextInt(ceiling - base + 1) + base;
 	}
 
 	/**
@@ -98,7 +223,7 @@ public final class RandomUtil {
 	 * @return the random number
 	 */
 	public static double getRandomDouble(double ceiling) {
-		return random.nextDouble() * ceiling;
+		return random().nextDouble() * ceiling;
 	}
 
 	/**
@@ -109,7 +234,7 @@ public final class RandomUtil {
 	 * @return the random number
 	 */
 	public static double getGaussianDouble() {
-		return random.nextGaussian();
+		return random().nextGaussian();
 	}
 
 	/**
@@ -246,4 +371,18 @@ public final class RandomUtil {
 
 		return result;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The generator of a thread for the master seed it was created from.
+	 */
+	private static final class ThreadStream {
+
+		private final int generation;
+		private final MersenneTwisterFast generator;
+
+		private ThreadStream(int generation, MersenneTwisterFast generator) {
+			this.generation = generation;
+			this.generator = generator;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/**
+ * Mars Simulation Project
+ * ReplayCheck.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core.tool;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.Unit;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.person.PhysicalCondition;
+import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MasterClock;
+
+/**
+ * The ReplayCheck runs a new simulation twice with the same master seed and
+ * fixed pulse size, and compares a digest of the state of every unit at the end
+ * of each sol. Any difference means the simulation is not deterministic, which
+ * must be fixed before two benchmark runs can be compared.
+ */
+public class ReplayCheck {
+
+	/** default logger. */
+	private static Logger logger = Logger.getLogger(ReplayCheck.class.getName());
+
+	private long seed;
+	private int sols;
+	private double step;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param seed the master seed
+	 * @param sols the number of sols to run
+	 * @param step the length of each pulse in millisols
+	 */
+	public ReplayCheck(long seed, int sols, double step) {
+		this.seed = seed;
+		this.sols = sols;
+		this.step = step;
+	}
+
+	/**
+	 * Runs the simulation twice and compares the digests of each sol.
+	 *
+	 * @return the first sol that differs, or -1 if both runs match
+	 */
+	public int check() {
+		logger.config("Replay check with seed " + seed + " for " + sols + " sols at " + step
+				+ " millisols per pulse.");
+
+		List<Map<String, Long>> first = run();
+		List<Map<String, Long>> second = run();
+
+		for (int i = 0; i < first.size() && i < second.size(); i++) {
+			Map<String, Long> a = first.get(i);
+			Map<String, Long> b = second.get(i);
+			if (!a.equals(b)) {
+				List<String> diverged = new ArrayList<>();
+				for (String name : a.keySet()) {
+					if (!a.get(name).equals(b.get(name)))
+						diverged.add(name);
+				}
+				for (String name : b.keySet()) {
+					if (!a.containsKey(name))
+						diverged.add(name);
+				}
+				logger.warning("The runs diverged on sol " + (i + 1) + ". Units differing : " + diverged);
+				return i + 1;
+			}
+		}
+
+		logger.config("Both runs matched on all " + first.size() + " sols.");
+		return -1;
+	}
+
+	/**
+	 * Runs a new simulation and collects the digests.
+	 *
+	 * @return the digests at the end of each sol
+	 */
+	private List<Map<String, Long>> run() {
+		RandomUtil.setMasterSeed(seed);
+
+		Simulation.createNewSimulation(-1, false);
+		Simulation sim = Simulation.instance();
+		MasterClock masterClock = sim.getMasterClock();
+		masterClock.setFixedStep(step, sols);
+		MarsClock marsClock = masterClock.getMarsClock();
+
+		List<Map<String, Long>> digests = new ArrayList<>(sols);
+		int startSol = marsClock.getMissionSol();
+		int lastSol = startSol;
+
+		while (lastSol - startSol < sols) {
+			masterClock.advanceFixedStep();
+			int sol = marsClock.getMissionSol();
+			if (sol != lastSol) {
+				lastSol = sol;
+				digests.add(digest(sim));
+			}
+		}
+
+		RandomUtil.clearStream();
+		return digests;
+	}
+
+	/**
+	 * Computes a digest of the state of each unit.
+	 *
+	 * @param sim the simulation
+	 * @return a map of unit names and their digests
+	 */
+	public static Map<String, Long> digest(Simulation sim) {
+		List<Unit> units = new ArrayList<>(sim.getUnitManager().getUnits());
+		units.sort(Comparator.comparingInt(Unit::getIdentifier));
+
+		Map<String, Long> result = new LinkedHashMap<>();
+		StringBuilder sb = new StringBuilder();
+		CRC32 crc = new CRC32();
+		// Identifiers keep counting up from one run to the next, so units are
+		// keyed by their order instead
+		int index = 0;
+
+		for (Unit u : units) {
+			sb.setLength(0);
+			sb.append(u.getName()).append(';').append(u.getLocationStateType());
+
+			Coordinates c = u.getCoordinates();
+			if (c != null)
+				sb.append(';').append(c.getPhi()).append(';').append(c.getTheta());
+
+			if (u.getInventory() != null)
+				sb.append(';').append(u.getInventory().getTotalInventoryMass(false));
+
+			if (u instanceof Person) {
+				Person p = (Person) u;
+				PhysicalCondition pc = p.getPhysicalCondition();
+				sb.append(';').append(p.getMind().getTaskManager().getTaskName())
+					.append(';').append(pc.getFatigue())
+					.append(';').append(pc.getHunger())
+					.append(';').append(pc.getThirst())
+					.append(';').append(pc.getStress());
+			}
+
+			crc.reset();
+			crc.update(sb.toString().getBytes(StandardCharsets.UTF_8));
+			result.put(index++ + " " + u.getName(), crc.getValue());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Runs the replay check.
+	 *
+	 * @param args [seed] [sols] [step in millisols]
+	 */
+	public static void main(String[] args) {
+		long seed = args.length > 0 ? Long.parseLong(args[0]) : 1L;
+		int sols = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+		double step = args.length > 2 ? Double.parseDouble(args[2]) : MasterClock.DEFAULT_FIXED_STEP;
+
+		SimulationConfig.loadConfig();
+
+		int result = new ReplayCheck(seed, sols, step).check();
+		System.exit(result == -1 ? 0 : 1);
+	}
+}
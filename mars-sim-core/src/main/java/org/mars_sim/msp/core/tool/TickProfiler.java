@@ -0,0 +1,243 @@
+/**
+ * Mars Simulation Project
+ * TickProfiler.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+package org.mars_sim.msp.core.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The TickProfiler keeps the distribution of the time spent in each part of a
+ * time pulse : the managers called by the simulation, the time passing of each
+ * kind of unit, the work of each kind of task and the probability of each meta
+ * task. Kinds are told apart by their class. The times are inclusive, e.g. the
+ * time of a person includes the time of its task.
+ * <br>
+ * It is off by default. When off, the cost of a measure is one volatile read.
+ * A measure looks like :
+ * <pre>
+ * long start = TickProfiler.start();
+ * task.performTask(time);
+ * TickProfiler.record(TickProfiler.Category.TASK, task.getClass(), start);
+ * </pre>
+ */
+public final class TickProfiler {
+
+	/**
+	 * The parts of a time pulse.
+	 */
+	public enum Category {
+		MANAGER, UNIT, TASK, META_TASK
+	}
+
+	/** True if measuring. */
+	private static volatile boolean enabled = false;
+
+	/** The histograms by category and by class or name. */
+	private static final Map<Category, Map<Object, LatencyHistogram>> histograms = new EnumMap<>(Category.class);
+
+	static {
+		for (Category c : Category.values()) {
+			histograms.put(c, new ConcurrentHashMap<>());
+		}
+	}
+
+	private TickProfiler() {
+	}
+
+	/**
+	 * Turns the profiler on or off. The times measured so far are kept.
+	 *
+	 * @param value true to measure.
+	 */
+	public static void setEnabled(boolean value) {
+		enabled = value;
+	}
+
+	/**
+	 * Checks if the profiler is on.
+	 *
+	 * @return true if measuring.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Starts a measure.
+	 *
+	 * @return the start time or 0 if the profiler is off.
+	 */
+	public static long start() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Ends a measure.
+	 *
+	 * @param category the part of the time pulse.
+	 * @param key      the class or the name of what was measured.
+	 * @param start    the value of {@link #start()}.
+	 */
+	public static void record(Category category, Object key, long start) {
+		if (start == 0L)
+			return;
+		long nanos = System.nanoTime() - start;
+		histograms.get(category).computeIfAbsent(key, k -> new LatencyHistogram()).record(nanos);
+	}
+
+	/**
+	 * Forgets the times measured so far.
+	 */
+	public static void reset() {
+		for (Map<Object, LatencyHistogram> map : histograms.values()) {
+			map.clear();
+		}
+	}
+
+	/**
+	 * Gets the statistics of everything measured, by category and by decreasing
+	 * total time.
+	 *
+	 * @return list of entries.
+	 */
+	public static List<Entry> getEntries() {
+		List<Entry> result = new ArrayList<>();
+		for (Map.Entry<Category, Map<Object, LatencyHistogram>> c : histograms.entrySet()) {
+			List<Entry> list = new ArrayList<>();
+			for (Map.Entry<Object, LatencyHistogram> e : c.getValue().entrySet()) {
+				if (e.getValue().getCount() > 0L)
+					list.add(new Entry(c.getKey(), getName(e.getKey()), e.getValue()));
+			}
+			list.sort((a, b) -> Double.compare(b.total, a.total));
+			result.addAll(list);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the name of a key.
+	 *
+	 * @param key a class or a name.
+	 * @return the name.
+	 */
+	private static String getName(Object key) {
+		if (key instanceof Class)
+			return ((Class<?>) key).getSimpleName();
+		return String.valueOf(key);
+	}
+
+	/**
+	 * Writes the statistics of everything measured to a file as JSON.
+	 *
+	 * @param file the file.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public static void writeReport(File file) throws IOException {
+		File temp = new File(file.getPath() + ".tmp");
+		try (PrintWriter out = new PrintWriter(temp, StandardCharsets.UTF_8.name())) {
+			out.println("[");
+			List<Entry> entries = getEntries();
+			for (int i = 0; i < entries.size(); i++) {
+				Entry e = entries.get(i);
+				out.print("  {\"category\": \"" + e.category + "\", \"name\": \"" + e.name.replace("\"", "\\\"")
+						+ "\", \"count\": " + e.count + ", \"totalMs\": " + e.total + ", \"meanUs\": " + e.mean
+						+ ", \"p50Us\": " + e.p50 + ", \"p90Us\": " + e.p90 + ", \"p99Us\": " + e.p99
+						+ ", \"maxUs\": " + e.max + "}");
+				out.println(i < entries.size() - 1 ? "," : "");
+			}
+			out.println("]");
+		}
+		// Replace the last report at once so that readers never see half of it
+		if (!temp.renameTo(file)) {
+			file.delete();
+			if (!temp.renameTo(file))
+				throw new IOException("Could not write " + file);
+		}
+	}
+
+	/**
+	 * The statistics of a class or a name.
+	 */
+	public static class Entry {
+
+		private final Category category;
+		private final String name;
+		private final long count;
+		private final double total;
+		private final double mean;
+		private final double p50;
+		private final double p90;
+		private final double p99;
+		private final double max;
+
+		Entry(Category category, String name, LatencyHistogram h) {
+			this.category = category;
+			this.name = name;
+			this.count = h.getCount();
+			this.total = round(h.getTotal() / 1_000_000D);
+			this.mean = round(h.getMean() / 1_000D);
+			this.p50 = round(h.getValueAtPercentile(50D) / 1_000D);
+			this.p90 = round(h.getValueAtPercentile(90D) / 1_000D);
+			this.p99 = round(h.getValueAtPercentile(99D) / 1_000D);
+			this.max = round(h.getMax() / 1_000D);
+		}
+
+		private static double round(double value) {
+			return Math.round(value * 1_000D) / 1_000D;
+		}
+
+		public Category getCategory() {
+			return category;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/** @return the number of measures. */
+		public long getCount() {
+			return count;
+		}
+
+		/** @return the total time (ms). */
+		public double getTotal() {
+			return total;
+		}
+
+		/** @return the mean time (microseconds). */
+		public double getMean() {
+			return mean;
+		}
+
+		/** @return the median time (microseconds). */
+		public double getP50() {
+			return p50;
+		}
+
+		/** @return the 90th percentile (microseconds). */
+		public double getP90() {
+			return p90;
+		}
+
+		/** @return the 99th percentile (microseconds). */
+		public double getP99() {
+			return p99;
+		}
+
+		/** @return the longest time (microseconds). */
+		public double getMax() {
+			return max;
+		}
+	}
+}
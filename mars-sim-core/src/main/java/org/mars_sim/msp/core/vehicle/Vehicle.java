@@ -63,6 +63,9 @@ public abstract class Vehicle extends Unit
 	private static String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
+	/** The rate-limited messages of the wrong reservations. */
+	private static final LogConsolidated.Site reservationLog = LogConsolidated.site(logger, 500);
+
 	/** The error margin for determining vehicle range. (Actual distance / Safe distance). */
 	private static double fuel_range_error_margin = SimulationConfig.instance().getSettlementConfiguration()
 			.loadMissionControl()[0];
@@ -871,17 +874,16 @@ public abstract class Vehicle extends Unit
 			// Set reserved for mission to false if the vehicle is not associated with a
 			// mission.
 			if (missionManager.getMissionForVehicle(this) == null) {
-				LogConsolidated.log(logger, Level.FINE, 500, sourceName,
-						"[" + getLocationTag().getLocale() + "] " + getName() 
-						+ " was found reserved for an non-existing mission. Untagging it.",
-						null);
+				reservationLog.log(Level.FINE,
+						() -> "[" + getLocationTag().getLocale() + "] " + getName() 
+						+ " was found reserved for an non-existing mission. Untagging it.");
 				setReservedForMission(false);
 			}
 		} else {
 			if (missionManager.getMissionForVehicle(this) != null) {
-				LogConsolidated.log(logger, Level.FINE, 500, sourceName,
-						"[" + getLocationTag().getLocale() + "] " + getName()
-						+ " is on a mission but is not registered as mission reserved. Correcting it.", null);
+				reservationLog.log(Level.FINE,
+						() -> "[" + getLocationTag().getLocale() + "] " + getName()
+						+ " is on a mission but is not registered as mission reserved. Correcting it.");
 			}
 		}
 	}
@@ -94,12 +94,12 @@ extends Airlock {
 					// Exit person to inside vehicle.
 					vehicle.getInventory().storeUnit(person);
 					LogConsolidated.log(Level.FINER, 0, sourceName, 
-							"[" + person.getLocationTag().getLocale() + "] "
+							() -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person.getName() + " had just stepped inside rover " + vehicle.getName());
 				}
 				else if (person.isInSettlement()) {
 					LogConsolidated.log(Level.SEVERE, 0, sourceName, 
-							Msg.getString("VehicleAirlock.error.notOutside", person.getName(), getEntityName()));
+							() -> Msg.getString("VehicleAirlock.error.notOutside", person.getName(), getEntityName()));
 					//throw new IllegalStateException(Msg.getString("VehicleAirlock.error.notOutside",person.getName(),getEntityName())); //$NON-NLS-1$
 				}
 			}
@@ -119,12 +119,12 @@ extends Airlock {
 					vehicle.getInventory().retrieveUnit(person);
 					
 					LogConsolidated.log(Level.FINER, 0, sourceName, 
-							"[" + person.getLocationTag().getLocale() + "] "
+							() -> "[" + person.getLocationTag().getLocale() + "] "
 							+ person.getName() + " had just stepped outside rover " + vehicle.getName());
 				}
 				else if (person.isOutside()) {
 					LogConsolidated.log(Level.SEVERE, 0, sourceName, 
-							Msg.getString("VehicleAirlock.error.notInside", person.getName(), getEntityName()));
+							() -> Msg.getString("VehicleAirlock.error.notInside", person.getName(), getEntityName()));
 					//throw new IllegalStateException(Msg.getString("VehicleAirlock.error.notInside",person.getName(),getEntityName())); //$NON-NLS-1$
 				}
 			}
@@ -23,27 +23,44 @@ public class AllJUnitTests extends TestCase {
 	public static Test suite() {
 		TestSuite suite = new TestSuite(AllJUnitTests.class);
 
+		suite.addTestSuite(org.mars_sim.msp.core.TestConfigLoader.class);
 		suite.addTestSuite(org.mars_sim.msp.core.TestCoordinates.class);
 		suite.addTestSuite(org.mars_sim.msp.core.TestInventory.class);
 		suite.addTestSuite(org.mars_sim.msp.core.TestLocalAreaUtil.class);
+		suite.addTestSuite(org.mars_sim.msp.core.TestObstacleGrid.class);
+		suite.addTestSuite(org.mars_sim.msp.core.TestLogConsolidated.class);
+		suite.addTestSuite(org.mars_sim.msp.core.TestResourceCache.class);
+		suite.addTestSuite(org.mars_sim.msp.core.TestSavePipeline.class);
+		suite.addTestSuite(org.mars_sim.msp.core.TestUnitEventBus.class);
+		suite.addTestSuite(org.mars_sim.msp.core.TestUnitTickEngine.class);
 		suite.addTestSuite(org.mars_sim.msp.core.equipment.JUnitTests.class);
 		suite.addTestSuite(org.mars_sim.msp.core.events.JUnitTests.class);
+		suite.addTestSuite(org.mars_sim.msp.core.events.TestEventLog.class);
 		suite.addTestSuite(org.mars_sim.msp.core.malfunction.TestMalfunctionManager.class);
 		suite.addTestSuite(org.mars_sim.msp.core.person.JUnitTests.class);
 		suite.addTestSuite(org.mars_sim.msp.core.person.ai.JUnitTests.class);
 		suite.addTestSuite(org.mars_sim.msp.core.person.ai.mission.JUnitTests.class);
+		suite.addTestSuite(org.mars_sim.msp.core.person.ai.mission.TestTradeMatrix.class);
+		suite.addTestSuite(org.mars_sim.msp.core.person.ai.social.TestRelationshipStore.class);
+		suite.addTestSuite(org.mars_sim.msp.core.person.ai.social.TestRelationshipManager.class);
 		suite.addTest(org.mars_sim.msp.core.person.ai.task.JUnitTests.suite());
 		suite.addTestSuite(org.mars_sim.msp.core.person.medical.JUnitTests.class);
 		suite.addTestSuite(org.mars_sim.msp.core.resource.TestAmountResourceStorage.class);
 		suite.addTestSuite(org.mars_sim.msp.core.resource.TestAmountResourcePhaseStorage.class);
 		suite.addTestSuite(org.mars_sim.msp.core.resource.TestAmountResourceTypeStorage.class);
 		suite.addTestSuite(org.mars_sim.msp.core.resource.TestItemResource.class);
+		suite.addTestSuite(org.mars_sim.msp.core.science.TestScientificStudyManager.class);
 		suite.addTestSuite(org.mars_sim.msp.core.structure.JUnitTests.class);
 		suite.addTestSuite(org.mars_sim.msp.core.structure.building.JUnitTests.class);
+		suite.addTestSuite(org.mars_sim.msp.core.structure.building.TestBuildingRegistry.class);
 		suite.addTest(org.mars_sim.msp.core.structure.building.connection.JUnitTests.suite());
 		suite.addTest(org.mars_sim.msp.core.structure.construction.JUnitTests.suite());
 		suite.addTestSuite(org.mars_sim.msp.core.structure.goods.TestGoods.class);
+		suite.addTestSuite(org.mars_sim.msp.core.structure.goods.TestGoodsManager.class);
 		suite.addTestSuite(org.mars_sim.msp.core.structure.goods.TestCreditManager.class);
+		suite.addTestSuite(org.mars_sim.msp.core.time.TestMarsTime.class);
+		suite.addTestSuite(org.mars_sim.msp.core.tool.TestLatencyHistogram.class);
+		suite.addTestSuite(org.mars_sim.msp.core.tool.TestRandomUtil.class);
 		suite.addTestSuite(org.mars_sim.msp.core.vehicle.JUnitTests.class);
 
 		return suite;
@@ -0,0 +1,66 @@
+package org.mars_sim.msp.core;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.jdom.Document;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the cached configuration loading.
+ */
+public class TestConfigLoader extends TestCase {
+
+	private File previous;
+	private File directory;
+
+	@Override
+	public void setUp() throws Exception {
+		previous = ConfigLoader.getCacheDirectory();
+		directory = Files.createTempDirectory("config-cache").toFile();
+		ConfigLoader.setCacheDirectory(directory);
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		ConfigLoader.setCacheDirectory(previous);
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File f : files)
+				f.delete();
+		}
+		directory.delete();
+	}
+
+	/**
+	 * Test that the documents are read back from the cache.
+	 */
+	public void testCache() throws Exception {
+		Map<String, Document> parsed = ConfigLoader.load(SimulationConfig.PART_FILE, SimulationConfig.CROP_FILE);
+		assertEquals(2, parsed.size());
+		File[] files = directory.listFiles();
+		assertEquals(1, files.length);
+		assertTrue(files[0].getName().startsWith("config-"));
+
+		Map<String, Document> cached = ConfigLoader.load(SimulationConfig.PART_FILE, SimulationConfig.CROP_FILE);
+		assertNotSame(parsed.get(SimulationConfig.PART_FILE), cached.get(SimulationConfig.PART_FILE));
+		assertEquals(parsed.get(SimulationConfig.PART_FILE).getRootElement().getName(),
+				cached.get(SimulationConfig.PART_FILE).getRootElement().getName());
+		assertEquals(parsed.get(SimulationConfig.CROP_FILE).getRootElement().getChildren().size(),
+				cached.get(SimulationConfig.CROP_FILE).getRootElement().getChildren().size());
+	}
+
+	/**
+	 * Test that another set of files gets its own cache file.
+	 */
+	public void testOtherFiles() throws Exception {
+		ConfigLoader.load(SimulationConfig.PART_FILE);
+		File first = directory.listFiles()[0];
+		ConfigLoader.load(SimulationConfig.CROP_FILE);
+		File[] files = directory.listFiles();
+		assertEquals(1, files.length);
+		assertFalse(first.getName().equals(files[0].getName()));
+	}
+}
@@ -0,0 +1,110 @@
+package org.mars_sim.msp.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the rate-limited log sites.
+ */
+public class TestLogConsolidated extends TestCase {
+
+	private Logger logger;
+	private List<String> messages;
+	private Handler handler;
+
+	@Override
+	public void setUp() throws Exception {
+		logger = Logger.getLogger(TestLogConsolidated.class.getName());
+		logger.setUseParentHandlers(false);
+		logger.setLevel(Level.INFO);
+		messages = new ArrayList<>();
+		handler = new Handler() {
+			@Override
+			public void publish(LogRecord record) {
+				messages.add(record.getMessage());
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		logger.addHandler(handler);
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		logger.removeHandler(handler);
+		logger.setUseParentHandlers(true);
+	}
+
+	/**
+	 * Test that the messages within the time between logs are counted.
+	 */
+	public void testRateLimit() throws Exception {
+		LogConsolidated.Site site = LogConsolidated.site(logger, 50);
+		site.log(Level.INFO, "first");
+		site.log(Level.INFO, "second");
+		site.log(Level.INFO, "third");
+		assertEquals(1, messages.size());
+		assertEquals("[x1] TestLogConsolidated : first", messages.get(0));
+		assertFalse(site.isLoggable(Level.INFO));
+
+		Thread.sleep(60);
+		assertTrue(site.isLoggable(Level.INFO));
+		site.log(Level.INFO, "fourth");
+		assertEquals(2, messages.size());
+		assertEquals("[x3] TestLogConsolidated : fourth", messages.get(1));
+	}
+
+	/**
+	 * Test that a message is not built unless logged.
+	 */
+	public void testLazyMessage() {
+		LogConsolidated.Site site = LogConsolidated.site(logger, 60_000);
+		int[] built = new int[1];
+		site.log(Level.FINE, () -> "fine " + built[0]++);
+		assertEquals(0, built[0]);
+		assertFalse(site.isLoggable(Level.FINE));
+
+		site.log(Level.INFO, () -> "info " + built[0]++);
+		site.log(Level.INFO, () -> "info " + built[0]++);
+		assertEquals(1, built[0]);
+		assertEquals(1, messages.size());
+	}
+
+	/**
+	 * Test that the messages of a source are limited for each level and time
+	 * between logs.
+	 */
+	public void testSourceKey() {
+		Logger defaultLogger = Logger.getLogger(LogConsolidated.class.getName());
+		defaultLogger.addHandler(handler);
+		try {
+			String source = "TestSourceKey";
+			int[] built = new int[1];
+			LogConsolidated.log(Level.INFO, 60_000, source, () -> "info " + built[0]++);
+			LogConsolidated.log(Level.INFO, 60_000, source, () -> "info " + built[0]++);
+			assertEquals(1, built[0]);
+			assertEquals(1, messages.size());
+
+			// Another level or time between logs is not held back
+			LogConsolidated.log(Level.WARNING, 60_000, source, () -> "warning " + built[0]++);
+			LogConsolidated.log(Level.INFO, 30_000, source, "info");
+			assertEquals(2, built[0]);
+			assertEquals(3, messages.size());
+			assertEquals("[x1] TestSourceKey : warning 1", messages.get(1));
+		} finally {
+			defaultLogger.removeHandler(handler);
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/**
+ * Mars Simulation Project
+ * TestObstacleGrid.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+
+package org.mars_sim.msp.core;
+
+import java.awt.geom.Line2D;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.mars_sim.msp.core.structure.MockSettlement;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.MockBuilding;
+
+/**
+ * Unit test suite for the obstacle grid. Each line is checked with the grid
+ * and with the areas of the buildings, and both must agree.
+ */
+public class TestObstacleGrid extends TestCase {
+
+	private Settlement settlement;
+	private Coordinates loc;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.loadConfig();
+		Simulation.createNewSimulation(-1, false);
+
+		// Clear out existing settlements in simulation.
+		UnitManager unitManager = Simulation.instance().getUnitManager();
+		Iterator<Settlement> i = unitManager.getSettlements().iterator();
+		while (i.hasNext()) {
+			unitManager.removeUnit(i.next());
+		}
+
+		settlement = new MockSettlement();
+		unitManager.addUnit(settlement);
+		loc = settlement.getCoordinates();
+
+		addBuilding(0D, 0D, 10D, 10D, 0D);
+		addBuilding(20D, 4D, 9D, 14D, 30D);
+		addBuilding(-20D, -10D, 6D, 6D, 45D);
+		addBuilding(4D, -24D, 8D, 12D, 90D);
+		// Its edges are on the boundaries of the cells.
+		addBuilding(-16D, 16D, 4D, 4D, 0D);
+
+		LocalAreaUtil.clearObstacleCache();
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		LocalAreaUtil.clearObstacleCache();
+	}
+
+	/**
+	 * Test lines touching the edges of the buildings.
+	 */
+	public void testEdges() {
+		// Along an edge, and just off it
+		assertFalse(checkLine(-10D, 5D, 10D, 5D));
+		assertFalse(checkLine(5D, -10D, 5D, 10D));
+		assertTrue(checkLine(-10D, -5.01D, 10D, -5.01D));
+
+		// Along the edges on the boundaries of the cells
+		assertFalse(checkLine(-14D, 0D, -14D, 30D));
+		assertTrue(checkLine(-13.99D, 0D, -13.99D, 30D));
+		assertFalse(checkLine(-30D, 18D, 0D, 18D));
+		assertTrue(checkLine(-30D, 18.01D, 0D, 18.01D));
+
+		// Along the edges of the building turned by 90 degrees
+		assertFalse(checkLine(10D, -40D, 10D, 0D));
+		assertTrue(checkLine(10.01D, -40D, 10.01D, 0D));
+		assertFalse(checkLine(-10D, -20D, 20D, -20D));
+		assertTrue(checkLine(-10D, -19.99D, 20D, -19.99D));
+
+		// Ending on an edge or a corner, or just inside it
+		assertTrue(checkLine(5D, 0D, 15D, 0D));
+		assertTrue(checkLine(5D, 20D, 5D, 5D));
+		assertTrue(checkLine(5.01D, 0D, 15D, 0D));
+		assertFalse(checkLine(4.99D, 0D, 15D, 0D));
+	}
+
+	/**
+	 * Test lines touching the corners of the buildings.
+	 */
+	public void testCorners() {
+		// Across a corner, and just off it
+		assertFalse(checkLine(0D, 10D, 10D, 0D));
+		assertTrue(checkLine(0D, 10.02D, 10.02D, 0D));
+
+		// Across the corners of the building turned by 45 degrees
+		double d = 3D * Math.sqrt(2D);
+		assertFalse(checkLine(-20D + d, -30D, -20D + d, 10D));
+		assertTrue(checkLine(-20D + d + .01D, -30D, -20D + d + .01D, 10D));
+		assertFalse(checkLine(-40D, -10D - d, 0D, -10D - d));
+		assertTrue(checkLine(-40D, -10D - d - .01D, 0D, -10D - d - .01D));
+
+		// Across the corners of the building turned by 30 degrees
+		double cos = Math.cos(Math.toRadians(30D));
+		double sin = Math.sin(Math.toRadians(30D));
+		for (int sx = -1; sx <= 1; sx += 2) {
+			for (int sy = -1; sy <= 1; sy += 2) {
+				double cx = cos * sx * 4.5D - sin * sy * 7D;
+				double cy = sin * sx * 4.5D + cos * sy * 7D;
+				double h = Math.hypot(cx, cy);
+				double tx = -cy / h * 10D;
+				double ty = cx / h * 10D;
+				assertFalse(checkLine(20D + cx - tx, 4D + cy - ty, 20D + cx + tx, 4D + cy + ty));
+				double ox = cx / h * .01D;
+				double oy = cy / h * .01D;
+				assertTrue(checkLine(20D + cx - tx + ox, 4D + cy - ty + oy, 20D + cx + tx + ox, 4D + cy + ty + oy));
+			}
+		}
+	}
+
+	/**
+	 * Test lines along the boundaries of the cells.
+	 */
+	public void testCellBoundaries() {
+		Random random = new Random(42L);
+		for (int i = 0; i < 200; i++) {
+			double x = 2D * (random.nextInt(40) - 20);
+			checkLine(x, random.nextDouble() * 80D - 40D, x, random.nextDouble() * 80D - 40D);
+			double y = 2D * (random.nextInt(40) - 20);
+			checkLine(random.nextDouble() * 80D - 40D, y, random.nextDouble() * 80D - 40D, y);
+		}
+	}
+
+	/**
+	 * Test random lines, and again once the buildings have moved.
+	 */
+	public void testRandomLines() {
+		Random random = new Random(42L);
+		checkRandomLines(random);
+
+		List<MockBuilding> buildings = new ArrayList<MockBuilding>();
+		for (Object building : settlement.getBuildingManager().getBuildings()) {
+			buildings.add((MockBuilding) building);
+		}
+		for (MockBuilding building : buildings) {
+			building.setXLocation(building.getXLocation() + 3D);
+			building.setFacing(building.getFacing() + 22.5D);
+		}
+		LocalAreaUtil.clearObstacleCache();
+		checkRandomLines(random);
+	}
+
+	private void checkRandomLines(Random random) {
+		for (int i = 0; i < 1000; i++) {
+			checkLine(random.nextDouble() * 80D - 40D, random.nextDouble() * 80D - 40D,
+					random.nextDouble() * 80D - 40D, random.nextDouble() * 80D - 40D);
+		}
+	}
+
+	/**
+	 * Checks a line with and without the obstacle grid.
+	 *
+	 * @return true if the line doesn't collide with any building.
+	 */
+	private boolean checkLine(double x1, double y1, double x2, double y2) {
+		Line2D line = new Line2D.Double(x1, y1, x2, y2);
+		boolean expected = LocalAreaUtil.checkLinePathCollision(line, loc, false);
+		assertEquals(line.getP1() + " to " + line.getP2(), expected,
+				LocalAreaUtil.checkLinePathCollision(line, loc, true));
+		return expected;
+	}
+
+	private void addBuilding(double x, double y, double width, double length, double facing) {
+		MockBuilding building = new MockBuilding(settlement.getBuildingManager());
+		building.setWidth(width);
+		building.setLength(length);
+		building.setXLocation(x);
+		building.setYLocation(y);
+		building.setFacing(facing);
+		settlement.getBuildingManager().addBuilding(building, false);
+	}
+}
@@ -0,0 +1,60 @@
+package org.mars_sim.msp.core;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the primitive amount resource cache.
+ */
+public class TestResourceCache extends TestCase {
+
+	/**
+	 * Test that values start dirty and become clean when set.
+	 */
+	public void testDirty() {
+		ResourceCache cache = new ResourceCache(10);
+		assertTrue(cache.isDirty(3));
+		assertEquals(0D, cache.get(3));
+
+		cache.set(3, 12.5D);
+		assertFalse(cache.isDirty(3));
+		assertEquals(12.5D, cache.get(3));
+
+		cache.setDirty(3);
+		assertTrue(cache.isDirty(3));
+		// The stale value is kept for callers allowing dirty values
+		assertEquals(12.5D, cache.get(3));
+
+		cache.set(4, 1D);
+		cache.setAllDirty();
+		assertTrue(cache.isDirty(4));
+	}
+
+	/**
+	 * Test that a resource registered later than the cache grows it.
+	 */
+	public void testGrow() {
+		ResourceCache cache = new ResourceCache(10);
+		assertTrue(cache.isDirty(500));
+		assertEquals(0D, cache.get(500));
+
+		cache.set(500, 7D);
+		assertFalse(cache.isDirty(500));
+		assertEquals(7D, cache.get(500));
+		// The new slots in between start dirty
+		assertTrue(cache.isDirty(200));
+	}
+
+	/**
+	 * Test that a negative id is never cached.
+	 */
+	public void testNegativeID() {
+		ResourceCache cache = new ResourceCache(10);
+		assertTrue(cache.isDirty(-1));
+		assertEquals(0D, cache.get(-1));
+
+		cache.set(-1, 3D);
+		cache.setDirty(-1);
+		assertTrue(cache.isDirty(-1));
+		assertEquals(0D, cache.get(-1));
+	}
+}
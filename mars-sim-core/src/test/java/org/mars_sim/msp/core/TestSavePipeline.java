@@ -0,0 +1,114 @@
+package org.mars_sim.msp.core;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the streaming save pipeline.
+ */
+public class TestSavePipeline extends TestCase {
+
+	private File file;
+
+	@Override
+	protected void setUp() throws Exception {
+		file = File.createTempFile("TestSavePipeline", ".sim");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		file.delete();
+	}
+
+	/**
+	 * Creates an object graph spanning many chunks.
+	 */
+	private List<String> createGraph() {
+		List<String> list = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			list.add("Unit " + i);
+		}
+		return list;
+	}
+
+	/**
+	 * Test that a saved graph is read back with the detected codec.
+	 */
+	public void testRoundTrip() throws Exception {
+		List<String> graph = createGraph();
+
+		SavePipeline pipeline = new SavePipeline(file, SaveCodec.FAST, true, null);
+		ObjectOutputStream oos = new ObjectOutputStream(pipeline.getOutputStream());
+		oos.writeObject(graph);
+		oos.flush();
+		pipeline.snapshotCaptured();
+		assertTrue(pipeline.isCaptured());
+		assertTrue(pipeline.getSnapshotSize() > 0);
+		pipeline.await();
+		assertTrue(pipeline.isDone());
+
+		try (ObjectInputStream ois = new ObjectInputStream(
+				SaveCodec.decompress(new BufferedInputStream(new FileInputStream(file))))) {
+			assertEquals(graph, ois.readObject());
+		}
+	}
+
+	/**
+	 * Test that a capture is bounded by its limit and that a larger snapshot is
+	 * streamed through it.
+	 */
+	public void testCaptureLimit() throws Exception {
+		assertTrue(SavePipeline.DEFAULT_CAPTURE_LIMIT <= Runtime.getRuntime().maxMemory() / 16);
+
+		List<String> graph = createGraph();
+
+		// Less than the size of the serialized graph
+		long limit = 5 * 256 * 1024;
+		SavePipeline pipeline = new SavePipeline(file, SaveCodec.FAST, limit, null);
+		assertTrue(pipeline.getBufferSize() <= Math.max(limit, 16 * 256 * 1024));
+		ObjectOutputStream oos = new ObjectOutputStream(pipeline.getOutputStream());
+		oos.writeObject(graph);
+		oos.flush();
+		pipeline.snapshotCaptured();
+		pipeline.await();
+
+		try (ObjectInputStream ois = new ObjectInputStream(
+				SaveCodec.decompress(new BufferedInputStream(new FileInputStream(file))))) {
+			assertEquals(graph, ois.readObject());
+		}
+
+		pipeline = new SavePipeline(file, SaveCodec.FAST, 100L * 256 * 1024, null);
+		assertEquals(100L * 256 * 1024, pipeline.getBufferSize());
+		pipeline.snapshotCaptured();
+		pipeline.await();
+	}
+
+	/**
+	 * Test that an aborted save runs the failure task and leaves no file behind.
+	 */
+	public void testAbort() throws Exception {
+		boolean[] failed = new boolean[1];
+
+		SavePipeline pipeline = new SavePipeline(file, SaveCodec.FAST, false, () -> failed[0] = true);
+		ObjectOutputStream oos = new ObjectOutputStream(pipeline.getOutputStream());
+		oos.writeObject(createGraph());
+		pipeline.abort();
+
+		try {
+			pipeline.await();
+			fail("An aborted save should throw.");
+		} catch (IOException e) {
+			// Expected
+		}
+		assertTrue(failed[0]);
+		assertFalse(file.exists());
+	}
+}
@@ -0,0 +1,147 @@
+package org.mars_sim.msp.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the coalescing unit event bus.
+ */
+public class TestUnitEventBus extends TestCase {
+
+	private UnitEventBus bus;
+	private Unit unit1;
+	private Unit unit2;
+	private List<List<UnitEvent>> batches;
+	private UnitBatchListener listener;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.loadConfig();
+		bus = new UnitEventBus();
+		unit1 = new MockUnit1();
+		unit2 = new MockUnit2();
+		batches = new ArrayList<>();
+		listener = events -> batches.add(events);
+	}
+
+	/**
+	 * Test that repeated events of the same unit and type are merged.
+	 */
+	public void testMerge() {
+		bus.subscribe(listener, Runnable::run);
+
+		bus.post(new UnitEvent(unit1, UnitEventType.NAME_EVENT, "a"));
+		bus.post(new UnitEvent(unit1, UnitEventType.NAME_EVENT, "b"));
+		bus.post(new UnitEvent(unit2, UnitEventType.NAME_EVENT, null));
+		bus.post(new UnitEvent(unit1, UnitEventType.MASS_EVENT, null));
+		assertTrue(batches.isEmpty());
+
+		bus.flush();
+		assertEquals(1, batches.size());
+		assertEquals(3, batches.get(0).size());
+		assertEquals(1L, bus.getMergedCount());
+		for (UnitEvent event : batches.get(0)) {
+			if (event.getSource() == unit1 && event.getType() == UnitEventType.NAME_EVENT)
+				assertEquals("b", event.getTarget());
+		}
+
+		// Nothing new
+		bus.flush();
+		assertEquals(1, batches.size());
+	}
+
+	/**
+	 * Test that inventory events are kept apart by target.
+	 */
+	public void testInventoryTargets() {
+		bus.subscribe(listener, Runnable::run);
+
+		bus.post(new UnitEvent(unit1, UnitEventType.INVENTORY_RESOURCE_EVENT, "oxygen"));
+		bus.post(new UnitEvent(unit1, UnitEventType.INVENTORY_RESOURCE_EVENT, "water"));
+		bus.post(new UnitEvent(unit1, UnitEventType.INVENTORY_RESOURCE_EVENT, "water"));
+		bus.flush();
+
+		assertEquals(2, batches.get(0).size());
+		assertEquals(1L, bus.getMergedCount());
+	}
+
+	/**
+	 * Test that the crop and building events of a settlement are kept apart by
+	 * target.
+	 */
+	public void testCropAndBuildingTargets() {
+		bus.subscribe(listener, Runnable::run);
+
+		bus.post(new UnitEvent(unit1, UnitEventType.CROP_EVENT, "lettuce"));
+		bus.post(new UnitEvent(unit1, UnitEventType.CROP_EVENT, "potato"));
+		bus.post(new UnitEvent(unit1, UnitEventType.ADD_BUILDING_EVENT, "greenhouse 1"));
+		bus.post(new UnitEvent(unit1, UnitEventType.ADD_BUILDING_EVENT, "greenhouse 2"));
+		bus.post(new UnitEvent(unit1, UnitEventType.REMOVE_BUILDING_EVENT, "lander hab 1"));
+		bus.flush();
+
+		assertEquals(1, batches.size());
+		List<Object> crops = new ArrayList<>();
+		List<Object> buildings = new ArrayList<>();
+		for (UnitEvent event : batches.get(0)) {
+			if (event.getType() == UnitEventType.CROP_EVENT)
+				crops.add(event.getTarget());
+			else if (event.getType() == UnitEventType.ADD_BUILDING_EVENT)
+				buildings.add(event.getTarget());
+		}
+		assertEquals(5, batches.get(0).size());
+		assertTrue(crops.contains("lettuce"));
+		assertTrue(crops.contains("potato"));
+		assertEquals(2, buildings.size());
+		assertEquals(0L, bus.getMergedCount());
+	}
+
+	/**
+	 * Test that events merge into the pending batch of a busy subscriber and are
+	 * dropped once the batch is full.
+	 */
+	public void testBackPressure() {
+		List<Runnable> queue = new ArrayList<>();
+		Executor executor = queue::add;
+		bus.subscribe(listener, executor, 2);
+
+		bus.post(new UnitEvent(unit1, UnitEventType.NAME_EVENT, null));
+		bus.flush();
+		assertEquals(1, queue.size());
+
+		// The first batch is not delivered yet
+		bus.post(new UnitEvent(unit1, UnitEventType.NAME_EVENT, null));
+		bus.post(new UnitEvent(unit2, UnitEventType.NAME_EVENT, null));
+		bus.flush();
+		bus.post(new UnitEvent(unit1, UnitEventType.MASS_EVENT, null));
+		bus.flush();
+		assertEquals(1, queue.size());
+		assertEquals(1L, bus.getMergedCount());
+		assertEquals(1L, bus.getDroppedCount());
+
+		queue.remove(0).run();
+		assertEquals(1, batches.size());
+		assertEquals(2, batches.get(0).size());
+		assertTrue(queue.isEmpty());
+
+		bus.post(new UnitEvent(unit1, UnitEventType.MASS_EVENT, null));
+		bus.flush();
+		assertEquals(1, queue.size());
+	}
+
+	/**
+	 * Test that an unsubscribed listener gets nothing.
+	 */
+	public void testUnsubscribe() {
+		bus.subscribe(listener, Runnable::run);
+		assertTrue(bus.hasSubscribers());
+		bus.unsubscribe(listener);
+		assertFalse(bus.hasSubscribers());
+
+		bus.post(new UnitEvent(unit1, UnitEventType.NAME_EVENT, null));
+		bus.flush();
+		assertTrue(batches.isEmpty());
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * Mars Simulation Project
+ * TestUnitTickEngine.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+
+package org.mars_sim.msp.core;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.mars_sim.msp.core.time.MasterClock;
+import org.mars_sim.msp.core.tool.RandomUtil;
+import org.mars_sim.msp.core.tool.ReplayCheck;
+
+/**
+ * Unit test suite checking that the parallel tick engine gives the same
+ * simulation as the single-thread mode. Each run is made in a new JVM, since
+ * a simulation created after another one in the same JVM does not start from
+ * the same state.
+ */
+public class TestUnitTickEngine extends TestCase {
+
+	private static final long SEED = 1L;
+	/** The length of each pulse in millisols. */
+	private static final double STEP = 10D;
+	private static final int PULSES = 200;
+	/** The maximum time for a run in minutes. */
+	private static final long TIMEOUT = 10L;
+	/** The prefix of the digest lines written by a run. */
+	private static final String DIGEST = "DIGEST ";
+
+	/**
+	 * Test that a parallel run matches a single-thread run at every pulse.
+	 */
+	public void testParallelMatchesSerial() throws Exception {
+		List<String> serial = run(false);
+		List<String> parallel = run(true);
+
+		assertEquals(PULSES, serial.size());
+		assertEquals(PULSES, parallel.size());
+		for (int i = 0; i < PULSES; i++) {
+			assertEquals("Pulse " + (i + 1), serial.get(i), parallel.get(i));
+		}
+	}
+
+	/**
+	 * Runs a new simulation in a new JVM and collects the digests.
+	 *
+	 * @param parallel true to update the settlements in parallel.
+	 * @return the digests after each pulse.
+	 */
+	private static List<String> run(boolean parallel) throws IOException, InterruptedException {
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		ProcessBuilder builder = new ProcessBuilder(java, "-Djava.awt.headless=true", "-cp",
+				System.getProperty("java.class.path"), TestUnitTickEngine.class.getName(),
+				Boolean.toString(parallel));
+		builder.redirectError(Redirect.DISCARD);
+		Process process = builder.start();
+
+		List<String> digests = new ArrayList<>(PULSES);
+		try (BufferedReader in = new BufferedReader(
+				new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = in.readLine()) != null) {
+				if (line.startsWith(DIGEST))
+					digests.add(line.substring(DIGEST.length()));
+			}
+		}
+
+		if (!process.waitFor(TIMEOUT, TimeUnit.MINUTES)) {
+			process.destroyForcibly();
+			fail("The run did not end");
+		}
+		assertEquals("Exit value", 0, process.exitValue());
+		return digests;
+	}
+
+	/**
+	 * Runs a new simulation and writes the digest of the units after each pulse.
+	 *
+	 * @param args true to update the settlements in parallel
+	 */
+	public static void main(String[] args) {
+		SimulationConfig.loadConfig();
+		UnitTickEngine.setParallel(Boolean.parseBoolean(args[0]));
+		RandomUtil.setMasterSeed(SEED);
+
+		Simulation.createNewSimulation(-1, false);
+		Simulation sim = Simulation.instance();
+		MasterClock masterClock = sim.getMasterClock();
+		masterClock.setFixedStep(STEP, 0);
+
+		for (int i = 0; i < PULSES; i++) {
+			masterClock.advanceFixedStep();
+			Map<String, Long> digest = ReplayCheck.digest(sim);
+			System.out.println(DIGEST + digest);
+		}
+
+		UnitTickEngine.shutdown();
+		System.exit(0);
+	}
+}
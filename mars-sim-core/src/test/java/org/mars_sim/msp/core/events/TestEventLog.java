@@ -0,0 +1,152 @@
+package org.mars_sim.msp.core.events;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the columnar event log.
+ */
+public class TestEventLog extends TestCase {
+
+	/** The events per sol, so that the log has segments spilled. */
+	private static final int EVENTS_PER_SOL = 1000;
+	private static final int SOLS = 30;
+
+	private File spill;
+	private File previous;
+	private EventLog log;
+
+	@Override
+	public void setUp() throws Exception {
+		previous = EventLog.getSpillDirectory();
+		spill = Files.createTempDirectory("events").toFile();
+		EventLog.setSpillDirectory(spill);
+
+		log = new EventLog();
+		for (int sol = 1; sol <= SOLS; sol++) {
+			for (int i = 0; i < EVENTS_PER_SOL; i++) {
+				byte cat = (byte) (i % HistoricalEventCategory.values().length);
+				log.add((short) sol, i, cat, (byte) 0, "what " + (i % 7), "doing", "who " + sol, "here", "there");
+			}
+		}
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		log.destroy();
+		EventLog.setSpillDirectory(previous);
+		spill.delete();
+	}
+
+	/**
+	 * Test that the events are found by index, including the spilled ones.
+	 */
+	public void testGet() {
+		assertEquals(SOLS * EVENTS_PER_SOL, log.size());
+
+		SimpleEvent first = log.get(0);
+		assertEquals(1, first.getSol());
+		assertEquals("what 0", log.getWhat(first.getWhat()));
+		assertEquals("who 1", log.getWho(first.getWho()));
+
+		SimpleEvent last = log.get(log.size() - 1);
+		assertEquals(SOLS, last.getSol());
+		assertEquals(EVENTS_PER_SOL - 1, (int) last.getMillisol());
+
+		// The view has the most recent event first
+		List<SimpleEvent> view = log.asList();
+		assertEquals(log.size(), view.size());
+		assertEquals(SOLS, view.get(0).getSol());
+		assertEquals(1, view.get(view.size() - 1).getSol());
+	}
+
+	/**
+	 * Test the queries by sol and category.
+	 */
+	public void testQuery() {
+		int medical = 1 << HistoricalEventCategory.MEDICAL.ordinal();
+		int perSol = EVENTS_PER_SOL / HistoricalEventCategory.values().length
+				+ (EVENTS_PER_SOL % HistoricalEventCategory.values().length > 0 ? 1 : 0);
+
+		List<SimpleEvent> events = log.query(2, 4, medical);
+		assertEquals(3 * perSol, events.size());
+		assertEquals(4, events.get(0).getSol());
+		assertEquals(2, events.get(events.size() - 1).getSol());
+		for (SimpleEvent e : events) {
+			assertEquals(HistoricalEventCategory.MEDICAL.ordinal(), e.getCat());
+		}
+
+		assertTrue(log.query(SOLS + 1, SOLS + 5, -1).isEmpty());
+		assertEquals(log.size(), log.query(0, SOLS, -1).size());
+	}
+
+	/**
+	 * Test that the pages and the counts match the whole query.
+	 */
+	public void testPages() {
+		int medical = 1 << HistoricalEventCategory.MEDICAL.ordinal();
+		int[][] filters = { { 0, SOLS, -1 }, { 2, 4, medical }, { 3, 25, -1 }, { 3, 25, ~medical } };
+		for (int[] f : filters) {
+			List<SimpleEvent> all = log.query(f[0], f[1], f[2]);
+			assertEquals(all.size(), log.count(f[0], f[1], f[2], -1));
+
+			int pageSize = 1000;
+			for (int offset = 0; offset < all.size() + pageSize; offset += pageSize) {
+				List<SimpleEvent> page = log.query(f[0], f[1], f[2], -1, offset, pageSize);
+				assertEquals(Math.max(0, Math.min(pageSize, all.size() - offset)), page.size());
+				for (int i = 0; i < page.size(); i++) {
+					SimpleEvent a = all.get(offset + i);
+					SimpleEvent b = page.get(i);
+					assertEquals(a.getSol(), b.getSol());
+					assertEquals(a.getMillisol(), b.getMillisol());
+					assertEquals(a.getCat(), b.getCat());
+				}
+			}
+		}
+
+		log.add((short) SOLS, EVENTS_PER_SOL, (byte) 0, (byte) 3, "typed", "doing", "who", "here", "there");
+		assertEquals(1, log.count(0, SOLS, -1, 3));
+		List<SimpleEvent> typed = log.query(0, SOLS, -1, 3, 0, 10);
+		assertEquals(1, typed.size());
+		assertEquals("typed", log.getWhat(typed.get(0).getWhat()));
+		assertTrue(log.query(0, SOLS, -1, 3, 1, 10).isEmpty());
+	}
+
+	/**
+	 * Test that a log is the same once serialized.
+	 */
+	public void testSerialization() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(log);
+		}
+
+		EventLog copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (EventLog) in.readObject();
+		}
+
+		try {
+			assertEquals(log.size(), copy.size());
+			for (int i = 0; i < log.size(); i += 997) {
+				SimpleEvent a = log.get(i);
+				SimpleEvent b = copy.get(i);
+				assertEquals(a.getSol(), b.getSol());
+				assertEquals(a.getMillisol(), b.getMillisol());
+				assertEquals(a.getCat(), b.getCat());
+				assertEquals(log.getWho(a.getWho()), copy.getWho(b.getWho()));
+			}
+			copy.add((short) (SOLS + 1), 0F, (byte) 0, (byte) 0, "what 0", "doing", "new", "here", "there");
+			assertEquals(log.size() + 1, copy.size());
+		} finally {
+			copy.destroy();
+		}
+	}
+}
@@ -0,0 +1,212 @@
+/**
+ * Mars Simulation Project
+ * TestTradeMatrix.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+
+package org.mars_sim.msp.core.person.ai.mission;
+
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.person.ai.mission.TradeMatrix.TradeEntry;
+import org.mars_sim.msp.core.structure.MockSettlement;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.goods.GoodsManager;
+import org.mars_sim.msp.core.vehicle.Rover;
+
+/**
+ * Unit test suite for the refresh of the trade matrix entries when the goods
+ * values of a settlement move.
+ */
+public class TestTradeMatrix extends TestCase {
+
+	private static final double TIME = 5000D;
+	/** The time between two pulses (millisols). */
+	private static final double PULSE = 1D;
+
+	private TradeSettlement start;
+	private TradeSettlement trading;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.loadConfig();
+		Simulation.createNewSimulation(-1, false);
+
+		start = new TradeSettlement();
+		trading = new TradeSettlement();
+	}
+
+	/**
+	 * Test that an entry is estimated again once the goods values of either
+	 * settlement have changed.
+	 */
+	public void testValueRevision() {
+		TradeEntry entry = estimate();
+		assertTrue(entry.isCurrent(start, trading));
+		assertEquals(0D, getPriority(entry, TradeMatrix.MIN_REFRESH_AGE), 0D);
+
+		// The goods values of the starting settlement change
+		start.goods.tradeRevision++;
+		assertFalse(entry.isCurrent(start, trading));
+		// Not before the minimum age
+		assertEquals(0D, getPriority(entry, TradeMatrix.MIN_REFRESH_AGE - 1D), 0D);
+		double changed = getPriority(entry, TradeMatrix.MIN_REFRESH_AGE);
+		assertTrue(changed > 0D);
+
+		// A new estimate is current again
+		entry = estimate();
+		assertTrue(entry.isCurrent(start, trading));
+		assertEquals(0D, getPriority(entry, TradeMatrix.MIN_REFRESH_AGE), 0D);
+
+		// The goods values of the trading settlement change
+		trading.goods.tradeRevision++;
+		assertFalse(entry.isCurrent(start, trading));
+		assertEquals(changed, getPriority(entry, TradeMatrix.MIN_REFRESH_AGE), 0D);
+	}
+
+	/**
+	 * Test that a changed entry comes before an old one.
+	 */
+	public void testPriority() {
+		// Changed at the starting settlement, then at the trading one
+		TradeEntry changedStart = estimate();
+		start.goods.tradeRevision++;
+		TradeEntry changedTrading = estimate();
+		trading.goods.tradeRevision++;
+
+		// An unchanged entry is estimated again once old enough
+		TradeEntry unchanged = estimate();
+		assertEquals(0D, getPriority(unchanged, TradeMatrix.MAX_AGE - 1D), 0D);
+		assertTrue(getPriority(unchanged, TradeMatrix.MAX_AGE) > 0D);
+
+		double old = getPriority(unchanged, TradeMatrix.MAX_AGE);
+		assertTrue(getPriority(changedStart, TradeMatrix.MIN_REFRESH_AGE) > old);
+		assertTrue(getPriority(changedTrading, TradeMatrix.MIN_REFRESH_AGE) > old);
+	}
+
+	/**
+	 * Test the number of estimates and rover look ups of the time pulses.
+	 */
+	public void testTimePassing() {
+		CountingTradeMatrix matrix = new CountingTradeMatrix(new Rover("Test Rover", "Explorer Rover", start));
+		List<Settlement> settlements = Arrays.asList(start, trading);
+
+		// Both pairs share the settlements, so one is estimated per pulse
+		double now = run(matrix, settlements, TIME, 2);
+		assertEquals(2L, matrix.getRefreshCount());
+		assertNotNull(matrix.getEntry(start, trading));
+		assertNotNull(matrix.getEntry(trading, start));
+		assertEquals(2, matrix.lookups);
+
+		// Small moves of the goods values do not refresh the entries
+		now = run(matrix, settlements, now, (int) (TradeMatrix.MIN_REFRESH_AGE * 2D / PULSE));
+		assertEquals(2L, matrix.getRefreshCount());
+		// The rovers are looked up once per check age
+		int checks = (int) Math.ceil((now - TIME) / TradeMatrix.ROVER_CHECK_AGE);
+		assertEquals(2 * checks, matrix.lookups);
+
+		// A large move refreshes both pairs of the settlement
+		start.goods.tradeRevision++;
+		now = run(matrix, settlements, now, 2);
+		assertEquals(4L, matrix.getRefreshCount());
+		now = run(matrix, settlements, now, 10);
+		assertEquals(4L, matrix.getRefreshCount());
+
+		// The entries are kept while the settlements have no rover
+		matrix.rover = null;
+		now = run(matrix, settlements, now, (int) (TradeMatrix.MAX_AGE / PULSE));
+		assertEquals(4L, matrix.getRefreshCount());
+		assertNotNull(matrix.getEntry(start, trading));
+		assertNotNull(matrix.getEntry(trading, start));
+	}
+
+	/**
+	 * Runs some time pulses.
+	 *
+	 * @return the time after the pulses.
+	 */
+	private static double run(TradeMatrix matrix, List<Settlement> settlements, double now, int pulses) {
+		for (int i = 0; i < pulses; i++) {
+			matrix.timePassing(settlements, now);
+			now += PULSE;
+		}
+		return now;
+	}
+
+	/**
+	 * Makes an entry with the current goods values of both settlements.
+	 */
+	private TradeEntry estimate() {
+		return new TradeEntry(100D, 500D, TIME, start.getGoodsManager().getTradeRevision(),
+				trading.getGoodsManager().getTradeRevision());
+	}
+
+	private double getPriority(TradeEntry entry, double age) {
+		return TradeMatrix.getRefreshPriority(entry, start, trading, TIME + age);
+	}
+
+	/**
+	 * A settlement whose goods values change on demand.
+	 */
+	private static class TradeSettlement extends MockSettlement {
+
+		private RevisionGoodsManager goods;
+
+		TradeSettlement() {
+			goods = new RevisionGoodsManager(this);
+			goodsManager = goods;
+		}
+	}
+
+	/**
+	 * A goods manager with a trade revision set by the test.
+	 */
+	private static class RevisionGoodsManager extends GoodsManager {
+
+		private long tradeRevision;
+
+		RevisionGoodsManager(Settlement settlement) {
+			super(settlement);
+		}
+
+		@Override
+		public long getTradeRevision() {
+			return tradeRevision;
+		}
+	}
+
+	/**
+	 * A trade matrix with a rover set by the test and a fixed profit.
+	 */
+	private static class CountingTradeMatrix extends TradeMatrix {
+
+		private Rover rover;
+		private int lookups;
+
+		CountingTradeMatrix(Rover rover) {
+			this.rover = rover;
+		}
+
+		@Override
+		Rover findRover(Settlement start) {
+			lookups++;
+			return rover;
+		}
+
+		@Override
+		double getTradeRange(Rover rover) {
+			return 1000D;
+		}
+
+		@Override
+		double estimateProfit(Settlement start, Rover rover, Settlement trading) {
+			return 100D;
+		}
+	}
+}
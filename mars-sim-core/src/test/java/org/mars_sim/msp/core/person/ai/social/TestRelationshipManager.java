@@ -0,0 +1,119 @@
+package org.mars_sim.msp.core.person.ai.social;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+
+import junit.framework.TestCase;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.person.GenderType;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.structure.MockSettlement;
+import org.mars_sim.msp.core.structure.Settlement;
+
+import com.phoenixst.plexus.DefaultGraph;
+import com.phoenixst.plexus.Graph;
+
+/**
+ * Unit test suite for the relationship manager.
+ */
+public class TestRelationshipManager extends TestCase {
+
+	private Person a;
+	private Person b;
+	private Person c;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.loadConfig();
+		Simulation.createNewSimulation(-1, false);
+
+		Settlement settlement = new MockSettlement();
+		a = createPerson("person a", settlement);
+		b = createPerson("person b", settlement);
+		c = createPerson("person c", settlement);
+	}
+
+	private static Person createPerson(String name, Settlement settlement) {
+		Person person = Person.create(name, settlement)
+								.setGender(GenderType.MALE)
+								.setCountry(null)
+								.setSponsor("Mars Society (MS)")
+								.build();
+		person.initialize();
+		return person;
+	}
+
+	/**
+	 * Test that the relationship graph of an older save is moved into the store
+	 * when the manager is read back.
+	 */
+	public void testReadGraph() throws Exception {
+		Graph graph = new DefaultGraph();
+		graph.addNode(a.getIdentifier());
+		graph.addNode(b.getIdentifier());
+		graph.addNode(c.getIdentifier());
+
+		Relationship ab = new Relationship(a, b, Relationship.EXISTING_RELATIONSHIP);
+		ab.setPersonOpinion(a, 30D);
+		ab.setPersonOpinion(b, 70D);
+		graph.addEdge(ab, a.getIdentifier(), b.getIdentifier(), false);
+
+		// Opinions out of range in the save
+		Relationship bc = new Relationship(b, c, Relationship.EXISTING_RELATIONSHIP);
+		setField(bc, "person1Opinion", 130D);
+		setField(bc, "person2Opinion", -10D);
+		graph.addEdge(bc, b.getIdentifier(), c.getIdentifier(), false);
+
+		// A manager as saved before the store
+		RelationshipManager manager = new RelationshipManager();
+		setField(manager, "store", null);
+		setField(manager, "relationshipGraph", graph);
+
+		manager = copy(manager);
+
+		assertEquals(30D, manager.getOpinionOfPerson(a, b), 0D);
+		assertEquals(70D, manager.getOpinionOfPerson(b, a), 0D);
+		assertEquals(100D, manager.getOpinionOfPerson(b, c), 0D);
+		assertEquals(0D, manager.getOpinionOfPerson(c, b), 0D);
+		// No relationship
+		assertEquals(50D, manager.getOpinionOfPerson(a, c), 0D);
+		assertEquals(50D, manager.getOpinionOfPerson(c, a), 0D);
+		assertNull(getField(manager, "relationshipGraph"));
+
+		// A manager saved with the store reads back the same
+		manager = copy(manager);
+		assertEquals(30D, manager.getOpinionOfPerson(a, b), 0D);
+		assertEquals(100D, manager.getOpinionOfPerson(b, c), 0D);
+		assertEquals(50D, manager.getOpinionOfPerson(a, c), 0D);
+	}
+
+	/**
+	 * Writes a manager and reads it back.
+	 */
+	private static RelationshipManager copy(RelationshipManager manager) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(manager);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return (RelationshipManager) in.readObject();
+		}
+	}
+
+	private static void setField(Object object, String name, Object value) throws Exception {
+		Field field = object.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(object, value);
+	}
+
+	private static Object getField(Object object, String name) throws Exception {
+		Field field = object.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(object);
+	}
+}
@@ -0,0 +1,74 @@
+package org.mars_sim.msp.core.person.ai.social;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the relationship store.
+ */
+public class TestRelationshipStore extends TestCase {
+
+	private RelationshipStore store;
+	private int a;
+	private int b;
+	private int c;
+
+	@Override
+	public void setUp() throws Exception {
+		store = new RelationshipStore();
+		a = store.addPerson(40);
+		b = store.addPerson(7);
+		c = store.addPerson(1000);
+	}
+
+	/**
+	 * Test the dense indices of the people.
+	 */
+	public void testIndices() {
+		assertEquals(0, a);
+		assertEquals(1, b);
+		assertEquals(2, c);
+		assertEquals(a, store.addPerson(40));
+		assertEquals(3, store.size());
+		assertEquals(b, store.getIndex(7));
+		assertEquals(-1, store.getIndex(8));
+		assertEquals(-1, store.getIndex(5000));
+		assertEquals(1000, store.getId(c));
+	}
+
+	/**
+	 * Test that a relationship holds an opinion in each direction.
+	 */
+	public void testOpinions() {
+		assertFalse(store.hasRelationship(a, b));
+		assertEquals(50D, store.getOpinion(a, b, 50D));
+
+		assertTrue(store.addRelationship(a, b, 30D, 120D));
+		assertFalse(store.addRelationship(b, a, 10D, 10D));
+		assertTrue(store.hasRelationship(a, b));
+		assertTrue(store.hasRelationship(b, a));
+		assertEquals(30D, store.getOpinion(a, b, 50D));
+		assertEquals(100D, store.getOpinion(b, a, 50D));
+
+		assertTrue(store.setOpinion(a, b, -5D));
+		assertEquals(0D, store.getOpinion(a, b, 50D));
+		assertEquals(100D, store.getOpinion(b, a, 50D));
+		assertFalse(store.setOpinion(a, c, 60D));
+	}
+
+	/**
+	 * Test that the known people stay sorted with their opinions.
+	 */
+	public void testKnownPeople() {
+		store.addRelationship(b, c, 20D, 25D);
+		store.addRelationship(b, a, 10D, 15D);
+
+		int[] known = store.getKnownPeople(b);
+		assertEquals(2, known.length);
+		assertEquals(a, known[0]);
+		assertEquals(c, known[1]);
+		double[] opinions = store.getOpinions(b);
+		assertEquals(10D, opinions[0]);
+		assertEquals(20D, opinions[1]);
+		assertEquals(1, store.getKnownPeople(c).length);
+	}
+}
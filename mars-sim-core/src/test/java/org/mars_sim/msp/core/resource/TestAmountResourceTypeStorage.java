@@ -200,4 +200,29 @@ public class TestAmountResourceTypeStorage extends TestCase {
         assertTrue("All resources contains carbon dioxide.", allResources.contains(carbonDioxide));
         assertTrue("All resources contains oxygen.", allResources.contains(oxygen));
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that a negative resource id has no capacity and nothing stored.
+     */
+    public void testInventoryAmountResourceTypeNegativeID() throws Exception {
+        AmountResourceTypeStorage storage = new AmountResourceTypeStorage();
+        AmountResource carbonDioxide = ResourceUtil.findAmountResource(CARBON_DIOXIDE);
+        storage.addAmountResourceTypeCapacity(carbonDioxide, 100D);
+        storage.storeAmountResourceType(carbonDioxide, 10D);
+
+        assertFalse(storage.hasARTypeCapacity(-1));
+        assertEquals(0D, storage.getAmountResourceTypeCapacity(-1), 0D);
+        assertEquals(0D, storage.getAmountResourceTypeStored(-1), 0D);
+        try {
+            storage.addAmountResourceTypeCapacity(-1, 100D);
+            fail("Cannot add capacity for a negative id.");
+        }
+        catch (IllegalStateException e) {}
+        try {
+            storage.storeARType(-1, 10D);
+            fail("Cannot store a negative id.");
+        }
+        catch (IllegalStateException e) {}
+        assertEquals(10D, storage.getTotalAmountResourceTypesStored(false), 0D);
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Mars Simulation Project
+ * TestScientificStudyManager.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+
+package org.mars_sim.msp.core.science;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.person.GenderType;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.structure.MockSettlement;
+import org.mars_sim.msp.core.structure.Settlement;
+
+/**
+ * Unit test suite for the indexes of the scientific study manager. Each query
+ * is checked against a linear scan of the ongoing and completed studies.
+ */
+public class TestScientificStudyManager extends TestCase {
+
+	private UnitManager unitManager;
+	private Settlement alpha;
+	private Settlement beta;
+	private List<Settlement> settlements;
+	private List<Person> people;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.loadConfig();
+		Simulation.createNewSimulation(-1, false);
+
+		// Clear out existing settlements in simulation.
+		unitManager = Simulation.instance().getUnitManager();
+		Iterator<Settlement> i = unitManager.getSettlements().iterator();
+		while (i.hasNext()) {
+			unitManager.removeUnit(i.next());
+		}
+
+		alpha = new MockSettlement();
+		beta = new MockSettlement();
+		unitManager.addUnit(alpha);
+		unitManager.addUnit(beta);
+		settlements = new ArrayList<Settlement>();
+		settlements.add(alpha);
+		settlements.add(beta);
+
+		people = new ArrayList<Person>();
+		for (int n = 0; n < 6; n++) {
+			Person person = Person.create("test person " + n, (n < 3) ? alpha : beta)
+									.setGender(GenderType.MALE)
+									.setCountry(null)
+									.setSponsor("Mars Society (MS)")
+									.build();
+			person.initialize();
+			unitManager.addUnit(person);
+			people.add(person);
+		}
+	}
+
+	/**
+	 * Test the queries as the studies go through their phases.
+	 */
+	public void testQueries() throws Exception {
+		ScientificStudyManager manager = new ScientificStudyManager();
+		Person first = people.get(0);
+		Person second = people.get(1);
+		Person third = people.get(3);
+
+		ScientificStudy s1 = manager.createScientificStudy(first, ScienceType.BOTANY, 1);
+		ScientificStudy s2 = manager.createScientificStudy(second, ScienceType.AREOLOGY, 2);
+		ScientificStudy s3 = manager.createScientificStudy(third, ScienceType.CHEMISTRY, 1);
+		checkQueries(manager);
+
+		// Phase changes
+		s1.addProposalWorkTime(s1.getTotalProposalWorkTimeRequired());
+		s1.setPhase(ScientificStudy.INVITATION_PHASE);
+		s2.setPhase(ScientificStudy.INVITATION_PHASE);
+		s1.addInvitedResearcher(people.get(4));
+		s2.addInvitedResearcher(people.get(4));
+		s2.respondingInvitedResearcher(people.get(4));
+		checkQueries(manager);
+
+		// Collaborators joining and leaving
+		s1.addCollaborativeResearcher(people.get(4), ScienceType.BIOLOGY);
+		s1.addCollaborativeResearcher(people.get(5), ScienceType.BOTANY);
+		s2.addCollaborativeResearcher(people.get(2), ScienceType.AREOLOGY);
+		s3.addCollaborativeResearcher(people.get(5), ScienceType.CHEMISTRY);
+		checkQueries(manager);
+		s1.removeCollaborativeResearcher(people.get(4));
+		s1.setPhase(ScientificStudy.RESEARCH_PHASE);
+		checkQueries(manager);
+
+		// The primary settlement follows the primary researcher when working
+		first.setAssociatedSettlement(beta);
+		s1.addPrimaryResearchWorkTime(1D);
+		assertEquals(beta.getIdentifier(), s1.getPrimarySettlementID());
+		checkQueries(manager);
+		s1.setPhase(ScientificStudy.PAPER_PHASE);
+		first.setAssociatedSettlement(alpha);
+		s1.addPrimaryPaperWorkTime(1D);
+		assertEquals(alpha.getIdentifier(), s1.getPrimarySettlementID());
+		checkQueries(manager);
+		third.setAssociatedSettlement(alpha);
+		s3.addProposalWorkTime(1D);
+		checkQueries(manager);
+
+		// Completion
+		s1.setCompleted(ScientificStudy.SUCCESSFUL_COMPLETION);
+		s2.setCompleted(ScientificStudy.FAILED_COMPLETION);
+		checkQueries(manager);
+		assertEquals(1, manager.getOngoingStudies().size());
+		assertEquals(2, manager.getCompletedStudies().size());
+
+		// A new primary study once the earlier one is done
+		ScientificStudy s4 = manager.createScientificStudy(first, ScienceType.BIOLOGY, 1);
+		assertSame(s4, manager.getOngoingPrimaryStudy(first));
+		checkQueries(manager);
+
+		// Save and load
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(manager);
+		}
+		ScientificStudyManager copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (ScientificStudyManager) in.readObject();
+		}
+		checkQueries(copy);
+
+		// The loaded manager keeps following the studies
+		ScientificStudy loaded = copy.getOngoingPrimaryStudy(third);
+		assertNotNull(loaded);
+		loaded.setPhase(ScientificStudy.INVITATION_PHASE);
+		loaded.setCompleted(ScientificStudy.CANCELED);
+		checkQueries(copy);
+		assertEquals(1, copy.getCanceledStudies().size());
+	}
+
+	/**
+	 * Checks each query of the manager against a linear scan.
+	 */
+	private void checkQueries(ScientificStudyManager manager) {
+		List<ScientificStudy> ongoing = manager.getOngoingStudies();
+		List<ScientificStudy> completed = manager.getCompletedStudies();
+		for (ScientificStudy study : ongoing) {
+			assertFalse(study.isCompleted());
+		}
+
+		assertSameStudies(byState(completed, ScientificStudy.SUCCESSFUL_COMPLETION), manager.getSuccessfulStudies());
+		assertSameStudies(byState(completed, ScientificStudy.FAILED_COMPLETION), manager.getFailedStudies());
+		assertSameStudies(byState(completed, ScientificStudy.CANCELED), manager.getCanceledStudies());
+
+		for (Person person : people) {
+			List<ScientificStudy> primary = byPrimary(ongoing, person);
+			assertTrue(primary.size() <= 1);
+			ScientificStudy expected = primary.isEmpty() ? null : primary.get(0);
+			assertSame(expected, manager.getOngoingPrimaryStudy(person));
+
+			assertSameStudies(byPrimary(completed, person), manager.getCompletedPrimaryStudies(person));
+			assertSameStudies(byCollaborator(ongoing, person), manager.getOngoingCollaborativeStudies(person));
+			assertSameStudies(byCollaborator(completed, person), manager.getCompletedCollaborativeStudies(person));
+
+			List<ScientificStudy> invitations = new ArrayList<ScientificStudy>();
+			for (ScientificStudy study : ongoing) {
+				if (ScientificStudy.INVITATION_PHASE.equals(study.getPhase()) && study.hasResearcherBeenInvited(person)
+						&& !study.hasInvitedResearcherResponded(person))
+					invitations.add(study);
+			}
+			assertSameStudies(invitations, manager.getOpenInvitationStudies(person));
+		}
+
+		for (Settlement settlement : settlements) {
+			assertSameStudies(bySettlement(ongoing, settlement), manager.getOngoingPrimaryStudies(settlement));
+			assertSameStudies(bySettlement(completed, settlement), manager.getCompletedPrimaryStudies(settlement));
+			assertSameStudies(byState(bySettlement(completed, settlement), ScientificStudy.FAILED_COMPLETION),
+					manager.getAllFailedStudies(settlement));
+
+			List<ScientificStudy> ongoingCollaborative = new ArrayList<ScientificStudy>();
+			List<ScientificStudy> completedCollaborative = new ArrayList<ScientificStudy>();
+			for (Person person : settlement.getAllAssociatedPeople()) {
+				ongoingCollaborative.addAll(byCollaborator(ongoing, person));
+				completedCollaborative.addAll(byCollaborator(completed, person));
+			}
+			assertSameStudies(ongoingCollaborative, manager.getOngoingCollaborativeStudies(settlement));
+			assertSameStudies(completedCollaborative, manager.getCompletedCollaborativeStudies(settlement));
+		}
+	}
+
+	private static List<ScientificStudy> byState(List<ScientificStudy> studies, String state) {
+		List<ScientificStudy> result = new ArrayList<ScientificStudy>();
+		for (ScientificStudy study : studies) {
+			if (state.equals(study.getCompletionState()))
+				result.add(study);
+		}
+		return result;
+	}
+
+	private static List<ScientificStudy> byPrimary(List<ScientificStudy> studies, Person person) {
+		List<ScientificStudy> result = new ArrayList<ScientificStudy>();
+		for (ScientificStudy study : studies) {
+			if (study.getPrimaryResearcherID() == person.getIdentifier())
+				result.add(study);
+		}
+		return result;
+	}
+
+	private static List<ScientificStudy> byCollaborator(List<ScientificStudy> studies, Person person) {
+		List<ScientificStudy> result = new ArrayList<ScientificStudy>();
+		for (ScientificStudy study : studies) {
+			if (study.getCollaborativeResearchers().containsKey(person.getIdentifier()))
+				result.add(study);
+		}
+		return result;
+	}
+
+	private static List<ScientificStudy> bySettlement(List<ScientificStudy> studies, Settlement settlement) {
+		List<ScientificStudy> result = new ArrayList<ScientificStudy>();
+		for (ScientificStudy study : studies) {
+			if (study.getPrimarySettlementID() == settlement.getIdentifier())
+				result.add(study);
+		}
+		return result;
+	}
+
+	/**
+	 * Asserts that two lists hold the same studies, in any order.
+	 */
+	private static void assertSameStudies(List<ScientificStudy> expected, List<ScientificStudy> actual) {
+		assertEquals(expected.size(), actual.size());
+		List<ScientificStudy> remaining = new ArrayList<ScientificStudy>(actual);
+		for (ScientificStudy study : expected) {
+			assertTrue(study + " is missing", remaining.remove(study));
+		}
+	}
+}
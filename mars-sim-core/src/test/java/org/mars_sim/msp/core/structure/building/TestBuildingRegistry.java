@@ -0,0 +1,116 @@
+package org.mars_sim.msp.core.structure.building;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.structure.MockSettlement;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.function.BuildingAirlock;
+import org.mars_sim.msp.core.structure.building.function.EVA;
+import org.mars_sim.msp.core.structure.building.function.FunctionType;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the function index of the building manager.
+ */
+public class TestBuildingRegistry extends TestCase {
+
+    private BuildingManager buildingManager;
+    private MockBuilding building0;
+    private MockBuilding building1;
+
+    @Override
+    public void setUp() throws Exception {
+        SimulationConfig.loadConfig();
+        Simulation.createNewSimulation(-1, false);
+
+        // Clear out existing settlements in simulation.
+        UnitManager unitManager = Simulation.instance().getUnitManager();
+        Iterator<Settlement> i = unitManager.getSettlements().iterator();
+        while (i.hasNext()) {
+            unitManager.removeUnit(i.next());
+        }
+
+        Settlement settlement = new MockSettlement();
+        buildingManager = settlement.getBuildingManager();
+
+        // Remove the default building of the mock settlement.
+        for (Building building : buildingManager.getACopyOfBuildings()) {
+            buildingManager.removeBuilding(building);
+        }
+
+        building0 = new MockBuilding(buildingManager);
+        building0.setTemplateID(0);
+        building0.setName("building 0");
+        buildingManager.addBuilding(building0, false);
+        BuildingAirlock airlock0 = new BuildingAirlock(building0, 1, 0D, 0D, 0D, 0D, 0D, 0D);
+        building0.addFunction(new EVA(building0, airlock0));
+
+        building1 = new MockBuilding(buildingManager);
+        building1.setTemplateID(1);
+        building1.setName("building 1");
+        buildingManager.addBuilding(building1, false);
+
+        buildingManager.setupBuildingFunctionsMap();
+    }
+
+    /**
+     * Test the buildings found by function.
+     */
+    public void testFunctionIndex() {
+        List<Building> lifeSupport = buildingManager.getBuildings(FunctionType.LIFE_SUPPORT);
+        assertEquals(2, lifeSupport.size());
+        assertTrue(lifeSupport.contains(building0));
+        assertTrue(lifeSupport.contains(building1));
+
+        List<Building> eva = buildingManager.getBuildings(FunctionType.EVA);
+        assertEquals(1, eva.size());
+        assertSame(building0, eva.get(0));
+
+        List<Building> both = buildingManager.getBuildings(FunctionType.LIFE_SUPPORT, FunctionType.EVA);
+        assertEquals(1, both.size());
+        assertSame(building0, both.get(0));
+
+        assertTrue(buildingManager.getBuildings(FunctionType.FARMING).isEmpty());
+    }
+
+    /**
+     * Test that the lists are shared and cannot be modified.
+     */
+    public void testSharedSnapshots() {
+        List<Building> lifeSupport = buildingManager.getBuildings(FunctionType.LIFE_SUPPORT);
+        assertSame(lifeSupport, buildingManager.getBuildings(FunctionType.LIFE_SUPPORT));
+        assertSame(buildingManager.getBuildings(), buildingManager.getBuildings());
+
+        try {
+            lifeSupport.remove(building0);
+            fail("Function list should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        List<Building> copy = buildingManager.getACopyOfBuildings();
+        copy.clear();
+        assertEquals(2, buildingManager.getBuildings().size());
+    }
+
+    /**
+     * Test that removing a building publishes a new snapshot and leaves the old
+     * one as it was.
+     */
+    public void testRemoveBuilding() {
+        List<Building> before = buildingManager.getBuildings(FunctionType.LIFE_SUPPORT);
+
+        buildingManager.removeBuilding(building1);
+
+        List<Building> after = buildingManager.getBuildings(FunctionType.LIFE_SUPPORT);
+        assertEquals(2, before.size());
+        assertEquals(1, after.size());
+        assertSame(building0, after.get(0));
+        assertFalse(buildingManager.containsBuilding(building1));
+    }
+}
@@ -233,5 +233,11 @@ public class BuildingConnectorManagerTest extends TestCase {
         assertEquals(-10D, path3.getNextPathLocation().getXLocation(), SMALL_DELTA);
         assertEquals(1D, path3.getNextPathLocation().getYLocation(), SMALL_DELTA);
         assertTrue(path3.isEndOfPath());
+
+        // Removing the connections must clear the cached routes.
+        assertTrue(manager.hasValidPath(building0, building1));
+        manager.removeAllConnectionsToBuilding(building2);
+        assertFalse(manager.hasValidPath(building0, building1));
+        assertNull(manager.determineShortestPath(building0, 2D, -1D, building1, -10D, 1D));
     }
 }
\ No newline at end of file
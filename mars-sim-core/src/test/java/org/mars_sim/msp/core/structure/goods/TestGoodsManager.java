@@ -0,0 +1,258 @@
+/**
+ * Mars Simulation Project
+ * TestGoodsManager.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+
+package org.mars_sim.msp.core.structure.goods;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.mars_sim.msp.core.Inventory;
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.malfunction.Malfunction;
+import org.mars_sim.msp.core.malfunction.MalfunctionConfig;
+import org.mars_sim.msp.core.manufacture.ManufactureProcess;
+import org.mars_sim.msp.core.manufacture.ManufactureProcessInfo;
+import org.mars_sim.msp.core.manufacture.ManufactureProcessItem;
+import org.mars_sim.msp.core.manufacture.ManufactureUtil;
+import org.mars_sim.msp.core.resource.AmountResource;
+import org.mars_sim.msp.core.resource.ItemResourceUtil;
+import org.mars_sim.msp.core.resource.ItemType;
+import org.mars_sim.msp.core.resource.ResourceUtil;
+import org.mars_sim.msp.core.structure.MockSettlement;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.MockBuilding;
+import org.mars_sim.msp.core.structure.building.function.Manufacture;
+
+/**
+ * Unit test suite checking the incremental updates of the goods values against
+ * a full update.
+ */
+public class TestGoodsManager extends TestCase {
+
+	/** The workshop building type. */
+	private static final String WORKSHOP = "Workshop";
+	/** The maximum number of full updates for the values to settle. */
+	private static final int MAX_FULL_UPDATES = 10;
+
+	private GoodsSettlement settlement;
+	private GoodsManager goodsManager;
+	private MockBuilding workshop;
+	private Manufacture manufacture;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.loadConfig();
+		// Drop the test parts registered by other tests under the ids of real parts
+		ItemResourceUtil.createMaps();
+		Simulation.createNewSimulation(-1, false);
+
+		// Clear out existing settlements in simulation.
+		Simulation sim = Simulation.instance();
+		UnitManager unitManager = sim.getUnitManager();
+		GoodsManager.justReloaded(sim.getMasterClock().getMarsClock(), sim.getMissionManager(), unitManager,
+				SimulationConfig.instance().getPersonConfiguration());
+		Iterator<Settlement> i = unitManager.getSettlements().iterator();
+		while (i.hasNext()) {
+			unitManager.removeUnit(i.next());
+		}
+
+		settlement = new GoodsSettlement();
+		goodsManager = settlement.getGoodsManager();
+
+		workshop = (MockBuilding) settlement.getBuildingManager().getACopyOfBuildings().get(0);
+		workshop.setBuildingType(WORKSHOP);
+		manufacture = new Manufacture(workshop);
+		workshop.addFunction(manufacture);
+
+		// A 3D printer for one process
+		settlement.getInventory().storeItemResources(ItemResourceUtil.printerID, 1);
+		manufacture.checkPrinters();
+	}
+
+	/**
+	 * Test that the incremental updates after an inventory change, a process
+	 * start and end and a malfunction give the values of a full update.
+	 */
+	public void testIncrementalUpdate() {
+		updateUntilSettled();
+
+		// Inventory change
+		Inventory inv = settlement.getInventory();
+		inv.addAmountResourceTypeCapacity(ResourceUtil.oxygenID, 1000D);
+		inv.storeAmountResource(ResourceUtil.oxygenID, 500D, true);
+		assertIncremental("storing oxygen");
+
+		// Process start and end
+		ManufactureProcessInfo info = getAmountResourceProcess();
+		assertNotNull("No process with only amount resources", info);
+		for (ManufactureProcessItem item : info.getInputList()) {
+			int id = ResourceUtil.findIDbyAmountResourceName(item.getName());
+			inv.addAmountResourceTypeCapacity(id, item.getAmount() * 2D);
+			inv.storeAmountResource(id, item.getAmount(), true);
+		}
+		for (ManufactureProcessItem item : info.getOutputList()) {
+			int id = ResourceUtil.findIDbyAmountResourceName(item.getName());
+			inv.addAmountResourceTypeCapacity(id, item.getAmount() * 2D);
+		}
+		assertIncremental("storing the inputs");
+
+		ManufactureProcess process = new ManufactureProcess(info, manufacture);
+		manufacture.addProcess(process);
+		assertIncremental("starting " + info.getName());
+
+		manufacture.endManufacturingProcess(process, false);
+		assertIncremental("ending " + info.getName());
+
+		// Malfunction with repair parts
+		long revision = goodsManager.getValueRevision();
+		workshop.getMalfunctionManager().activateMalfunction(getMalfunctionWithParts(), false);
+		assertIncremental("adding a malfunction");
+		assertTrue(goodsManager.getValueRevision() > revision);
+	}
+
+	/**
+	 * Test that the trade revision changes only when a value moves much.
+	 */
+	public void testTradeRevision() {
+		updateUntilSettled();
+		long valueRevision = goodsManager.getValueRevision();
+		long tradeRevision = goodsManager.getTradeRevision();
+
+		// The values do not move in another full update
+		goodsManager.updateAllGoodsValues();
+		assertTrue(goodsManager.getValueRevision() > valueRevision);
+		assertEquals(tradeRevision, goodsManager.getTradeRevision());
+
+		// Plenty of the most valued resource moves its value
+		Good good = null;
+		for (Good g : GoodsUtil.getGoodsList()) {
+			if (GoodType.AMOUNT_RESOURCE == g.getCategory()
+					&& (good == null || goodsManager.getGoodValuePerItem(g) > goodsManager.getGoodValuePerItem(good)))
+				good = g;
+		}
+		double value = goodsManager.getGoodValuePerItem(good);
+		assertTrue(value > 0D);
+		Inventory inv = settlement.getInventory();
+		int id = ((AmountResource) good.getObject()).getID();
+		inv.addAmountResourceTypeCapacity(id, 100_000D);
+		inv.storeAmountResource(id, 100_000D, true);
+		goodsManager.updateGoodsValues();
+		assertTrue(goodsManager.getGoodValuePerItem(good) < value * .9D);
+		assertTrue(goodsManager.getTradeRevision() > tradeRevision);
+	}
+
+	/**
+	 * Runs an incremental update and compares its values with the values of full
+	 * updates. Since the value of a good depends on the values of other goods,
+	 * the full updates are repeated until the values settle.
+	 *
+	 * @param change the change since the last update.
+	 */
+	private void assertIncremental(String change) {
+		goodsManager.updateGoodsValues();
+		Map<Good, Double> incremental = getValues();
+
+		Map<Good, Double> full = updateUntilSettled();
+		for (Good good : GoodsUtil.getGoodsList()) {
+			double expected = full.get(good);
+			assertEquals(good.getName() + " after " + change, expected, incremental.get(good), getTolerance(expected));
+		}
+	}
+
+	/**
+	 * Runs full updates until the values no longer change.
+	 *
+	 * @return the values.
+	 */
+	private Map<Good, Double> updateUntilSettled() {
+		goodsManager.updateAllGoodsValues();
+		Map<Good, Double> values = getValues();
+		for (int i = 0; i < MAX_FULL_UPDATES; i++) {
+			goodsManager.updateAllGoodsValues();
+			Map<Good, Double> next = getValues();
+			if (isSame(values, next))
+				return next;
+			values = next;
+		}
+		fail("The goods values do not settle");
+		return values;
+	}
+
+	private Map<Good, Double> getValues() {
+		Map<Good, Double> result = new HashMap<>();
+		for (Good good : GoodsUtil.getGoodsList()) {
+			result.put(good, goodsManager.getGoodValuePerItem(good));
+		}
+		return result;
+	}
+
+	private static boolean isSame(Map<Good, Double> a, Map<Good, Double> b) {
+		for (Map.Entry<Good, Double> e : a.entrySet()) {
+			if (Math.abs(e.getValue() - b.get(e.getKey())) > getTolerance(e.getValue()))
+				return false;
+		}
+		return true;
+	}
+
+	private static double getTolerance(double value) {
+		return Math.max(0.001, Math.abs(value) * 1E-6);
+	}
+
+	/**
+	 * Gets a process of the workshop with amount resources only.
+	 *
+	 * @return the process or null if none.
+	 */
+	private ManufactureProcessInfo getAmountResourceProcess() {
+		List<ManufactureProcessInfo> processes = ManufactureUtil
+				.getManufactureProcessesForTechLevel(manufacture.getTechLevel());
+		for (ManufactureProcessInfo info : processes) {
+			if (isAmountResourceOnly(info.getInputList()) && isAmountResourceOnly(info.getOutputList()))
+				return info;
+		}
+		return null;
+	}
+
+	private static boolean isAmountResourceOnly(List<ManufactureProcessItem> items) {
+		for (ManufactureProcessItem item : items) {
+			if (!ItemType.AMOUNT_RESOURCE.equals(item.getType()))
+				return false;
+		}
+		return !items.isEmpty();
+	}
+
+	/**
+	 * Gets a malfunction needing repair parts.
+	 *
+	 * @return the malfunction.
+	 */
+	private static Malfunction getMalfunctionWithParts() {
+		for (Malfunction malfunction : MalfunctionConfig.getMalfunctionList()) {
+			List<?> parts = MalfunctionConfig.getRepairParts().get(malfunction.getName());
+			if (parts != null && !parts.isEmpty())
+				return malfunction;
+		}
+		fail("No malfunction with repair parts");
+		return null;
+	}
+
+	/**
+	 * A settlement with a goods manager.
+	 */
+	private static class GoodsSettlement extends MockSettlement {
+
+		GoodsSettlement() {
+			goodsManager = new GoodsManager(this);
+		}
+	}
+}
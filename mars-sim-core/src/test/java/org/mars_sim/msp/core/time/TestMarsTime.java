@@ -0,0 +1,79 @@
+package org.mars_sim.msp.core.time;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the immutable Martian time.
+ */
+public class TestMarsTime extends TestCase {
+
+	/**
+	 * Test the orbit, month and sol against a count of the calendar.
+	 */
+	public void testCalendar() {
+		int totalSols = 0;
+		for (int orbit = 0; orbit <= 1010; orbit++) {
+			for (int month = 1; month <= 24; month++) {
+				int solsInMonth = MarsClock.getSolsInMonth(month, orbit);
+				for (int sol = 1; sol <= solsInMonth; sol += solsInMonth - 1) {
+					MarsTime time = new MarsTime((totalSols + sol - 1) * 1000D + 123.5D, 1);
+					assertEquals(orbit, time.getOrbit());
+					assertEquals(month, time.getMonth());
+					assertEquals(sol, time.getSolOfMonth());
+					assertEquals(123.5D, time.getMillisol(), 1E-6);
+				}
+				totalSols += solsInMonth;
+			}
+			assertEquals(totalSols, MarsTime.getSolsBeforeOrbit(orbit + 1));
+		}
+	}
+
+	/**
+	 * Test the total millisols of a clock against the count of every orbit and
+	 * month before it.
+	 */
+	public void testTotalMillisols() {
+		Random random = new Random(42L);
+		for (int orbit = 0; orbit <= 1010; orbit++) {
+			for (int month = 1; month <= 24; month++) {
+				int sol = 1 + random.nextInt(MarsClock.getSolsInMonth(month, orbit));
+				double millisol = random.nextDouble() * 1000D;
+				MarsClock clock = new MarsClock(orbit, month, sol, millisol, 1);
+
+				double expected = 0D;
+				for (int x = 0; x < orbit; x++) {
+					if (MarsClock.isLeapOrbit(x))
+						expected += MarsClock.SOLS_PER_ORBIT_LEAPYEAR * 1000D;
+					else
+						expected += MarsClock.SOLS_PER_ORBIT_NON_LEAPYEAR * 1000D;
+				}
+				for (int x = 1; x < month; x++)
+					expected += MarsClock.getSolsInMonth(x, orbit) * 1000D;
+				expected += (sol - 1) * 1000D;
+				expected += millisol;
+
+				assertEquals(expected, MarsClock.getTotalMillisols(clock), 0D);
+				assertEquals(expected, clock.getTime().getTotalMillisols(), 0D);
+			}
+		}
+	}
+
+	/**
+	 * Test the differences and the comparisons.
+	 */
+	public void testTimeDiff() {
+		MarsTime start = new MarsTime(9353500D, 1);
+		MarsTime later = start.addTime(1700D);
+
+		assertEquals(1700D, later.getTimeDiff(start), 1E-9);
+		assertEquals(-1700D, start.getTimeDiff(later), 1E-9);
+		assertEquals(3, later.getMissionSol());
+		assertTrue(start.isBefore(later));
+		assertTrue(later.isAfter(start));
+		assertTrue(start.compareTo(later) < 0);
+		assertEquals(start, later.addTime(-1700D));
+		assertEquals(1, later.addTime(-1700D).getMissionSol());
+	}
+}
@@ -0,0 +1,72 @@
+package org.mars_sim.msp.core.tool;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the latency histogram of the tick profiler.
+ */
+public class TestLatencyHistogram extends TestCase {
+
+	/**
+	 * Test that every duration falls in a bucket that holds it, and that the
+	 * buckets are no wider than 1/32 of their values.
+	 */
+	public void testBuckets() {
+		long[] values = { 0L, 1L, 31L, 32L, 33L, 63L, 64L, 65L, 1_000L, 123_456L, 1L << 30, (1L << 40) - 1 };
+		for (long v : values) {
+			int index = LatencyHistogram.getIndex(v);
+			long highest = LatencyHistogram.getHighestValue(index);
+			assertTrue(v + " above its bucket", v <= highest);
+			if (index > 0)
+				assertTrue(v + " below its bucket", v > LatencyHistogram.getHighestValue(index - 1));
+			assertTrue(v + " in too wide a bucket", highest - v <= v / 32);
+		}
+
+		// Longer durations fall in the last bucket
+		assertEquals(LatencyHistogram.getIndex(1L << 41), LatencyHistogram.getIndex(Long.MAX_VALUE));
+	}
+
+	/**
+	 * Test the statistics of a uniform distribution.
+	 */
+	public void testPercentiles() {
+		LatencyHistogram h = new LatencyHistogram();
+		for (long i = 1; i <= 1_000; i++) {
+			h.record(i * 1_000L);
+		}
+
+		assertEquals(1_000L, h.getCount());
+		assertEquals(500_500D * 1_000D, (double) h.getTotal());
+		assertEquals(500_500D, h.getMean());
+		assertEquals(1_000_000L, h.getMax());
+		assertEquals(500_000D, h.getValueAtPercentile(50D), 500_000D / 32);
+		assertEquals(990_000D, h.getValueAtPercentile(99D), 990_000D / 32);
+		assertEquals(1_000_000L, h.getValueAtPercentile(100D));
+
+		h.reset();
+		assertEquals(0L, h.getCount());
+		assertEquals(0L, h.getValueAtPercentile(50D));
+	}
+
+	/**
+	 * Test that the profiler measures nothing while off.
+	 */
+	public void testProfilerOff() {
+		TickProfiler.reset();
+		TickProfiler.setEnabled(false);
+		long start = TickProfiler.start();
+		TickProfiler.record(TickProfiler.Category.TASK, TestLatencyHistogram.class, start);
+		assertTrue(TickProfiler.getEntries().isEmpty());
+
+		TickProfiler.setEnabled(true);
+		try {
+			start = TickProfiler.start();
+			TickProfiler.record(TickProfiler.Category.TASK, TestLatencyHistogram.class, start);
+			assertEquals(1, TickProfiler.getEntries().size());
+			assertEquals("TestLatencyHistogram", TickProfiler.getEntries().get(0).getName());
+		} finally {
+			TickProfiler.setEnabled(false);
+			TickProfiler.reset();
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package org.mars_sim.msp.core.tool;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the random streams of a deterministic run.
+ */
+public class TestRandomUtil extends TestCase {
+
+	private static final int COUNT = 100;
+
+	@Override
+	protected void tearDown() throws Exception {
+		RandomUtil.clearStream();
+	}
+
+	/**
+	 * Draws a sequence of numbers from the named stream.
+	 */
+	private double[] draw(String name) {
+		RandomUtil.useStream(name);
+		double[] result = new double[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			result[i] = RandomUtil.getRandomDouble(1D);
+		}
+		return result;
+	}
+
+	/**
+	 * Test that the same seed replays the same sequence.
+	 */
+	public void testSameSeed() {
+		RandomUtil.setMasterSeed(42L);
+		double[] first = draw("Settlement-A");
+
+		RandomUtil.setMasterSeed(42L);
+		double[] second = draw("Settlement-A");
+
+		for (int i = 0; i < COUNT; i++) {
+			assertEquals(first[i], second[i]);
+		}
+	}
+
+	/**
+	 * Test that one stream is not affected by draws from another stream.
+	 */
+	public void testIndependentStreams() {
+		RandomUtil.setMasterSeed(7L);
+		double[] alone = draw("Weather");
+
+		RandomUtil.setMasterSeed(7L);
+		draw("Settlement-B");
+		double[] after = draw("Weather");
+
+		for (int i = 0; i < COUNT; i++) {
+			assertEquals(alone[i], after[i]);
+		}
+	}
+
+	/**
+	 * Test that a thread without a stream also replays from the master seed.
+	 */
+	public void testThreadWithoutStream() {
+		RandomUtil.clearStream();
+		RandomUtil.setMasterSeed(11L);
+		double[] first = new double[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			first[i] = RandomUtil.getRandomDouble(1D);
+		}
+
+		RandomUtil.setMasterSeed(11L);
+		for (int i = 0; i < COUNT; i++) {
+			assertEquals(first[i], RandomUtil.getRandomDouble(1D));
+		}
+	}
+}
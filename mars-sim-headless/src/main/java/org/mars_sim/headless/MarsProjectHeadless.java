@@ -15,13 +15,22 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import java.lang.Runnable;
 
+import org.mars_sim.msp.core.SaveCodec;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.UnitTickEngine;
+import org.mars_sim.msp.core.time.MasterClock;
+import org.mars_sim.msp.core.tool.RandomUtil;
+import org.mars_sim.msp.core.tool.ReplayCheck;
+import org.mars_sim.msp.core.tool.TickProfiler;
 
 /**
  * MarsProjectHeadless is the main class for starting mars-sim in purely
@@ -38,6 +47,24 @@ public class MarsProjectHeadless {
 
 	private Simulation sim = Simulation.instance();
 	
+	/** True if the master clock runs in fixed-step mode. */
+	private boolean useFixedStep = false;
+	/** The length of each pulse in fixed-step mode (in millisols). */
+	private double fixedStep = MasterClock.DEFAULT_FIXED_STEP;
+	/** The number of sols to run in fixed-step mode. 0 if unlimited. */
+	private int fixedStepSols = 0;
+	/** True if running deterministically from a master seed. */
+	private boolean useSeed = false;
+	/** The master seed. */
+	private long seed = 1L;
+	/** The interval between two dumps of the tick profile (in seconds). 0 if not profiling. */
+	private int profileInterval = 0;
+	
+	/** The file of the tick profile. */
+	private static final String PROFILE_FILE = "tick-profile.json";
+	/** The default interval between two dumps of the tick profile (in seconds). */
+	private static final int DEFAULT_PROFILE_INTERVAL = 60;
+	
 	private static final String HELP = 
 
 	 "java -jar mars-sim-[$VERSION].jar" + System.lineSeparator()
@@ -65,7 +92,25 @@ public class MarsProjectHeadless {
 	 +"                            folder as the jarfile)" + System.lineSeparator()
 	 +"    noaudio         disable background music and sound effect" + System.lineSeparator()
 	 +"    512x            set time ratio to 512x (for headless edition only)" + System.lineSeparator()		
-	 +"    1024x           set time ratio to 1024x (for headless edition only)" + System.lineSeparator();                   		
+	 +"    1024x           set time ratio to 1024x (for headless edition only)" + System.lineSeparator()
+	 +"    fixedstep       run as fast as possible with a fixed time step" + System.lineSeparator()
+	 +"                    (for batch runs. No sleeping or frame skipping)" + System.lineSeparator()
+	 +"    step=0.5        set the fixed time step to 0.5 millisols" + System.lineSeparator()
+	 +"    sols=100        exit after running 100 sols in fixed-step mode" + System.lineSeparator()
+	 +"    singlethread    update all settlements on a single thread (for debugging)" + System.lineSeparator()
+	 +"    seed=42         run deterministically from the master seed 42" + System.lineSeparator()
+	 +"                    (Note : implies 'fixedstep')" + System.lineSeparator()
+	 +"    replaycheck     run a new sim twice with the same seed and compare" + System.lineSeparator()
+	 +"                    the state of each sol (use with 'seed' and 'sols')" + System.lineSeparator()
+	 +"    savecodec=fast  save with the fast codec instead of xz" + System.lineSeparator()
+	 +"                    (Note : larger files but much shorter saves)" + System.lineSeparator()
+	 +"    streamsave      stream saves through a small buffer instead of capturing" + System.lineSeparator()
+	 +"                    the whole snapshot (Note : less memory but longer pauses)" + System.lineSeparator()
+	 +"    savebuffer=128  capture up to 128 MB of a save before streaming the rest" + System.lineSeparator()
+	 +"                    (default : 64 MB or a sixteenth of the heap if less)" + System.lineSeparator()
+	 +"    profile         measure the time spent per manager, unit, task and meta task" + System.lineSeparator()
+	 +"                    and write it to /.mars-sim/logs/" + PROFILE_FILE + " every minute" + System.lineSeparator()
+	 +"    profile=10      same as 'profile' but write it every 10 seconds" + System.lineSeparator();
 
 	 
 	/**
@@ -132,11 +177,58 @@ public class MarsProjectHeadless {
 		else if (argList.contains("-8192x"))
 			userTimeRatio = 8192;
 
+		for (String arg : argList) {
+			if (arg.startsWith("-step=")) {
+				fixedStep = Double.parseDouble(arg.substring(6));
+			}
+			else if (arg.startsWith("-sols=")) {
+				fixedStepSols = Integer.parseInt(arg.substring(6));
+			}
+			else if (arg.startsWith("-seed=")) {
+				seed = Long.parseLong(arg.substring(6));
+				useSeed = true;
+			}
+			else if (arg.startsWith("-savecodec=")) {
+				Simulation.setSaveCodec(SaveCodec.fromName(arg.substring(11)));
+			}
+			else if (arg.startsWith("-savebuffer=")) {
+				Simulation.setSaveCaptureLimit(Long.parseLong(arg.substring(12)) * 1024 * 1024);
+			}
+			else if (arg.startsWith("-profile=")) {
+				profileInterval = Integer.parseInt(arg.substring(9));
+			}
+			else if (arg.equals("-profile")) {
+				profileInterval = DEFAULT_PROFILE_INTERVAL;
+			}
+		}
+		
+		// A deterministic run needs fixed pulse sizes
+		useFixedStep = argList.contains("-fixedstep") || useSeed;
+		
+		if (useSeed)
+			RandomUtil.setMasterSeed(seed);
+		
+		if (argList.contains("-singlethread"))
+			UnitTickEngine.setParallel(false);
+		
+		if (argList.contains("-streamsave"))
+			Simulation.setCaptureSaves(false);
+		
+		if (profileInterval > 0)
+			startProfiler();
+		
 		if (argList.contains("-help")) {
 			System.out.println(HELP);
 			System.exit(1);
 		}
 		
+		else if (argList.contains("-replaycheck")) {
+			SimulationConfig.loadConfig();
+			int sols = fixedStepSols > 0 ? fixedStepSols : 3;
+			int diverged = new ReplayCheck(seed, sols, fixedStep).check();
+			System.exit(diverged == -1 ? 0 : 1);
+		}
+		
 		else if (argList.contains("-new")) {
 			// If new argument, create new simulation.
 			handleNewSimulation(userTimeRatio); // if this fails we always exit, continuing is useless
@@ -242,6 +334,8 @@ public class MarsProjectHeadless {
 
 			Simulation.createNewSimulation(userTimeRatio, false);
 			
+			setupFixedStep();
+			
 			sim.start(true);
 			
 		} catch (Exception e) {
@@ -250,10 +344,42 @@ public class MarsProjectHeadless {
 		}
 	}
 
+	/**
+	 * Turns the tick profiler on and writes its report periodically.
+	 */
+	private void startProfiler() {
+		File file = new File(Simulation.USER_HOME, 
+				Simulation.MARS_SIM_DIR + File.separator + Simulation.LOGS_DIR + File.separator + PROFILE_FILE);
+		TickProfiler.setEnabled(true);
+		logger.config("Writing the tick profile to " + file + " every " + profileInterval + " seconds.");
+
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "tick-profile");
+			t.setDaemon(true);
+			return t;
+		});
+		executor.scheduleWithFixedDelay(() -> {
+			try {
+				TickProfiler.writeReport(file);
+			} catch (IOException e) {
+				logger.log(Level.WARNING, "Could not write the tick profile", e);
+			}
+		}, profileInterval, profileInterval, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Sets up the master clock to run in fixed-step mode if requested.
+	 */
+	private void setupFixedStep() {
+		if (useFixedStep)
+			sim.getMasterClock().setFixedStep(fixedStep, fixedStepSols);
+	}
+
 	/**
 	 * Start the simulation instance.
 	 */
 	public void startSimulation(boolean useDefaultName) {
+		setupFixedStep();
 		// Start the simulation.
 		sim.start(useDefaultName);
 	}
@@ -139,6 +139,12 @@ public class MarsProjectHeadlessStarter {
 		// Check for noaudio switch
 		if (argList.contains("noaudio") || argList.contains("-noaudio"))
 			command.append(" -noaudio");
+
+		// Check for the profile switch, with or without an interval
+		for (String arg : argList) {
+			if (arg.startsWith("profile") || arg.startsWith("-profile"))
+				command.append(" -" + arg.replaceFirst("^-", ""));
+		}
 		
 		
 		// Check for time-ratio switches
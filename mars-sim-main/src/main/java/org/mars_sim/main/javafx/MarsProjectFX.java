@@ -190,6 +190,9 @@ public class MarsProjectFX extends Application {
 	/** initialized logger for this class. */
 	private static Logger logger = Logger.getLogger(MarsProjectFX.class.getName());
 
+	/** The message of the title. */
+	private static final LogConsolidated.Site titleLog = LogConsolidated.site(logger, 0);
+
 	private static final String LOGGING_PROPERTIES = "/logging.properties";
 	
 	static String[] args;
@@ -263,7 +266,7 @@ public class MarsProjectFX extends Application {
 		setDirectory();
 
 		// logger.config(Simulation.title);
-		LogConsolidated.log(logger, Level.CONFIG, 0, logger.getName(), Simulation.title, null);
+		titleLog.log(Level.CONFIG, Simulation.title);
 
 		// System.getProperty("java.version").compareTo("1.7.0_45") >= 0;
 
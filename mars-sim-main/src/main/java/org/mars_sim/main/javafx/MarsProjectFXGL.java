@@ -32,6 +32,9 @@ public class MarsProjectFXGL extends GameApplication {
 	/** initialized logger for this class. */
 	private static Logger logger = Logger.getLogger(MarsProjectFXGL.class.getName());
 
+	/** The message of the title. */
+	private static final LogConsolidated.Site titleLog = LogConsolidated.site(logger, 0);
+
 	private static final String LOGGING_PROPERTIES = "/logging.properties";
 	
 	static String[] args;
@@ -137,7 +140,7 @@ public class MarsProjectFXGL extends GameApplication {
 		setLogging();
 		setDirectory();
 
-		LogConsolidated.log(logger, Level.INFO, 0, logger.getName(), Simulation.title, null);
+		titleLog.log(Level.INFO, Simulation.title);
 
 		boolean good2Go = true;
 
@@ -0,0 +1,269 @@
+/**
+ * Mars Simulation Project
+ * ElevationMapData.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+
+package org.mars_sim.mapdata;
+
+import java.awt.Color;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A raster of the surface elevation of Mars, precomputed from the colors of the
+ * topographical map. The raster has one sample per pixel of the source map, in
+ * meters, on a regular grid of {@link IntegerMapData#MAP_WIDTH} by
+ * {@link IntegerMapData#MAP_HEIGHT} samples. The elevation at a location is
+ * interpolated between the four nearest samples.
+ * <br>
+ * The raster is stored in the {@link #ELEVATION_FILE} resource. It is memory
+ * mapped when the resource is a file and read once when it is inside a jar. If
+ * the resource is missing, the raster is computed from the topographical map.
+ * Run {@link #main(String[])} to write the resource.
+ */
+public class ElevationMapData {
+
+    // Static members.
+    private static Logger logger = Logger.getLogger(ElevationMapData.class.getName());
+
+    /** The elevation resource. */
+    public static final String ELEVATION_FILE = "TopoMarsElevation.bin";
+
+    private static final int WIDTH = IntegerMapData.MAP_WIDTH;
+    private static final int HEIGHT = IntegerMapData.MAP_HEIGHT;
+    /** The size of the header : the width and the height. */
+    private static final int HEADER_SIZE = 8;
+    private static final double TWO_PI = Math.PI * 2D;
+    private static final double ROWS_PER_RADIAN = HEIGHT / Math.PI;
+    private static final double COLUMNS_PER_RADIAN = WIDTH / TWO_PI;
+
+    private static final double OLYMPUS_MONS_CALDERA_PHI = 1.246165D;
+    private static final double OLYMPUS_MONS_CALDERA_THETA = 3.944444D;
+    private static final double ASCRAEUS_MONS_PHI = 1.363102D;
+    private static final double ASCRAEUS_MONS_THETA = 4.459316D;
+
+    // Data members.
+    /** The elevation samples in meters, row by row. Row 0 is the north pole. */
+    private ShortBuffer samples;
+
+    /**
+     * Constructor. Loads the elevation resource, or computes the raster from the
+     * topographical map if there is none.
+     */
+    public ElevationMapData() {
+        try {
+            samples = loadSamples();
+        }
+        catch (IOException e) {
+            logger.log(Level.WARNING, "Could not load " + ELEVATION_FILE + ". Computing it from the topographical map.", e);
+        }
+
+        if (samples == null) {
+            samples = ShortBuffer.wrap(computeSamples((IntegerMapData) MapDataUtil.instance().getTopoMapData()));
+        }
+    }
+
+    /**
+     * Loads the samples from the elevation resource.
+     *
+     * @return the samples or null if there is no resource.
+     * @throws IOException if the resource cannot be read.
+     */
+    private ShortBuffer loadSamples() throws IOException {
+        URL url = getClass().getClassLoader().getResource(ELEVATION_FILE);
+        if (url == null) {
+            return null;
+        }
+
+        ByteBuffer buffer;
+        if ("file".equals(url.getProtocol())) {
+            // Map the file, so that the raster is paged in lazily and stays off the heap.
+            try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        else {
+            // A resource inside a jar cannot be mapped.
+            buffer = ByteBuffer.allocateDirect(HEADER_SIZE + WIDTH * HEIGHT * 2);
+            try (InputStream in = url.openStream()) {
+                byte[] chunk = new byte[64 * 1024];
+                int n;
+                while (buffer.hasRemaining() && (n = in.read(chunk, 0, Math.min(chunk.length, buffer.remaining()))) > 0) {
+                    buffer.put(chunk, 0, n);
+                }
+            }
+            buffer.flip();
+        }
+
+        if (buffer.remaining() != HEADER_SIZE + WIDTH * HEIGHT * 2
+                || buffer.getInt(0) != WIDTH || buffer.getInt(4) != HEIGHT) {
+            throw new IOException(ELEVATION_FILE + " does not hold a " + WIDTH + " x " + HEIGHT + " raster.");
+        }
+
+        buffer.position(HEADER_SIZE);
+        return buffer.slice().asShortBuffer();
+    }
+
+    /**
+     * Computes the samples from the colors of the topographical map.
+     *
+     * @param topoMapData the topographical map data.
+     * @return the samples in meters.
+     */
+    static short[] computeSamples(IntegerMapData topoMapData) {
+        short[] result = new short[WIDTH * HEIGHT];
+        float[] hsb = new float[3];
+
+        for (int row = 0; row < HEIGHT; row++) {
+            double phi = row / ROWS_PER_RADIAN;
+            for (int column = 0; column < WIDTH; column++) {
+                // The map data is PI offset from theta.
+                double theta = column / COLUMNS_PER_RADIAN - Math.PI;
+                if (theta < 0D) theta += TWO_PI;
+
+                int rgb = topoMapData.getRGBColorInt(phi, theta);
+                Color.RGBtoHSB((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF, hsb);
+                double elevation = patchElevation(convertToElevation(hsb[0], hsb[1]), phi, theta);
+                result[row * WIDTH + column] = (short) Math.round(elevation);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts the hue and saturation of a topographical map color to an elevation.
+     *
+     * @param hue the hue.
+     * @param saturation the saturation.
+     * @return the elevation in meters.
+     */
+    private static double convertToElevation(float hue, float saturation) {
+        // TODO This code (calculate terrain elevation) needs updating.
+        if ((hue < .792F) && (hue > .033F))
+            return (-13801.99D * hue) + 2500D;
+        else
+            return (-21527.78D * saturation) + 19375D + 2500D;
+    }
+
+    /**
+     * Patches elevation errors around mountain tops.
+     *
+     * @param elevation the original elevation in meters.
+     * @param phi the phi location.
+     * @param theta the theta location.
+     * @return the patched elevation in meters.
+     */
+    private static double patchElevation(double elevation, double phi, double theta) {
+        double result = elevation;
+
+        // Patch errors at Olympus Mons caldera.
+        if (Math.abs(theta - OLYMPUS_MONS_CALDERA_THETA) < .04D) {
+            if (Math.abs(phi - OLYMPUS_MONS_CALDERA_PHI) < .04D) {
+                if (elevation < 3000D)
+                    result = 20000D;
+            }
+        }
+
+        // Patch errors at Ascraeus Mons.
+        if (Math.abs(theta - ASCRAEUS_MONS_THETA) < .02D) {
+            if (Math.abs(phi - ASCRAEUS_MONS_PHI) < .02D) {
+                if (elevation < 3000D)
+                    result = 20000D;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the elevation at a given location, interpolated between the four
+     * nearest samples.
+     *
+     * @param phi the phi location.
+     * @param theta the theta location.
+     * @return the elevation in km.
+     */
+    public double getElevation(double phi, double theta) {
+        // Make sure phi is between 0 and PI.
+        while (phi > Math.PI) phi -= Math.PI;
+        while (phi < 0) phi += Math.PI;
+
+        // Add PI to theta for offset and make sure it is between 0 and 2 PI.
+        theta += Math.PI;
+        while (theta >= TWO_PI) theta -= TWO_PI;
+        while (theta < 0) theta += TWO_PI;
+
+        double y = phi * ROWS_PER_RADIAN;
+        int row0 = (int) y;
+        if (row0 >= HEIGHT - 1) {
+            row0 = HEIGHT - 1;
+            y = row0;
+        }
+        int row1 = Math.min(row0 + 1, HEIGHT - 1);
+        double dy = y - row0;
+
+        double x = theta * COLUMNS_PER_RADIAN;
+        int column0 = (int) x;
+        if (column0 >= WIDTH) column0 = WIDTH - 1;
+        // The columns wrap around at theta = 2 PI.
+        int column1 = (column0 + 1) % WIDTH;
+        double dx = x - column0;
+
+        double top = sample(row0, column0) * (1D - dx) + sample(row0, column1) * dx;
+        double bottom = sample(row1, column0) * (1D - dx) + sample(row1, column1) * dx;
+
+        return (top * (1D - dy) + bottom * dy) / 1000D;
+    }
+
+    /**
+     * Gets a sample.
+     *
+     * @param row the row.
+     * @param column the column.
+     * @return the elevation in meters.
+     */
+    private int sample(int row, int column) {
+        return samples.get(row * WIDTH + column);
+    }
+
+    /**
+     * Writes the elevation resource computed from the topographical map.
+     *
+     * @param args the output file. Defaults to {@link #ELEVATION_FILE} in the
+     *             current directory.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        File file = new File(args.length > 0 ? args[0] : ELEVATION_FILE);
+        short[] samples = computeSamples(new TopoMapData());
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(WIDTH);
+            out.writeInt(HEIGHT);
+            for (short sample : samples) {
+                out.writeShort(sample);
+            }
+        }
+
+        logger.info("Wrote " + file + " (" + file.length() + " bytes).");
+    }
+}
@@ -15,14 +15,26 @@ import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-
-import java.util.ArrayList;
-import java.util.List;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * A map that uses integer data stored in files to represent colors.
+ * <br>
+ * The map file holds 3 bytes (red, green, blue) per pixel, row after row, and
+ * the index file holds the number of pixels of each row. Since the layout is
+ * fixed, the map file is memory mapped when it is a file, or read once into a
+ * direct buffer when it is inside a jar, and nothing is loaded before the first
+ * pixel is asked for. The pixels are decoded on demand by tiles, and the most
+ * recently used tiles are kept.
  */
 abstract class IntegerMapData implements MapData {
 
@@ -35,9 +47,33 @@ abstract class IntegerMapData implements MapData {
     public static final int MAP_WIDTH = 2880; // Source map width in pixels.
     public static final double PIXEL_RHO = (double) MAP_HEIGHT / Math.PI;
     private static final double TWO_PI = Math.PI * 2D;
+    /** The rows of a tile. */
+    private static final int TILE_ROWS = 32;
+    /** The tiles across a row. */
+    private static final int TILE_COLUMNS = 16;
+    /** The number of decoded tiles kept, about 5 MB. */
+    private static final int MAX_TILES = 160;
+    /** The color of the pixels if the map cannot be loaded. */
+    private static final int MISSING_COLOR = 0xFF000000;
      
     // Data members.
-    private List<int[]> mapColors = null;
+    private final String indexFileName;
+    private final String mapFileName;
+    /** The map buffer, loaded on first use. */
+    private volatile MapBuffer mapBuffer;
+    /** True if the map could not be loaded. */
+    private volatile boolean missing = false;
+    /** The decoded tiles, the least recently used first. */
+    private final Map<Integer, Tile> tiles = new LinkedHashMap<Integer, Tile>(MAX_TILES * 4 / 3, .75F, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Tile> eldest) {
+            return size() > MAX_TILES;
+        }
+    };
+    /** The last tile used, to skip the cache for neighboring pixels. */
+    private volatile Tile lastTile;
     
     /**
      * Constructor
@@ -45,15 +81,34 @@ abstract class IntegerMapData implements MapData {
      * @param mapFileName the map data file name.
      */
     public IntegerMapData(String indexFileName, String mapFileName) {
-        
-        // Load data files
-        try {
-            int[] index = loadIndexData(indexFileName);       
-            mapColors = loadMapData(mapFileName, index);
-        }
-        catch (IOException e) {
-            logger.log(Level.SEVERE,"Could not find .index or .dat files.", e) ;
+        this.indexFileName = indexFileName;
+        this.mapFileName = mapFileName;
+    }
+
+    /**
+     * Gets the map buffer, loading it on first use.
+     *
+     * @return the map buffer or null if it cannot be loaded.
+     */
+    private MapBuffer getMapBuffer() {
+        MapBuffer result = mapBuffer;
+        if (result == null && !missing) {
+            synchronized (this) {
+                result = mapBuffer;
+                if (result == null && !missing) {
+                    try {
+                        int[] index = loadIndexData(indexFileName);
+                        result = loadMapData(mapFileName, index);
+                        mapBuffer = result;
+                    }
+                    catch (IOException e) {
+                        logger.log(Level.SEVERE,"Could not find .index or .dat files.", e) ;
+                        missing = true;
+                    }
+                }
+            }
         }
+        return result;
     }
     
     /**
@@ -85,49 +140,80 @@ abstract class IntegerMapData implements MapData {
 
     
     /** 
-     * Loads the map data from a file.
+     * Loads the map data from a file, without decoding it.
      *
      * @param filename the map data file
      * @param index the index array
-     * @return array list of map data
+     * @return the map buffer
      * @throws IOException if map data cannot be loaded.
      */
-    private ArrayList<int[]> loadMapData(String filename, int[] index) throws IOException {
+    private MapBuffer loadMapData(String filename, int[] index) throws IOException {
      
         // Load map data from map_data jar file.
-        ClassLoader loader = getClass().getClassLoader();
-        InputStream mapStream = loader.getResourceAsStream(filename);
-        if (mapStream == null) throw new IOException("Can not load " + filename);
+        URL url = getClass().getClassLoader().getResource(filename);
+        if (url == null) throw new IOException("Can not load " + filename);
+
+        // The offset of each row in the file, in pixels.
+        int[] rowOffsets = new int[MAP_HEIGHT + 1];
+        for (int x = 0; x < MAP_HEIGHT; x++) {
+            rowOffsets[x + 1] = rowOffsets[x] + index[x];
+        }
+        int size = rowOffsets[MAP_HEIGHT] * 3;
               
-        // Decompress the xz file
-        //new DecompressXZ(filename);
-        
-        // Read stream into an array.
-        BufferedInputStream mapBuff = new BufferedInputStream(mapStream);
-        DataInputStream mapReader = new DataInputStream(mapBuff);
-        
-        // Create map colors array list.
-        ArrayList<int[]> mapColors = new ArrayList<int[]>(MAP_HEIGHT);
-        
-        // Create an array of colors for each pixel in map height.
-        for (int x=0; x < MAP_HEIGHT; x++) {
-            int[] colors = new int[index[x]];
-            for (int y=0; y < colors.length; y++) {
-                int red = mapReader.readByte();
-                red <<= 16;
-                red &= 0x00FF0000;
-                int green = mapReader.readByte();
-                green <<= 8;
-                green &= 0x0000FF00;
-                int blue = mapReader.readByte();
-                blue &= 0x000000FF;
-                int totalColor = 0xFF000000 | red | green | blue;
-                colors[y] = (new Color(totalColor)).getRGB();
+        ByteBuffer buffer;
+        if ("file".equals(url.getProtocol())) {
+            // Map the file, so that the map is paged in lazily and stays off the heap.
+            try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                if (channel.size() < size) throw new IOException(filename + " is shorter than its index.");
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        else {
+            // A resource inside a jar cannot be mapped.
+            buffer = ByteBuffer.allocateDirect(size);
+            try (InputStream in = url.openStream()) {
+                byte[] chunk = new byte[64 * 1024];
+                int n;
+                while (buffer.hasRemaining() && (n = in.read(chunk, 0, Math.min(chunk.length, buffer.remaining()))) > 0) {
+                    buffer.put(chunk, 0, n);
+                }
             }
-            mapColors.add(colors);
+            if (buffer.hasRemaining()) throw new IOException(filename + " is shorter than its index.");
+            buffer.flip();
         }
        
-        return mapColors;
+        return new MapBuffer(buffer, rowOffsets);
+    }
+
+    /**
+     * Gets the decoded tile holding a pixel.
+     *
+     * @param map the map buffer.
+     * @param row the row of the pixel.
+     * @param column the column of the pixel.
+     * @return the tile.
+     */
+    private Tile getTile(MapBuffer map, int row, int column) {
+        int tileRow = row / TILE_ROWS;
+        int tileColumn = (int) ((long) column * TILE_COLUMNS / map.getRowLength(row));
+        int key = tileRow * TILE_COLUMNS + tileColumn;
+
+        Tile result = lastTile;
+        if (result != null && result.key == key)
+            return result;
+
+        synchronized (tiles) {
+            result = tiles.get(key);
+            if (result == null) {
+                result = new Tile(map, key, tileRow * TILE_ROWS, tileColumn);
+                tiles.put(key, result);
+            }
+        }
+        lastTile = result;
+        return result;
     }
     
     @Override
@@ -225,7 +311,10 @@ abstract class IntegerMapData implements MapData {
      * @param theta the theta location.
      * @return the RGB map color as an integer.
      */
-    private int getRGBColorInt(double phi, double theta) {
+    int getRGBColorInt(double phi, double theta) {
+        MapBuffer map = getMapBuffer();
+        if (map == null) return MISSING_COLOR;
+
         // Make sure phi is between 0 and PI.
         while (phi > Math.PI) phi-= Math.PI;
         while (phi < 0) phi+= Math.PI;
@@ -238,13 +327,90 @@ abstract class IntegerMapData implements MapData {
         while (theta < 0) theta+= TWO_PI;
         
         int row = (int) Math.round(phi * (MAP_HEIGHT / Math.PI));
-        if (row == mapColors.size()) row--;
+        if (row == MAP_HEIGHT) row--;
         
-        int[] colorRow = mapColors.get(row);
-        int column = (int) Math.round(theta * ((double) colorRow.length / TWO_PI));
-        if (column == colorRow.length) column--;
+        int rowLength = map.getRowLength(row);
+        int column = (int) Math.round(theta * ((double) rowLength / TWO_PI));
+        if (column == rowLength) column--;
         
-        return colorRow[column];
+        return getTile(map, row, column).getColor(row, column);
+    }
+
+    /**
+     * The map file, mapped or read in memory.
+     */
+    private static class MapBuffer {
+
+        private final ByteBuffer buffer;
+        /** The offset of each row in pixels, and the total number of pixels. */
+        private final int[] rowOffsets;
+
+        MapBuffer(ByteBuffer buffer, int[] rowOffsets) {
+            this.buffer = buffer;
+            this.rowOffsets = rowOffsets;
+        }
+
+        int getRowLength(int row) {
+            return rowOffsets[row + 1] - rowOffsets[row];
+        }
+
+        /**
+         * Decodes a pixel.
+         *
+         * @param row the row.
+         * @param column the column.
+         * @return the ARGB color.
+         */
+        int decode(int row, int column) {
+            // Absolute reads, so that threads can share the buffer.
+            int offset = (rowOffsets[row] + column) * 3;
+            int red = (buffer.get(offset) << 16) & 0x00FF0000;
+            int green = (buffer.get(offset + 1) << 8) & 0x0000FF00;
+            int blue = buffer.get(offset + 2) & 0x000000FF;
+            return 0xFF000000 | red | green | blue;
+        }
+    }
+
+    /**
+     * The decoded pixels of {@link #TILE_ROWS} rows, over one part of
+     * {@link #TILE_COLUMNS} of each row. Rows do not have the same length, so the
+     * columns of a tile differ from one row to the next.
+     */
+    private static class Tile {
+
+        private final int key;
+        private final int firstRow;
+        /** The first column of each row. */
+        private final int[] firstColumns;
+        /** The colors of each row. */
+        private final int[][] colors;
+
+        Tile(MapBuffer map, int key, int firstRow, int tileColumn) {
+            this.key = key;
+            this.firstRow = firstRow;
+            int rows = Math.min(TILE_ROWS, MAP_HEIGHT - firstRow);
+            firstColumns = new int[rows];
+            colors = new int[rows][];
+
+            for (int r = 0; r < rows; r++) {
+                int row = firstRow + r;
+                int length = map.getRowLength(row);
+                // The columns whose tile is tileColumn, as computed in getTile()
+                int first = (int) (((long) tileColumn * length + TILE_COLUMNS - 1) / TILE_COLUMNS);
+                int end = (int) (((long) (tileColumn + 1) * length + TILE_COLUMNS - 1) / TILE_COLUMNS);
+                firstColumns[r] = first;
+                int[] rowColors = new int[Math.max(0, end - first)];
+                for (int c = 0; c < rowColors.length; c++) {
+                    rowColors[c] = map.decode(row, first + c);
+                }
+                colors[r] = rowColors;
+            }
+        }
+
+        int getColor(int row, int column) {
+            int r = row - firstRow;
+            return colors[r][column - firstColumns[r]];
+        }
     }
     
     /**
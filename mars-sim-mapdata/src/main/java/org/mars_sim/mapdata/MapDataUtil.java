@@ -15,6 +15,7 @@ public final class MapDataUtil {
     // Singleton instance.
     private static MapDataUtil instance;
     private static MapDataFactory mapDataFactory;
+    private static volatile ElevationMapData elevationMapData;
     
 
     /**
@@ -50,4 +51,22 @@ public final class MapDataUtil {
     public MapData getTopoMapData() {
         return mapDataFactory.getMapData(MapDataFactory.TOPO_MAP_DATA);
     }
+
+    /**
+     * Get the elevation map data.
+     * @return elevation map data.
+     */
+    public ElevationMapData getElevationMapData() {
+        ElevationMapData result = elevationMapData;
+        if (result == null) {
+            synchronized (MapDataUtil.class) {
+                result = elevationMapData;
+                if (result == null) {
+                    result = new ElevationMapData();
+                    elevationMapData = result;
+                }
+            }
+        }
+        return result;
+    }
 }
\ No newline at end of file
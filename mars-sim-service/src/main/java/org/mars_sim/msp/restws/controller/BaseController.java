@@ -3,6 +3,14 @@ package org.mars_sim.msp.restws.controller;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.mars_sim.msp.core.Unit;
+import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.restws.model.PagedList;
+import org.springframework.web.context.request.WebRequest;
 
 public class BaseController {
 
@@ -10,15 +18,89 @@ public class BaseController {
 		super();
 	}
 
-	protected <T> List<T> filter(List<T> source, int page, int pageSize) {
-		int start = 0;
-		int end = Integer.MAX_VALUE;
-		
-		if (page  > 0) {
-			start = (page - 1) * pageSize;
-			end = start + pageSize;
+	/**
+	 * Create a filter on the associated Settlement of a Unit.
+	 * @param settlementId The settlement identifier or null for any settlement
+	 * @param associated Gets the associated Settlement of a Unit
+	 * @return Filter
+	 */
+	protected <T extends Unit> Predicate<T> inSettlement(Integer settlementId, Function<T, Settlement> associated) {
+		if (settlementId == null) {
+			return u -> true;
+		}
+		return u -> {
+			Settlement s = associated.apply(u);
+			return (s != null) && (s.getIdentifier() == settlementId);
+		};
+	}
+
+	/**
+	 * Select a single page of the Units that pass a filter and have changed since a tick.
+	 * Only the Units on the page are mapped to DTOs. The page carries the current tick
+	 * that the client passes as the since parameter of the next poll.
+	 * If the client already holds the same page, as told by the If-None-Match header,
+	 * nothing is mapped and null is returned; the response is then a 304.
+	 * The Units are read from the live list of the manager, so nothing is copied
+	 * before the not-modified check.
+	 * @param manager
+	 * @param type The class of the requested Units
+	 * @param filter
+	 * @param since Only Units changed at or after this tick are returned
+	 * @param page Page number starting at 1; 0 for all
+	 * @param pageSize
+	 * @param mapper Maps the page of Units to DTOs
+	 * @param request
+	 * @return The page or null if not modified
+	 */
+	protected <T extends Unit, D> PagedList<D> unitPage(UnitManager manager, Class<T> type,
+								Predicate<? super T> filter, long since, int page, int pageSize,
+								Function<List<T>, List<D>> mapper, WebRequest request) {
+		// Read the tick first so a change during the scan is seen again on the next poll
+		long tick = manager.getTick();
+		long lastChange = 0;
+		int start = getStart(page, pageSize);
+		int end = getEnd(page, pageSize);
+		int total = 0;
+		int ids = 1;
+		List<T> selected = new ArrayList<>();
+		for (Unit u : manager.getUnits()) {
+			if (!type.isInstance(u)) {
+				continue;
+			}
+			T unit = type.cast(u);
+			long changed = unit.getLastChangeTick();
+			if ((changed >= since) && filter.test(unit)) {
+				if ((total >= start) && (total < end)) {
+					selected.add(unit);
+					lastChange = Math.max(lastChange, changed);
+					ids = 31 * ids + unit.getIdentifier();
+				}
+				total++;
+			}
+		}
+
+		// The page is the same if it holds the same Units and none of them changed
+		String etag = "\"" + lastChange + "-" + total + "-" + Integer.toHexString(ids) + "\"";
+		if (request.checkNotModified(etag)) {
+			return null;
 		}
-		end = (end < source.size() ? end : (source.size() - 1));	
+
+		PagedList<D> result = new PagedList<D>(mapper.apply(selected), page, pageSize, total);
+		result.setTick(tick);
+		return result;
+	}
+
+	/**
+	 * Select a single page from a source list.
+	 * @param source
+	 * @param page Page number starting at 1; 0 for all
+	 * @param pageSize
+	 * @return The Items on the page
+	 */
+	protected <T> List<T> filter(List<T> source, int page, int pageSize) {
+		int size = source.size();
+		int start = Math.min(getStart(page, pageSize), size);
+		int end = Math.min(getEnd(page, pageSize), size);
 		return source.subList(start, end);
 	}
 
@@ -26,4 +108,17 @@ public class BaseController {
 		return filter(new ArrayList<T>(source), page, pageSize);
 	}
 
-}
\ No newline at end of file
+	private static int getStart(int page, int pageSize) {
+		if (page > 0) {
+			return (int) Math.min((long) (page - 1) * pageSize, Integer.MAX_VALUE);
+		}
+		return 0;
+	}
+
+	private static int getEnd(int page, int pageSize) {
+		if (page > 0) {
+			return (int) Math.min((long) page * pageSize, Integer.MAX_VALUE);
+		}
+		return Integer.MAX_VALUE;
+	}
+}
@@ -1,8 +1,6 @@
 package org.mars_sim.msp.restws.controller;
 
 
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -23,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -50,16 +49,12 @@ public class PersonController extends BaseController {
 	 * @return
 	 */
 	private Person getPerson(int personId) {
-		// Need a better way to find people
-		Iterator<Person> it = personManager.getPeople().iterator();
-		while (it.hasNext()) {
-			Person person = it.next();
-			if (person.getIdentifier() == personId) {
-				return person;
-			}
+		Person person = personManager.getUnitByID(personId, Person.class);
+		if (person == null) {
+			log.error("Can not find " + personId);
+			throw new NotFoundException("Person", personId);
 		}
-		log.error("Can not find " + personId);
-		throw new NotFoundException("Person", personId);
+		return person;
 	}
 	
 	
@@ -73,11 +68,13 @@ public class PersonController extends BaseController {
 	@ApiOperation(value = "get All Persons", nickname = "getPersons")
     @RequestMapping(method=RequestMethod.GET, path="/persons", produces = "application/json")
     public PagedList<PersonSummary> persons(@RequestParam(value="page", defaultValue="1") int page,
-    								   @RequestParam(value="size", defaultValue="10") int pageSize) {
-    	Collection<Person> allPerson = personManager.getPeople();  	
-    	List<Person> filtered = filter(allPerson, page, pageSize);
-		return new PagedList<PersonSummary>(summaryMapper.personsToPersonSummarys(filtered),
-											page, pageSize, allPerson.size());
+    								   @RequestParam(value="size", defaultValue="10") int pageSize,
+    								   @RequestParam(value="settlement", required=false) Integer settlementId,
+    								   @RequestParam(value="since", defaultValue="0") long since,
+    								   WebRequest request) {
+		return unitPage(personManager, Person.class,
+						inSettlement(settlementId, Person::getAssociatedSettlement), since, page, pageSize,
+						summaryMapper::personsToPersonSummarys, request);
     }
 	
 	@ApiOperation(value = "get Person Resources", nickname = "getPersonResources")
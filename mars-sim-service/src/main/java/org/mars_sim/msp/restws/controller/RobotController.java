@@ -1,9 +1,5 @@
 package org.mars_sim.msp.restws.controller;
 
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.List;
-
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.mars_sim.msp.core.UnitManager;
@@ -19,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -42,16 +39,12 @@ public class RobotController extends BaseController {
 	 * @return
 	 */
 	private Robot getRobot(int robotId) {
-		// Need a better way to find unit
-		Iterator<Robot> it = robotManager.getRobots().iterator();
-		while (it.hasNext()) {
-			Robot unit = it.next();
-			if (unit.getIdentifier() == robotId) {
-				return unit;
-			}
+		Robot unit = robotManager.getUnitByID(robotId, Robot.class);
+		if (unit == null) {
+			log.error("Can not find " + robotId);
+			throw new NotFoundException("Robot", robotId);
 		}
-		log.error("Can not find " + robotId);
-		throw new NotFoundException("Robot", robotId);
+		return unit;
 	}
 	
 	@ApiOperation(value = "get Robot by Id", nickname = "getRobot")
@@ -64,12 +57,13 @@ public class RobotController extends BaseController {
 	@ApiOperation(value = "get All Robots", nickname = "getRobots")
     @RequestMapping(method=RequestMethod.GET, path="/robots", produces = "application/json")
     public PagedList<RobotSummary> robots(@RequestParam(value="page", defaultValue="1") int page,
-    								   @RequestParam(value="size", defaultValue="10") int pageSize) {
-    	Collection<Robot> allRobots = robotManager.getRobots();
-		List<Robot> filtered = filter(allRobots, page, pageSize);
-		
-		return new PagedList<RobotSummary>(summaryMapper.robotsToRobotSummarys(filtered),
-											page, pageSize, allRobots.size());
+    								   @RequestParam(value="size", defaultValue="10") int pageSize,
+    								   @RequestParam(value="settlement", required=false) Integer settlementId,
+    								   @RequestParam(value="since", defaultValue="0") long since,
+    								   WebRequest request) {
+		return unitPage(robotManager, Robot.class,
+						inSettlement(settlementId, Robot::getAssociatedSettlement), since, page, pageSize,
+						summaryMapper::robotsToRobotSummarys, request);
     }
 
 }
@@ -2,8 +2,6 @@ package org.mars_sim.msp.restws.controller;
 
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -37,6 +35,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -78,32 +77,27 @@ public class SettlementController extends BaseController {
 	private RobotSummaryMapper robotMapper;
 	
 	/**
-	 * Need a better way to find settlements
+	 * Find a Settlement entity by the unique identifier
 	 * @param settlementId
 	 * @return Found Settlement
 	 */
 	private Settlement findSettlement(int settlementId) {
-		// Need a better way to find people
-		Iterator<Settlement> it = manager.getSettlements().iterator();
-		while (it.hasNext()) {
-			Settlement item = it.next();
-			if (item.getIdentifier() == settlementId) {
-				return item;
-			}
+		Settlement item = manager.getUnitByID(settlementId, Settlement.class);
+		if (item == null) {
+			log.error("Settlement not found: id=" + settlementId);
+			throw new NotFoundException("Settlement", settlementId);
 		}
-		log.error("Settlement not found: id=" + settlementId);
-		throw new NotFoundException("Settlement", settlementId);
+		return item;
 	}
 
 	@ApiOperation(value = "get All Settlement", nickname = "getSettlements")
     @RequestMapping(method=RequestMethod.GET, path="/settlements", produces = "application/json")
     public PagedList<SettlementSummary> getSettlements(@RequestParam(value="page", defaultValue="1") int page,
-    								   @RequestParam(value="size", defaultValue="10") int pageSize) {
-    	Collection<Settlement> allSettlements = manager.getSettlements();
-    	List<Settlement> filtered = filter(allSettlements, page, pageSize);
-    	
-		return new PagedList<SettlementSummary>(mapper.settlementsToSettlementSummarys(filtered),
-				 								page, pageSize, allSettlements.size());
+    								   @RequestParam(value="size", defaultValue="10") int pageSize,
+    								   @RequestParam(value="since", defaultValue="0") long since,
+    								   WebRequest request) {
+		return unitPage(manager, Settlement.class, s -> true, since, page, pageSize,
+						mapper::settlementsToSettlementSummarys, request);
     }
 
 	@ApiOperation(value = "get Settlement by Id", nickname = "getSettlement")
@@ -1,18 +1,17 @@
 package org.mars_sim.msp.restws.controller;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.mars_sim.msp.core.Simulation;
-import org.mars_sim.msp.core.Unit;
-import org.mars_sim.msp.core.events.HistoricalEvent;
+import org.mars_sim.msp.core.events.HistoricalEventCategory;
 import org.mars_sim.msp.core.events.HistoricalEventManager;
-import org.mars_sim.msp.core.person.Person;
-import org.mars_sim.msp.core.person.ai.mission.Mission;
-import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.events.SimpleEvent;
+import org.mars_sim.msp.core.person.EventType;
 import org.mars_sim.msp.core.time.MasterClock;
-import org.mars_sim.msp.core.vehicle.Vehicle;
-import org.mars_sim.msp.restws.model.EntityReference;
+import org.mars_sim.msp.core.tool.TickProfiler;
 import org.mars_sim.msp.restws.model.EventDTO;
 import org.mars_sim.msp.restws.model.PagedList;
 import org.mars_sim.msp.restws.model.SimulationDetails;
@@ -55,54 +54,87 @@ public class SimulationController {
 	}
 
 	/**
-	 * This creates a list of historical events.
+	 * This creates a list of historical events, the most recent first.
 	 * @param first Index of first event
 	 * @param limit Maximum of events to return
 	 * @param typeFilter Optional filter on the types of events
+	 * @param categoryFilter Optional filter on the category of events
+	 * @param fromSol Optional first mission sol of the events
+	 * @param toSol Optional last mission sol of the events
 	 * @return
 	 */
 	@ApiOperation(value = "get latest events", nickname = "getEvents")
     @RequestMapping(method=RequestMethod.GET, path="/simulation/events", produces = "application/json")
     public PagedList<EventDTO> getEvents(@RequestParam(value="page", defaultValue="1") int page,
     								     @RequestParam(value="pageSize", defaultValue="10") int pageSize,
-    								     @RequestParam(value="type", defaultValue="*") String typeFilter) {
+    								     @RequestParam(value="type", defaultValue="*") String typeFilter,
+    								     @RequestParam(value="category", defaultValue="*") String categoryFilter,
+    								     @RequestParam(value="fromSol", defaultValue="0") int fromSol,
+    								     @RequestParam(value="toSol", defaultValue="2147483647") int toSol) {
 		HistoricalEventManager manager = simulation.getEventManager();
+
+		Set<HistoricalEventCategory> categories = EnumSet.noneOf(HistoricalEventCategory.class);
+		for (HistoricalEventCategory category : HistoricalEventCategory.values()) {
+			if (categoryFilter.equals("*") || category.name().equalsIgnoreCase(categoryFilter))
+				categories.add(category);
+		}
+
+		EventType type = null;
+		if (!typeFilter.equals("*")) {
+			for (EventType t : EventType.values()) {
+				if (t.name().equalsIgnoreCase(typeFilter))
+					type = t;
+			}
+			if (type == null)
+				return new PagedList<EventDTO>(new ArrayList<EventDTO>(), page, 0, 0);
+		}
+
+		// The event log skips the segments out of the sols and categories, and
+		// stops once the page is full
+		int first = Math.max(page - 1, 0) * pageSize;
+		List<SimpleEvent> matches = manager.getEvents(fromSol, toSol, categories, type, first, pageSize);
+		int total = manager.getEventCount(fromSol, toSol, categories, type);
+
 		List<EventDTO> events = new ArrayList<EventDTO>();
+		int idx = first;
+		for (SimpleEvent event : matches) {
+			EventType eventType = EventType.int2enum(event.getType());
+			HistoricalEventCategory category = HistoricalEventCategory.int2enum(event.getCat());
+			events.add(new EventDTO(idx++, (eventType != null ? eventType.getName() : null), manager.getWhat(event.getWhat()),
+					   event.getFullDateTimeString(), null, (category != null ? category.getName() : null)));
+		}
 		
-		// Have to built the DTO list manually to handle the source property in the Historical Event
-//		for (int idx = (page-1) * pageSize; (idx < manager.size()) && (events.size() < pageSize); idx++) {
-//			HistoricalEvent event = manager.getEvent(idx);
-//			Object source = event.getSource();
-//			EntityReference entityRef = null;
-//			String entityType = null;
-//
-//			// A bit messy this code
-//			if (source instanceof Vehicle) {
-//				Unit unit = (Unit) source;
-//				entityRef = new EntityReference(unit.getIdentifier(), unit.getName());
-//				entityType = "vehicle";
-//			}
-//			else if (source instanceof Person) {
-//				Unit unit = (Unit) source;
-//				entityRef = new EntityReference(unit.getIdentifier(), unit.getName());
-//				entityType = "person";
-//			}
-//			else if (source instanceof Settlement) {
-//				Unit unit = (Unit) source;
-//				entityRef = new EntityReference(unit.getIdentifier(), unit.getName());
-//				entityType = "settlement";
-//			}
-//			else if (source instanceof Mission) {
-//				Mission unit = (Mission) source;
-//				entityRef = new EntityReference(unit.getIdentifier(), unit.getName());
-//				entityType = "mission";
-//			}
-//			
-//			events.add(new EventDTO(idx, event.getType().getName(), event.getDescription(), event.getTimestamp().getDateTimeStamp(),
-//					   entityRef, entityType));
-//		}
-		
-		return new PagedList<EventDTO>(events, page, events.size(), manager.getEvents().size());
+		return new PagedList<EventDTO>(events, page, events.size(), total);
+	}
+
+	/**
+	 * This lists the time spent per manager, unit, task and meta task.
+	 * @param categoryFilter Optional filter on the category
+	 * @return
+	 */
+	@ApiOperation(value = "get tick profile", nickname = "getProfile")
+	@RequestMapping(method=RequestMethod.GET, path="/simulation/profile", produces = "application/json")
+	public List<TickProfiler.Entry> getProfile(@RequestParam(value="category", defaultValue="*") String categoryFilter) {
+		List<TickProfiler.Entry> entries = new ArrayList<TickProfiler.Entry>();
+		for (TickProfiler.Entry entry : TickProfiler.getEntries()) {
+			if (categoryFilter.equals("*") || entry.getCategory().name().equalsIgnoreCase(categoryFilter))
+				entries.add(entry);
+		}
+		return entries;
+	}
+
+	@ApiOperation(value = "Start/Stop the tick profile", nickname = "enableProfile")
+	@RequestMapping(method=RequestMethod.PUT, path="/simulation/profile", produces = "application/json")
+	public List<TickProfiler.Entry> enableProfile(@RequestParam(value="enabled", defaultValue="true") boolean enabled) {
+		TickProfiler.setEnabled(enabled);
+		return getProfile("*");
+	}
+
+	@ApiOperation(value = "Reset the tick profile", nickname = "resetProfile")
+	@RequestMapping(method=RequestMethod.DELETE, path="/simulation/profile", produces = "application/json")
+	public List<TickProfiler.Entry> resetProfile() {
+		TickProfiler.reset();
+		return getProfile("*");
 	}
 	
 }
@@ -2,8 +2,6 @@ package org.mars_sim.msp.restws.controller;
 
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -27,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -56,17 +55,12 @@ public class VehicleController extends BaseController {
 	 * @return
 	 */
 	private Vehicle getVehicle(int vehicleId) {
-		// Need a better way to find people
-		Iterator<Vehicle> it = vehicleManager.getVehicles().iterator();
-		while (it.hasNext()) {
-			Vehicle v = it.next();
-			if (v.getIdentifier() == vehicleId) {
-				return v;
-			}
+		Vehicle v = vehicleManager.getUnitByID(vehicleId, Vehicle.class);
+		if (v == null) {
+			log.error("There is no Vehicle with id=" + vehicleId);
+			throw new NotFoundException("Vehicle", vehicleId);
 		}
-		log.error("There is no Vehicle with id=" + vehicleId);
-		
-		throw new NotFoundException("Vehicle", vehicleId);
+		return v;
 	}
 	
 	
@@ -80,12 +74,13 @@ public class VehicleController extends BaseController {
 	@ApiOperation(value = "get All Vehicles", nickname = "getVehicles")
     @RequestMapping(method=RequestMethod.GET, path="/vehicles", produces = "application/json")
     public PagedList<VehicleSummary> getVehicles(@RequestParam(value="page", defaultValue="1") int page,
-    								   @RequestParam(value="size", defaultValue="10") int pageSize) {
-		Collection<Vehicle> allVehicles = vehicleManager.getVehicles();
-    	List<Vehicle> filtered = filter(allVehicles, page, pageSize); 
-		
-		return new PagedList<VehicleSummary>(summaryMapper.vehiclesToVehicleSummarys(filtered),
-											page, pageSize, allVehicles.size());
+    								   @RequestParam(value="size", defaultValue="10") int pageSize,
+    								   @RequestParam(value="settlement", required=false) Integer settlementId,
+    								   @RequestParam(value="since", defaultValue="0") long since,
+    								   WebRequest request) {
+		return unitPage(vehicleManager, Vehicle.class,
+						inSettlement(settlementId, Vehicle::getAssociatedSettlement), since, page, pageSize,
+						summaryMapper::vehiclesToVehicleSummarys, request);
     }
 	
 	@ApiOperation(value = "get Vehicle Resources", nickname = "getVehicleResources")
@@ -12,6 +12,7 @@ public class PagedList<T> {
 	private int pageNumber;
 	private int pageSize;
 	private List<T> items;
+	private long tick;
 	
 	public PagedList(List<T> items, int pageNumber, int pageSize, int totalSize) {
 		super();
@@ -36,6 +37,19 @@ public class PagedList<T> {
 	public List<T> getItems() {
 		return items;
 	}
+
+	/**
+	 * The simulation tick when the page was taken. Pass it as the since parameter
+	 * of the next request to only get the items changed in between.
+	 * @return
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	public void setTick(long tick) {
+		this.tick = tick;
+	}
 	
 	
 }
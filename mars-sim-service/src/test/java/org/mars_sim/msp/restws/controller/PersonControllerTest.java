@@ -2,17 +2,21 @@ package org.mars_sim.msp.restws.controller;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * Test class for the Person Controller.
@@ -36,4 +40,28 @@ public class PersonControllerTest {
         mockMvc.perform(get("/persons/"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    public void personListChangedSince() throws Exception {
+        MvcResult all = mockMvc.perform(get("/persons").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = all.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // The same page again is not modified
+        mockMvc.perform(get("/persons").param("size", "1000").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Nothing has changed after a tick in the future
+        mockMvc.perform(get("/persons").param("size", "1000").param("since", String.valueOf(Long.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalSize").value(0))
+                .andExpect(jsonPath("$.items").isEmpty());
+
+        // Every person has changed since the start
+        mockMvc.perform(get("/persons").param("size", "1000").param("since", "0"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
 }
@@ -35,7 +35,8 @@ public class TableViewCombo {
 	/** default logger. */
 	private static Logger logger = Logger.getLogger(TableViewCombo.class.getName());
 	
-    private static String sourceName = logger.getName();
+	/** The rate-limited messages of the capacity exceeded. */
+	private static final LogConsolidated.Site capacityLog = LogConsolidated.site(logger, 1000);
     
     public static final int NUM_COLUMNS = 7;
     
@@ -246,10 +247,12 @@ public class TableViewCombo {
 	    		for (int j = 0; j < 6; j++) {
 
 					if (template.equalsIgnoreCase(templates.get(j).getTemplateName())) {
-						if (botNum > bots[j])
-							LogConsolidated.log(logger, Level.WARNING, 1000, sourceName, 
-									"In " + name + ", you specify " + botNum + " bots–– more than the standard capacity of "
-											+ bots[j] + " for " + template, null);
+						if (botNum > bots[j]) {
+							int capacity = bots[j];
+							capacityLog.log(Level.WARNING, 
+									() -> "In " + name + ", you specify " + botNum + " bots–– more than the standard capacity of "
+											+ capacity + " for " + template);
+						}
 						break;
 					}
 	    		}
@@ -270,10 +273,12 @@ public class TableViewCombo {
 	    		for (int j = 0; j < 6; j++) {
 
 					if (template.equalsIgnoreCase(templates.get(j).getTemplateName())) {
-						if (popNum > populations[j])
-							LogConsolidated.log(logger, Level.WARNING, 1000, sourceName, 
-									"In " + name + ", you specify " + popNum 
-									+ " settlers–– more than the standard capacity of " + populations[j] + " for " + template, null);
+						if (popNum > populations[j]) {
+							int capacity = populations[j];
+							capacityLog.log(Level.WARNING, 
+									() -> "In " + name + ", you specify " + popNum 
+									+ " settlers–– more than the standard capacity of " + capacity + " for " + template);
+						}
 						break;
 					}
 	    		}
@@ -1201,7 +1201,7 @@ public class ConstructionWizard {
         Settlement s = site.getSettlement();
 
         // Try to put building next to another inhabitable building.
-        List<Building> inhabitableBuildings = s.getBuildingManager().getBuildings();//FunctionType.LIFE_SUPPORT);
+        List<Building> inhabitableBuildings = s.getBuildingManager().getACopyOfBuildings();//FunctionType.LIFE_SUPPORT);
         Collections.shuffle(inhabitableBuildings);
         for (Building b : inhabitableBuildings) {
         	// Match the floor area (e.g look more organize to put all 7m x 9m next to one another)
@@ -1244,7 +1244,7 @@ public class ConstructionWizard {
             	else {
                 	logger.info("trying to match floor area.");
 	                // Try to put building next to another inhabitable building.
-	                List<Building> inhabitableBuildings = s.getBuildingManager().getBuildings(FunctionType.LIFE_SUPPORT);
+	                List<Building> inhabitableBuildings = new ArrayList<Building>(s.getBuildingManager().getBuildings(FunctionType.LIFE_SUPPORT));
 	                Collections.shuffle(inhabitableBuildings);
 	                for (Building b : inhabitableBuildings) {
 	                	// Match the floor area (e.g look more organize to put all 7m x 9m next to one another)
@@ -1269,7 +1269,7 @@ public class ConstructionWizard {
         else {
         	logger.info("buildingType : " + buildingType);
             // Try to put building next to another inhabitable building.
-            List<Building> inhabitableBuildings = s.getBuildingManager().getBuildings();//FunctionType.LIFE_SUPPORT);
+            List<Building> inhabitableBuildings = s.getBuildingManager().getACopyOfBuildings();//FunctionType.LIFE_SUPPORT);
             Collections.shuffle(inhabitableBuildings);
             for (Building b : inhabitableBuildings) {
             	// Match the floor area (e.g look more organize to put all 7m x 9m next to one another)
@@ -1355,7 +1355,7 @@ public class ConstructionWizard {
         boolean result = false;
 
         BuildingManager manager = site.getSettlement().getBuildingManager();
-        List<Building> inhabitableBuildings = manager.getBuildings(FunctionType.LIFE_SUPPORT);
+        List<Building> inhabitableBuildings = new ArrayList<Building>(manager.getBuildings(FunctionType.LIFE_SUPPORT));
         Collections.shuffle(inhabitableBuildings);
 
         BuildingConfig buildingConfig = SimulationConfig.instance().getBuildingConfiguration();
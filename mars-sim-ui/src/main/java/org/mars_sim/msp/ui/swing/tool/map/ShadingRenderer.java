@@ -0,0 +1,315 @@
+/**
+ * Mars Simulation Project
+ * ShadingRenderer.java
+ * @version 3.1.0 2019-02-18
+ * @author Manny Kung
+ */
+
+package org.mars_sim.msp.ui.swing.tool.map;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.stream.IntStream;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.mars.OrbitInfo;
+import org.mars_sim.msp.core.mars.SurfaceFeatures;
+
+/**
+ * The ShadingRenderer computes the twilight and night time shading of the map
+ * into an image. The sunlight is sampled every second pixel on a grid of
+ * latitudes and longitudes, which is computed once for each map center. The
+ * grid is split in tiles that are shaded in parallel. A tile is kept from one
+ * frame to the next while the sun has moved less than a threshold, or for a
+ * tile all in daylight or all in the night, less than the distance from the
+ * tile to the twilight border.
+ */
+class ShadingRenderer {
+
+	/** The pixels per sample in each direction. */
+	private static final int STEP = 2;
+	/** The samples per tile in each direction. */
+	private static final int TILE_SIZE = 16;
+	/**
+	 * The sun movement (radians) after which a tile in the twilight is shaded
+	 * again. The sunlight goes from 1 to 0 across 0.2 radians in 127 shades, so
+	 * this is about one shade.
+	 */
+	private static final double THRESHOLD = .0016D;
+	/** The hour angle of a millisol (radians), as in OrbitInfo. */
+	private static final double HOUR_ANGLE_PER_MILLISOL = .0063D;
+
+	/** The state of a tile. */
+	private static final int MIXED = 0;
+	private static final int DAY = 1;
+	private static final int NIGHT = 2;
+
+	private final int width;
+	private final int height;
+	private final int columns;
+	private final int rows;
+
+	/** The shading image and its pixels. */
+	private final BufferedImage image;
+	private final int[] raster;
+
+	/** The terms of the samples that depend on the location. */
+	private final double[] sinLat;
+	private final double[] cosLat;
+	private final double[] longitude;
+
+	/** The map center and projection of the grid. */
+	private double gridPhi = Double.NaN;
+	private double gridTheta = Double.NaN;
+	private double gridRho = Double.NaN;
+	private int gridCenterX;
+	private int gridCenterY;
+
+	private final Tile[] tiles;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param width  the width of the map (pixels).
+	 * @param height the height of the map (pixels).
+	 */
+	ShadingRenderer(int width, int height) {
+		this.width = width;
+		this.height = height;
+		columns = (width + STEP - 1) / STEP;
+		rows = (height + STEP - 1) / STEP;
+
+		image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		raster = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+
+		sinLat = new double[columns * rows];
+		cosLat = new double[columns * rows];
+		longitude = new double[columns * rows];
+
+		int tileColumns = (columns + TILE_SIZE - 1) / TILE_SIZE;
+		int tileRows = (rows + TILE_SIZE - 1) / TILE_SIZE;
+		tiles = new Tile[tileColumns * tileRows];
+		for (int ty = 0; ty < tileRows; ty++) {
+			for (int tx = 0; tx < tileColumns; tx++) {
+				int x0 = tx * TILE_SIZE;
+				int y0 = ty * TILE_SIZE;
+				tiles[tx + ty * tileColumns] = new Tile(x0, y0, Math.min(x0 + TILE_SIZE, columns),
+						Math.min(y0 + TILE_SIZE, rows));
+			}
+		}
+	}
+
+	/**
+	 * Shades the map for the current position of the sun.
+	 *
+	 * @param mapCenter the location of the center of the map.
+	 * @param centerX   the x position of the center (pixels).
+	 * @param centerY   the y position of the center (pixels).
+	 * @param rho       the rho value of the map (pixels).
+	 * @param orbitInfo the orbit of Mars.
+	 */
+	void render(Coordinates mapCenter, int centerX, int centerY, double rho, OrbitInfo orbitInfo) {
+		if (mapCenter.getPhi() != gridPhi || mapCenter.getTheta() != gridTheta || rho != gridRho
+				|| centerX != gridCenterX || centerY != gridCenterY) {
+			computeGrid(mapCenter, centerX, centerY, rho);
+		}
+
+		orbitInfo.computeSineSolarDeclinationAngle();
+		double sinDec = orbitInfo.getSineSolarDeclinationAngle();
+		double declination = Math.asin(sinDec);
+		Sun sun = new Sun(orbitInfo.getSolarTime(), sinDec, Math.cos(declination), declination);
+
+		IntStream.range(0, tiles.length).parallel().forEach(i -> {
+			Tile tile = tiles[i];
+			if (!tile.isCurrent(sun))
+				shade(tile, sun);
+		});
+	}
+
+	/**
+	 * Checks if the whole map is in the night.
+	 *
+	 * @return true if night.
+	 */
+	boolean isNight() {
+		for (Tile tile : tiles) {
+			if (tile.state != NIGHT)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the whole map is in daylight.
+	 *
+	 * @return true if day.
+	 */
+	boolean isDay() {
+		for (Tile tile : tiles) {
+			if (tile.state != DAY)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the shading image. Only valid until the next rendering.
+	 *
+	 * @return image.
+	 */
+	BufferedImage getImage() {
+		return image;
+	}
+
+	/**
+	 * Computes the latitude and longitude of each sample for a map center, and
+	 * discards the tiles.
+	 */
+	private void computeGrid(Coordinates mapCenter, int centerX, int centerY, double rho) {
+		IntStream.range(0, rows).parallel().forEach(row -> {
+			Coordinates location = new Coordinates(0D, 0D);
+			int y = row * STEP;
+			for (int column = 0; column < columns; column++) {
+				int x = column * STEP;
+				mapCenter.convertRectToSpherical(x - centerX, y - centerY, rho, location);
+				double lat = location.getPhi2LatRadian();
+				int i = column + row * columns;
+				sinLat[i] = Math.sin(lat);
+				cosLat[i] = Math.cos(lat);
+				longitude[i] = location.getTheta();
+			}
+		});
+
+		gridPhi = mapCenter.getPhi();
+		gridTheta = mapCenter.getTheta();
+		gridRho = rho;
+		gridCenterX = centerX;
+		gridCenterY = centerY;
+
+		for (Tile tile : tiles) {
+			tile.sun = null;
+		}
+	}
+
+	/**
+	 * Shades the pixels of a tile.
+	 *
+	 * @param tile the tile.
+	 * @param sun  the position of the sun.
+	 */
+	private void shade(Tile tile, Sun sun) {
+		double minCos = Double.POSITIVE_INFINITY;
+		double maxCos = Double.NEGATIVE_INFINITY;
+		boolean day = true;
+		boolean night = true;
+
+		for (int row = tile.y0; row < tile.y1; row++) {
+			int y = row * STEP;
+			for (int column = tile.x0; column < tile.x1; column++) {
+				int i = column + row * columns;
+				// Same as OrbitInfo.getCosineSolarZenithAngle(lat, theta, ...) with the
+				// sine and cosine of the latitude known
+				double h = HOUR_ANGLE_PER_MILLISOL * Math.abs(longitude[i] * 159.1519 + sun.time - 500D);
+				double cosZenith = sinLat[i] * sun.sinDec + cosLat[i] * sun.cosDec * Math.cos(h);
+				double sunlight = SurfaceFeatures.getSurfaceSunlight(cosZenith);
+
+				if (sunlight > 1D)
+					sunlight = 1D;
+				if (sunlight > 0D)
+					night = false;
+				if (!(sunlight >= 1D))
+					day = false;
+				minCos = Math.min(minCos, cosZenith);
+				maxCos = Math.max(maxCos, cosZenith);
+
+				int sunlightInt = (int) (127 * sunlight);
+				int shadeColor = ((127 - sunlightInt) << 24) & 0xFF000000;
+
+				int x = column * STEP;
+				for (int dy = 0; dy < STEP && y + dy < height; dy++) {
+					int offset = (y + dy) * width;
+					for (int dx = 0; dx < STEP && x + dx < width; dx++) {
+						raster[offset + x + dx] = shadeColor;
+					}
+				}
+			}
+		}
+
+		if (day) {
+			tile.state = DAY;
+			tile.margin = SurfaceFeatures.DAYLIGHT_ZENITH - Math.acos(minCos);
+		} else if (night) {
+			tile.state = NIGHT;
+			tile.margin = Math.acos(maxCos) - SurfaceFeatures.NIGHT_ZENITH;
+		} else {
+			tile.state = MIXED;
+			tile.margin = THRESHOLD;
+		}
+		tile.sun = sun;
+	}
+
+	/**
+	 * The position of the sun for a frame.
+	 */
+	private static class Sun {
+
+		private final double time;
+		private final double sinDec;
+		private final double cosDec;
+		private final double declination;
+
+		Sun(double time, double sinDec, double cosDec, double declination) {
+			this.time = time;
+			this.sinDec = sinDec;
+			this.cosDec = cosDec;
+			this.declination = declination;
+		}
+
+		/**
+		 * Gets a bound of the angle the sun has moved from another position, as seen
+		 * from any location.
+		 *
+		 * @param other the other position.
+		 * @return radians.
+		 */
+		double getMovement(Sun other) {
+			return Math.abs(declination - other.declination)
+					+ HOUR_ANGLE_PER_MILLISOL * Math.abs(time - other.time);
+		}
+	}
+
+	/**
+	 * A part of the grid shaded at once.
+	 */
+	private static class Tile {
+
+		/** The samples of the tile, from x0 and y0 included to x1 and y1 excluded. */
+		private final int x0;
+		private final int y0;
+		private final int x1;
+		private final int y1;
+
+		/** The position of the sun when shaded or null if never shaded. */
+		private Sun sun;
+		private int state = MIXED;
+		/** The sun movement (radians) after which the tile has to be shaded again. */
+		private double margin;
+
+		Tile(int x0, int y0, int x1, int y1) {
+			this.x0 = x0;
+			this.y0 = y0;
+			this.x1 = x1;
+			this.y1 = y1;
+		}
+
+		/**
+		 * Checks if the tile is still valid for a position of the sun.
+		 *
+		 * @param current the position of the sun.
+		 * @return true if valid.
+		 */
+		boolean isCurrent(Sun current) {
+			return sun != null && current.getMovement(sun) < margin;
+		}
+	}
+}
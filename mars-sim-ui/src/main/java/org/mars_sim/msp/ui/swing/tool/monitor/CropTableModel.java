@@ -222,7 +222,7 @@ public class CropTableModel extends UnitTableModel {
 		Iterator<Settlement> i = settlements.iterator();
 		while (i.hasNext()) {
 			Settlement s = i.next();
-			List<Building> ghs = s.getBuildingManager().getBuildings(FunctionType.FARMING);
+			List<Building> ghs = new ArrayList<Building>(s.getBuildingManager().getBuildings(FunctionType.FARMING));
 			Collections.sort(ghs);
 			Iterator<Building> j = ghs.iterator();
 			while (j.hasNext()) {
@@ -7,9 +7,11 @@
 package org.mars_sim.msp.ui.swing.tool.monitor;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
@@ -150,64 +152,107 @@ public class EventTableModel extends AbstractTableModel
 
 	}
 
+	/**
+	 * Rebuilds the cached events from the events of the displayed categories.
+	 */
 	private synchronized void updateCachedEvents() {
-		// Clean out existing cached events for the Event Table.
-//		cachedEvents = new ArrayList<HistoricalEvent>();
-		cachedEvents = new ArrayList<SimpleEvent>();
+		Set<HistoricalEventCategory> categories = EnumSet.noneOf(HistoricalEventCategory.class);
+		if (displayHazard)
+			categories.add(HistoricalEventCategory.HAZARD);
+		if (displayMalfunction)
+			categories.add(HistoricalEventCategory.MALFUNCTION);
+		if (displayMedical)
+			categories.add(HistoricalEventCategory.MEDICAL);
+		if (displayMission)
+			categories.add(HistoricalEventCategory.MISSION);
+		if (displayTransport)
+			categories.add(HistoricalEventCategory.TRANSPORT);
+
+		// The manager gives the most recent event first but the cache has it last so
+		// that a new event is appended.
+		List<SimpleEvent> events = manager.getEvents(Integer.MIN_VALUE, Integer.MAX_VALUE, categories);
+		final List<SimpleEvent> result = new ArrayList<>(events.size());
+		for (int x = events.size() - 1; x >= 0; x--) {
+			SimpleEvent event = events.get(x);
+			if (isDisplayed(event))
+				result.add(event);
+		}
 
-		int size = manager.getEvents().size();
-		
-		// TODO: find a way to optimize this so that it doesn't have to redo the sort everytime a new event is added.
-		
-		// Filter events based on category.
-		for (int x = 0; x < size; x++) {
-//			HistoricalEvent event = manager.getEvent(x);
-			SimpleEvent event = manager.getEvent(x);
-			HistoricalEventCategory category = HistoricalEventCategory.int2enum((int) (event.getCat()));
-			EventType eventType = EventType.int2enum((event.getType()));
-			if (category.equals(HistoricalEventCategory.HAZARD) && displayHazard) {
-				cachedEvents.add(event);
+		// The cache is only changed on the event dispatch thread, which reads it.
+		SwingUtilities.invokeLater(new Runnable() {
+			public void run() {
+				cachedEvents = result;
+				fireTableDataChanged();
 			}
+		});
+
+	}
+
+	/**
+	 * Adds a new event to the cached events if it is displayed.
+	 * 
+	 * @param event the new event.
+	 */
+	private synchronized void addCachedEvent(final SimpleEvent event) {
+		if (event == null || !isDisplayed(event))
+			return;
 
-			else if (category.equals(HistoricalEventCategory.MALFUNCTION) && displayMalfunction) {
-				cachedEvents.add(event);
+		// The cache is only changed on the event dispatch thread, which reads it.
+		// The most recent event is the first row.
+		SwingUtilities.invokeLater(new Runnable() {
+			public void run() {
+				if (cachedEvents != null) {
+					cachedEvents.add(event);
+					fireTableRowsInserted(0, 0);
+				}
 			}
+		});
+	}
 
-			else if (category.equals(HistoricalEventCategory.MEDICAL) && displayMedical
+	/**
+	 * Checks if an event is displayed with the current filters.
+	 * 
+	 * @param event the event.
+	 * @return true if displayed.
+	 */
+	private boolean isDisplayed(SimpleEvent event) {
+		HistoricalEventCategory category = HistoricalEventCategory.int2enum((int) (event.getCat()));
+		EventType eventType = EventType.int2enum((event.getType()));
+		if (category.equals(HistoricalEventCategory.HAZARD)) {
+			return displayHazard;
+		}
+
+		else if (category.equals(HistoricalEventCategory.MALFUNCTION)) {
+			return displayMalfunction;
+		}
+
+		else if (category.equals(HistoricalEventCategory.MEDICAL)) {
+			return displayMedical
 					&& (eventType == EventType.MEDICAL_STARTS 
 							//|| eventType == EventType.MEDICAL_CURED
 							|| eventType == EventType.MEDICAL_TREATED 
-							|| eventType == EventType.MEDICAL_DEATH)) {
-				cachedEvents.add(event);
-			}
+							|| eventType == EventType.MEDICAL_DEATH);
+		}
 
-			else if (category.equals(HistoricalEventCategory.MISSION) && displayMission
+		else if (category.equals(HistoricalEventCategory.MISSION)) {
+			return displayMission
 					&& (eventType == EventType.MISSION_EMERGENCY_BEACON_ON
 							|| eventType == EventType.MISSION_EMERGENCY_DESTINATION
 							|| eventType == EventType.MISSION_NOT_ENOUGH_RESOURCES
 							|| eventType == EventType.MISSION_MEDICAL_EMERGENCY
 							|| eventType == EventType.MISSION_RENDEZVOUS 
 							|| eventType == EventType.MISSION_RESCUE_PERSON
-							|| eventType == EventType.MISSION_SALVAGE_VEHICLE)) {
-				cachedEvents.add(event);
-			}
-
-//			else if (category.equals(HistoricalEventCategory.TASK) && displayTask)
-//				cachedEvents.add(event);
+							|| eventType == EventType.MISSION_SALVAGE_VEHICLE);
+		}
 
-			else if (category.equals(HistoricalEventCategory.TRANSPORT) && displayTransport) {
-				cachedEvents.add(event);
-			}
+//		else if (category.equals(HistoricalEventCategory.TASK))
+//			return displayTask;
 
+		else if (category.equals(HistoricalEventCategory.TRANSPORT)) {
+			return displayTransport;
 		}
 
-		// Update all table listeners.
-		SwingUtilities.invokeLater(new Runnable() {
-			public void run() {
-				fireTableDataChanged();
-			}
-		});
-
+		return false;
 	}
 
 	/**
@@ -309,9 +354,11 @@ public class EventTableModel extends AbstractTableModel
 		// if (rowIndex == 0 && columnIndex == 2)
 		// check if event.getCategory() == MEDICAL or MALFUNCTION
 
-		if (rowIndex < cachedEvents.size()) {
+		int size = cachedEvents.size();
+		if (rowIndex < size) {
 //			HistoricalEvent event = cachedEvents.get(rowIndex);
-			SimpleEvent event = cachedEvents.get(rowIndex);
+			// The most recent event is the first row
+			SimpleEvent event = cachedEvents.get(size - 1 - rowIndex);
 			if (event != null) {
 				switch (columnIndex) {
 				case TIMESTAMP: {
@@ -394,7 +441,7 @@ public class EventTableModel extends AbstractTableModel
 		
 		if (mainSceneMenu != null) {
 
-			updateCachedEvents();
+			addCachedEvent(event);
 
 			if (!noFiring && index == 0 && event != null) {
 
@@ -613,7 +660,8 @@ public class EventTableModel extends AbstractTableModel
 		if (desktop.getMainWindow() != null) {
 
 			// TODO: include historical events and ai.task.TaskEvent, filtered by user's
-			updateCachedEvents();
+			if (index == 0)
+				addCachedEvent(manager.getEvent(0));
 
 			if (nMenu == null) {
 //				try {
@@ -14,7 +14,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
-import javax.swing.SwingUtilities;
 
 import org.mars_sim.msp.core.Msg;
 import org.mars_sim.msp.core.Simulation;
@@ -341,21 +340,8 @@ public class PersonTableModel extends UnitTableModel {
 	 * @param event the unit event.
 	 */
 	public void unitUpdate(UnitEvent event) {
-
-		// WARNING : the instance of desktop is NOT guarantee
-		// if (desktop.getMainScene() != null) {
-		// Platform.runLater(
-		// new PersonTableUpdater(event, this)
-		// );
-
-		// }
-		// else {
-		// WARNING : the use of SwingUtilities below seems to create StackOverflow from
-		// time to time in eclipse
-		SwingUtilities.invokeLater(new PersonTableUpdater(event, this));
-//		}
-
-
+		// The events come in batches on the event dispatch thread.
+		new PersonTableUpdater(event, this).run();
 	}
 
 	/**
@@ -12,8 +12,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
-import javax.swing.SwingUtilities;
-
 import org.mars_sim.msp.core.Msg;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.Unit;
@@ -316,8 +314,9 @@ public class SettlementTableModel extends UnitTableModel {
 			catch (Exception e) {}
 		}
 
+		// The events come in batches on the event dispatch thread.
 		if (columnNum > -1) {
-			SwingUtilities.invokeLater(new SettlementTableCellUpdater(unitIndex, columnNum));
+			fireTableCellUpdated(unitIndex, columnNum);
 		}
 	}
 
@@ -397,21 +396,6 @@ public class SettlementTableModel extends UnitTableModel {
 		resourceCache = null;
 	}
 
-	private class SettlementTableCellUpdater implements Runnable {
-
-		private int row;
-		private int column;
-
-		private SettlementTableCellUpdater(int row, int column) {
-			this.row = row;
-			this.column = column;
-		}
-
-		public void run() {
-			fireTableCellUpdated(row, column);
-		}
-	}
-
 	/**
 	 * UnitManagerListener inner class.
 	 */
@@ -8,18 +8,25 @@ package org.mars_sim.msp.ui.swing.tool.monitor;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
 
 import org.mars_sim.msp.core.Msg;
+import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.Unit;
+import org.mars_sim.msp.core.UnitBatchListener;
+import org.mars_sim.msp.core.UnitEvent;
+import org.mars_sim.msp.core.UnitEventBus;
 import org.mars_sim.msp.core.UnitListener;
 
 /**
  * The UnitTableModel that maintains a table model of Units objects. It is only
- * a partial implementation of the TableModel interface.
+ * a partial implementation of the TableModel interface. The unit events of its
+ * units come in batches from the {@link UnitEventBus}, on the event dispatch
+ * thread.
  */
 abstract public class UnitTableModel extends AbstractTableModel implements MonitorModel, UnitListener {
 
@@ -38,6 +45,8 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 	private Class<?> columnTypes[];
 	private int size = -1;
 	private boolean refreshSize = true;
+	/** The subscriber to the unit event bus. */
+	private UnitBatchListener batchListener;
 
 	/**
 	 * Constructor.
@@ -69,7 +78,7 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 		if (!units.contains(newUnit)) {
 			units.add(newUnit);
 			refreshSize = true;
-			newUnit.addUnitListener(this);
+			subscribe();
 
 			// Inform listeners of new row
 			SwingUtilities.invokeLater(new Runnable() {
@@ -91,13 +100,26 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 
 			units.remove(oldUnit);
 			refreshSize = true;
-			oldUnit.removeUnitListener(this);
 
 			// Inform listeners of new row
 			SwingUtilities.invokeLater(new RemoveUnitTableUpdater(index));
 		}
 	}
 
+	/**
+	 * Subscribes the model to the unit event bus.
+	 */
+	private void subscribe() {
+		if (batchListener == null) {
+			batchListener = new LocalBatchListener();
+			getEventBus().subscribe(batchListener, SwingUtilities::invokeLater);
+		}
+	}
+
+	private static UnitEventBus getEventBus() {
+		return Simulation.instance().getUnitManager().getEventBus();
+	}
+
 	/**
 	 * Gets the index value of a given unit.
 	 * 
@@ -133,9 +155,6 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 	 * Clears out units from the model.
 	 */
 	protected void clear() {
-		Iterator<Unit> i = units.iterator();
-		while (i.hasNext())
-			i.next().removeUnitListener(this);
 		units.clear();
 		refreshSize = true;
 		fireTableDataChanged();
@@ -305,6 +324,10 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 	 * Prepares the model for deletion.
 	 */
 	public void destroy() {
+		if (batchListener != null) {
+			getEventBus().unsubscribe(batchListener);
+			batchListener = null;
+		}
 		if (units != null) {
 			clear();
 		}
@@ -332,6 +355,23 @@ abstract public class UnitTableModel extends AbstractTableModel implements Monit
 		return result;
 	}
 
+	/**
+	 * Inner class passing the unit events of the model's units to
+	 * {@link #unitUpdate(UnitEvent)}.
+	 */
+	private class LocalBatchListener implements UnitBatchListener {
+
+		public void unitUpdates(List<UnitEvent> events) {
+			for (UnitEvent event : events) {
+				Collection<Unit> current = units;
+				if (current == null)
+					return;
+				if (current.contains(event.getSource()))
+					unitUpdate(event);
+			}
+		}
+	}
+
 	/**
 	 * Inner class for updating table after removing units.
 	 */
@@ -427,8 +427,9 @@ extends UnitTableModel {
 			}
 		}
 
+		// The events come in batches on the event dispatch thread.
 		if (columnNum > -1) {
-			SwingUtilities.invokeLater(new VehicleTableCellUpdater(unitIndex, columnNum));
+			fireTableCellUpdated(unitIndex, columnNum);
 		}
 	}
 
@@ -59,6 +59,7 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionListener;
 import java.awt.geom.Point2D;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -909,7 +910,7 @@ public class TransportWizard {
     		leastDistance = Resupply.MIN_NONINHABITABLE_BUILDING_DISTANCE;
     	}
 
-    	List<Building> list = mgr.getBuildings(FunctionType.LIFE_SUPPORT);
+    	List<Building> list = new ArrayList<Building>(mgr.getBuildings(FunctionType.LIFE_SUPPORT));
         Collections.shuffle(list);
 
         Iterator<Building> i = list.iterator();
@@ -962,7 +963,7 @@ public class TransportWizard {
     		leastDistance = Resupply.MIN_NONINHABITABLE_BUILDING_DISTANCE;
     	}
 
-    	List<Building> list = buildingManager.getBuildings(FunctionType.LIFE_SUPPORT);
+    	List<Building> list = new ArrayList<Building>(buildingManager.getBuildings(FunctionType.LIFE_SUPPORT));
         Collections.shuffle(list);
 
         Iterator<Building> i = list.iterator();
@@ -16,6 +16,7 @@ import java.awt.Insets;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -77,7 +78,7 @@ extends TabPanel {
 
 		settlement = (Settlement) unit;
 		mgr = settlement.getBuildingManager();
-		buildings = mgr.getBuildings(FunctionType.RESOURCE_PROCESSING);
+		buildings = selectBuildingsWithRP();
 		size = buildings.size();
 
 		// Prepare resource processes label panel.
@@ -153,13 +154,11 @@ extends TabPanel {
 		if (size != newSize) {
 			size = newSize;
 			buildings = selectBuildingsWithRP();
-			Collections.sort(buildings);
 			populateProcessList();
 			processesScrollPane.validate();
 		}
 		else if (!buildings.equals(newBuildings)) {
 			buildings = newBuildings;
-			Collections.sort(buildings);
 			populateProcessList();
 			processesScrollPane.validate();
 		}
@@ -174,7 +173,9 @@ extends TabPanel {
 	}
 
 	private List<Building> selectBuildingsWithRP() {
-		return mgr.getBuildings(FunctionType.RESOURCE_PROCESSING);
+		List<Building> list = new ArrayList<Building>(mgr.getBuildings(FunctionType.RESOURCE_PROCESSING));
+		Collections.sort(list);
+		return list;
 	}
 
 	/**